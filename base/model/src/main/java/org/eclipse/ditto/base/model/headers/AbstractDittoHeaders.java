@@ -61,6 +61,7 @@ import org.eclipse.ditto.json.JsonValue;
 public abstract class AbstractDittoHeaders implements DittoHeaders {
 
     final Map<String, Header> headers;
+    private final long entriesSize;
 
     /**
      * Constructs a new {@code AbstractDittoHeaders} object.
@@ -72,9 +73,12 @@ public abstract class AbstractDittoHeaders implements DittoHeaders {
         checkNotNull(headers, "headers");
         if (headers instanceof AbstractDittoHeaders) {
             // Share the map from the other AbstractDittoHeaders -- it is not modifiable. Otherwise case is not preserved.
-            this.headers = ((AbstractDittoHeaders) headers).headers;
+            final AbstractDittoHeaders other = (AbstractDittoHeaders) headers;
+            this.headers = other.headers;
+            entriesSize = other.entriesSize;
         } else {
             this.headers = indexByLowerCase(headers);
+            entriesSize = getEntriesSize(this.headers);
         }
     }
 
@@ -87,7 +91,8 @@ public abstract class AbstractDittoHeaders implements DittoHeaders {
     @SuppressWarnings("unused")
     protected AbstractDittoHeaders(final Map<String, Header> headers, final boolean flag) {
         checkNotNull(headers, "headers");
-        this.headers = new LinkedHashMap<>(headers);
+        this.headers = unmodifiableCopyOf(headers);
+        entriesSize = getEntriesSize(this.headers);
     }
 
     @Override
@@ -464,15 +469,7 @@ public abstract class AbstractDittoHeaders implements DittoHeaders {
         checkArgument(size, s -> 0 <= size,
                 () -> MessageFormat.format("The size to compare to must not be negative but it was <{0}>!", size));
 
-        long quota = size;
-
-        for (final Header header : headers.values()) {
-            quota -= getHeaderLength(header);
-            if (0 > quota) {
-                return true;
-            }
-        }
-        return false;
+        return entriesSize > size;
     }
 
     @Override
@@ -531,9 +528,24 @@ public abstract class AbstractDittoHeaders implements DittoHeaders {
         return header.getKey().length() + header.getValue().length();
     }
 
+    private static long getEntriesSize(final Map<String, Header> headers) {
+        long result = 0L;
+        for (final Header header : headers.values()) {
+            result += getHeaderLength(header);
+        }
+        return result;
+    }
+
     private static Map<String, Header> indexByLowerCase(final Map<String, String> map) {
         final Map<String, Header> headers = new LinkedHashMap<>();
         map.forEach((key, value) -> headers.put(key.toLowerCase(), Header.of(key, value)));
-        return Collections.unmodifiableMap(headers);
+        return unmodifiableCopyOf(headers);
+    }
+
+    private static Map<String, Header> unmodifiableCopyOf(final Map<String, Header> headers) {
+        if (headers.size() <= CompactHeaderMap.MAX_SIZE) {
+            return CompactHeaderMap.copyOf(headers);
+        }
+        return Collections.unmodifiableMap(new LinkedHashMap<>(headers));
     }
 }
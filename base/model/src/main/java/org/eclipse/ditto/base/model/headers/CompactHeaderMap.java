@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.base.model.headers;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Unmodifiable map of headers indexed by their lower-case keys which is backed by arrays and preserves the insertion
+ * order. Most headers contain only a few entries, for which a linear search is faster and needs less memory than a
+ * {@link java.util.LinkedHashMap}.
+ *
+ * @since 3.8.0
+ */
+@Immutable
+final class CompactHeaderMap extends AbstractMap<String, Header> {
+
+    /**
+     * Maximum number of entries for which a compact map is used.
+     */
+    static final int MAX_SIZE = 16;
+
+    private final String[] keys;
+    private final Header[] headers;
+
+    private CompactHeaderMap(final String[] keys, final Header[] headers) {
+        this.keys = keys;
+        this.headers = headers;
+    }
+
+    /**
+     * Copies the entries of a map with distinct keys of at most {@link #MAX_SIZE} entries.
+     *
+     * @param map the map to copy.
+     * @return the compact map.
+     */
+    static CompactHeaderMap copyOf(final Map<String, Header> map) {
+        final String[] keys = new String[map.size()];
+        final Header[] headers = new Header[keys.length];
+        int i = 0;
+        for (final Map.Entry<String, Header> entry : map.entrySet()) {
+            keys[i] = entry.getKey();
+            headers[i] = entry.getValue();
+            i++;
+        }
+        return new CompactHeaderMap(keys, headers);
+    }
+
+    @Override
+    public int size() {
+        return keys.length;
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        return 0 <= indexOf(key);
+    }
+
+    @Override
+    @Nullable
+    public Header get(final Object key) {
+        final int index = indexOf(key);
+        return 0 <= index ? headers[index] : null;
+    }
+
+    @Override
+    public Set<Entry<String, Header>> entrySet() {
+        return new AbstractSet<Entry<String, Header>>() {
+            @Override
+            public Iterator<Entry<String, Header>> iterator() {
+                return new EntryIterator();
+            }
+
+            @Override
+            public int size() {
+                return keys.length;
+            }
+        };
+    }
+
+    private int indexOf(@Nullable final Object key) {
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i].equals(key)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private final class EntryIterator implements Iterator<Entry<String, Header>> {
+
+        private int next = 0;
+
+        @Override
+        public boolean hasNext() {
+            return next < keys.length;
+        }
+
+        @Override
+        public Entry<String, Header> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            final Entry<String, Header> entry = new SimpleImmutableEntry<>(keys[next], headers[next]);
+            next++;
+            return entry;
+        }
+
+    }
+
+}
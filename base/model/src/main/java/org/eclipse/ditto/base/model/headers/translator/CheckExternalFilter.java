@@ -15,6 +15,7 @@ package org.eclipse.ditto.base.model.headers.translator;
 import static org.eclipse.ditto.base.model.common.ConditionChecker.checkNotNull;
 
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.function.Predicate;
@@ -33,12 +34,21 @@ final class CheckExternalFilter extends AbstractHeaderEntryFilter {
 
     private final Map<String, HeaderDefinition> headerDefinitions;
     private final Predicate<HeaderDefinition> headerDefinitionPredicate;
+    private final boolean acceptUndefined;
+
+    /**
+     * The decision per lower-case key of a defined header. As the definitions do not change, the decisions are
+     * computed once on first use; a racy initialization only computes the same map twice.
+     */
+    @Nullable private Map<String, Boolean> decisions;
 
     private CheckExternalFilter(final Map<String, HeaderDefinition> headerDefinitions,
             final Predicate<HeaderDefinition> headerDefinitionPredicate) {
 
-        this.headerDefinitions = Collections.unmodifiableMap(checkNotNull(headerDefinitions, "headerDefinitions"));
+        this.headerDefinitions = checkNotNull(headerDefinitions, "headerDefinitions");
         this.headerDefinitionPredicate = headerDefinitionPredicate;
+        acceptUndefined = headerDefinitionPredicate.test(null);
+        decisions = null;
     }
 
     /**
@@ -95,11 +105,23 @@ final class CheckExternalFilter extends AbstractHeaderEntryFilter {
     @Nullable
     @Override
     protected String filterValue(final String key, final String value) {
-        @Nullable final HeaderDefinition headerDefinition = headerDefinitions.get(key.toLowerCase());
-        if (headerDefinitionPredicate.test(headerDefinition)) {
+        @Nullable final Boolean decision = getDecisions().get(key.toLowerCase());
+        if (null != decision ? decision : acceptUndefined) {
             return value;
         }
         return null;
     }
 
+    private Map<String, Boolean> getDecisions() {
+        Map<String, Boolean> result = decisions;
+        if (null == result) {
+            final Map<String, Boolean> decisionsMap = new HashMap<>();
+            headerDefinitions.forEach((key, definition) ->
+                    decisionsMap.put(key, headerDefinitionPredicate.test(definition)));
+            result = Collections.unmodifiableMap(decisionsMap);
+            decisions = result;
+        }
+        return result;
+    }
+
 }
@@ -41,8 +41,19 @@ public final class HeaderTranslator {
 
     private final Map<String, HeaderDefinition> headerDefinitions;
 
+    // the filters precompute their decisions per header key, thus they are created only once
+    private final HeaderEntryFilter fromExternalHeadersFilter;
+    private final HeaderEntryFilter toExternalHeadersFilter;
+    private final HeaderEntryFilter existsAsHeaderDefinitionFilter;
+    private final HeaderEntryFilter existsAsHeaderDefinitionAndExternalFilter;
+
     private HeaderTranslator(final Map<String, HeaderDefinition> headerDefinitionMap) {
         headerDefinitions = Collections.unmodifiableMap(headerDefinitionMap);
+        fromExternalHeadersFilter = HeaderEntryFilters.fromExternalHeadersFilter(headerDefinitions);
+        toExternalHeadersFilter = HeaderEntryFilters.toExternalHeadersFilter(headerDefinitions);
+        existsAsHeaderDefinitionFilter = HeaderEntryFilters.existsAsHeaderDefinition(headerDefinitions);
+        existsAsHeaderDefinitionAndExternalFilter =
+                HeaderEntryFilters.existsAsHeaderDefinitionAndExternal(headerDefinitions);
     }
 
     /**
@@ -86,8 +97,7 @@ public final class HeaderTranslator {
      */
     public Map<String, String> fromExternalHeaders(final Map<String, String> externalHeaders) {
         checkNotNull(externalHeaders, "externalHeaders");
-        final HeaderEntryFilter headerEntryFilter = HeaderEntryFilters.fromExternalHeadersFilter(headerDefinitions);
-        return filterHeaders(externalHeaders, headerEntryFilter);
+        return filterHeaders(externalHeaders, fromExternalHeadersFilter);
     }
 
     /**
@@ -99,8 +109,7 @@ public final class HeaderTranslator {
      */
     public Map<String, String> toExternalHeaders(final DittoHeaders dittoHeaders) {
         checkNotNull(dittoHeaders, "dittoHeaders");
-        final HeaderEntryFilter headerEntryFilter = HeaderEntryFilters.toExternalHeadersFilter(headerDefinitions);
-        return filterHeadersMap(dittoHeaders.asCaseSensitiveMap(), headerEntryFilter);
+        return filterHeadersMap(dittoHeaders.asCaseSensitiveMap(), toExternalHeadersFilter);
     }
 
     /**
@@ -114,8 +123,7 @@ public final class HeaderTranslator {
      */
     public Map<String, String> retainKnownHeaders(final Map<String, String> externalHeaders) {
         checkNotNull(externalHeaders, "externalHeaders");
-        final HeaderEntryFilter headerEntryFilter = HeaderEntryFilters.existsAsHeaderDefinition(headerDefinitions);
-        return filterHeaders(externalHeaders, headerEntryFilter);
+        return filterHeaders(externalHeaders, existsAsHeaderDefinitionFilter);
     }
 
     /**
@@ -132,9 +140,7 @@ public final class HeaderTranslator {
         if (headerDefinitions.isEmpty()) {
             return dittoHeaders;
         }
-        final HeaderEntryFilter headerEntryFilter = HeaderEntryFilters
-                .existsAsHeaderDefinitionAndExternal(headerDefinitions);
-        return filterHeaders(dittoHeaders, headerEntryFilter);
+        return filterHeaders(dittoHeaders, existsAsHeaderDefinitionAndExternalFilter);
     }
 
     private static Map<String, String> filterHeaders(final Map<String, String> headersToFilter,
@@ -16,8 +16,9 @@ import static org.eclipse.ditto.base.model.common.ConditionChecker.checkNotNull;
 
 import java.util.Arrays;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import javax.annotation.Nullable;
 import javax.annotation.concurrent.Immutable;
@@ -40,10 +41,14 @@ final class ReadJsonArrayHeadersFilter extends AbstractHeaderEntryFilter {
 
     private static final String COMMA_SPLIT_REGEX = ",";
 
-    private final Map<String, HeaderDefinition> headerDefinitions;
+    private final Set<String> jsonArrayKeys;
 
     private ReadJsonArrayHeadersFilter(final Map<String, HeaderDefinition> headerDefinitions) {
-        this.headerDefinitions = Collections.unmodifiableMap(new HashMap<>(headerDefinitions));
+        jsonArrayKeys = Collections.unmodifiableSet(headerDefinitions.entrySet()
+                .stream()
+                .filter(entry -> JsonArray.class.equals(entry.getValue().getSerializationType()))
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toSet()));
     }
 
     /**
@@ -71,12 +76,7 @@ final class ReadJsonArrayHeadersFilter extends AbstractHeaderEntryFilter {
     }
 
     private boolean isJsonArrayDefinition(final String headerKey) {
-        @Nullable final HeaderDefinition headerDefinition = headerDefinitions.get(headerKey.toLowerCase());
-        boolean result = false;
-        if (null != headerDefinition) {
-            result = JsonArray.class.equals(headerDefinition.getSerializationType());
-        }
-        return result;
+        return jsonArrayKeys.contains(headerKey.toLowerCase());
     }
 
     private static JsonArray getJsonArray(final String headerValue) {
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.base.model.headers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link CompactHeaderMap}.
+ */
+public final class CompactHeaderMapTest {
+
+    @Test
+    public void preservesInsertionOrderOfEntries() {
+        final Map<String, Header> headers = headers("Content-Type", "application/json", "x-foo", "1", "Accept", "*/*");
+
+        final CompactHeaderMap underTest = CompactHeaderMap.copyOf(headers);
+
+        assertThat(underTest).containsExactlyEntriesOf(headers);
+    }
+
+    @Test
+    public void getsHeadersByLowerCaseKey() {
+        final CompactHeaderMap underTest = CompactHeaderMap.copyOf(headers("Content-Type", "application/json"));
+
+        assertThat(underTest.get("content-type")).isEqualTo(Header.of("Content-Type", "application/json"));
+        assertThat(underTest.containsKey("content-type")).isTrue();
+        assertThat(underTest.get("accept")).isNull();
+        assertThat(underTest.containsKey("accept")).isFalse();
+        assertThat(underTest.get(null)).isNull();
+    }
+
+    @Test
+    public void isEqualToMapWithSameEntries() {
+        final Map<String, Header> headers = headers("x-foo", "1", "x-bar", "2");
+
+        final CompactHeaderMap underTest = CompactHeaderMap.copyOf(headers);
+
+        assertThat(underTest).isEqualTo(headers);
+        assertThat(headers).isEqualTo(underTest);
+        assertThat(underTest.hashCode()).isEqualTo(headers.hashCode());
+    }
+
+    @Test
+    public void isUnmodifiable() {
+        final CompactHeaderMap underTest = CompactHeaderMap.copyOf(headers("x-foo", "1"));
+
+        assertThatExceptionOfType(UnsupportedOperationException.class)
+                .isThrownBy(() -> underTest.put("x-bar", Header.of("x-bar", "2")));
+        assertThatExceptionOfType(UnsupportedOperationException.class)
+                .isThrownBy(() -> underTest.entrySet().iterator().next().setValue(Header.of("x-foo", "2")));
+    }
+
+    @Test
+    public void dittoHeadersWithManyEntriesKeepTheirSize() {
+        final DittoHeadersBuilder<?, ?> compactBuilder = DittoHeaders.newBuilder();
+        final DittoHeadersBuilder<?, ?> largeBuilder = DittoHeaders.newBuilder();
+        long expectedSize = 0L;
+        for (int i = 0; i <= CompactHeaderMap.MAX_SIZE; i++) {
+            final String key = "x-header-" + i;
+            final String value = "value-" + i;
+            if (i < CompactHeaderMap.MAX_SIZE) {
+                compactBuilder.putHeader(key, value);
+            }
+            largeBuilder.putHeader(key, value);
+            expectedSize += key.length() + value.length();
+        }
+        final DittoHeaders compactHeaders = compactBuilder.build();
+        final DittoHeaders largeHeaders = largeBuilder.build();
+
+        assertThat(largeHeaders).hasSize(CompactHeaderMap.MAX_SIZE + 1);
+        assertThat(largeHeaders.isEntriesSizeGreaterThan(expectedSize - 1)).isTrue();
+        assertThat(largeHeaders.isEntriesSizeGreaterThan(expectedSize)).isFalse();
+        assertThat(compactHeaders).hasSize(CompactHeaderMap.MAX_SIZE);
+        assertThat(compactHeaders.toBuilder().putHeader("x-header-16", "value-16").build()).isEqualTo(largeHeaders);
+    }
+
+    private static Map<String, Header> headers(final String... keysAndValues) {
+        final Map<String, Header> result = new LinkedHashMap<>();
+        for (int i = 0; i < keysAndValues.length; i += 2) {
+            result.put(keysAndValues[i].toLowerCase(), Header.of(keysAndValues[i], keysAndValues[i + 1]));
+        }
+        return result;
+    }
+
+}
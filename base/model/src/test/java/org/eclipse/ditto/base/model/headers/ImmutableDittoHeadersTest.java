@@ -147,6 +147,8 @@ public final class ImmutableDittoHeadersTest {
     public void testHashCodeAndEquals() {
         EqualsVerifier.forClass(ImmutableDittoHeaders.class)
                 .withNonnullFields("headers")
+                // the entries size is derived from the headers
+                .withIgnoredFields("entriesSize")
                 .verify();
     }
 
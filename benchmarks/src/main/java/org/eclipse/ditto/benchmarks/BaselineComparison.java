@@ -0,0 +1,220 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.benchmarks;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+
+/**
+ * Compares the JSON results of a JMH run ({@code -rf json}) with the baseline results of the benchmarks and reports
+ * every benchmark whose score got worse by more than a threshold. A change only counts as regression if it also exceeds
+ * the combined score errors of both runs, i.e. if the confidence intervals reported by JMH do not overlap. Benchmarks
+ * without baseline are reported as such.
+ * <p>
+ * Usage: {@code java -cp benchmarks.jar org.eclipse.ditto.benchmarks.BaselineComparison <baseline.json>
+ * <results.json> [threshold in percent, default 10]}. The exit code is {@code 1} if any benchmark regressed.
+ * </p>
+ */
+public final class BaselineComparison {
+
+    private static final double DEFAULT_THRESHOLD_PERCENT = 10.0;
+
+    private BaselineComparison() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Compares the results of a JMH run with the baseline.
+     *
+     * @param args the path of the baseline results, the path of the results and optionally the threshold in percent.
+     * @throws IOException if a results file cannot be read.
+     */
+    public static void main(final String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: BaselineComparison <baseline.json> <results.json> [threshold-percent]");
+            System.exit(2);
+        }
+        final double thresholdPercent = args.length > 2 ? Double.parseDouble(args[2]) : DEFAULT_THRESHOLD_PERCENT;
+        final JsonArray baseline = readResults(Path.of(args[0]));
+        final JsonArray results = readResults(Path.of(args[1]));
+
+        boolean regressed = false;
+        for (final Comparison comparison : compare(baseline, results)) {
+            final boolean isRegression = comparison.isRegression(thresholdPercent);
+            regressed |= isRegression;
+            System.out.printf(Locale.ROOT, "%-12s %+8.1f%%  %14.3f +- %-10.3f -> %14.3f +- %-10.3f %-8s %s%n",
+                    isRegression ? "REGRESSED" : "ok", comparison.getChangePercent(), comparison.baselineScore(),
+                    comparison.baselineError(), comparison.score(), comparison.error(), comparison.unit(),
+                    comparison.benchmark());
+        }
+        for (final String benchmark : getBenchmarksWithoutBaseline(baseline, results)) {
+            System.out.printf(Locale.ROOT, "%-12s %s%n", "NO BASELINE", benchmark);
+        }
+        System.exit(regressed ? 1 : 0);
+    }
+
+    /**
+     * Pairs the results of a JMH run with the baseline results of the same benchmarks and parameters. Benchmarks
+     * without baseline are not compared, see {@link #getBenchmarksWithoutBaseline(JsonArray, JsonArray)}.
+     *
+     * @param baseline the baseline results.
+     * @param results the results to compare.
+     * @return the comparisons in the order of the results.
+     */
+    static List<Comparison> compare(final JsonArray baseline, final JsonArray results) {
+        final Map<String, JsonObject> baselineByBenchmark = getResultsByBenchmark(baseline);
+        final List<Comparison> comparisons = new ArrayList<>();
+        getResultsByBenchmark(results).forEach((benchmark, result) ->
+                findBaseline(baselineByBenchmark, benchmark, result)
+                        .ifPresent(baselineResult -> comparisons.add(new Comparison(benchmark,
+                                getUnit(result),
+                                getScore(baselineResult),
+                                getScoreError(baselineResult),
+                                getScore(result),
+                                getScoreError(result),
+                                isHigherBetter(result)))));
+        return comparisons;
+    }
+
+    /**
+     * Returns the benchmarks of a JMH run which have no baseline result with the same parameters and unit, e.g.
+     * because they were added after the baseline was recorded.
+     *
+     * @param baseline the baseline results.
+     * @param results the results to compare.
+     * @return the benchmarks without baseline in the order of the results.
+     */
+    static List<String> getBenchmarksWithoutBaseline(final JsonArray baseline, final JsonArray results) {
+        final Map<String, JsonObject> baselineByBenchmark = getResultsByBenchmark(baseline);
+        final List<String> benchmarksWithoutBaseline = new ArrayList<>();
+        getResultsByBenchmark(results).forEach((benchmark, result) -> {
+            if (findBaseline(baselineByBenchmark, benchmark, result).isEmpty()) {
+                benchmarksWithoutBaseline.add(benchmark);
+            }
+        });
+        return benchmarksWithoutBaseline;
+    }
+
+    private static Map<String, JsonObject> getResultsByBenchmark(final JsonArray results) {
+        final Map<String, JsonObject> resultsByBenchmark = new LinkedHashMap<>();
+        results.stream()
+                .filter(JsonValue::isObject)
+                .map(JsonValue::asObject)
+                .forEach(result -> resultsByBenchmark.put(getBenchmark(result), result));
+        return resultsByBenchmark;
+    }
+
+    private static Optional<JsonObject> findBaseline(final Map<String, JsonObject> baselineByBenchmark,
+            final String benchmark, final JsonObject result) {
+
+        return Optional.ofNullable(baselineByBenchmark.get(benchmark))
+                .filter(baselineResult -> getUnit(baselineResult).equals(getUnit(result)));
+    }
+
+    private static JsonArray readResults(final Path path) throws IOException {
+        return JsonFactory.newArray(Files.readString(path, StandardCharsets.UTF_8));
+    }
+
+    private static String getBenchmark(final JsonObject result) {
+        final StringBuilder benchmark = new StringBuilder(result.getValue("benchmark")
+                .map(JsonValue::asString)
+                .orElse("?"));
+        result.getValue("mode").map(JsonValue::asString).ifPresent(mode -> benchmark.append(" [").append(mode)
+                .append(']'));
+        result.getValue("params")
+                .filter(JsonValue::isObject)
+                .map(JsonValue::asObject)
+                .ifPresent(params -> {
+                    final Map<String, String> sortedParams = new TreeMap<>();
+                    params.forEach(param -> sortedParams.put(param.getKeyName(), param.getValue().formatAsString()));
+                    sortedParams.forEach((name, value) -> benchmark.append(' ').append(name).append('=').append(value));
+                });
+        return benchmark.toString();
+    }
+
+    private static String getUnit(final JsonObject result) {
+        return result.getValue(JsonPointer.of("primaryMetric/scoreUnit")).map(JsonValue::asString).orElse("");
+    }
+
+    private static double getScore(final JsonObject result) {
+        return result.getValue(JsonPointer.of("primaryMetric/score")).map(JsonValue::asDouble).orElse(Double.NaN);
+    }
+
+    private static double getScoreError(final JsonObject result) {
+        // JMH reports "NaN" as string if there were too few iterations to compute the error
+        return result.getValue(JsonPointer.of("primaryMetric/scoreError"))
+                .filter(JsonValue::isNumber)
+                .map(JsonValue::asDouble)
+                .filter(error -> !error.isNaN())
+                .orElse(0.0);
+    }
+
+    private static boolean isHigherBetter(final JsonObject result) {
+        // throughput is reported in operations per time unit, all other modes in time per operation
+        return result.getValue("mode").map(JsonValue::asString).filter("thrpt"::equals).isPresent();
+    }
+
+    /**
+     * The score of a benchmark compared to its baseline score.
+     *
+     * @param benchmark the benchmark including its mode and parameters.
+     * @param unit the unit of the scores.
+     * @param baselineScore the baseline score.
+     * @param baselineError the half-width of the confidence interval of the baseline score.
+     * @param score the score.
+     * @param error the half-width of the confidence interval of the score.
+     * @param higherIsBetter whether a higher score is better.
+     */
+    record Comparison(String benchmark, String unit, double baselineScore, double baselineError, double score,
+            double error, boolean higherIsBetter) {
+
+        /**
+         * Returns how much the score got worse compared to the baseline in percent, negative if it got better.
+         *
+         * @return the change in percent.
+         */
+        double getChangePercent() {
+            final double change = (score - baselineScore) / baselineScore * 100.0;
+            return higherIsBetter ? -change : change;
+        }
+
+        /**
+         * Returns whether the score got worse by more than the threshold and by more than the combined errors of both
+         * scores, so that the change is not explained by the noise of the runs.
+         *
+         * @param thresholdPercent the threshold in percent.
+         * @return whether the benchmark regressed.
+         */
+        boolean isRegression(final double thresholdPercent) {
+            final double worsening = higherIsBetter ? baselineScore - score : score - baselineScore;
+            return getChangePercent() > thresholdPercent && worsening > baselineError + error;
+        }
+
+    }
+
+}
@@ -0,0 +1,226 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.benchmarks;
+
+import java.time.Instant;
+import java.util.Map;
+
+import org.eclipse.ditto.base.model.auth.AuthorizationContext;
+import org.eclipse.ditto.base.model.auth.AuthorizationSubject;
+import org.eclipse.ditto.base.model.auth.DittoAuthorizationContextType;
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.policies.model.Permissions;
+import org.eclipse.ditto.policies.model.PoliciesResourceType;
+import org.eclipse.ditto.policies.model.Policy;
+import org.eclipse.ditto.policies.model.PolicyId;
+import org.eclipse.ditto.policies.model.SubjectType;
+import org.eclipse.ditto.things.model.Thing;
+import org.eclipse.ditto.things.model.ThingId;
+import org.eclipse.ditto.things.model.ThingsModelFactory;
+
+/**
+ * Realistic fixtures shared by the benchmarks: a device twin with a configurable number of sensor features, the policy
+ * of the twin and the headers of a typical request.
+ */
+final class BenchmarkFixtures {
+
+    static final ThingId THING_ID = ThingId.of("org.eclipse.ditto.benchmark", "device-4711");
+    static final PolicyId POLICY_ID = PolicyId.of(THING_ID);
+
+    /**
+     * Subject of the backend application which owns the twin.
+     */
+    static final AuthorizationSubject OWNER = AuthorizationSubject.newInstance("integration:ditto-benchmark-backend");
+
+    /**
+     * Subject of the device which reports its telemetry to the features of the twin.
+     */
+    static final AuthorizationSubject DEVICE = AuthorizationSubject.newInstance("pre-authenticated:device-4711");
+
+    /**
+     * Subject of a dashboard user who may read everything but the location of the device.
+     */
+    static final AuthorizationSubject VIEWER = AuthorizationSubject.newInstance("oidc:jane.doe@example.org");
+
+    static final Permissions READ = Permissions.newInstance("READ");
+    static final Permissions WRITE = Permissions.newInstance("WRITE");
+    static final Permissions READ_WRITE = Permissions.newInstance("READ", "WRITE");
+
+    private static final String[] FEATURE_KINDS = {"temperature", "humidity", "pressure", "battery", "connectivity"};
+    private static final Instant TIMESTAMP = Instant.parse("2026-03-01T12:00:00Z");
+
+    private BenchmarkFixtures() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Returns the ID of a sensor feature of the twin.
+     *
+     * @param index the index of the feature.
+     * @return the feature ID.
+     */
+    static String featureId(final int index) {
+        return FEATURE_KINDS[index % FEATURE_KINDS.length] + "-" + index / FEATURE_KINDS.length;
+    }
+
+    /**
+     * Returns the JSON of the twin as persisted by the things service.
+     *
+     * @param features the number of sensor features of the twin.
+     * @return the JSON of the twin.
+     */
+    static JsonObject thingJson(final int features) {
+        final JsonObjectBuilder featuresBuilder = JsonObject.newBuilder();
+        for (int i = 0; i < features; i++) {
+            featuresBuilder.set(featureId(i), featureJson(i, 21.5 + i % 7));
+        }
+        return JsonObject.newBuilder()
+                .set(Thing.JsonFields.ID, THING_ID.toString())
+                .set(Thing.JsonFields.POLICY_ID, POLICY_ID.toString())
+                .set(Thing.JsonFields.DEFINITION,
+                        JsonValue.of("org.eclipse.ditto.benchmark:environment-sensor:2.1.0"))
+                .set(Thing.JsonFields.ATTRIBUTES, JsonObject.newBuilder()
+                        .set("manufacturer", "ACME Sensors Inc.")
+                        .set("model", "EnviroSense 3000")
+                        .set("serialNumber", "SN-0004711-2026")
+                        .set("location", JsonObject.newBuilder()
+                                .set("building", "B1")
+                                .set("floor", 3)
+                                .set("room", "3.14")
+                                .set("latitude", 47.6779)
+                                .set("longitude", 9.1732)
+                                .build())
+                        .set("firmware", JsonObject.newBuilder()
+                                .set("version", "4.2.1")
+                                .set("updated", "2026-02-14T08:30:00Z")
+                                .build())
+                        .set("tags", JsonArray.newBuilder().add("production", "floor-3", "hvac").build())
+                        .build())
+                .set(Thing.JsonFields.FEATURES, featuresBuilder.build())
+                .set(Thing.JsonFields.REVISION, 4242L)
+                .set(Thing.JsonFields.CREATED, "2025-11-03T10:15:00Z")
+                .set(Thing.JsonFields.MODIFIED, TIMESTAMP.toString())
+                .build();
+    }
+
+    /**
+     * Returns the JSON of a sensor feature.
+     *
+     * @param index the index of the feature.
+     * @param value the current sensor value.
+     * @return the JSON of the feature.
+     */
+    static JsonObject featureJson(final int index, final double value) {
+        final String kind = FEATURE_KINDS[index % FEATURE_KINDS.length];
+        return JsonObject.newBuilder()
+                .set("definition", JsonArray.newBuilder()
+                        .add("org.eclipse.ditto.benchmark:" + kind + "-sensor:1.3.0")
+                        .build())
+                .set("properties", JsonObject.newBuilder()
+                        .set("status", JsonObject.newBuilder()
+                                .set("value", value)
+                                .set("unit", unitOf(kind))
+                                .set("timestamp", TIMESTAMP.toString())
+                                .set("quality", "good")
+                                .build())
+                        .set("configuration", JsonObject.newBuilder()
+                                .set("samplingInterval", 30)
+                                .set("threshold", JsonObject.newBuilder()
+                                        .set("min", -10)
+                                        .set("max", 60)
+                                        .build())
+                                .build())
+                        .build())
+                .set("desiredProperties", JsonObject.newBuilder()
+                        .set("configuration", JsonObject.newBuilder()
+                                .set("samplingInterval", 60)
+                                .build())
+                        .build())
+                .build();
+    }
+
+    /**
+     * Returns the twin.
+     *
+     * @param features the number of sensor features of the twin.
+     * @return the twin.
+     */
+    static Thing thing(final int features) {
+        return ThingsModelFactory.newThing(thingJson(features));
+    }
+
+    /**
+     * Returns the policy of the twin: the owner may do everything, the device may write the features and the viewer
+     * may read the twin except for its location.
+     *
+     * @return the policy.
+     */
+    static Policy policy() {
+        return Policy.newBuilder(POLICY_ID)
+                .forLabel("owner")
+                .setSubject(OWNER.getId(), SubjectType.GENERATED)
+                .setGrantedPermissions(PoliciesResourceType.thingResource("/"), READ_WRITE)
+                .setGrantedPermissions(PoliciesResourceType.policyResource("/"), READ_WRITE)
+                .setGrantedPermissions(PoliciesResourceType.messageResource("/"), READ_WRITE)
+                .forLabel("device")
+                .setSubject(DEVICE.getId(), SubjectType.GENERATED)
+                .setGrantedPermissions(PoliciesResourceType.thingResource("/features"), READ_WRITE)
+                .setGrantedPermissions(PoliciesResourceType.messageResource("/inbox"), READ)
+                .forLabel("viewer")
+                .setSubject(VIEWER.getId(), SubjectType.GENERATED)
+                .setGrantedPermissions(PoliciesResourceType.thingResource("/"), READ)
+                .setRevokedPermissions(PoliciesResourceType.thingResource("/attributes/location"), READ)
+                .setRevokedPermissions(PoliciesResourceType.thingResource("/features/connectivity-0"), READ)
+                .setRevision(17L)
+                .build();
+    }
+
+    /**
+     * Returns the authorization context of a subject.
+     *
+     * @param subject the subject.
+     * @return the authorization context.
+     */
+    static AuthorizationContext authorizationContext(final AuthorizationSubject subject) {
+        return AuthorizationContext.newInstance(DittoAuthorizationContextType.UNSPECIFIED, subject);
+    }
+
+    /**
+     * Returns the headers of a typical request of the device.
+     *
+     * @return the headers.
+     */
+    static DittoHeaders dittoHeaders() {
+        return DittoHeaders.newBuilder()
+                .correlationId("c0ffee00-4711-4242-8000-0123456789ab")
+                .authorizationContext(authorizationContext(DEVICE))
+                .contentType("application/json")
+                .putHeaders(Map.of("device-id", THING_ID.toString(), "origin", "mqtt-connection-1"))
+                .build();
+    }
+
+    private static String unitOf(final String kind) {
+        return switch (kind) {
+            case "temperature" -> "°C";
+            case "humidity" -> "%";
+            case "pressure" -> "hPa";
+            case "battery" -> "V";
+            default -> "dBm";
+        };
+    }
+
+}
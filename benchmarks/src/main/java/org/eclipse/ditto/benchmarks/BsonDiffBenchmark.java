@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.benchmarks;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.bson.BsonDocument;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.policies.model.Policy;
+import org.eclipse.ditto.things.model.Thing;
+import org.eclipse.ditto.thingsearch.service.persistence.write.mapping.BsonDiff;
+import org.eclipse.ditto.thingsearch.service.persistence.write.mapping.EnforcedThingMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the search index updates of the search updater for a modified twin: mapping the twin and its policy to the
+ * index document and computing the {@link BsonDiff} to the previously written index document, which is written
+ * instead of the whole document if it is smaller.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BsonDiffBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 5;
+    private static final int MEASUREMENT_ITERATIONS = 10;
+    private static final int WARMUP_TIME = 1000;
+    private static final int MEASUREMENT_TIME = 1000;
+
+    /**
+     * Max wire version of MongoDB 6.0.
+     */
+    private static final int MAX_WIRE_VERSION = 17;
+
+    /**
+     * The number of features of the twin.
+     */
+    @Param({"10", "100"})
+    public int features;
+
+    /**
+     * The modification of the twin: a single sensor value or the sensor values of all features.
+     */
+    @Param({"one-feature", "all-features"})
+    public String modification;
+
+    private Policy policy;
+    private JsonObject modifiedThingJson;
+    private BsonDocument previousDocument;
+    private BsonDocument modifiedDocument;
+
+    @Setup
+    public void setUp() {
+        policy = BenchmarkFixtures.policy();
+        final JsonObject thingJson = BenchmarkFixtures.thingJson(features);
+        final int modifiedFeatures = "all-features".equals(modification) ? features : 1;
+        final JsonObjectBuilder modifiedFeaturesBuilder = thingJson.getValueOrThrow(Thing.JsonFields.FEATURES)
+                .toBuilder();
+        for (int i = 0; i < modifiedFeatures; i++) {
+            modifiedFeaturesBuilder.set(BenchmarkFixtures.featureId(i), BenchmarkFixtures.featureJson(i, -1.5 - i));
+        }
+        modifiedThingJson = thingJson.toBuilder()
+                .set(Thing.JsonFields.FEATURES, modifiedFeaturesBuilder.build())
+                .set(Thing.JsonFields.REVISION, thingJson.getValueOrThrow(Thing.JsonFields.REVISION) + 1)
+                .build();
+        previousDocument = toIndexDocument(thingJson);
+        modifiedDocument = mapToIndexDocument();
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public BsonDocument mapToIndexDocument() {
+        return toIndexDocument(modifiedThingJson);
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public List<BsonDocument> diff() {
+        final BsonDiff diff = BsonDiff.minusThingDocs(modifiedDocument, previousDocument, MAX_WIRE_VERSION);
+        return diff.isDiffSmaller() ? diff.consumeAndExport() : List.of(modifiedDocument);
+    }
+
+    private BsonDocument toIndexDocument(final JsonObject thingJson) {
+        return EnforcedThingMapper.toWriteModel(thingJson, policy, Set.of(), 17L, null, -1).getThingDocument();
+    }
+
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.benchmarks;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.base.model.json.FieldType;
+import org.eclipse.ditto.base.model.json.JsonSchemaVersion;
+import org.eclipse.ditto.base.model.json.Jsonifiable;
+import org.eclipse.ditto.base.model.signals.JsonParsable;
+import org.eclipse.ditto.base.model.signals.Signal;
+import org.eclipse.ditto.internal.utils.cluster.GlobalMappingStrategies;
+import org.eclipse.ditto.internal.utils.cluster.MappingStrategies;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.things.model.Thing;
+import org.eclipse.ditto.things.model.signals.commands.modify.ModifyThing;
+import org.eclipse.ditto.things.model.signals.events.FeaturePropertyModified;
+import org.eclipse.ditto.things.model.signals.events.ThingModified;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures deserializing signals with the {@link GlobalMappingStrategies}, as done by the cluster serializer for
+ * every signal received from another cluster member: looking up the mapping strategy of the signal type and parsing
+ * the signal from its JSON.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MappingStrategiesBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 5;
+    private static final int MEASUREMENT_ITERATIONS = 10;
+    private static final int WARMUP_TIME = 1000;
+    private static final int MEASUREMENT_TIME = 1000;
+    private static final int FEATURES = 20;
+
+    /**
+     * The signal to deserialize.
+     */
+    @Param({"feature-property-modified", "thing-modified", "modify-thing"})
+    public String signal;
+
+    private MappingStrategies mappingStrategies;
+    private String signalType;
+    private JsonObject signalJson;
+    private DittoHeaders dittoHeaders;
+
+    @Setup
+    public void setUp() {
+        mappingStrategies = GlobalMappingStrategies.getInstance();
+        dittoHeaders = BenchmarkFixtures.dittoHeaders();
+        final Thing thing = BenchmarkFixtures.thing(FEATURES);
+        final Signal<?> dittoSignal = switch (signal) {
+            case "feature-property-modified" -> FeaturePropertyModified.of(BenchmarkFixtures.THING_ID,
+                    BenchmarkFixtures.featureId(0), JsonPointer.of("status/value"), JsonValue.of(23.4), 4243L,
+                    Instant.now(), dittoHeaders, null);
+            case "thing-modified" -> ThingModified.of(thing, 4243L, Instant.now(), dittoHeaders, null);
+            case "modify-thing" -> ModifyThing.of(BenchmarkFixtures.THING_ID, thing, null, dittoHeaders);
+            default -> throw new IllegalArgumentException("Unknown signal: " + signal);
+        };
+        signalType = dittoSignal.getType();
+        signalJson = dittoSignal.toJson(JsonSchemaVersion.LATEST, FieldType.regularOrSpecial());
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public Jsonifiable<?> deserialize() {
+        final JsonParsable<Jsonifiable<?>> mappingStrategy = mappingStrategies.getMappingStrategy(signalType)
+                .orElseThrow(() -> new IllegalStateException("No mapping strategy for <" + signalType + ">."));
+        return mappingStrategy.parse(signalJson, dittoHeaders);
+    }
+
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.benchmarks;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ditto.placeholders.ExpressionResolver;
+import org.eclipse.ditto.placeholders.PlaceholderFactory;
+import org.eclipse.ditto.placeholders.TimePlaceholder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures resolving placeholder expressions, as done by the connectivity service for the addresses, header mappings
+ * and filters of the sources and targets of connections for every message.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PlaceholderBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 5;
+    private static final int MEASUREMENT_ITERATIONS = 10;
+    private static final int WARMUP_TIME = 1000;
+    private static final int MEASUREMENT_TIME = 1000;
+
+    /**
+     * The expression: a single placeholder, a placeholder with a pipeline of functions or a target address combining
+     * several placeholders.
+     */
+    @Param({"placeholder", "pipeline", "address"})
+    public String expression;
+
+    private ExpressionResolver expressionResolver;
+    private String template;
+
+    @Setup
+    public void setUp() {
+        final Map<String, String> headers = BenchmarkFixtures.dittoHeaders();
+        expressionResolver = PlaceholderFactory.newExpressionResolver(
+                PlaceholderFactory.newPlaceholderResolver(PlaceholderFactory.newHeadersPlaceholder(), headers),
+                PlaceholderFactory.newPlaceholderResolver(TimePlaceholder.getInstance(), new Object())
+        );
+        template = switch (expression) {
+            case "placeholder" -> "{{ header:device-id }}";
+            case "pipeline" -> "{{ header:device-id | fn:substring-after(':') | fn:upper() }}";
+            case "address" -> "telemetry/{{ header:device-id | fn:substring-before(':') }}/" +
+                    "{{ header:origin }}/{{ header:reply-to | fn:default('none') }}/{{ time:now_epoch_millis }}";
+            default -> throw new IllegalArgumentException("Unknown expression: " + expression);
+        };
+        if (resolve().isEmpty()) {
+            throw new IllegalStateException("The expression <" + template + "> cannot be resolved.");
+        }
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public Optional<String> resolve() {
+        return expressionResolver.resolve(template).findFirst();
+    }
+
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ditto.base.model.auth.AuthorizationContext;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.policies.model.Policy;
+import org.eclipse.ditto.policies.model.ResourceKey;
+import org.eclipse.ditto.policies.model.enforcers.Enforcer;
+import org.eclipse.ditto.policies.model.enforcers.PolicyEnforcers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the policy enforcement of the things service: creating the enforcer of a loaded policy, authorizing the
+ * telemetry of a device, authorizing a read of the whole twin and building the JSON view of the twin which the reader
+ * is allowed to see.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PolicyEnforcementBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 5;
+    private static final int MEASUREMENT_ITERATIONS = 10;
+    private static final int WARMUP_TIME = 1000;
+    private static final int MEASUREMENT_TIME = 1000;
+    private static final ResourceKey THING_ROOT = ResourceKey.newInstance("thing", "/");
+    private static final ResourceKey FEATURE_PROPERTY =
+            ResourceKey.newInstance("thing", "/features/temperature-0/properties/status/value");
+
+    /**
+     * The number of features of the twin.
+     */
+    @Param({"10", "100"})
+    public int features;
+
+    private Policy policy;
+    private Enforcer enforcer;
+    private AuthorizationContext device;
+    private AuthorizationContext viewer;
+    private JsonObject thingJson;
+
+    @Setup
+    public void setUp() {
+        policy = BenchmarkFixtures.policy();
+        enforcer = PolicyEnforcers.defaultEvaluator(policy);
+        device = BenchmarkFixtures.authorizationContext(BenchmarkFixtures.DEVICE);
+        viewer = BenchmarkFixtures.authorizationContext(BenchmarkFixtures.VIEWER);
+        thingJson = BenchmarkFixtures.thingJson(features);
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public Enforcer createEnforcer() {
+        return PolicyEnforcers.defaultEvaluator(policy);
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public boolean authorizeFeaturePropertyWrite() {
+        return enforcer.hasUnrestrictedPermissions(FEATURE_PROPERTY, device, BenchmarkFixtures.WRITE);
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public boolean authorizeThingRead() {
+        return enforcer.hasPartialPermissions(THING_ROOT, viewer, BenchmarkFixtures.READ);
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public JsonObject buildJsonView() {
+        return enforcer.buildJsonView(THING_ROOT, thingJson, viewer, BenchmarkFixtures.READ);
+    }
+
+}
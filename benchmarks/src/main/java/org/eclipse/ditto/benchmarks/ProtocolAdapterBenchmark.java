@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.base.model.signals.Signal;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.protocol.Adaptable;
+import org.eclipse.ditto.protocol.ProtocolFactory;
+import org.eclipse.ditto.protocol.adapter.DittoProtocolAdapter;
+import org.eclipse.ditto.protocol.adapter.ProtocolAdapter;
+import org.eclipse.ditto.things.model.Thing;
+import org.eclipse.ditto.things.model.signals.commands.modify.ModifyThing;
+import org.eclipse.ditto.things.model.signals.events.FeaturePropertyModified;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the round trip of signals through the {@link DittoProtocolAdapter}, as done by the connectivity service for
+ * every consumed and published message and by the gateway for every WebSocket message: from a signal to the JSON
+ * string of its Ditto Protocol message and back.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ProtocolAdapterBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 5;
+    private static final int MEASUREMENT_ITERATIONS = 10;
+    private static final int WARMUP_TIME = 1000;
+    private static final int MEASUREMENT_TIME = 1000;
+    private static final int FEATURES = 20;
+
+    /**
+     * The signal to adapt: a telemetry event of a single property or the modification of a whole twin.
+     */
+    @Param({"feature-property-modified", "modify-thing"})
+    public String signal;
+
+    private ProtocolAdapter protocolAdapter;
+    private Signal<?> dittoSignal;
+    private String protocolJson;
+
+    @Setup
+    public void setUp() {
+        protocolAdapter = DittoProtocolAdapter.newInstance();
+        final DittoHeaders dittoHeaders = BenchmarkFixtures.dittoHeaders();
+        final Thing thing = BenchmarkFixtures.thing(FEATURES);
+        if ("modify-thing".equals(signal)) {
+            dittoSignal = ModifyThing.of(BenchmarkFixtures.THING_ID, thing, null, dittoHeaders);
+        } else {
+            dittoSignal = FeaturePropertyModified.of(BenchmarkFixtures.THING_ID, BenchmarkFixtures.featureId(0),
+                    JsonPointer.of("status/value"), JsonValue.of(23.4), 4243L, null, dittoHeaders, null);
+        }
+        protocolJson = toProtocolJson();
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public String toProtocolJson() {
+        final Adaptable adaptable = protocolAdapter.toAdaptable(dittoSignal);
+        return ProtocolFactory.wrapAsJsonifiableAdaptable(adaptable).toJsonString();
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public Signal<?> fromProtocolJson() {
+        final Adaptable adaptable =
+                ProtocolFactory.jsonifiableAdaptableFromJson(JsonFactory.newObject(protocolJson));
+        return protocolAdapter.fromAdaptable(adaptable);
+    }
+
+}
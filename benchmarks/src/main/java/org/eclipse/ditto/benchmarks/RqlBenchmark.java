@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.rql.parser.RqlPredicateParser;
+import org.eclipse.ditto.rql.query.criteria.Criteria;
+import org.eclipse.ditto.rql.query.filter.QueryFilterCriteriaFactory;
+import org.eclipse.ditto.rql.query.things.ThingPredicateVisitor;
+import org.eclipse.ditto.things.model.Thing;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures parsing RQL filters and evaluating them on a twin, as done for the filters of search queries, of
+ * conditional requests and of the event subscriptions of WebSocket, SSE and connection targets.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RqlBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 5;
+    private static final int MEASUREMENT_ITERATIONS = 10;
+    private static final int WARMUP_TIME = 1000;
+    private static final int MEASUREMENT_TIME = 1000;
+    private static final int FEATURES = 20;
+
+    /**
+     * The RQL filter: a single comparison or a typical subscription filter combining several operators.
+     */
+    @Param({
+            "eq(attributes/manufacturer,\"ACME Sensors Inc.\")",
+            "and(eq(attributes/location/building,\"B1\"),gt(features/temperature-2/properties/status/value,20)," +
+                    "or(like(attributes/serialNumber,\"SN-000*\"),in(attributes/model,\"X\",\"Y\"))," +
+                    "exists(features/battery-3),not(eq(features/humidity-1/properties/status/quality,\"bad\")))"
+    })
+    public String filter;
+
+    private QueryFilterCriteriaFactory criteriaFactory;
+    private Predicate<Thing> predicate;
+    private Thing thing;
+
+    @Setup
+    public void setUp() {
+        criteriaFactory = QueryFilterCriteriaFactory.modelBased(RqlPredicateParser.getInstance());
+        predicate = ThingPredicateVisitor.apply(parse());
+        thing = BenchmarkFixtures.thing(FEATURES);
+        if (!predicate.test(thing)) {
+            throw new IllegalStateException("The filter <" + filter + "> does not match the fixture thing.");
+        }
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public Criteria parse() {
+        return criteriaFactory.filterCriteria(filter, DittoHeaders.empty());
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public boolean evaluate() {
+        return predicate.test(thing);
+    }
+
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.pekko.actor.ActorRef;
+import org.apache.pekko.persistence.SnapshotMetadata;
+import org.apache.pekko.persistence.SnapshotOffer;
+import org.eclipse.ditto.things.model.Thing;
+import org.eclipse.ditto.things.service.persistence.serializer.ThingMongoSnapshotAdapter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.typesafe.config.ConfigFactory;
+
+/**
+ * Measures converting twins to and from the documents of the snapshot store, as done by the thing persistence actors
+ * when taking a snapshot and when recovering, with and without the deflate compression of large snapshots.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SnapshotCompressionBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 5;
+    private static final int MEASUREMENT_ITERATIONS = 10;
+    private static final int WARMUP_TIME = 1000;
+    private static final int MEASUREMENT_TIME = 1000;
+
+    /**
+     * The number of features of the twin.
+     */
+    @Param({"10", "100", "1000"})
+    public int features;
+
+    /**
+     * Whether snapshots are stored compressed.
+     */
+    @Param({"false", "true"})
+    public boolean compression;
+
+    private ThingMongoSnapshotAdapter snapshotAdapter;
+    private Thing thing;
+    private SnapshotOffer snapshotOffer;
+
+    @Setup
+    public void setUp() {
+        snapshotAdapter = new ThingMongoSnapshotAdapter(ActorRef.noSender(), ConfigFactory.parseString(
+                "thing-snapshot-taken-event-publishing-enabled = false\n" +
+                        "snapshot-compression {\n" +
+                        "  enabled = " + compression + "\n" +
+                        "  threshold = 0\n" +
+                        "}"));
+        thing = BenchmarkFixtures.thing(features);
+        snapshotOffer = new SnapshotOffer(
+                new SnapshotMetadata("thing:" + BenchmarkFixtures.THING_ID, 4242L, 0L),
+                toSnapshotStore());
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public Object toSnapshotStore() {
+        return snapshotAdapter.toSnapshotStore(thing);
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public Thing fromSnapshotStore() {
+        return snapshotAdapter.fromSnapshotStore(snapshotOffer);
+    }
+
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.benchmarks;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonObject;
+import org.junit.Test;
+
+/**
+ * Tests {@link BaselineComparison}.
+ */
+public final class BaselineComparisonTest {
+
+    @Test
+    public void detectRegressionsOfSameBenchmarkAndParameters() {
+        final JsonArray baseline = JsonArray.of(
+                result("JsonBenchmark.parseThing", "avgt", "10", 10.0),
+                result("JsonBenchmark.parseThing", "avgt", "100", 100.0));
+        final JsonArray results = JsonArray.of(
+                result("JsonBenchmark.parseThing", "avgt", "10", 10.5),
+                result("JsonBenchmark.parseThing", "avgt", "100", 125.0),
+                result("JsonBenchmark.parseJson", "avgt", "10", 1.0));
+
+        final List<BaselineComparison.Comparison> comparisons = BaselineComparison.compare(baseline, results);
+
+        assertThat(comparisons).hasSize(2);
+        assertThat(comparisons.get(0).benchmark()).endsWith("JsonBenchmark.parseThing [avgt] features=10");
+        assertThat(comparisons.get(0).isRegression(10.0)).isFalse();
+        assertThat(comparisons.get(1).getChangePercent()).isEqualTo(25.0);
+        assertThat(comparisons.get(1).isRegression(10.0)).isTrue();
+    }
+
+    @Test
+    public void reportBenchmarksWithoutBaseline() {
+        final JsonArray baseline = JsonArray.of(
+                result("JsonBenchmark.parseThing", "avgt", "10", 10.0),
+                result("JsonBenchmark.parseJson", "avgt", "10", 1.0));
+        final JsonArray results = JsonArray.of(
+                result("JsonBenchmark.parseThing", "avgt", "10", 10.0),
+                result("JsonBenchmark.parseThing", "avgt", "100", 100.0),
+                result("RqlBenchmark.parse", "avgt", "10", 5.0));
+
+        assertThat(BaselineComparison.getBenchmarksWithoutBaseline(baseline, results))
+                .containsExactly("org.eclipse.ditto.benchmarks.JsonBenchmark.parseThing [avgt] features=100",
+                        "org.eclipse.ditto.benchmarks.RqlBenchmark.parse [avgt] features=10");
+    }
+
+    @Test
+    public void changesWithinTheCombinedScoreErrorAreNoRegression() {
+        final JsonArray baseline = JsonArray.of(
+                result("JsonBenchmark.parseThing", "avgt", "10", 10.0, 1.5),
+                result("JsonBenchmark.parseThing", "avgt", "100", 100.0, 5.0));
+        final JsonArray results = JsonArray.of(
+                result("JsonBenchmark.parseThing", "avgt", "10", 12.0, 1.0),
+                result("JsonBenchmark.parseThing", "avgt", "100", 125.0, 10.0));
+
+        final List<BaselineComparison.Comparison> comparisons = BaselineComparison.compare(baseline, results);
+
+        assertThat(comparisons).hasSize(2);
+        assertThat(comparisons.get(0).getChangePercent()).isEqualTo(20.0);
+        assertThat(comparisons.get(0).isRegression(10.0)).isFalse();
+        assertThat(comparisons.get(1).isRegression(10.0)).isTrue();
+    }
+
+    @Test
+    public void lowerThroughputIsRegression() {
+        final List<BaselineComparison.Comparison> comparisons = BaselineComparison.compare(
+                JsonArray.of(result("RqlBenchmark.parse", "thrpt", "10", 200.0)),
+                JsonArray.of(result("RqlBenchmark.parse", "thrpt", "10", 150.0)));
+
+        assertThat(comparisons).singleElement()
+                .satisfies(comparison -> assertThat(comparison.isRegression(10.0)).isTrue());
+    }
+
+    private static JsonObject result(final String benchmark, final String mode, final String features,
+            final double score) {
+
+        return result(benchmark, mode, features, score, 0.0);
+    }
+
+    private static JsonObject result(final String benchmark, final String mode, final String features,
+            final double score, final double scoreError) {
+
+        return JsonFactory.newObjectBuilder()
+                .set("benchmark", "org.eclipse.ditto.benchmarks." + benchmark)
+                .set("mode", mode)
+                .set("params", JsonFactory.newObjectBuilder().set("features", features).build())
+                .set("primaryMetric", JsonFactory.newObjectBuilder()
+                        .set("score", score)
+                        .set("scoreError", scoreError)
+                        .set("scoreUnit", "us/op")
+                        .build())
+                .build();
+    }
+
+}
@@ -0,0 +1,4 @@
+package org.eclipse.ditto.benchmarks.jmh_generated;
+public class BsonDiffBenchmark_jmhType extends BsonDiffBenchmark_jmhType_B3 {
+}
+
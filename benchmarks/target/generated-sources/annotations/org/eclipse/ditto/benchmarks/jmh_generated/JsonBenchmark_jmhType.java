@@ -0,0 +1,4 @@
+package org.eclipse.ditto.benchmarks.jmh_generated;
+public class JsonBenchmark_jmhType extends JsonBenchmark_jmhType_B3 {
+}
+
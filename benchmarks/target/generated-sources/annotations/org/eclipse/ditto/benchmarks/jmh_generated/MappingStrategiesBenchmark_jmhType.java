@@ -0,0 +1,4 @@
+package org.eclipse.ditto.benchmarks.jmh_generated;
+public class MappingStrategiesBenchmark_jmhType extends MappingStrategiesBenchmark_jmhType_B3 {
+}
+
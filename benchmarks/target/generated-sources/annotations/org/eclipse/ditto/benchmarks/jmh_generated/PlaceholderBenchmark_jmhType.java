@@ -0,0 +1,4 @@
+package org.eclipse.ditto.benchmarks.jmh_generated;
+public class PlaceholderBenchmark_jmhType extends PlaceholderBenchmark_jmhType_B3 {
+}
+
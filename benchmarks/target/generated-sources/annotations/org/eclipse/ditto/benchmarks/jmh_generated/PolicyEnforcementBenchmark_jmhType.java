@@ -0,0 +1,4 @@
+package org.eclipse.ditto.benchmarks.jmh_generated;
+public class PolicyEnforcementBenchmark_jmhType extends PolicyEnforcementBenchmark_jmhType_B3 {
+}
+
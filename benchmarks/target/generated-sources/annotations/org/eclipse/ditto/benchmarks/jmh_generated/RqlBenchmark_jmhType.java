@@ -0,0 +1,4 @@
+package org.eclipse.ditto.benchmarks.jmh_generated;
+public class RqlBenchmark_jmhType extends RqlBenchmark_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package org.eclipse.ditto.benchmarks.jmh_generated;
+public class SnapshotCompressionBenchmark_jmhType extends SnapshotCompressionBenchmark_jmhType_B3 {
+}
+
@@ -41,6 +41,7 @@ import org.eclipse.ditto.internal.utils.namespaces.BlockedNamespaces;
 import org.eclipse.ditto.internal.utils.persistence.mongo.MongoHealthChecker;
 import org.eclipse.ditto.internal.utils.persistence.mongo.streaming.MongoReadJournal;
 import org.eclipse.ditto.internal.utils.persistentactors.PersistencePingActor;
+import org.eclipse.ditto.internal.utils.persistentactors.cleanup.MongoCleanupProgressStore;
 import org.eclipse.ditto.internal.utils.persistentactors.cleanup.PersistenceCleanupActor;
 import org.eclipse.ditto.internal.utils.pubsubthings.DittoProtocolSub;
 
@@ -68,6 +69,8 @@ public final class ConnectivityRootActor extends DittoRootActor {
 
     private static final String CLUSTER_ROLE = "connectivity";
 
+    private static final String CLEANUP_PROGRESS_COLLECTION = "connection_cleanup_progress";
+
     private final DiagnosticLoggingAdapter log = DittoLoggerFactory.getDiagnosticLoggingAdapter(this);
 
     @SuppressWarnings("unused")
@@ -120,7 +123,10 @@ public final class ConnectivityRootActor extends DittoRootActor {
 
 
         final var cleanupConfig = connectivityConfig.getConnectionConfig().getCleanupConfig();
-        final var cleanupActorProps = PersistenceCleanupActor.props(cleanupConfig, mongoReadJournal, CLUSTER_ROLE);
+        final var cleanupProgressStore =
+                MongoCleanupProgressStore.of(mongoReadJournal.getDatabase(), CLEANUP_PROGRESS_COLLECTION, actorSystem);
+        final var cleanupActorProps = PersistenceCleanupActor.props(cleanupConfig, mongoReadJournal, CLUSTER_ROLE,
+                cleanupProgressStore);
         startChildActor(PersistenceCleanupActor.ACTOR_NAME, cleanupActorProps);
 
         final ActorRef healthCheckingActor = getHealthCheckingActor(connectivityConfig);
@@ -36,6 +36,9 @@ public final class DefaultMonitoringLoggerConfig implements MonitoringLoggerConf
     private final long maxLogSizeInBytes;
     private final Duration logDuration;
     private final Duration loggingActiveCheckInterval;
+    private final boolean offHeapEnabled;
+    private final int offHeapBufferSizeInBytes;
+    private final long offHeapMemoryBudgetInBytes;
     private final LoggerPublisherConfig loggerPublisherConfig;
 
     private DefaultMonitoringLoggerConfig(final ConfigWithFallback config) {
@@ -45,6 +48,11 @@ public final class DefaultMonitoringLoggerConfig implements MonitoringLoggerConf
         logDuration = config.getNonNegativeAndNonZeroDurationOrThrow(MonitoringLoggerConfigValue.LOG_DURATION);
         loggingActiveCheckInterval =
                 config.getNonNegativeAndNonZeroDurationOrThrow(MonitoringLoggerConfigValue.LOGGING_ACTIVE_CHECK_INTERVAL);
+        offHeapEnabled = config.getBoolean(MonitoringLoggerConfigValue.OFF_HEAP_ENABLED.getConfigPath());
+        offHeapBufferSizeInBytes =
+                config.getPositiveIntOrThrow(MonitoringLoggerConfigValue.OFF_HEAP_BUFFER_SIZE_BYTES);
+        offHeapMemoryBudgetInBytes =
+                config.getNonNegativeLongOrThrow(MonitoringLoggerConfigValue.OFF_HEAP_MEMORY_BUDGET_BYTES);
         loggerPublisherConfig = DefaultLoggerPublisherConfig.of(config);
     }
 
@@ -85,6 +93,21 @@ public final class DefaultMonitoringLoggerConfig implements MonitoringLoggerConf
         return loggingActiveCheckInterval;
     }
 
+    @Override
+    public boolean isOffHeapEnabled() {
+        return offHeapEnabled;
+    }
+
+    @Override
+    public int offHeapBufferSizeInBytes() {
+        return offHeapBufferSizeInBytes;
+    }
+
+    @Override
+    public long offHeapMemoryBudgetInBytes() {
+        return offHeapMemoryBudgetInBytes;
+    }
+
     @Override
     public LoggerPublisherConfig getLoggerPublisherConfig() {
         return loggerPublisherConfig;
@@ -104,13 +127,17 @@ public final class DefaultMonitoringLoggerConfig implements MonitoringLoggerConf
                 maxLogSizeInBytes == that.maxLogSizeInBytes &&
                 Objects.equals(logDuration, that.logDuration) &&
                 Objects.equals(loggingActiveCheckInterval, that.loggingActiveCheckInterval) &&
+                offHeapEnabled == that.offHeapEnabled &&
+                offHeapBufferSizeInBytes == that.offHeapBufferSizeInBytes &&
+                offHeapMemoryBudgetInBytes == that.offHeapMemoryBudgetInBytes &&
                 Objects.equals(loggerPublisherConfig, that.loggerPublisherConfig);
     }
 
     @Override
     public int hashCode() {
         return Objects.hash(successCapacity, failureCapacity, maxLogSizeInBytes, logDuration,
-                loggingActiveCheckInterval, loggerPublisherConfig);
+                loggingActiveCheckInterval, offHeapEnabled, offHeapBufferSizeInBytes, offHeapMemoryBudgetInBytes,
+                loggerPublisherConfig);
     }
 
     @Override
@@ -121,6 +148,9 @@ public final class DefaultMonitoringLoggerConfig implements MonitoringLoggerConf
                 ", maxLogSizeInBytes=" + maxLogSizeInBytes +
                 ", logDuration=" + logDuration +
                 ", loggingActiveCheckInterval=" + loggingActiveCheckInterval +
+                ", offHeapEnabled=" + offHeapEnabled +
+                ", offHeapBufferSizeInBytes=" + offHeapBufferSizeInBytes +
+                ", offHeapMemoryBudgetInBytes=" + offHeapMemoryBudgetInBytes +
                 ", loggerPublisherConfig=" + loggerPublisherConfig +
                 "]";
     }
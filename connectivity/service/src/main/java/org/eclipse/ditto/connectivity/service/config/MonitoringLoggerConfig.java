@@ -62,6 +62,28 @@ public interface MonitoringLoggerConfig {
      */
     Duration loggingActiveCheckInterval();
 
+    /**
+     * Indicates whether log entries are stored CBOR encoded in off-heap ring buffers instead of as objects on the heap.
+     *
+     * @return whether off-heap storage of log entries is enabled.
+     */
+    boolean isOffHeapEnabled();
+
+    /**
+     * Returns the size of the off-heap ring buffer of each success and failure log of a logger in bytes.
+     *
+     * @return the off-heap buffer size.
+     */
+    int offHeapBufferSizeInBytes();
+
+    /**
+     * Returns the maximum number of bytes all off-heap ring buffers may use in total. If the budget is exceeded, newly
+     * allocated buffers are shrunk to the remaining budget.
+     *
+     * @return the off-heap memory budget.
+     */
+    long offHeapMemoryBudgetInBytes();
+
     /**
      * Returns the configuration for the connection log publisher to a fluentd/fluentbit endpoint.
      *
@@ -100,7 +122,22 @@ public interface MonitoringLoggerConfig {
         /**
          * Interval in which we check if logging timeframe was exceeded and logs need to be disabled.
          */
-        LOGGING_ACTIVE_CHECK_INTERVAL("loggingActiveCheckInterval", Duration.ofMinutes(5));
+        LOGGING_ACTIVE_CHECK_INTERVAL("loggingActiveCheckInterval", Duration.ofMinutes(5)),
+
+        /**
+         * Whether log entries are stored CBOR encoded in off-heap ring buffers.
+         */
+        OFF_HEAP_ENABLED("offHeapEnabled", false),
+
+        /**
+         * The size of the off-heap ring buffer of each success and failure log of a logger in bytes.
+         */
+        OFF_HEAP_BUFFER_SIZE_BYTES("offHeapBufferSizeBytes", 16_384),
+
+        /**
+         * The maximum number of bytes all off-heap ring buffers may use in total.
+         */
+        OFF_HEAP_MEMORY_BUDGET_BYTES("offHeapMemoryBudgetBytes", 268_435_456L);
 
         private final String path;
         private final Object defaultValue;
@@ -18,6 +18,7 @@ import org.eclipse.ditto.internal.models.signalenrichment.ByRoundTripSignalEnric
 import org.eclipse.ditto.internal.models.signalenrichment.DefaultSignalEnrichmentProviderConfig;
 import org.eclipse.ditto.internal.models.signalenrichment.DittoCachingSignalEnrichmentFacade;
 import org.eclipse.ditto.internal.models.signalenrichment.SignalEnrichmentFacade;
+import org.eclipse.ditto.policies.enforcement.PolicyEnforcerProviderExtension;
 
 import com.typesafe.config.Config;
 
@@ -50,7 +51,10 @@ public final class DefaultConnectivitySignalEnrichmentProvider implements Connec
                     delegate,
                     providerConfig.getCacheConfig(),
                     cacheLoaderExecutor,
-                    "connectivity");
+                    "connectivity",
+                    providerConfig.isCacheSelectorIndependent()
+                            ? PolicyEnforcerProviderExtension.get(actorSystem).getPolicyEnforcerProvider()
+                            : null);
         } else {
             facade = delegate;
         }
@@ -15,6 +15,8 @@ package org.eclipse.ditto.connectivity.service.messaging.httppush;
 import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.TimeoutException;
 import java.util.function.BiConsumer;
 import java.util.function.Supplier;
@@ -35,13 +37,17 @@ import org.eclipse.ditto.internal.utils.pekko.controlflow.TimeoutFlow;
 import org.eclipse.ditto.internal.utils.metrics.instruments.timer.PreparedTimer;
 import org.eclipse.ditto.internal.utils.metrics.instruments.timer.StartedTimer;
 
+import org.apache.pekko.NotUsed;
 import org.apache.pekko.actor.ActorSystem;
+import org.apache.pekko.actor.Cancellable;
 import org.apache.pekko.event.LoggingAdapter;
 import org.apache.pekko.http.javadsl.ClientTransport;
 import org.apache.pekko.http.javadsl.ConnectHttp;
 import org.apache.pekko.http.javadsl.ConnectionContext;
 import org.apache.pekko.http.javadsl.Http;
 import org.apache.pekko.http.javadsl.HttpsConnectionContext;
+import org.apache.pekko.http.javadsl.OutgoingConnectionBuilder;
+import org.apache.pekko.http.javadsl.model.AttributeKey;
 import org.apache.pekko.http.javadsl.model.HttpRequest;
 import org.apache.pekko.http.javadsl.model.HttpResponse;
 import org.apache.pekko.http.javadsl.model.Uri;
@@ -49,9 +55,15 @@ import org.apache.pekko.http.javadsl.model.headers.HttpCredentials;
 import org.apache.pekko.http.javadsl.settings.ClientConnectionSettings;
 import org.apache.pekko.http.javadsl.settings.ConnectionPoolSettings;
 import org.apache.pekko.http.javadsl.settings.ParserSettings;
+import org.apache.pekko.http.scaladsl.model.RequestResponseAssociation;
 import org.apache.pekko.japi.Pair;
+import org.apache.pekko.stream.BoundedSourceQueue;
+import org.apache.pekko.stream.QueueOfferResult;
 import org.apache.pekko.stream.javadsl.Flow;
+import org.apache.pekko.stream.javadsl.Sink;
+import org.apache.pekko.stream.javadsl.Source;
 import scala.util.Failure;
+import scala.util.Success;
 import scala.util.Try;
 
 /**
@@ -66,8 +78,15 @@ final class DefaultHttpPushFactory implements HttpPushFactory {
      */
     private static final String DISPATCHER_NAME = "http-push-connection-dispatcher";
 
+    /**
+     * Attribute key associating HTTP/2 responses with the pending requests they answer.
+     */
+    private static final AttributeKey<PendingResponse> PENDING_RESPONSE =
+            AttributeKey.create("ditto-http-push-pending-response", PendingResponse.class);
+
     private final Connection connection;
     private final int parallelism;
+    private final boolean http2;
     private final Supplier<SshTunnelState> tunnelConfigSupplier;
 
     @Nullable
@@ -76,11 +95,12 @@ final class DefaultHttpPushFactory implements HttpPushFactory {
     @Nullable
     private final HttpsConnectionContext httpsConnectionContext;
 
-    private DefaultHttpPushFactory(final Connection connection, final int parallelism,
+    private DefaultHttpPushFactory(final Connection connection, final int parallelism, final boolean http2,
             final HttpPushConfig httpPushConfig, @Nullable final HttpsConnectionContext httpsConnectionContext,
             final Supplier<SshTunnelState> tunnelConfigSupplier) {
         this.connection = connection;
         this.parallelism = parallelism;
+        this.http2 = http2;
         this.tunnelConfigSupplier = tunnelConfigSupplier;
         if (!httpPushConfig.getHttpProxyConfig().isEnabled()) {
             clientTransport = null;
@@ -118,8 +138,8 @@ final class DefaultHttpPushFactory implements HttpPushFactory {
             httpsConnectionContext = null;
         }
 
-        return new DefaultHttpPushFactory(connection, parallelism, httpPushConfig, httpsConnectionContext,
-                tunnelConfigSupplier);
+        return new DefaultHttpPushFactory(connection, parallelism, httpPushSpecificConfig.isHttp2(), httpPushConfig,
+                httpsConnectionContext, tunnelConfigSupplier);
     }
 
     @Override
@@ -180,6 +200,14 @@ final class DefaultHttpPushFactory implements HttpPushFactory {
             @Nullable final PreparedTimer timer,
             @Nullable final BiConsumer<Duration, ConnectionMonitor.InfoProvider> durationConsumer) {
 
+        if (http2) {
+            if (null == clientTransport) {
+                return createHttp2Flow(system, log, requestTimeout, timer, durationConsumer);
+            }
+            log.warning("HTTP/2 is not supported via the configured HTTP proxy, falling back to HTTP/1.1 for " +
+                    "connection <{}>.", connection.getId());
+        }
+
         final Http http = Http.get(system);
         final ConnectionPoolSettings poolSettings = getConnectionPoolSettings(system);
         final Flow<Pair<HttpRequest, HttpPushContext>, Pair<Try<HttpResponse>, HttpPushContext>, ?> flow;
@@ -207,6 +235,100 @@ final class DefaultHttpPushFactory implements HttpPushFactory {
         });
     }
 
+    /**
+     * Creates a flow multiplexing the requests as HTTP/2 streams over one persistent connection to the target host.
+     * At most {@code parallelism} requests are in flight at the same time. As HTTP/2 responses may arrive in any order,
+     * each request carries a {@link PendingResponse} attribute which pekko-http copies to its response.
+     */
+    private Flow<Pair<HttpRequest, HttpPushContext>, Pair<Try<HttpResponse>, HttpPushContext>, ?> createHttp2Flow(
+            final ActorSystem system,
+            final LoggingAdapter log,
+            final Duration requestTimeout,
+            @Nullable final PreparedTimer timer,
+            @Nullable final BiConsumer<Duration, ConnectionMonitor.InfoProvider> durationConsumer) {
+
+        final Flow<HttpRequest, HttpResponse, NotUsed> connectionFlow = getHttp2ConnectionFlow(system, log);
+
+        return Flow.fromMaterializer((materializer, attributes) -> {
+            final BoundedSourceQueue<HttpRequest> requestQueue = Source.<HttpRequest>queue(parallelism)
+                    .via(connectionFlow)
+                    .to(Sink.foreach(response -> {
+                        final boolean completed = response.getAttribute(PENDING_RESPONSE)
+                                .map(pendingResponse -> pendingResponse.complete(response))
+                                .orElse(false);
+                        if (!completed) {
+                            // the request already timed out
+                            response.discardEntityBytes(materializer);
+                        }
+                    }))
+                    .run(materializer);
+
+            return Flow.<Pair<HttpRequest, HttpPushContext>>create()
+                    .mapAsyncUnordered(parallelism, pair -> {
+                        final var startedTimer = timer != null ? timer.start() : null;
+                        return sendHttp2Request(system, requestQueue, pair.first(), requestTimeout)
+                                .thenApply(tryResponse -> {
+                                    stopTimer(startedTimer, durationConsumer, pair.second().getInfoProvider(), log);
+                                    return Pair.create(tryResponse, pair.second());
+                                });
+                    })
+                    .watchTermination((notUsed, done) -> {
+                        done.whenComplete((result, error) -> requestQueue.complete());
+                        return notUsed;
+                    });
+        });
+    }
+
+    private Flow<HttpRequest, HttpResponse, NotUsed> getHttp2ConnectionFlow(final ActorSystem system,
+            final LoggingAdapter log) {
+
+        final Uri baseUri = getBaseUri();
+        final OutgoingConnectionBuilder connectionBuilder;
+        if (null != httpsConnectionContext) {
+            final ConnectHttp connectHttps = ConnectHttp.toHostHttps(baseUri);
+            connectionBuilder = Http.get(system)
+                    .connectionTo(connectHttps.host())
+                    .toPort(connectHttps.port())
+                    .withCustomHttpsConnectionContext(httpsConnectionContext);
+        } else {
+            final ConnectHttp connectHttp = ConnectHttp.toHost(baseUri);
+            connectionBuilder = Http.get(system).connectionTo(connectHttp.host()).toPort(connectHttp.port());
+        }
+        final OutgoingConnectionBuilder configuredBuilder = connectionBuilder
+                .withClientConnectionSettings(ClientConnectionSettings.create(system))
+                .logTo(log);
+
+        // negotiate HTTP/2 via ALPN for TLS connections, otherwise assume the server to speak HTTP/2 (h2c)
+        return null != httpsConnectionContext
+                ? configuredBuilder.managedPersistentHttp2()
+                : configuredBuilder.managedPersistentHttp2WithPriorKnowledge();
+    }
+
+    private static CompletionStage<Try<HttpResponse>> sendHttp2Request(final ActorSystem system,
+            final BoundedSourceQueue<HttpRequest> requestQueue,
+            final HttpRequest request,
+            final Duration requestTimeout) {
+
+        final PendingResponse pendingResponse = new PendingResponse();
+        final QueueOfferResult offerResult =
+                requestQueue.offer(request.addAttribute(PENDING_RESPONSE, pendingResponse));
+        if (offerResult instanceof QueueOfferResult.Failure failure) {
+            pendingResponse.fail(failure.cause());
+        } else if (!offerResult.isEnqueued()) {
+            pendingResponse.fail(new IllegalStateException("Request could not be enqueued for HTTP/2 connection: " +
+                    offerResult));
+        } else {
+            final Cancellable timeout = system.scheduler().scheduleOnce(requestTimeout,
+                    () -> pendingResponse.fail(new TimeoutException("Request timed out: " + request.getUri())),
+                    system.dispatcher());
+            pendingResponse.future.whenComplete((response, error) -> timeout.cancel());
+        }
+
+        return pendingResponse.future.handle((response, error) -> null != error
+                ? new Failure<>(error)
+                : new Success<>(response));
+    }
+
     private void stopTimer(@Nullable final StartedTimer startedTimer,
             @Nullable final BiConsumer<Duration, ConnectionMonitor.InfoProvider> durationConsumer,
             final ConnectionMonitor.InfoProvider infoProvider,
@@ -269,4 +391,21 @@ final class DefaultHttpPushFactory implements HttpPushFactory {
         return parallelism == 1 ? 1 : Integer.highestOneBit(parallelism - 1) * 2;
     }
 
+    /**
+     * Pending response of an HTTP/2 request, completed either by the response or by a failure such as a timeout.
+     */
+    private static final class PendingResponse implements RequestResponseAssociation {
+
+        private final CompletableFuture<HttpResponse> future = new CompletableFuture<>();
+
+        private boolean complete(final HttpResponse response) {
+            return future.complete(response);
+        }
+
+        private void fail(final Throwable error) {
+            future.completeExceptionally(error);
+        }
+
+    }
+
 }
@@ -286,7 +286,8 @@ final class HttpPublisherActor extends BasePublisherActor<HttpPublishTarget> {
     private Flow<Pair<HttpRequest, HttpPushContext>, Pair<Try<HttpResponse>, HttpPushContext>, ?>
     buildHttpRequestFlow(final HttpPushConfig config) {
 
-        final Duration requestTimeout = HttpPushSpecificConfig.fromConnection(connection, config).idleTimeout();
+        final HttpPushSpecificConfig specificConfig = HttpPushSpecificConfig.fromConnection(connection, config);
+        final Duration requestTimeout = specificConfig.idleTimeout();
 
         final PreparedTimer timer = DittoMetrics.timer("http_publish_request_time")
                 // Set maximum duration higher than request timeout to avoid race conditions
@@ -311,7 +312,14 @@ final class HttpPublisherActor extends BasePublisherActor<HttpPublishTarget> {
         final var httpPushFlow =
                 factory.createFlow(getContext().getSystem(), logger, requestTimeout, timer, logRequestTimes);
 
-        return oauthFlow.via(requestSigningFlow).via(httpPushFlow);
+        if (specificConfig.isBatchingEnabled()) {
+            return HttpPushBatcher.flow(specificConfig, connection.getId().toString(), materializer)
+                    .via(oauthFlow)
+                    .via(requestSigningFlow)
+                    .via(httpPushFlow);
+        } else {
+            return oauthFlow.via(requestSigningFlow).via(httpPushFlow);
+        }
     }
 
     @Override
@@ -480,6 +488,12 @@ final class HttpPublisherActor extends BasePublisherActor<HttpPublishTarget> {
             public ConnectionMonitor.InfoProvider getInfoProvider() {
                 return InfoProviderFactory.forExternalMessage(message);
             }
+
+            @Override
+            public boolean isBatchable() {
+                // responses to live commands and messages are parsed from the response body of each single request
+                return !Command.isLiveCommand(signal) && !(signal instanceof MessageCommand);
+            }
         };
     }
 
@@ -0,0 +1,189 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.connectivity.service.messaging.httppush;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.pekko.NotUsed;
+import org.apache.pekko.http.javadsl.model.ContentType;
+import org.apache.pekko.http.javadsl.model.ContentTypes;
+import org.apache.pekko.http.javadsl.model.HttpCharsets;
+import org.apache.pekko.http.javadsl.model.HttpEntities;
+import org.apache.pekko.http.javadsl.model.HttpEntity;
+import org.apache.pekko.http.javadsl.model.HttpHeader;
+import org.apache.pekko.http.javadsl.model.HttpMethod;
+import org.apache.pekko.http.javadsl.model.HttpRequest;
+import org.apache.pekko.http.javadsl.model.HttpResponse;
+import org.apache.pekko.http.javadsl.model.MediaTypes;
+import org.apache.pekko.http.javadsl.model.Uri;
+import org.apache.pekko.japi.Pair;
+import org.apache.pekko.stream.Materializer;
+import org.apache.pekko.stream.javadsl.Flow;
+import org.apache.pekko.util.ByteString;
+import org.eclipse.ditto.connectivity.service.messaging.monitoring.ConnectionMonitor;
+import org.eclipse.ditto.internal.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.internal.utils.metrics.instruments.histogram.Histogram;
+
+import scala.util.Failure;
+import scala.util.Success;
+import scala.util.Try;
+
+/**
+ * Aggregates HTTP push requests to the same method, URI, headers and JSON content type into batched requests.
+ * <p>
+ * Requests are collected until either the configured number of messages or bytes is reached or the linger time
+ * elapsed. The bodies of the batchable requests of each resolved target are joined into a JSON array or into
+ * newline delimited JSON. Requests with different headers are never aggregated, so the batched request carries the
+ * headers of all aggregated requests. The response to a batched request is handled as response to each of the
+ * aggregated requests, so every contained message is acknowledged with the status of the batch.
+ */
+final class HttpPushBatcher {
+
+    private static final long READ_BODY_TIMEOUT_MS = 10000L;
+    private static final ContentType NDJSON_CONTENT_TYPE =
+            ContentTypes.create(MediaTypes.applicationWithFixedCharset("x-ndjson", HttpCharsets.UTF_8));
+
+    private final int maxMessages;
+    private final long maxBytes;
+    private final Duration linger;
+    private final boolean ndjson;
+    private final Materializer materializer;
+    private final Histogram batchSizes;
+
+    private HttpPushBatcher(final HttpPushSpecificConfig specificConfig, final String connectionId,
+            final Materializer materializer) {
+
+        maxMessages = specificConfig.batchMaxMessages();
+        maxBytes = specificConfig.batchMaxBytes();
+        linger = specificConfig.batchLinger();
+        ndjson = HttpPushSpecificConfig.BATCH_FORMAT_NDJSON.equals(specificConfig.batchFormat());
+        this.materializer = materializer;
+        batchSizes = DittoMetrics.histogram("http_publish_batch_size").tag("id", connectionId);
+    }
+
+    /**
+     * Creates a flow aggregating batchable requests according to the passed config.
+     *
+     * @param specificConfig the HTTP push specific config of the connection.
+     * @param connectionId the ID of the connection to tag metrics with.
+     * @param materializer the materializer used to read the entities of batch responses.
+     * @return the flow.
+     */
+    static Flow<Pair<HttpRequest, HttpPushContext>, Pair<HttpRequest, HttpPushContext>, NotUsed> flow(
+            final HttpPushSpecificConfig specificConfig, final String connectionId, final Materializer materializer) {
+
+        final HttpPushBatcher batcher = new HttpPushBatcher(specificConfig, connectionId, materializer);
+        return Flow.<Pair<HttpRequest, HttpPushContext>>create()
+                .groupedWeightedWithin(batcher.maxBytes, batcher.maxMessages, HttpPushBatcher::getWeight,
+                        batcher.linger)
+                .mapConcat(batcher::toBatches);
+    }
+
+    private static long getWeight(final Pair<HttpRequest, HttpPushContext> requestWithContext) {
+        return requestWithContext.first().entity().getContentLengthOption().orElse(0L);
+    }
+
+    private List<Pair<HttpRequest, HttpPushContext>> toBatches(
+            final List<Pair<HttpRequest, HttpPushContext>> requestsWithContexts) {
+
+        // group batchable requests by their target, keep all others as singleton groups in their original order
+        final Map<Object, List<Pair<HttpRequest, HttpPushContext>>> groups = new LinkedHashMap<>();
+        for (final Pair<HttpRequest, HttpPushContext> requestWithContext : requestsWithContexts) {
+            final Object key = isBatchable(requestWithContext)
+                    ? BatchKey.of(requestWithContext.first())
+                    : new Object();
+            groups.computeIfAbsent(key, k -> new ArrayList<>()).add(requestWithContext);
+        }
+        final List<Pair<HttpRequest, HttpPushContext>> result = new ArrayList<>(groups.size());
+        for (final List<Pair<HttpRequest, HttpPushContext>> group : groups.values()) {
+            batchSizes.record((long) group.size());
+            result.add(group.size() == 1 ? group.get(0) : toBatch(group));
+        }
+        return result;
+    }
+
+    private static boolean isBatchable(final Pair<HttpRequest, HttpPushContext> requestWithContext) {
+        final HttpEntity entity = requestWithContext.first().entity();
+        return requestWithContext.second().isBatchable() &&
+                entity instanceof HttpEntity.Strict &&
+                !entity.isKnownEmpty() &&
+                org.eclipse.ditto.base.model.headers.contenttype.ContentType.of(entity.getContentType().toString())
+                        .isJson();
+    }
+
+    private Pair<HttpRequest, HttpPushContext> toBatch(final List<Pair<HttpRequest, HttpPushContext>> group) {
+        final ByteString separator = ByteString.fromString(ndjson ? "\n" : ",");
+        var body = ndjson ? ByteString.emptyByteString() : ByteString.fromString("[");
+        final List<HttpPushContext> contexts = new ArrayList<>(group.size());
+        for (int i = 0; i < group.size(); i++) {
+            final Pair<HttpRequest, HttpPushContext> requestWithContext = group.get(i);
+            if (i > 0) {
+                body = body.concat(separator);
+            }
+            body = body.concat(((HttpEntity.Strict) requestWithContext.first().entity()).getData());
+            contexts.add(requestWithContext.second());
+        }
+        body = body.concat(ByteString.fromString(ndjson ? "\n" : "]"));
+        final ContentType contentType = ndjson ? NDJSON_CONTENT_TYPE : ContentTypes.APPLICATION_JSON;
+        final HttpRequest batchRequest = group.get(0).first().withEntity(HttpEntities.create(contentType, body));
+        return Pair.create(batchRequest, new BatchContext(contexts, materializer));
+    }
+
+    private record BatchKey(HttpMethod method, Uri uri, List<HttpHeader> headers, ContentType contentType) {
+
+        static BatchKey of(final HttpRequest request) {
+            final List<HttpHeader> headers = new ArrayList<>();
+            request.getHeaders().forEach(headers::add);
+            return new BatchKey(request.method(), request.getUri(), headers, request.entity().getContentType());
+        }
+    }
+
+    /**
+     * Context of a batched request which passes the response on to the contexts of all aggregated requests.
+     */
+    private record BatchContext(List<HttpPushContext> contexts, Materializer materializer)
+            implements HttpPushContext {
+
+        @Override
+        public void onResponse(final Try<HttpResponse> tryResponse) {
+            if (tryResponse.isSuccess()) {
+                final HttpResponse response = tryResponse.get();
+                // make the entity strict so that each aggregated context is able to read it
+                response.entity()
+                        .toStrict(READ_BODY_TIMEOUT_MS, materializer)
+                        .thenAccept(strictEntity -> {
+                            final Try<HttpResponse> strictResponse = new Success<>(response.withEntity(strictEntity));
+                            contexts.forEach(context -> context.onResponse(strictResponse));
+                        })
+                        .exceptionally(error -> {
+                            final Try<HttpResponse> failure = new Failure<>(error);
+                            contexts.forEach(context -> context.onResponse(failure));
+                            return null;
+                        });
+            } else {
+                contexts.forEach(context -> context.onResponse(tryResponse));
+            }
+        }
+
+        @Override
+        public ConnectionMonitor.InfoProvider getInfoProvider() {
+            return contexts.get(0).getInfoProvider();
+        }
+
+    }
+
+}
@@ -33,4 +33,12 @@ interface HttpPushContext {
      * @return the {@code InfoProvider} to e.g. extract a {@code correlation-id} from during connection logging.
      */
     ConnectionMonitor.InfoProvider getInfoProvider();
+
+    /**
+     * @return whether the request of this context may be aggregated with other requests into one batched request
+     * whose response is handled as response to each of the aggregated requests.
+     */
+    default boolean isBatchable() {
+        return false;
+    }
 }
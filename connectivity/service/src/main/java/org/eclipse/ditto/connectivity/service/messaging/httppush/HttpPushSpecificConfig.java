@@ -37,6 +37,31 @@ public final class HttpPushSpecificConfig {
     static final String IDLE_TIMEOUT = "idleTimeout";
     static final String PARALLELISM = "parallelism";
     static final String OMIT_REQUEST_BODY = "omitRequestBody";
+    static final String BATCH_MAX_MESSAGES = "batchMaxMessages";
+    static final String BATCH_MAX_BYTES = "batchMaxBytes";
+    static final String BATCH_LINGER = "batchLinger";
+    static final String BATCH_FORMAT = "batchFormat";
+    static final String HTTP_VERSION = "httpVersion";
+
+    /**
+     * HTTP version using a pool of HTTP/1.1 connections.
+     */
+    static final String HTTP_VERSION_1_1 = "1.1";
+
+    /**
+     * HTTP version multiplexing requests as HTTP/2 streams over one persistent connection.
+     */
+    static final String HTTP_VERSION_2 = "2";
+
+    /**
+     * Batch format aggregating the messages into a JSON array.
+     */
+    static final String BATCH_FORMAT_JSON_ARRAY = "json-array";
+
+    /**
+     * Batch format aggregating the messages into newline delimited JSON.
+     */
+    static final String BATCH_FORMAT_NDJSON = "ndjson";
 
     private final Config specificConfig;
 
@@ -65,6 +90,11 @@ public final class HttpPushSpecificConfig {
         defaultMap.put(IDLE_TIMEOUT, httpConfig.getRequestTimeout());
         defaultMap.put(PARALLELISM, 1);
         defaultMap.put(OMIT_REQUEST_BODY, httpConfig.getOmitRequestBodyMethods());
+        defaultMap.put(BATCH_MAX_MESSAGES, 1);
+        defaultMap.put(BATCH_MAX_BYTES, 256 * 1024);
+        defaultMap.put(BATCH_LINGER, "50ms");
+        defaultMap.put(BATCH_FORMAT, BATCH_FORMAT_JSON_ARRAY);
+        defaultMap.put(HTTP_VERSION, HTTP_VERSION_1_1);
 
         return defaultMap;
     }
@@ -98,6 +128,57 @@ public final class HttpPushSpecificConfig {
         }
     }
 
+    /**
+     * @return the maximum number of messages aggregated into one HTTP request; 1 disables batching.
+     */
+    public int batchMaxMessages() {
+        return specificConfig.getInt(BATCH_MAX_MESSAGES);
+    }
+
+    /**
+     * @return the maximum number of payload bytes aggregated into one HTTP request.
+     */
+    public long batchMaxBytes() {
+        return specificConfig.getBytes(BATCH_MAX_BYTES);
+    }
+
+    /**
+     * @return how long to wait for further messages to aggregate into one HTTP request.
+     */
+    public Duration batchLinger() {
+        return specificConfig.getDuration(BATCH_LINGER);
+    }
+
+    /**
+     * @return the format of aggregated request bodies, either {@value #BATCH_FORMAT_JSON_ARRAY} or
+     * {@value #BATCH_FORMAT_NDJSON}.
+     */
+    public String batchFormat() {
+        return specificConfig.getString(BATCH_FORMAT);
+    }
+
+    /**
+     * @return whether messages are aggregated into batched HTTP requests.
+     */
+    public boolean isBatchingEnabled() {
+        return batchMaxMessages() > 1;
+    }
+
+    /**
+     * @return the HTTP version used to publish messages, either {@value #HTTP_VERSION_1_1} or
+     * {@value #HTTP_VERSION_2}.
+     */
+    public String httpVersion() {
+        return specificConfig.getString(HTTP_VERSION);
+    }
+
+    /**
+     * @return whether messages are published as multiplexed HTTP/2 streams.
+     */
+    public boolean isHttp2() {
+        return HTTP_VERSION_2.equals(httpVersion());
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
@@ -38,6 +38,8 @@ import org.eclipse.ditto.connectivity.service.config.HttpPushConfig;
 import org.eclipse.ditto.connectivity.service.messaging.Resolvers;
 import org.eclipse.ditto.connectivity.service.messaging.validation.AbstractProtocolValidator;
 
+import com.typesafe.config.ConfigException;
+
 /**
  * Validation of http-push connections.
  */
@@ -165,6 +167,8 @@ public final class HttpPushValidator extends AbstractProtocolValidator {
         validateIdleTimeout(httpPushSpecificConfig.idleTimeout(), dittoHeaders);
         validateParallelism(httpPushSpecificConfig.parallelism(), dittoHeaders);
         validateOmitBodyMethods(httpPushSpecificConfig.omitRequestBody(), dittoHeaders);
+        validateBatching(httpPushSpecificConfig, dittoHeaders);
+        validateHttpVersion(httpPushSpecificConfig.httpVersion(), dittoHeaders);
     }
 
     private static void validateIdleTimeout(final Duration idleTimeout, final DittoHeaders dittoHeaders) {
@@ -205,6 +209,62 @@ public final class HttpPushValidator extends AbstractProtocolValidator {
         }
     }
 
+    private static void validateBatching(final HttpPushSpecificConfig specificConfig,
+            final DittoHeaders dittoHeaders) {
+
+        final String invalidKey;
+        final Object invalidValue;
+        final String requirement;
+        try {
+            if (specificConfig.batchMaxMessages() <= 0) {
+                invalidKey = HttpPushSpecificConfig.BATCH_MAX_MESSAGES;
+                invalidValue = specificConfig.batchMaxMessages();
+                requirement = "It must be a positive integer.";
+            } else if (specificConfig.batchMaxBytes() <= 0) {
+                invalidKey = HttpPushSpecificConfig.BATCH_MAX_BYTES;
+                invalidValue = specificConfig.batchMaxBytes();
+                requirement = "It must be a positive size in bytes.";
+            } else if (specificConfig.batchLinger().isNegative() ||
+                    specificConfig.batchLinger().compareTo(MAX_IDLE_TIMEOUT) > 0) {
+                invalidKey = HttpPushSpecificConfig.BATCH_LINGER;
+                invalidValue = specificConfig.batchLinger();
+                requirement = "It must be within the allowed range of [0, " + MAX_IDLE_TIMEOUT.toSeconds() +
+                        "] seconds.";
+            } else if (!List.of(HttpPushSpecificConfig.BATCH_FORMAT_JSON_ARRAY,
+                    HttpPushSpecificConfig.BATCH_FORMAT_NDJSON).contains(specificConfig.batchFormat())) {
+                invalidKey = HttpPushSpecificConfig.BATCH_FORMAT;
+                invalidValue = specificConfig.batchFormat();
+                requirement = "It must be one of '" + HttpPushSpecificConfig.BATCH_FORMAT_JSON_ARRAY + "' or '" +
+                        HttpPushSpecificConfig.BATCH_FORMAT_NDJSON + "'.";
+            } else {
+                return;
+            }
+        } catch (final ConfigException e) {
+            throw ConnectionConfigurationInvalidException.newBuilder("The batching configuration is invalid: " +
+                            e.getMessage())
+                    .dittoHeaders(dittoHeaders)
+                    .build();
+        }
+        final String errorMessage =
+                String.format("The configured value '%s' of '%s' is invalid. %s", invalidValue, invalidKey,
+                        requirement);
+        throw ConnectionConfigurationInvalidException.newBuilder(errorMessage)
+                .dittoHeaders(dittoHeaders)
+                .build();
+    }
+
+    private static void validateHttpVersion(final String httpVersion, final DittoHeaders dittoHeaders) {
+        if (!List.of(HttpPushSpecificConfig.HTTP_VERSION_1_1, HttpPushSpecificConfig.HTTP_VERSION_2)
+                .contains(httpVersion)) {
+            final String errorMessage = String.format("The configured value '%s' of '%s' is invalid. " +
+                            "It must be one of '%s' or '%s'.", httpVersion, HttpPushSpecificConfig.HTTP_VERSION,
+                    HttpPushSpecificConfig.HTTP_VERSION_1_1, HttpPushSpecificConfig.HTTP_VERSION_2);
+            throw ConnectionConfigurationInvalidException.newBuilder(errorMessage)
+                    .dittoHeaders(dittoHeaders)
+                    .build();
+        }
+    }
+
     private static ConnectionConfigurationInvalidException parallelismValidationFailed(final int parallelism,
             final DittoHeaders headers) {
 
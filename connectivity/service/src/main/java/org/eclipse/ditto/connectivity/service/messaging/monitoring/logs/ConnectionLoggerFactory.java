@@ -64,11 +64,41 @@ final class ConnectionLoggerFactory {
             final LogCategory logCategory, final LogType logType,
             @Nullable final String address) {
 
+        return newEvictingLogger(successCapacity, failureCapacity, logCategory, logType, address, null);
+    }
+
+    /**
+     * Creates a new {@link ConnectionLogger} that will
+     * evict old messages and optionally stores its logs in off-heap ring buffers. Moreover, it will have some
+     * predefined default log messages for its {@code logCategory} and {@code logType}.
+     *
+     * @param successCapacity how many success messages will be stored by the logger.
+     * @param failureCapacity how many failure messages will be stored by the logger.
+     * @param logCategory the category of the logger.
+     * @param logType the type of the logger.
+     * @param address the address of the logger, e.g. a source or target address.
+     * @param offHeapMemoryBudget the memory budget of the off-heap ring buffers or {@code null} to store the logs on
+     * the heap.
+     * @return a new evicting logger.
+     * @throws java.lang.NullPointerException if any non-nullable argument is {@code null}.
+     * @throws java.lang.AssertionError if {@code logCategory} is invalid.
+     */
+    static ConnectionLogger newEvictingLogger(
+            final int successCapacity, final int failureCapacity,
+            final LogCategory logCategory, final LogType logType,
+            @Nullable final String address,
+            @Nullable final OffHeapLogMemoryBudget offHeapMemoryBudget) {
+
+        final EvictingConnectionLogger.Builder builder =
+                EvictingConnectionLogger.newBuilder(successCapacity, failureCapacity, logCategory, logType)
+                        .withAddress(address)
+                        .withOffHeapMemoryBudget(offHeapMemoryBudget);
+
         return switch (logCategory) {
-            case SOURCE -> newSourceLogger(logType, successCapacity, failureCapacity, address);
-            case TARGET -> newTargetLogger(logType, successCapacity, failureCapacity, address);
-            case RESPONSE -> newResponseLogger(logType, successCapacity, failureCapacity, address);
-            case CONNECTION -> newConnectionLogger(logType, successCapacity, failureCapacity, address);
+            case SOURCE -> newSourceLogger(logType, builder);
+            case TARGET -> newTargetLogger(logType, builder);
+            case RESPONSE -> newResponseLogger(logType, builder);
+            case CONNECTION -> builder.build();
             default -> throw new AssertionError("Missing switch case.");
         };
     }
@@ -150,13 +180,7 @@ final class ConnectionLoggerFactory {
         return builder.build();
     }
 
-    private static ConnectionLogger newSourceLogger(final LogType type, final int successCapacity,
-            final int failureCapacity,
-            @Nullable final String address) {
-
-        final EvictingConnectionLogger.Builder builder =
-                EvictingConnectionLogger.newBuilder(successCapacity, failureCapacity, LogCategory.SOURCE, type)
-                        .withAddress(address);
+    private static ConnectionLogger newSourceLogger(final LogType type, final EvictingConnectionLogger.Builder builder) {
 
         switch (type) {
             case CONSUMED:
@@ -194,13 +218,7 @@ final class ConnectionLoggerFactory {
         return builder.build();
     }
 
-    private static ConnectionLogger newTargetLogger(final LogType type, final int successCapacity,
-            final int failureCapacity,
-            @Nullable final String address) {
-
-        final EvictingConnectionLogger.Builder builder =
-                EvictingConnectionLogger.newBuilder(successCapacity, failureCapacity, LogCategory.TARGET, type)
-                        .withAddress(address);
+    private static ConnectionLogger newTargetLogger(final LogType type, final EvictingConnectionLogger.Builder builder) {
 
         switch (type) {
             case DISPATCHED:
@@ -239,13 +257,7 @@ final class ConnectionLoggerFactory {
         return builder.build();
     }
 
-    private static ConnectionLogger newResponseLogger(final LogType type, final int successCapacity,
-            final int failureCapacity,
-            @Nullable final String address) {
-
-        final EvictingConnectionLogger.Builder builder =
-                EvictingConnectionLogger.newBuilder(successCapacity, failureCapacity, LogCategory.RESPONSE, type)
-                        .withAddress(address);
+    private static ConnectionLogger newResponseLogger(final LogType type, final EvictingConnectionLogger.Builder builder) {
 
         switch (type) {
             case DISPATCHED:
@@ -294,12 +306,4 @@ final class ConnectionLoggerFactory {
         return builder.build();
     }
 
-    private static ConnectionLogger newConnectionLogger(final LogType type, final int successCapacity, final int failureCapacity,
-            @Nullable final String address) {
-
-        return EvictingConnectionLogger.newBuilder(successCapacity, failureCapacity, LogCategory.CONNECTION, type)
-                .withAddress(address)
-                .build();
-    }
-
 }
@@ -76,18 +76,21 @@ public final class ConnectionLoggerRegistry implements ConnectionMonitorRegistry
     private final int failureCapacity;
     private final TemporalAmount loggingDuration;
     private final long maximumLogSizeInByte;
+    @Nullable private final OffHeapLogMemoryBudget offHeapMemoryBudget;
     @Nullable private final FluentPublishingConnectionLoggerContext fluentPublishingConnectionLoggerContext;
 
     private ConnectionLoggerRegistry(final int successCapacity,
             final int failureCapacity,
             final long maximumLogSizeInByte,
             final Duration loggingDuration,
+            @Nullable final OffHeapLogMemoryBudget offHeapMemoryBudget,
             final LoggerPublisherConfig loggerPublisherConfig) {
 
         this.successCapacity = successCapacity;
         this.failureCapacity = failureCapacity;
         this.maximumLogSizeInByte = maximumLogSizeInByte;
         this.loggingDuration = checkNotNull(loggingDuration);
+        this.offHeapMemoryBudget = offHeapMemoryBudget;
 
         if (loggerPublisherConfig.isEnabled()) {
             final FluencyLoggerPublisherConfig fluencyConfig = loggerPublisherConfig.getFluencyLoggerPublisherConfig();
@@ -112,8 +115,12 @@ public final class ConnectionLoggerRegistry implements ConnectionMonitorRegistry
      */
     public static ConnectionLoggerRegistry fromConfig(final MonitoringLoggerConfig config) {
         checkNotNull(config);
+        final OffHeapLogMemoryBudget offHeapMemoryBudget = config.isOffHeapEnabled()
+                ? OffHeapLogMemoryBudget.of(config.offHeapBufferSizeInBytes(), config.offHeapMemoryBudgetInBytes())
+                : null;
         return new ConnectionLoggerRegistry(config.successCapacity(), config.failureCapacity(),
-                config.maxLogSizeInBytes(), config.logDuration(), config.getLoggerPublisherConfig());
+                config.maxLogSizeInBytes(), config.logDuration(), offHeapMemoryBudget,
+                config.getLoggerPublisherConfig());
     }
 
     /**
@@ -519,7 +526,8 @@ public final class ConnectionLoggerRegistry implements ConnectionMonitorRegistry
                 failureCapacity,
                 logCategory,
                 logType,
-                address);
+                address,
+                offHeapMemoryBudget);
         final var muteableLogger = ConnectionLoggerFactory.newMuteableLogger(connectionId, evictingLogger);
         if (isActiveForConnection(connectionId)) {
             muteableLogger.unmute();
@@ -553,13 +561,14 @@ public final class ConnectionLoggerRegistry implements ConnectionMonitorRegistry
                 failureCapacity == that.failureCapacity &&
                 maximumLogSizeInByte == that.maximumLogSizeInByte &&
                 Objects.equals(loggingDuration, that.loggingDuration) &&
+                Objects.equals(offHeapMemoryBudget, that.offHeapMemoryBudget) &&
                 Objects.equals(fluentPublishingConnectionLoggerContext, that.fluentPublishingConnectionLoggerContext);
     }
 
     @Override
     public int hashCode() {
         return Objects.hash(successCapacity, failureCapacity, loggingDuration, maximumLogSizeInByte,
-                fluentPublishingConnectionLoggerContext);
+                offHeapMemoryBudget, fluentPublishingConnectionLoggerContext);
     }
 
     @Override
@@ -569,6 +578,7 @@ public final class ConnectionLoggerRegistry implements ConnectionMonitorRegistry
                 ", failureCapacity=" + failureCapacity +
                 ", loggingDuration=" + loggingDuration +
                 ", maximumLogSizeInByte=" + maximumLogSizeInByte +
+                ", offHeapMemoryBudget=" + offHeapMemoryBudget +
                 ", fluentPublishingConnectionLoggerContext=" + fluentPublishingConnectionLoggerContext +
                 "]";
     }
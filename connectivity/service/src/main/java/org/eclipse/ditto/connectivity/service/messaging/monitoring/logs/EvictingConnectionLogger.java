@@ -46,8 +46,13 @@ final class EvictingConnectionLogger extends AbstractConnectionLogger<EvictingCo
     private EvictingConnectionLogger(final Builder builder) {
         super(builder);
 
-        successLogs = DefaultEvictingQueue.withCapacity(builder.successCapacity);
-        failureLogs = DefaultEvictingQueue.withCapacity(builder.failureCapacity);
+        if (null != builder.offHeapMemoryBudget) {
+            successLogs = builder.offHeapMemoryBudget.newQueue(builder.successCapacity);
+            failureLogs = builder.offHeapMemoryBudget.newQueue(builder.failureCapacity);
+        } else {
+            successLogs = DefaultEvictingQueue.withCapacity(builder.successCapacity);
+            failureLogs = DefaultEvictingQueue.withCapacity(builder.failureCapacity);
+        }
 
         LOGGER.trace("Successfully built new EvictingConnectionLogger: {}", this);
     }
@@ -148,7 +153,9 @@ final class EvictingConnectionLogger extends AbstractConnectionLogger<EvictingCo
 
     @Override
     public void close() throws IOException {
-        clear();
+        LOGGER.trace("Closing all logs.");
+        successLogs.close();
+        failureLogs.close();
     }
 
     @Override
@@ -212,6 +219,7 @@ final class EvictingConnectionLogger extends AbstractConnectionLogger<EvictingCo
 
         private final int successCapacity;
         private final int failureCapacity;
+        @Nullable private OffHeapLogMemoryBudget offHeapMemoryBudget;
 
         private Builder(final int successCapacity,
                 final int failureCapacity,
@@ -220,6 +228,18 @@ final class EvictingConnectionLogger extends AbstractConnectionLogger<EvictingCo
             super(category, type);
             this.successCapacity = successCapacity;
             this.failureCapacity = failureCapacity;
+            offHeapMemoryBudget = null;
+        }
+
+        /**
+         * Stores the logs CBOR encoded in off-heap ring buffers of the passed memory budget instead of on the heap.
+         *
+         * @param offHeapMemoryBudget the memory budget or {@code null} to store the logs on the heap.
+         * @return this builder.
+         */
+        Builder withOffHeapMemoryBudget(@Nullable final OffHeapLogMemoryBudget offHeapMemoryBudget) {
+            this.offHeapMemoryBudget = offHeapMemoryBudget;
+            return this;
         }
 
         @Override
@@ -77,4 +77,12 @@ interface EvictingQueue<E> extends Queue<E> {
     @Override
     boolean addAll(@Nullable Collection<? extends E> c);
 
+    /**
+     * Removes all elements and releases the resources of this queue, which must not be used afterwards.
+     * Elements added after closing the queue are discarded.
+     */
+    default void close() {
+        clear();
+    }
+
 }
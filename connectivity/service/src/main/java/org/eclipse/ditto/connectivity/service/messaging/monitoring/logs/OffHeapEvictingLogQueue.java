@@ -0,0 +1,272 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.connectivity.service.messaging.monitoring.logs;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.AbstractQueue;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.eclipse.ditto.connectivity.model.ConnectivityModelFactory;
+import org.eclipse.ditto.connectivity.model.LogEntry;
+import org.eclipse.ditto.internal.utils.json.CborFactoryLoader;
+import org.eclipse.ditto.internal.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.internal.utils.metrics.instruments.counter.Counter;
+import org.eclipse.ditto.json.CborFactory;
+
+/**
+ * Implementation of {@link EvictingQueue} for {@link LogEntry}s which stores the entries CBOR encoded in an off-heap
+ * ring buffer. Entries are only decoded when they are read, e.g. when the connection logs are retrieved.
+ * The queue evicts the oldest entries if either its capacity of entries or the bytes of its ring buffer are exhausted.
+ * The ring buffer is allocated from the {@link OffHeapLogMemoryBudget} on the first insert and released on
+ * {@link #clear()}, so that loggers of connections with disabled logging do not occupy any memory. On each insert, the
+ * ring buffer is resized to the current share of the budget, evicting the oldest entries if it shrinks.
+ * After {@link #close()}, entries are discarded so that no buffer is allocated for a queue which is no longer used.
+ * Queues are compared by identity, as comparing their entries would require decoding the whole ring buffers.
+ */
+@ThreadSafe
+final class OffHeapEvictingLogQueue extends AbstractQueue<LogEntry> implements EvictingQueue<LogEntry> {
+
+    private static final int LENGTH_BYTES = Integer.BYTES;
+    private static final CborFactory CBOR_FACTORY = CborFactoryLoader.getInstance().getCborFactoryOrThrow();
+    private static final Counter DROPPED_ENTRIES = DittoMetrics.counter("connection_logs_off_heap_dropped");
+
+    private final int capacity;
+    private final OffHeapLogMemoryBudget memoryBudget;
+
+    @Nullable private ByteBuffer buffer;
+    private int head;
+    private int tail;
+    private int usedBytes;
+    private int size;
+    private boolean active;
+    private boolean closed;
+
+    OffHeapEvictingLogQueue(final int capacity, final OffHeapLogMemoryBudget memoryBudget) {
+        this.capacity = capacity;
+        this.memoryBudget = memoryBudget;
+        buffer = null;
+        head = 0;
+        tail = 0;
+        usedBytes = 0;
+        size = 0;
+        active = false;
+        closed = false;
+    }
+
+    @Override
+    public synchronized boolean offer(@Nullable final LogEntry logEntry) {
+        if (null == logEntry || capacity <= 0 || closed) {
+            return true;
+        }
+        final byte[] bytes = encode(logEntry);
+        final ByteBuffer ringBuffer = getOrResizeBuffer();
+        if (null == ringBuffer || !append(ringBuffer, bytes)) {
+            DROPPED_ENTRIES.increment();
+        }
+        return true;
+    }
+
+    @Override
+    @Nullable
+    public synchronized LogEntry poll() {
+        final LogEntry result = peek();
+        if (null != result) {
+            evictHead(buffer);
+        }
+        return result;
+    }
+
+    @Override
+    @Nullable
+    public synchronized LogEntry peek() {
+        if (null == buffer || size == 0) {
+            return null;
+        }
+        return decode(readRecord(buffer, head));
+    }
+
+    @Override
+    public synchronized int size() {
+        return size;
+    }
+
+    /**
+     * Removes all entries and releases the ring buffer to the memory budget.
+     */
+    @Override
+    public synchronized void clear() {
+        if (null != buffer) {
+            memoryBudget.release(buffer.capacity());
+            buffer = null;
+        }
+        if (active) {
+            memoryBudget.deactivate();
+            active = false;
+        }
+        head = 0;
+        tail = 0;
+        usedBytes = 0;
+        size = 0;
+    }
+
+    /**
+     * Releases the ring buffer to the memory budget and discards all entries added afterwards.
+     */
+    @Override
+    public synchronized void close() {
+        closed = true;
+        clear();
+    }
+
+    /**
+     * Returns an iterator over a decoded snapshot of the entries of this queue.
+     *
+     * @return the iterator.
+     */
+    @Override
+    public Iterator<LogEntry> iterator() {
+        return snapshot().iterator();
+    }
+
+    private synchronized List<LogEntry> snapshot() {
+        return readRecords().stream().map(OffHeapEvictingLogQueue::decode).toList();
+    }
+
+    private List<byte[]> readRecords() {
+        final List<byte[]> result = new ArrayList<>(size);
+        int position = head;
+        for (int i = 0; i < size && null != buffer; i++) {
+            final byte[] record = readRecord(buffer, position);
+            result.add(record);
+            position = (position + LENGTH_BYTES + record.length) % buffer.capacity();
+        }
+        return result;
+    }
+
+    @Nullable
+    private ByteBuffer getOrResizeBuffer() {
+        if (!active) {
+            memoryBudget.activate();
+            active = true;
+        }
+        final int share = memoryBudget.getShare();
+        if (null == buffer) {
+            final int bufferSize = memoryBudget.reserve(share, OffHeapLogMemoryBudget.MIN_BUFFER_SIZE);
+            if (bufferSize > 0) {
+                buffer = ByteBuffer.allocateDirect(bufferSize);
+            }
+        } else if (buffer.capacity() > share) {
+            memoryBudget.releaseShrunkBytes(buffer.capacity() - share);
+            resize(share);
+        } else if (buffer.capacity() < share) {
+            // only grow if the whole share is available to not reallocate the buffer on each insert
+            final int missingBytes = share - buffer.capacity();
+            if (memoryBudget.reserve(missingBytes, missingBytes) > 0) {
+                resize(share);
+            }
+        }
+        return buffer;
+    }
+
+    /**
+     * Moves the entries to a new ring buffer of the passed size, evicting the oldest entries which do not fit.
+     */
+    private void resize(final int bufferSize) {
+        final List<byte[]> records = readRecords();
+        buffer = bufferSize > 0 ? ByteBuffer.allocateDirect(bufferSize) : null;
+        head = 0;
+        tail = 0;
+        usedBytes = 0;
+        size = 0;
+        if (null != buffer) {
+            for (final byte[] record : records) {
+                append(buffer, record);
+            }
+        }
+    }
+
+    private boolean append(final ByteBuffer ringBuffer, final byte[] bytes) {
+        if (bytes.length + LENGTH_BYTES > ringBuffer.capacity()) {
+            return false;
+        }
+        while (size >= capacity || ringBuffer.capacity() - usedBytes < bytes.length + LENGTH_BYTES) {
+            evictHead(ringBuffer);
+        }
+        tail = write(ringBuffer, tail, ByteBuffer.allocate(LENGTH_BYTES).putInt(0, bytes.length).array());
+        tail = write(ringBuffer, tail, bytes);
+        usedBytes += bytes.length + LENGTH_BYTES;
+        size++;
+        return true;
+    }
+
+    private void evictHead(@Nullable final ByteBuffer ringBuffer) {
+        if (null != ringBuffer && size > 0) {
+            final int recordBytes = LENGTH_BYTES + readLength(ringBuffer, head);
+            head = (head + recordBytes) % ringBuffer.capacity();
+            usedBytes -= recordBytes;
+            size--;
+        }
+    }
+
+    private static int write(final ByteBuffer ringBuffer, final int position, final byte[] bytes) {
+        final int firstChunk = Math.min(bytes.length, ringBuffer.capacity() - position);
+        ringBuffer.put(position, bytes, 0, firstChunk);
+        ringBuffer.put(0, bytes, firstChunk, bytes.length - firstChunk);
+        return (position + bytes.length) % ringBuffer.capacity();
+    }
+
+    private static byte[] read(final ByteBuffer ringBuffer, final int position, final int length) {
+        final byte[] bytes = new byte[length];
+        final int firstChunk = Math.min(length, ringBuffer.capacity() - position);
+        ringBuffer.get(position, bytes, 0, firstChunk);
+        ringBuffer.get(0, bytes, firstChunk, length - firstChunk);
+        return bytes;
+    }
+
+    private static int readLength(final ByteBuffer ringBuffer, final int position) {
+        return ByteBuffer.wrap(read(ringBuffer, position, LENGTH_BYTES)).getInt();
+    }
+
+    private static byte[] readRecord(final ByteBuffer ringBuffer, final int position) {
+        final int length = readLength(ringBuffer, position);
+        return read(ringBuffer, (position + LENGTH_BYTES) % ringBuffer.capacity(), length);
+    }
+
+    private static byte[] encode(final LogEntry logEntry) {
+        try {
+            return CBOR_FACTORY.toByteArray(logEntry.toJson());
+        } catch (final IOException e) {
+            throw new IllegalArgumentException("Failed to encode log entry as CBOR: " + e.getMessage(), e);
+        }
+    }
+
+    private static LogEntry decode(final byte[] bytes) {
+        return ConnectivityModelFactory.logEntryFromJson(CBOR_FACTORY.readFrom(bytes).asObject());
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "capacity=" + capacity +
+                ", memoryBudget=" + memoryBudget +
+                ", size=" + size() +
+                "]";
+    }
+
+}
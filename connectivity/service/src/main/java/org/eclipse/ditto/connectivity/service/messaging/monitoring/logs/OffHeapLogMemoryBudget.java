@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.connectivity.service.messaging.monitoring.logs;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.eclipse.ditto.connectivity.model.LogEntry;
+import org.eclipse.ditto.internal.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.internal.utils.metrics.instruments.counter.Counter;
+import org.eclipse.ditto.internal.utils.metrics.instruments.gauge.Gauge;
+
+/**
+ * Memory budget of the off-heap ring buffers of {@link OffHeapEvictingLogQueue}s.
+ * The used bytes and the queues holding log entries are accounted JVM-wide, just like the connection loggers are
+ * registered JVM-wide by the {@link ConnectionLoggerRegistry}. As long as the budget suffices for the configured
+ * buffer size of all active queues, each queue gets a buffer of that size. Otherwise, the budget is shared equally
+ * between the active queues: queues with larger buffers shrink them to their share when the next entry is added, and
+ * queues which could not get a buffer of their share retry until the other queues have shrunk. If the share is less
+ * than {@value #MIN_BUFFER_SIZE} bytes, no buffer is allocated at all.
+ */
+@ThreadSafe
+final class OffHeapLogMemoryBudget {
+
+    /**
+     * The minimum size of a ring buffer in bytes.
+     */
+    static final int MIN_BUFFER_SIZE = 1024;
+
+    private static final AtomicLong USED_BYTES = new AtomicLong();
+    private static final AtomicInteger ACTIVE_QUEUES = new AtomicInteger();
+    private static final Gauge USED_BYTES_GAUGE = DittoMetrics.gauge("connection_logs_off_heap_bytes");
+    private static final Counter SHRUNK_BUFFERS = DittoMetrics.counter("connection_logs_off_heap_shrunk_buffers");
+
+    private final int bufferSize;
+    private final long budget;
+
+    private OffHeapLogMemoryBudget(final int bufferSize, final long budget) {
+        this.bufferSize = bufferSize;
+        this.budget = budget;
+    }
+
+    /**
+     * Returns a memory budget.
+     *
+     * @param bufferSize the size of each ring buffer in bytes as long as the budget is not exceeded.
+     * @param budget the maximum number of bytes all ring buffers may use.
+     * @return the memory budget.
+     */
+    static OffHeapLogMemoryBudget of(final int bufferSize, final long budget) {
+        return new OffHeapLogMemoryBudget(bufferSize, budget);
+    }
+
+    /**
+     * Creates a new queue storing its log entries in an off-heap ring buffer of this budget.
+     *
+     * @param capacity the maximum number of log entries of the queue.
+     * @return the queue.
+     */
+    EvictingQueue<LogEntry> newQueue(final int capacity) {
+        return new OffHeapEvictingLogQueue(capacity, this);
+    }
+
+    /**
+     * Counts a queue which holds log entries to the queues sharing this budget.
+     */
+    void activate() {
+        ACTIVE_QUEUES.incrementAndGet();
+    }
+
+    /**
+     * Removes a queue which released its ring buffer from the queues sharing this budget.
+     */
+    void deactivate() {
+        ACTIVE_QUEUES.decrementAndGet();
+    }
+
+    /**
+     * Returns the number of bytes the ring buffer of each active queue may use.
+     *
+     * @return the configured buffer size if the budget suffices for all active queues, otherwise the equal share of
+     * the budget, or 0 if the share is less than {@value #MIN_BUFFER_SIZE} bytes.
+     */
+    int getShare() {
+        final long share = Math.min(bufferSize, budget / Math.max(1, ACTIVE_QUEUES.get()));
+        return share < MIN_BUFFER_SIZE ? 0 : (int) share;
+    }
+
+    /**
+     * Reserves bytes of the remaining budget for a ring buffer.
+     *
+     * @param requestedBytes the number of bytes to reserve at most.
+     * @param minimumBytes the number of bytes to reserve at least.
+     * @return the number of reserved bytes or 0 if less than {@code minimumBytes} remain.
+     */
+    int reserve(final int requestedBytes, final int minimumBytes) {
+        long used;
+        int granted;
+        do {
+            used = USED_BYTES.get();
+            granted = (int) Math.max(0L, Math.min(requestedBytes, budget - used));
+            if (granted <= 0 || granted < minimumBytes) {
+                return 0;
+            }
+        } while (!USED_BYTES.compareAndSet(used, used + granted));
+        USED_BYTES_GAUGE.set(used + granted);
+        return granted;
+    }
+
+    /**
+     * Releases the bytes a ring buffer shrunk by to the budget.
+     *
+     * @param bytes the number of bytes to release.
+     */
+    void releaseShrunkBytes(final int bytes) {
+        SHRUNK_BUFFERS.increment();
+        release(bytes);
+    }
+
+    /**
+     * Releases the bytes of a ring buffer which is no longer used.
+     *
+     * @param bytes the number of bytes to release.
+     */
+    void release(final int bytes) {
+        USED_BYTES_GAUGE.set(USED_BYTES.addAndGet(-bytes));
+    }
+
+    /**
+     * @return the number of bytes currently used by all ring buffers.
+     */
+    static long getUsedBytes() {
+        return USED_BYTES.get();
+    }
+
+    @Override
+    public boolean equals(@Nullable final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final OffHeapLogMemoryBudget that = (OffHeapLogMemoryBudget) o;
+        return bufferSize == that.bufferSize && budget == that.budget;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(bufferSize, budget);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "bufferSize=" + bufferSize +
+                ", budget=" + budget +
+                "]";
+    }
+
+}
@@ -0,0 +1,198 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.connectivity.service.messaging.httppush;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.pekko.actor.ActorSystem;
+import org.apache.pekko.http.javadsl.model.ContentTypes;
+import org.apache.pekko.http.javadsl.model.HttpEntities;
+import org.apache.pekko.http.javadsl.model.HttpEntity;
+import org.apache.pekko.http.javadsl.model.HttpRequest;
+import org.apache.pekko.http.javadsl.model.HttpResponse;
+import org.apache.pekko.http.javadsl.model.headers.RawHeader;
+import org.apache.pekko.japi.Pair;
+import org.apache.pekko.stream.Materializer;
+import org.apache.pekko.stream.javadsl.Sink;
+import org.apache.pekko.stream.javadsl.Source;
+import org.apache.pekko.testkit.javadsl.TestKit;
+import org.eclipse.ditto.connectivity.service.messaging.monitoring.ConnectionMonitor;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import scala.util.Success;
+import scala.util.Try;
+
+/**
+ * Unit tests for {@link HttpPushBatcher}.
+ */
+public final class HttpPushBatcherTest {
+
+    private static final String URI = "http://localhost:1234/events";
+
+    private ActorSystem actorSystem;
+    private Materializer materializer;
+
+    @Before
+    public void setUp() {
+        actorSystem = ActorSystem.create(getClass().getSimpleName());
+        materializer = Materializer.createMaterializer(actorSystem);
+    }
+
+    @After
+    public void tearDown() {
+        if (actorSystem != null) {
+            TestKit.shutdownActorSystem(actorSystem);
+        }
+    }
+
+    @Test
+    public void aggregatesJsonRequestsToSameTargetIntoJsonArray() throws Exception {
+        final List<Pair<HttpRequest, HttpPushContext>> result = runBatcher(specificConfig("json-array"),
+                jsonRequest(URI, "{\"a\":1}", true),
+                jsonRequest(URI, "{\"a\":2}", true),
+                jsonRequest(URI, "{\"a\":3}", true));
+
+        assertThat(result).hasSize(1);
+        assertThat(getBody(result.get(0).first())).isEqualTo("[{\"a\":1},{\"a\":2},{\"a\":3}]");
+    }
+
+    @Test
+    public void aggregatesJsonRequestsIntoNdjson() throws Exception {
+        final List<Pair<HttpRequest, HttpPushContext>> result = runBatcher(specificConfig("ndjson"),
+                jsonRequest(URI, "{\"a\":1}", true),
+                jsonRequest(URI, "{\"a\":2}", true));
+
+        assertThat(result).hasSize(1);
+        assertThat(result.get(0).first().entity().getContentType().toString())
+                .startsWith("application/x-ndjson");
+        assertThat(getBody(result.get(0).first())).isEqualTo("{\"a\":1}\n{\"a\":2}\n");
+    }
+
+    @Test
+    public void keepsRequestsToDifferentTargetsAndNonBatchableRequestsApart() throws Exception {
+        final List<Pair<HttpRequest, HttpPushContext>> result = runBatcher(specificConfig("json-array"),
+                jsonRequest(URI, "{\"a\":1}", true),
+                jsonRequest(URI + "/other", "{\"a\":2}", true),
+                jsonRequest(URI, "{\"a\":3}", false),
+                Pair.create(HttpRequest.POST(URI).withEntity("plain text"), new TestContext(true)),
+                jsonRequest(URI, "{\"a\":4}", true));
+
+        assertThat(result).hasSize(4);
+        assertThat(getBody(result.get(0).first())).isEqualTo("[{\"a\":1},{\"a\":4}]");
+        assertThat(getBody(result.get(1).first())).isEqualTo("{\"a\":2}");
+        assertThat(getBody(result.get(2).first())).isEqualTo("{\"a\":3}");
+        assertThat(getBody(result.get(3).first())).isEqualTo("plain text");
+    }
+
+    @Test
+    public void keepsRequestsWithDifferentHeadersApart() throws Exception {
+        final Pair<HttpRequest, HttpPushContext> tenantA = jsonRequest(URI, "{\"a\":1}", true);
+        final Pair<HttpRequest, HttpPushContext> tenantB = jsonRequest(URI, "{\"a\":2}", true);
+        final Pair<HttpRequest, HttpPushContext> otherTenantA = jsonRequest(URI, "{\"a\":3}", true);
+        final List<Pair<HttpRequest, HttpPushContext>> result = runBatcher(specificConfig("json-array"),
+                Pair.create(tenantA.first().addHeader(RawHeader.create("tenant", "a")), tenantA.second()),
+                Pair.create(tenantB.first().addHeader(RawHeader.create("tenant", "b")), tenantB.second()),
+                Pair.create(otherTenantA.first().addHeader(RawHeader.create("tenant", "a")), otherTenantA.second()));
+
+        assertThat(result).hasSize(2);
+        assertThat(getBody(result.get(0).first())).isEqualTo("[{\"a\":1},{\"a\":3}]");
+        assertThat(result.get(0).first().getHeader("tenant")).hasValueSatisfying(
+                header -> assertThat(header.value()).isEqualTo("a"));
+        assertThat(getBody(result.get(1).first())).isEqualTo("{\"a\":2}");
+        assertThat(result.get(1).first().getHeader("tenant")).hasValueSatisfying(
+                header -> assertThat(header.value()).isEqualTo("b"));
+    }
+
+    @Test
+    public void responseToBatchIsPassedToEachAggregatedContext() throws Exception {
+        final Pair<HttpRequest, HttpPushContext> first = jsonRequest(URI, "{\"a\":1}", true);
+        final Pair<HttpRequest, HttpPushContext> second = jsonRequest(URI, "{\"a\":2}", true);
+        final List<Pair<HttpRequest, HttpPushContext>> result =
+                runBatcher(specificConfig("json-array"), first, second);
+
+        result.get(0).second().onResponse(new Success<>(HttpResponse.create().withEntity("ok")));
+
+        for (final Pair<HttpRequest, HttpPushContext> requestWithContext : List.of(first, second)) {
+            final HttpResponse response = ((TestContext) requestWithContext.second()).response.get(10L, TimeUnit.SECONDS)
+                    .get();
+            assertThat(((HttpEntity.Strict) response.entity()).getData().utf8String()).isEqualTo("ok");
+        }
+    }
+
+    @SafeVarargs
+    private List<Pair<HttpRequest, HttpPushContext>> runBatcher(final HttpPushSpecificConfig specificConfig,
+            final Pair<HttpRequest, HttpPushContext>... requests) throws Exception {
+
+        return Source.from(List.of(requests))
+                .via(HttpPushBatcher.flow(specificConfig, "connection-id", materializer))
+                .runWith(Sink.seq(), materializer)
+                .toCompletableFuture()
+                .get(10L, TimeUnit.SECONDS);
+    }
+
+    private static HttpPushSpecificConfig specificConfig(final String format) {
+        final HttpPushSpecificConfig specificConfig = Mockito.mock(HttpPushSpecificConfig.class);
+        when(specificConfig.batchMaxMessages()).thenReturn(10);
+        when(specificConfig.batchMaxBytes()).thenReturn(1024L);
+        when(specificConfig.batchLinger()).thenReturn(Duration.ofSeconds(1L));
+        when(specificConfig.batchFormat()).thenReturn(format);
+        return specificConfig;
+    }
+
+    private static Pair<HttpRequest, HttpPushContext> jsonRequest(final String uri, final String body,
+            final boolean batchable) {
+
+        return Pair.create(HttpRequest.POST(uri).withEntity(HttpEntities.create(ContentTypes.APPLICATION_JSON, body)),
+                new TestContext(batchable));
+    }
+
+    private static String getBody(final HttpRequest request) {
+        return ((HttpEntity.Strict) request.entity()).getData().utf8String();
+    }
+
+    private static final class TestContext implements HttpPushContext {
+
+        private final boolean batchable;
+        private final CompletableFuture<Try<HttpResponse>> response = new CompletableFuture<>();
+
+        private TestContext(final boolean batchable) {
+            this.batchable = batchable;
+        }
+
+        @Override
+        public void onResponse(final Try<HttpResponse> response) {
+            this.response.complete(response);
+        }
+
+        @Override
+        public ConnectionMonitor.InfoProvider getInfoProvider() {
+            return Mockito.mock(ConnectionMonitor.InfoProvider.class);
+        }
+
+        @Override
+        public boolean isBatchable() {
+            return batchable;
+        }
+
+    }
+
+}
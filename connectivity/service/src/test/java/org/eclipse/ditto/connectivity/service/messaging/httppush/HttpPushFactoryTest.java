@@ -25,6 +25,7 @@ import java.util.Optional;
 import java.util.Queue;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.TimeUnit;
@@ -40,7 +41,9 @@ import org.apache.pekko.http.javadsl.model.HttpRequest;
 import org.apache.pekko.http.javadsl.model.HttpResponse;
 import org.apache.pekko.http.javadsl.model.StatusCodes;
 import org.apache.pekko.http.javadsl.model.headers.Authorization;
+import org.apache.pekko.http.javadsl.settings.ServerSettings;
 import org.apache.pekko.japi.Pair;
+import org.apache.pekko.japi.function.Function;
 import org.apache.pekko.stream.KillSwitches;
 import org.apache.pekko.stream.OverflowStrategy;
 import org.apache.pekko.stream.javadsl.Flow;
@@ -316,6 +319,54 @@ public final class HttpPushFactoryTest {
         sinkQueue.cancel();
     }
 
+    @Test
+    public void multiplexRequestsOverHttp2() throws Exception {
+        // GIVEN: an HTTP/2 server which answers the first request only after it answered the second one
+        final CompletableFuture<HttpResponse> firstResponse = new CompletableFuture<>();
+        final Function<HttpRequest, CompletionStage<HttpResponse>> handler = request -> {
+            requestQueue.offer(request);
+            if (request.getUri().path().endsWith("first")) {
+                return firstResponse;
+            }
+            CompletableFuture.delayedExecutor(500L, TimeUnit.MILLISECONDS)
+                    .execute(() -> firstResponse.complete(HttpResponse.create().withStatus(StatusCodes.CREATED)));
+            return CompletableFuture.completedFuture(HttpResponse.create().withStatus(StatusCodes.ACCEPTED));
+        };
+        final ServerBinding http2Binding = Http.get(actorSystem)
+                .newServerAt("127.0.0.1", 0)
+                .withSettings(ServerSettings.create(ConfigFactory.parseString(
+                        "pekko.http.server.preview.enable-http2 = on").withFallback(actorSystem.settings().config())))
+                .bind(handler)
+                .toCompletableFuture()
+                .join();
+
+        // GIVEN: the connection publishes via HTTP/2 with prior knowledge
+        connection = connection.toBuilder()
+                .uri("http://127.0.0.1:" + http2Binding.localAddress().getPort())
+                .specificConfig(Map.of("httpVersion", "2", "parallelism", "2"))
+                .build();
+        final HttpPushFactory underTest = HttpPushFactory.of(connection, connectionConfig.getHttpPushConfig(),
+                mock(ConnectionLogger.class), SshTunnelState::disabled);
+        final Pair<SourceQueueWithComplete<HttpRequest>, SinkQueueWithCancel<Try<HttpResponse>>> pair =
+                newSourceSinkQueues(underTest);
+        final SourceQueueWithComplete<HttpRequest> sourceQueue = pair.first();
+        final SinkQueueWithCancel<Try<HttpResponse>> sinkQueue = pair.second();
+
+        // WHEN: two requests are sent
+        sourceQueue.offer(underTest.newRequest(HttpPublishTarget.of("POST:/first")));
+        sourceQueue.offer(underTest.newRequest(HttpPublishTarget.of("POST:/second")));
+
+        // THEN: both requests are in flight at the same time as HTTP/2 streams
+        assertThat(requestQueue.poll(10L, TimeUnit.SECONDS).protocol().value()).isEqualTo("HTTP/2.0");
+        assertThat(requestQueue.poll(10L, TimeUnit.SECONDS).protocol().value()).isEqualTo("HTTP/2.0");
+
+        // THEN: the responses are emitted in the order they arrive
+        assertThat(pullResponse(sinkQueue).get().status()).isEqualTo(StatusCodes.ACCEPTED);
+        assertThat(pullResponse(sinkQueue).get().status()).isEqualTo(StatusCodes.CREATED);
+        sinkQueue.cancel();
+        http2Binding.unbind();
+    }
+
     private void newBinding() {
         requestQueue = new LinkedBlockingQueue<>();
         responseQueue = new LinkedBlockingQueue<>();
@@ -49,6 +49,11 @@ public final class HttpPushSpecificConfigTest {
         configuredSpecificConfig.put(HttpPushSpecificConfig.IDLE_TIMEOUT, "3s");
         configuredSpecificConfig.put(HttpPushSpecificConfig.PARALLELISM, "2");
         configuredSpecificConfig.put(HttpPushSpecificConfig.OMIT_REQUEST_BODY, omitBodyRequest);
+        configuredSpecificConfig.put(HttpPushSpecificConfig.BATCH_MAX_MESSAGES, "100");
+        configuredSpecificConfig.put(HttpPushSpecificConfig.BATCH_MAX_BYTES, "64k");
+        configuredSpecificConfig.put(HttpPushSpecificConfig.BATCH_LINGER, "20ms");
+        configuredSpecificConfig.put(HttpPushSpecificConfig.BATCH_FORMAT, "ndjson");
+        configuredSpecificConfig.put(HttpPushSpecificConfig.HTTP_VERSION, "2");
 
         when(httpConfig.getRequestTimeout()).thenReturn(Duration.ofSeconds(2));
         when(connection.getSpecificConfig()).thenReturn(configuredSpecificConfig);
@@ -58,6 +63,12 @@ public final class HttpPushSpecificConfigTest {
         assertThat(specificConfig.parallelism()).isEqualTo(2);
         assertThat(specificConfig.omitRequestBody())
                 .isEqualTo(Arrays.stream(omitBodyRequest.split(",")).toList());
+        assertThat(specificConfig.isBatchingEnabled()).isTrue();
+        assertThat(specificConfig.batchMaxMessages()).isEqualTo(100);
+        assertThat(specificConfig.batchMaxBytes()).isEqualTo(64L * 1024L);
+        assertThat(specificConfig.batchLinger()).isEqualTo(Duration.ofMillis(20));
+        assertThat(specificConfig.batchFormat()).isEqualTo(HttpPushSpecificConfig.BATCH_FORMAT_NDJSON);
+        assertThat(specificConfig.isHttp2()).isTrue();
     }
 
     @Test
@@ -71,6 +82,10 @@ public final class HttpPushSpecificConfigTest {
         assertThat(specificConfig.idleTimeout()).isEqualTo(Duration.ofSeconds(60));
         assertThat(specificConfig.parallelism()).isEqualTo(1);
         assertThat(specificConfig.omitRequestBody()).isEqualTo(expectedOmittedRequestBody);
+        assertThat(specificConfig.isBatchingEnabled()).isFalse();
+        assertThat(specificConfig.batchFormat()).isEqualTo(HttpPushSpecificConfig.BATCH_FORMAT_JSON_ARRAY);
+        assertThat(specificConfig.httpVersion()).isEqualTo(HttpPushSpecificConfig.HTTP_VERSION_1_1);
+        assertThat(specificConfig.isHttp2()).isFalse();
     }
 
 }
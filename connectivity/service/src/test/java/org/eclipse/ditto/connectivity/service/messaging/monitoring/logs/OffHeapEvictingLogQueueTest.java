@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.connectivity.service.messaging.monitoring.logs;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.eclipse.ditto.connectivity.model.ConnectivityModelFactory;
+import org.eclipse.ditto.connectivity.model.LogCategory;
+import org.eclipse.ditto.connectivity.model.LogEntry;
+import org.eclipse.ditto.connectivity.model.LogLevel;
+import org.eclipse.ditto.connectivity.model.LogType;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link OffHeapEvictingLogQueue}.
+ */
+public final class OffHeapEvictingLogQueueTest {
+
+    private static final long LARGE_BUDGET = 1L << 30;
+
+    @Test
+    public void evictsOldestEntriesBeyondCapacity() {
+        final EvictingQueue<LogEntry> queue = OffHeapLogMemoryBudget.of(16_384, LARGE_BUDGET).newQueue(3);
+        final List<LogEntry> logEntries = createLogEntries(5);
+
+        queue.addAll(logEntries);
+
+        assertThat(queue).containsExactlyElementsOf(logEntries.subList(2, 5));
+        assertThat(queue.peek()).isEqualTo(logEntries.get(2));
+        queue.clear();
+    }
+
+    @Test
+    public void evictsOldestEntriesWhenRingBufferIsFull() {
+        final EvictingQueue<LogEntry> queue =
+                OffHeapLogMemoryBudget.of(OffHeapLogMemoryBudget.MIN_BUFFER_SIZE, LARGE_BUDGET).newQueue(1000);
+        final List<LogEntry> logEntries = createLogEntries(100);
+
+        queue.addAll(logEntries);
+
+        assertThat(queue.size()).isLessThan(logEntries.size()).isPositive();
+        assertThat(queue).containsExactlyElementsOf(
+                logEntries.subList(logEntries.size() - queue.size(), logEntries.size()));
+        queue.clear();
+    }
+
+    @Test
+    public void pollRemovesOldestEntry() {
+        final EvictingQueue<LogEntry> queue = OffHeapLogMemoryBudget.of(16_384, LARGE_BUDGET).newQueue(10);
+        final List<LogEntry> logEntries = createLogEntries(2);
+        queue.addAll(logEntries);
+
+        assertThat(queue.poll()).isEqualTo(logEntries.get(0));
+        assertThat(queue).containsExactly(logEntries.get(1));
+        queue.clear();
+    }
+
+    @Test
+    public void discardsEntriesOfferedAfterCloseWithoutReservingBudget() {
+        final EvictingQueue<LogEntry> queue = OffHeapLogMemoryBudget.of(8192, LARGE_BUDGET).newQueue(10);
+        final long usedBytesBefore = OffHeapLogMemoryBudget.getUsedBytes();
+        queue.add(createLogEntries(1).get(0));
+        queue.close();
+
+        queue.addAll(createLogEntries(3));
+
+        assertThat(OffHeapLogMemoryBudget.getUsedBytes()).isEqualTo(usedBytesBefore);
+        assertThat(queue).isEmpty();
+    }
+
+    @Test
+    public void allocatesRingBufferLazilyAndReleasesItOnClear() {
+        final int bufferSize = 8192;
+        final EvictingQueue<LogEntry> queue = OffHeapLogMemoryBudget.of(bufferSize, LARGE_BUDGET).newQueue(10);
+        final long usedBytesBefore = OffHeapLogMemoryBudget.getUsedBytes();
+
+        queue.add(createLogEntries(1).get(0));
+        final long usedBytesAfterAdd = OffHeapLogMemoryBudget.getUsedBytes();
+        queue.clear();
+
+        assertThat(usedBytesAfterAdd - usedBytesBefore).isEqualTo(bufferSize);
+        assertThat(OffHeapLogMemoryBudget.getUsedBytes()).isEqualTo(usedBytesBefore);
+        assertThat(queue).isEmpty();
+    }
+
+    @Test
+    public void dropsEntriesIfBudgetIsExhausted() {
+        final EvictingQueue<LogEntry> queue = OffHeapLogMemoryBudget.of(8192, 0L).newQueue(10);
+
+        queue.addAll(createLogEntries(3));
+
+        assertThat(queue).isEmpty();
+        queue.clear();
+    }
+
+    @Test
+    public void sharesBudgetEquallyBetweenActiveQueuesIfItIsExceeded() {
+        final int bufferSize = 8192;
+        final long usedBytesBefore = OffHeapLogMemoryBudget.getUsedBytes();
+        final OffHeapLogMemoryBudget memoryBudget = OffHeapLogMemoryBudget.of(bufferSize, usedBytesBefore + bufferSize);
+        final EvictingQueue<LogEntry> first = memoryBudget.newQueue(10);
+        final EvictingQueue<LogEntry> second = memoryBudget.newQueue(10);
+        final List<LogEntry> logEntries = createLogEntries(5);
+
+        first.add(logEntries.get(0));
+        // the whole budget is used by the first queue until it shrinks to its share on its next insert
+        second.add(logEntries.get(1));
+        first.add(logEntries.get(2));
+        second.add(logEntries.get(3));
+
+        assertThat(first).containsExactly(logEntries.get(0), logEntries.get(2));
+        assertThat(second).containsExactly(logEntries.get(3));
+        assertThat(OffHeapLogMemoryBudget.getUsedBytes() - usedBytesBefore).isEqualTo(bufferSize);
+
+        // the second queue grows back to the configured buffer size once it is the only active queue
+        first.clear();
+        second.add(logEntries.get(4));
+
+        assertThat(second).containsExactly(logEntries.get(3), logEntries.get(4));
+        assertThat(OffHeapLogMemoryBudget.getUsedBytes() - usedBytesBefore).isEqualTo(bufferSize);
+        second.clear();
+        assertThat(OffHeapLogMemoryBudget.getUsedBytes()).isEqualTo(usedBytesBefore);
+    }
+
+    @Test
+    public void evictsOldestEntriesIfRingBufferShrinks() {
+        final int bufferSize = 2 * OffHeapLogMemoryBudget.MIN_BUFFER_SIZE;
+        final long usedBytesBefore = OffHeapLogMemoryBudget.getUsedBytes();
+        final OffHeapLogMemoryBudget memoryBudget = OffHeapLogMemoryBudget.of(bufferSize, usedBytesBefore + bufferSize);
+        final EvictingQueue<LogEntry> first = memoryBudget.newQueue(1000);
+        final EvictingQueue<LogEntry> second = memoryBudget.newQueue(1000);
+        final List<LogEntry> logEntries = createLogEntries(20);
+        first.addAll(logEntries.subList(0, logEntries.size() - 1));
+        final int sizeBeforeShrinking = first.size();
+
+        second.add(logEntries.get(0));
+        first.add(logEntries.get(logEntries.size() - 1));
+
+        assertThat(first.size()).isLessThan(sizeBeforeShrinking).isPositive();
+        assertThat(first).containsExactlyElementsOf(
+                logEntries.subList(logEntries.size() - first.size(), logEntries.size()));
+        first.clear();
+        second.clear();
+    }
+
+    private static List<LogEntry> createLogEntries(final int n) {
+        return IntStream.range(0, n)
+                .mapToObj(i -> ConnectivityModelFactory.newLogEntryBuilder("correlation-" + i,
+                                Instant.now(),
+                                LogCategory.TARGET,
+                                LogType.PUBLISHED,
+                                LogLevel.SUCCESS,
+                                "Successfully published signal number " + i + ".")
+                        .build())
+                .toList();
+    }
+
+}
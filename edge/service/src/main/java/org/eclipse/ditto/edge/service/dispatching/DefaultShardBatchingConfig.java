@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.edge.service.dispatching;
+
+import java.time.Duration;
+import java.util.Objects;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.internal.utils.config.ConfigWithFallback;
+import org.eclipse.ditto.internal.utils.config.ScopedConfig;
+
+import com.typesafe.config.Config;
+
+/**
+ * This class is the default implementation of {@link ShardBatchingConfig}.
+ *
+ * @since 3.8.0
+ */
+@Immutable
+public final class DefaultShardBatchingConfig implements ShardBatchingConfig {
+
+    private static final String CONFIG_PATH = "shard-batching";
+
+    private final boolean enabled;
+    private final Duration window;
+    private final int maxBatchSize;
+
+    private DefaultShardBatchingConfig(final ScopedConfig config) {
+        enabled = config.getBoolean(ShardBatchingConfigValue.ENABLED.getConfigPath());
+        window = config.getNonNegativeAndNonZeroDurationOrThrow(ShardBatchingConfigValue.WINDOW);
+        maxBatchSize = config.getPositiveIntOrThrow(ShardBatchingConfigValue.MAX_BATCH_SIZE);
+    }
+
+    /**
+     * Returns an instance of {@code DefaultShardBatchingConfig} based on the settings of the specified Config.
+     *
+     * @param config is supposed to provide the settings of the shard batching config at {@value #CONFIG_PATH}.
+     * @return the instance.
+     * @throws org.eclipse.ditto.internal.utils.config.DittoConfigError if {@code config} is invalid.
+     */
+    public static DefaultShardBatchingConfig of(final Config config) {
+        return new DefaultShardBatchingConfig(
+                ConfigWithFallback.newInstance(config, CONFIG_PATH, ShardBatchingConfigValue.values()));
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public Duration getWindow() {
+        return window;
+    }
+
+    @Override
+    public int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    @Override
+    public boolean equals(@Nullable final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final DefaultShardBatchingConfig that = (DefaultShardBatchingConfig) o;
+        return enabled == that.enabled &&
+                maxBatchSize == that.maxBatchSize &&
+                Objects.equals(window, that.window);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(enabled, window, maxBatchSize);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "enabled=" + enabled +
+                ", window=" + window +
+                ", maxBatchSize=" + maxBatchSize +
+                "]";
+    }
+
+}
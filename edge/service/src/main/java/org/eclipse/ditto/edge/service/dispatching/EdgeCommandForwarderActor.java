@@ -35,6 +35,8 @@ import org.eclipse.ditto.internal.utils.pekko.logging.DittoDiagnosticLoggingAdap
 import org.eclipse.ditto.internal.utils.pekko.logging.DittoLoggerFactory;
 import org.eclipse.ditto.internal.utils.cacheloaders.config.DefaultAskWithRetryConfig;
 import org.eclipse.ditto.internal.utils.cluster.DistPubSubAccess;
+import org.eclipse.ditto.internal.utils.cluster.ShardRegionExtractor;
+import org.eclipse.ditto.internal.utils.cluster.config.DefaultClusterConfig;
 import org.eclipse.ditto.internal.utils.config.DefaultScopedConfig;
 import org.eclipse.ditto.internal.utils.config.ScopedConfig;
 import org.eclipse.ditto.messages.model.signals.commands.MessageCommand;
@@ -83,6 +85,8 @@ public class EdgeCommandForwarderActor extends AbstractActor {
     private final ActorRef aggregatorProxyActor;
 
     private final ActorRef taskScheduler;
+    private final ActorRef thingsShardRegion;
+    private final ActorRef policiesShardRegion;
 
     @SuppressWarnings("unused")
     private EdgeCommandForwarderActor(final ActorRef pubSubMediator, final ShardRegions shardRegions) {
@@ -100,6 +104,18 @@ public class EdgeCommandForwarderActor extends AbstractActor {
                 ThingsAggregatorProxyActor.ACTOR_NAME);
         taskScheduler =
                 getContext().actorOf(EntityTaskScheduler.props(ACTOR_NAME), EntityTaskScheduler.ACTOR_NAME);
+        final ShardBatchingConfig shardBatchingConfig = DefaultShardBatchingConfig.of(dittoScoped);
+        if (shardBatchingConfig.isEnabled()) {
+            final var shardRegionExtractor =
+                    ShardRegionExtractor.of(DefaultClusterConfig.of(dittoScoped).getNumberOfShards(), actorSystem);
+            thingsShardRegion = getContext().actorOf(ShardSignalBatcher.props(shardRegions.things(),
+                    shardRegionExtractor, shardBatchingConfig, "things"), "things-shard-batcher");
+            policiesShardRegion = getContext().actorOf(ShardSignalBatcher.props(shardRegions.policies(),
+                    shardRegionExtractor, shardBatchingConfig, "policies"), "policies-shard-batcher");
+        } else {
+            thingsShardRegion = shardRegions.things();
+            policiesShardRegion = shardRegions.policies();
+        }
     }
 
     /**
@@ -188,10 +204,10 @@ public class EdgeCommandForwarderActor extends AbstractActor {
                     transformed instanceof Command<?> command &&
                     isIdempotent(command)) {
                 askWithRetryCommandForwarder.forwardCommand(command,
-                        shardRegions.things(),
+                        thingsShardRegion,
                         sender);
             } else {
-                shardRegions.things().tell(transformed, sender);
+                thingsShardRegion.tell(transformed, sender);
             }
         }));
     }
@@ -253,10 +269,10 @@ public class EdgeCommandForwarderActor extends AbstractActor {
 
                     if (transformedSignal instanceof Command<?> transformedCommand && isIdempotent(transformedCommand)) {
                         askWithRetryCommandForwarder.forwardCommand(transformedCommand,
-                                shardRegions.policies(),
+                                policiesShardRegion,
                                 sender);
                     } else {
-                        shardRegions.policies().tell(transformedSignal, sender);
+                        policiesShardRegion.tell(transformedSignal, sender);
                     }
                 }));
     }
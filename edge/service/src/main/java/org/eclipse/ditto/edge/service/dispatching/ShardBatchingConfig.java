@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.edge.service.dispatching;
+
+import java.time.Duration;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.internal.utils.config.KnownConfigValue;
+
+/**
+ * Provides configuration settings for batching the signals which the {@link EdgeCommandForwarderActor} forwards to the
+ * things and policies shard regions.
+ *
+ * @since 3.8.0
+ */
+@Immutable
+public interface ShardBatchingConfig {
+
+    /**
+     * Indicates whether signals to the same shard are batched into one cluster message.
+     *
+     * @return whether batching is enabled.
+     */
+    boolean isEnabled();
+
+    /**
+     * Returns the time window in which signals to the same shard are collected into one batch.
+     *
+     * @return the batching window.
+     */
+    Duration getWindow();
+
+    /**
+     * Returns the maximum number of signals of a batch. A batch is sent as soon as it reaches this size.
+     *
+     * @return the maximum batch size.
+     */
+    int getMaxBatchSize();
+
+    /**
+     * An enumeration of the known config path expressions and their associated default values for
+     * {@code ShardBatchingConfig}.
+     */
+    enum ShardBatchingConfigValue implements KnownConfigValue {
+
+        /**
+         * Whether signals to the same shard are batched.
+         */
+        ENABLED("enabled", false),
+
+        /**
+         * The time window in which signals to the same shard are collected.
+         */
+        WINDOW("window", Duration.ofMillis(5)),
+
+        /**
+         * The maximum number of signals of a batch.
+         */
+        MAX_BATCH_SIZE("max-batch-size", 100);
+
+        private final String path;
+        private final Object defaultValue;
+
+        ShardBatchingConfigValue(final String thePath, final Object theDefaultValue) {
+            path = thePath;
+            defaultValue = theDefaultValue;
+        }
+
+        @Override
+        public Object getDefaultValue() {
+            return defaultValue;
+        }
+
+        @Override
+        public String getConfigPath() {
+            return path;
+        }
+
+    }
+
+}
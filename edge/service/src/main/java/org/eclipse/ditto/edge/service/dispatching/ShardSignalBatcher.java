@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.edge.service.dispatching;
+
+import static org.eclipse.ditto.base.model.common.ConditionChecker.checkNotNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.pekko.actor.AbstractActorWithTimers;
+import org.apache.pekko.actor.ActorRef;
+import org.apache.pekko.actor.Props;
+import org.apache.pekko.japi.pf.ReceiveBuilder;
+import org.eclipse.ditto.base.model.entity.id.EntityId;
+import org.eclipse.ditto.base.model.entity.id.WithEntityId;
+import org.eclipse.ditto.base.model.signals.Signal;
+import org.eclipse.ditto.internal.utils.cluster.ShardRegionExtractor;
+import org.eclipse.ditto.internal.utils.cluster.ShardedSignalBatch;
+import org.eclipse.ditto.internal.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.internal.utils.metrics.instruments.counter.Counter;
+import org.eclipse.ditto.internal.utils.metrics.instruments.histogram.Histogram;
+
+/**
+ * Actor which collects the signals to a shard region within a small time window and sends the signals to the same
+ * shard as one {@link ShardedSignalBatch}.
+ * <p>
+ * Each batch is addressed to the relay entity of its shard which relays the signals to their entities. As all signals
+ * of this actor to one entity take the same route, their order is preserved.
+ * If only one signal of a shard is pending when the window closes, it is sent to the shard region as it is, unless a
+ * batch to the shard was not yet confirmed to be relayed: the single signal would then be able to overtake the signals
+ * of the batch, which take the detour via the relay entity.
+ * Messages which cannot be attributed to a shard are forwarded to the shard region as they are.
+ * </p>
+ */
+final class ShardSignalBatcher extends AbstractActorWithTimers {
+
+    private static final String SAVED_MESSAGES_COUNTER_NAME = "edge_shard_batching_saved_messages";
+    private static final String DELAY_HISTOGRAM_NAME = "edge_shard_batching_delay_ms";
+    private static final String BATCH_SIZE_HISTOGRAM_NAME = "edge_shard_batching_batch_size";
+
+    private final ActorRef shardRegion;
+    private final ShardRegionExtractor shardRegionExtractor;
+    private final ShardBatchingConfig shardBatchingConfig;
+    private final Map<String, List<PendingSignal>> pendingSignalsPerShard;
+    private final Map<String, Integer> unrelayedBatchesPerShard;
+    private final Counter savedMessages;
+    private final Histogram delay;
+    private final Histogram batchSize;
+
+    @SuppressWarnings("unused")
+    private ShardSignalBatcher(final ActorRef shardRegion,
+            final ShardRegionExtractor shardRegionExtractor,
+            final ShardBatchingConfig shardBatchingConfig,
+            final String shardRegionName) {
+
+        this.shardRegion = shardRegion;
+        this.shardRegionExtractor = shardRegionExtractor;
+        this.shardBatchingConfig = shardBatchingConfig;
+        pendingSignalsPerShard = new HashMap<>();
+        unrelayedBatchesPerShard = new HashMap<>();
+        savedMessages = DittoMetrics.counter(SAVED_MESSAGES_COUNTER_NAME).tag("region", shardRegionName);
+        delay = DittoMetrics.histogram(DELAY_HISTOGRAM_NAME).tag("region", shardRegionName);
+        batchSize = DittoMetrics.histogram(BATCH_SIZE_HISTOGRAM_NAME).tag("region", shardRegionName);
+    }
+
+    /**
+     * Creates Pekko configuration object Props for this actor.
+     *
+     * @param shardRegion the shard region to send the batches to.
+     * @param shardRegionExtractor the extractor of the shard region.
+     * @param shardBatchingConfig the config of the batching.
+     * @param shardRegionName the name of the shard region to tag the metrics with.
+     * @return the Pekko configuration Props object.
+     */
+    static Props props(final ActorRef shardRegion,
+            final ShardRegionExtractor shardRegionExtractor,
+            final ShardBatchingConfig shardBatchingConfig,
+            final String shardRegionName) {
+
+        return Props.create(ShardSignalBatcher.class,
+                checkNotNull(shardRegion, "shardRegion"),
+                checkNotNull(shardRegionExtractor, "shardRegionExtractor"),
+                checkNotNull(shardBatchingConfig, "shardBatchingConfig"),
+                checkNotNull(shardRegionName, "shardRegionName"));
+    }
+
+    @Override
+    public Receive createReceive() {
+        return ReceiveBuilder.create()
+                .match(Signal.class, signal -> signal instanceof WithEntityId, this::enqueue)
+                .match(Flush.class, flush -> flush(flush.shardId()))
+                .match(ShardedSignalBatch.Relayed.class, this::batchRelayed)
+                .matchAny(message -> shardRegion.forward(message, getContext()))
+                .build();
+    }
+
+    @Override
+    public void postStop() throws Exception {
+        List.copyOf(pendingSignalsPerShard.keySet()).forEach(this::flush);
+        super.postStop();
+    }
+
+    private void enqueue(final Signal<?> signal) {
+        final EntityId entityId = ((WithEntityId) signal).getEntityId();
+        final String shardId = shardRegionExtractor.shardId(signal);
+        if (null == shardId) {
+            shardRegion.forward(signal, getContext());
+            return;
+        }
+        final List<PendingSignal> pendingSignals =
+                pendingSignalsPerShard.computeIfAbsent(shardId, id -> new ArrayList<>());
+        pendingSignals.add(new PendingSignal(entityId, signal, getSender(), System.nanoTime()));
+        if (pendingSignals.size() >= shardBatchingConfig.getMaxBatchSize()) {
+            getTimers().cancel(shardId);
+            flush(shardId);
+        } else if (pendingSignals.size() == 1) {
+            getTimers().startSingleTimer(shardId, new Flush(shardId), shardBatchingConfig.getWindow());
+        }
+    }
+
+    private void flush(final String shardId) {
+        final List<PendingSignal> pendingSignals = pendingSignalsPerShard.remove(shardId);
+        if (null == pendingSignals || pendingSignals.isEmpty()) {
+            return;
+        }
+        final long now = System.nanoTime();
+        pendingSignals.forEach(pendingSignal ->
+                delay.record(TimeUnit.NANOSECONDS.toMillis(now - pendingSignal.enqueuedAtNanos())));
+        batchSize.record((long) pendingSignals.size());
+        if (pendingSignals.size() == 1 && !unrelayedBatchesPerShard.containsKey(shardId)) {
+            // a batch of one signal would only add the detour via the relay entity
+            final PendingSignal pendingSignal = pendingSignals.get(0);
+            shardRegion.tell(pendingSignal.signal(), pendingSignal.sender());
+        } else {
+            final List<ShardedSignalBatch.Element> elements = pendingSignals.stream()
+                    .map(PendingSignal::toElement)
+                    .toList();
+            shardRegion.tell(ShardedSignalBatch.of(shardId, elements), getSelf());
+            unrelayedBatchesPerShard.merge(shardId, 1, Integer::sum);
+            savedMessages.increment(elements.size() - 1L);
+        }
+    }
+
+    private void batchRelayed(final ShardedSignalBatch.Relayed relayed) {
+        unrelayedBatchesPerShard.computeIfPresent(relayed.getShardId(),
+                (shardId, unrelayedBatches) -> unrelayedBatches > 1 ? unrelayedBatches - 1 : null);
+    }
+
+    private record PendingSignal(EntityId entityId, Signal<?> signal, ActorRef sender, long enqueuedAtNanos) {
+
+        ShardedSignalBatch.Element toElement() {
+            return ShardedSignalBatch.Element.of(entityId, signal, sender);
+        }
+    }
+
+    private record Flush(String shardId) {}
+
+}
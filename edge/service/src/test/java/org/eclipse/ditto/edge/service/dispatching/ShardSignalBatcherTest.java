@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.edge.service.dispatching;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+
+import javax.annotation.Nullable;
+
+import org.apache.pekko.actor.ActorRef;
+import org.apache.pekko.actor.ActorSystem;
+import org.apache.pekko.testkit.javadsl.TestKit;
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.internal.utils.cluster.GlobalMappingStrategies;
+import org.eclipse.ditto.internal.utils.cluster.ShardRegionExtractor;
+import org.eclipse.ditto.internal.utils.cluster.ShardedSignalBatch;
+import org.eclipse.ditto.things.model.ThingId;
+import org.eclipse.ditto.things.model.signals.commands.query.RetrieveThing;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.typesafe.config.ConfigFactory;
+
+/**
+ * Unit tests for {@link ShardSignalBatcher}.
+ */
+public final class ShardSignalBatcherTest {
+
+    private static final ShardRegionExtractor SINGLE_SHARD_EXTRACTOR =
+            ShardRegionExtractor.of(1, GlobalMappingStrategies.getInstance());
+
+    @Nullable private static ActorSystem actorSystem;
+
+    @BeforeClass
+    public static void init() {
+        actorSystem = ActorSystem.create("PekkoTestSystem", ConfigFactory.load("test"));
+    }
+
+    @AfterClass
+    public static void tearDown() {
+        if (actorSystem != null) {
+            TestKit.shutdownActorSystem(actorSystem);
+        }
+    }
+
+    @Test
+    public void signalsToSameShardAreBatchedInOrderWithTheirSenders() {
+        assert actorSystem != null;
+        new TestKit(actorSystem) {{
+            final TestKit shardRegion = new TestKit(actorSystem);
+            final TestKit otherSender = new TestKit(actorSystem);
+            final ActorRef underTest = actorSystem.actorOf(ShardSignalBatcher.props(shardRegion.getRef(),
+                    SINGLE_SHARD_EXTRACTOR, shardBatchingConfig("1s", 3), "test"));
+            final RetrieveThing first = retrieveThing("foo:first");
+            final RetrieveThing second = retrieveThing("foo:second");
+            final RetrieveThing third = retrieveThing("foo:first");
+
+            underTest.tell(first, getRef());
+            underTest.tell(second, otherSender.getRef());
+            underTest.tell(third, getRef());
+
+            final ShardedSignalBatch batch = shardRegion.expectMsgClass(ShardedSignalBatch.class);
+            assertThat(batch.getShardId()).isEqualTo("0");
+            assertThat(batch.getRelayEntityId()).isEqualTo("shard-relay-0");
+            assertThat(batch.getElements()).containsExactly(
+                    ShardedSignalBatch.Element.of(first.getEntityId(), first, getRef()),
+                    ShardedSignalBatch.Element.of(second.getEntityId(), second, otherSender.getRef()),
+                    ShardedSignalBatch.Element.of(third.getEntityId(), third, getRef()));
+        }};
+    }
+
+    @Test
+    public void pendingSignalsAreSentAfterWindow() {
+        assert actorSystem != null;
+        new TestKit(actorSystem) {{
+            final TestKit shardRegion = new TestKit(actorSystem);
+            final ActorRef underTest = actorSystem.actorOf(ShardSignalBatcher.props(shardRegion.getRef(),
+                    SINGLE_SHARD_EXTRACTOR, shardBatchingConfig("200ms", 100), "test"));
+
+            underTest.tell(retrieveThing("foo:first"), getRef());
+            underTest.tell(retrieveThing("foo:second"), getRef());
+            shardRegion.expectNoMessage(Duration.ofMillis(100));
+
+            final ShardedSignalBatch batch = shardRegion.expectMsgClass(ShardedSignalBatch.class);
+            assertThat(batch.getElements()).hasSize(2);
+
+            underTest.tell(retrieveThing("foo:third"), getRef());
+            underTest.tell(retrieveThing("foo:fourth"), getRef());
+            assertThat(shardRegion.expectMsgClass(ShardedSignalBatch.class).getRelayEntityId())
+                    .describedAs("relay entity of a shard stays the same")
+                    .isEqualTo("shard-relay-0");
+        }};
+    }
+
+    @Test
+    public void singleSignalIsSentUnbatched() {
+        assert actorSystem != null;
+        new TestKit(actorSystem) {{
+            final TestKit shardRegion = new TestKit(actorSystem);
+            final ActorRef underTest = actorSystem.actorOf(ShardSignalBatcher.props(shardRegion.getRef(),
+                    SINGLE_SHARD_EXTRACTOR, shardBatchingConfig("200ms", 100), "test"));
+            final RetrieveThing retrieveThing = retrieveThing("foo:first");
+
+            underTest.tell(retrieveThing, getRef());
+
+            shardRegion.expectMsg(retrieveThing);
+            assertThat(shardRegion.getLastSender()).isEqualTo(getRef());
+        }};
+    }
+
+    @Test
+    public void singleSignalIsBatchedUntilPreviousBatchIsRelayed() {
+        assert actorSystem != null;
+        new TestKit(actorSystem) {{
+            final TestKit shardRegion = new TestKit(actorSystem);
+            final ActorRef underTest = actorSystem.actorOf(ShardSignalBatcher.props(shardRegion.getRef(),
+                    SINGLE_SHARD_EXTRACTOR, shardBatchingConfig("200ms", 2), "test"));
+            final RetrieveThing second = retrieveThing("foo:second");
+            final RetrieveThing third = retrieveThing("foo:third");
+
+            underTest.tell(retrieveThing("foo:first"), getRef());
+            underTest.tell(retrieveThing("foo:first"), getRef());
+            shardRegion.expectMsgClass(ShardedSignalBatch.class);
+
+            // the batch was not relayed yet, so the single signal must not overtake it
+            underTest.tell(second, getRef());
+            assertThat(shardRegion.expectMsgClass(ShardedSignalBatch.class).getElements())
+                    .containsExactly(ShardedSignalBatch.Element.of(second.getEntityId(), second, getRef()));
+
+            underTest.tell(ShardedSignalBatch.Relayed.of("0"), shardRegion.getRef());
+            underTest.tell(ShardedSignalBatch.Relayed.of("0"), shardRegion.getRef());
+            underTest.tell(third, getRef());
+            shardRegion.expectMsg(third);
+            assertThat(shardRegion.getLastSender()).isEqualTo(getRef());
+        }};
+    }
+
+    @Test
+    public void messagesWithoutEntityIdAreForwarded() {
+        assert actorSystem != null;
+        new TestKit(actorSystem) {{
+            final TestKit shardRegion = new TestKit(actorSystem);
+            final ActorRef underTest = actorSystem.actorOf(ShardSignalBatcher.props(shardRegion.getRef(),
+                    SINGLE_SHARD_EXTRACTOR, shardBatchingConfig("1s", 100), "test"));
+
+            underTest.tell("hello", getRef());
+
+            shardRegion.expectMsg("hello");
+            assertThat(shardRegion.getLastSender()).isEqualTo(getRef());
+        }};
+    }
+
+    private static RetrieveThing retrieveThing(final String thingId) {
+        return RetrieveThing.of(ThingId.of(thingId), DittoHeaders.newBuilder().randomCorrelationId().build());
+    }
+
+    private static ShardBatchingConfig shardBatchingConfig(final String window, final int maxBatchSize) {
+        return DefaultShardBatchingConfig.of(ConfigFactory.parseString(
+                "shard-batching { enabled = true, window = " + window + ", max-batch-size = " + maxBatchSize + " }"));
+    }
+
+}
@@ -12,6 +12,7 @@
  */
 package org.eclipse.ditto.gateway.service.endpoints.actors;
 
+import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.time.Duration;
 import java.util.Base64;
@@ -49,6 +50,7 @@ import org.apache.pekko.japi.pf.ReceiveBuilder;
 import org.apache.pekko.pattern.AskTimeoutException;
 import org.apache.pekko.pattern.Patterns;
 import org.apache.pekko.util.ByteString;
+import org.apache.pekko.util.ByteStringBuilder;
 import org.eclipse.ditto.base.api.devops.signals.commands.DevOpsCommand;
 import org.eclipse.ditto.base.model.acks.DittoAcknowledgementLabel;
 import org.eclipse.ditto.base.model.common.HttpStatus;
@@ -94,6 +96,7 @@ import org.eclipse.ditto.internal.utils.pekko.logging.DittoDiagnosticLoggingAdap
 import org.eclipse.ditto.internal.utils.pekko.logging.DittoLoggerFactory;
 import org.eclipse.ditto.json.JsonPointer;
 import org.eclipse.ditto.json.JsonRuntimeException;
+import org.eclipse.ditto.json.JsonValue;
 import org.eclipse.ditto.messages.model.Message;
 import org.eclipse.ditto.messages.model.signals.commands.MessageCommandResponse;
 
@@ -471,7 +474,7 @@ public abstract class AbstractHttpRequestActor extends AbstractActorWithShutdown
         final var response = withEntity.getEntityPlainString()
                 .map(s -> addEntityAccordingToContentType(responseWithoutBody, s, contentType))
                 .orElseGet(() -> addEntityAccordingToContentType(responseWithoutBody,
-                        withEntity.getEntity(commandResponse.getImplementedSchemaVersion()).toString(),
+                        withEntity.getEntity(commandResponse.getImplementedSchemaVersion()),
                         contentType));
         completeWithResult(response);
     }
@@ -658,6 +661,33 @@ public abstract class AbstractHttpRequestActor extends AbstractActorWithShutdown
         return response.withEntity(ContentTypes.parse(contentType.getValue()), byteString);
     }
 
+    private static HttpResponse addEntityAccordingToContentType(final HttpResponse response, final JsonValue entity,
+            final ContentType contentType) {
+
+        if (contentType.isBinary()) {
+            return addEntityAccordingToContentType(response, entity.toString(), contentType);
+        }
+        return response.withEntity(ContentTypes.parse(contentType.getValue()), toByteString(entity));
+    }
+
+    /**
+     * Writes the JSON of an entity directly as UTF-8 into the chunks of a ByteString, so that large entities like
+     * search results are neither built as String nor copied into one contiguous array.
+     *
+     * @param entity the entity to write.
+     * @return the UTF-8 encoded JSON of the entity.
+     */
+    private static ByteString toByteString(final JsonValue entity) {
+        final ByteStringBuilder byteStringBuilder = ByteString.createBuilder();
+        try {
+            entity.writeJsonTo(byteStringBuilder.asOutputStream());
+        } catch (final IOException e) {
+            // writing to a ByteStringBuilder does not fail
+            throw new IllegalStateException(e);
+        }
+        return byteStringBuilder.result();
+    }
+
     private static ContentType getContentType(final DittoHeaders dittoHeaders) {
         return dittoHeaders.getDittoContentType().orElse(ContentType.APPLICATION_JSON);
     }
@@ -686,7 +716,7 @@ public abstract class AbstractHttpRequestActor extends AbstractActorWithShutdown
                     .orElse(dittoHeaders.getImplementedSchemaVersion());
 
             return withOptionalEntity.getEntity(schemaVersion)
-                    .map(entity -> addEntityAccordingToContentType(response, entity.toString(),
+                    .map(entity -> addEntityAccordingToContentType(response, entity,
                             getContentType(dittoHeaders)))
                     .orElse(response);
         };
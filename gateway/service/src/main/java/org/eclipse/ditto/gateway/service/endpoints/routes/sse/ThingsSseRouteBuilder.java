@@ -46,6 +46,7 @@ import org.apache.pekko.actor.ActorSelection;
 import org.apache.pekko.actor.ActorSystem;
 import org.apache.pekko.http.javadsl.marshalling.sse.EventStreamMarshalling;
 import org.apache.pekko.http.javadsl.model.ContentTypes;
+import org.apache.pekko.http.javadsl.model.HttpEntities;
 import org.apache.pekko.http.javadsl.model.HttpHeader;
 import org.apache.pekko.http.javadsl.model.HttpResponse;
 import org.apache.pekko.http.javadsl.model.MediaTypes;
@@ -75,6 +76,8 @@ import org.eclipse.ditto.gateway.service.endpoints.routes.AbstractRoute;
 import org.eclipse.ditto.gateway.service.endpoints.routes.things.ThingsParameter;
 import org.eclipse.ditto.gateway.service.endpoints.utils.GatewaySignalEnrichmentProvider;
 import org.eclipse.ditto.gateway.service.streaming.StreamingAuthorizationEnforcer;
+import org.eclipse.ditto.gateway.service.streaming.actors.FrameBatching;
+import org.eclipse.ditto.gateway.service.streaming.actors.LatestValueConflation;
 import org.eclipse.ditto.gateway.service.streaming.actors.SessionedJsonifiable;
 import org.eclipse.ditto.gateway.service.streaming.actors.StreamingSession;
 import org.eclipse.ditto.gateway.service.streaming.actors.SupervisedStream;
@@ -356,6 +359,12 @@ public final class ThingsSseRouteBuilder extends RouteDirectives implements SseR
         final List<ThingId> targetThingIds = getThingIds(parameters.get(ThingsParameter.IDS.toString()));
         @Nullable final ThingFieldSelector fields = getFieldSelector(parameters.get(PARAM_FIELDS));
         @Nullable final ThingFieldSelector extraFields = getFieldSelector(parameters.get(PARAM_EXTRA_FIELDS));
+        @Nullable final LatestValueConflation conflation = LatestValueConflation.isRequested(parameters)
+                ? LatestValueConflation.of(streamingConfig.getConflationMemoryBudget(), STREAMING_TYPE_SSE)
+                : null;
+        @Nullable final FrameBatching frameBatching = FrameBatching.isRequested(parameters)
+                ? FrameBatching.of(streamingConfig.getFrameBatchingConfig(), STREAMING_TYPE_SSE)
+                : null;
 
         try {
             @Nullable final Long fromHistoricalRevision = Optional.ofNullable(
@@ -422,7 +431,7 @@ public final class ThingsSseRouteBuilder extends RouteDirectives implements SseR
                         }
 
                         final Source<SessionedJsonifiable, SupervisedStream.WithQueue> publisherSource =
-                                SupervisedStream.sourceQueue(10);
+                                SupervisedStream.sourceQueue(10, conflation);
 
                         return publisherSource.viaMat(KillSwitches.single(), Keep.both())
                                 .mapMaterializedValue(pair -> {
@@ -460,6 +469,12 @@ public final class ThingsSseRouteBuilder extends RouteDirectives implements SseR
                     })
             ));
 
+            if (null != frameBatching) {
+                // write the events produced within the linger window as one chunk
+                return completeWithFuture(sseSourceStage.thenApply(source -> HttpResponse.create()
+                        .withEntity(HttpEntities.createChunked(MediaTypes.TEXT_EVENT_STREAM.toContentType(),
+                                source.via(frameBatching.sseChunks())))));
+            }
             return completeOKWithFuture(sseSourceStage, EventStreamMarshalling.toEventStream());
         } catch (final DateTimeParseException | NumberFormatException runtimeException) {
             return completeWithFuture(
@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.gateway.service.endpoints.routes.websocket;
+
+import java.io.IOException;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.apache.pekko.http.javadsl.model.ws.BinaryMessage;
+import org.apache.pekko.http.javadsl.model.ws.Message;
+import org.apache.pekko.http.javadsl.model.ws.WebSocketUpgrade;
+import org.apache.pekko.util.ByteString;
+import org.eclipse.ditto.base.model.exceptions.DittoJsonException;
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.internal.utils.json.CborFactoryLoader;
+import org.eclipse.ditto.json.CborFactory;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonParseException;
+import org.eclipse.ditto.json.JsonRuntimeException;
+import org.eclipse.ditto.json.JsonValue;
+
+import scala.util.Either;
+import scala.util.Left;
+import scala.util.Right;
+
+/**
+ * Encodes and decodes the messages of WebSocket connections which negotiated the {@value #SUBPROTOCOL} subprotocol.
+ * <p>
+ * Such connections exchange Ditto Protocol messages as CBOR encoded JSON objects in binary frames. The protocol
+ * messages controlling the session, e.g. {@code START-SEND-EVENTS}, are exchanged as CBOR encoded strings. Text frames
+ * sent by the client are still accepted.
+ * </p>
+ */
+@Immutable
+final class CborWebSocketMessages {
+
+    /**
+     * The WebSocket subprotocol a client requests via the {@code Sec-WebSocket-Protocol} header in order to exchange
+     * CBOR encoded messages.
+     */
+    static final String SUBPROTOCOL = "ditto-cbor";
+
+    private static final CborFactory CBOR_FACTORY = CborFactoryLoader.getInstance().getCborFactoryOrThrow();
+
+    private CborWebSocketMessages() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Indicates whether the client requested the {@value #SUBPROTOCOL} subprotocol.
+     *
+     * @param webSocketUpgrade the upgrade request of the client.
+     * @return {@code true} if the subprotocol was requested.
+     */
+    static boolean isRequested(final WebSocketUpgrade webSocketUpgrade) {
+        for (final String requestedProtocol : webSocketUpgrade.getRequestedProtocols()) {
+            if (SUBPROTOCOL.equals(requestedProtocol.trim())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Decodes the data of a binary frame.
+     *
+     * @param data the data of the binary frame.
+     * @param dittoHeaders the headers to use for the exception if decoding fails.
+     * @return either the decoded protocol message string or the decoded Ditto Protocol message.
+     * @throws DittoJsonException if the data is no valid CBOR or neither encodes a string nor a JSON object.
+     */
+    static Either<String, JsonObject> decode(final ByteString data, final DittoHeaders dittoHeaders) {
+        final JsonValue jsonValue;
+        try {
+            jsonValue = CBOR_FACTORY.readFrom(data.asByteBuffer());
+        } catch (final JsonRuntimeException | IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new DittoJsonException(e, dittoHeaders);
+        }
+        if (jsonValue.isString()) {
+            return Left.apply(jsonValue.asString());
+        } else if (jsonValue.isObject() && !jsonValue.isNull()) {
+            return Right.apply(jsonValue.asObject());
+        } else {
+            throw new DittoJsonException(JsonParseException.newBuilder()
+                    .message("The binary WebSocket message neither contains a CBOR encoded string nor a CBOR " +
+                            "encoded JSON object.")
+                    .build(), dittoHeaders);
+        }
+    }
+
+    /**
+     * Encodes an outgoing message as binary frame.
+     *
+     * @param message either a protocol message string or a Ditto Protocol message or, if the session batches frames,
+     * an array of Ditto Protocol messages.
+     * @return the binary frame.
+     * @throws IllegalStateException if the message could not be encoded.
+     */
+    static Message encode(final Either<String, ? extends JsonValue> message) {
+        final JsonValue jsonValue = message.isLeft() ? JsonValue.of(message.left().get()) : message.right().get();
+        try {
+            return BinaryMessage.create(ByteString.fromArrayUnsafe(CBOR_FACTORY.toByteArray(jsonValue)));
+        } catch (final IOException e) {
+            throw new IllegalStateException("Failed to encode WebSocket message as CBOR.", e);
+        }
+    }
+
+    /**
+     * Decodes the data of a binary frame into its JSON string representation, e.g. for logging or sniffing.
+     *
+     * @param data the data of the binary frame.
+     * @return the JSON string representation or a hexadecimal representation if the data is no valid CBOR.
+     */
+    static String toJsonString(final ByteString data) {
+        try {
+            return CBOR_FACTORY.readFrom(data.asByteBuffer()).toString();
+        } catch (final JsonRuntimeException | IllegalArgumentException | IndexOutOfBoundsException e) {
+            return data.toString();
+        }
+    }
+
+}
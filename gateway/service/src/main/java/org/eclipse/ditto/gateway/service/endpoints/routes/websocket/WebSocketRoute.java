@@ -16,6 +16,7 @@ import static org.eclipse.ditto.base.model.common.ConditionChecker.checkNotNull;
 import static org.eclipse.ditto.base.model.exceptions.DittoJsonException.wrapJsonRuntimeException;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
@@ -38,6 +39,7 @@ import org.apache.pekko.actor.ActorSystem;
 import org.apache.pekko.event.Logging;
 import org.apache.pekko.http.javadsl.model.HttpRequest;
 import org.apache.pekko.http.javadsl.model.HttpResponse;
+import org.apache.pekko.http.javadsl.model.ws.BinaryMessage;
 import org.apache.pekko.http.javadsl.model.ws.Message;
 import org.apache.pekko.http.javadsl.model.ws.TextMessage;
 import org.apache.pekko.http.javadsl.model.ws.WebSocketUpgrade;
@@ -62,6 +64,7 @@ import org.apache.pekko.stream.javadsl.GraphDSL;
 import org.apache.pekko.stream.javadsl.Merge;
 import org.apache.pekko.stream.javadsl.Sink;
 import org.apache.pekko.stream.javadsl.Source;
+import org.apache.pekko.util.ByteString;
 import org.eclipse.ditto.base.model.acks.AcknowledgementLabel;
 import org.eclipse.ditto.base.model.auth.AuthorizationContext;
 import org.eclipse.ditto.base.model.entity.id.EntityId;
@@ -87,6 +90,8 @@ import org.eclipse.ditto.gateway.service.endpoints.routes.AbstractRoute;
 import org.eclipse.ditto.gateway.service.endpoints.utils.GatewaySignalEnrichmentProvider;
 import org.eclipse.ditto.gateway.service.security.HttpHeader;
 import org.eclipse.ditto.gateway.service.streaming.StreamingAuthorizationEnforcer;
+import org.eclipse.ditto.gateway.service.streaming.actors.FrameBatching;
+import org.eclipse.ditto.gateway.service.streaming.actors.LatestValueConflation;
 import org.eclipse.ditto.gateway.service.streaming.actors.SessionedJsonifiable;
 import org.eclipse.ditto.gateway.service.streaming.actors.StreamingActor;
 import org.eclipse.ditto.gateway.service.streaming.actors.SupervisedStream;
@@ -110,6 +115,7 @@ import org.eclipse.ditto.internal.utils.tracing.span.SpanOperationName;
 import org.eclipse.ditto.internal.utils.tracing.span.SpanTagKey;
 import org.eclipse.ditto.internal.utils.tracing.span.StartedSpan;
 import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonArrayBuilder;
 import org.eclipse.ditto.json.JsonFactory;
 import org.eclipse.ditto.json.JsonField;
 import org.eclipse.ditto.json.JsonObject;
@@ -309,21 +315,27 @@ public final class WebSocketRoute implements WebSocketRouteBuilder {
         final AuthorizationContext authContext = dittoHeaders.getAuthorizationContext();
         final ThreadSafeDittoLogger logger = LOGGER.withMdcEntry(MDC_CONNECTION_CORRELATION_ID,
                 connectionCorrelationId);
-        logger.info("Creating WebSocket for connection authContext: <{}>", authContext);
+        final boolean cbor = CborWebSocketMessages.isRequested(upgradeToWebSocket);
+        logger.info("Creating WebSocket for connection authContext: <{}>, CBOR: <{}>", authContext, cbor);
 
         return signalEnrichmentFacadeStage.thenCompose(signalEnrichmentFacade -> retrieveWebsocketConfig()
                 .thenApply(overwriteWebSocketConfig(dittoHeaders))
                 .thenApply(websocketConfig -> {
                     final Pair<Connect, Flow<DittoRuntimeException, Message, NotUsed>> outgoing =
                             createOutgoing(version, connectionCorrelationId, authContext, dittoHeaders, adapter,
-                                    request, websocketConfig, signalEnrichmentFacade, logger);
+                                    request, websocketConfig, signalEnrichmentFacade, cbor, logger);
 
                     final Flow<Message, DittoRuntimeException, NotUsed> incoming =
                             createIncoming(version, connectionCorrelationId, authContext, dittoHeaders, adapter,
-                                    request, websocketConfig, outgoing.first(), logger);
+                                    request, websocketConfig, outgoing.first(), cbor, logger);
 
-                    return upgradeToWebSocket.handleMessagesWith(
-                            incoming.via(wsKillSwitch.flow()).via(outgoing.second()));
+                    final Flow<Message, Message, NotUsed> handler =
+                            incoming.via(wsKillSwitch.flow()).via(outgoing.second());
+                    if (cbor) {
+                        return upgradeToWebSocket.handleMessagesWith(handler, CborWebSocketMessages.SUBPROTOCOL);
+                    } else {
+                        return upgradeToWebSocket.handleMessagesWith(handler);
+                    }
                 }));
     }
 
@@ -338,7 +350,7 @@ public final class WebSocketRoute implements WebSocketRouteBuilder {
      *                  +
      *                  | strictify+sniffer
      *                  v
-     *                String
+     *   Either<String, ByteString> (text or CBOR)
      *                  +
      *                  |
      *                  v                   bad cast/bad signal
@@ -365,15 +377,17 @@ public final class WebSocketRoute implements WebSocketRouteBuilder {
             final HttpRequest request,
             final WebsocketConfig websocketConfig,
             final Connect connect,
+            final boolean cbor,
             final ThreadSafeDittoLogger logger) {
 
         return Flow.fromGraph(GraphDSL.create(builder -> {
 
-            final FlowShape<Message, String> strictify =
-                    builder.add(getStrictifyFlow(request, logger)
+            final FlowShape<Message, Either<String, ByteString>> strictify =
+                    builder.add(getStrictifyFlow(request, cbor, logger)
                             .via(AbstractRoute.throttleByConfig(websocketConfig.getThrottlingConfig())));
 
-            final FanOutShape2<String, Either<StreamControlMessage, Signal<?>>, DittoRuntimeException> select =
+            final FanOutShape2<Either<String, ByteString>, Either<StreamControlMessage, Signal<?>>,
+                    DittoRuntimeException> select =
                     builder.add(selectStreamControlOrSignal(version, connectionCorrelationId, connectionAuthContext,
                             dittoHeaders, adapter, logger));
 
@@ -427,23 +441,29 @@ public final class WebSocketRoute implements WebSocketRouteBuilder {
                 }));
     }
 
-    private Flow<Message, String, NotUsed> getStrictifyFlow(final HttpRequest request, final Logger logger) {
-        return Flow.<Message>create()
-                .via(Flow.fromFunction(msg -> {
-                    IN_COUNTER.increment();
-                    return msg;
-                }))
-                .filter(Message::isText)
-                .map(Message::asTextMessage)
-                .map(textMsg -> {
-                    if (textMsg.isStrict()) {
-                        return Source.single(textMsg.getStrictText());
-                    } else {
-                        return textMsg.getStreamedText();
-                    }
-                })
-                .flatMapConcat(textMsg -> textMsg.fold("", (str1, str2) -> str1 + str2))
-                .via(incomingMessageSniffer.toAsyncFlow(request))
+    private Flow<Message, Either<String, ByteString>, NotUsed> getStrictifyFlow(final HttpRequest request,
+            final boolean cbor,
+            final Logger logger) {
+
+        final Flow<Message, Message, NotUsed> countingFlow = Flow.fromFunction(msg -> {
+            IN_COUNTER.increment();
+            return msg;
+        });
+        final Flow<Message, Either<String, ByteString>, NotUsed> strictifyFlow;
+        if (cbor) {
+            strictifyFlow = countingFlow
+                    .flatMapConcat(WebSocketRoute::strictifyTextOrBinary)
+                    .via(wireTapSniffer(incomingMessageSniffer instanceof NoOpIncomingWebSocketEventSniffer,
+                            incomingMessageSniffer.toAsyncFlow(request),
+                            textOrBinary -> textOrBinary.fold(text -> text, CborWebSocketMessages::toJsonString)));
+        } else {
+            strictifyFlow = countingFlow
+                    .filter(Message::isText)
+                    .flatMapConcat(WebSocketRoute::strictifyText)
+                    .via(incomingMessageSniffer.toAsyncFlow(request))
+                    .map(Left::apply);
+        }
+        return strictifyFlow
                 .via(Flow.fromFunction(result -> {
                     logger.debug("Received incoming WebSocket message: {}", result);
                     return result;
@@ -452,8 +472,50 @@ public final class WebSocketRoute implements WebSocketRouteBuilder {
                         Logging.WarningLevel()));
     }
 
-    private Graph<FanOutShape2<String, Either<StreamControlMessage, Signal<?>>, DittoRuntimeException>, NotUsed>
-    selectStreamControlOrSignal(
+    private static Source<String, NotUsed> strictifyText(final Message message) {
+        final TextMessage textMsg = message.asTextMessage();
+        if (textMsg.isStrict()) {
+            return Source.single(textMsg.getStrictText());
+        } else {
+            return textMsg.getStreamedText()
+                    .fold("", (str1, str2) -> str1 + str2)
+                    .mapMaterializedValue(m -> NotUsed.getInstance());
+        }
+    }
+
+    private static Source<Either<String, ByteString>, NotUsed> strictifyTextOrBinary(final Message message) {
+        if (message.isText()) {
+            return strictifyText(message).map(Left::apply);
+        }
+        final BinaryMessage binaryMsg = message.asBinaryMessage();
+        final Source<ByteString, NotUsed> data;
+        if (binaryMsg.isStrict()) {
+            data = Source.single(binaryMsg.getStrictData());
+        } else {
+            data = binaryMsg.getStreamedData()
+                    .fold(ByteString.emptyByteString(), ByteString::concat)
+                    .mapMaterializedValue(m -> NotUsed.getInstance());
+        }
+        return data.map(Right::apply);
+    }
+
+    /**
+     * Attaches a sniffer to a flow of messages which are not exchanged as text. The sniffer only observes the JSON
+     * string representation of the messages which is only computed if the sniffer is no no-op.
+     */
+    private static <T> Flow<T, T, NotUsed> wireTapSniffer(final boolean noOpSniffer,
+            final Flow<String, String, NotUsed> snifferFlow,
+            final Function<T, String> toJsonString) {
+
+        if (noOpSniffer) {
+            return Flow.create();
+        } else {
+            return Flow.<T>create().wireTap(Flow.<T>create().map(toJsonString).via(snifferFlow).to(Sink.ignore()));
+        }
+    }
+
+    private Graph<FanOutShape2<Either<String, ByteString>, Either<StreamControlMessage, Signal<?>>,
+            DittoRuntimeException>, NotUsed> selectStreamControlOrSignal(
             final JsonSchemaVersion version,
             final CharSequence connectionCorrelationId,
             final AuthorizationContext connectionAuthContext,
@@ -464,10 +526,21 @@ public final class WebSocketRoute implements WebSocketRouteBuilder {
         final var protocolMsgExtractor = new ProtocolMessageExtractor(connectionAuthContext, connectionCorrelationId);
 
         return Filter.multiplexByEither(
-                cmdString -> {
+                textOrBinary -> {
+                    final Either<String, JsonObject> textOrJson;
+                    try {
+                        textOrJson = decodeIfBinary(textOrBinary, version, connectionAuthContext,
+                                connectionCorrelationId);
+                    } catch (final DittoRuntimeException dre) {
+                        logSignalBuildingFailure(logger.withCorrelationId(dre)::debug, dre, textOrBinary);
+                        return Left.apply(traceSignalBuildingFailure(dre));
+                    }
+                    final Object incomingMessage = textOrJson.isLeft() ? textOrJson.left().get() : textOrJson.right().get();
                     final Optional<StreamControlMessage> streamControlMessage;
                     try {
-                        streamControlMessage = protocolMsgExtractor.apply(cmdString);
+                        streamControlMessage = textOrJson.isLeft()
+                                ? protocolMsgExtractor.apply(textOrJson.left().get())
+                                : Optional.empty();
                     } catch (final DittoRuntimeException dre) {
                         return Left.apply(dre);
                     }
@@ -480,7 +553,7 @@ public final class WebSocketRoute implements WebSocketRouteBuilder {
                         try {
                             final var signal = buildSignal(connectionCorrelationId,
                                     initialInternalHeaders,
-                                    getJsonifiableAdaptableOrThrow(cmdString, initialInternalHeaders),
+                                    getJsonifiableAdaptableOrThrow(textOrJson, initialInternalHeaders),
                                     additionalHeaders,
                                     adapter,
                                     headerTranslator,
@@ -500,7 +573,7 @@ public final class WebSocketRoute implements WebSocketRouteBuilder {
                             );
                             startedSpan.finish();
                         } catch (final IllegalAdaptableException e) {
-                            logSignalBuildingFailure(logger.withCorrelationId(e)::info, e, cmdString);
+                            logSignalBuildingFailure(logger.withCorrelationId(e)::info, e, incomingMessage);
                             final var failure = e.setDittoHeaders(DittoHeaders.newBuilder(e.getDittoHeaders())
                                     .origin(connectionCorrelationId)
                                     .build());
@@ -513,10 +586,10 @@ public final class WebSocketRoute implements WebSocketRouteBuilder {
                         } catch (final DittoRuntimeException e) {
 
                             // This is a client error usually; log at level DEBUG without stack trace.
-                            logSignalBuildingFailure(logger.withCorrelationId(e)::debug, e, cmdString);
+                            logSignalBuildingFailure(logger.withCorrelationId(e)::debug, e, incomingMessage);
                             result = Left.apply(traceSignalBuildingFailure(e));
                         } catch (final Exception e) {
-                            logSignalBuildingFailure(logger::warn, e, cmdString);
+                            logSignalBuildingFailure(logger::warn, e, incomingMessage);
                             result = Left.apply(traceSignalBuildingFailure(GatewayInternalErrorException.newBuilder()
                                     .message(e.getMessage())
                                     .cause(e)
@@ -527,12 +600,25 @@ public final class WebSocketRoute implements WebSocketRouteBuilder {
                 });
     }
 
+    private static Either<String, JsonObject> decodeIfBinary(final Either<String, ByteString> textOrBinary,
+            final JsonSchemaVersion version,
+            final AuthorizationContext connectionAuthContext,
+            final CharSequence connectionCorrelationId) {
+
+        if (textOrBinary.isLeft()) {
+            return Left.apply(textOrBinary.left().get());
+        } else {
+            return CborWebSocketMessages.decode(textOrBinary.right().get(),
+                    getInitialInternalHeaders(version, connectionAuthContext, connectionCorrelationId));
+        }
+    }
+
     private static void logSignalBuildingFailure(final BiConsumer<String, Object[]> logStatement,
             final Exception failure,
-            final String signalJsonString) {
+            final Object signalJson) {
 
         logStatement.accept("Failed to build a Signal from <{}>; {}: {}", new Object[]{
-                signalJsonString,
+                signalJson,
                 failure.getClass().getSimpleName(),
                 failure.getMessage()
         });
@@ -548,6 +634,36 @@ public final class WebSocketRoute implements WebSocketRouteBuilder {
         }
     }
 
+    @SuppressWarnings("unchecked")
+    private static Either<String, JsonValue> asFrame(final Either<String, ? extends JsonValue> message) {
+        // Either is immutable and covariant
+        return (Either<String, JsonValue>) message;
+    }
+
+    /**
+     * Converts a batch of outgoing messages into frames: consecutive Ditto Protocol messages are sent as one JSON
+     * array, stream control messages keep their own frame.
+     */
+    private static List<Either<String, JsonValue>> toBatchedFrames(final List<Either<String, JsonObject>> batch) {
+        final List<Either<String, JsonValue>> frames = new ArrayList<>();
+        JsonArrayBuilder protocolMessages = JsonArray.newBuilder();
+        for (final Either<String, JsonObject> message : batch) {
+            if (message.isRight()) {
+                protocolMessages.add(message.right().get());
+            } else {
+                if (!protocolMessages.isEmpty()) {
+                    frames.add(Right.apply(protocolMessages.build()));
+                    protocolMessages = JsonArray.newBuilder();
+                }
+                frames.add(asFrame(message));
+            }
+        }
+        if (!protocolMessages.isEmpty()) {
+            frames.add(Right.apply(protocolMessages.build()));
+        }
+        return frames;
+    }
+
     private static StartedSpan startTraceSpan(final WithDittoHeaders withDittoHeaders, final SpanOperationName name) {
         final var preparedSpan = DittoTracing.newPreparedSpan(withDittoHeaders.getDittoHeaders(), name);
         return preparedSpan.start();
@@ -562,12 +678,17 @@ public final class WebSocketRoute implements WebSocketRouteBuilder {
             final HttpRequest request,
             final WebsocketConfig websocketConfig,
             @Nullable final SignalEnrichmentFacade signalEnrichmentFacade,
+            final boolean cbor,
             final ThreadSafeDittoLogger logger) {
 
         final Optional<JsonWebToken> optJsonWebToken = extractJwtFromRequestIfPresent(request);
 
+        @Nullable final LatestValueConflation conflation =
+                LatestValueConflation.isRequested(request.getUri().query().toMap())
+                        ? LatestValueConflation.of(streamingConfig.getConflationMemoryBudget(), STREAMING_TYPE_WS)
+                        : null;
         final Source<SessionedJsonifiable, SupervisedStream.WithQueue> publisherSource =
-                SupervisedStream.sourceQueue(websocketConfig.getPublisherBackpressureBufferSize());
+                SupervisedStream.sourceQueue(websocketConfig.getPublisherBackpressureBufferSize(), conflation);
 
         final Source<SessionedJsonifiable, Connect> sourceToPreMaterialize = publisherSource.mapMaterializedValue(
                         withQueue -> {
@@ -607,20 +728,43 @@ public final class WebSocketRoute implements WebSocketRouteBuilder {
                 Flow.fromFunction(SessionedJsonifiable::error);
 
         final int signalEnrichmentParallelism = streamingConfig.getParallelism();
-        final Flow<SessionedJsonifiable, Message, NotUsed> messageFlow =
+        final Flow<SessionedJsonifiable, Either<String, JsonObject>, NotUsed> postprocessFlow =
                 Flow.<SessionedJsonifiable>create()
                         .mapAsync(signalEnrichmentParallelism, postprocess(adapter, signalEnrichmentFacade, logger))
                         .mapConcat(x -> x)
                         .via(Flow.fromFunction(result -> {
                             logger.debug("Sending outgoing WebSocket message: {}", result);
                             return result;
-                        }))
-                        .via(outgoingMessageSniffer.toAsyncFlow(request))
-                        .<Message>map(TextMessage::create)
-                        .via(Flow.fromFunction(msg -> {
-                            OUT_COUNTER.increment();
-                            return msg;
                         }));
+        final Flow<SessionedJsonifiable, Either<String, JsonValue>, NotUsed> framesFlow;
+        if (FrameBatching.isRequested(request.getUri().query().toMap())) {
+            final FrameBatching frameBatching =
+                    FrameBatching.of(streamingConfig.getFrameBatchingConfig(), STREAMING_TYPE_WS);
+            framesFlow = postprocessFlow
+                    .via(frameBatching.batch(message -> message.fold(text -> (long) text.length(),
+                            JsonValue::getUpperBoundForStringSize)))
+                    .mapConcat(WebSocketRoute::toBatchedFrames);
+        } else {
+            framesFlow = postprocessFlow.map(WebSocketRoute::asFrame);
+        }
+        final Flow<SessionedJsonifiable, Message, NotUsed> encodingFlow;
+        if (cbor) {
+            encodingFlow = framesFlow
+                    .via(wireTapSniffer(outgoingMessageSniffer instanceof NoOpOutgoingWebSocketEventSniffer,
+                            outgoingMessageSniffer.toAsyncFlow(request),
+                            frame -> frame.fold(text -> text, JsonValue::toString)))
+                    .map(CborWebSocketMessages::encode);
+        } else {
+            encodingFlow = framesFlow
+                    .map(frame -> frame.fold(text -> text, JsonValue::toString))
+                    .via(outgoingMessageSniffer.toAsyncFlow(request))
+                    .map(TextMessage::create);
+        }
+        final Flow<SessionedJsonifiable, Message, NotUsed> messageFlow = encodingFlow
+                .via(Flow.fromFunction(msg -> {
+                    OUT_COUNTER.increment();
+                    return msg;
+                }));
 
         return Pair.create(connect, joinOutgoingFlows(eventAndResponseSource, errorFlow, messageFlow));
     }
@@ -689,9 +833,15 @@ public final class WebSocketRoute implements WebSocketRouteBuilder {
                 .build();
     }
 
-    private static JsonifiableAdaptable getJsonifiableAdaptableOrThrow(final String messageJsonString,
+    private static JsonifiableAdaptable getJsonifiableAdaptableOrThrow(final Either<String, JsonObject> textOrJson,
             final DittoHeaders initialInternalHeaders) {
 
+        if (textOrJson.isRight()) {
+            return wrapJsonRuntimeException(textOrJson.right().get(),
+                    DittoHeaders.empty(), // unused
+                    (jsonObject, unused) -> ProtocolFactory.jsonifiableAdaptableFromJson(jsonObject));
+        }
+        final String messageJsonString = textOrJson.left().get();
         if (messageJsonString.isEmpty()) {
             final RuntimeException cause = new IllegalArgumentException("Empty json.");
             throw new DittoJsonException(cause, initialInternalHeaders);
@@ -750,7 +900,7 @@ public final class WebSocketRoute implements WebSocketRouteBuilder {
         return dittoHeaders.isResponseRequired();
     }
 
-    private Function<SessionedJsonifiable, CompletionStage<Collection<String>>> postprocess(
+    private Function<SessionedJsonifiable, CompletionStage<Collection<Either<String, JsonObject>>>> postprocess(
             final ProtocolAdapter adapter, @Nullable final SignalEnrichmentFacade facade,
             final ThreadSafeDittoLogger logger) {
 
@@ -758,15 +908,15 @@ public final class WebSocketRoute implements WebSocketRouteBuilder {
             final Jsonifiable.WithPredicate<JsonObject, JsonField> jsonifiable = sessionedJsonifiable.getJsonifiable();
             if (jsonifiable instanceof StreamingAck) {
                 return CompletableFuture.completedFuture(
-                        Collections.singletonList(streamingAckToString((StreamingAck) jsonifiable))
+                        Collections.singletonList(Left.apply(streamingAckToString((StreamingAck) jsonifiable)))
                 );
             }
 
             final Adaptable adaptable = jsonifiableToAdaptable(jsonifiable, adapter);
             final CompletionStage<JsonObject> extraFuture = sessionedJsonifiable.retrieveExtraFields(facade);
-            return extraFuture.<Collection<String>>thenApply(extra -> {
+            return extraFuture.<Collection<Either<String, JsonObject>>>thenApply(extra -> {
                 if (matchesFilter(sessionedJsonifiable, extra)) {
-                    return Collections.singletonList(toJsonStringWithExtra(adaptable, extra));
+                    return Collections.singletonList(Right.apply(toJsonWithExtra(adaptable, extra)));
                 }
                 issuePotentialWeakAcknowledgements(sessionedJsonifiable);
                 sessionedJsonifiable.finishSpan();
@@ -804,7 +954,7 @@ public final class WebSocketRoute implements WebSocketRouteBuilder {
         return Acknowledgement.weak(label, entityId, dittoHeaders, payload);
     }
 
-    private static Collection<String> reportEnrichmentError(final Throwable error,
+    private static Collection<Either<String, JsonObject>> reportEnrichmentError(final Throwable error,
             final ProtocolAdapter adapter,
             final Adaptable adaptable,
             final ThreadSafeDittoLogger logger) {
@@ -823,12 +973,12 @@ public final class WebSocketRoute implements WebSocketRouteBuilder {
                         errorToReport,
                         adaptable.getDittoHeaders()
                 )));
-        return Collections.singletonList(errorAdaptable.toJsonString());
+        return Collections.singletonList(Right.apply(errorAdaptable.toJson()));
     }
 
-    private static String toJsonStringWithExtra(final Adaptable adaptable, final JsonObject extra) {
+    private static JsonObject toJsonWithExtra(final Adaptable adaptable, final JsonObject extra) {
         final Adaptable enrichedAdaptable = extra.isEmpty() ? adaptable : ProtocolFactory.setExtra(adaptable, extra);
-        return ProtocolFactory.wrapAsJsonifiableAdaptable(enrichedAdaptable).toJsonString();
+        return ProtocolFactory.wrapAsJsonifiableAdaptable(enrichedAdaptable).toJson();
     }
 
     /**
@@ -23,6 +23,7 @@ import org.eclipse.ditto.internal.models.signalenrichment.ByRoundTripSignalEnric
 import org.eclipse.ditto.internal.models.signalenrichment.DefaultSignalEnrichmentProviderConfig;
 import org.eclipse.ditto.internal.models.signalenrichment.DittoCachingSignalEnrichmentFacade;
 import org.eclipse.ditto.internal.models.signalenrichment.SignalEnrichmentFacade;
+import org.eclipse.ditto.policies.enforcement.PolicyEnforcerProviderExtension;
 
 import com.typesafe.config.Config;
 
@@ -53,7 +54,10 @@ public final class DefaultGatewaySignalEnrichmentProvider implements GatewaySign
                     delegate,
                     providerConfig.getCacheConfig(),
                     cacheLoaderExecutor,
-                    "gateway");
+                    "gateway",
+                    providerConfig.isCacheSelectorIndependent()
+                            ? PolicyEnforcerProviderExtension.get(actorSystem).getPolicyEnforcerProvider()
+                            : null);
         } else {
             facade = delegate;
         }
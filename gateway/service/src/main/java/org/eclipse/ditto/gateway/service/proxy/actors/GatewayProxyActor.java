@@ -12,6 +12,15 @@
  */
 package org.eclipse.ditto.gateway.service.proxy.actors;
 
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletionException;
+import java.util.stream.Collectors;
+
+import javax.annotation.Nullable;
+
 import org.eclipse.ditto.base.api.devops.signals.commands.DevOpsCommand;
 import org.eclipse.ditto.base.api.devops.signals.commands.RetrieveStatistics;
 import org.eclipse.ditto.base.api.devops.signals.commands.RetrieveStatisticsDetails;
@@ -22,11 +31,17 @@ import org.eclipse.ditto.base.model.signals.commands.Command;
 import org.eclipse.ditto.connectivity.model.signals.commands.query.RetrieveConnections;
 import org.eclipse.ditto.gateway.service.endpoints.actors.ConnectionsRetrievalActorPropsFactory;
 import org.eclipse.ditto.gateway.service.util.config.endpoints.HttpConfig;
+import org.eclipse.ditto.gateway.service.util.config.security.ThingReadCacheConfig;
 import org.eclipse.ditto.internal.utils.pekko.logging.DittoDiagnosticLoggingAdapter;
 import org.eclipse.ditto.internal.utils.pekko.logging.DittoLoggerFactory;
 import org.eclipse.ditto.internal.utils.config.ScopedConfig;
 import org.eclipse.ditto.internal.utils.pubsub.StreamingType;
+import org.eclipse.ditto.internal.utils.pubsub.extractors.ReadSubjectExtractor;
+import org.eclipse.ditto.internal.utils.pubsubthings.DittoProtocolSub;
 import org.eclipse.ditto.json.JsonRuntimeException;
+import org.eclipse.ditto.things.model.signals.commands.query.RetrieveThing;
+import org.eclipse.ditto.things.model.signals.commands.query.RetrieveThingResponse;
+import org.eclipse.ditto.things.model.signals.events.ThingEvent;
 import org.eclipse.ditto.thingsearch.model.signals.commands.query.QueryThings;
 
 import com.typesafe.config.Config;
@@ -41,9 +56,16 @@ import org.apache.pekko.actor.Status;
 import org.apache.pekko.actor.SupervisorStrategy;
 import org.apache.pekko.japi.pf.DeciderBuilder;
 import org.apache.pekko.japi.pf.ReceiveBuilder;
+import org.apache.pekko.pattern.Patterns;
 
 /**
  * A command proxy for the Ditto gateway.
+ * <p>
+ * If the thing read cache is enabled, responses to {@link RetrieveThing} commands are cached and served from the
+ * cache until a thing event with a greater revision is received for the thing.
+ * For receiving thing events, the proxy subscribes to the authorization subjects of the requesters whose responses
+ * were cached.
+ * </p>
  */
 public final class GatewayProxyActor extends AbstractActor {
 
@@ -60,10 +82,16 @@ public final class GatewayProxyActor extends AbstractActor {
     private final HttpConfig httpConfig;
     private final ActorRef statisticsActor;
     private final ConnectionsRetrievalActorPropsFactory connectionsRetrievalActorPropsFactory;
+    @Nullable private final ThingReadCache thingReadCache;
+    @Nullable private final DittoProtocolSub dittoProtocolSub;
+    private final int maxSubscribedTopics;
+    private final Set<String> subscribedTopics;
+    private final Set<String> pendingTopics;
 
     @SuppressWarnings("unused")
     private GatewayProxyActor(final ActorRef pubSubMediator, final ActorSelection devOpsCommandsActor,
-            final ActorRef edgeCommandForwarder, final HttpConfig httpConfig) {
+            final ActorRef edgeCommandForwarder, final HttpConfig httpConfig,
+            final ThingReadCacheConfig thingReadCacheConfig) {
         this.pubSubMediator = pubSubMediator;
         this.devOpsCommandsActor = devOpsCommandsActor;
         this.edgeCommandForwarder = edgeCommandForwarder;
@@ -74,6 +102,17 @@ public final class GatewayProxyActor extends AbstractActor {
                 ScopedConfig.dittoExtension(getContext().getSystem().settings().config());
         this.connectionsRetrievalActorPropsFactory =
                 ConnectionsRetrievalActorPropsFactory.get(getContext().getSystem(), dittoExtensionConfig);
+
+        if (thingReadCacheConfig.isEnabled()) {
+            thingReadCache = ThingReadCache.of(thingReadCacheConfig, getContext().getDispatcher());
+            dittoProtocolSub = DittoProtocolSub.get(getContext().getSystem());
+        } else {
+            thingReadCache = null;
+            dittoProtocolSub = null;
+        }
+        maxSubscribedTopics = thingReadCacheConfig.getMaxSubscribedTopics();
+        subscribedTopics = new HashSet<>();
+        pendingTopics = new HashSet<>();
     }
 
     /**
@@ -83,13 +122,15 @@ public final class GatewayProxyActor extends AbstractActor {
      * @param devOpsCommandsActor the Actor ref to the local DevOpsCommandsActor.
      * @param edgeCommandForwarder the Actor ref to the {@code EdgeCommandForwarderActor}.
      * @param httpConfig the http config.
+     * @param thingReadCacheConfig the config of the thing read cache.
      * @return the Pekko configuration Props object.
      */
     public static Props props(final ActorRef pubSubMediator, final ActorSelection devOpsCommandsActor,
-            final ActorRef edgeCommandForwarder, final HttpConfig httpConfig) {
+            final ActorRef edgeCommandForwarder, final HttpConfig httpConfig,
+            final ThingReadCacheConfig thingReadCacheConfig) {
 
         return Props.create(GatewayProxyActor.class, pubSubMediator, devOpsCommandsActor, edgeCommandForwarder,
-                httpConfig);
+                httpConfig, thingReadCacheConfig);
     }
 
     static boolean isLiveCommandOrEvent(final Signal<?> signal) {
@@ -144,6 +185,11 @@ public final class GatewayProxyActor extends AbstractActor {
                     );
                     connectionsRetrievalActor.tell(rc, getSender());
                 })
+                .match(RetrieveThing.class, this::isThingReadCacheApplicable, this::retrieveThingViaCache)
+                .match(CacheRetrieveThingResponse.class, this::cacheRetrieveThingResponse)
+                .match(TopicsSubscribed.class, this::topicsSubscribed)
+                .match(ThingEvent.class, this::isTwinEventToInvalidateCacheWith, this::invalidateCachedThing)
+
                 /* send all other Commands to command forwarder */
                 .match(Command.class, this::forwardToCommandForwarder)
 
@@ -166,4 +212,86 @@ public final class GatewayProxyActor extends AbstractActor {
         edgeCommandForwarder.forward(signal, getContext());
     }
 
+    private boolean isThingReadCacheApplicable(final RetrieveThing retrieveThing) {
+        return null != thingReadCache && ThingReadCache.isCacheable(retrieveThing);
+    }
+
+    private void retrieveThingViaCache(final RetrieveThing retrieveThing) {
+        final var cachedReply = thingReadCache.get(retrieveThing);
+        final ActorRef sender = getSender();
+        if (cachedReply.isPresent()) {
+            log.withCorrelationId(retrieveThing)
+                    .debug("Answering <{}> from thing read cache.", retrieveThing.getType());
+            sender.tell(cachedReply.get(), getSelf());
+        } else {
+            final ActorRef self = getSelf();
+            final Duration askTimeout =
+                    retrieveThing.getDittoHeaders().getTimeout().orElse(httpConfig.getRequestTimeout());
+            Patterns.ask(edgeCommandForwarder, retrieveThing, askTimeout).whenComplete((response, error) -> {
+                if (null != error) {
+                    final Throwable cause = error instanceof CompletionException ? error.getCause() : error;
+                    sender.tell(new Status.Failure(cause), self);
+                } else {
+                    sender.tell(response, self);
+                    if (response instanceof RetrieveThingResponse retrieveThingResponse) {
+                        self.tell(new CacheRetrieveThingResponse(retrieveThing, retrieveThingResponse),
+                                ActorRef.noSender());
+                    }
+                }
+            });
+        }
+    }
+
+    private void cacheRetrieveThingResponse(final CacheRetrieveThingResponse cacheRetrieveThingResponse) {
+        final RetrieveThing retrieveThing = cacheRetrieveThingResponse.retrieveThing();
+        final Set<String> topics = ReadSubjectExtractor.determineTopicsFor(List.of(),
+                retrieveThing.getDittoHeaders().getAuthorizationContext().getAuthorizationSubjects());
+        if (subscribedTopics.containsAll(topics)) {
+            thingReadCache.put(retrieveThing, cacheRetrieveThingResponse.response());
+        } else {
+            // the response is only cached after the events for its requester are subscribed:
+            subscribeForThingEvents(topics);
+        }
+    }
+
+    private void subscribeForThingEvents(final Set<String> topics) {
+        final Set<String> newTopics = topics.stream()
+                .filter(topic -> !subscribedTopics.contains(topic) && !pendingTopics.contains(topic))
+                .collect(Collectors.toSet());
+        if (!newTopics.isEmpty() &&
+                subscribedTopics.size() + pendingTopics.size() + newTopics.size() <= maxSubscribedTopics) {
+            pendingTopics.addAll(newTopics);
+            final ActorRef self = getSelf();
+            dittoProtocolSub.subscribe(Set.of(StreamingType.EVENTS), newTopics, self)
+                    .whenComplete((result, error) -> self.tell(new TopicsSubscribed(newTopics, null == error),
+                            ActorRef.noSender()));
+        }
+    }
+
+    private void topicsSubscribed(final TopicsSubscribed topicsSubscribed) {
+        pendingTopics.removeAll(topicsSubscribed.topics());
+        if (topicsSubscribed.success()) {
+            subscribedTopics.addAll(topicsSubscribed.topics());
+        } else {
+            log.warning("Subscribing for thing events of <{}> topics for the thing read cache failed.",
+                    topicsSubscribed.topics().size());
+        }
+    }
+
+    private boolean isTwinEventToInvalidateCacheWith(final ThingEvent<?> thingEvent) {
+        return null != thingReadCache && !isLiveCommandOrEvent(thingEvent);
+    }
+
+    private void invalidateCachedThing(final ThingEvent<?> thingEvent) {
+        if (thingReadCache.invalidate(thingEvent.getEntityId(), thingEvent.getRevision())) {
+            log.withCorrelationId(thingEvent)
+                    .debug("Invalidated cached responses of thing <{}> because of event <{}>.",
+                            thingEvent.getEntityId(), thingEvent.getType());
+        }
+    }
+
+    private record CacheRetrieveThingResponse(RetrieveThing retrieveThing, RetrieveThingResponse response) {}
+
+    private record TopicsSubscribed(Set<String> topics, boolean success) {}
+
 }
@@ -0,0 +1,239 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.gateway.service.proxy.actors;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+
+import javax.annotation.Nullable;
+
+import org.eclipse.ditto.base.model.auth.AuthorizationSubject;
+import org.eclipse.ditto.base.model.headers.DittoHeaderDefinition;
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.base.model.headers.entitytag.EntityTag;
+import org.eclipse.ditto.base.model.json.JsonSchemaVersion;
+import org.eclipse.ditto.base.model.signals.Signal;
+import org.eclipse.ditto.gateway.service.util.config.security.ThingReadCacheConfig;
+import org.eclipse.ditto.internal.utils.cache.Cache;
+import org.eclipse.ditto.internal.utils.cache.CacheFactory;
+import org.eclipse.ditto.internal.utils.headers.conditional.IfNoneMatchPreconditionHeader;
+import org.eclipse.ditto.internal.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.internal.utils.metrics.instruments.counter.Counter;
+import org.eclipse.ditto.internal.utils.metrics.instruments.histogram.Histogram;
+import org.eclipse.ditto.json.JsonFieldSelector;
+import org.eclipse.ditto.json.JsonKey;
+import org.eclipse.ditto.things.model.ThingId;
+import org.eclipse.ditto.things.model.signals.commands.exceptions.ThingPreconditionNotModifiedException;
+import org.eclipse.ditto.things.model.signals.commands.query.RetrieveThing;
+import org.eclipse.ditto.things.model.signals.commands.query.RetrieveThingResponse;
+
+/**
+ * Cache of enforced {@link RetrieveThingResponse}s keyed by thing ID.
+ * For each thing, the responses of the latest known revision are cached per field selector, authorization context and
+ * schema version of the requesting {@link RetrieveThing} command, up to a configured number of responses per thing.
+ * Hits and misses are counted per request, the age of the cached responses served from the cache is recorded as
+ * staleness histogram.
+ * <p>
+ * The highest event revision seen per thing is kept for as long as cached responses live, so that a response which
+ * arrives after an event of a newer revision is not cached.
+ * </p>
+ */
+final class ThingReadCache {
+
+    private static final String CACHE_NAME = "gateway_thing_read_cache";
+    private static final String STALENESS_HISTOGRAM_NAME = "gateway_thing_read_cache_staleness_ms";
+    private static final String REQUESTS_COUNTER_NAME = "gateway_thing_read_cache_requests";
+    private static final String REVISION_ETAG_PREFIX = "\"rev:";
+    private static final JsonKey POLICY_KEY = JsonKey.of("_policy");
+
+    private final Cache<ThingId, CachedThing> cache;
+    private final Cache<ThingId, Long> eventRevisions;
+    private final int maxResponsesPerThing;
+    private final Counter hits;
+    private final Counter misses;
+    private final Histogram staleness;
+
+    private ThingReadCache(final Cache<ThingId, CachedThing> cache, final Cache<ThingId, Long> eventRevisions,
+            final int maxResponsesPerThing) {
+
+        this.cache = cache;
+        this.eventRevisions = eventRevisions;
+        this.maxResponsesPerThing = maxResponsesPerThing;
+        hits = DittoMetrics.counter(REQUESTS_COUNTER_NAME).tag("result", "hit");
+        misses = DittoMetrics.counter(REQUESTS_COUNTER_NAME).tag("result", "miss");
+        staleness = DittoMetrics.histogram(STALENESS_HISTOGRAM_NAME);
+    }
+
+    /**
+     * Creates a new thing read cache.
+     *
+     * @param thingReadCacheConfig the config of the cache.
+     * @param executor the executor of the cache.
+     * @return the cache.
+     */
+    static ThingReadCache of(final ThingReadCacheConfig thingReadCacheConfig, final Executor executor) {
+        final var cacheConfig = thingReadCacheConfig.getCacheConfig();
+        return new ThingReadCache(CacheFactory.createCache(cacheConfig, CACHE_NAME, executor),
+                CacheFactory.createCache(cacheConfig, null, executor),
+                thingReadCacheConfig.getMaxResponsesPerThing());
+    }
+
+    /**
+     * Indicates whether the response to the passed command may be served from this cache.
+     * Live, conditional and historical retrievals as well as retrievals of the inlined policy, which may change without
+     * changing the thing's revision, are not cacheable.
+     *
+     * @param retrieveThing the command.
+     * @return whether the response to the command is cacheable.
+     */
+    static boolean isCacheable(final RetrieveThing retrieveThing) {
+        final DittoHeaders dittoHeaders = retrieveThing.getDittoHeaders();
+        return dittoHeaders.isResponseRequired() &&
+                !Signal.isChannelLive(retrieveThing) &&
+                !Signal.isChannelSmart(retrieveThing) &&
+                dittoHeaders.getCondition().isEmpty() &&
+                dittoHeaders.getIfMatch().isEmpty() &&
+                !dittoHeaders.containsKey(DittoHeaderDefinition.AT_HISTORICAL_REVISION.getKey()) &&
+                !dittoHeaders.containsKey(DittoHeaderDefinition.AT_HISTORICAL_TIMESTAMP.getKey()) &&
+                retrieveThing.getSelectedFields()
+                        .map(selectedFields -> selectedFields.getPointers()
+                                .stream()
+                                .noneMatch(pointer -> pointer.getRoot().filter(POLICY_KEY::equals).isPresent()))
+                        .orElse(true);
+    }
+
+    /**
+     * Looks up the response to the passed cacheable command.
+     * If the command's {@code if-none-match} header matches the ETag of the cached response, the result is a
+     * {@link ThingPreconditionNotModifiedException} just like the one the things service would respond with.
+     *
+     * @param retrieveThing the command.
+     * @return the response or exception to reply with, or an empty Optional on a cache miss.
+     */
+    Optional<Object> get(final RetrieveThing retrieveThing) {
+        final Optional<CachedResponse> cachedResponse = Optional.ofNullable(cache.asMap()
+                        .get(retrieveThing.getEntityId()))
+                .flatMap(cachedThing -> cachedThing.get(VariantKey.of(retrieveThing)));
+        if (cachedResponse.isPresent()) {
+            hits.increment();
+            staleness.record(Duration.between(cachedResponse.get().cachedAt(), Instant.now()).toMillis());
+            return cachedResponse.map(response -> toReply(retrieveThing, response));
+        } else {
+            misses.increment();
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Caches the response to the passed cacheable command if it is neither older than the already cached responses for
+     * the same thing nor older than the latest event of the thing, and if the maximum number of cached responses of the
+     * thing is not reached yet.
+     *
+     * @param retrieveThing the command.
+     * @param response the response to the command.
+     */
+    void put(final RetrieveThing retrieveThing, final RetrieveThingResponse response) {
+        final Optional<EntityTag> eTag = response.getDittoHeaders().getETag();
+        final long revision = eTag.map(ThingReadCache::parseRevision).orElse(-1L);
+        final ThingId thingId = retrieveThing.getEntityId();
+        if (revision < 0 || revision < getLatestEventRevision(thingId)) {
+            return;
+        }
+        final CachedResponse cachedResponse = new CachedResponse(
+                response.getEntityPlainString().orElseGet(() -> response.getEntity().toString()),
+                eTag.get(), Instant.now());
+        cache.asMap().compute(thingId, (key, cachedThing) -> {
+            final CachedThing result;
+            if (null == cachedThing || cachedThing.revision() < revision) {
+                result = new CachedThing(revision, new ConcurrentHashMap<>());
+            } else {
+                result = cachedThing;
+            }
+            if (result.revision() == revision && result.responses().size() < maxResponsesPerThing) {
+                result.responses().put(VariantKey.of(retrieveThing), cachedResponse);
+            }
+            return result;
+        });
+    }
+
+    /**
+     * Invalidates all cached responses of the passed thing older than the passed revision and rejects caching such
+     * responses afterwards.
+     *
+     * @param thingId the ID of the thing.
+     * @param revision the revision of an event of the thing.
+     * @return whether cached responses were invalidated.
+     */
+    boolean invalidate(final ThingId thingId, final long revision) {
+        eventRevisions.asMap().merge(thingId, revision, Math::max);
+        return cache.invalidateConditionally(thingId, cachedThing -> cachedThing.revision() < revision);
+    }
+
+    private long getLatestEventRevision(final ThingId thingId) {
+        final Long latestEventRevision = eventRevisions.asMap().get(thingId);
+        return null != latestEventRevision ? latestEventRevision : -1L;
+    }
+
+    private static Object toReply(final RetrieveThing retrieveThing, final CachedResponse cachedResponse) {
+        final DittoHeaders dittoHeaders = retrieveThing.getDittoHeaders();
+        final Optional<IfNoneMatchPreconditionHeader> ifNoneMatch =
+                IfNoneMatchPreconditionHeader.fromDittoHeaders(dittoHeaders);
+        if (ifNoneMatch.isPresent() && !ifNoneMatch.get().meetsConditionFor(cachedResponse.eTag())) {
+            return ThingPreconditionNotModifiedException
+                    .newBuilder(ifNoneMatch.get().getValue(), cachedResponse.eTag().toString())
+                    .dittoHeaders(dittoHeaders.toBuilder().eTag(cachedResponse.eTag()).build())
+                    .build();
+        }
+        return RetrieveThingResponse.of(retrieveThing.getEntityId(), cachedResponse.thingPlainJson(),
+                dittoHeaders.toBuilder().eTag(cachedResponse.eTag()).build());
+    }
+
+    private static long parseRevision(final EntityTag eTag) {
+        final String opaqueTag = eTag.getOpaqueTag();
+        if (eTag.isWeak() || !opaqueTag.startsWith(REVISION_ETAG_PREFIX)) {
+            return -1L;
+        }
+        try {
+            return Long.parseLong(opaqueTag.substring(REVISION_ETAG_PREFIX.length(), opaqueTag.length() - 1));
+        } catch (final NumberFormatException e) {
+            return -1L;
+        }
+    }
+
+    private record CachedThing(long revision, Map<VariantKey, CachedResponse> responses) {
+
+        Optional<CachedResponse> get(final VariantKey variantKey) {
+            return Optional.ofNullable(responses.get(variantKey));
+        }
+    }
+
+    private record CachedResponse(String thingPlainJson, EntityTag eTag, Instant cachedAt) {}
+
+    private record VariantKey(@Nullable JsonFieldSelector selectedFields,
+                              List<AuthorizationSubject> authorizationSubjects,
+                              JsonSchemaVersion schemaVersion) {
+
+        static VariantKey of(final RetrieveThing retrieveThing) {
+            final DittoHeaders dittoHeaders = retrieveThing.getDittoHeaders();
+            return new VariantKey(retrieveThing.getSelectedFields().orElse(null),
+                    dittoHeaders.getAuthorizationContext().getAuthorizationSubjects(),
+                    dittoHeaders.getSchemaVersion().orElse(JsonSchemaVersion.LATEST));
+        }
+    }
+
+}
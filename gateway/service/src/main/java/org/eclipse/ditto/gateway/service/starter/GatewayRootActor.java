@@ -64,6 +64,7 @@ import org.eclipse.ditto.gateway.service.util.config.health.HealthCheckConfig;
 import org.eclipse.ditto.gateway.service.util.config.security.AuthenticationConfig;
 import org.eclipse.ditto.gateway.service.util.config.security.DevOpsConfig;
 import org.eclipse.ditto.gateway.service.util.config.security.OAuthConfig;
+import org.eclipse.ditto.gateway.service.util.config.security.ThingReadCacheConfig;
 import org.eclipse.ditto.internal.utils.cache.config.CacheConfig;
 import org.eclipse.ditto.internal.utils.cluster.ClusterStatusSupplier;
 import org.eclipse.ditto.internal.utils.cluster.DistPubSubAccess;
@@ -110,7 +111,7 @@ public final class GatewayRootActor extends DittoRootActor {
         final var edgeCommandForwarder = startChildActor(EdgeCommandForwarderActor.ACTOR_NAME,
                 EdgeCommandForwarderActor.props(pubSubMediator, shardRegions));
         final var proxyActor = startGatewayProxyActor(actorSystem, pubSubMediator, edgeCommandForwarder,
-                httpConfig);
+                httpConfig, gatewayConfig.getCachesConfig().getThingReadCacheConfig());
 
         pubSubMediator.tell(DistPubSubAccess.put(getSelf()), getSelf());
 
@@ -293,12 +294,14 @@ public final class GatewayRootActor extends DittoRootActor {
     }
 
     private ActorRef startGatewayProxyActor(final ActorRefFactory actorSystem, final ActorRef pubSubMediator,
-            final ActorRef edgeCommandForwarder, final HttpConfig httpConfig) {
+            final ActorRef edgeCommandForwarder, final HttpConfig httpConfig,
+            final ThingReadCacheConfig thingReadCacheConfig) {
         final var devOpsCommandsActor =
                 actorSystem.actorSelection(DevOpsRoute.DEVOPS_COMMANDS_ACTOR_SELECTION);
 
         return startChildActor(GatewayProxyActor.ACTOR_NAME,
-                GatewayProxyActor.props(pubSubMediator, devOpsCommandsActor, edgeCommandForwarder, httpConfig));
+                GatewayProxyActor.props(pubSubMediator, devOpsCommandsActor, edgeCommandForwarder, httpConfig,
+                        thingReadCacheConfig));
     }
 
     private static DevopsAuthenticationDirectiveFactory getDevopsAuthenticationDirectiveFactory(
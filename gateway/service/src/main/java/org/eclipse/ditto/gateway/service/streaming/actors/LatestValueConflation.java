@@ -0,0 +1,228 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.gateway.service.streaming.actors;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javax.annotation.Nullable;
+
+import org.apache.pekko.stream.Attributes;
+import org.apache.pekko.stream.FlowShape;
+import org.apache.pekko.stream.Inlet;
+import org.apache.pekko.stream.Outlet;
+import org.apache.pekko.stream.stage.AbstractInHandler;
+import org.apache.pekko.stream.stage.AbstractOutHandler;
+import org.apache.pekko.stream.stage.GraphStage;
+import org.apache.pekko.stream.stage.GraphStageLogic;
+import org.eclipse.ditto.base.model.entity.id.EntityId;
+import org.eclipse.ditto.base.model.signals.Signal;
+import org.eclipse.ditto.internal.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.internal.utils.metrics.instruments.counter.Counter;
+import org.eclipse.ditto.internal.utils.metrics.instruments.histogram.Histogram;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.things.model.signals.events.ThingEvent;
+import org.eclipse.ditto.things.model.signals.events.ThingMerged;
+
+/**
+ * Stage of a streaming session which conflates pending twin events into the latest value while the client is behind.
+ * <p>
+ * The stage accepts elements as long as the estimated size of its pending elements stays within the memory budget.
+ * A twin event replaces a pending twin event of the same thing and resource path, so that a slow client receives the
+ * current state instead of all intermediate states. All other elements, e.g. responses, errors, live signals, merge
+ * events and events requesting acknowledgements, are never dropped. Elements are emitted in the order in which their
+ * latest value was received. When the memory budget is exhausted, the stage back-pressures.
+ * </p>
+ * <ul>
+ * <li>Emits when: downstream pulls and there is a pending element.</li>
+ * <li>Completes when: upstream completes and all pending elements are emitted.</li>
+ * <li>Cancels when: downstream cancels.</li>
+ * <li>Fails when: upstream fails.</li>
+ * <li>Back-pressures when: the memory budget is exhausted.</li>
+ * </ul>
+ *
+ * @since 3.8.0
+ */
+public final class LatestValueConflation extends GraphStage<FlowShape<SessionedJsonifiable, SessionedJsonifiable>> {
+
+    /**
+     * Query parameter of streaming requests selecting the delivery mode.
+     */
+    public static final String DELIVERY_MODE_PARAMETER = "delivery-mode";
+
+    /**
+     * Value of the delivery mode parameter requesting latest-value conflation.
+     */
+    public static final String DELIVERY_MODE_LATEST = "latest";
+
+    private static final String CONFLATED_SIGNALS_COUNTER_NAME = "gateway_streaming_conflated_signals";
+    private static final String LAG_HISTOGRAM_NAME = "gateway_streaming_session_lag_ms";
+
+    /**
+     * Estimated memory footprint of an element apart from its payload, e.g. its headers.
+     */
+    private static final long ELEMENT_OVERHEAD_BYTES = 512L;
+
+    private final FlowShape<SessionedJsonifiable, SessionedJsonifiable> shape =
+            FlowShape.of(Inlet.create("in"), Outlet.create("out"));
+
+    private final long memoryBudget;
+    private final Counter conflatedSignals;
+    private final Histogram lag;
+
+    private LatestValueConflation(final long memoryBudget, final String streamingType) {
+        this.memoryBudget = memoryBudget;
+        conflatedSignals = DittoMetrics.counter(CONFLATED_SIGNALS_COUNTER_NAME).tag("type", streamingType);
+        lag = DittoMetrics.histogram(LAG_HISTOGRAM_NAME).tag("type", streamingType);
+    }
+
+    /**
+     * Creates a latest-value conflation stage.
+     *
+     * @param memoryBudget the estimated number of bytes the pending elements of one session may occupy.
+     * @param streamingType the streaming type to tag the metrics with, e.g. "WS" or "SSE".
+     * @return the stage.
+     */
+    public static LatestValueConflation of(final long memoryBudget, final String streamingType) {
+        return new LatestValueConflation(memoryBudget, streamingType);
+    }
+
+    /**
+     * Checks whether the parameters of a streaming request select the latest-value delivery mode.
+     *
+     * @param parameters the query parameters of the request.
+     * @return whether latest-value conflation is requested.
+     */
+    public static boolean isRequested(final Map<String, String> parameters) {
+        return DELIVERY_MODE_LATEST.equals(parameters.get(DELIVERY_MODE_PARAMETER));
+    }
+
+    @Override
+    public FlowShape<SessionedJsonifiable, SessionedJsonifiable> shape() {
+        return shape;
+    }
+
+    @Override
+    public GraphStageLogic createLogic(final Attributes inheritedAttributes) {
+        return new Logic();
+    }
+
+    /**
+     * Returns the key under which an element replaces a pending element, or {@code null} if it must not be dropped.
+     */
+    @Nullable
+    static ConflationKey getConflationKey(final SessionedJsonifiable element) {
+        if (element.getJsonifiable() instanceof ThingEvent<?> event &&
+                !(event instanceof ThingMerged) &&
+                !Signal.isChannelLive(event) &&
+                event.getDittoHeaders().getAcknowledgementRequests().isEmpty()) {
+            return new ConflationKey(event.getEntityId(), event.getResourcePath());
+        }
+        return null;
+    }
+
+    private static long estimateSize(final SessionedJsonifiable element) {
+        if (element.getJsonifiable() instanceof ThingEvent<?> event) {
+            return ELEMENT_OVERHEAD_BYTES + event.getEntity().map(JsonValue::getUpperBoundForStringSize).orElse(0L);
+        }
+        return ELEMENT_OVERHEAD_BYTES;
+    }
+
+    record ConflationKey(EntityId entityId, JsonPointer resourcePath) {}
+
+    private record Pending(SessionedJsonifiable element, long size, long enqueuedAt) {}
+
+    private final class Logic extends GraphStageLogic {
+
+        private final Map<Object, Pending> pending = new LinkedHashMap<>();
+        private long pendingBytes = 0L;
+
+        private Logic() {
+            super(shape);
+
+            setHandler(shape.in(), new AbstractInHandler() {
+                @Override
+                public void onPush() {
+                    enqueue(grab(shape.in()));
+                    if (isAvailable(shape.out())) {
+                        emitOldest();
+                    }
+                    pullIfWithinBudget();
+                }
+
+                @Override
+                public void onUpstreamFinish() {
+                    if (pending.isEmpty()) {
+                        completeStage();
+                    }
+                }
+            });
+
+            setHandler(shape.out(), new AbstractOutHandler() {
+                @Override
+                public void onPull() {
+                    if (!pending.isEmpty()) {
+                        emitOldest();
+                    }
+                    if (isClosed(shape.in())) {
+                        if (pending.isEmpty()) {
+                            completeStage();
+                        }
+                    } else {
+                        pullIfWithinBudget();
+                    }
+                }
+            });
+        }
+
+        @Override
+        public void preStart() {
+            pull(shape.in());
+        }
+
+        private void enqueue(final SessionedJsonifiable element) {
+            @Nullable final ConflationKey key = getConflationKey(element);
+            final long size = estimateSize(element);
+            long enqueuedAt = System.nanoTime();
+            if (null != key) {
+                @Nullable final Pending replaced = pending.remove(key);
+                if (null != replaced) {
+                    pendingBytes -= replaced.size();
+                    enqueuedAt = replaced.enqueuedAt();
+                    replaced.element().finishSpan();
+                    conflatedSignals.increment();
+                }
+            }
+            pending.put(null != key ? key : new Object(), new Pending(element, size, enqueuedAt));
+            pendingBytes += size;
+        }
+
+        private void emitOldest() {
+            final Iterator<Pending> iterator = pending.values().iterator();
+            final Pending oldest = iterator.next();
+            iterator.remove();
+            pendingBytes -= oldest.size();
+            lag.record((System.nanoTime() - oldest.enqueuedAt()) / 1_000_000L);
+            push(shape.out(), oldest.element());
+        }
+
+        private void pullIfWithinBudget() {
+            if (pendingBytes < memoryBudget && !hasBeenPulled(shape.in()) && !isClosed(shape.in())) {
+                pull(shape.in());
+            }
+        }
+    }
+
+}
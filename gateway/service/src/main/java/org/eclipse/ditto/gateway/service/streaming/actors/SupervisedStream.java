@@ -14,6 +14,8 @@ package org.eclipse.ditto.gateway.service.streaming.actors;
 
 import java.util.function.Consumer;
 
+import javax.annotation.Nullable;
+
 import org.apache.pekko.event.Logging;
 import org.apache.pekko.stream.KillSwitch;
 import org.apache.pekko.stream.KillSwitches;
@@ -35,7 +37,24 @@ public interface SupervisedStream {
      * @return the source queue.
      */
     static Source<SessionedJsonifiable, WithQueue> sourceQueue(final int queueSize) {
-        return Source.<SessionedJsonifiable>queue(queueSize, OverflowStrategy.backpressure().withLogLevel(Logging.WarningLevel()))
+        return sourceQueue(queueSize, null);
+    }
+
+    /**
+     * Create a source queue that materializes an additional value for supervision and optionally conflates pending
+     * twin events into their latest value while the consumer is behind.
+     *
+     * @param queueSize size of the source queue.
+     * @param conflation the conflation stage or {@code null} to deliver all elements.
+     * @return the source queue.
+     * @since 3.8.0
+     */
+    static Source<SessionedJsonifiable, WithQueue> sourceQueue(final int queueSize,
+            @Nullable final LatestValueConflation conflation) {
+
+        final Source<SessionedJsonifiable, SourceQueueWithComplete<SessionedJsonifiable>> queue =
+                Source.queue(queueSize, OverflowStrategy.backpressure().withLogLevel(Logging.WarningLevel()));
+        return (null != conflation ? queue.via(conflation) : queue)
                 .viaMat(KillSwitches.single(), Keep.both())
                 .mapMaterializedValue(pair -> {
                     final SourceQueueWithComplete<SessionedJsonifiable> sourceQueue = pair.first();
@@ -29,4 +29,11 @@ public interface CachesConfig {
      */
     CacheConfig getPublicKeysConfig();
 
+    /**
+     * Returns the configuration settings of the cache of enforced {@code RetrieveThingResponse}s.
+     *
+     * @return the config.
+     */
+    ThingReadCacheConfig getThingReadCacheConfig();
+
 }
@@ -31,9 +31,12 @@ public final class DefaultCachesConfig implements CachesConfig {
     private static final String CONFIG_PATH = "cache";
 
     private final CacheConfig publicKeysConfig;
+    private final ThingReadCacheConfig thingReadCacheConfig;
 
-    private DefaultCachesConfig(final CacheConfig thePublicKeysConfig) {
+    private DefaultCachesConfig(final CacheConfig thePublicKeysConfig,
+            final ThingReadCacheConfig theThingReadCacheConfig) {
         publicKeysConfig = thePublicKeysConfig;
+        thingReadCacheConfig = theThingReadCacheConfig;
     }
 
     /**
@@ -46,7 +49,8 @@ public final class DefaultCachesConfig implements CachesConfig {
     public static DefaultCachesConfig of(final Config config) {
         final var cacheScopedConfig = DefaultScopedConfig.newInstance(config, CONFIG_PATH);
 
-        return new DefaultCachesConfig(DefaultCacheConfig.of(cacheScopedConfig, "publickeys"));
+        return new DefaultCachesConfig(DefaultCacheConfig.of(cacheScopedConfig, "publickeys"),
+                DefaultThingReadCacheConfig.of(cacheScopedConfig));
     }
 
     @Override
@@ -54,6 +58,11 @@ public final class DefaultCachesConfig implements CachesConfig {
         return publicKeysConfig;
     }
 
+    @Override
+    public ThingReadCacheConfig getThingReadCacheConfig() {
+        return thingReadCacheConfig;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
@@ -63,18 +72,20 @@ public final class DefaultCachesConfig implements CachesConfig {
             return false;
         }
         final DefaultCachesConfig that = (DefaultCachesConfig) o;
-        return Objects.equals(publicKeysConfig, that.publicKeysConfig);
+        return Objects.equals(publicKeysConfig, that.publicKeysConfig) &&
+                Objects.equals(thingReadCacheConfig, that.thingReadCacheConfig);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(publicKeysConfig);
+        return Objects.hash(publicKeysConfig, thingReadCacheConfig);
     }
 
     @Override
     public String toString() {
         return getClass().getSimpleName() + " [" +
                 "publicKeysConfig=" + publicKeysConfig +
+                ", thingReadCacheConfig=" + thingReadCacheConfig +
                 "]";
     }
 
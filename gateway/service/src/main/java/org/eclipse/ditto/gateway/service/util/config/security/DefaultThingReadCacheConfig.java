@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.gateway.service.util.config.security;
+
+import java.util.Objects;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.internal.utils.cache.config.CacheConfig;
+import org.eclipse.ditto.internal.utils.cache.config.DefaultCacheConfig;
+import org.eclipse.ditto.internal.utils.config.ConfigWithFallback;
+
+import com.typesafe.config.Config;
+
+/**
+ * This class is the default implementation of {@link ThingReadCacheConfig}.
+ */
+@Immutable
+public final class DefaultThingReadCacheConfig implements ThingReadCacheConfig {
+
+    private static final String CONFIG_PATH = "thing-read";
+
+    private final boolean enabled;
+    private final CacheConfig cacheConfig;
+    private final int maxSubscribedTopics;
+    private final int maxResponsesPerThing;
+
+    private DefaultThingReadCacheConfig(final ConfigWithFallback configWithFallback, final CacheConfig cacheConfig) {
+        enabled = configWithFallback.getBoolean(ThingReadCacheConfigValue.ENABLED.getConfigPath());
+        this.cacheConfig = cacheConfig;
+        maxSubscribedTopics =
+                configWithFallback.getPositiveIntOrThrow(ThingReadCacheConfigValue.MAX_SUBSCRIBED_TOPICS);
+        maxResponsesPerThing =
+                configWithFallback.getPositiveIntOrThrow(ThingReadCacheConfigValue.MAX_RESPONSES_PER_THING);
+    }
+
+    /**
+     * Returns an instance of {@code DefaultThingReadCacheConfig} based on the settings of the specified Config.
+     *
+     * @param config is supposed to provide the settings of the thing read cache config at {@value #CONFIG_PATH}.
+     * @return the instance.
+     * @throws org.eclipse.ditto.internal.utils.config.DittoConfigError if {@code config} is invalid.
+     */
+    public static DefaultThingReadCacheConfig of(final Config config) {
+        return new DefaultThingReadCacheConfig(
+                ConfigWithFallback.newInstance(config, CONFIG_PATH, ThingReadCacheConfigValue.values()),
+                DefaultCacheConfig.of(config, CONFIG_PATH));
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public CacheConfig getCacheConfig() {
+        return cacheConfig;
+    }
+
+    @Override
+    public int getMaxSubscribedTopics() {
+        return maxSubscribedTopics;
+    }
+
+    @Override
+    public int getMaxResponsesPerThing() {
+        return maxResponsesPerThing;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final DefaultThingReadCacheConfig that = (DefaultThingReadCacheConfig) o;
+        return enabled == that.enabled &&
+                maxSubscribedTopics == that.maxSubscribedTopics &&
+                maxResponsesPerThing == that.maxResponsesPerThing &&
+                Objects.equals(cacheConfig, that.cacheConfig);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(enabled, cacheConfig, maxSubscribedTopics, maxResponsesPerThing);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "enabled=" + enabled +
+                ", cacheConfig=" + cacheConfig +
+                ", maxSubscribedTopics=" + maxSubscribedTopics +
+                ", maxResponsesPerThing=" + maxResponsesPerThing +
+                "]";
+    }
+
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.gateway.service.util.config.security;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.internal.utils.cache.config.CacheConfig;
+import org.eclipse.ditto.internal.utils.config.KnownConfigValue;
+
+/**
+ * Provides configuration settings for the cache of enforced {@code RetrieveThingResponse}s in the Gateway service.
+ */
+@Immutable
+public interface ThingReadCacheConfig {
+
+    /**
+     * Indicates whether responses of {@code RetrieveThing} commands should be cached in the gateway.
+     *
+     * @return {@code true} if the thing read cache is enabled.
+     */
+    boolean isEnabled();
+
+    /**
+     * Returns the configuration settings of the cache itself.
+     * The expiry settings bound the time a cached response may be stale because of a policy change, as policy changes
+     * do not increase the revision of the things they apply to.
+     *
+     * @return the cache config.
+     */
+    CacheConfig getCacheConfig();
+
+    /**
+     * Returns the maximum number of authorization subject topics the gateway subscribes to for thing events in order to
+     * invalidate cached responses.
+     * Responses for requesters whose topics cannot be subscribed to any more are not cached.
+     *
+     * @return the maximum number of subscribed topics.
+     */
+    int getMaxSubscribedTopics();
+
+    /**
+     * Returns the maximum number of responses cached per thing, i.e. of distinct field selectors, authorization
+     * contexts and schema versions.
+     * Together with the maximum size of the cache, which counts things, it bounds the total number of cached responses.
+     *
+     * @return the maximum number of cached responses per thing.
+     */
+    int getMaxResponsesPerThing();
+
+    /**
+     * An enumeration of the known config path expressions and their associated default values for
+     * {@code ThingReadCacheConfig}.
+     */
+    enum ThingReadCacheConfigValue implements KnownConfigValue {
+
+        /**
+         * Determines whether the thing read cache is enabled.
+         */
+        ENABLED("enabled", false),
+
+        /**
+         * The maximum number of subscribed authorization subject topics.
+         */
+        MAX_SUBSCRIBED_TOPICS("max-subscribed-topics", 1000),
+
+        /**
+         * The maximum number of cached responses per thing.
+         */
+        MAX_RESPONSES_PER_THING("max-responses-per-thing", 10);
+
+        private final String path;
+        private final Object defaultValue;
+
+        ThingReadCacheConfigValue(final String thePath, final Object theDefaultValue) {
+            path = thePath;
+            defaultValue = theDefaultValue;
+        }
+
+        @Override
+        public Object getDefaultValue() {
+            return defaultValue;
+        }
+
+        @Override
+        public String getConfigPath() {
+            return path;
+        }
+
+    }
+
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.gateway.service.util.config.streaming;
+
+import java.time.Duration;
+import java.util.Objects;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.internal.utils.config.ConfigWithFallback;
+import org.eclipse.ditto.internal.utils.config.ScopedConfig;
+
+import com.typesafe.config.Config;
+
+/**
+ * This class is the default implementation of the frame batching config.
+ *
+ * @since 3.8.0
+ */
+@Immutable
+final class DefaultFrameBatchingConfig implements FrameBatchingConfig {
+
+    private final Duration linger;
+    private final int maxEvents;
+    private final long maxBytes;
+
+    private DefaultFrameBatchingConfig(final ScopedConfig scopedConfig) {
+        linger = scopedConfig.getNonNegativeAndNonZeroDurationOrThrow(FrameBatchingConfigValue.LINGER);
+        maxEvents = scopedConfig.getPositiveIntOrThrow(FrameBatchingConfigValue.MAX_EVENTS);
+        maxBytes = scopedConfig.getNonNegativeBytesOrThrow(FrameBatchingConfigValue.MAX_BYTES);
+    }
+
+    /**
+     * Returns an instance of {@code FrameBatchingConfig} based on the settings of the specified Config.
+     *
+     * @param config is supposed to provide the settings of the frame batching config at "frame-batching".
+     * @return the instance.
+     * @throws org.eclipse.ditto.internal.utils.config.DittoConfigError if {@code config} is invalid.
+     */
+    public static FrameBatchingConfig of(final Config config) {
+        return new DefaultFrameBatchingConfig(
+                ConfigWithFallback.newInstance(config, CONFIG_PATH, FrameBatchingConfigValue.values()));
+    }
+
+    @Override
+    public Duration getLinger() {
+        return linger;
+    }
+
+    @Override
+    public int getMaxEvents() {
+        return maxEvents;
+    }
+
+    @Override
+    public long getMaxBytes() {
+        return maxBytes;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final DefaultFrameBatchingConfig that = (DefaultFrameBatchingConfig) o;
+        return maxEvents == that.maxEvents &&
+                maxBytes == that.maxBytes &&
+                Objects.equals(linger, that.linger);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(linger, maxEvents, maxBytes);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "linger=" + linger +
+                ", maxEvents=" + maxEvents +
+                ", maxBytes=" + maxBytes +
+                "]";
+    }
+
+}
@@ -35,8 +35,10 @@ public final class DefaultStreamingConfig implements StreamingConfig {
     private final AcknowledgementConfig acknowledgementConfig;
     private final Duration searchIdleTimeout;
     private final Duration subscriptionRefreshDelay;
+    private final long conflationMemoryBudget;
     private final WebsocketConfig websocketConfig;
     private final SseConfig sseConfig;
+    private final FrameBatchingConfig frameBatchingConfig;
 
     private DefaultStreamingConfig(final ScopedConfig scopedConfig) {
         sessionCounterScrapeInterval =
@@ -47,8 +49,11 @@ public final class DefaultStreamingConfig implements StreamingConfig {
         searchIdleTimeout = scopedConfig.getNonNegativeDurationOrThrow(StreamingConfigValue.SEARCH_IDLE_TIMEOUT);
         subscriptionRefreshDelay =
                 scopedConfig.getNonNegativeDurationOrThrow(StreamingConfigValue.SUBSCRIPTION_REFRESH_DELAY);
+        conflationMemoryBudget =
+                scopedConfig.getNonNegativeBytesOrThrow(StreamingConfigValue.CONFLATION_MEMORY_BUDGET);
         websocketConfig = DefaultWebsocketConfig.of(scopedConfig);
         sseConfig = DefaultSseConfig.of(scopedConfig);
+        frameBatchingConfig = DefaultFrameBatchingConfig.of(scopedConfig);
     }
 
     /**
@@ -83,6 +88,11 @@ public final class DefaultStreamingConfig implements StreamingConfig {
         return sseConfig;
     }
 
+    @Override
+    public FrameBatchingConfig getFrameBatchingConfig() {
+        return frameBatchingConfig;
+    }
+
     @Override
     public int getParallelism() {
         return parallelism;
@@ -98,6 +108,11 @@ public final class DefaultStreamingConfig implements StreamingConfig {
         return subscriptionRefreshDelay;
     }
 
+    @Override
+    public long getConflationMemoryBudget() {
+        return conflationMemoryBudget;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
@@ -108,18 +123,20 @@ public final class DefaultStreamingConfig implements StreamingConfig {
         }
         final DefaultStreamingConfig that = (DefaultStreamingConfig) o;
         return parallelism == that.parallelism &&
+                conflationMemoryBudget == that.conflationMemoryBudget &&
                 Objects.equals(searchIdleTimeout, that.searchIdleTimeout) &&
                 Objects.equals(subscriptionRefreshDelay, that.subscriptionRefreshDelay) &&
                 Objects.equals(sessionCounterScrapeInterval, that.sessionCounterScrapeInterval) &&
                 Objects.equals(acknowledgementConfig, that.acknowledgementConfig) &&
                 Objects.equals(websocketConfig, that.websocketConfig) &&
-                Objects.equals(sseConfig, that.sseConfig);
+                Objects.equals(sseConfig, that.sseConfig) &&
+                Objects.equals(frameBatchingConfig, that.frameBatchingConfig);
     }
 
     @Override
     public int hashCode() {
         return Objects.hash(parallelism, sessionCounterScrapeInterval, acknowledgementConfig, websocketConfig,
-                sseConfig, searchIdleTimeout, subscriptionRefreshDelay);
+                sseConfig, frameBatchingConfig, searchIdleTimeout, subscriptionRefreshDelay, conflationMemoryBudget);
     }
 
     @Override
@@ -129,9 +146,11 @@ public final class DefaultStreamingConfig implements StreamingConfig {
                 ", parallelism=" + parallelism +
                 ", searchIdleTimeout=" + searchIdleTimeout +
                 ", subscriptionRefreshDelay=" + subscriptionRefreshDelay +
+                ", conflationMemoryBudget=" + conflationMemoryBudget +
                 ", acknowledgementConfig=" + acknowledgementConfig +
                 ", websocketConfig=" + websocketConfig +
                 ", sseConfig=" + sseConfig +
+                ", frameBatchingConfig=" + frameBatchingConfig +
                 "]";
     }
 }
@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.gateway.service.util.config.streaming;
+
+import java.time.Duration;
+
+import org.eclipse.ditto.internal.utils.config.KnownConfigValue;
+
+/**
+ * Provides configuration settings of batching outgoing events of WebSocket and SSE sessions into frames.
+ *
+ * @since 3.8.0
+ */
+public interface FrameBatchingConfig {
+
+    /**
+     * Config path relative to its parent.
+     */
+    String CONFIG_PATH = "frame-batching";
+
+    /**
+     * Returns how long to wait for further events before writing a frame.
+     *
+     * @return the linger duration.
+     */
+    Duration getLinger();
+
+    /**
+     * Returns the maximum number of events in one frame.
+     *
+     * @return the maximum number of events.
+     */
+    int getMaxEvents();
+
+    /**
+     * Returns the estimated maximum size of one frame in bytes.
+     *
+     * @return the maximum number of bytes.
+     */
+    long getMaxBytes();
+
+    /**
+     * An enumeration of the known config path expressions and their associated default values for
+     * {@code FrameBatchingConfig}.
+     */
+    enum FrameBatchingConfigValue implements KnownConfigValue {
+
+        /**
+         * How long to wait for further events before writing a frame.
+         */
+        LINGER("linger", Duration.ofMillis(10L)),
+
+        /**
+         * Maximum number of events in one frame.
+         */
+        MAX_EVENTS("max-events", 100),
+
+        /**
+         * Estimated maximum size of one frame in bytes.
+         */
+        MAX_BYTES("max-bytes", 65_536L);
+
+        private final String path;
+        private final Object defaultValue;
+
+        FrameBatchingConfigValue(final String thePath, final Object theDefaultValue) {
+            path = thePath;
+            defaultValue = theDefaultValue;
+        }
+
+        @Override
+        public Object getDefaultValue() {
+            return defaultValue;
+        }
+
+        @Override
+        public String getConfigPath() {
+            return path;
+        }
+
+    }
+
+}
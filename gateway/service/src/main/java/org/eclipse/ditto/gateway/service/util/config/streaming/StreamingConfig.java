@@ -61,6 +61,14 @@ public interface StreamingConfig {
      */
     SseConfig getSseConfig();
 
+    /**
+     * Returns the config of batching outgoing events into frames for sessions requesting it.
+     *
+     * @return the frame batching config.
+     * @since 3.8.0
+     */
+    FrameBatchingConfig getFrameBatchingConfig();
+
     /**
      * Returns maximum number of stream elements to process in parallel.
      *
@@ -82,6 +90,15 @@ public interface StreamingConfig {
      */
     Duration getSubscriptionRefreshDelay();
 
+    /**
+     * Returns the estimated number of bytes the pending signals of one streaming session may occupy when the session
+     * conflates twin events into their latest value.
+     *
+     * @return the memory budget in bytes.
+     * @since 3.8.0
+     */
+    long getConflationMemoryBudget();
+
     /**
      * Render this object into a Config object from which a copy of this object can be constructed.
      *
@@ -94,6 +111,7 @@ public interface StreamingConfig {
         map.put(StreamingConfigValue.PARALLELISM.getConfigPath(), getParallelism());
         map.put(StreamingConfigValue.SEARCH_IDLE_TIMEOUT.getConfigPath(), getSearchIdleTimeout());
         map.put(StreamingConfigValue.SUBSCRIPTION_REFRESH_DELAY.getConfigPath(), getSubscriptionRefreshDelay());
+        map.put(StreamingConfigValue.CONFLATION_MEMORY_BUDGET.getConfigPath(), getConflationMemoryBudget());
         return ConfigFactory.parseMap(map)
                 .withFallback(getWebsocketConfig().render())
                 .atKey(CONFIG_PATH);
@@ -123,7 +141,14 @@ public interface StreamingConfig {
         /**
          * Minimum delay before refreshing the Ditto pubsub subscriptions of a stream.
          */
-        SUBSCRIPTION_REFRESH_DELAY("subscription-refresh-delay", Duration.ofMinutes(5));
+        SUBSCRIPTION_REFRESH_DELAY("subscription-refresh-delay", Duration.ofMinutes(5)),
+
+        /**
+         * Estimated number of bytes the pending signals of one session conflating twin events may occupy.
+         *
+         * @since 3.8.0
+         */
+        CONFLATION_MEMORY_BUDGET("conflation-memory-budget", 1_048_576L);
 
         private final String path;
         private final Object defaultValue;
@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.gateway.service.endpoints.actors;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.pekko.util.ByteString;
+import org.apache.pekko.util.ByteStringBuilder;
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonArrayBuilder;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares building the body of an HTTP response from the serialized {@code String} of a JSON entity with streaming
+ * the entity as UTF-8 into the body.
+ * <p>
+ * The interesting figure is the allocated memory per operation, thus run the benchmark with the GC profiler
+ * ({@code -prof gc}) and compare {@code gc.alloc.rate.norm}.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class HttpResponseEntityBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 5;
+    private static final int MEASUREMENT_ITERATIONS = 10;
+    private static final int WARMUP_TIME = 1000;
+    private static final int MEASUREMENT_TIME = 1000;
+
+    /**
+     * The number of things contained in the search result.
+     */
+    @Param({"10", "200", "2000"})
+    public int things;
+
+    private JsonArray searchResult;
+
+    /**
+     * Builds a new search result. JSON objects cache their serialized representations, thus the entity has to be
+     * built for each invocation, just like the gateway receives a new one for each request.
+     */
+    @Setup(Level.Invocation)
+    public void setUp() {
+        final JsonArrayBuilder resultBuilder = JsonArray.newBuilder();
+        for (int i = 0; i < things; i++) {
+            final JsonObjectBuilder propertiesBuilder = JsonObject.newBuilder();
+            for (int j = 0; j < 20; j++) {
+                propertiesBuilder.set("property-" + j, JsonObject.newBuilder()
+                        .set("value", 21.5 + j)
+                        .set("unit", "°C")
+                        .set("timestamp", "2026-01-01T00:00:00.000Z")
+                        .build());
+            }
+            resultBuilder.add(JsonObject.newBuilder()
+                    .set("thingId", "org.eclipse.ditto:benchmark-thing-" + i)
+                    .set("policyId", "org.eclipse.ditto:benchmark-policy")
+                    .set("attributes", JsonObject.newBuilder()
+                            .set("location", "Kitchen \"north\"")
+                            .set("serial", i)
+                            .build())
+                    .set("features", JsonObject.newBuilder()
+                            .set("sensor", JsonObject.newBuilder()
+                                    .set("properties", propertiesBuilder.build())
+                                    .build())
+                            .build())
+                    .build());
+        }
+        searchResult = resultBuilder.build();
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public ByteString fromString() {
+        return ByteString.fromString(searchResult.toString());
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public ByteString streamed() throws IOException {
+        final ByteStringBuilder builder = ByteString.createBuilder();
+        searchResult.writeJsonTo(builder.asOutputStream());
+        return builder.result();
+    }
+
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.gateway.service.endpoints.routes.websocket;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.apache.pekko.http.javadsl.model.ws.Message;
+import org.apache.pekko.http.javadsl.model.ws.WebSocketUpgrade;
+import org.apache.pekko.util.ByteString;
+import org.eclipse.ditto.base.model.exceptions.DittoJsonException;
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.json.JsonObject;
+import org.junit.Test;
+
+import scala.util.Either;
+import scala.util.Left;
+import scala.util.Right;
+
+/**
+ * Unit test for {@link CborWebSocketMessages}.
+ */
+public final class CborWebSocketMessagesTest {
+
+    private static final JsonObject PROTOCOL_MESSAGE = JsonObject.of("{" +
+            "\"topic\": \"org.eclipse.ditto/thing/things/twin/events/modified\"," +
+            "\"headers\": {\"correlation-id\": \"cbor\"}," +
+            "\"path\": \"/features/lamp/properties/on\"," +
+            "\"value\": true," +
+            "\"revision\": 42" +
+            "}");
+
+    @Test
+    public void encodedProtocolMessageIsBinaryAndDecodesToSameJson() {
+        final Message message = CborWebSocketMessages.encode(Right.apply(PROTOCOL_MESSAGE));
+
+        assertThat(message.isText()).isFalse();
+        final ByteString data = message.asBinaryMessage().getStrictData();
+        assertThat(data.size()).isLessThan(PROTOCOL_MESSAGE.toString().length());
+        assertThat(CborWebSocketMessages.decode(data, DittoHeaders.empty()))
+                .isEqualTo(Right.apply(PROTOCOL_MESSAGE));
+        assertThat(CborWebSocketMessages.toJsonString(data)).isEqualTo(PROTOCOL_MESSAGE.toString());
+    }
+
+    @Test
+    public void encodedStreamControlMessageDecodesToSameString() {
+        final Either<String, JsonObject> startSendEvents = Left.apply("START-SEND-EVENTS?filter=exists(attributes)");
+        final Message message = CborWebSocketMessages.encode(startSendEvents);
+
+        assertThat(CborWebSocketMessages.decode(message.asBinaryMessage().getStrictData(), DittoHeaders.empty()))
+                .isEqualTo(startSendEvents);
+    }
+
+    @Test
+    public void decodingInvalidCborFails() {
+        final ByteString invalid = ByteString.fromArray(new byte[]{(byte) 0xbf, 0x61});
+
+        assertThatExceptionOfType(DittoJsonException.class)
+                .isThrownBy(() -> CborWebSocketMessages.decode(invalid, DittoHeaders.empty()));
+    }
+
+    @Test
+    public void decodingCborOfOtherJsonValueFails() {
+        final ByteString number = ByteString.fromArray(new byte[]{0x18, 0x2a});
+
+        assertThatExceptionOfType(DittoJsonException.class)
+                .isThrownBy(() -> CborWebSocketMessages.decode(number, DittoHeaders.empty()));
+    }
+
+    @Test
+    public void subprotocolIsRequestedIfContainedInRequestedProtocols() {
+        final WebSocketUpgrade cborUpgrade = mock(WebSocketUpgrade.class);
+        when(cborUpgrade.getRequestedProtocols()).thenReturn(List.of("other", CborWebSocketMessages.SUBPROTOCOL));
+        final WebSocketUpgrade textUpgrade = mock(WebSocketUpgrade.class);
+        when(textUpgrade.getRequestedProtocols()).thenReturn(List.of());
+
+        assertThat(CborWebSocketMessages.isRequested(cborUpgrade)).isTrue();
+        assertThat(CborWebSocketMessages.isRequested(textUpgrade)).isFalse();
+    }
+
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.gateway.service.endpoints.routes.websocket;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.pekko.http.javadsl.model.ws.Message;
+import org.apache.pekko.http.javadsl.model.ws.TextMessage;
+import org.apache.pekko.util.ByteString;
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.protocol.JsonifiableAdaptable;
+import org.eclipse.ditto.protocol.ProtocolFactory;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import scala.util.Right;
+
+/**
+ * Compares the WebSocket text encoding of Ditto Protocol messages with the binary encoding of the
+ * {@value CborWebSocketMessages#SUBPROTOCOL} subprotocol.
+ * <p>
+ * The benchmarks run single threaded, so the throughput corresponds to the messages per second a gateway core is able
+ * to encode or decode. The auxiliary counter {@code bytes} reports the bytes per second put on the wire; divided by
+ * the throughput it yields the size of a single message.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(1)
+public class WebSocketMessageEncodingBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 5;
+    private static final int MEASUREMENT_ITERATIONS = 10;
+    private static final int WARMUP_TIME = 1000;
+    private static final int MEASUREMENT_TIME = 1000;
+
+    /**
+     * The number of feature properties contained in the value of the twin event.
+     */
+    @Param({"1", "20", "200"})
+    public int properties;
+
+    private String textData;
+    private ByteString binaryData;
+
+    @Setup
+    public void setUp() {
+        final JsonObject protocolMessage = newProtocolMessage();
+        textData = protocolMessage.toString();
+        binaryData = CborWebSocketMessages.encode(Right.apply(protocolMessage)).asBinaryMessage().getStrictData();
+    }
+
+    /**
+     * Builds a new twin event message. JSON objects cache their serialized representations, thus the encoding
+     * benchmarks have to build the message each time, just like the gateway does for each outgoing signal.
+     */
+    private JsonObject newProtocolMessage() {
+        final JsonObjectBuilder valueBuilder = JsonObject.newBuilder();
+        for (int i = 0; i < properties; i++) {
+            valueBuilder.set("property-" + i, JsonObject.newBuilder()
+                    .set("value", 21.5 + i)
+                    .set("unit", "°C")
+                    .set("timestamp", "2026-01-01T00:00:00.000Z")
+                    .build());
+        }
+        return JsonObject.newBuilder()
+                .set("topic", "org.eclipse.ditto/benchmark-thing/things/twin/events/modified")
+                .set("headers", JsonObject.newBuilder()
+                        .set("correlation-id", "a6b8e0b0-5b5b-4a4e-9d5c-2f3b8e7d6c5a")
+                        .set("content-type", "application/json")
+                        .build())
+                .set("path", "/features/sensor/properties")
+                .set("value", valueBuilder.build())
+                .set("revision", 42)
+                .set("timestamp", "2026-01-01T00:00:00.000Z")
+                .build();
+    }
+
+    /**
+     * Counts the bytes put on the wire.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class WireBytes {
+
+        public long bytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            bytes = 0L;
+        }
+
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public Message encodeText(final WireBytes wireBytes) {
+        final String text = newProtocolMessage().toString();
+        final TextMessage message = TextMessage.create(text);
+        wireBytes.bytes += ByteString.fromString(text).size();
+        return message;
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public Message encodeCbor(final WireBytes wireBytes) {
+        final Message message = CborWebSocketMessages.encode(Right.apply(newProtocolMessage()));
+        wireBytes.bytes += message.asBinaryMessage().getStrictData().size();
+        return message;
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public JsonifiableAdaptable decodeText() {
+        return ProtocolFactory.jsonifiableAdaptableFromJson(JsonFactory.newObject(textData));
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public JsonifiableAdaptable decodeCbor() {
+        return ProtocolFactory.jsonifiableAdaptableFromJson(
+                CborWebSocketMessages.decode(binaryData, DittoHeaders.empty()).right().get());
+    }
+
+}
@@ -0,0 +1,202 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.gateway.service.proxy.actors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.stream.IntStream;
+
+import org.eclipse.ditto.base.model.auth.AuthorizationContext;
+import org.eclipse.ditto.base.model.auth.AuthorizationSubject;
+import org.eclipse.ditto.base.model.auth.DittoAuthorizationContextType;
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.base.model.headers.entitytag.EntityTag;
+import org.eclipse.ditto.base.model.headers.entitytag.EntityTagMatchers;
+import org.eclipse.ditto.gateway.service.util.config.security.DefaultThingReadCacheConfig;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.things.model.ThingId;
+import org.eclipse.ditto.things.model.signals.commands.exceptions.ThingPreconditionNotModifiedException;
+import org.eclipse.ditto.things.model.signals.commands.query.RetrieveThing;
+import org.eclipse.ditto.things.model.signals.commands.query.RetrieveThingResponse;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.typesafe.config.ConfigFactory;
+
+/**
+ * Unit test for {@link ThingReadCache}.
+ */
+public final class ThingReadCacheTest {
+
+    private static final ThingId THING_ID = ThingId.of("thing", "cached");
+    private static final JsonObject THING_JSON = JsonFactory.newObjectBuilder()
+            .set("thingId", THING_ID.toString())
+            .set("attributes", JsonFactory.newObjectBuilder().set("location", "kitchen").build())
+            .build();
+
+    private ThingReadCache underTest;
+
+    @Before
+    public void setUp() {
+        underTest = thingReadCache("max-responses-per-thing = 2");
+    }
+
+    @Test
+    public void servesCachedResponseWithETagAndHeadersOfRequest() {
+        underTest.put(retrieveThing("subject", "first"), response(42L));
+
+        final RetrieveThing secondRequest = retrieveThing("subject", "second");
+        assertThat(underTest.get(secondRequest)).hasValueSatisfying(reply -> {
+            assertThat(reply).isInstanceOf(RetrieveThingResponse.class);
+            final RetrieveThingResponse response = (RetrieveThingResponse) reply;
+            assertThat(response.getEntity()).isEqualTo(THING_JSON);
+            assertThat(response.getDittoHeaders().getCorrelationId()).contains("second");
+            assertThat(response.getDittoHeaders().getETag()).contains(eTag(42L));
+        });
+    }
+
+    @Test
+    public void doesNotServeResponsesCachedForOtherAuthorizationContexts() {
+        underTest.put(retrieveThing("subject", "first"), response(42L));
+
+        assertThat(underTest.get(retrieveThing("other-subject", "second"))).isEmpty();
+    }
+
+    @Test
+    public void answersNotModifiedIfNoneMatchHeaderMatchesCachedETag() {
+        underTest.put(retrieveThing("subject", "first"), response(42L));
+
+        final RetrieveThing conditionalRequest = RetrieveThing.of(THING_ID, headers("subject", "second").toBuilder()
+                .ifNoneMatch(EntityTagMatchers.fromStrings(eTag(42L).toString()))
+                .build());
+
+        assertThat(underTest.get(conditionalRequest))
+                .hasValueSatisfying(reply -> assertThat(reply).isInstanceOf(ThingPreconditionNotModifiedException.class));
+    }
+
+    @Test
+    public void invalidatesCachedResponsesOnlyForNewerRevisions() {
+        underTest.put(retrieveThing("subject", "first"), response(42L));
+
+        assertThat(underTest.invalidate(THING_ID, 42L)).isFalse();
+        assertThat(underTest.get(retrieveThing("subject", "second"))).isPresent();
+
+        assertThat(underTest.invalidate(THING_ID, 43L)).isTrue();
+        assertThat(underTest.get(retrieveThing("subject", "third"))).isEmpty();
+    }
+
+    @Test
+    public void doesNotCacheResponsesOlderThanAnEventProcessedBeforeThem() {
+        assertThat(underTest.invalidate(THING_ID, 43L)).isFalse();
+
+        underTest.put(retrieveThing("subject", "first"), response(42L));
+        assertThat(underTest.get(retrieveThing("subject", "second"))).isEmpty();
+
+        underTest.put(retrieveThing("subject", "third"), response(43L));
+        assertThat(underTest.get(retrieveThing("subject", "fourth"))).isPresent();
+    }
+
+    @Test
+    public void doesNotReplaceNewerResponsesWithOlderOnes() {
+        underTest.put(retrieveThing("subject", "first"), response(43L));
+        underTest.put(retrieveThing("subject", "second"), response(42L));
+
+        assertThat(underTest.get(retrieveThing("subject", "third"))).hasValueSatisfying(reply ->
+                assertThat(((RetrieveThingResponse) reply).getDittoHeaders().getETag()).contains(eTag(43L)));
+    }
+
+    @Test
+    public void liveAndHistoricalRetrievesAreNotCacheable() {
+        assertThat(ThingReadCache.isCacheable(retrieveThing("subject", "twin"))).isTrue();
+        assertThat(ThingReadCache.isCacheable(RetrieveThing.of(THING_ID,
+                headers("subject", "live").toBuilder().channel("live").build()))).isFalse();
+        assertThat(ThingReadCache.isCacheable(RetrieveThing.of(THING_ID,
+                headers("subject", "historical").toBuilder().putHeader("at-historical-revision", "1").build())))
+                .isFalse();
+        assertThat(ThingReadCache.isCacheable(RetrieveThing.getBuilder(THING_ID, headers("subject", "policy"))
+                .withSelectedFields(JsonFactory.newFieldSelector("_policy"))
+                .build())).isFalse();
+        assertThat(ThingReadCache.isCacheable(RetrieveThing.getBuilder(THING_ID, headers("subject", "policy"))
+                .withSelectedFields(JsonFactory.newFieldSelector("thingId", "_policy/entries"))
+                .build())).isFalse();
+        assertThat(ThingReadCache.isCacheable(RetrieveThing.getBuilder(THING_ID, headers("subject", "policyId"))
+                .withSelectedFields(JsonFactory.newFieldSelector("policyId", "attributes/_policy"))
+                .build())).isTrue();
+    }
+
+    @Test
+    public void cachesAtMostTheConfiguredNumberOfResponsesPerThing() {
+        underTest.put(retrieveThing("subject", "first"), response(42L));
+        underTest.put(retrieveThing("other-subject", "second"), response(42L));
+        underTest.put(retrieveThing("third-subject", "third"), response(42L));
+
+        assertThat(underTest.get(retrieveThing("subject", "fourth"))).isPresent();
+        assertThat(underTest.get(retrieveThing("other-subject", "fifth"))).isPresent();
+        assertThat(underTest.get(retrieveThing("third-subject", "sixth"))).isEmpty();
+    }
+
+    @Test
+    public void evictsThingsAboveTheMaximumSize() {
+        final ThingReadCache boundedCache = thingReadCache("maximum-size = 1");
+
+        IntStream.range(0, 10)
+                .forEach(i -> boundedCache.put(retrieveThing(thingId(i), "put-" + i), response(thingId(i), 1L)));
+
+        final long cachedThings = IntStream.range(0, 10)
+                .filter(i -> boundedCache.get(retrieveThing(thingId(i), "get-" + i)).isPresent())
+                .count();
+        assertThat(cachedThings).isLessThanOrEqualTo(1L);
+    }
+
+    private static ThingReadCache thingReadCache(final String thingReadCacheConfig) {
+        return ThingReadCache.of(DefaultThingReadCacheConfig.of(
+                ConfigFactory.parseString("thing-read { enabled = true, " + thingReadCacheConfig + " }")),
+                Runnable::run);
+    }
+
+    private static ThingId thingId(final int i) {
+        return ThingId.of("thing", "cached-" + i);
+    }
+
+    private static RetrieveThing retrieveThing(final ThingId thingId, final String correlationId) {
+        return RetrieveThing.of(thingId, headers("subject", correlationId));
+    }
+
+    private static RetrieveThingResponse response(final ThingId thingId, final long revision) {
+        return RetrieveThingResponse.of(thingId, THING_JSON,
+                headers("subject", "response").toBuilder().eTag(eTag(revision)).build());
+    }
+
+    private static RetrieveThing retrieveThing(final String subject, final String correlationId) {
+        return RetrieveThing.of(THING_ID, headers(subject, correlationId));
+    }
+
+    private static DittoHeaders headers(final String subject, final String correlationId) {
+        return DittoHeaders.newBuilder()
+                .correlationId(correlationId)
+                .authorizationContext(AuthorizationContext.newInstance(DittoAuthorizationContextType.UNSPECIFIED,
+                        AuthorizationSubject.newInstance("issuer:" + subject)))
+                .build();
+    }
+
+    private static RetrieveThingResponse response(final long revision) {
+        return RetrieveThingResponse.of(THING_ID, THING_JSON,
+                headers("subject", "response").toBuilder().eTag(eTag(revision)).build());
+    }
+
+    private static EntityTag eTag(final long revision) {
+        return EntityTag.strong("\"rev:" + revision + "\"");
+    }
+
+}
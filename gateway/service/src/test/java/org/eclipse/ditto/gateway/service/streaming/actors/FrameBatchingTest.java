@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.gateway.service.streaming.actors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.pekko.http.javadsl.model.sse.ServerSentEvent;
+import org.apache.pekko.stream.javadsl.Sink;
+import org.apache.pekko.stream.javadsl.Source;
+import org.apache.pekko.util.ByteString;
+import org.eclipse.ditto.gateway.service.util.config.streaming.DefaultStreamingConfig;
+import org.eclipse.ditto.gateway.service.util.config.streaming.FrameBatchingConfig;
+import org.eclipse.ditto.internal.utils.pekko.ActorSystemResource;
+import org.junit.Rule;
+import org.junit.Test;
+
+import com.typesafe.config.ConfigFactory;
+
+/**
+ * Tests {@link FrameBatching}.
+ */
+public final class FrameBatchingTest {
+
+    private static final FrameBatchingConfig CONFIG = DefaultStreamingConfig.of(ConfigFactory.parseString(
+            "streaming.frame-batching { linger = 100ms, max-events = 3, max-bytes = 10 }")).getFrameBatchingConfig();
+
+    private static final FrameBatchingConfig DEFAULT_CONFIG =
+            DefaultStreamingConfig.of(ConfigFactory.empty()).getFrameBatchingConfig();
+
+    @Rule
+    public final ActorSystemResource actorSystemResource = ActorSystemResource.newInstance(ConfigFactory.load("test"));
+
+    private final FrameBatching underTest = FrameBatching.of(CONFIG, "test");
+
+    @Test
+    public void batchIsBoundedByNumberOfEvents() throws Exception {
+        final List<List<String>> batches = Source.from(List.of("a", "b", "c", "d", "e"))
+                .via(underTest.batch(element -> 1L))
+                .runWith(Sink.seq(), actorSystemResource.getMaterializer())
+                .toCompletableFuture()
+                .get(10L, TimeUnit.SECONDS);
+
+        assertThat(batches).containsExactly(List.of("a", "b", "c"), List.of("d", "e"));
+    }
+
+    @Test
+    public void batchIsBoundedByBytes() throws Exception {
+        final List<List<String>> batches = Source.from(List.of("aaaa", "bbbb", "cccc", "dd"))
+                .via(underTest.batch(element -> (long) element.length()))
+                .runWith(Sink.seq(), actorSystemResource.getMaterializer())
+                .toCompletableFuture()
+                .get(10L, TimeUnit.SECONDS);
+
+        assertThat(batches).containsExactly(List.of("aaaa", "bbbb"), List.of("cccc", "dd"));
+    }
+
+    @Test
+    public void batchEndsAfterLinger() throws Exception {
+        final List<List<String>> batches = Source.from(List.of("a", "b"))
+                .concat(Source.single("c").initialDelay(Duration.ofSeconds(1L)))
+                .via(underTest.batch(element -> 1L))
+                .runWith(Sink.seq(), actorSystemResource.getMaterializer())
+                .toCompletableFuture()
+                .get(10L, TimeUnit.SECONDS);
+
+        assertThat(batches).containsExactly(List.of("a", "b"), List.of("c"));
+    }
+
+    @Test
+    public void sseChunksContainMultipleEvents() throws Exception {
+        final List<ByteString> chunks = Source.from(List.of(ServerSentEvent.create("1"), ServerSentEvent.create("2")))
+                .via(FrameBatching.of(DEFAULT_CONFIG, "test").sseChunks())
+                .runWith(Sink.seq(), actorSystemResource.getMaterializer())
+                .toCompletableFuture()
+                .get(10L, TimeUnit.SECONDS);
+
+        assertThat(chunks).containsExactly(ByteString.fromString("data:1\n\ndata:2\n\n"));
+    }
+
+    @Test
+    public void isRequestedByBatchingParameter() {
+        assertThat(FrameBatching.isRequested(Map.of("batching", "true"))).isTrue();
+        assertThat(FrameBatching.isRequested(Map.of("batching", "false"))).isFalse();
+        assertThat(FrameBatching.isRequested(Map.of())).isFalse();
+    }
+
+}
@@ -0,0 +1,186 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.gateway.service.streaming.actors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.pekko.actor.ActorRef;
+import org.apache.pekko.japi.Pair;
+import org.apache.pekko.stream.javadsl.Source;
+import org.apache.pekko.stream.testkit.TestPublisher;
+import org.apache.pekko.stream.testkit.TestSubscriber;
+import org.apache.pekko.stream.testkit.javadsl.TestSink;
+import org.apache.pekko.stream.testkit.javadsl.TestSource;
+import org.eclipse.ditto.base.model.acks.AcknowledgementRequest;
+import org.eclipse.ditto.base.model.acks.DittoAcknowledgementLabel;
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.base.model.signals.Signal;
+import org.eclipse.ditto.internal.utils.pekko.ActorSystemResource;
+import org.eclipse.ditto.internal.utils.pekko.logging.ThreadSafeDittoLoggingAdapter;
+import org.eclipse.ditto.internal.utils.pubsub.StreamingType;
+import org.eclipse.ditto.internal.utils.tracing.DittoTracingInitResource;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.things.model.ThingId;
+import org.eclipse.ditto.things.model.signals.events.AttributeModified;
+import org.eclipse.ditto.things.model.signals.events.ThingMerged;
+import org.junit.ClassRule;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import com.typesafe.config.ConfigFactory;
+
+/**
+ * Tests {@link LatestValueConflation}.
+ */
+public final class LatestValueConflationTest {
+
+    @ClassRule
+    public static final DittoTracingInitResource DITTO_TRACING_INIT_RESOURCE =
+            DittoTracingInitResource.disableDittoTracing();
+
+    private static final ThingId THING_ID = ThingId.of("org.eclipse.ditto:conflation");
+
+    @Rule
+    public final ActorSystemResource actorSystemResource = ActorSystemResource.newInstance(ConfigFactory.load("test"));
+
+    private final StreamingSession session = StreamingSession.of(List.of(), null, null, ActorRef.noSender(),
+            Mockito.mock(ThreadSafeDittoLoggingAdapter.class));
+
+    @Test
+    public void conflatesPendingTwinEventsIntoLatestValue() {
+        final var probes = materialize(Long.MAX_VALUE);
+        final SessionedJsonifiable a1 = attributeModified("a", 1, DittoHeaders.empty());
+        final SessionedJsonifiable b1 = attributeModified("b", 1, DittoHeaders.empty());
+        final SessionedJsonifiable a2 = attributeModified("a", 2, DittoHeaders.empty());
+        final SessionedJsonifiable merged = sessioned(ThingMerged.of(THING_ID, JsonPointer.of("attributes/a"),
+                JsonValue.of(3), 3L, null, DittoHeaders.empty(), null));
+        final SessionedJsonifiable ack = SessionedJsonifiable.ack(StreamingType.EVENTS, true, "correlation-id");
+        final SessionedJsonifiable a4 = attributeModified("a", 4, DittoHeaders.empty());
+
+        List.of(a1, b1, a2, merged, ack, a4).forEach(probes.first()::sendNext);
+        probes.second().request(10);
+
+        assertThat(receive(probes.second(), 4)).containsExactly(b1, merged, ack, a4);
+    }
+
+    @Test
+    public void doesNotConflateLiveEventsAndEventsRequestingAcknowledgements() {
+        final var probes = materialize(Long.MAX_VALUE);
+        final DittoHeaders liveHeaders = DittoHeaders.newBuilder().channel(Signal.CHANNEL_LIVE).build();
+        final DittoHeaders ackHeaders = DittoHeaders.newBuilder()
+                .acknowledgementRequest(AcknowledgementRequest.of(DittoAcknowledgementLabel.TWIN_PERSISTED))
+                .build();
+        final List<SessionedJsonifiable> elements = List.of(
+                attributeModified("a", 1, liveHeaders),
+                attributeModified("a", 2, liveHeaders),
+                attributeModified("a", 3, ackHeaders),
+                attributeModified("a", 4, ackHeaders));
+
+        elements.forEach(probes.first()::sendNext);
+        probes.second().request(10);
+
+        assertThat(receive(probes.second(), 4)).containsExactlyElementsOf(elements);
+    }
+
+    @Test
+    public void backPressuresWhenMemoryBudgetIsExhausted() {
+        final AtomicInteger pulled = new AtomicInteger();
+        final List<SessionedJsonifiable> elements = List.of(
+                attributeModified("a", 1, DittoHeaders.empty()),
+                attributeModified("b", 1, DittoHeaders.empty()),
+                attributeModified("c", 1, DittoHeaders.empty()));
+        final TestSubscriber.Probe<SessionedJsonifiable> subscriber = Source.from(elements)
+                .map(element -> {
+                    pulled.incrementAndGet();
+                    return element;
+                })
+                .via(LatestValueConflation.of(1L, "test"))
+                .runWith(TestSink.probe(actorSystemResource.getActorSystem()), actorSystemResource.getMaterializer());
+
+        subscriber.ensureSubscription();
+        subscriber.expectNoMessage(Duration.ofMillis(200L));
+        assertThat(pulled).hasValue(1);
+
+        subscriber.request(1);
+        assertThat(subscriber.expectNext()).isEqualTo(elements.get(0));
+        subscriber.expectNoMessage(Duration.ofMillis(200L));
+        assertThat(pulled).hasValue(2);
+
+        subscriber.request(2);
+        assertThat(subscriber.expectNext()).isEqualTo(elements.get(1));
+        assertThat(subscriber.expectNext()).isEqualTo(elements.get(2));
+        subscriber.expectComplete();
+    }
+
+    @Test
+    public void completesAfterPendingElementsAreEmitted() {
+        final var probes = materialize(Long.MAX_VALUE);
+        final SessionedJsonifiable a1 = attributeModified("a", 1, DittoHeaders.empty());
+        final SessionedJsonifiable b1 = attributeModified("b", 1, DittoHeaders.empty());
+
+        probes.first().sendNext(a1).sendNext(b1).sendComplete();
+        probes.second().request(1);
+        assertThat(probes.second().expectNext()).isEqualTo(a1);
+        probes.second().request(1);
+        assertThat(probes.second().expectNext()).isEqualTo(b1);
+        probes.second().expectComplete();
+    }
+
+    @Test
+    public void isRequestedByDeliveryModeParameter() {
+        assertThat(LatestValueConflation.isRequested(Map.of("delivery-mode", "latest"))).isTrue();
+        assertThat(LatestValueConflation.isRequested(Map.of("delivery-mode", "all"))).isFalse();
+        assertThat(LatestValueConflation.isRequested(Map.of())).isFalse();
+    }
+
+    private Pair<TestPublisher.Probe<SessionedJsonifiable>, TestSubscriber.Probe<SessionedJsonifiable>> materialize(
+            final long memoryBudget) {
+
+        return TestSource.<SessionedJsonifiable>probe(actorSystemResource.getActorSystem())
+                .via(LatestValueConflation.of(memoryBudget, "test"))
+                .toMat(TestSink.probe(actorSystemResource.getActorSystem()),
+                        (publisher, subscriber) -> Pair.create(publisher, subscriber))
+                .run(actorSystemResource.getMaterializer());
+    }
+
+    private SessionedJsonifiable attributeModified(final String attribute, final int value,
+            final DittoHeaders dittoHeaders) {
+
+        return sessioned(AttributeModified.of(THING_ID, JsonPointer.of(attribute), JsonValue.of(value), value, null,
+                dittoHeaders, null));
+    }
+
+    private SessionedJsonifiable sessioned(final Signal<?> signal) {
+        return SessionedJsonifiable.signal(signal, DittoHeaders.empty(), session);
+    }
+
+    private static List<SessionedJsonifiable> receive(final TestSubscriber.Probe<SessionedJsonifiable> probe,
+            final int count) {
+
+        final List<SessionedJsonifiable> received = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            received.add(probe.expectNext());
+        }
+        probe.expectNoMessage(Duration.ofMillis(200L));
+        return received;
+    }
+
+}
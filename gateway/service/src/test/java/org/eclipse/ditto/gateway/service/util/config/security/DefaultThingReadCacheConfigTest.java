@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.gateway.service.util.config.security;
+
+import java.time.Duration;
+
+import org.assertj.core.api.JUnitSoftAssertions;
+import org.eclipse.ditto.internal.utils.cache.config.CacheConfig;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+
+/**
+ * Unit test for {@link DefaultThingReadCacheConfig}.
+ */
+public final class DefaultThingReadCacheConfigTest {
+
+    @Rule
+    public final JUnitSoftAssertions softly = new JUnitSoftAssertions();
+
+    private static Config thingReadCacheTestConf;
+
+    @BeforeClass
+    public static void initTestFixture() {
+        thingReadCacheTestConf = ConfigFactory.load("thing-read-cache-test");
+    }
+
+    @Test
+    public void testHashCodeAndEquals() {
+        EqualsVerifier.forClass(DefaultThingReadCacheConfig.class)
+                .usingGetClass()
+                .verify();
+    }
+
+    @Test
+    public void underTestReturnsDefaultValuesIfBaseConfigWasEmpty() {
+        final DefaultThingReadCacheConfig underTest = DefaultThingReadCacheConfig.of(ConfigFactory.empty());
+
+        softly.assertThat(underTest.isEnabled())
+                .as(ThingReadCacheConfig.ThingReadCacheConfigValue.ENABLED.getConfigPath())
+                .isEqualTo(ThingReadCacheConfig.ThingReadCacheConfigValue.ENABLED.getDefaultValue());
+        softly.assertThat(underTest.getMaxSubscribedTopics())
+                .as(ThingReadCacheConfig.ThingReadCacheConfigValue.MAX_SUBSCRIBED_TOPICS.getConfigPath())
+                .isEqualTo(ThingReadCacheConfig.ThingReadCacheConfigValue.MAX_SUBSCRIBED_TOPICS.getDefaultValue());
+        softly.assertThat(underTest.getMaxResponsesPerThing())
+                .as(ThingReadCacheConfig.ThingReadCacheConfigValue.MAX_RESPONSES_PER_THING.getConfigPath())
+                .isEqualTo(ThingReadCacheConfig.ThingReadCacheConfigValue.MAX_RESPONSES_PER_THING.getDefaultValue());
+        softly.assertThat(underTest.getCacheConfig().getMaximumSize())
+                .as(CacheConfig.CacheConfigValue.MAXIMUM_SIZE.getConfigPath())
+                .isEqualTo(CacheConfig.CacheConfigValue.MAXIMUM_SIZE.getDefaultValue());
+    }
+
+    @Test
+    public void underTestReturnsValuesOfConfigFile() {
+        final DefaultThingReadCacheConfig underTest = DefaultThingReadCacheConfig.of(thingReadCacheTestConf);
+
+        softly.assertThat(underTest.isEnabled())
+                .as(ThingReadCacheConfig.ThingReadCacheConfigValue.ENABLED.getConfigPath())
+                .isTrue();
+        softly.assertThat(underTest.getMaxSubscribedTopics())
+                .as(ThingReadCacheConfig.ThingReadCacheConfigValue.MAX_SUBSCRIBED_TOPICS.getConfigPath())
+                .isEqualTo(7);
+        softly.assertThat(underTest.getMaxResponsesPerThing())
+                .as(ThingReadCacheConfig.ThingReadCacheConfigValue.MAX_RESPONSES_PER_THING.getConfigPath())
+                .isEqualTo(3);
+        softly.assertThat(underTest.getCacheConfig().getMaximumSize())
+                .as(CacheConfig.CacheConfigValue.MAXIMUM_SIZE.getConfigPath())
+                .isEqualTo(42L);
+        softly.assertThat(underTest.getCacheConfig().getExpireAfterWrite())
+                .as(CacheConfig.CacheConfigValue.EXPIRE_AFTER_WRITE.getConfigPath())
+                .isEqualTo(Duration.ofSeconds(30L));
+    }
+
+}
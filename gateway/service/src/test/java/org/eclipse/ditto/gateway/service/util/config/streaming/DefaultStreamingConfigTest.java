@@ -62,6 +62,18 @@ public final class DefaultStreamingConfigTest {
         softly.assertThat(underTest.getSubscriptionRefreshDelay())
                 .as(StreamingConfig.StreamingConfigValue.SUBSCRIPTION_REFRESH_DELAY.getConfigPath())
                 .isEqualTo(StreamingConfig.StreamingConfigValue.SUBSCRIPTION_REFRESH_DELAY.getDefaultValue());
+        softly.assertThat(underTest.getConflationMemoryBudget())
+                .as(StreamingConfig.StreamingConfigValue.CONFLATION_MEMORY_BUDGET.getConfigPath())
+                .isEqualTo(StreamingConfig.StreamingConfigValue.CONFLATION_MEMORY_BUDGET.getDefaultValue());
+        softly.assertThat(underTest.getFrameBatchingConfig().getLinger())
+                .as(FrameBatchingConfig.FrameBatchingConfigValue.LINGER.getConfigPath())
+                .isEqualTo(FrameBatchingConfig.FrameBatchingConfigValue.LINGER.getDefaultValue());
+        softly.assertThat(underTest.getFrameBatchingConfig().getMaxEvents())
+                .as(FrameBatchingConfig.FrameBatchingConfigValue.MAX_EVENTS.getConfigPath())
+                .isEqualTo(FrameBatchingConfig.FrameBatchingConfigValue.MAX_EVENTS.getDefaultValue());
+        softly.assertThat(underTest.getFrameBatchingConfig().getMaxBytes())
+                .as(FrameBatchingConfig.FrameBatchingConfigValue.MAX_BYTES.getConfigPath())
+                .isEqualTo(FrameBatchingConfig.FrameBatchingConfigValue.MAX_BYTES.getDefaultValue());
     }
 
     @Test
@@ -80,6 +92,18 @@ public final class DefaultStreamingConfigTest {
         softly.assertThat(underTest.getSubscriptionRefreshDelay())
                 .as(StreamingConfig.StreamingConfigValue.SUBSCRIPTION_REFRESH_DELAY.getConfigPath())
                 .isEqualTo(Duration.ofHours(8));
+        softly.assertThat(underTest.getConflationMemoryBudget())
+                .as(StreamingConfig.StreamingConfigValue.CONFLATION_MEMORY_BUDGET.getConfigPath())
+                .isEqualTo(64L * 1024L);
+        softly.assertThat(underTest.getFrameBatchingConfig().getLinger())
+                .as("frame-batching.linger")
+                .isEqualTo(Duration.ofMillis(50L));
+        softly.assertThat(underTest.getFrameBatchingConfig().getMaxEvents())
+                .as("frame-batching.max-events")
+                .isEqualTo(17);
+        softly.assertThat(underTest.getFrameBatchingConfig().getMaxBytes())
+                .as("frame-batching.max-bytes")
+                .isEqualTo(8L * 1024L);
         softly.assertThat(underTest.getWebsocketConfig().getThrottlingConfig().getInterval())
                 .as("websocket.throttling.interval")
                 .isEqualTo(Duration.ofSeconds(8L));
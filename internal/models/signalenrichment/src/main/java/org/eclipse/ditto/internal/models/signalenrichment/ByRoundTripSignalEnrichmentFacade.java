@@ -33,12 +33,15 @@ import org.eclipse.ditto.internal.utils.tracing.DittoTracing;
 import org.eclipse.ditto.internal.utils.tracing.span.SpanOperationName;
 import org.eclipse.ditto.json.JsonFieldSelector;
 import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.things.api.commands.sudo.SudoRetrieveThing;
+import org.eclipse.ditto.things.api.commands.sudo.SudoRetrieveThingResponse;
 import org.eclipse.ditto.things.model.ThingId;
 import org.eclipse.ditto.things.model.signals.commands.query.RetrieveThing;
 import org.eclipse.ditto.things.model.signals.commands.query.RetrieveThingResponse;
 
 /**
  * Retrieve fixed parts of things by asking an actor.
+ * Things are retrieved without enforcing their policies if the passed headers are sudo headers.
  */
 public final class ByRoundTripSignalEnrichmentFacade implements SignalEnrichmentFacade {
 
@@ -89,14 +92,21 @@ public final class ByRoundTripSignalEnrichmentFacade implements SignalEnrichment
             startedSpan.tag("fields", jsonFieldSelector.toString());
         }
 
-        final RetrieveThing command =
-                RetrieveThing.getBuilder(thingId, DittoHeaders.of(startedSpan.propagateContext(
-                                dittoHeadersBuilder
-                                        .removeHeader(DittoHeaderDefinition.W3C_TRACEPARENT.getKey())
-                                        .build()
-                        )))
-                        .withSelectedFields(jsonFieldSelector)
-                        .build();
+        final DittoHeaders commandHeaders = DittoHeaders.of(startedSpan.propagateContext(
+                dittoHeadersBuilder
+                        .removeHeader(DittoHeaderDefinition.W3C_TRACEPARENT.getKey())
+                        .build()
+        ));
+        final Object command;
+        if (dittoHeaders.isSudo()) {
+            command = null != jsonFieldSelector
+                    ? SudoRetrieveThing.of(thingId, jsonFieldSelector, commandHeaders)
+                    : SudoRetrieveThing.of(thingId, commandHeaders);
+        } else {
+            command = RetrieveThing.getBuilder(thingId, commandHeaders)
+                    .withSelectedFields(jsonFieldSelector)
+                    .build();
+        }
 
         final CompletionStage<Object> askResult = Patterns.ask(commandHandler, command, askTimeout);
 
@@ -109,6 +119,8 @@ public final class ByRoundTripSignalEnrichmentFacade implements SignalEnrichment
                     .getSchemaVersion()
                     .orElse(JsonSchemaVersion.LATEST);
             return CompletableFuture.completedFuture(retrieveThingResponse.getEntity(jsonSchemaVersion));
+        } else if (object instanceof SudoRetrieveThingResponse sudoRetrieveThingResponse) {
+            return CompletableFuture.completedFuture(sudoRetrieveThingResponse.getEntity(JsonSchemaVersion.LATEST));
         } else {
             final CompletableFuture<JsonObject> failedFuture = new CompletableFuture<>();
             failedFuture.completeExceptionally(toThrowable(object));
@@ -34,11 +34,14 @@ public final class DefaultSignalEnrichmentProviderConfig implements SignalEnrich
     private final Duration askTimeout;
     private final CacheConfig cacheConfig;
     private final boolean cachingEnabled;
+    private final boolean cacheSelectorIndependent;
 
     private DefaultSignalEnrichmentProviderConfig(final ConfigWithFallback configWithFallback) {
         askTimeout = configWithFallback.getDuration(ConfigValue.ASK_TIMEOUT.getConfigPath());
         cacheConfig = DefaultCacheConfig.of(configWithFallback, CACHE_CONFIG_PATH);
         cachingEnabled = configWithFallback.getBoolean(ConfigValue.CACHE_ENABLED.getConfigPath());
+        cacheSelectorIndependent =
+                configWithFallback.getBoolean(ConfigValue.CACHE_SELECTOR_INDEPENDENT.getConfigPath());
     }
 
     /**
@@ -67,6 +70,11 @@ public final class DefaultSignalEnrichmentProviderConfig implements SignalEnrich
         return cachingEnabled;
     }
 
+    @Override
+    public boolean isCacheSelectorIndependent() {
+        return cacheSelectorIndependent;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
@@ -78,12 +86,13 @@ public final class DefaultSignalEnrichmentProviderConfig implements SignalEnrich
         final DefaultSignalEnrichmentProviderConfig that = (DefaultSignalEnrichmentProviderConfig) o;
         return Objects.equals(askTimeout, that.askTimeout) &&
                 Objects.equals(cacheConfig, that.cacheConfig) &&
-                cachingEnabled == that.cachingEnabled;
+                cachingEnabled == that.cachingEnabled &&
+                cacheSelectorIndependent == that.cacheSelectorIndependent;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(askTimeout, cacheConfig, cachingEnabled);
+        return Objects.hash(askTimeout, cacheConfig, cachingEnabled, cacheSelectorIndependent);
     }
 
     @Override
@@ -92,6 +101,7 @@ public final class DefaultSignalEnrichmentProviderConfig implements SignalEnrich
                 "askTimeout=" + askTimeout +
                 ", cacheConfig=" + cacheConfig +
                 ", cachingEnabled=" + cachingEnabled +
+                ", cacheSelectorIndependent=" + cacheSelectorIndependent +
                 "]";
     }
 }
@@ -17,6 +17,7 @@ import static org.eclipse.ditto.base.model.common.ConditionChecker.checkNotNull;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
@@ -25,6 +26,7 @@ import java.util.stream.Collectors;
 
 import javax.annotation.Nullable;
 
+import org.eclipse.ditto.base.model.auth.AuthorizationContext;
 import org.eclipse.ditto.base.model.entity.id.EntityId;
 import org.eclipse.ditto.base.model.headers.DittoHeaderDefinition;
 import org.eclipse.ditto.base.model.headers.DittoHeaders;
@@ -39,14 +41,24 @@ import org.eclipse.ditto.internal.utils.pekko.logging.ThreadSafeDittoLogger;
 import org.eclipse.ditto.internal.utils.tracing.DittoTracing;
 import org.eclipse.ditto.internal.utils.tracing.span.SpanOperationName;
 import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonFieldDefinition;
 import org.eclipse.ditto.json.JsonFieldSelector;
+import org.eclipse.ditto.json.JsonKey;
 import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.json.JsonObjectBuilder;
 import org.eclipse.ditto.json.JsonPointer;
 import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.policies.api.Permission;
+import org.eclipse.ditto.policies.enforcement.PolicyEnforcer;
+import org.eclipse.ditto.policies.enforcement.PolicyEnforcerProvider;
+import org.eclipse.ditto.policies.model.Permissions;
+import org.eclipse.ditto.policies.model.PoliciesResourceType;
+import org.eclipse.ditto.policies.model.PolicyId;
+import org.eclipse.ditto.policies.model.ResourceKey;
 import org.eclipse.ditto.protocol.adapter.ProtocolAdapter;
 import org.eclipse.ditto.things.model.Thing;
 import org.eclipse.ditto.things.model.ThingId;
+import org.eclipse.ditto.things.model.signals.commands.exceptions.ThingNotAccessibleException;
 import org.eclipse.ditto.things.model.signals.events.ThingCreated;
 import org.eclipse.ditto.things.model.signals.events.ThingDeleted;
 import org.eclipse.ditto.things.model.signals.events.ThingEvent;
@@ -56,6 +68,12 @@ import org.eclipse.ditto.things.model.signals.events.ThingMerged;
  * Retrieve additional parts of things by asking an asynchronous cache.
  * Instantiated once per cluster node so that it builds up a cache across all signal enrichments on a local cluster
  * node.
+ * <p>
+ * If the cache is selector independent, partial thing retrievals whose field selectors only select top-level thing
+ * fields share one cache entry per thing, which holds the thing without any policy applied at its latest known
+ * revision. The policy of the thing and the requested selector are applied when reading from the cache, so that
+ * retrievals of all subjects with different selectors are served by a single load.
+ * </p>
  */
 public class DittoCachingSignalEnrichmentFacade implements CachingSignalEnrichmentFacade {
 
@@ -63,7 +81,26 @@ public class DittoCachingSignalEnrichmentFacade implements CachingSignalEnrichme
             DittoLoggerFactory.getThreadSafeLogger(DittoCachingSignalEnrichmentFacade.class);
     private static final String CACHE_NAME_SUFFIX = "_signal_enrichment_cache";
 
+    private static final List<JsonFieldDefinition<?>> SHARED_FIELDS = List.of(
+            Thing.JsonFields.ID,
+            Thing.JsonFields.POLICY_ID,
+            Thing.JsonFields.DEFINITION,
+            Thing.JsonFields.ATTRIBUTES,
+            Thing.JsonFields.FEATURES,
+            Thing.JsonFields.REVISION,
+            Thing.JsonFields.CREATED,
+            Thing.JsonFields.MODIFIED);
+    private static final Set<JsonKey> SHARED_FIELD_KEYS = SHARED_FIELDS.stream()
+            .map(fieldDefinition -> fieldDefinition.getPointer().getRoot().orElseThrow())
+            .collect(Collectors.toSet());
+    private static final DittoHeaders SHARED_ENTRY_HEADERS = DittoHeaders.newBuilder()
+            .putHeader(DittoHeaderDefinition.DITTO_SUDO.getKey(), Boolean.TRUE.toString())
+            .build();
+    private static final ResourceKey THING_ROOT_RESOURCE = PoliciesResourceType.thingResource(JsonPointer.empty());
+    private static final JsonFieldSelector VIEW_ALLOWLIST = JsonFactory.newFieldSelector(Thing.JsonFields.ID);
+
     protected final Cache<SignalEnrichmentCacheKey, JsonObject> extraFieldsCache;
+    @Nullable private final PolicyEnforcerProvider policyEnforcerProvider;
 
     protected DittoCachingSignalEnrichmentFacade(
             final SignalEnrichmentFacade cacheLoaderFacade,
@@ -71,10 +108,21 @@ public class DittoCachingSignalEnrichmentFacade implements CachingSignalEnrichme
             final Executor cacheLoaderExecutor,
             final String cacheNamePrefix) {
 
-        final var cacheLoader = SignalEnrichmentCacheLoader.of(cacheLoaderFacade);
+        this(cacheLoaderFacade, cacheConfig, cacheLoaderExecutor, cacheNamePrefix, null);
+    }
+
+    protected DittoCachingSignalEnrichmentFacade(
+            final SignalEnrichmentFacade cacheLoaderFacade,
+            final CacheConfig cacheConfig,
+            final Executor cacheLoaderExecutor,
+            final String cacheNamePrefix,
+            @Nullable final PolicyEnforcerProvider policyEnforcerProvider) {
+
         final var cacheName = cacheNamePrefix + CACHE_NAME_SUFFIX;
+        final var cacheLoader = SignalEnrichmentCacheLoader.of(cacheLoaderFacade, cacheName);
 
         extraFieldsCache = CacheFactory.createCache(cacheLoader, cacheConfig, cacheName, cacheLoaderExecutor);
+        this.policyEnforcerProvider = policyEnforcerProvider;
     }
 
     /**
@@ -97,6 +145,31 @@ public class DittoCachingSignalEnrichmentFacade implements CachingSignalEnrichme
                 checkNotNull(cacheNamePrefix, "cacheNamePrefix"));
     }
 
+    /**
+     * Returns a new {@code DittoCachingSignalEnrichmentFacade} instance.
+     *
+     * @param cacheLoaderFacade the facade whose argument-result-pairs we are caching.
+     * @param cacheConfig the cache configuration to use for the cache.
+     * @param cacheLoaderExecutor the executor to use in order to asynchronously load cache entries.
+     * @param cacheNamePrefix the prefix to use as cacheName of the cache.
+     * @param policyEnforcerProvider provider of the enforcers to apply the policies of things cached independently of
+     * the requested field selectors with, or {@code null} if partial things should be cached per authorization context
+     * and field selector.
+     * @throws NullPointerException if any argument but {@code policyEnforcerProvider} is null.
+     */
+    public static DittoCachingSignalEnrichmentFacade newInstance(final SignalEnrichmentFacade cacheLoaderFacade,
+            final CacheConfig cacheConfig,
+            final Executor cacheLoaderExecutor,
+            final String cacheNamePrefix,
+            @Nullable final PolicyEnforcerProvider policyEnforcerProvider) {
+
+        return new DittoCachingSignalEnrichmentFacade(checkNotNull(cacheLoaderFacade, "cacheLoaderFacade"),
+                checkNotNull(cacheConfig, "cacheConfig"),
+                checkNotNull(cacheLoaderExecutor, "cacheLoaderExecutor"),
+                checkNotNull(cacheNamePrefix, "cacheNamePrefix"),
+                policyEnforcerProvider);
+    }
+
     @Override
     public CompletionStage<JsonObject> retrieveThing(final ThingId thingId, final List<ThingEvent<?>> events,
             final long atRevisionNumber) {
@@ -160,6 +233,10 @@ public class DittoCachingSignalEnrichmentFacade implements CachingSignalEnrichme
                 (concernedSignal instanceof ThingEvent) && !(ProtocolAdapter.isLiveSignal(concernedSignal)) ?
                         List.of((ThingEvent<?>) concernedSignal) : List.of();
 
+        if (isSharedAcrossSelectors(jsonFieldSelector)) {
+            return retrieveSharedThing(thingId, jsonFieldSelector, dittoHeaders, thingEvents, 0);
+        }
+
         // as second step only return what was originally requested as fields:
         final var cachingParameters =
                 new CachingParameters(jsonFieldSelector, thingEvents, true, 0);
@@ -191,6 +268,10 @@ public class DittoCachingSignalEnrichmentFacade implements CachingSignalEnrichme
                 .map(signal -> (ThingEvent<?>) signal)
                 .collect(Collectors.toList());
 
+        if (isSharedAcrossSelectors(jsonFieldSelector)) {
+            return retrieveSharedThing(thingId, jsonFieldSelector, dittoHeaders, thingEvents, minAcceptableSeqNr);
+        }
+
         // as second step only return what was originally requested as fields:
         final var cachingParameters =
                 new CachingParameters(jsonFieldSelector, thingEvents, true, minAcceptableSeqNr);
@@ -199,6 +280,46 @@ public class DittoCachingSignalEnrichmentFacade implements CachingSignalEnrichme
                 .thenApply(jsonObject -> applyJsonFieldSelector(jsonObject, jsonFieldSelector));
     }
 
+    private boolean isSharedAcrossSelectors(@Nullable final JsonFieldSelector jsonFieldSelector) {
+        return null != policyEnforcerProvider && null != jsonFieldSelector && jsonFieldSelector.getPointers()
+                .stream()
+                .allMatch(pointer -> pointer.getRoot().filter(SHARED_FIELD_KEYS::contains).isPresent());
+    }
+
+    private CompletionStage<JsonObject> retrieveSharedThing(final EntityId thingId,
+            final JsonFieldSelector jsonFieldSelector,
+            final DittoHeaders dittoHeaders,
+            final List<ThingEvent<?>> thingEvents,
+            final long minAcceptableSeqNr) {
+
+        // the shared entry of a thing is keyed by the thing ID only and retrieved without applying its policy
+        final DittoHeadersBuilder<?, ?> retrieveHeadersBuilder = DittoHeaders.newBuilder();
+        dittoHeaders.getCorrelationId().ifPresent(retrieveHeadersBuilder::correlationId);
+        final var cachingParameters = new CachingParameters(null, thingEvents, true, minAcceptableSeqNr);
+
+        return doRetrievePartialThing(thingId, SHARED_ENTRY_HEADERS, retrieveHeadersBuilder.build(),
+                cachingParameters)
+                .thenCompose(thingJson -> buildJsonView(ThingId.of(thingId), thingJson, dittoHeaders))
+                .thenApply(jsonObject -> applyJsonFieldSelector(jsonObject, jsonFieldSelector));
+    }
+
+    private CompletionStage<JsonObject> buildJsonView(final ThingId thingId, final JsonObject thingJson,
+            final DittoHeaders dittoHeaders) {
+
+        final AuthorizationContext authorizationContext = dittoHeaders.getAuthorizationContext();
+        final PolicyId policyId = thingJson.getValue(Thing.JsonFields.POLICY_ID).map(PolicyId::of).orElse(null);
+
+        return checkNotNull(policyEnforcerProvider, "policyEnforcerProvider").getPolicyEnforcer(policyId)
+                .thenApply(policyEnforcer -> policyEnforcer.map(PolicyEnforcer::getEnforcer)
+                        .filter(enforcer -> enforcer.hasPartialPermissions(THING_ROOT_RESOURCE,
+                                authorizationContext, Permission.READ))
+                        .map(enforcer -> enforcer.buildJsonView(THING_ROOT_RESOURCE, thingJson,
+                                authorizationContext, VIEW_ALLOWLIST, Permissions.newInstance(Permission.READ)))
+                        .orElseThrow(() -> ThingNotAccessibleException.newBuilder(thingId)
+                                .dittoHeaders(dittoHeaders)
+                                .build()));
+    }
+
     protected CompletionStage<JsonObject> doRetrievePartialThing(final EntityId thingId,
             final DittoHeaders dittoHeaders,
             @Nullable final DittoHeaders dittoHeadersNotAddedToCacheKey,
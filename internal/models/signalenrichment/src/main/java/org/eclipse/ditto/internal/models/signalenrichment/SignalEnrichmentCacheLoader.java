@@ -17,6 +17,8 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 
 import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.internal.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.internal.utils.metrics.instruments.histogram.Histogram;
 import org.eclipse.ditto.json.JsonFieldSelector;
 import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.things.model.ThingId;
@@ -26,24 +28,31 @@ import com.github.benmanes.caffeine.cache.AsyncCacheLoader;
 
 /**
  * Loads partial things by using the passed in {@code SignalEnrichmentFacade}.
+ * Records the size of the loaded things.
  */
 @AllValuesAreNonnullByDefault
 final class SignalEnrichmentCacheLoader implements AsyncCacheLoader<SignalEnrichmentCacheKey, JsonObject> {
 
+    private static final String LOADED_BYTES_HISTOGRAM_NAME = "signal_enrichment_cache_loaded_bytes";
+    private static final String CACHE_NAME_TAG = "cache_name";
+
     private final SignalEnrichmentFacade facade;
+    private final Histogram loadedBytes;
 
-    private SignalEnrichmentCacheLoader(final SignalEnrichmentFacade facade) {
+    private SignalEnrichmentCacheLoader(final SignalEnrichmentFacade facade, final String cacheName) {
         this.facade = facade;
+        loadedBytes = DittoMetrics.histogram(LOADED_BYTES_HISTOGRAM_NAME).tag(CACHE_NAME_TAG, cacheName);
     }
 
     /**
      * Creates a new cache loader which uses the passed {@code facade} in order to retrieve partial things.
      *
      * @param facade the SignalEnrichmentFacade to delegate loading of partial things to.
+     * @param cacheName the name of the cache to load entries for, used as metric label.
      * @return the instantiated cache loader.
      */
-    static SignalEnrichmentCacheLoader of(final SignalEnrichmentFacade facade) {
-        return new SignalEnrichmentCacheLoader(facade);
+    static SignalEnrichmentCacheLoader of(final SignalEnrichmentFacade facade, final String cacheName) {
+        return new SignalEnrichmentCacheLoader(facade, cacheName);
     }
 
     @Override
@@ -60,7 +69,12 @@ final class SignalEnrichmentCacheLoader implements AsyncCacheLoader<SignalEnrich
                     .map(extraHeaders -> (DittoHeaders) dittoHeaders.toBuilder().putHeaders(extraHeaders).build())
                     .orElse(dittoHeaders);
             return facade.retrievePartialThing(thingId, jsonFieldSelector, retrieveHeaders, null)
-                    .toCompletableFuture();
+                    .toCompletableFuture()
+                    .whenComplete((thingJson, error) -> {
+                        if (null != thingJson) {
+                            loadedBytes.record(thingJson.getUpperBoundForStringSize());
+                        }
+                    });
         } else {
             // no context; nothing to load.
             return CompletableFuture.completedFuture(JsonObject.empty());
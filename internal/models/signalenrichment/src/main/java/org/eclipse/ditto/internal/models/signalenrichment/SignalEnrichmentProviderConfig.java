@@ -43,6 +43,14 @@ public interface SignalEnrichmentProviderConfig {
      */
     boolean isCachingEnabled();
 
+    /**
+     * Indicates whether partial things are cached independently of the field selectors they are retrieved with, i.e.
+     * whether one cache entry per thing is shared by all subjects and selectors of top-level thing fields.
+     *
+     * @return whether the cache is selector independent.
+     */
+    boolean isCacheSelectorIndependent();
+
     /**
      * An enumeration of the known config path expressions and their associated default values for
      * {@code CachingSignalEnrichmentFacadeConfig}.
@@ -54,7 +62,12 @@ public interface SignalEnrichmentProviderConfig {
          */
         ASK_TIMEOUT("ask-timeout", Duration.ofSeconds(10)),
 
-        CACHE_ENABLED("cache.enabled", true);
+        CACHE_ENABLED("cache.enabled", true),
+
+        /**
+         * Whether partial things are cached independently of the field selectors they are retrieved with.
+         */
+        CACHE_SELECTOR_INDEPENDENT("cache.selector-independent", false);
 
         private final String path;
         private final Object defaultValue;
@@ -0,0 +1,237 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.models.signalenrichment;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+
+import org.apache.pekko.actor.ActorSelection;
+import org.apache.pekko.testkit.javadsl.TestKit;
+import org.assertj.core.api.JUnitSoftAssertions;
+import org.eclipse.ditto.base.model.auth.AuthorizationContext;
+import org.eclipse.ditto.base.model.auth.AuthorizationSubject;
+import org.eclipse.ditto.base.model.auth.DittoAuthorizationContextType;
+import org.eclipse.ditto.base.model.entity.metadata.MetadataModelFactory;
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.base.model.signals.DittoTestSystem;
+import org.eclipse.ditto.internal.utils.cache.config.CacheConfig;
+import org.eclipse.ditto.internal.utils.cache.config.DefaultCacheConfig;
+import org.eclipse.ditto.internal.utils.tracing.DittoTracing;
+import org.eclipse.ditto.internal.utils.tracing.config.TracingConfig;
+import org.eclipse.ditto.internal.utils.tracing.filter.AcceptAllTracingFilter;
+import org.eclipse.ditto.json.JsonFieldSelector;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.policies.enforcement.PolicyEnforcer;
+import org.eclipse.ditto.policies.model.PoliciesModelFactory;
+import org.eclipse.ditto.policies.model.Policy;
+import org.eclipse.ditto.things.api.commands.sudo.SudoRetrieveThing;
+import org.eclipse.ditto.things.api.commands.sudo.SudoRetrieveThingResponse;
+import org.eclipse.ditto.things.model.Thing;
+import org.eclipse.ditto.things.model.ThingId;
+import org.eclipse.ditto.things.model.signals.commands.exceptions.ThingNotAccessibleException;
+import org.eclipse.ditto.things.model.signals.commands.query.RetrieveThing;
+import org.eclipse.ditto.things.model.signals.commands.query.RetrieveThingResponse;
+import org.eclipse.ditto.things.model.signals.events.AttributeModified;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import com.typesafe.config.ConfigFactory;
+
+/**
+ * Unit tests for {@link DittoCachingSignalEnrichmentFacade} with a selector independent cache.
+ */
+public final class SelectorIndependentCachingSignalEnrichmentFacadeTest {
+
+    private static final String CACHE_CONFIG_KEY = "my-cache";
+    private static final String CACHE_CONFIG = CACHE_CONFIG_KEY + """
+            {
+              maximum-size = 10
+              expire-after-create = 2m
+            }
+            """;
+
+    private static final String OWNER = "test:owner";
+    private static final String READER = "test:reader";
+
+    private static final JsonObject THING_JSON = JsonObject.of("""
+            {
+              "_revision": 3,
+              "policyId": "policy:id",
+              "attributes": {"x": 5, "y": 6},
+              "features": {"f": {"properties": {"z": true}}}
+            }""");
+
+    private static final Policy POLICY = PoliciesModelFactory.newPolicy("""
+            {
+              "policyId": "policy:id",
+              "entries": {
+                "OWNER": {
+                  "subjects": {"test:owner": {"type": "test"}},
+                  "resources": {"thing:/": {"grant": ["READ"], "revoke": []}}
+                },
+                "READER": {
+                  "subjects": {"test:reader": {"type": "test"}},
+                  "resources": {"thing:/attributes/x": {"grant": ["READ"], "revoke": []}}
+                }
+              }
+            }""");
+
+    @Rule
+    public final JUnitSoftAssertions softly = new JUnitSoftAssertions();
+
+    @BeforeClass
+    public static void beforeClass() {
+        final TracingConfig tracingConfigMock = Mockito.mock(TracingConfig.class);
+        Mockito.when(tracingConfigMock.isTracingEnabled()).thenReturn(true);
+        Mockito.when(tracingConfigMock.getPropagationChannel()).thenReturn("default");
+        Mockito.when(tracingConfigMock.getTracingFilter()).thenReturn(AcceptAllTracingFilter.getInstance());
+        DittoTracing.init(tracingConfigMock);
+    }
+
+    @AfterClass
+    public static void afterClass() {
+        DittoTracing.reset();
+    }
+
+    @Test
+    public void retrievalsWithDifferentSelectorsShareOneCacheEntry() {
+        DittoTestSystem.run(this, kit -> {
+            // GIVEN: a selector independent cache
+            final SignalEnrichmentFacade underTest = createFacade(kit);
+            final ThingId thingId = ThingId.generateRandom();
+            final DittoHeaders headers = newHeaders(OWNER);
+            final AttributeModified event = newAttributeModified(thingId, 3L);
+
+            // WHEN: a partial thing is retrieved
+            final CompletionStage<JsonObject> attributeXResult =
+                    underTest.retrievePartialThing(thingId, JsonFieldSelector.newInstance("attributes/x"), headers,
+                            event);
+
+            // THEN: the complete thing is retrieved without applying its policy
+            final SudoRetrieveThing sudoRetrieveThing = kit.expectMsgClass(SudoRetrieveThing.class);
+            softly.assertThat(sudoRetrieveThing.getSelectedFields()).isEmpty();
+            softly.assertThat(sudoRetrieveThing.getDittoHeaders().getCorrelationId())
+                    .isEqualTo(headers.getCorrelationId());
+            softly.assertThat(sudoRetrieveThing.getDittoHeaders().getAuthorizationContext().isEmpty()).isTrue();
+            kit.reply(SudoRetrieveThingResponse.of(THING_JSON, DittoHeaders.empty()));
+            softly.assertThat(attributeXResult.toCompletableFuture().join())
+                    .isEqualTo(JsonObject.of("{\"attributes\":{\"x\":5}}"));
+
+            // WHEN: the same thing is retrieved with a different selector and different correlation ID
+            final CompletionStage<JsonObject> featureResult =
+                    underTest.retrievePartialThing(thingId, JsonFieldSelector.newInstance("features/f", "policyId"),
+                            headers.toBuilder().randomCorrelationId().build(), event);
+
+            // THEN: the projection is served from the cache
+            kit.expectNoMessage(Duration.ofSeconds(1));
+            softly.assertThat(featureResult.toCompletableFuture().join()).isEqualTo(JsonObject.of("""
+                    {"policyId":"policy:id","features":{"f":{"properties":{"z":true}}}}"""));
+        });
+    }
+
+    @Test
+    public void retrievalsOfDifferentSubjectsShareOneCacheEntryWithTheirOwnView() {
+        DittoTestSystem.run(this, kit -> {
+            final SignalEnrichmentFacade underTest = createFacade(kit);
+            final ThingId thingId = ThingId.generateRandom();
+            final AttributeModified event = newAttributeModified(thingId, 3L);
+            final JsonFieldSelector selector = JsonFieldSelector.newInstance("attributes", "features");
+
+            final CompletionStage<JsonObject> ownerResult =
+                    underTest.retrievePartialThing(thingId, selector, newHeaders(OWNER), event);
+            kit.expectMsgClass(SudoRetrieveThing.class);
+            kit.reply(SudoRetrieveThingResponse.of(THING_JSON, DittoHeaders.empty()));
+            softly.assertThat(ownerResult.toCompletableFuture().join()).isEqualTo(JsonObject.of("""
+                    {"attributes":{"x":5,"y":6},"features":{"f":{"properties":{"z":true}}}}"""));
+
+            final CompletionStage<JsonObject> readerResult =
+                    underTest.retrievePartialThing(thingId, selector, newHeaders(READER), event);
+            kit.expectNoMessage(Duration.ofSeconds(1));
+            softly.assertThat(readerResult.toCompletableFuture().join())
+                    .isEqualTo(JsonObject.of("{\"attributes\":{\"x\":5}}"));
+        });
+    }
+
+    @Test
+    public void subjectsWithoutReadPermissionCannotRetrieveSharedCacheEntries() {
+        DittoTestSystem.run(this, kit -> {
+            final SignalEnrichmentFacade underTest = createFacade(kit);
+            final ThingId thingId = ThingId.generateRandom();
+
+            final CompletionStage<JsonObject> result = underTest.retrievePartialThing(thingId,
+                    JsonFieldSelector.newInstance("attributes/x"), newHeaders("test:stranger"),
+                    newAttributeModified(thingId, 3L));
+            kit.expectMsgClass(SudoRetrieveThing.class);
+            kit.reply(SudoRetrieveThingResponse.of(THING_JSON, DittoHeaders.empty()));
+
+            softly.assertThat(result.toCompletableFuture())
+                    .failsWithin(Duration.ofSeconds(1))
+                    .withThrowableOfType(ExecutionException.class)
+                    .withCauseInstanceOf(ThingNotAccessibleException.class);
+        });
+    }
+
+    @Test
+    public void selectorsOfNonThingFieldsAreCachedPerSelector() {
+        DittoTestSystem.run(this, kit -> {
+            final SignalEnrichmentFacade underTest = createFacade(kit);
+            final ThingId thingId = ThingId.generateRandom();
+            final JsonFieldSelector selector = JsonFieldSelector.newInstance("attributes/x", "_metadata");
+
+            final CompletionStage<JsonObject> result = underTest.retrievePartialThing(thingId, selector,
+                    newHeaders(OWNER), newAttributeModified(thingId, 3L));
+
+            final RetrieveThing retrieveThing = kit.expectMsgClass(RetrieveThing.class);
+            softly.assertThat(retrieveThing.getSelectedFields()).hasValueSatisfying(selectedFields ->
+                    softly.assertThat(selectedFields.getPointers()).doesNotContain(
+                            Thing.JsonFields.FEATURES.getPointer()));
+            kit.reply(RetrieveThingResponse.of(thingId, THING_JSON, DittoHeaders.empty()));
+            result.toCompletableFuture().join();
+        });
+    }
+
+    private static SignalEnrichmentFacade createFacade(final TestKit kit) {
+        final CacheConfig cacheConfig =
+                DefaultCacheConfig.of(ConfigFactory.parseString(CACHE_CONFIG), CACHE_CONFIG_KEY);
+        final ActorSelection commandHandler = ActorSelection.apply(kit.getRef(), "");
+        return DittoCachingSignalEnrichmentFacade.newInstance(
+                ByRoundTripSignalEnrichmentFacade.of(commandHandler, Duration.ofSeconds(10L)),
+                cacheConfig,
+                kit.getSystem().getDispatcher(),
+                "test",
+                policyId -> CompletableFuture.completedFuture(Optional.of(PolicyEnforcer.of(POLICY))));
+    }
+
+    private static DittoHeaders newHeaders(final String subjectId) {
+        return DittoHeaders.newBuilder()
+                .authorizationContext(AuthorizationContext.newInstance(DittoAuthorizationContextType.UNSPECIFIED,
+                        AuthorizationSubject.newInstance(subjectId)))
+                .randomCorrelationId()
+                .build();
+    }
+
+    private static AttributeModified newAttributeModified(final ThingId thingId, final long revision) {
+        return AttributeModified.of(thingId, JsonPointer.of("x"), JsonValue.of(5), revision, Instant.EPOCH,
+                DittoHeaders.empty(), MetadataModelFactory.nullMetadata());
+    }
+
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.cluster;
+
+import java.io.IOException;
+
+import org.eclipse.ditto.json.JsonArrayBuilder;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.json.JsonValue;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+/**
+ * Jackson (de-)serializers which embed a {@link JsonObject} as nested structure into messages serialized with Jackson,
+ * e.g. into the CBOR of {@link PekkoJacksonCborSerializable} messages, instead of as JSON string.
+ */
+final class JacksonJsonObjectSerialization {
+
+    private JacksonJsonObjectSerialization() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Writes a {@code JsonObject} with the tokens of the Jackson generator.
+     */
+    static final class Serializer extends StdSerializer<JsonObject> {
+
+        Serializer() {
+            super(JsonObject.class);
+        }
+
+        @Override
+        public void serialize(final JsonObject jsonObject, final JsonGenerator generator,
+                final SerializerProvider provider) throws IOException {
+
+            writeValue(jsonObject, generator);
+        }
+
+        private static void writeValue(final JsonValue jsonValue, final JsonGenerator generator) throws IOException {
+            if (jsonValue.isNull()) {
+                // checked first as null objects and arrays are null as well
+                generator.writeNull();
+            } else if (jsonValue.isObject()) {
+                generator.writeStartObject();
+                for (final JsonField jsonField : jsonValue.asObject()) {
+                    generator.writeFieldName(jsonField.getKeyName());
+                    writeValue(jsonField.getValue(), generator);
+                }
+                generator.writeEndObject();
+            } else if (jsonValue.isArray()) {
+                generator.writeStartArray();
+                for (final JsonValue element : jsonValue.asArray()) {
+                    writeValue(element, generator);
+                }
+                generator.writeEndArray();
+            } else if (jsonValue.isBoolean()) {
+                generator.writeBoolean(jsonValue.asBoolean());
+            } else if (jsonValue.isInt()) {
+                generator.writeNumber(jsonValue.asInt());
+            } else if (jsonValue.isLong()) {
+                generator.writeNumber(jsonValue.asLong());
+            } else if (jsonValue.isNumber()) {
+                generator.writeNumber(jsonValue.asDouble());
+            } else {
+                generator.writeString(jsonValue.asString());
+            }
+        }
+
+    }
+
+    /**
+     * Reads a {@code JsonObject} from the tokens of the Jackson parser.
+     */
+    static final class Deserializer extends StdDeserializer<JsonObject> {
+
+        Deserializer() {
+            super(JsonObject.class);
+        }
+
+        @Override
+        public JsonObject deserialize(final JsonParser parser, final DeserializationContext context)
+                throws IOException {
+
+            final JsonValue jsonValue = readValue(parser);
+            if (!jsonValue.isObject()) {
+                return (JsonObject) context.handleUnexpectedToken(JsonObject.class, parser);
+            }
+            return jsonValue.asObject();
+        }
+
+        private static JsonValue readValue(final JsonParser parser) throws IOException {
+            final JsonToken token = parser.currentToken();
+            if (null == token) {
+                throw new IOException("Unexpected end of input while expecting a JSON value.");
+            }
+            return switch (token) {
+                case START_OBJECT -> readObject(parser);
+                case START_ARRAY -> readArray(parser);
+                case VALUE_STRING -> JsonValue.of(parser.getText());
+                case VALUE_NUMBER_INT -> readIntegerOrLong(parser.getLongValue());
+                case VALUE_NUMBER_FLOAT -> JsonValue.of(parser.getDoubleValue());
+                case VALUE_TRUE -> JsonValue.of(true);
+                case VALUE_FALSE -> JsonValue.of(false);
+                case VALUE_NULL -> JsonFactory.nullLiteral();
+                default -> throw new IOException("Unexpected token <" + token + "> while reading a JSON value.");
+            };
+        }
+
+        private static JsonObject readObject(final JsonParser parser) throws IOException {
+            final JsonObjectBuilder builder = JsonObject.newBuilder();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                final String key = parser.currentName();
+                parser.nextToken();
+                builder.set(JsonField.newInstance(key, readValue(parser)));
+            }
+            return builder.build();
+        }
+
+        private static JsonValue readArray(final JsonParser parser) throws IOException {
+            final JsonArrayBuilder builder = JsonFactory.newArrayBuilder();
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                builder.add(readValue(parser));
+            }
+            return builder.build();
+        }
+
+        private static JsonValue readIntegerOrLong(final long value) {
+            if (value <= Integer.MAX_VALUE && value >= Integer.MIN_VALUE) {
+                return JsonValue.of((int) value);
+            }
+            return JsonValue.of(value);
+        }
+
+    }
+
+}
@@ -85,6 +85,8 @@ public final class ShardRegionExtractor implements ShardRegion.MessageExtractor
             result = entityId.toString();
         } else if (message instanceof ShardRegion.StartEntity startEntity) {
             result = startEntity.entityId();
+        } else if (message instanceof ShardedSignalBatch shardedSignalBatch) {
+            result = shardedSignalBatch.getRelayEntityId();
         } else {
             result = null;
         }
@@ -116,7 +118,10 @@ public final class ShardRegionExtractor implements ShardRegion.MessageExtractor
     public String shardId(final Object message) {
         final String result;
         @Nullable final var entityId = entityId(message);
-        if (null != entityId) {
+        if (message instanceof ShardedSignalBatch shardedSignalBatch) {
+            // the relay entity of a batch belongs to the shard of the batched signals:
+            result = shardedSignalBatch.getShardId();
+        } else if (null != entityId) {
             final var shardNumber = shardNumberCalculator.calculateShardNumber(entityId);
             result = String.valueOf(shardNumber);
         } else  {
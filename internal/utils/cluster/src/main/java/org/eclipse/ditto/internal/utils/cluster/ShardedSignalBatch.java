@@ -0,0 +1,304 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.cluster;
+
+import static org.eclipse.ditto.base.model.common.ConditionChecker.argumentNotEmpty;
+import static org.eclipse.ditto.base.model.common.ConditionChecker.checkNotNull;
+
+import java.util.List;
+import java.util.Objects;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.apache.pekko.actor.ActorRef;
+import org.eclipse.ditto.base.model.entity.id.EntityId;
+import org.eclipse.ditto.base.model.json.FieldType;
+import org.eclipse.ditto.base.model.signals.ShardedMessageEnvelope;
+import org.eclipse.ditto.base.model.signals.Signal;
+import org.eclipse.ditto.json.JsonObject;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+/**
+ * Batch of signals which are all sharded to the same shard. The batch is sent as one message to the relay entity of
+ * the shard, which relays each signal of the batch in order to its entity via the shard, preserving the sender of each
+ * signal. As all batches of a shard are sent via the same relay entity, the order of the signals per entity is
+ * preserved. After relaying a batch, the relay entity confirms it with {@link Relayed} to the sender of the batch.
+ * <p>
+ * The relay entity is no real entity: its ID contains no {@code ':'} and can therefore not be the ID of a thing or
+ * policy. Its actor only relays batches without starting any persistence.
+ * </p>
+ *
+ * @since 3.8.0
+ */
+@Immutable
+public final class ShardedSignalBatch implements PekkoJacksonCborSerializable {
+
+    private static final String RELAY_ENTITY_ID_PREFIX = "shard-relay-";
+
+    private final String shardId;
+    private final List<Element> elements;
+
+    private ShardedSignalBatch(final String shardId, final List<Element> elements) {
+        this.shardId = shardId;
+        this.elements = elements;
+    }
+
+    /**
+     * Returns a new {@code ShardedSignalBatch}.
+     *
+     * @param shardId ID of the shard of the entities of all elements.
+     * @param elements the elements of the batch in the order in which they are relayed.
+     * @return the batch.
+     * @throws NullPointerException if any argument is {@code null}.
+     * @throws IllegalArgumentException if {@code shardId} or {@code elements} is empty.
+     */
+    @JsonCreator
+    public static ShardedSignalBatch of(@JsonProperty("shardId") final String shardId,
+            @JsonProperty("elements") final List<Element> elements) {
+
+        argumentNotEmpty(shardId, "shardId");
+        argumentNotEmpty(elements, "elements");
+        return new ShardedSignalBatch(shardId, List.copyOf(elements));
+    }
+
+    /**
+     * Indicates whether the passed entity ID is the ID of the relay entity of a shard.
+     *
+     * @param entityId the entity ID.
+     * @return whether the entity ID is a relay entity ID.
+     */
+    public static boolean isRelayEntityId(final String entityId) {
+        return entityId.startsWith(RELAY_ENTITY_ID_PREFIX);
+    }
+
+    /**
+     * Returns the ID of the shard of the entities of all elements.
+     *
+     * @return the shard ID.
+     */
+    public String getShardId() {
+        return shardId;
+    }
+
+    /**
+     * Returns the ID of the relay entity of the shard which relays the signals of this batch.
+     *
+     * @return the relay entity ID.
+     */
+    @JsonIgnore
+    public String getRelayEntityId() {
+        return RELAY_ENTITY_ID_PREFIX + shardId;
+    }
+
+    /**
+     * Returns the elements of this batch in the order in which they are relayed.
+     *
+     * @return the elements.
+     */
+    public List<Element> getElements() {
+        return elements;
+    }
+
+    @Override
+    public boolean equals(@Nullable final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final var that = (ShardedSignalBatch) o;
+        return Objects.equals(shardId, that.shardId) && Objects.equals(elements, that.elements);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(shardId, elements);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "shardId=" + shardId +
+                ", elements=" + elements +
+                "]";
+    }
+
+    /**
+     * A signal of a {@link ShardedSignalBatch} together with its sender.
+     * The signal is kept as JSON of its {@link ShardedMessageEnvelope}, which is embedded as nested structure into the
+     * CBOR of the batch and which the shard deserializes on delivery to the signal's entity.
+     */
+    @Immutable
+    public static final class Element {
+
+        private final JsonObject envelope;
+        @Nullable private final ActorRef sender;
+
+        private Element(final JsonObject envelope, @Nullable final ActorRef sender) {
+            this.envelope = envelope;
+            this.sender = sender;
+        }
+
+        /**
+         * Returns a new element for the passed signal.
+         *
+         * @param entityId the ID of the entity to relay the signal to.
+         * @param signal the signal.
+         * @param sender the sender of the signal or {@code null}.
+         * @return the element.
+         * @throws NullPointerException if {@code entityId} or {@code signal} is {@code null}.
+         */
+        public static Element of(final EntityId entityId, final Signal<?> signal, @Nullable final ActorRef sender) {
+            checkNotNull(entityId, "entityId");
+            checkNotNull(signal, "signal");
+            final JsonObject signalJson = signal.toJson(signal.getImplementedSchemaVersion(),
+                    FieldType.regularOrSpecial());
+            final ShardedMessageEnvelope envelope =
+                    ShardedMessageEnvelope.of(entityId, signal.getType(), signalJson, signal.getDittoHeaders());
+            return new Element(envelope.toJson(), sender);
+        }
+
+        @JsonCreator
+        static Element fromJson(
+                @JsonProperty("envelope") @JsonDeserialize(using = JacksonJsonObjectSerialization.Deserializer.class)
+                final JsonObject envelope,
+                @JsonProperty("sender") @Nullable final ActorRef sender) {
+
+            return new Element(checkNotNull(envelope, "envelope"), sender);
+        }
+
+        /**
+         * Returns the JSON of the {@code ShardedMessageEnvelope} of the signal.
+         *
+         * @return the JSON of the envelope.
+         */
+        @JsonSerialize(using = JacksonJsonObjectSerialization.Serializer.class)
+        public JsonObject getEnvelope() {
+            return envelope;
+        }
+
+        /**
+         * Returns the sender of the signal.
+         *
+         * @return the sender or {@code null}.
+         */
+        @Nullable
+        public ActorRef getSender() {
+            return sender;
+        }
+
+        /**
+         * Deserializes the {@code ShardedMessageEnvelope} of the signal.
+         *
+         * @return the envelope.
+         */
+        public ShardedMessageEnvelope toShardedMessageEnvelope() {
+            return ShardedMessageEnvelope.fromJson(envelope);
+        }
+
+        @Override
+        public boolean equals(@Nullable final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            final var that = (Element) o;
+            return Objects.equals(envelope, that.envelope) && Objects.equals(sender, that.sender);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(envelope, sender);
+        }
+
+        @Override
+        public String toString() {
+            return getClass().getSimpleName() + " [" +
+                    "envelope=" + envelope +
+                    ", sender=" + sender +
+                    "]";
+        }
+
+    }
+
+    /**
+     * Confirmation of the relay entity of a shard to the sender of a {@link ShardedSignalBatch} that all signals of the
+     * batch were passed on to the shard. Signals which the sender sends to the shard afterwards are thus delivered
+     * after the signals of the batch.
+     */
+    @Immutable
+    public static final class Relayed implements PekkoJacksonCborSerializable {
+
+        private final String shardId;
+
+        private Relayed(final String shardId) {
+            this.shardId = shardId;
+        }
+
+        /**
+         * Returns a new {@code Relayed} confirmation.
+         *
+         * @param shardId ID of the shard of the relayed batch.
+         * @return the confirmation.
+         * @throws NullPointerException if {@code shardId} is {@code null}.
+         */
+        @JsonCreator
+        public static Relayed of(@JsonProperty("shardId") final String shardId) {
+            return new Relayed(checkNotNull(shardId, "shardId"));
+        }
+
+        /**
+         * Returns the ID of the shard of the relayed batch.
+         *
+         * @return the shard ID.
+         */
+        public String getShardId() {
+            return shardId;
+        }
+
+        @Override
+        public boolean equals(@Nullable final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            final var that = (Relayed) o;
+            return Objects.equals(shardId, that.shardId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(shardId);
+        }
+
+        @Override
+        public String toString() {
+            return getClass().getSimpleName() + " [" +
+                    "shardId=" + shardId +
+                    "]";
+        }
+
+    }
+
+}
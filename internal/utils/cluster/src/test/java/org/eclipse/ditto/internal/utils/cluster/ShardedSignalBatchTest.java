@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.cluster;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.pekko.actor.ActorRef;
+import org.apache.pekko.actor.ActorSystem;
+import org.apache.pekko.serialization.Serialization;
+import org.apache.pekko.serialization.SerializationExtension;
+import org.apache.pekko.testkit.javadsl.TestKit;
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.base.model.json.FieldType;
+import org.eclipse.ditto.internal.utils.json.CborFactoryLoader;
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.things.model.Thing;
+import org.eclipse.ditto.things.model.ThingId;
+import org.eclipse.ditto.things.model.signals.commands.modify.CreateThing;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.typesafe.config.ConfigFactory;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+import scala.concurrent.duration.FiniteDuration;
+
+/**
+ * Unit test for {@link ShardedSignalBatch}.
+ */
+public final class ShardedSignalBatchTest {
+
+    private static final ThingId THING_ID = ThingId.of("org.eclipse.ditto.test", "thingId");
+    private static final String SHARD_ID = "7";
+
+    private static ActorSystem actorSystem;
+
+    @BeforeClass
+    public static void beforeClass() {
+        final var serializationTestConfig = ConfigFactory.load("serialization-test");
+        actorSystem = ActorSystem.create(ShardedSignalBatchTest.class.getSimpleName(), serializationTestConfig);
+    }
+
+    @AfterClass
+    public static void afterClass() {
+        TestKit.shutdownActorSystem(actorSystem, FiniteDuration.apply(1, TimeUnit.SECONDS), false);
+    }
+
+    @Test
+    public void testHashCodeAndEquals() {
+        final ActorRef red = new TestKit(actorSystem).getRef();
+        final ActorRef blue = new TestKit(actorSystem).getRef();
+        EqualsVerifier.forClass(ShardedSignalBatch.class)
+                .usingGetClass()
+                .withPrefabValues(ActorRef.class, red, blue)
+                .verify();
+        EqualsVerifier.forClass(ShardedSignalBatch.Element.class)
+                .usingGetClass()
+                .withPrefabValues(ActorRef.class, red, blue)
+                .verify();
+        EqualsVerifier.forClass(ShardedSignalBatch.Relayed.class)
+                .usingGetClass()
+                .verify();
+    }
+
+    @Test
+    public void emptyBatchIsNotAllowed() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> ShardedSignalBatch.of(SHARD_ID, List.of()));
+    }
+
+    @Test
+    public void elementContainsEnvelopeOfSignal() {
+        final CreateThing createThing = createThing();
+
+        final var underTest = ShardedSignalBatch.Element.of(THING_ID, createThing, null);
+
+        final var envelope = underTest.toShardedMessageEnvelope();
+        assertThat((CharSequence) envelope.getEntityId()).isEqualTo(THING_ID);
+        assertThat(envelope.getType()).isEqualTo(createThing.getType());
+        assertThat(envelope.getDittoHeaders()).isEqualTo(createThing.getDittoHeaders());
+    }
+
+    @Test
+    public void batchIsShardedToRelayEntityOfItsShard() {
+        final var underTest = ShardedSignalBatch.of(SHARD_ID,
+                List.of(ShardedSignalBatch.Element.of(THING_ID, createThing(), null)));
+        final var extractor = ShardRegionExtractor.of(10, GlobalMappingStrategies.getInstance());
+
+        assertThat(extractor.entityId(underTest)).isEqualTo("shard-relay-" + SHARD_ID);
+        assertThat(extractor.shardId(underTest)).isEqualTo(SHARD_ID);
+        assertThat(extractor.entityMessage(underTest)).isEqualTo(underTest);
+    }
+
+    @Test
+    public void relayEntityIdIsNoEntityId() {
+        assertThat(ShardedSignalBatch.isRelayEntityId(ShardedSignalBatch.of(SHARD_ID,
+                List.of(ShardedSignalBatch.Element.of(THING_ID, createThing(), null))).getRelayEntityId())).isTrue();
+        assertThat(ShardedSignalBatch.isRelayEntityId(THING_ID.toString())).isFalse();
+    }
+
+    @Test
+    public void serializationWorks() {
+        final var messageReceiver = new TestKit(actorSystem);
+        final var signalSender = new TestKit(actorSystem);
+        final var underTest = ShardedSignalBatch.of(SHARD_ID, List.of(
+                ShardedSignalBatch.Element.of(THING_ID, createThing(), signalSender.getRef()),
+                ShardedSignalBatch.Element.of(THING_ID, createThing(), null)));
+
+        messageReceiver.getRef().tell(underTest, ActorRef.noSender());
+
+        assertThat(messageReceiver.expectMsgClass(ShardedSignalBatch.class)).isEqualTo(underTest);
+
+        messageReceiver.getRef().tell(ShardedSignalBatch.Relayed.of(SHARD_ID), ActorRef.noSender());
+
+        messageReceiver.expectMsg(ShardedSignalBatch.Relayed.of(SHARD_ID));
+    }
+
+    @Test
+    public void envelopeIsEmbeddedAsNestedStructure() {
+        final CreateThing createThing = CreateThing.of(Thing.newBuilder()
+                .setId(THING_ID)
+                .setAttributes(JsonObject.newBuilder()
+                        .set("long", Long.MAX_VALUE)
+                        .set("double", 1.5)
+                        .set("array", JsonArray.of(1, "two", true))
+                        .set("null", JsonValue.nullLiteral())
+                        .build())
+                .build(), null, DittoHeaders.newBuilder().randomCorrelationId().build());
+        final var underTest = ShardedSignalBatch.of(SHARD_ID,
+                List.of(ShardedSignalBatch.Element.of(THING_ID, createThing, null)));
+        final Serialization serialization = SerializationExtension.get(actorSystem);
+
+        final byte[] bytes = serialization.serialize(underTest).get();
+        final JsonObject batchJson = CborFactoryLoader.getInstance()
+                .getCborFactoryOrThrow()
+                .readFrom(bytes)
+                .asObject();
+
+        assertThat(batchJson.getValue("elements")
+                .flatMap(elements -> elements.asArray().get(0))
+                .flatMap(element -> element.asObject().getValue("envelope")))
+                .hasValueSatisfying(envelope -> assertThat(envelope.isObject()).isTrue());
+        final var deserialized = (ShardedSignalBatch) serialization.deserialize(bytes, ShardedSignalBatch.class).get();
+        assertThat(deserialized).isEqualTo(underTest);
+        assertThat(deserialized.getElements().get(0).toShardedMessageEnvelope().getMessage())
+                .isEqualTo(createThing.toJson(createThing.getImplementedSchemaVersion(), FieldType.regularOrSpecial()));
+    }
+
+    private static CreateThing createThing() {
+        return CreateThing.of(Thing.newBuilder().setId(THING_ID).build(), null,
+                DittoHeaders.newBuilder().randomCorrelationId().build());
+    }
+
+}
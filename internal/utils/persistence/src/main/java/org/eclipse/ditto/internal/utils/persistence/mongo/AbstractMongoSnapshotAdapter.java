@@ -26,6 +26,8 @@ import org.eclipse.ditto.base.model.exceptions.DittoRuntimeException;
 import org.eclipse.ditto.base.model.json.FieldType;
 import org.eclipse.ditto.base.model.json.Jsonifiable;
 import org.eclipse.ditto.internal.utils.persistence.SnapshotAdapter;
+import org.eclipse.ditto.internal.utils.persistence.mongo.config.DefaultSnapshotCompressionConfig;
+import org.eclipse.ditto.internal.utils.persistence.mongo.config.SnapshotCompressionConfig;
 import org.eclipse.ditto.json.JsonField;
 import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.json.JsonParseException;
@@ -34,6 +36,8 @@ import org.slf4j.Logger;
 import org.apache.pekko.persistence.SelectedSnapshot;
 import org.apache.pekko.persistence.SnapshotOffer;
 
+import com.typesafe.config.ConfigFactory;
+
 /**
  * Abstract implementation of a MongoDB specific {@link SnapshotAdapter} for a {@link Jsonifiable}.
  *
@@ -44,9 +48,25 @@ public abstract class AbstractMongoSnapshotAdapter<T extends Jsonifiable.WithFie
         implements SnapshotAdapter<T> {
 
     private final Logger logger;
+    private final SnapshotCompressor snapshotCompressor;
 
     protected AbstractMongoSnapshotAdapter(final Logger logger) {
+        this(logger, DefaultSnapshotCompressionConfig.of(ConfigFactory.empty()));
+    }
+
+    /**
+     * Constructs a snapshot adapter which stores snapshots of large entities compressed according to the given config.
+     * Compressed snapshots are always readable, regardless of the config.
+     *
+     * @param logger the logger to log deserialization failures with.
+     * @param snapshotCompressionConfig the config of the snapshot compression.
+     * @since 3.8.0
+     */
+    protected AbstractMongoSnapshotAdapter(final Logger logger,
+            final SnapshotCompressionConfig snapshotCompressionConfig) {
+
         this.logger = logger;
+        snapshotCompressor = SnapshotCompressor.of(snapshotCompressionConfig);
     }
 
     /**
@@ -77,8 +97,7 @@ public abstract class AbstractMongoSnapshotAdapter<T extends Jsonifiable.WithFie
 
         onSnapshotStoreConversion(snapshotEntity, json);
 
-        final DittoBsonJson dittoBsonJson = DittoBsonJson.getInstance();
-        return dittoBsonJson.parse(json);
+        return snapshotCompressor.compress(json).orElseGet(() -> DittoBsonJson.getInstance().parse(json));
     }
 
     /**
@@ -133,9 +152,12 @@ public abstract class AbstractMongoSnapshotAdapter<T extends Jsonifiable.WithFie
         return tryToCreateJsonifiableFrom(convertSnapshotEntityToJson(rawSnapshotEntity));
     }
 
-    private static JsonObject convertSnapshotEntityToJson(final Object rawSnapshotEntity) {
+    private JsonObject convertSnapshotEntityToJson(final Object rawSnapshotEntity) {
         checkNotNull(rawSnapshotEntity, "raw snapshot entity");
         if (rawSnapshotEntity instanceof BsonValue bsonValue) {
+            if (SnapshotCompressor.isCompressed(bsonValue)) {
+                return snapshotCompressor.decompress(bsonValue.asDocument());
+            }
             return convertToJson(bsonValue);
         }
         final String pattern = "Unable to create a Jsonifiable from <{0}>! Expected was a BsonDocument instance.";
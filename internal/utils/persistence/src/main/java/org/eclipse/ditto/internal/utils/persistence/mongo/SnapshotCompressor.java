@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.persistence.mongo;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Optional;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.bson.BsonBinary;
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.bson.BsonValue;
+import org.eclipse.ditto.internal.utils.json.CborFactoryLoader;
+import org.eclipse.ditto.internal.utils.persistence.mongo.config.SnapshotCompressionConfig;
+import org.eclipse.ditto.json.CborFactory;
+import org.eclipse.ditto.json.JsonCollectors;
+import org.eclipse.ditto.json.JsonObject;
+
+/**
+ * Encodes snapshots of large entities as deflate compressed CBOR inside a binary field of the snapshot document.
+ * <p>
+ * The top-level fields of the entity which are neither objects nor arrays, e.g. its ID, revision and lifecycle, are
+ * additionally kept as plain fields of the snapshot document, so that they remain accessible to queries on the
+ * snapshot store.
+ * </p>
+ */
+@ThreadSafe
+final class SnapshotCompressor {
+
+    /**
+     * Name of the binary field containing the compressed entity.
+     */
+    static final String COMPRESSED_FIELD = "__compressed";
+
+    /**
+     * Name of the field containing the encoding of the compressed entity.
+     */
+    static final String ENCODING_FIELD = "__encoding";
+
+    /**
+     * The encoding of compressed entities.
+     */
+    static final String CBOR_DEFLATE_ENCODING = "cbor+deflate";
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private final SnapshotCompressionConfig config;
+    private final CborFactory cborFactory;
+
+    private SnapshotCompressor(final SnapshotCompressionConfig config, final CborFactory cborFactory) {
+        this.config = config;
+        this.cborFactory = cborFactory;
+    }
+
+    /**
+     * Returns a new compressor of snapshots.
+     *
+     * @param config the snapshot compression config.
+     * @return the compressor.
+     */
+    static SnapshotCompressor of(final SnapshotCompressionConfig config) {
+        return new SnapshotCompressor(config, CborFactoryLoader.getInstance().getCborFactoryOrThrow());
+    }
+
+    /**
+     * Encodes the JSON of an entity as compressed snapshot document if compression is enabled and the CBOR encoded
+     * entity exceeds the configured threshold.
+     *
+     * @param json the JSON of the entity.
+     * @return the compressed snapshot document or an empty Optional if the entity is to be stored uncompressed.
+     */
+    Optional<BsonDocument> compress(final JsonObject json) {
+        if (!config.isEnabled()) {
+            return Optional.empty();
+        }
+        final byte[] cbor;
+        try {
+            cbor = cborFactory.toByteArray(json);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        if (cbor.length <= config.getThreshold()) {
+            return Optional.empty();
+        }
+
+        final BsonDocument document = DittoBsonJson.getInstance()
+                .parse(json.stream()
+                        .filter(field -> !field.getValue().isObject() && !field.getValue().isArray())
+                        .collect(JsonCollectors.fieldsToObject()));
+        document.put(ENCODING_FIELD, new BsonString(CBOR_DEFLATE_ENCODING));
+        document.put(COMPRESSED_FIELD, new BsonBinary(deflate(cbor, config.getLevel())));
+        return Optional.of(document);
+    }
+
+    /**
+     * Indicates whether a snapshot document contains a compressed entity.
+     *
+     * @param bsonValue the snapshot document.
+     * @return whether the entity has to be decoded by {@link #decompress(BsonDocument)}.
+     */
+    static boolean isCompressed(final BsonValue bsonValue) {
+        return bsonValue.isDocument() && bsonValue.asDocument().isBinary(COMPRESSED_FIELD);
+    }
+
+    /**
+     * Decodes the entity JSON of a compressed snapshot document.
+     *
+     * @param document the compressed snapshot document.
+     * @return the JSON of the entity.
+     * @throws IllegalArgumentException if the document has an unknown encoding or cannot be decompressed.
+     */
+    JsonObject decompress(final BsonDocument document) {
+        final String encoding = document.getString(ENCODING_FIELD, new BsonString(CBOR_DEFLATE_ENCODING)).getValue();
+        if (!CBOR_DEFLATE_ENCODING.equals(encoding)) {
+            throw new IllegalArgumentException("Unknown snapshot encoding <" + encoding + ">.");
+        }
+        final byte[] cbor = inflate(document.getBinary(COMPRESSED_FIELD).getData());
+        return cborFactory.readFrom(cbor).asObject();
+    }
+
+    private static byte[] deflate(final byte[] bytes, final int level) {
+        final Deflater deflater = new Deflater(level);
+        try {
+            deflater.setInput(bytes);
+            deflater.finish();
+            final ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length / 4);
+            final byte[] buffer = new byte[BUFFER_SIZE];
+            while (!deflater.finished()) {
+                out.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] inflate(final byte[] bytes) {
+        final Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(bytes);
+            final ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length * 4);
+            final byte[] buffer = new byte[BUFFER_SIZE];
+            while (!inflater.finished()) {
+                final int inflated = inflater.inflate(buffer);
+                if (inflated == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new IllegalArgumentException("Compressed snapshot is truncated.");
+                }
+                out.write(buffer, 0, inflated);
+            }
+            return out.toByteArray();
+        } catch (final DataFormatException e) {
+            throw new IllegalArgumentException("Compressed snapshot is corrupt.", e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+}
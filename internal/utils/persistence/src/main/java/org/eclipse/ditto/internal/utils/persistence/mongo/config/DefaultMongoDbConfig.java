@@ -42,6 +42,7 @@ public final class DefaultMongoDbConfig implements MongoDbConfig {
     private final DefaultCircuitBreakerConfig circuitBreakerConfig;
     private final DefaultMonitoringConfig monitoringConfig;
     private final MongoReadJournalConfig readJournalConfig;
+    private final RecoveryBatchingConfig recoveryBatchingConfig;
 
     private DefaultMongoDbConfig(final ConfigWithFallback config) {
         maxQueryTime = config.getNonNegativeAndNonZeroDurationOrThrow(MongoDbConfigValue.MAX_QUERY_TIME);
@@ -63,6 +64,7 @@ public final class DefaultMongoDbConfig implements MongoDbConfig {
         circuitBreakerConfig = DefaultCircuitBreakerConfig.of(config);
         monitoringConfig = DefaultMonitoringConfig.of(config);
         readJournalConfig = DefaultMongoReadJournalConfig.of(config);
+        recoveryBatchingConfig = DefaultRecoveryBatchingConfig.of(config);
     }
 
     /**
@@ -129,6 +131,11 @@ public final class DefaultMongoDbConfig implements MongoDbConfig {
         return readJournalConfig;
     }
 
+    @Override
+    public RecoveryBatchingConfig getRecoveryBatchingConfig() {
+        return recoveryBatchingConfig;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
@@ -145,13 +152,14 @@ public final class DefaultMongoDbConfig implements MongoDbConfig {
                 Objects.equals(connectionPoolConfig, that.connectionPoolConfig) &&
                 Objects.equals(circuitBreakerConfig, that.circuitBreakerConfig) &&
                 Objects.equals(readJournalConfig, that.readJournalConfig) &&
+                Objects.equals(recoveryBatchingConfig, that.recoveryBatchingConfig) &&
                 Objects.equals(monitoringConfig, that.monitoringConfig);
     }
 
     @Override
     public int hashCode() {
         return Objects.hash(mongoDbUri, maxQueryTime, documentDbCompatibilityMode, optionsConfig, connectionPoolConfig,
-                circuitBreakerConfig, monitoringConfig, readJournalConfig);
+                circuitBreakerConfig, monitoringConfig, readJournalConfig, recoveryBatchingConfig);
     }
 
     @Override
@@ -165,6 +173,7 @@ public final class DefaultMongoDbConfig implements MongoDbConfig {
                 ", circuitBreakerConfig=" + circuitBreakerConfig +
                 ", monitoringConfig=" + monitoringConfig +
                 ", readJournalConfig=" + readJournalConfig +
+                ", recoveryBatchingConfig=" + recoveryBatchingConfig +
                 "]";
     }
 
@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.persistence.mongo.config;
+
+import java.time.Duration;
+import java.util.Objects;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.internal.utils.config.ConfigWithFallback;
+import org.eclipse.ditto.internal.utils.config.ScopedConfig;
+
+import com.typesafe.config.Config;
+
+/**
+ * This class implements the config for batching the MongoDB queries of recovering persistence actors.
+ *
+ * @since 3.8.0
+ */
+@Immutable
+public final class DefaultRecoveryBatchingConfig implements RecoveryBatchingConfig {
+
+    private static final String CONFIG_PATH = "recovery-batching";
+
+    private final boolean enabled;
+    private final Duration window;
+    private final int maxBatchSize;
+    private final int maxEventsPerBatch;
+    private final int parallelism;
+
+    private DefaultRecoveryBatchingConfig(final ScopedConfig config) {
+        enabled = config.getBoolean(RecoveryBatchingConfigValue.ENABLED.getConfigPath());
+        window = config.getNonNegativeAndNonZeroDurationOrThrow(RecoveryBatchingConfigValue.WINDOW);
+        maxBatchSize = config.getPositiveIntOrThrow(RecoveryBatchingConfigValue.MAX_BATCH_SIZE);
+        maxEventsPerBatch = config.getPositiveIntOrThrow(RecoveryBatchingConfigValue.MAX_EVENTS_PER_BATCH);
+        parallelism = config.getPositiveIntOrThrow(RecoveryBatchingConfigValue.PARALLELISM);
+    }
+
+    /**
+     * Returns an instance of the default recovery batching config based on the settings of the specified Config.
+     *
+     * @param config is supposed to provide the settings of the recovery batching config at {@value #CONFIG_PATH}.
+     * @return instance
+     * @throws org.eclipse.ditto.internal.utils.config.DittoConfigError if {@code config} is invalid.
+     */
+    public static DefaultRecoveryBatchingConfig of(final Config config) {
+        return new DefaultRecoveryBatchingConfig(
+                ConfigWithFallback.newInstance(config, CONFIG_PATH, RecoveryBatchingConfigValue.values()));
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public Duration getWindow() {
+        return window;
+    }
+
+    @Override
+    public int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    @Override
+    public int getMaxEventsPerBatch() {
+        return maxEventsPerBatch;
+    }
+
+    @Override
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final DefaultRecoveryBatchingConfig that = (DefaultRecoveryBatchingConfig) o;
+        return enabled == that.enabled &&
+                maxBatchSize == that.maxBatchSize &&
+                maxEventsPerBatch == that.maxEventsPerBatch &&
+                parallelism == that.parallelism &&
+                Objects.equals(window, that.window);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(enabled, window, maxBatchSize, maxEventsPerBatch, parallelism);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "enabled=" + enabled +
+                ", window=" + window +
+                ", maxBatchSize=" + maxBatchSize +
+                ", maxEventsPerBatch=" + maxEventsPerBatch +
+                ", parallelism=" + parallelism +
+                "]";
+    }
+
+}
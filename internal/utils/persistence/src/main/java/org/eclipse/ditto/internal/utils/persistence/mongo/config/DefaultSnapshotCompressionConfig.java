@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.persistence.mongo.config;
+
+import java.text.MessageFormat;
+import java.util.Objects;
+import java.util.zip.Deflater;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.internal.utils.config.ConfigWithFallback;
+import org.eclipse.ditto.internal.utils.config.DittoConfigError;
+import org.eclipse.ditto.internal.utils.config.ScopedConfig;
+
+import com.typesafe.config.Config;
+
+/**
+ * This class implements the config for storing large entity snapshots as compressed CBOR.
+ *
+ * @since 3.8.0
+ */
+@Immutable
+public final class DefaultSnapshotCompressionConfig implements SnapshotCompressionConfig {
+
+    private static final String CONFIG_PATH = "snapshot-compression";
+
+    private final boolean enabled;
+    private final long threshold;
+    private final int level;
+
+    private DefaultSnapshotCompressionConfig(final ScopedConfig config) {
+        enabled = config.getBoolean(SnapshotCompressionConfigValue.ENABLED.getConfigPath());
+        threshold = config.getBytes(SnapshotCompressionConfigValue.THRESHOLD.getConfigPath());
+        level = config.getPositiveIntOrThrow(SnapshotCompressionConfigValue.LEVEL);
+        if (level > Deflater.BEST_COMPRESSION) {
+            final var msgPattern = "The value for <{0}> must be between 1 and 9 but it was <{1}>!";
+            throw new DittoConfigError(MessageFormat.format(msgPattern,
+                    SnapshotCompressionConfigValue.LEVEL.getConfigPath(), level));
+        }
+    }
+
+    /**
+     * Returns an instance of the default snapshot compression config based on the settings of the specified Config.
+     *
+     * @param config is supposed to provide the settings of the snapshot compression config at {@value #CONFIG_PATH}.
+     * @return instance
+     * @throws org.eclipse.ditto.internal.utils.config.DittoConfigError if {@code config} is invalid.
+     */
+    public static DefaultSnapshotCompressionConfig of(final Config config) {
+        return new DefaultSnapshotCompressionConfig(
+                ConfigWithFallback.newInstance(config, CONFIG_PATH, SnapshotCompressionConfigValue.values()));
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public long getThreshold() {
+        return threshold;
+    }
+
+    @Override
+    public int getLevel() {
+        return level;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final DefaultSnapshotCompressionConfig that = (DefaultSnapshotCompressionConfig) o;
+        return enabled == that.enabled &&
+                threshold == that.threshold &&
+                level == that.level;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(enabled, threshold, level);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "enabled=" + enabled +
+                ", threshold=" + threshold +
+                ", level=" + level +
+                "]";
+    }
+
+}
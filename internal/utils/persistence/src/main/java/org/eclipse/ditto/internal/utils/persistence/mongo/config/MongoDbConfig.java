@@ -84,6 +84,14 @@ public interface MongoDbConfig {
      */
     MongoReadJournalConfig getReadJournalConfig();
 
+    /**
+     * Returns the configuration settings for batching the queries of recovering persistence actors.
+     *
+     * @return the recovery batching config.
+     * @since 3.8.0
+     */
+    RecoveryBatchingConfig getRecoveryBatchingConfig();
+
     /**
      * An enumeration of known value paths and associated default values of the MongoDbConfig.
      */
@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.persistence.mongo.config;
+
+import java.time.Duration;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.internal.utils.config.KnownConfigValue;
+
+/**
+ * Provides configuration settings for batching the MongoDB queries of concurrently recovering persistence actors.
+ *
+ * @since 3.8.0
+ */
+@Immutable
+public interface RecoveryBatchingConfig {
+
+    /**
+     * Indicates whether the snapshot and journal queries of recovering persistence actors are batched.
+     *
+     * @return {@code true} if recovery queries are batched.
+     */
+    boolean isEnabled();
+
+    /**
+     * Returns how long to collect concurrent recovery queries before they are sent as one batched query.
+     *
+     * @return the batching window.
+     */
+    Duration getWindow();
+
+    /**
+     * Returns the maximum number of entities whose recovery queries are combined into one batched query.
+     *
+     * @return the maximum batch size.
+     */
+    int getMaxBatchSize();
+
+    /**
+     * Returns the maximum number of events which are replayed with one batched query.
+     * Replays of more events are not batched.
+     *
+     * @return the maximum number of events per batch.
+     */
+    int getMaxEventsPerBatch();
+
+    /**
+     * Returns the maximum number of batched queries of one kind which are in flight at the same time.
+     *
+     * @return the parallelism.
+     */
+    int getParallelism();
+
+    /**
+     * An enumeration of the known config path expressions and their associated default values for
+     * {@code RecoveryBatchingConfig}.
+     */
+    enum RecoveryBatchingConfigValue implements KnownConfigValue {
+
+        /**
+         * Whether the snapshot and journal queries of recovering persistence actors are batched.
+         */
+        ENABLED("enabled", false),
+
+        /**
+         * How long to collect concurrent recovery queries before they are sent as one batched query.
+         */
+        WINDOW("window", Duration.ofMillis(10L)),
+
+        /**
+         * The maximum number of entities whose recovery queries are combined into one batched query.
+         */
+        MAX_BATCH_SIZE("max-batch-size", 100),
+
+        /**
+         * The maximum number of events which are replayed with one batched query.
+         */
+        MAX_EVENTS_PER_BATCH("max-events-per-batch", 1000),
+
+        /**
+         * The maximum number of batched queries of one kind which are in flight at the same time.
+         */
+        PARALLELISM("parallelism", 4);
+
+        private final String path;
+        private final Object defaultValue;
+
+        RecoveryBatchingConfigValue(final String thePath, final Object theDefaultValue) {
+            path = thePath;
+            defaultValue = theDefaultValue;
+        }
+
+        @Override
+        public Object getDefaultValue() {
+            return defaultValue;
+        }
+
+        @Override
+        public String getConfigPath() {
+            return path;
+        }
+
+    }
+
+}
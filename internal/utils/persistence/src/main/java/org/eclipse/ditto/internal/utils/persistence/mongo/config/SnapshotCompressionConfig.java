@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.persistence.mongo.config;
+
+import java.util.zip.Deflater;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.internal.utils.config.KnownConfigValue;
+
+/**
+ * Provides configuration settings for storing large entity snapshots as compressed CBOR.
+ *
+ * @since 3.8.0
+ */
+@Immutable
+public interface SnapshotCompressionConfig {
+
+    /**
+     * Indicates whether snapshots above the threshold are stored compressed.
+     * Compressed snapshots remain readable when compression is disabled again.
+     *
+     * @return {@code true} if large snapshots are compressed.
+     */
+    boolean isEnabled();
+
+    /**
+     * Returns the size in bytes of the CBOR encoded entity above which its snapshot is stored compressed.
+     *
+     * @return the threshold in bytes.
+     */
+    long getThreshold();
+
+    /**
+     * Returns the deflate compression level between 1 (fastest) and 9 (smallest).
+     *
+     * @return the compression level.
+     */
+    int getLevel();
+
+    /**
+     * An enumeration of the known config path expressions and their associated default values for
+     * {@code SnapshotCompressionConfig}.
+     */
+    enum SnapshotCompressionConfigValue implements KnownConfigValue {
+
+        /**
+         * Whether snapshots above the threshold are stored compressed.
+         */
+        ENABLED("enabled", false),
+
+        /**
+         * The size in bytes of the CBOR encoded entity above which its snapshot is stored compressed.
+         */
+        THRESHOLD("threshold", "64k"),
+
+        /**
+         * The deflate compression level.
+         */
+        LEVEL("level", Deflater.BEST_SPEED);
+
+        private final String path;
+        private final Object defaultValue;
+
+        SnapshotCompressionConfigValue(final String thePath, final Object theDefaultValue) {
+            path = thePath;
+            defaultValue = theDefaultValue;
+        }
+
+        @Override
+        public Object getDefaultValue() {
+            return defaultValue;
+        }
+
+        @Override
+        public String getConfigPath() {
+            return path;
+        }
+
+    }
+
+}
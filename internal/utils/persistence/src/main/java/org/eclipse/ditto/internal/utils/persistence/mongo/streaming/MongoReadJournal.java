@@ -73,9 +73,12 @@ import com.mongodb.client.model.Collation;
 import com.mongodb.client.model.Filters;
 import com.mongodb.client.model.Projections;
 import com.mongodb.client.model.Sorts;
+import com.mongodb.client.model.Updates;
 import com.mongodb.client.result.DeleteResult;
+import com.mongodb.client.result.UpdateResult;
 import com.mongodb.reactivestreams.client.AggregatePublisher;
 import com.mongodb.reactivestreams.client.MongoCollection;
+import com.mongodb.reactivestreams.client.MongoDatabase;
 import com.typesafe.config.Config;
 
 import pekko.contrib.persistence.mongodb.JavaDslMongoReadJournal;
@@ -135,6 +138,11 @@ public final class MongoReadJournal implements CurrentEventsByPersistenceIdQuery
      * Document field of the highest event sequence number in journals.
      */
     private static final String J_TO = JournallingFieldNames$.MODULE$.TO();
+
+    /**
+     * Document field of the lowest event sequence number in journals.
+     */
+    private static final String J_FROM = JournallingFieldNames$.MODULE$.FROM();
     private static final String J_TAGS = JournallingFieldNames$.MODULE$.TAGS();
 
     /**
@@ -163,6 +171,7 @@ public final class MongoReadJournal implements CurrentEventsByPersistenceIdQuery
     public static final String J_EVENT_PID = JournallingFieldNames$.MODULE$.PROCESSOR_ID();
     public static final String J_EVENT_MANIFEST = JournallingFieldNames$.MODULE$.MANIFEST();
     private static final String J_EVENT_SN = JournallingFieldNames$.MODULE$.SEQUENCE_NUMBER();
+    private static final String J_EVENT_PAYLOAD = JournallingFieldNames$.MODULE$.PayloadKey();
 
     private static final Duration MAX_BACK_OFF_DURATION = Duration.ofSeconds(128L);
 
@@ -253,6 +262,16 @@ public final class MongoReadJournal implements CurrentEventsByPersistenceIdQuery
         );
     }
 
+    /**
+     * Returns the database containing the journal and snapshot collections.
+     *
+     * @return the database.
+     * @since 3.8.0
+     */
+    public MongoDatabase getDatabase() {
+        return mongoClient.getDefaultDatabase();
+    }
+
     /**
      * Ensure a compound index exists for journal PID streaming based on tags.
      *
@@ -671,6 +690,44 @@ public final class MongoReadJournal implements CurrentEventsByPersistenceIdQuery
                 .flatMapConcat(journal -> Source.fromPublisher(journal.deleteMany(filter)));
     }
 
+    /**
+     * Replace the persisted payload of a single event of a PID, e.g. by an event which merges the event with its
+     * predecessors. Only journal entries which contain exactly the event with the given sequence number are updated.
+     * The tags of the journal entry and of its event are replaced by the given tags like the persistence plugin
+     * writes them, so that the event is found by the tags of the new event only.
+     *
+     * @param pid the PID.
+     * @param seqNr the sequence number of the event to replace.
+     * @param manifest the manifest of the new event.
+     * @param payload the payload of the new event as produced by the event adapter of the journal.
+     * @param tags the journal tags of the new event.
+     * @return source of the update result.
+     * @since 3.8.0
+     */
+    public Source<UpdateResult, NotUsed> replaceEvent(final String pid, final long seqNr, final String manifest,
+            final BsonDocument payload, final Set<String> tags) {
+
+        final Bson filter = Filters.and(Filters.eq(J_PROCESSOR_ID, pid),
+                Filters.eq(J_FROM, seqNr),
+                Filters.eq(J_TO, seqNr));
+        final String firstEvent = J_EVENT + ".0.";
+        final List<Bson> updates = new ArrayList<>();
+        updates.add(Updates.set(firstEvent + J_EVENT_PAYLOAD, payload));
+        updates.add(Updates.set(firstEvent + J_EVENT_MANIFEST, manifest));
+        if (tags.isEmpty()) {
+            // like the persistence plugin, omit empty tags
+            updates.add(Updates.unset(J_TAGS));
+            updates.add(Updates.unset(firstEvent + J_TAGS));
+        } else {
+            final BsonArray bsonTags = new BsonArray(tags.stream().sorted().map(BsonString::new).toList());
+            updates.add(Updates.set(J_TAGS, bsonTags));
+            updates.add(Updates.set(firstEvent + J_TAGS, bsonTags));
+        }
+        final Bson update = Updates.combine(updates);
+        return getJournal()
+                .flatMapConcat(journal -> Source.fromPublisher(journal.updateOne(filter, update)));
+    }
+
     /**
      * Delete snapshots of a PID.
      *
@@ -86,9 +86,23 @@ public final class MongoTimestampPersistence implements TimestampPersistence {
      */
     public static MongoTimestampPersistence initializedInstance(final String collectionName,
             final DittoMongoClient mongoClient, final Materializer materializer) {
+        return initializedInstance(collectionName, mongoClient.getDefaultDatabase(), materializer);
+    }
+
+    /**
+     * Creates a new initialized instance.
+     *
+     * @param collectionName The name of the collection.
+     * @param database the database containing the collection.
+     * @param materializer an actor materializer to materialize the restart-source of the timestamp collection.
+     * @return a new initialized instance.
+     * @since 3.8.0
+     */
+    public static MongoTimestampPersistence initializedInstance(final String collectionName,
+            final MongoDatabase database, final Materializer materializer) {
         final Source<MongoCollection, NotUsed> collectionSource =
-                createOrGetCappedCollection(mongoClient.getDefaultDatabase(), collectionName,
-                        MIN_CAPPED_COLLECTION_SIZE_IN_BYTES, materializer);
+                createOrGetCappedCollection(database, collectionName, MIN_CAPPED_COLLECTION_SIZE_IN_BYTES,
+                        materializer);
 
         return new MongoTimestampPersistence(collectionSource);
     }
@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.persistence.pekko
+
+import org.apache.pekko.persistence.PersistentRepr
+import org.apache.pekko.stream.Materializer
+import org.bson.{BsonDocument, BsonValue}
+import org.eclipse.ditto.internal.utils.persistence.mongo.config.RecoveryBatchingConfig
+import org.mongodb.scala.model.{Accumulators, Aggregates, Filters, Projections, Sorts}
+import pekko.contrib.persistence.mongodb.Event
+import pekko.contrib.persistence.mongodb.JournallingFieldNames._
+import pekko.contrib.persistence.mongodb.driver.{ScalaDriverPersistenceJournaller, ScalaMongoDriver}
+
+import scala.concurrent.{ExecutionContext, Future}
+import scala.jdk.CollectionConverters._
+
+/**
+ * A [[ScalaDriverPersistenceJournaller]] which reads the highest sequence numbers and replays the events of
+ * concurrently recovering persistence actors with one query per batch of persistence IDs instead of one query per
+ * persistence ID.
+ * Replays with a limited number of events, replays of more events than fit into one batch and journals with
+ * suffixed collection names are not batched.
+ *
+ * @param driver    the driver of the journal
+ * @param config    the recovery batching config
+ * @param queueSize the maximum number of queries per kind waiting to be batched, further queries are executed one by one
+ */
+class BatchingScalaDriverPersistenceJournaller private[pekko](driver: ScalaMongoDriver,
+                                                              config: RecoveryBatchingConfig,
+                                                              queueSize: Int)
+  extends ScalaDriverPersistenceJournaller(driver) {
+
+  /**
+   * @param driver the driver of the journal
+   * @param config the recovery batching config
+   */
+  def this(driver: ScalaMongoDriver, config: RecoveryBatchingConfig) =
+    this(driver, config, RecoveryBatcher.QueueSize)
+
+  import BatchingScalaDriverPersistenceJournaller._
+
+  private implicit val ec: ExecutionContext = driver.pluginDispatcher
+  private implicit val materializer: Materializer = driver.materializer
+
+  private val highestSequenceNumbers =
+    new RecoveryBatcher[String, Long]("highest-sequence-nr", config, findHighestSequenceNumbers, queueSize)
+
+  private val eventRanges =
+    new RecoveryBatcher[EventRangeQuery, Seq[Event]]("events", config, findEventRanges, queueSize,
+      query => query.to - query.from + 1L, config.getMaxEventsPerBatch.toLong)
+
+  /*
+   * Like the journaller, ignores "from", which is only a hint where the search may start.
+   */
+  override def maxSequenceNr(pid: String, from: Long): Future[Long] =
+    if (driver.useSuffixedCollectionNames) {
+      super.maxSequenceNr(pid, from)
+    } else {
+      highestSequenceNumbers.query(pid)
+        .map(_.map(_.getOrElse(0L)))
+        .getOrElse(super.maxSequenceNr(pid, from))
+    }
+
+  override def replayJournal(pid: String, from: Long, to: Long, max: Long)
+                            (replayCallback: PersistentRepr => Unit): Future[Unit] =
+    if (to < from || to - from >= config.getMaxEventsPerBatch || max != Long.MaxValue ||
+      driver.useSuffixedCollectionNames) {
+      super.replayJournal(pid, from, to, max)(replayCallback)
+    } else {
+      eventRanges.query(EventRangeQuery(pid, from, to))
+        .map(_.map(_.getOrElse(Seq.empty).foreach(event => replayCallback(event.toRepr))))
+        .getOrElse(super.replayJournal(pid, from, to, max)(replayCallback))
+    }
+
+  /*
+   * Like the journaller, takes the highest "to" of the journal entries and falls back to the metadata collection for
+   * persistence IDs without journal entries, e.g. because all of their events were deleted.
+   * Sorting by the "max_sequence_sort" index before taking the first "to" per persistence ID lets MongoDB read only
+   * one index entry per persistence ID instead of all of their journal entries.
+   */
+  private def findHighestSequenceNumbers(pids: Seq[String]): Future[Map[String, Long]] = {
+    val fromJournal = driver.journal
+      .flatMap(_.aggregate(Seq(
+        Aggregates.`match`(Filters.in(PROCESSOR_ID, pids: _*)),
+        Aggregates.sort(Sorts.orderBy(Sorts.ascending(PROCESSOR_ID), Sorts.descending(TO))),
+        Aggregates.group("$" + PROCESSOR_ID, Accumulators.first(Max, "$" + TO))
+      )).toFuture())
+      .map(_.flatMap(document => int64(document, Max).map(document.getString(ID).getValue -> _)).toMap)
+
+    fromJournal.flatMap { found =>
+      val missing = pids.filterNot(found.contains)
+      if (missing.isEmpty) {
+        Future.successful(found)
+      } else {
+        driver.metadata
+          .flatMap(_.find(Filters.in(PROCESSOR_ID, missing: _*))
+            .projection(Projections.include(PROCESSOR_ID, MAX_SN))
+            .toFuture())
+          .map(_.flatMap(document => int64(document, MAX_SN).map(document.getString(PROCESSOR_ID).getValue -> _)).toMap)
+          .map(found ++ _)
+      }
+    }
+  }
+
+  /*
+   * The number of read events is bounded by the weight of the batch. The journal entries are sorted per persistence
+   * ID in memory, as no index provides the order of the results of the "$or" query.
+   */
+  private def findEventRanges(queries: Seq[EventRangeQuery]): Future[Map[EventRangeQuery, Seq[Event]]] =
+    driver.journal
+      .flatMap(_.find(Filters.or(queries.map(query => Filters.and(
+        Filters.equal(PROCESSOR_ID, query.pid),
+        Filters.gte(TO, query.from),
+        Filters.lte(FROM, query.to)
+      )): _*))
+        .projection(Projections.include(PROCESSOR_ID, TO, EVENTS))
+        .toFuture())
+      .map { documents =>
+        val eventsPerPid = documents.groupBy(_.getString(PROCESSOR_ID).getValue)
+          .map { case (pid, pidDocuments) =>
+            pid -> pidDocuments.sortBy(document => int64(document, TO).getOrElse(0L)).flatMap(deserializeEvents)
+          }
+        queries.map(query => query -> eventsPerPid.getOrElse(query.pid, Seq.empty)
+          .filter(event => event.sn >= query.from && event.sn <= query.to)).toMap
+      }
+
+  private def deserializeEvents(document: BsonDocument): Seq[Event] =
+    Option(document.get(EVENTS))
+      .filter(_.isArray)
+      .map(_.asArray.getValues.asScala.toSeq.collect {
+        case event: BsonDocument => driver.deserializeJournal(event)(driver.ScalaSerializers.Deserializer)
+      })
+      .getOrElse(Seq.empty)
+
+}
+
+private object BatchingScalaDriverPersistenceJournaller {
+
+  private val Max = "max"
+
+  private case class EventRangeQuery(pid: String, from: Long, to: Long)
+
+  private def int64(document: BsonDocument, field: String): Option[Long] =
+    Option(document.get(field)).filter((value: BsonValue) => value.isInt64).map(_.asInt64.getValue)
+
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.persistence.pekko
+
+import org.apache.pekko.persistence.SelectedSnapshot
+import org.apache.pekko.serialization.{Serialization, SerializationExtension}
+import org.apache.pekko.stream.Materializer
+import org.eclipse.ditto.internal.utils.persistence.mongo.config.RecoveryBatchingConfig
+import org.mongodb.scala.model.{Accumulators, Aggregates, Filters, Sorts}
+import pekko.contrib.persistence.mongodb.SnapshottingFieldNames._
+import pekko.contrib.persistence.mongodb.driver.{ScalaDriverPersistenceSnapshotter, ScalaMongoDriver}
+
+import scala.concurrent.{ExecutionContext, Future}
+
+/**
+ * A [[ScalaDriverPersistenceSnapshotter]] which loads the latest snapshots of concurrently recovering persistence
+ * actors with one aggregation per batch of persistence IDs instead of one query per persistence ID.
+ * Snapshot queries with other selection criteria than the latest snapshot are executed one by one.
+ *
+ * @param driver    the driver of the snapshot store
+ * @param config    the recovery batching config
+ * @param queueSize the maximum number of queries waiting to be batched, further queries are executed one by one
+ */
+class BatchingScalaDriverPersistenceSnapshotter private[pekko](driver: ScalaMongoDriver,
+                                                               config: RecoveryBatchingConfig,
+                                                               queueSize: Int)
+  extends ScalaDriverPersistenceSnapshotter(driver) {
+
+  /**
+   * @param driver the driver of the snapshot store
+   * @param config the recovery batching config
+   */
+  def this(driver: ScalaMongoDriver, config: RecoveryBatchingConfig) =
+    this(driver, config, RecoveryBatcher.QueueSize)
+
+  private implicit val ec: ExecutionContext = driver.pluginDispatcher
+  private implicit val materializer: Materializer = driver.materializer
+  private implicit val serialization: Serialization = SerializationExtension(driver.actorSystem)
+
+  private val latestSnapshots =
+    new RecoveryBatcher[String, SelectedSnapshot]("snapshot", config, findLatestSnapshots, queueSize)
+
+  override def findYoungestSnapshotByMaxSequence(pid: String, maxSeq: Long,
+                                                 maxTs: Long): Future[Option[SelectedSnapshot]] =
+    if (maxSeq == Long.MaxValue && maxTs == Long.MaxValue && !driver.useSuffixedCollectionNames) {
+      latestSnapshots.query(pid).getOrElse(super.findYoungestSnapshotByMaxSequence(pid, maxSeq, maxTs))
+    } else {
+      super.findYoungestSnapshotByMaxSequence(pid, maxSeq, maxTs)
+    }
+
+  private def findLatestSnapshots(pids: Seq[String]): Future[Map[String, SelectedSnapshot]] =
+    driver.snaps
+      .flatMap(_.aggregate(Seq(
+        Aggregates.`match`(Filters.in(PROCESSOR_ID, pids: _*)),
+        Aggregates.sort(Sorts.orderBy(Sorts.ascending(PROCESSOR_ID), Sorts.descending(SEQUENCE_NUMBER, TIMESTAMP))),
+        Aggregates.group("$" + PROCESSOR_ID, Accumulators.first(BatchingScalaDriverPersistenceSnapshotter.Latest,
+          "$$ROOT"))
+      )).toFuture())
+      .map(_.map { document =>
+        val snapshot = ScalaDriverPersistenceSnapshotter.deserializeSnapshot(
+          document.getDocument(BatchingScalaDriverPersistenceSnapshotter.Latest))
+        snapshot.metadata.persistenceId -> snapshot
+      }.toMap)
+
+}
+
+private object BatchingScalaDriverPersistenceSnapshotter {
+
+  private val Latest = "latest"
+
+}
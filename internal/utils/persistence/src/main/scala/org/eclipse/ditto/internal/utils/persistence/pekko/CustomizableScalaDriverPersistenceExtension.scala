@@ -19,7 +19,7 @@ import org.eclipse.ditto.internal.utils.config.DefaultScopedConfig
 import org.eclipse.ditto.internal.utils.persistence.mongo.auth.AwsAuthenticationHelper
 import org.eclipse.ditto.internal.utils.persistence.mongo.config.DefaultMongoDbConfig
 import pekko.contrib.persistence.mongodb.driver.{ScalaDriverPersistenceJournaller, ScalaDriverPersistenceReadJournaller, ScalaDriverPersistenceSnapshotter, ScalaMongoDriver}
-import pekko.contrib.persistence.mongodb.{ConfiguredExtension, MongoPersistenceExtension, MongoPersistenceJournalMetrics, MongoPersistenceJournallingApi}
+import pekko.contrib.persistence.mongodb.{ConfiguredExtension, MongoPersistenceExtension, MongoPersistenceJournalMetrics, MongoPersistenceJournallingApi, MongoPersistenceSnapshottingApi}
 
 /**
  * An adjustment of the original pekko-persistence
@@ -27,6 +27,8 @@ import pekko.contrib.persistence.mongodb.{ConfiguredExtension, MongoPersistenceE
  * overwrite configuration of the used [[ScalaMongoDriver]].
  * Creates an instance of [[CustomizableScalaMongoDriver]] when a custom [[MongoCredential]] should be provided
  * to the driver in order to authenticate.
+ * Batches the recovery queries of concurrently recovering persistence actors if configured so in
+ * `ditto.mongodb.recovery-batching`.
  *
  * @param actorSystem the ActorSystem in which the extension was loaded
  */
@@ -37,8 +39,11 @@ class CustomizableScalaDriverPersistenceExtension(val actorSystem: ActorSystem)
 
   case class Configured(config: Config) extends ConfiguredExtension {
 
+    private val mongoDbConfig = DefaultMongoDbConfig.of(DefaultScopedConfig.dittoScoped(actorSystem.settings.config))
+
+    private val recoveryBatchingConfig = mongoDbConfig.getRecoveryBatchingConfig
+
     val driver: ScalaMongoDriver = {
-      val mongoDbConfig = DefaultMongoDbConfig.of(DefaultScopedConfig.dittoScoped(actorSystem.settings.config))
       val optionsConfig = mongoDbConfig.getOptionsConfig
 
       if (optionsConfig.isUseAwsIamRole) {
@@ -53,11 +58,25 @@ class CustomizableScalaDriverPersistenceExtension(val actorSystem: ActorSystem)
       }
     }
 
-    override lazy val journaler: MongoPersistenceJournallingApi = new ScalaDriverPersistenceJournaller(driver)
-      with MongoPersistenceJournalMetrics {
-      override def driverName = "scala-official"
-    }
-    override lazy val snapshotter = new ScalaDriverPersistenceSnapshotter(driver)
+    override lazy val journaler: MongoPersistenceJournallingApi =
+      if (recoveryBatchingConfig.isEnabled) {
+        new BatchingScalaDriverPersistenceJournaller(driver, recoveryBatchingConfig)
+          with MongoPersistenceJournalMetrics {
+          override def driverName = "scala-official"
+        }
+      } else {
+        new ScalaDriverPersistenceJournaller(driver)
+          with MongoPersistenceJournalMetrics {
+          override def driverName = "scala-official"
+        }
+      }
+
+    override lazy val snapshotter: MongoPersistenceSnapshottingApi =
+      if (recoveryBatchingConfig.isEnabled) {
+        new BatchingScalaDriverPersistenceSnapshotter(driver, recoveryBatchingConfig)
+      } else {
+        new ScalaDriverPersistenceSnapshotter(driver)
+      }
 
     override lazy val readJournal = new ScalaDriverPersistenceReadJournaller(driver)
   }
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.persistence.pekko
+
+import java.util.concurrent.TimeUnit
+
+import org.apache.pekko.stream.scaladsl.{Sink, Source}
+import org.apache.pekko.stream.{Materializer, QueueOfferResult}
+import org.eclipse.ditto.internal.utils.metrics.DittoMetrics
+import org.eclipse.ditto.internal.utils.persistence.mongo.config.RecoveryBatchingConfig
+
+import scala.concurrent.{ExecutionContext, Future, Promise}
+import scala.jdk.DurationConverters._
+import scala.util.Success
+
+/**
+ * Collects the queries of concurrently recovering persistence actors for a short window and executes each batch of
+ * them as one query against MongoDB.
+ *
+ * @param queryName    the name of the batched query to tag the metrics with
+ * @param config       the recovery batching config
+ * @param executeBatch executes the query for the distinct keys of one batch and returns the results by key;
+ *                     queries whose key is missing in the result are completed with `None`
+ * @param queueSize    the maximum number of queries waiting to be batched, further queries are rejected
+ * @param weigh        estimates the cost of one query, e.g. the number of documents it reads
+ * @param maxWeight    the maximum summed up cost of the queries of one batch
+ * @tparam K type of the query keys
+ * @tparam V type of the query results
+ */
+private[pekko] final class RecoveryBatcher[K, V](queryName: String,
+                                                 config: RecoveryBatchingConfig,
+                                                 executeBatch: Seq[K] => Future[Map[K, V]],
+                                                 queueSize: Int = RecoveryBatcher.QueueSize,
+                                                 weigh: K => Long = (_: K) => 1L,
+                                                 maxWeight: Long = Long.MaxValue)
+                                                (implicit materializer: Materializer, ec: ExecutionContext) {
+
+  private val batchSize = DittoMetrics.histogram("mongo_recovery_batch_size").tag("query", queryName)
+  private val latency = DittoMetrics.histogram("mongo_recovery_latency_ms").tag("query", queryName)
+
+  private val queue = Source.queue[Request](queueSize)
+    .groupedWeightedWithin(maxWeight, config.getMaxBatchSize, config.getWindow.toScala)(request => weigh(request.key))
+    .mapAsyncUnordered(config.getParallelism)(executeAndComplete)
+    .to(Sink.ignore)
+    .run()
+
+  /**
+   * Enqueues a query to be executed with the next batch.
+   *
+   * @param key the key of the query
+   * @return the future result of the query, or `None` if too many queries are pending - in that case the caller
+   *         has to execute the query on its own
+   */
+  def query(key: K): Option[Future[Option[V]]] = {
+    val request = Request(key, Promise[Option[V]](), System.nanoTime())
+    queue.offer(request) match {
+      case QueueOfferResult.Enqueued => Some(request.promise.future)
+      case _ => None
+    }
+  }
+
+  private def executeAndComplete(requests: Seq[Request]): Future[Unit] = {
+    batchSize.record(requests.size.toLong)
+    Future.delegate(executeBatch(requests.map(_.key).distinct))
+      .transform { result =>
+        requests.foreach { request =>
+          latency.record(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - request.enqueued))
+          request.promise.complete(result.map(_.get(request.key)))
+        }
+        Success(())
+      }
+  }
+
+  private case class Request(key: K, promise: Promise[Option[V]], enqueued: Long)
+
+}
+
+private[pekko] object RecoveryBatcher {
+
+  /**
+   * Maximum number of queries waiting to be batched, further queries are executed one by one.
+   */
+  private[pekko] val QueueSize = 10000
+
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.persistence.mongo;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.util.Optional;
+
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.BsonDocumentCodec;
+import org.eclipse.ditto.internal.utils.persistence.mongo.config.DefaultSnapshotCompressionConfig;
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.junit.Test;
+
+import com.typesafe.config.ConfigFactory;
+
+/**
+ * Unit test for {@link SnapshotCompressor}.
+ */
+public final class SnapshotCompressorTest {
+
+    private static final SnapshotCompressor UNDER_TEST = SnapshotCompressor.of(DefaultSnapshotCompressionConfig.of(
+            ConfigFactory.parseString("snapshot-compression { enabled = true, threshold = 1k }")));
+
+    @Test
+    public void smallEntityIsNotCompressed() {
+        assertThat(UNDER_TEST.compress(thingJson(1))).isEmpty();
+    }
+
+    @Test
+    public void nothingIsCompressedIfDisabled() {
+        final SnapshotCompressor underTest =
+                SnapshotCompressor.of(DefaultSnapshotCompressionConfig.of(ConfigFactory.empty()));
+
+        assertThat(underTest.compress(thingJson(1000))).isEmpty();
+    }
+
+    @Test
+    public void largeEntityIsCompressedAndRestored() {
+        final JsonObject thingJson = thingJson(1000);
+
+        final Optional<BsonDocument> compressed = UNDER_TEST.compress(thingJson);
+
+        assertThat(compressed).hasValueSatisfying(document -> {
+            assertThat(SnapshotCompressor.isCompressed(document)).isTrue();
+            assertThat(UNDER_TEST.decompress(document)).isEqualTo(thingJson);
+        });
+    }
+
+    @Test
+    public void compressedSnapshotKeepsTopLevelScalarFields() {
+        final BsonDocument document = UNDER_TEST.compress(thingJson(1000)).orElseThrow();
+
+        assertThat(document.get("thingId")).isEqualTo(new BsonString("org.eclipse.ditto:large"));
+        assertThat(document.getNumber("_revision").longValue()).isEqualTo(42L);
+        assertThat(document.containsKey("features")).isFalse();
+        assertThat(document.containsKey("attributes")).isFalse();
+    }
+
+    @Test
+    public void compressedSnapshotIsSmallerThanPlainSnapshot() {
+        final JsonObject thingJson = thingJson(5000);
+
+        final int plainSize = sizeOf(DittoBsonJson.getInstance().parse(thingJson));
+        final int compressedSize = sizeOf(UNDER_TEST.compress(thingJson).orElseThrow());
+
+        assertThat(compressedSize).isLessThan(plainSize / 4);
+    }
+
+    @Test
+    public void plainSnapshotIsNotCompressed() {
+        final BsonDocument plain = DittoBsonJson.getInstance().parse(thingJson(1000));
+
+        assertThat(SnapshotCompressor.isCompressed(plain)).isFalse();
+    }
+
+    @Test
+    public void unknownEncodingIsRejected() {
+        final BsonDocument document = UNDER_TEST.compress(thingJson(1000)).orElseThrow();
+        document.put(SnapshotCompressor.ENCODING_FIELD, new BsonString("cbor+zstd"));
+
+        assertThatIllegalArgumentException().isThrownBy(() -> UNDER_TEST.decompress(document));
+    }
+
+    private static int sizeOf(final BsonDocument document) {
+        return new RawBsonDocument(document, new BsonDocumentCodec()).getByteBuffer().remaining();
+    }
+
+    private static JsonObject thingJson(final int numberOfProperties) {
+        final JsonObjectBuilder properties = JsonObject.newBuilder();
+        for (int i = 0; i < numberOfProperties; i++) {
+            properties.set("sensor" + i, JsonObject.newBuilder()
+                    .set("value", i * 0.5)
+                    .set("unit", "celsius")
+                    .set("history", JsonArray.of(i, i + 1, i + 2))
+                    .build());
+        }
+        return JsonObject.newBuilder()
+                .set("thingId", "org.eclipse.ditto:large")
+                .set("policyId", "org.eclipse.ditto:large")
+                .set("_revision", 42L)
+                .set("attributes", JsonObject.newBuilder().set("manufacturer", "ACME").build())
+                .set("features", JsonObject.newBuilder()
+                        .set("environment", JsonObject.newBuilder().set("properties", properties.build()).build())
+                        .build())
+                .build();
+    }
+
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.persistence.mongo.config;
+
+import java.time.Duration;
+
+import org.assertj.core.api.JUnitSoftAssertions;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+
+/**
+ * Unit test for {@link DefaultRecoveryBatchingConfig}.
+ */
+public final class DefaultRecoveryBatchingConfigTest {
+
+    private static Config recoveryBatchingTestConf;
+
+    @Rule
+    public final JUnitSoftAssertions softly = new JUnitSoftAssertions();
+
+    @BeforeClass
+    public static void initTestFixture() {
+        recoveryBatchingTestConf = ConfigFactory.load("recovery-batching-test");
+    }
+
+    @Test
+    public void testHashCodeAndEquals() {
+        EqualsVerifier.forClass(DefaultRecoveryBatchingConfig.class)
+                .usingGetClass()
+                .verify();
+    }
+
+    @Test
+    public void underTestReturnsDefaultValuesIfBaseConfigWasEmpty() {
+        final DefaultRecoveryBatchingConfig underTest = DefaultRecoveryBatchingConfig.of(ConfigFactory.empty());
+
+        softly.assertThat(underTest.isEnabled())
+                .as(RecoveryBatchingConfig.RecoveryBatchingConfigValue.ENABLED.getConfigPath())
+                .isEqualTo(RecoveryBatchingConfig.RecoveryBatchingConfigValue.ENABLED.getDefaultValue());
+        softly.assertThat(underTest.getWindow())
+                .as(RecoveryBatchingConfig.RecoveryBatchingConfigValue.WINDOW.getConfigPath())
+                .isEqualTo(RecoveryBatchingConfig.RecoveryBatchingConfigValue.WINDOW.getDefaultValue());
+        softly.assertThat(underTest.getMaxBatchSize())
+                .as(RecoveryBatchingConfig.RecoveryBatchingConfigValue.MAX_BATCH_SIZE.getConfigPath())
+                .isEqualTo(RecoveryBatchingConfig.RecoveryBatchingConfigValue.MAX_BATCH_SIZE.getDefaultValue());
+        softly.assertThat(underTest.getMaxEventsPerBatch())
+                .as(RecoveryBatchingConfig.RecoveryBatchingConfigValue.MAX_EVENTS_PER_BATCH.getConfigPath())
+                .isEqualTo(RecoveryBatchingConfig.RecoveryBatchingConfigValue.MAX_EVENTS_PER_BATCH.getDefaultValue());
+        softly.assertThat(underTest.getParallelism())
+                .as(RecoveryBatchingConfig.RecoveryBatchingConfigValue.PARALLELISM.getConfigPath())
+                .isEqualTo(RecoveryBatchingConfig.RecoveryBatchingConfigValue.PARALLELISM.getDefaultValue());
+    }
+
+    @Test
+    public void underTestReturnsValuesOfConfigFile() {
+        final DefaultRecoveryBatchingConfig underTest = DefaultRecoveryBatchingConfig.of(recoveryBatchingTestConf);
+
+        softly.assertThat(underTest.isEnabled())
+                .as(RecoveryBatchingConfig.RecoveryBatchingConfigValue.ENABLED.getConfigPath())
+                .isTrue();
+        softly.assertThat(underTest.getWindow())
+                .as(RecoveryBatchingConfig.RecoveryBatchingConfigValue.WINDOW.getConfigPath())
+                .isEqualTo(Duration.ofMillis(50L));
+        softly.assertThat(underTest.getMaxBatchSize())
+                .as(RecoveryBatchingConfig.RecoveryBatchingConfigValue.MAX_BATCH_SIZE.getConfigPath())
+                .isEqualTo(250);
+        softly.assertThat(underTest.getMaxEventsPerBatch())
+                .as(RecoveryBatchingConfig.RecoveryBatchingConfigValue.MAX_EVENTS_PER_BATCH.getConfigPath())
+                .isEqualTo(500);
+        softly.assertThat(underTest.getParallelism())
+                .as(RecoveryBatchingConfig.RecoveryBatchingConfigValue.PARALLELISM.getConfigPath())
+                .isEqualTo(2);
+    }
+
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.persistence.mongo.config;
+
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import org.assertj.core.api.JUnitSoftAssertions;
+import org.eclipse.ditto.internal.utils.config.DittoConfigError;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+
+/**
+ * Unit test for {@link DefaultSnapshotCompressionConfig}.
+ */
+public final class DefaultSnapshotCompressionConfigTest {
+
+    private static Config snapshotCompressionTestConf;
+
+    @Rule
+    public final JUnitSoftAssertions softly = new JUnitSoftAssertions();
+
+    @BeforeClass
+    public static void initTestFixture() {
+        snapshotCompressionTestConf = ConfigFactory.load("snapshot-compression-test");
+    }
+
+    @Test
+    public void testHashCodeAndEquals() {
+        EqualsVerifier.forClass(DefaultSnapshotCompressionConfig.class)
+                .usingGetClass()
+                .verify();
+    }
+
+    @Test
+    public void underTestReturnsDefaultValuesIfBaseConfigWasEmpty() {
+        final DefaultSnapshotCompressionConfig underTest = DefaultSnapshotCompressionConfig.of(ConfigFactory.empty());
+
+        softly.assertThat(underTest.isEnabled())
+                .as(SnapshotCompressionConfig.SnapshotCompressionConfigValue.ENABLED.getConfigPath())
+                .isEqualTo(SnapshotCompressionConfig.SnapshotCompressionConfigValue.ENABLED.getDefaultValue());
+        softly.assertThat(underTest.getThreshold())
+                .as(SnapshotCompressionConfig.SnapshotCompressionConfigValue.THRESHOLD.getConfigPath())
+                .isEqualTo(64L * 1024L);
+        softly.assertThat(underTest.getLevel())
+                .as(SnapshotCompressionConfig.SnapshotCompressionConfigValue.LEVEL.getConfigPath())
+                .isEqualTo(SnapshotCompressionConfig.SnapshotCompressionConfigValue.LEVEL.getDefaultValue());
+    }
+
+    @Test
+    public void underTestReturnsValuesOfConfigFile() {
+        final DefaultSnapshotCompressionConfig underTest =
+                DefaultSnapshotCompressionConfig.of(snapshotCompressionTestConf);
+
+        softly.assertThat(underTest.isEnabled())
+                .as(SnapshotCompressionConfig.SnapshotCompressionConfigValue.ENABLED.getConfigPath())
+                .isTrue();
+        softly.assertThat(underTest.getThreshold())
+                .as(SnapshotCompressionConfig.SnapshotCompressionConfigValue.THRESHOLD.getConfigPath())
+                .isEqualTo(1024L);
+        softly.assertThat(underTest.getLevel())
+                .as(SnapshotCompressionConfig.SnapshotCompressionConfigValue.LEVEL.getConfigPath())
+                .isEqualTo(9);
+    }
+
+    @Test
+    public void invalidLevelIsRejected() {
+        final Config config = ConfigFactory.parseString("snapshot-compression.level = 10");
+
+        assertThatExceptionOfType(DittoConfigError.class)
+                .isThrownBy(() -> DefaultSnapshotCompressionConfig.of(config));
+    }
+
+}
@@ -50,6 +50,7 @@ import org.junit.runner.RunWith;
 import org.junit.runners.Parameterized;
 
 import com.mongodb.client.result.DeleteResult;
+import com.mongodb.client.result.UpdateResult;
 import com.typesafe.config.Config;
 import com.typesafe.config.ConfigFactory;
 import com.typesafe.config.ConfigValueFactory;
@@ -574,6 +575,73 @@ public final class MongoReadJournalIT {
         assertThat(lowestSeqNrs).containsExactly(1L, 1L, 0L);
     }
 
+    @Test
+    public void replaceEventAndDeleteItsPredecessorsKeepsTagsConsistent() {
+        insert("test_journal", new JournalEntry("pid1").withSn(1L).withTags(Set.of("a")).getDocument());
+        insert("test_journal", new JournalEntry("pid1").withSn(2L).withTags(Set.of("b")).getDocument());
+        insert("test_journal", new JournalEntry("pid1").withSn(3L).withTags(Set.of("c")).getDocument());
+        insert("test_journal", new JournalEntry("pid2").withSn(1L).withTags(Set.of("a")).getDocument());
+        final BsonDocument payload = BsonDocument.parse("{\"type\": \"merged\"}");
+
+        final UpdateResult replaced = readJournal.replaceEvent("pid1", 3L, "merged", payload, Set.of("a", "b", "c"))
+                .runWith(Sink.head(), materializer)
+                .toCompletableFuture()
+                .join();
+        final DeleteResult deleted = readJournal.deleteEvents("pid1", 1L, 2L)
+                .runWith(Sink.head(), materializer)
+                .toCompletableFuture()
+                .join();
+
+        assertThat(replaced.getModifiedCount()).isOne();
+        assertThat(deleted.getDeletedCount()).isEqualTo(2L);
+        final List<Document> journal = find("test_journal", "pid1");
+        assertThat(journal).hasSize(1);
+        final Document entry = journal.get(0);
+        final Document event = entry.getList("events", Document.class).get(0);
+        assertThat(entry.getList("_tg", String.class)).containsExactly("a", "b", "c");
+        assertThat(event.getList("_tg", String.class)).containsExactly("a", "b", "c");
+        assertThat(event.get("p", Document.class).toBsonDocument()).isEqualTo(payload);
+        assertThat(event.getString("manifest")).isEqualTo("merged");
+        for (final String tag : List.of("a", "b", "c")) {
+            assertThat(readJournal.getJournalPidsWithTag(tag, 10, Duration.ZERO, materializer, true)
+                    .runWith(Sink.seq(), materializer)
+                    .toCompletableFuture()
+                    .join())
+                    .as(tag)
+                    .contains("pid1");
+        }
+    }
+
+    @Test
+    public void replaceEventWithoutTagsRemovesTags() {
+        insert("test_journal", new JournalEntry("pid1").withSn(1L).withTags(Set.of("a")).getDocument());
+
+        final UpdateResult replaced =
+                readJournal.replaceEvent("pid1", 1L, "merged", BsonDocument.parse("{}"), Set.of())
+                        .runWith(Sink.head(), materializer)
+                        .toCompletableFuture()
+                        .join();
+
+        assertThat(replaced.getModifiedCount()).isOne();
+        final Document entry = find("test_journal", "pid1").get(0);
+        assertThat(entry.containsKey("_tg")).isFalse();
+        assertThat(entry.getList("events", Document.class).get(0).containsKey("_tg")).isFalse();
+    }
+
+    @Test
+    public void replaceEventIgnoresUnknownEvents() {
+        insert("test_journal", new JournalEntry("pid1").withSn(1L).getDocument());
+
+        final UpdateResult replaced =
+                readJournal.replaceEvent("pid1", 2L, "merged", BsonDocument.parse("{}"), Set.of("a"))
+                        .runWith(Sink.head(), materializer)
+                        .toCompletableFuture()
+                        .join();
+
+        assertThat(replaced.getMatchedCount()).isZero();
+        assertThat(find("test_journal", "pid1").get(0).containsKey("_tg")).isFalse();
+    }
+
     @Test
     public void findLowestSnapshotSeqNr() {
         insert("test_snaps", new Document()
@@ -659,6 +727,13 @@ public final class MongoReadJournalIT {
                 .join();
     }
 
+    private List<Document> find(final CharSequence collection, final String pid) {
+        return Source.fromPublisher(mongoClient.getCollection(collection).find(new Document("pid", pid)))
+                .runWith(Sink.seq(), materializer)
+                .toCompletableFuture()
+                .join();
+    }
+
     private static final class JournalEntry {
 
         private final Document document;
@@ -672,6 +747,7 @@ public final class MongoReadJournalIT {
         }
 
         private JournalEntry withSn(final Long sn) {
+            document.append("from", sn);
             document.append("to", sn);
             final BsonDocument event = (BsonDocument) document.get("events", List.class).get(0);
             event.append("sn", new BsonInt64(sn));
@@ -0,0 +1,235 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.persistence.pekko;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import org.apache.pekko.actor.ActorRef;
+import org.apache.pekko.actor.ActorSystem;
+import org.apache.pekko.persistence.AtomicWrite;
+import org.apache.pekko.persistence.PersistentRepr;
+import org.apache.pekko.persistence.PersistentRepr$;
+import org.apache.pekko.stream.SystemMaterializer;
+import org.apache.pekko.stream.javadsl.Sink;
+import org.apache.pekko.stream.javadsl.Source;
+import org.apache.pekko.testkit.javadsl.TestKit;
+import org.eclipse.ditto.internal.utils.persistence.mongo.config.DefaultRecoveryBatchingConfig;
+import org.eclipse.ditto.internal.utils.persistence.mongo.config.RecoveryBatchingConfig;
+import org.eclipse.ditto.internal.utils.test.docker.mongo.MongoDbResource;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.ClassRule;
+import org.junit.Test;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+import com.typesafe.config.ConfigValueFactory;
+
+import pekko.contrib.persistence.mongodb.driver.ScalaDriverPersistenceJournaller;
+import pekko.contrib.persistence.mongodb.driver.ScalaMongoDriver;
+import scala.concurrent.Future;
+import scala.jdk.javaapi.CollectionConverters;
+import scala.jdk.javaapi.FutureConverters;
+import scala.runtime.BoxedUnit;
+
+/**
+ * Tests {@link BatchingScalaDriverPersistenceJournaller} against the results of the unbatched
+ * {@link ScalaDriverPersistenceJournaller}.
+ */
+public final class BatchingScalaDriverPersistenceJournallerIT {
+
+    private static final String MONGO_DB = "batchingJournallerIT";
+    private static final String JOURNAL_PLUGIN_ID = "pekko-contrib-mongodb-persistence-test-journal";
+    private static final RecoveryBatchingConfig RECOVERY_BATCHING_CONFIG =
+            DefaultRecoveryBatchingConfig.of(ConfigFactory.load("recovery-batching-test"));
+
+    @ClassRule
+    public static final MongoDbResource MONGO_RESOURCE = new MongoDbResource();
+
+    private ActorSystem actorSystem;
+    private ScalaMongoDriver driver;
+    private ScalaDriverPersistenceJournaller unbatched;
+    private BatchingScalaDriverPersistenceJournaller underTest;
+
+    @Before
+    public void setUp() {
+        final String mongoUri =
+                String.format("mongodb://%s:%d/%s", MONGO_RESOURCE.getBindIp(), MONGO_RESOURCE.getPort(), MONGO_DB);
+        final Config config = ConfigFactory.load("mongo-read-journal-test")
+                .withValue("pekko.contrib.persistence.mongodb.mongo.mongouri", ConfigValueFactory.fromAnyRef(mongoUri));
+        actorSystem = ActorSystem.create("PekkoTestSystem", config);
+        driver = new ScalaMongoDriver(actorSystem, config.getConfig(JOURNAL_PLUGIN_ID));
+        unbatched = new ScalaDriverPersistenceJournaller(driver);
+        underTest = new BatchingScalaDriverPersistenceJournaller(driver, RECOVERY_BATCHING_CONFIG);
+    }
+
+    @After
+    public void tearDown() {
+        if (null != driver) {
+            Source.fromPublisher(driver.db().drop())
+                    .runWith(Sink.ignore(), SystemMaterializer.get(actorSystem).materializer())
+                    .toCompletableFuture()
+                    .join();
+            driver.closeConnections();
+        }
+        if (null != actorSystem) {
+            TestKit.shutdownActorSystem(actorSystem);
+        }
+    }
+
+    @Test
+    public void readHighestSequenceNumbersOfConcurrentlyRecoveringEntities() {
+        persist("pid1", 1L, 2L);
+        persist("pid1", 3L, 3L);
+        persist("pid2", 1L, 5L);
+
+        final Future<Object> pid1 = underTest.maxSequenceNr("pid1", 0L);
+        final Future<Object> pid2 = underTest.maxSequenceNr("pid2", 3L);
+        final Future<Object> unknown = underTest.maxSequenceNr("unknown", 0L);
+
+        assertThat(await(pid1)).isEqualTo(3L);
+        assertThat(await(pid2)).isEqualTo(5L);
+        assertThat(await(unknown)).isEqualTo(0L);
+    }
+
+    @Test
+    public void readHighestSequenceNumbersOfEntitiesWithDeletedEventsFromMetadata() {
+        persist("pid1", 1L, 3L);
+        await(unbatched.deleteFrom("pid1", 3L));
+        persist("pid2", 1L, 2L);
+
+        final Future<Object> pid1 = underTest.maxSequenceNr("pid1", 0L);
+        final Future<Object> pid2 = underTest.maxSequenceNr("pid2", 0L);
+
+        assertThat(await(pid1)).isEqualTo(3L).isEqualTo(await(unbatched.maxSequenceNr("pid1", 0L)));
+        assertThat(await(pid2)).isEqualTo(2L);
+    }
+
+    @Test
+    public void replayEventRangesOfConcurrentlyRecoveringEntitiesInOrder() {
+        persist("pid1", 1L, 2L);
+        persist("pid2", 1L, 3L);
+        persist("pid1", 3L, 5L);
+        persist("pid2", 4L, 4L);
+        persist("pid1", 6L, 6L);
+
+        final Replay pid1 = replay(underTest, "pid1", 2L, 5L, Long.MAX_VALUE);
+        final Replay pid2 = replay(underTest, "pid2", 1L, 4L, Long.MAX_VALUE);
+        final Replay unknown = replay(underTest, "unknown", 1L, 1L, Long.MAX_VALUE);
+
+        assertThat(pid1.await()).containsExactly("pid1:2", "pid1:3", "pid1:4", "pid1:5");
+        assertThat(pid2.await()).containsExactly("pid2:1", "pid2:2", "pid2:3", "pid2:4");
+        assertThat(unknown.await()).isEmpty();
+        assertThat(pid1.await()).isEqualTo(replay(unbatched, "pid1", 2L, 5L, Long.MAX_VALUE).await());
+    }
+
+    @Test
+    public void replayLimitedNumberOfEvents() {
+        persist("pid1", 1L, 5L);
+
+        assertThat(replay(underTest, "pid1", 2L, Long.MAX_VALUE, 2L).await()).containsExactly("pid1:2", "pid1:3");
+    }
+
+    @Test
+    public void replayEventRangesExceedingTheMaxEventsPerBatch() {
+        final RecoveryBatchingConfig smallBatches = DefaultRecoveryBatchingConfig.of(ConfigFactory.parseString(
+                "recovery-batching {\n" +
+                        "  enabled = true\n" +
+                        "  window = 1s\n" +
+                        "  max-events-per-batch = 3\n" +
+                        "}"));
+        final BatchingScalaDriverPersistenceJournaller batching =
+                new BatchingScalaDriverPersistenceJournaller(driver, smallBatches);
+        persist("pid1", 1L, 5L);
+        persist("pid2", 1L, 2L);
+        persist("pid3", 1L, 2L);
+
+        final Replay pid1 = replay(batching, "pid1", 1L, 5L, Long.MAX_VALUE);
+        final Replay pid2 = replay(batching, "pid2", 1L, 2L, Long.MAX_VALUE);
+        final Replay pid3 = replay(batching, "pid3", 1L, 2L, Long.MAX_VALUE);
+
+        assertThat(pid1.await()).containsExactly("pid1:1", "pid1:2", "pid1:3", "pid1:4", "pid1:5");
+        assertThat(pid2.await()).containsExactly("pid2:1", "pid2:2");
+        assertThat(pid3.await()).containsExactly("pid3:1", "pid3:2");
+    }
+
+    @Test
+    public void answerAllQueriesIfTheQueueOverflows() {
+        final RecoveryBatchingConfig sequentialBatches = DefaultRecoveryBatchingConfig.of(ConfigFactory.parseString(
+                "recovery-batching {\n" +
+                        "  enabled = true\n" +
+                        "  max-batch-size = 1\n" +
+                        "  parallelism = 1\n" +
+                        "}"));
+        final BatchingScalaDriverPersistenceJournaller overflowing =
+                new BatchingScalaDriverPersistenceJournaller(driver, sequentialBatches, 1);
+        final List<String> pids = IntStream.rangeClosed(1, 20).mapToObj(i -> "pid" + i).toList();
+        pids.forEach(pid -> persist(pid, 1L, pids.indexOf(pid) + 1L));
+
+        final Map<String, Future<Object>> highestSequenceNumbers = pids.stream()
+                .collect(Collectors.toMap(Function.identity(), pid -> overflowing.maxSequenceNr(pid, 0L)));
+        final Map<String, Replay> replays = pids.stream()
+                .collect(Collectors.toMap(Function.identity(),
+                        pid -> replay(overflowing, pid, 1L, pids.indexOf(pid) + 1L, Long.MAX_VALUE)));
+
+        pids.forEach(pid -> {
+            final long expectedHighestSequenceNumber = pids.indexOf(pid) + 1L;
+            assertThat(await(highestSequenceNumbers.get(pid))).isEqualTo(expectedHighestSequenceNumber);
+            assertThat(replays.get(pid).await()).hasSize((int) expectedHighestSequenceNumber)
+                    .endsWith(pid + ":" + expectedHighestSequenceNumber);
+        });
+    }
+
+    private void persist(final String pid, final long fromSequenceNumber, final long toSequenceNumber) {
+        final List<PersistentRepr> events = LongStream.rangeClosed(fromSequenceNumber, toSequenceNumber)
+                .mapToObj(sequenceNumber -> PersistentRepr$.MODULE$.apply(pid + ":" + sequenceNumber, sequenceNumber,
+                        pid, "", false, ActorRef.noSender(), "writer"))
+                .toList();
+        final AtomicWrite write = new AtomicWrite(CollectionConverters.asScala(events).toList());
+        await(unbatched.batchAppend(CollectionConverters.asScala(List.of(write)).toList()));
+    }
+
+    private static Replay replay(final ScalaDriverPersistenceJournaller journaller, final String pid, final long from,
+            final long to, final long max) {
+
+        final List<String> events = new CopyOnWriteArrayList<>();
+        final Future<BoxedUnit> replayed = journaller.replayJournal(pid, from, to, max, event -> {
+            assertThat(event.persistenceId()).isEqualTo(pid);
+            events.add((String) event.payload());
+            return BoxedUnit.UNIT;
+        });
+        return new Replay(replayed, events);
+    }
+
+    private static <T> T await(final Future<T> future) {
+        return FutureConverters.asJava(future).toCompletableFuture().join();
+    }
+
+    private record Replay(Future<BoxedUnit> replayed, List<String> events) {
+
+        private List<String> await() {
+            BatchingScalaDriverPersistenceJournallerIT.await(replayed);
+            return events;
+        }
+
+    }
+
+}
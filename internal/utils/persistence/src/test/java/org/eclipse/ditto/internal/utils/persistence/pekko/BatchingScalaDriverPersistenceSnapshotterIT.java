@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.persistence.pekko;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.apache.pekko.actor.ActorSystem;
+import org.apache.pekko.persistence.SelectedSnapshot;
+import org.apache.pekko.persistence.SnapshotMetadata;
+import org.apache.pekko.stream.SystemMaterializer;
+import org.apache.pekko.stream.javadsl.Sink;
+import org.apache.pekko.stream.javadsl.Source;
+import org.apache.pekko.testkit.javadsl.TestKit;
+import org.eclipse.ditto.internal.utils.persistence.mongo.config.DefaultRecoveryBatchingConfig;
+import org.eclipse.ditto.internal.utils.persistence.mongo.config.RecoveryBatchingConfig;
+import org.eclipse.ditto.internal.utils.test.docker.mongo.MongoDbResource;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.ClassRule;
+import org.junit.Test;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+import com.typesafe.config.ConfigValueFactory;
+
+import pekko.contrib.persistence.mongodb.driver.ScalaDriverPersistenceSnapshotter;
+import pekko.contrib.persistence.mongodb.driver.ScalaMongoDriver;
+import scala.Option;
+import scala.concurrent.Future;
+import scala.jdk.javaapi.FutureConverters;
+
+/**
+ * Tests {@link BatchingScalaDriverPersistenceSnapshotter} against the results of the unbatched
+ * {@link ScalaDriverPersistenceSnapshotter}.
+ */
+public final class BatchingScalaDriverPersistenceSnapshotterIT {
+
+    private static final String MONGO_DB = "batchingSnapshotterIT";
+    private static final String SNAPSHOT_PLUGIN_ID = "pekko-contrib-mongodb-persistence-test-snapshots";
+    private static final RecoveryBatchingConfig RECOVERY_BATCHING_CONFIG =
+            DefaultRecoveryBatchingConfig.of(ConfigFactory.load("recovery-batching-test"));
+
+    @ClassRule
+    public static final MongoDbResource MONGO_RESOURCE = new MongoDbResource();
+
+    private ActorSystem actorSystem;
+    private ScalaMongoDriver driver;
+    private ScalaDriverPersistenceSnapshotter unbatched;
+    private BatchingScalaDriverPersistenceSnapshotter underTest;
+
+    @Before
+    public void setUp() {
+        final String mongoUri =
+                String.format("mongodb://%s:%d/%s", MONGO_RESOURCE.getBindIp(), MONGO_RESOURCE.getPort(), MONGO_DB);
+        final Config config = ConfigFactory.load("mongo-read-journal-test")
+                .withValue("pekko.contrib.persistence.mongodb.mongo.mongouri", ConfigValueFactory.fromAnyRef(mongoUri));
+        actorSystem = ActorSystem.create("PekkoTestSystem", config);
+        driver = new ScalaMongoDriver(actorSystem, config.getConfig(SNAPSHOT_PLUGIN_ID));
+        unbatched = new ScalaDriverPersistenceSnapshotter(driver);
+        underTest = new BatchingScalaDriverPersistenceSnapshotter(driver, RECOVERY_BATCHING_CONFIG);
+    }
+
+    @After
+    public void tearDown() {
+        if (null != driver) {
+            Source.fromPublisher(driver.db().drop())
+                    .runWith(Sink.ignore(), SystemMaterializer.get(actorSystem).materializer())
+                    .toCompletableFuture()
+                    .join();
+            driver.closeConnections();
+        }
+        if (null != actorSystem) {
+            TestKit.shutdownActorSystem(actorSystem);
+        }
+    }
+
+    @Test
+    public void loadLatestSnapshotsOfConcurrentlyRecoveringEntities() {
+        saveSnapshot("pid1", 1L, 10L);
+        saveSnapshot("pid1", 5L, 20L);
+        saveSnapshot("pid1", 3L, 30L);
+        saveSnapshot("pid2", 2L, 10L);
+        saveSnapshot("pid2", 2L, 40L);
+
+        final Future<Option<SelectedSnapshot>> pid1 = loadLatestSnapshot(underTest, "pid1");
+        final Future<Option<SelectedSnapshot>> pid2 = loadLatestSnapshot(underTest, "pid2");
+        final Future<Option<SelectedSnapshot>> unknown = loadLatestSnapshot(underTest, "unknown");
+
+        assertSnapshot(await(pid1), "pid1", 5L, 20L);
+        assertSnapshot(await(pid2), "pid2", 2L, 40L);
+        assertThat(await(unknown).isEmpty()).isTrue();
+        assertSnapshot(await(loadLatestSnapshot(unbatched, "pid1")), "pid1", 5L, 20L);
+    }
+
+    @Test
+    public void loadSnapshotsMatchingOtherSelectionCriteria() {
+        saveSnapshot("pid1", 1L, 10L);
+        saveSnapshot("pid1", 3L, 30L);
+        saveSnapshot("pid1", 5L, 20L);
+
+        assertSnapshot(await(underTest.findYoungestSnapshotByMaxSequence("pid1", 4L, Long.MAX_VALUE)),
+                "pid1", 3L, 30L);
+        assertSnapshot(await(underTest.findYoungestSnapshotByMaxSequence("pid1", Long.MAX_VALUE, 15L)),
+                "pid1", 1L, 10L);
+        assertThat(await(underTest.findYoungestSnapshotByMaxSequence("pid1", 0L, Long.MAX_VALUE)).isEmpty())
+                .isTrue();
+    }
+
+    @Test
+    public void loadAllLatestSnapshotsIfTheQueueOverflows() {
+        final RecoveryBatchingConfig sequentialBatches = DefaultRecoveryBatchingConfig.of(ConfigFactory.parseString(
+                "recovery-batching {\n" +
+                        "  enabled = true\n" +
+                        "  max-batch-size = 1\n" +
+                        "  parallelism = 1\n" +
+                        "}"));
+        final BatchingScalaDriverPersistenceSnapshotter overflowing =
+                new BatchingScalaDriverPersistenceSnapshotter(driver, sequentialBatches, 1);
+        final List<String> pids = IntStream.rangeClosed(1, 20).mapToObj(i -> "pid" + i).toList();
+        pids.forEach(pid -> {
+            saveSnapshot(pid, 1L, 10L);
+            saveSnapshot(pid, pids.indexOf(pid) + 2L, 20L);
+        });
+
+        final Map<String, Future<Option<SelectedSnapshot>>> latestSnapshots = pids.stream()
+                .collect(Collectors.toMap(Function.identity(), pid -> loadLatestSnapshot(overflowing, pid)));
+
+        pids.forEach(pid -> assertSnapshot(await(latestSnapshots.get(pid)), pid, pids.indexOf(pid) + 2L, 20L));
+    }
+
+    private void saveSnapshot(final String pid, final long sequenceNumber, final long timestamp) {
+        final SnapshotMetadata metadata = new SnapshotMetadata(pid, sequenceNumber, timestamp);
+        await(unbatched.saveSnapshot(new SelectedSnapshot(metadata, snapshot(pid, sequenceNumber, timestamp))));
+    }
+
+    private static Future<Option<SelectedSnapshot>> loadLatestSnapshot(
+            final ScalaDriverPersistenceSnapshotter snapshotter, final String pid) {
+
+        return snapshotter.findYoungestSnapshotByMaxSequence(pid, Long.MAX_VALUE, Long.MAX_VALUE);
+    }
+
+    private static void assertSnapshot(final Option<SelectedSnapshot> selectedSnapshot, final String pid,
+            final long sequenceNumber, final long timestamp) {
+
+        assertThat(selectedSnapshot.isDefined()).isTrue();
+        final SelectedSnapshot snapshot = selectedSnapshot.get();
+        assertThat(snapshot.metadata().persistenceId()).isEqualTo(pid);
+        assertThat(snapshot.metadata().sequenceNr()).isEqualTo(sequenceNumber);
+        assertThat(snapshot.metadata().timestamp()).isEqualTo(timestamp);
+        assertThat(snapshot.snapshot()).isEqualTo(snapshot(pid, sequenceNumber, timestamp));
+    }
+
+    private static String snapshot(final String pid, final long sequenceNumber, final long timestamp) {
+        return pid + ":" + sequenceNumber + "@" + timestamp;
+    }
+
+    private static <T> T await(final Future<T> future) {
+        return FutureConverters.asJava(future).toCompletableFuture().join();
+    }
+
+}
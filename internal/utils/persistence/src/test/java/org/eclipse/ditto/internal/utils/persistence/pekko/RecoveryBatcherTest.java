@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.persistence.pekko;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.IntStream;
+
+import org.apache.pekko.actor.ActorSystem;
+import org.apache.pekko.stream.SystemMaterializer;
+import org.apache.pekko.testkit.javadsl.TestKit;
+import org.eclipse.ditto.internal.utils.persistence.mongo.config.DefaultRecoveryBatchingConfig;
+import org.eclipse.ditto.internal.utils.persistence.mongo.config.RecoveryBatchingConfig;
+import org.junit.After;
+import org.junit.Test;
+
+import com.typesafe.config.ConfigFactory;
+
+import scala.Function1;
+import scala.Option;
+import scala.collection.immutable.Seq;
+import scala.concurrent.Future;
+import scala.concurrent.Future$;
+import scala.concurrent.Promise;
+import scala.jdk.javaapi.CollectionConverters;
+import scala.jdk.javaapi.FutureConverters;
+
+/**
+ * Unit test for {@link RecoveryBatcher}.
+ */
+public final class RecoveryBatcherTest {
+
+    private static final Map<String, String> RESULTS = Map.of("a", "A", "b", "B");
+
+    private final ActorSystem actorSystem = ActorSystem.create("RecoveryBatcherTest");
+    private final List<List<String>> executedBatches = new CopyOnWriteArrayList<>();
+
+    @After
+    public void shutdown() {
+        TestKit.shutdownActorSystem(actorSystem);
+    }
+
+    @Test
+    public void executesConcurrentQueriesAsOneBatchOfDistinctKeys() {
+        final RecoveryBatcher<String, String> underTest = recoveryBatcher("1s", 100, 1, 100, keys ->
+                Future.successful(scala.collection.immutable.Map.from(CollectionConverters.asScala(RESULTS))));
+
+        final Future<Option<String>> a = underTest.query("a").get();
+        final Future<Option<String>> b = underTest.query("b").get();
+        final Future<Option<String>> anotherA = underTest.query("a").get();
+
+        assertThat(await(a)).isEqualTo(Option.apply("A"));
+        assertThat(await(b)).isEqualTo(Option.apply("B"));
+        assertThat(await(anotherA)).isEqualTo(Option.apply("A"));
+        assertThat(executedBatches).containsExactly(List.of("a", "b"));
+    }
+
+    @Test
+    public void splitsBatchesExceedingTheMaxBatchSize() {
+        final RecoveryBatcher<String, String> underTest = recoveryBatcher("1s", 2, 1, 100, keys ->
+                Future.successful(scala.collection.immutable.Map.from(CollectionConverters.asScala(RESULTS))));
+
+        final List<Future<Option<String>>> results = List.of("a", "b", "c").stream()
+                .map(key -> underTest.query(key).get())
+                .toList();
+
+        assertThat(results.stream().map(RecoveryBatcherTest::await))
+                .containsExactly(Option.apply("A"), Option.apply("B"), Option.empty());
+        assertThat(executedBatches).containsExactly(List.of("a", "b"), List.of("c"));
+    }
+
+    @Test
+    public void splitsBatchesExceedingTheMaxWeight() {
+        final Map<String, Long> weights = Map.of("a", 3L, "b", 2L, "c", 1L);
+        final RecoveryBatcher<String, String> underTest = recoveryBatcher("1s", 100, 1, 100, weights::get, 4L, keys ->
+                Future.successful(scala.collection.immutable.Map.from(CollectionConverters.asScala(RESULTS))));
+
+        final List<Future<Option<String>>> results = List.of("a", "b", "c").stream()
+                .map(key -> underTest.query(key).get())
+                .toList();
+
+        assertThat(results.stream().map(RecoveryBatcherTest::await))
+                .containsExactly(Option.apply("A"), Option.apply("B"), Option.empty());
+        assertThat(executedBatches).containsExactly(List.of("a"), List.of("b", "c"));
+    }
+
+    @Test
+    public void completesQueriesWithoutResultWithNone() {
+        final RecoveryBatcher<String, String> underTest = recoveryBatcher("10ms", 100, 1, 100, keys ->
+                Future.successful(scala.collection.immutable.Map.from(CollectionConverters.asScala(RESULTS))));
+
+        assertThat(await(underTest.query("unknown").get())).isEqualTo(Option.empty());
+    }
+
+    @Test
+    public void failsAllQueriesOfAFailedBatch() {
+        final IllegalStateException error = new IllegalStateException("expected");
+        final RecoveryBatcher<String, String> underTest =
+                recoveryBatcher("1s", 100, 1, 100, keys -> Future$.MODULE$.failed(error));
+
+        final Future<Option<String>> a = underTest.query("a").get();
+        final Future<Option<String>> b = underTest.query("b").get();
+
+        assertThatExceptionOfType(CompletionException.class).isThrownBy(() -> await(a)).withCause(error);
+        assertThatExceptionOfType(CompletionException.class).isThrownBy(() -> await(b)).withCause(error);
+    }
+
+    @Test
+    public void rejectsQueriesIfQueueIsFull() {
+        // batches never complete, so that the queue fills up after the first batch
+        final Promise<scala.collection.immutable.Map<String, String>> pendingBatch = Promise.apply();
+        final RecoveryBatcher<String, String> underTest =
+                recoveryBatcher("10ms", 1, 1, 1, keys -> pendingBatch.future());
+
+        final List<Option<Future<Option<String>>>> queries = IntStream.range(0, 100)
+                .mapToObj(i -> underTest.query(String.valueOf(i)))
+                .toList();
+
+        assertThat(queries.get(0).isDefined()).isTrue();
+        assertThat(queries).anyMatch(Option::isEmpty);
+    }
+
+    private RecoveryBatcher<String, String> recoveryBatcher(final String window, final int maxBatchSize,
+            final int parallelism, final int queueSize,
+            final Function1<Seq<String>, Future<scala.collection.immutable.Map<String, String>>> executeBatch) {
+
+        return recoveryBatcher(window, maxBatchSize, parallelism, queueSize, key -> 1L, Long.MAX_VALUE, executeBatch);
+    }
+
+    private RecoveryBatcher<String, String> recoveryBatcher(final String window, final int maxBatchSize,
+            final int parallelism, final int queueSize, final Function1<String, Object> weigh, final long maxWeight,
+            final Function1<Seq<String>, Future<scala.collection.immutable.Map<String, String>>> executeBatch) {
+
+        final RecoveryBatchingConfig config = DefaultRecoveryBatchingConfig.of(ConfigFactory.parseString(
+                "recovery-batching {\n" +
+                        "  enabled = true\n" +
+                        "  window = " + window + "\n" +
+                        "  max-batch-size = " + maxBatchSize + "\n" +
+                        "  parallelism = " + parallelism + "\n" +
+                        "}"));
+        return new RecoveryBatcher<>("test", config, keys -> {
+            executedBatches.add(CollectionConverters.asJava(keys));
+            return executeBatch.apply(keys);
+        }, queueSize, weigh, maxWeight, SystemMaterializer.get(actorSystem).materializer(), actorSystem.dispatcher());
+    }
+
+    private static <T> T await(final Future<T> future) {
+        return FutureConverters.asJava(future).toCompletableFuture().join();
+    }
+
+}
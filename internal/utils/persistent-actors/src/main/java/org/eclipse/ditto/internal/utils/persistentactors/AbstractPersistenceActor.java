@@ -35,6 +35,8 @@ import org.apache.pekko.persistence.SnapshotOffer;
 import org.apache.pekko.persistence.SnapshotProtocol;
 import org.apache.pekko.persistence.SnapshotSelectionCriteria;
 import org.apache.pekko.persistence.query.EventEnvelope;
+import org.apache.pekko.stream.Attributes;
+import org.apache.pekko.stream.javadsl.Keep;
 import org.apache.pekko.stream.javadsl.Sink;
 import org.bson.BsonDocument;
 import org.eclipse.ditto.base.api.commands.sudo.SudoCommand;
@@ -160,6 +162,40 @@ public abstract class AbstractPersistenceActor<
         // default: no-op
     }
 
+    /**
+     * Invoked whenever an event was persisted and applied to the locally cached entity.
+     *
+     * @param persistedEvent the persisted event.
+     * @param revision the revision of the entity after the event was applied.
+     * @since 3.8.0
+     */
+    protected void onEventPersisted(final E persistedEvent, final long revision) {
+        // default: no-op
+    }
+
+    /**
+     * Invoked whenever this PersistenceActor starts handling a command, which may be long after the command was
+     * enqueued if the actor was busy persisting events. This includes commands which are not handled by a command
+     * strategy, e.g. because they are rejected as the entity is deleted.
+     *
+     * @param command the command.
+     * @since 3.8.0
+     */
+    protected void onCommandHandlingStarted(final Command<?> command) {
+        // default: no-op
+    }
+
+    /**
+     * Invoked whenever the journal acknowledged the write of an event.
+     *
+     * @param persistedEvent the persisted event.
+     * @param writeDuration the time between persisting the event and the acknowledgement of the journal.
+     * @since 3.8.0
+     */
+    protected void onJournalWriteCompleted(final E persistedEvent, final Duration writeDuration) {
+        // default: no-op
+    }
+
     @Override
     public abstract String persistenceId();
 
@@ -230,6 +266,16 @@ public abstract class AbstractPersistenceActor<
      */
     protected abstract DittoRuntimeExceptionBuilder<?> newHistoryNotAccessibleExceptionBuilder(Instant timestamp);
 
+    /**
+     * Returns the attributes of the stream replaying the events of the entity for historical retrieve commands, e.g.
+     * in order to run the replay on a dedicated dispatcher.
+     *
+     * @return the attributes of the replay stream, none by default.
+     */
+    protected Attributes getHistoricalRetrieveStreamAttributes() {
+        return Attributes.none();
+    }
+
     /**
      * Publish an event.
      *
@@ -500,7 +546,7 @@ public abstract class AbstractPersistenceActor<
                             return ewe1;
                         }
                     })
-                    .runWith(Sink.foreach(entityWithEvent -> {
+                    .toMat(Sink.foreach(entityWithEvent -> {
                                 if (entityWithEvent.event != null && entityWithEvent.revision != null) {
                                     commandStrategy.apply(getStrategyContext(),
                                             entityWithEvent.entity,
@@ -517,8 +563,9 @@ public abstract class AbstractPersistenceActor<
                                                 self);
                                     }
                                 }
-                            }),
-                            getContext().getSystem());
+                            }), Keep.right())
+                    .withAttributes(getHistoricalRetrieveStreamAttributes())
+                    .run(getContext().getSystem());
         } else {
             if (!atHistoricalTimestamp.equals(Instant.EPOCH)) {
                 sender.tell(newHistoryNotAccessibleExceptionBuilder(atHistoricalTimestamp).build(), self);
@@ -721,6 +768,7 @@ public abstract class AbstractPersistenceActor<
     private <T extends Command<?>> void handleByStrategy(final T command, @Nullable final S workEntity,
             final CommandStrategy<T, S, K, E> strategy) {
         log.debug("Handling by strategy: <{}>", command);
+        onCommandHandlingStarted(command);
 
         final var startedSpan = DittoTracing.newPreparedSpan(
                         command.getDittoHeaders(),
@@ -873,19 +921,22 @@ public abstract class AbstractPersistenceActor<
                 )
                 .tag(SpanTagKey.SIGNAL_TYPE.getTagForValue(event.getType()))
                 .start();
+        final long persistStartNanos = System.nanoTime();
 
         persist(
                 event.setDittoHeaders(DittoHeaders.of(persistOperationSpan.propagateContext(event.getDittoHeaders()))),
-                persistedEvent -> handlePersistedEvent(handler, l, persistOperationSpan, persistedEvent)
+                persistedEvent -> handlePersistedEvent(handler, l, persistOperationSpan, persistStartNanos,
+                        persistedEvent)
         );
     }
 
     private void handlePersistedEvent(final Consumer<E> handler, final DittoDiagnosticLoggingAdapter l,
-            final StartedSpan persistOperationSpan, final E persistedEvent) {
+            final StartedSpan persistOperationSpan, final long persistStartNanos, final E persistedEvent) {
         l.info("Successfully persisted Event <{}> w/ rev: <{}>.",
                 persistedEvent.getType(),
                 getRevisionNumber());
         persistOperationSpan.finish();
+        onJournalWriteCompleted(persistedEvent, Duration.ofNanos(System.nanoTime() - persistStartNanos));
 
         /*
          * The event has to be applied before creating the snapshot, otherwise a snapshot with new
@@ -893,6 +944,7 @@ public abstract class AbstractPersistenceActor<
          * aftereffects.
          */
         handler.accept(persistedEvent);
+        onEventPersisted(persistedEvent, getRevisionNumber());
         onEntityModified();
 
         // save a snapshot if there were too many changes since the last snapshot
@@ -986,6 +1038,9 @@ public abstract class AbstractPersistenceActor<
     }
 
     private void notAccessible(final WithDittoHeaders withDittoHeaders) {
+        if (withDittoHeaders instanceof Command<?> command) {
+            onCommandHandlingStarted(command);
+        }
         final DittoRuntimeExceptionBuilder<?> builder = newNotAccessibleExceptionBuilder()
                 .dittoHeaders(withDittoHeaders.getDittoHeaders());
         notifySender(builder.build());
@@ -1023,6 +1078,10 @@ public abstract class AbstractPersistenceActor<
      */
     protected Receive matchAnyAfterInitialization() {
         return ReceiveBuilder.create()
+                .match(Command.class, command -> {
+                    onCommandHandlingStarted(command);
+                    log.warning("Unknown message: {}", command);
+                })
                 .matchAny(message -> log.warning("Unknown message: {}", message))
                 .build();
     }
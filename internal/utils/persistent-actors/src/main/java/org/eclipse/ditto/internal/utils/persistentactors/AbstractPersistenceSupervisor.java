@@ -68,6 +68,7 @@ import org.eclipse.ditto.base.service.config.supervision.ExponentialBackOffConfi
 import org.eclipse.ditto.base.service.config.supervision.LocalAskTimeoutConfig;
 import org.eclipse.ditto.base.service.signaltransformer.SignalTransformer;
 import org.eclipse.ditto.base.service.signaltransformer.SignalTransformers;
+import org.eclipse.ditto.internal.utils.cluster.ShardedSignalBatch;
 import org.eclipse.ditto.internal.utils.cluster.StopShardedActor;
 import org.eclipse.ditto.internal.utils.config.ScopedConfig;
 import org.eclipse.ditto.internal.utils.metrics.DittoMetrics;
@@ -81,6 +82,7 @@ import org.eclipse.ditto.internal.utils.pekko.logging.ThreadSafeDittoLoggingAdap
 import org.eclipse.ditto.internal.utils.persistence.mongo.AbstractMongoEventAdapter;
 import org.eclipse.ditto.internal.utils.persistence.mongo.DittoBsonJson;
 import org.eclipse.ditto.internal.utils.persistence.mongo.streaming.MongoReadJournal;
+import org.eclipse.ditto.internal.utils.persistentactors.warmup.EntityActivity;
 import org.eclipse.ditto.internal.utils.tracing.DittoTracing;
 import org.eclipse.ditto.internal.utils.tracing.span.SpanOperationName;
 import org.eclipse.ditto.json.JsonObject;
@@ -117,6 +119,8 @@ public abstract class AbstractPersistenceSupervisor<E extends EntityId, S extend
 
     protected static final String PERSISTENCE_ACTOR_NAME = "pa";
 
+    private static final Duration SHARD_RELAY_PASSIVATION_TIMEOUT = Duration.ofMinutes(2);
+
     protected final ThreadSafeDittoLoggingAdapter log = DittoLoggerFactory.getThreadSafeDittoLoggingAdapter(this);
 
     private final SupervisorStrategy supervisorStrategy;
@@ -133,6 +137,7 @@ public abstract class AbstractPersistenceSupervisor<E extends EntityId, S extend
 
     private final ExponentialBackOffConfig exponentialBackOffConfig;
     private final SignalTransformer signalTransformer;
+    @Nullable private EntityActivity.Recorder activityRecorder;
     private ExponentialBackOff backOff;
     private boolean waitingForStopBeforeRestart = false;
     private boolean inCoordinatedShutdown = false;
@@ -174,6 +179,16 @@ public abstract class AbstractPersistenceSupervisor<E extends EntityId, S extend
      */
     protected abstract E getEntityId() throws Exception;
 
+    /**
+     * Indicates whether this actor is the relay entity of its shard, which only relays {@link ShardedSignalBatch}es
+     * and supervises no entity. Subclasses must not set up any entity specific state for the relay entity.
+     *
+     * @return whether this actor is the relay entity of its shard.
+     */
+    protected final boolean isShardRelay() {
+        return ShardedSignalBatch.isRelayEntityId(getSelf().path().name());
+    }
+
     /**
      * Get the props of the supervised persistence actor.
      *
@@ -384,6 +399,11 @@ public abstract class AbstractPersistenceSupervisor<E extends EntityId, S extend
     @Override
     public void preStart() throws Exception {
         super.preStart();
+        if (isShardRelay()) {
+            becomeShardRelay();
+            return;
+        }
+        activityRecorder = EntityActivity.get(getContext().getSystem()).getRecorder(getSelf());
         try {
             entityId = getEntityId();
             if (shouldStartChildImmediately()) {
@@ -397,6 +417,14 @@ public abstract class AbstractPersistenceSupervisor<E extends EntityId, S extend
         }
     }
 
+    @Override
+    public void postStop() throws Exception {
+        if (null != activityRecorder) {
+            activityRecorder.remove();
+        }
+        super.postStop();
+    }
+
     @Override
     public Receive createReceive() {
         return ReceiveBuilder.create()
@@ -493,6 +521,35 @@ public abstract class AbstractPersistenceSupervisor<E extends EntityId, S extend
         ++opCounter;
     }
 
+    /**
+     * Become the relay entity of the shard, which relays {@link ShardedSignalBatch}es without starting any children.
+     * The relay passivates once it did not relay any batch for {@link #SHARD_RELAY_PASSIVATION_TIMEOUT}.
+     */
+    private void becomeShardRelay() {
+        getContext().setReceiveTimeout(SHARD_RELAY_PASSIVATION_TIMEOUT);
+        getContext().become(ReceiveBuilder.create()
+                .match(ShardedSignalBatch.class, this::relayShardedSignalBatch)
+                .match(ReceiveTimeout.class, timeout -> passivate(Control.PASSIVATE))
+                .match(StopShardedActor.class, trigger -> getContext().stop(getSelf()))
+                .matchAny(message -> log.warning("Shard relay got unexpected message: <{}>", message))
+                .build());
+    }
+
+    /**
+     * Relays the signals of a batch to their entities via the shard, which is the parent of this actor, and confirms
+     * it to the sender of the batch.
+     *
+     * @param batch the batch to relay.
+     */
+    private void relayShardedSignalBatch(final ShardedSignalBatch batch) {
+        final ActorRef shard = getContext().getParent();
+        batch.getElements()
+                .forEach(element -> shard.tell(element.toShardedMessageEnvelope(), element.getSender()));
+        if (!getSender().equals(getContext().getSystem().deadLetters())) {
+            getSender().tell(ShardedSignalBatch.Relayed.of(batch.getShardId()), getSelf());
+        }
+    }
+
     /**
      * Start terminating because the shard region is shutting down.
      *
@@ -787,6 +844,9 @@ public abstract class AbstractPersistenceSupervisor<E extends EntityId, S extend
                                 entityId, message);
                 unhandled(message);
             } else {
+                if (null != activityRecorder) {
+                    activityRecorder.recordActivity();
+                }
                 if (shouldBecomeTwinSignalProcessingAwaiting(signal)) {
                     becomeTwinSignalProcessingAwaiting();
                 }
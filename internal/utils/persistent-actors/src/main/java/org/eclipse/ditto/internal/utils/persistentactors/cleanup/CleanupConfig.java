@@ -111,6 +111,23 @@ public interface CleanupConfig {
      */
     boolean shouldDeleteFinalDeletedSnapshot();
 
+    /**
+     * Returns the maximum number of delete operations which are performed concurrently.
+     *
+     * @return the parallelism of delete operations.
+     * @since 3.8.0
+     */
+    int getParallelism();
+
+    /**
+     * Returns how often the progress of a running cleanup is persisted, so that a restarted node resumes the cleanup
+     * instead of starting over.
+     *
+     * @return the interval of persisting the progress.
+     * @since 3.8.0
+     */
+    Duration getProgressSaveInterval();
+
     /**
      * Render this object as config.
      *
@@ -167,7 +184,17 @@ public interface CleanupConfig {
         /**
          * Whether to delete the final deleted snapshot.
          */
-        DELETE_FINAL_DELETED_SNAPSHOT("delete-final-deleted-snapshot", false);
+        DELETE_FINAL_DELETED_SNAPSHOT("delete-final-deleted-snapshot", false),
+
+        /**
+         * How many delete operations to perform concurrently.
+         */
+        PARALLELISM("parallelism", 1),
+
+        /**
+         * How often to persist the progress of a running cleanup.
+         */
+        PROGRESS_SAVE_INTERVAL("progress-save-interval", Duration.ofSeconds(30L));
 
         private final String path;
         private final Object defaultValue;
@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.persistentactors.cleanup;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import org.apache.pekko.Done;
+
+/**
+ * Store of the progress of the persistence cleanup per responsibility of a cluster node.
+ *
+ * @since 3.8.0
+ */
+public interface CleanupProgressStore {
+
+    /**
+     * Replaces the progress of a responsibility.
+     *
+     * @param responsibility the key of the responsibility, e.g. {@code 1/3} for the second of three nodes.
+     * @param lastPid the persistence ID up to which the cleanup was performed, empty if a pass was completed.
+     * @return a future completing when the progress was stored.
+     */
+    CompletionStage<Done> save(String responsibility, String lastPid);
+
+    /**
+     * Loads the progress of a responsibility.
+     *
+     * @param responsibility the key of the responsibility.
+     * @return a future of the persistence ID from which to resume the cleanup, empty if no progress was stored.
+     */
+    CompletionStage<Optional<String>> load(String responsibility);
+
+    /**
+     * Returns a store which does not persist the progress.
+     *
+     * @return the store.
+     */
+    static CleanupProgressStore noOp() {
+        return new CleanupProgressStore() {
+            @Override
+            public CompletionStage<Done> save(final String responsibility, final String lastPid) {
+                return CompletableFuture.completedFuture(Done.getInstance());
+            }
+
+            @Override
+            public CompletionStage<Optional<String>> load(final String responsibility) {
+                return CompletableFuture.completedFuture(Optional.empty());
+            }
+        };
+    }
+
+}
@@ -41,6 +41,16 @@ final class Credits {
         return new LongAccumulator(Math::max, 0L);
     }
 
+    /**
+     * Record the latency of a database operation of the cleanup. No credit is given out in the next credit decision
+     * if the maximum latency recorded since the last decision exceeds the timer threshold.
+     *
+     * @param latency the latency of the database operation.
+     */
+    void recordDatabaseLatency(final Duration latency) {
+        dbTimerNanos.accumulate(latency.toNanos());
+    }
+
     /**
      * Regulate a source with this source of credits. 1 element is requested from the source per credit.
      *
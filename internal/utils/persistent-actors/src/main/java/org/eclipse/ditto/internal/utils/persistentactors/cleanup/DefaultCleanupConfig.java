@@ -37,6 +37,8 @@ final class DefaultCleanupConfig implements CleanupConfig {
     private final int readsPerQuery;
     private final int writesPerCredit;
     private final boolean deleteFinalDeletedSnapshot;
+    private final int parallelism;
+    private final Duration progressSaveInterval;
 
     DefaultCleanupConfig(final boolean enabled,
             final Duration historyRetentionDuration,
@@ -46,7 +48,9 @@ final class DefaultCleanupConfig implements CleanupConfig {
             final int creditsPerBatch,
             final int readsPerQuery,
             final int writesPerCredit,
-            final boolean deleteFinalDeletedSnapshot) {
+            final boolean deleteFinalDeletedSnapshot,
+            final int parallelism,
+            final Duration progressSaveInterval) {
         this.enabled = enabled;
         this.historyRetentionDuration = historyRetentionDuration;
         this.quietPeriod = quietPeriod;
@@ -56,6 +60,8 @@ final class DefaultCleanupConfig implements CleanupConfig {
         this.readsPerQuery = readsPerQuery;
         this.writesPerCredit = writesPerCredit;
         this.deleteFinalDeletedSnapshot = deleteFinalDeletedSnapshot;
+        this.parallelism = parallelism;
+        this.progressSaveInterval = progressSaveInterval;
     }
 
     DefaultCleanupConfig(final ScopedConfig conf) {
@@ -68,20 +74,24 @@ final class DefaultCleanupConfig implements CleanupConfig {
         this.readsPerQuery = conf.getPositiveIntOrThrow(ConfigValue.READS_PER_QUERY);
         this.writesPerCredit = conf.getPositiveIntOrThrow(ConfigValue.WRITES_PER_CREDIT);
         this.deleteFinalDeletedSnapshot = conf.getBoolean(ConfigValue.DELETE_FINAL_DELETED_SNAPSHOT.getConfigPath());
+        this.parallelism = conf.getPositiveIntOrThrow(ConfigValue.PARALLELISM);
+        this.progressSaveInterval = conf.getNonNegativeAndNonZeroDurationOrThrow(ConfigValue.PROGRESS_SAVE_INTERVAL);
     }
 
     @Override
     public Config render() {
-        final Map<String, Object> configMap = Map.of(
-                ConfigValue.ENABLED.getConfigPath(), enabled,
-                ConfigValue.HISTORY_RETENTION_DURATION.getConfigPath(), historyRetentionDuration,
-                ConfigValue.QUIET_PERIOD.getConfigPath(), quietPeriod,
-                ConfigValue.INTERVAL.getConfigPath(), interval,
-                ConfigValue.TIMER_THRESHOLD.getConfigPath(), timerThreshold,
-                ConfigValue.CREDITS_PER_BATCH.getConfigPath(), creditsPerBatch,
-                ConfigValue.READS_PER_QUERY.getConfigPath(), readsPerQuery,
-                ConfigValue.WRITES_PER_CREDIT.getConfigPath(), writesPerCredit,
-                ConfigValue.DELETE_FINAL_DELETED_SNAPSHOT.getConfigPath(), deleteFinalDeletedSnapshot
+        final Map<String, Object> configMap = Map.ofEntries(
+                Map.entry(ConfigValue.ENABLED.getConfigPath(), enabled),
+                Map.entry(ConfigValue.HISTORY_RETENTION_DURATION.getConfigPath(), historyRetentionDuration),
+                Map.entry(ConfigValue.QUIET_PERIOD.getConfigPath(), quietPeriod),
+                Map.entry(ConfigValue.INTERVAL.getConfigPath(), interval),
+                Map.entry(ConfigValue.TIMER_THRESHOLD.getConfigPath(), timerThreshold),
+                Map.entry(ConfigValue.CREDITS_PER_BATCH.getConfigPath(), creditsPerBatch),
+                Map.entry(ConfigValue.READS_PER_QUERY.getConfigPath(), readsPerQuery),
+                Map.entry(ConfigValue.WRITES_PER_CREDIT.getConfigPath(), writesPerCredit),
+                Map.entry(ConfigValue.DELETE_FINAL_DELETED_SNAPSHOT.getConfigPath(), deleteFinalDeletedSnapshot),
+                Map.entry(ConfigValue.PARALLELISM.getConfigPath(), parallelism),
+                Map.entry(ConfigValue.PROGRESS_SAVE_INTERVAL.getConfigPath(), progressSaveInterval)
         );
         return ConfigFactory.parseMap(configMap);
     }
@@ -136,6 +146,16 @@ final class DefaultCleanupConfig implements CleanupConfig {
         return deleteFinalDeletedSnapshot;
     }
 
+    @Override
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    @Override
+    public Duration getProgressSaveInterval() {
+        return progressSaveInterval;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (o instanceof DefaultCleanupConfig that) {
@@ -147,7 +167,9 @@ final class DefaultCleanupConfig implements CleanupConfig {
                     creditsPerBatch == that.creditsPerBatch &&
                     readsPerQuery == that.readsPerQuery &&
                     writesPerCredit == that.writesPerCredit &&
-                    deleteFinalDeletedSnapshot == that.deleteFinalDeletedSnapshot;
+                    deleteFinalDeletedSnapshot == that.deleteFinalDeletedSnapshot &&
+                    parallelism == that.parallelism &&
+                    Objects.equals(progressSaveInterval, that.progressSaveInterval);
         } else {
             return false;
         }
@@ -156,7 +178,7 @@ final class DefaultCleanupConfig implements CleanupConfig {
     @Override
     public int hashCode() {
         return Objects.hash(enabled, historyRetentionDuration, quietPeriod, interval, timerThreshold, creditsPerBatch,
-                readsPerQuery, writesPerCredit, deleteFinalDeletedSnapshot);
+                readsPerQuery, writesPerCredit, deleteFinalDeletedSnapshot, parallelism, progressSaveInterval);
     }
 
     @Override
@@ -171,6 +193,8 @@ final class DefaultCleanupConfig implements CleanupConfig {
                 ", readsPerQuery=" + readsPerQuery +
                 ", writesPerCredit=" + writesPerCredit +
                 ", deleteFinalDeletedSnapshot=" + deleteFinalDeletedSnapshot +
+                ", parallelism=" + parallelism +
+                ", progressSaveInterval=" + progressSaveInterval +
                 "]";
     }
 
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.persistentactors.cleanup;
+
+import java.time.Instant;
+import java.util.Date;
+import java.util.Optional;
+import java.util.concurrent.CompletionStage;
+
+import org.apache.pekko.Done;
+import org.apache.pekko.actor.ActorSystem;
+import org.apache.pekko.stream.javadsl.Sink;
+import org.apache.pekko.stream.javadsl.Source;
+import org.bson.Document;
+
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.ReplaceOptions;
+import com.mongodb.reactivestreams.client.MongoCollection;
+import com.mongodb.reactivestreams.client.MongoDatabase;
+
+/**
+ * MongoDB implementation of {@link CleanupProgressStore} which keeps one document per responsibility.
+ *
+ * @since 3.8.0
+ */
+public final class MongoCleanupProgressStore implements CleanupProgressStore {
+
+    private static final String FIELD_ID = "_id";
+    private static final String FIELD_LAST_PID = "lastPid";
+    private static final String FIELD_SAVED = "saved";
+
+    private final MongoCollection<Document> collection;
+    private final ActorSystem actorSystem;
+
+    private MongoCleanupProgressStore(final MongoCollection<Document> collection, final ActorSystem actorSystem) {
+        this.collection = collection;
+        this.actorSystem = actorSystem;
+    }
+
+    /**
+     * Creates a store of the cleanup progress.
+     *
+     * @param database the database containing the collection.
+     * @param collectionName the name of the collection.
+     * @param actorSystem the actor system to run the database operations in.
+     * @return the store.
+     */
+    public static MongoCleanupProgressStore of(final MongoDatabase database, final String collectionName,
+            final ActorSystem actorSystem) {
+
+        return new MongoCleanupProgressStore(database.getCollection(collectionName), actorSystem);
+    }
+
+    @Override
+    public CompletionStage<Done> save(final String responsibility, final String lastPid) {
+        final Document document = new Document()
+                .append(FIELD_ID, responsibility)
+                .append(FIELD_LAST_PID, lastPid)
+                .append(FIELD_SAVED, Date.from(Instant.now()));
+        return Source.fromPublisher(collection.replaceOne(Filters.eq(FIELD_ID, responsibility), document,
+                        new ReplaceOptions().upsert(true)))
+                .runWith(Sink.ignore(), actorSystem);
+    }
+
+    @Override
+    public CompletionStage<Optional<String>> load(final String responsibility) {
+        return Source.fromPublisher(collection.find(Filters.eq(FIELD_ID, responsibility)).limit(1))
+                .map(document -> document.get(FIELD_LAST_PID, ""))
+                .filter(lastPid -> !lastPid.isEmpty())
+                .runWith(Sink.headOption(), actorSystem);
+    }
+
+}
@@ -13,6 +13,11 @@
 package org.eclipse.ditto.internal.utils.persistentactors.cleanup;
 
 import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.function.Supplier;
 
 import javax.annotation.Nullable;
@@ -33,6 +38,7 @@ import org.apache.pekko.stream.Materializer;
 import org.apache.pekko.stream.UniqueKillSwitch;
 import org.apache.pekko.stream.javadsl.Keep;
 import org.apache.pekko.stream.javadsl.Sink;
+import org.apache.pekko.stream.javadsl.Source;
 import org.eclipse.ditto.base.api.common.ModifyConfig;
 import org.eclipse.ditto.base.api.common.RetrieveConfig;
 import org.eclipse.ditto.base.model.headers.DittoHeaders;
@@ -42,6 +48,7 @@ import org.eclipse.ditto.internal.utils.health.StatusDetailMessage;
 import org.eclipse.ditto.internal.utils.health.StatusInfo;
 import org.eclipse.ditto.internal.utils.metrics.DittoMetrics;
 import org.eclipse.ditto.internal.utils.metrics.instruments.counter.Counter;
+import org.eclipse.ditto.internal.utils.metrics.instruments.gauge.Gauge;
 import org.eclipse.ditto.internal.utils.pekko.actors.ModifyConfigBehavior;
 import org.eclipse.ditto.internal.utils.pekko.actors.RetrieveConfigBehavior;
 import org.eclipse.ditto.internal.utils.pekko.logging.DittoLoggerFactory;
@@ -55,6 +62,11 @@ import com.typesafe.config.ConfigFactory;
 
 /**
  * Actor to control persistence cleanup.
+ * <p>
+ * Up to {@code parallelism} delete operations are performed concurrently while their results are processed in the
+ * order of the persistence IDs. The progress is persisted periodically in the {@link CleanupProgressStore}, so that
+ * a restarted node resumes its responsibility from the last persisted persistence ID.
+ * </p>
  */
 public final class PersistenceCleanupActor extends AbstractFSM<PersistenceCleanupActor.State, String>
         implements RetrieveConfigBehavior, ModifyConfigBehavior {
@@ -75,6 +87,8 @@ public final class PersistenceCleanupActor extends AbstractFSM<PersistenceCleanu
      */
     private static final Duration SHUTDOWN_ASK_TIMEOUT = Duration.ofMinutes(2L);
 
+    private static final Duration RESTORE_PROGRESS_RETRY_DELAY = Duration.ofSeconds(5L);
+
     private static final Throwable KILL_SWITCH_EXCEPTION =
             new IllegalStateException("Aborting persistence clean up stream because of graceful shutdown.");
 
@@ -82,33 +96,43 @@ public final class PersistenceCleanupActor extends AbstractFSM<PersistenceCleanu
     private final Materializer materializer = Materializer.createMaterializer(getContext());
     private final Counter deleteEventsCounter = DittoMetrics.counter("cleanup_delete_events");
     private final Counter deleteSnapsCounter = DittoMetrics.counter("cleanup_delete_snapshots");
+    private final Counter completedPassesCounter = DittoMetrics.counter("cleanup_completed_passes");
+    private final Gauge passDurationGauge = DittoMetrics.gauge("cleanup_last_pass_duration_seconds");
     private final MongoReadJournal mongoReadJournal;
     private final Supplier<Pair<Integer, Integer>> responsibilitySupplier;
+    private final CleanupProgressStore progressStore;
 
     private CleanupConfig config;
     private Cleanup cleanup;
     private Credits credits;
     @Nullable private UniqueKillSwitch killSwitch = null;
+    private boolean progressRestored = false;
+    private Instant lastProgressSave = Instant.EPOCH;
+    private Instant passStart = Instant.now();
 
     PersistenceCleanupActor(final Cleanup cleanup,
             final Credits credits,
             final MongoReadJournal mongoReadJournal,
-            final Supplier<Pair<Integer, Integer>> responsibilitySupplier) {
+            final Supplier<Pair<Integer, Integer>> responsibilitySupplier,
+            final CleanupProgressStore progressStore) {
         this.config = CleanupConfig.of(ConfigFactory.empty());
         this.cleanup = cleanup;
         this.credits = credits;
         this.mongoReadJournal = mongoReadJournal;
         this.responsibilitySupplier = responsibilitySupplier;
+        this.progressStore = progressStore;
     }
 
     @SuppressWarnings("unused") // called by reflection
     private PersistenceCleanupActor(final CleanupConfig config,
             final MongoReadJournal mongoReadJournal,
-            final String myRole) {
+            final String myRole,
+            final CleanupProgressStore progressStore) {
         final var cluster = Cluster.get(getContext().getSystem());
         this.mongoReadJournal = mongoReadJournal;
         responsibilitySupplier = ClusterResponsibilitySupplier.of(cluster, myRole);
         this.config = config;
+        this.progressStore = progressStore;
         cleanup = Cleanup.of(config, mongoReadJournal, logger, materializer, responsibilitySupplier);
         credits = Credits.of(config);
     }
@@ -124,7 +148,23 @@ public final class PersistenceCleanupActor extends AbstractFSM<PersistenceCleanu
     public static Props props(final CleanupConfig config, final MongoReadJournal mongoReadJournal,
             final String myRole) {
 
-        return Props.create(PersistenceCleanupActor.class, config, mongoReadJournal, myRole);
+        return props(config, mongoReadJournal, myRole, CleanupProgressStore.noOp());
+    }
+
+    /**
+     * Create the Props object for this actor which persists its progress.
+     *
+     * @param config the background cleanup config.
+     * @param mongoReadJournal the Mongo read journal for database operations.
+     * @param myRole the cluster role of this node among which the background cleanup responsibility is divided.
+     * @param progressStore the store of the cleanup progress.
+     * @return the Props object.
+     * @since 3.8.0
+     */
+    public static Props props(final CleanupConfig config, final MongoReadJournal mongoReadJournal,
+            final String myRole, final CleanupProgressStore progressStore) {
+
+        return Props.create(PersistenceCleanupActor.class, config, mongoReadJournal, myRole, progressStore);
     }
 
     @Override
@@ -144,6 +184,7 @@ public final class PersistenceCleanupActor extends AbstractFSM<PersistenceCleanu
             startWith(State.IN_QUIET_PERIOD, "");
         }
         when(State.IN_QUIET_PERIOD, inQuietPeriod());
+        getSelf().tell(Control.RESTORE_PROGRESS, ActorRef.noSender());
         when(State.RUNNING, running());
         whenUnhandled(inAnyState());
         initialize();
@@ -151,6 +192,8 @@ public final class PersistenceCleanupActor extends AbstractFSM<PersistenceCleanu
 
     private FSMStateFunctionBuilder<State, String> inQuietPeriod() {
         return matchEventEquals(StateTimeout(), this::startStream)
+                .eventEquals(Control.RESTORE_PROGRESS, this::restoreProgress)
+                .event(RestoredProgress.class, this::useRestoredProgress)
                 .eventEquals(Control.SHUTDOWN, this::shutdownInQuietPeriod)
                 .eventEquals(Control.SERVICE_REQUESTS_DONE, this::serviceRequestsDone);
     }
@@ -181,6 +224,8 @@ public final class PersistenceCleanupActor extends AbstractFSM<PersistenceCleanu
                     return setLastPid.map(stay::using).orElse(stay);
                 })
                 .eventEquals(Control.SERVICE_REQUESTS_DONE, this::serviceRequestsDone)
+                .eventEquals(Control.RESTORE_PROGRESS, (restoreProgress, lastPid) -> stay())
+                .event(RestoredProgress.class, (restoredProgress, lastPid) -> stay())
                 .anyEvent((message, lastPid) -> {
                     logger.warning("Got unhandled message <{}> when state=<{}> lastPid=<{}>",
                             message, stateName().name(), lastPid);
@@ -189,11 +234,53 @@ public final class PersistenceCleanupActor extends AbstractFSM<PersistenceCleanu
                 });
     }
 
+    private FSM.State<State, String> restoreProgress(final Control restoreProgress, final String lastPid) {
+        if (progressRestored) {
+            return stay();
+        }
+        final Optional<String> responsibility = getResponsibilityKey();
+        if (responsibility.isEmpty()) {
+            // responsibility is unknown until this node joined the cluster
+            startSingleTimer(Control.RESTORE_PROGRESS.name(), Control.RESTORE_PROGRESS, RESTORE_PROGRESS_RETRY_DELAY);
+            return stay();
+        }
+        final ActorRef self = getSelf();
+        progressStore.load(responsibility.get())
+                .exceptionally(error -> {
+                    logger.warning("Failed to load cleanup progress of <{}>: <{}>", responsibility.get(),
+                            error.getMessage());
+                    return Optional.empty();
+                })
+                .thenAccept(restoredPid -> self.tell(new RestoredProgress(restoredPid.orElse("")),
+                        ActorRef.noSender()));
+
+        return stay();
+    }
+
+    private FSM.State<State, String> useRestoredProgress(final RestoredProgress restoredProgress,
+            final String lastPid) {
+
+        progressRestored = true;
+        if (lastPid.isEmpty() && !restoredProgress.lastPid().isEmpty()) {
+            logger.info("Resuming cleanup from persisted progress <{}>", restoredProgress.lastPid());
+            return stay().using(restoredProgress.lastPid());
+        }
+
+        return stay();
+    }
+
     private FSM.State<State, String> startStream(final StateTimeout$ stateTimeout, final String lastPid) {
+        // progress persisted by a previous instance is no longer of interest once a stream was started
+        progressRestored = true;
         logger.info("Quiet period expired, starting stream from <{}>", lastPid);
+        if (lastPid.isEmpty()) {
+            passStart = Instant.now();
+        }
+        final var currentCredits = credits;
         final var materializedValues =
-                credits.regulate(cleanup.getCleanupStream(lastPid), logger)
-                        .flatMapConcat(workUnit -> workUnit)
+                currentCredits.regulate(cleanup.getCleanupStream(lastPid), logger)
+                        .mapAsync(config.getParallelism(), workUnit -> runWorkUnit(workUnit, currentCredits))
+                        .mapConcat(results -> results)
                         .viaMat(KillSwitches.single(), Keep.right())
                         .toMat(Sink.foreach(this::notifySelf), Keep.both())
                         .withAttributes(Attributes.inputBuffer(1, 1))
@@ -205,11 +292,27 @@ public final class PersistenceCleanupActor extends AbstractFSM<PersistenceCleanu
         return goTo(State.RUNNING);
     }
 
+    private CompletionStage<List<CleanupResult>> runWorkUnit(final Source<CleanupResult, ?> workUnit,
+            final Credits currentCredits) {
+
+        final long startNanos = System.nanoTime();
+        return workUnit.runWith(Sink.seq(), materializer)
+                .thenApply(results -> {
+                    currentCredits.recordDatabaseLatency(Duration.ofNanos(System.nanoTime() - startNanos));
+                    return results;
+                });
+    }
+
     private FSM.State<State, String> logCleanupResult(final CleanupResult result, final String lastPid) {
         logger.debug("CleanupResult=<{}>", result);
         final var nextPid = result.snapshotRevision.pid;
         if (!lastPid.equals(nextPid)) {
             logger.info("Progress=<{}>", nextPid);
+            if (!lastPid.isEmpty() &&
+                    Instant.now().isAfter(lastProgressSave.plus(config.getProgressSaveInterval()))) {
+                // all work units of the previous PID are done because results arrive in order
+                saveProgress(lastPid);
+            }
         }
         switch (result.type) {
             case SNAPSHOTS:
@@ -225,6 +328,9 @@ public final class PersistenceCleanupActor extends AbstractFSM<PersistenceCleanu
     }
 
     private FSM.State<State, String> streamComplete(final Control streamComplete, final String lastPid) {
+        completedPassesCounter.increment();
+        passDurationGauge.set(Duration.between(passStart, Instant.now()).toSeconds());
+        saveProgress("");
         final var result = goTo(State.IN_QUIET_PERIOD).using("");
         if (config.isEnabled()) {
             final var nextQuietPeriod = randomizeQuietPeriod();
@@ -239,6 +345,7 @@ public final class PersistenceCleanupActor extends AbstractFSM<PersistenceCleanu
     }
 
     private FSM.State<State, String> streamFailed(final Control streamComplete, final String lastPid) {
+        saveProgress(lastPid);
         final var result = goTo(State.IN_QUIET_PERIOD).using(lastPid);
         if (config.isEnabled()) {
             final var nextQuietPeriod = randomizeQuietPeriod();
@@ -297,6 +404,27 @@ public final class PersistenceCleanupActor extends AbstractFSM<PersistenceCleanu
         return quietPeriod.plus(quietPeriod.multipliedBy(multiplier).dividedBy(divisor));
     }
 
+    private Optional<String> getResponsibilityKey() {
+        final var responsibility = responsibilitySupplier.get();
+        if (responsibility.first() < 0) {
+            return Optional.empty();
+        }
+
+        return Optional.of(responsibility.first() + "/" + responsibility.second());
+    }
+
+    private CompletionStage<Done> saveProgress(final String lastPid) {
+        lastProgressSave = Instant.now();
+        return getResponsibilityKey()
+                .map(responsibility -> progressStore.save(responsibility, lastPid)
+                        .exceptionally(error -> {
+                            logger.warning("Failed to save cleanup progress <{}> of <{}>: <{}>", lastPid,
+                                    responsibility, error.getMessage());
+                            return Done.getInstance();
+                        }))
+                .orElseGet(() -> CompletableFuture.completedFuture(Done.getInstance()));
+    }
+
     private void notifySelf(final CleanupResult result) {
         getSelf().tell(result, ActorRef.noSender());
     }
@@ -331,11 +459,15 @@ public final class PersistenceCleanupActor extends AbstractFSM<PersistenceCleanu
     }
 
     private FSM.State<State, String> serviceRequestsDone(final Control serviceRequestsDone, final String lastPid) {
+        final ActorRef sender = getSender();
+        final ActorRef self = getSelf();
         if (killSwitch != null) {
             logger.info("Aborting stream because of graceful shutdown.");
             killSwitch.abort(KILL_SWITCH_EXCEPTION);
+            saveProgress(lastPid).thenAccept(done -> sender.tell(Done.getInstance(), self));
+        } else {
+            sender.tell(Done.getInstance(), self);
         }
-        getSender().tell(Done.getInstance(), getSelf());
 
         return stay();
     }
@@ -344,9 +476,12 @@ public final class PersistenceCleanupActor extends AbstractFSM<PersistenceCleanu
         STREAM_COMPLETE,
         STREAM_FAILED,
         SHUTDOWN,
-        SERVICE_REQUESTS_DONE
+        SERVICE_REQUESTS_DONE,
+        RESTORE_PROGRESS
     }
 
+    private record RestoredProgress(String lastPid) {}
+
     /**
      * State of the persistence cleanup actor.
      */
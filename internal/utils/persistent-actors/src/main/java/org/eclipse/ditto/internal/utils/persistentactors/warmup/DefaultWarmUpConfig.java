@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.persistentactors.warmup;
+
+import java.time.Duration;
+import java.util.Objects;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.internal.utils.config.ScopedConfig;
+
+@Immutable
+final class DefaultWarmUpConfig implements WarmUpConfig {
+
+    static final String CONFIG_PATH = "warm-up";
+
+    private final boolean enabled;
+    private final Duration pollInterval;
+    private final Duration recordInterval;
+    private final int maxEntitiesPerShard;
+    private final int entitiesPerSecond;
+
+    DefaultWarmUpConfig(final ScopedConfig conf) {
+        enabled = conf.getBoolean(ConfigValue.ENABLED.getConfigPath());
+        pollInterval = conf.getNonNegativeAndNonZeroDurationOrThrow(ConfigValue.POLL_INTERVAL);
+        recordInterval = conf.getNonNegativeAndNonZeroDurationOrThrow(ConfigValue.RECORD_INTERVAL);
+        maxEntitiesPerShard = conf.getPositiveIntOrThrow(ConfigValue.MAX_ENTITIES_PER_SHARD);
+        entitiesPerSecond = conf.getPositiveIntOrThrow(ConfigValue.ENTITIES_PER_SECOND);
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public Duration getPollInterval() {
+        return pollInterval;
+    }
+
+    @Override
+    public Duration getRecordInterval() {
+        return recordInterval;
+    }
+
+    @Override
+    public int getMaxEntitiesPerShard() {
+        return maxEntitiesPerShard;
+    }
+
+    @Override
+    public int getEntitiesPerSecond() {
+        return entitiesPerSecond;
+    }
+
+    @Override
+    public boolean equals(@Nullable final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final DefaultWarmUpConfig that = (DefaultWarmUpConfig) o;
+        return enabled == that.enabled &&
+                maxEntitiesPerShard == that.maxEntitiesPerShard &&
+                entitiesPerSecond == that.entitiesPerSecond &&
+                Objects.equals(pollInterval, that.pollInterval) &&
+                Objects.equals(recordInterval, that.recordInterval);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(enabled, pollInterval, recordInterval, maxEntitiesPerShard, entitiesPerSecond);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "enabled=" + enabled +
+                ", pollInterval=" + pollInterval +
+                ", recordInterval=" + recordInterval +
+                ", maxEntitiesPerShard=" + maxEntitiesPerShard +
+                ", entitiesPerSecond=" + entitiesPerSecond +
+                "]";
+    }
+
+}
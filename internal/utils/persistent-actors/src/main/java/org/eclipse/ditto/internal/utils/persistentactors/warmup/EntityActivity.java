@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.persistentactors.warmup;
+
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.pekko.actor.AbstractExtensionId;
+import org.apache.pekko.actor.ActorPath;
+import org.apache.pekko.actor.ActorRef;
+import org.apache.pekko.actor.ActorSystem;
+import org.apache.pekko.actor.ExtendedActorSystem;
+import org.apache.pekko.actor.Extension;
+
+/**
+ * Node-local record of the last activity of the alive entities of the shard regions of an actor system.
+ * <p>
+ * Entities record their activity whenever they handle a signal and remove their record when they stop. Entities which
+ * were only started, e.g. by a warm-up, and were not accessed since then have no recorded activity.
+ * </p>
+ */
+public final class EntityActivity implements Extension {
+
+    private final Map<String, Map<String, Long>> lastActivityPerEntityPerRegion;
+
+    private EntityActivity() {
+        lastActivityPerEntityPerRegion = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Load the {@code EntityActivity} of an actor system.
+     *
+     * @param actorSystem the actor system.
+     * @return the entity activity of the actor system.
+     */
+    public static EntityActivity get(final ActorSystem actorSystem) {
+        return ExtensionId.INSTANCE.get(actorSystem);
+    }
+
+    /**
+     * Returns the recorder of the activity of a sharded entity actor, i.e. a child of a shard of a shard region.
+     *
+     * @param entityActor the entity actor.
+     * @return the recorder.
+     */
+    public Recorder getRecorder(final ActorRef entityActor) {
+        final ActorPath path = entityActor.path();
+        return getRecorder(decode(path.parent().parent().name()), decode(path.name()));
+    }
+
+    Recorder getRecorder(final String regionName, final String entityId) {
+        return new Recorder(getLastActivityPerEntity(regionName), entityId);
+    }
+
+    /**
+     * Returns the passed entities of a shard region which have recorded activity, most recently active first.
+     *
+     * @param regionName the name of the shard region.
+     * @param entityIds the IDs of the entities.
+     * @param limit the maximum number of entity IDs to return.
+     * @return the IDs of the most recently active entities.
+     */
+    public List<String> getMostRecentlyActive(final String regionName, final Collection<String> entityIds,
+            final int limit) {
+
+        final Map<String, Long> lastActivityPerEntity = getLastActivityPerEntity(regionName);
+        return entityIds.stream()
+                .map(entityId -> Map.entry(entityId, lastActivityPerEntity.getOrDefault(entityId, Long.MIN_VALUE)))
+                .filter(entry -> entry.getValue() != Long.MIN_VALUE)
+                .sorted(Map.Entry.<String, Long>comparingByValue(Comparator.reverseOrder()))
+                .limit(limit)
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    private Map<String, Long> getLastActivityPerEntity(final String regionName) {
+        return lastActivityPerEntityPerRegion.computeIfAbsent(regionName, name -> new ConcurrentHashMap<>());
+    }
+
+    private static String decode(final String actorName) {
+        return URLDecoder.decode(actorName, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Records the activity of one entity.
+     */
+    public static final class Recorder {
+
+        private final Map<String, Long> lastActivityPerEntity;
+        private final String entityId;
+
+        private Recorder(final Map<String, Long> lastActivityPerEntity, final String entityId) {
+            this.lastActivityPerEntity = lastActivityPerEntity;
+            this.entityId = entityId;
+        }
+
+        /**
+         * Records that the entity is active now.
+         */
+        public void recordActivity() {
+            lastActivityPerEntity.put(entityId, System.nanoTime());
+        }
+
+        /**
+         * Removes the recorded activity of the entity, e.g. because it stopped.
+         */
+        public void remove() {
+            lastActivityPerEntity.remove(entityId);
+        }
+
+    }
+
+    private static final class ExtensionId extends AbstractExtensionId<EntityActivity> {
+
+        private static final ExtensionId INSTANCE = new ExtensionId();
+
+        @Override
+        public EntityActivity createExtension(final ExtendedActorSystem system) {
+            return new EntityActivity();
+        }
+
+    }
+
+}
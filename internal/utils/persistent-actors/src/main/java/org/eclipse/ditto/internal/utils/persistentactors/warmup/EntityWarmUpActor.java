@@ -0,0 +1,282 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.persistentactors.warmup;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import javax.annotation.Nullable;
+
+import org.apache.pekko.Done;
+import org.apache.pekko.actor.AbstractActorWithTimers;
+import org.apache.pekko.actor.ActorRef;
+import org.apache.pekko.actor.CoordinatedShutdown;
+import org.apache.pekko.actor.Props;
+import org.apache.pekko.cluster.sharding.ShardRegion;
+import org.apache.pekko.japi.pf.ReceiveBuilder;
+import org.apache.pekko.pattern.Patterns;
+import org.apache.pekko.stream.BoundedSourceQueue;
+import org.apache.pekko.stream.Materializer;
+import org.apache.pekko.stream.QueueOfferResult;
+import org.apache.pekko.stream.javadsl.Sink;
+import org.apache.pekko.stream.javadsl.Source;
+import org.eclipse.ditto.internal.utils.cluster.ShardedSignalBatch;
+import org.eclipse.ditto.internal.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.internal.utils.metrics.instruments.counter.Counter;
+import org.eclipse.ditto.internal.utils.pekko.logging.DittoLoggerFactory;
+import org.eclipse.ditto.internal.utils.pekko.logging.ThreadSafeDittoLoggingAdapter;
+
+/**
+ * Actor which warms up the hot entities of the shards of the local shard region.
+ * <p>
+ * The IDs of the most recently active entities according to their {@link EntityActivity} are recorded per shard
+ * periodically and when the node is shutting down. Entities which were started but not accessed since then, e.g. by a
+ * warm-up, and the relay entities of the shards are not recorded. Whenever a shard is newly allocated to the local
+ * shard region, e.g. after a rolling restart, the recorded entities of the shard are started in the background with a
+ * limited rate, so that their recovery does not happen on the first access to them. A shard is not recorded before
+ * its warm-up completed, i.e. all its recorded entities were started, as it would otherwise lose the records of the
+ * entities still waiting for their warm-up.
+ * </p>
+ */
+public final class EntityWarmUpActor extends AbstractActorWithTimers {
+
+    /**
+     * Name of this actor.
+     */
+    public static final String ACTOR_NAME = "entityWarmUp";
+
+    private static final Duration ASK_TIMEOUT = Duration.ofSeconds(10L);
+
+    /**
+     * Maximum number of entities waiting to be warmed up, further entities are dropped.
+     */
+    private static final int WARM_UP_QUEUE_SIZE = 10_000;
+
+    /**
+     * Ask-timeout in shutdown tasks. Its duration should be long enough but ultimately does not
+     * matter because each shutdown phase has its own timeout.
+     */
+    private static final Duration SHUTDOWN_ASK_TIMEOUT = Duration.ofMinutes(2L);
+
+    private final ThreadSafeDittoLoggingAdapter logger = DittoLoggerFactory.getThreadSafeDittoLoggingAdapter(this);
+    private final WarmUpConfig config;
+    private final ActorRef shardRegion;
+    private final HotEntitiesStore store;
+    private final String regionName;
+    private final EntityActivity entityActivity;
+    private final Set<String> localShardIds;
+    private final Set<String> shardIdsInWarmUp;
+    private final Set<String> shardIdsRecordedWithoutEntities;
+    private final BoundedSourceQueue<Object> warmUpQueue;
+    private final Counter requestedEntities;
+    private final Counter startedEntities;
+    private final Counter droppedEntities;
+    private final Counter recordedEntities;
+
+    @SuppressWarnings("unused")
+    private EntityWarmUpActor(final WarmUpConfig config, final ActorRef shardRegion, final HotEntitiesStore store,
+            final String regionName) {
+
+        this.config = config;
+        this.shardRegion = shardRegion;
+        this.store = store;
+        this.regionName = regionName;
+        entityActivity = EntityActivity.get(getContext().getSystem());
+        localShardIds = new HashSet<>();
+        shardIdsInWarmUp = new HashSet<>();
+        shardIdsRecordedWithoutEntities = new HashSet<>();
+        requestedEntities = DittoMetrics.counter("entity_warm_up_requested").tag("region", regionName);
+        startedEntities = DittoMetrics.counter("entity_warm_up_started").tag("region", regionName);
+        droppedEntities = DittoMetrics.counter("entity_warm_up_dropped").tag("region", regionName);
+        recordedEntities = DittoMetrics.counter("entity_warm_up_recorded").tag("region", regionName);
+        final ActorRef self = getSelf();
+        warmUpQueue = Source.queue(WARM_UP_QUEUE_SIZE)
+                .throttle(config.getEntitiesPerSecond(), Duration.ofSeconds(1L))
+                .to(Sink.foreach(step -> {
+                    if (step instanceof ShardWarmedUp) {
+                        self.tell(step, ActorRef.noSender());
+                    } else {
+                        shardRegion.tell(step, self);
+                    }
+                }))
+                .run(Materializer.createMaterializer(getContext()));
+    }
+
+    /**
+     * Create the Props object for this actor.
+     *
+     * @param config the warm-up config.
+     * @param shardRegion the local shard region whose entities are warmed up.
+     * @param store the store of the hot entities per shard.
+     * @param regionName the name of the shard region, whose entity activity is recorded and which tags the metrics.
+     * @return the Props object.
+     */
+    public static Props props(final WarmUpConfig config, final ActorRef shardRegion, final HotEntitiesStore store,
+            final String regionName) {
+
+        return Props.create(EntityWarmUpActor.class, config, shardRegion, store, regionName);
+    }
+
+    @Override
+    public void preStart() throws Exception {
+        super.preStart();
+        getTimers().startTimerWithFixedDelay(Control.POLL, Control.POLL, config.getPollInterval());
+        getTimers().startTimerWithFixedDelay(Control.RECORD, Control.RECORD, config.getRecordInterval());
+
+        final var coordinatedShutdown = CoordinatedShutdown.get(getContext().getSystem());
+        coordinatedShutdown.addTask(CoordinatedShutdown.PhaseServiceRequestsDone(),
+                "service-requests-done-" + ACTOR_NAME,
+                () -> Patterns.ask(getSelf(), Control.SERVICE_REQUESTS_DONE, SHUTDOWN_ASK_TIMEOUT)
+                        .thenApply(reply -> Done.done())
+        );
+    }
+
+    @Override
+    public Receive createReceive() {
+        return ReceiveBuilder.create()
+                .matchEquals(Control.POLL, this::askForShardRegionState)
+                .matchEquals(Control.RECORD, this::askForShardRegionState)
+                .matchEquals(Control.SERVICE_REQUESTS_DONE, this::askForShardRegionState)
+                .match(RegionState.class, this::handleRegionState)
+                .match(ShardRegion.StartEntityAck.class, ack -> startedEntities.increment())
+                .match(WarmUpEntities.class, this::warmUp)
+                .match(ShardWarmedUp.class, this::shardWarmedUp)
+                .matchAny(message -> logger.warning("Unknown message: <{}>", message))
+                .build();
+    }
+
+    private void askForShardRegionState(final Control trigger) {
+        final ActorRef sender = getSender();
+        final ActorRef self = getSelf();
+        Patterns.ask(shardRegion, ShardRegion.getShardRegionStateInstance(), ASK_TIMEOUT)
+                .thenApply(state -> new RegionState(trigger, (ShardRegion.CurrentShardRegionState) state, sender))
+                .exceptionally(error -> {
+                    logger.warning("Failed to retrieve state of shard region: <{}>", error.getMessage());
+                    return new RegionState(trigger, null, sender);
+                })
+                .thenAccept(regionState -> self.tell(regionState, ActorRef.noSender()));
+    }
+
+    private void handleRegionState(final RegionState regionState) {
+        if (null == regionState.state()) {
+            if (regionState.trigger() == Control.SERVICE_REQUESTS_DONE) {
+                regionState.sender().tell(Done.done(), getSelf());
+            }
+            return;
+        }
+        final Set<ShardRegion.ShardState> shards = regionState.state().getShards();
+        switch (regionState.trigger()) {
+            case POLL -> detectAllocatedShards(shards);
+            case RECORD -> recordHotEntities(shards);
+            case SERVICE_REQUESTS_DONE -> {
+                final ActorRef sender = regionState.sender();
+                final ActorRef self = getSelf();
+                recordHotEntities(shards)
+                        .whenComplete((result, error) -> sender.tell(Done.done(), self));
+            }
+        }
+    }
+
+    private void detectAllocatedShards(final Set<ShardRegion.ShardState> shards) {
+        final Set<String> currentShardIds = new HashSet<>();
+        for (final ShardRegion.ShardState shard : shards) {
+            final String shardId = shard.shardId();
+            currentShardIds.add(shardId);
+            if (localShardIds.add(shardId)) {
+                shardIdsInWarmUp.add(shardId);
+                final Set<String> aliveEntityIds = shard.getEntityIds();
+                final ActorRef self = getSelf();
+                store.load(shardId)
+                        .exceptionally(error -> {
+                            logger.warning("Failed to load hot entities of shard <{}>: <{}>", shardId,
+                                    error.getMessage());
+                            return List.of();
+                        })
+                        .thenAccept(entityIds -> self.tell(new WarmUpEntities(shardId, entityIds.stream()
+                                .filter(entityId -> !aliveEntityIds.contains(entityId))
+                                .filter(entityId -> !ShardedSignalBatch.isRelayEntityId(entityId))
+                                .toList()), ActorRef.noSender()));
+            }
+        }
+        localShardIds.retainAll(currentShardIds);
+        shardIdsRecordedWithoutEntities.retainAll(currentShardIds);
+    }
+
+    private void warmUp(final WarmUpEntities warmUpEntities) {
+        logger.info("Warming up <{}> entities of newly allocated shard <{}>.", warmUpEntities.entityIds().size(),
+                warmUpEntities.shardId());
+        for (final String entityId : warmUpEntities.entityIds()) {
+            if (warmUpQueue.offer(new ShardRegion.StartEntity(entityId)) == QueueOfferResult.enqueued()) {
+                requestedEntities.increment();
+            } else {
+                droppedEntities.increment();
+            }
+        }
+        // the warm-up of the shard is complete once all its entities before this marker were started
+        final ShardWarmedUp shardWarmedUp = new ShardWarmedUp(warmUpEntities.shardId());
+        if (warmUpQueue.offer(shardWarmedUp) != QueueOfferResult.enqueued()) {
+            shardWarmedUp(shardWarmedUp);
+        }
+    }
+
+    private void shardWarmedUp(final ShardWarmedUp shardWarmedUp) {
+        logger.debug("Warm-up of shard <{}> completed.", shardWarmedUp.shardId());
+        shardIdsInWarmUp.remove(shardWarmedUp.shardId());
+    }
+
+    private CompletionStage<Void> recordHotEntities(final Set<ShardRegion.ShardState> shards) {
+        final CompletableFuture<?>[] saved = shards.stream()
+                .filter(shard -> localShardIds.contains(shard.shardId()) &&
+                        !shardIdsInWarmUp.contains(shard.shardId()))
+                .map(this::recordHotEntities)
+                .toArray(CompletableFuture[]::new);
+        return CompletableFuture.allOf(saved);
+    }
+
+    private CompletableFuture<Done> recordHotEntities(final ShardRegion.ShardState shard) {
+        final List<String> entityIds = entityActivity.getMostRecentlyActive(regionName, shard.getEntityIds(),
+                config.getMaxEntitiesPerShard());
+        // the empty list replaces the former record of the shard, but it is only saved once until entities are active
+        if (entityIds.isEmpty() && !shardIdsRecordedWithoutEntities.add(shard.shardId())) {
+            return CompletableFuture.completedFuture(Done.done());
+        } else if (!entityIds.isEmpty()) {
+            shardIdsRecordedWithoutEntities.remove(shard.shardId());
+        }
+        recordedEntities.increment(entityIds.size());
+        return store.save(shard.shardId(), entityIds)
+                .exceptionally(error -> {
+                    logger.warning("Failed to record hot entities of shard <{}>: <{}>", shard.shardId(),
+                            error.getMessage());
+                    return Done.done();
+                })
+                .toCompletableFuture();
+    }
+
+    enum Control {
+        POLL,
+        RECORD,
+        SERVICE_REQUESTS_DONE
+    }
+
+    private record RegionState(Control trigger, @Nullable ShardRegion.CurrentShardRegionState state,
+                               ActorRef sender) {}
+
+    private record WarmUpEntities(String shardId, List<String> entityIds) {}
+
+    private record ShardWarmedUp(String shardId) {}
+
+}
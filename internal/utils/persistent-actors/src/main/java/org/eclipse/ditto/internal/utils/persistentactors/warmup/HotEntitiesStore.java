@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.persistentactors.warmup;
+
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+
+import org.apache.pekko.Done;
+
+/**
+ * Store of the IDs of the most recently active entities per shard.
+ */
+public interface HotEntitiesStore {
+
+    /**
+     * Replaces the recorded entity IDs of a shard.
+     *
+     * @param shardId the ID of the shard.
+     * @param entityIds the IDs of the hot entities of the shard.
+     * @return a future completing when the entity IDs were stored.
+     */
+    CompletionStage<Done> save(String shardId, List<String> entityIds);
+
+    /**
+     * Loads the recorded entity IDs of a shard.
+     *
+     * @param shardId the ID of the shard.
+     * @return a future of the recorded entity IDs, empty if none were recorded.
+     */
+    CompletionStage<List<String>> load(String shardId);
+
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.persistentactors.warmup;
+
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+
+import org.apache.pekko.Done;
+import org.apache.pekko.actor.ActorSystem;
+import org.apache.pekko.stream.javadsl.Sink;
+import org.apache.pekko.stream.javadsl.Source;
+import org.bson.Document;
+
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.ReplaceOptions;
+import com.mongodb.reactivestreams.client.MongoCollection;
+import com.mongodb.reactivestreams.client.MongoDatabase;
+
+/**
+ * MongoDB implementation of {@link HotEntitiesStore} which keeps one document per shard.
+ */
+public final class MongoHotEntitiesStore implements HotEntitiesStore {
+
+    private static final String FIELD_ID = "_id";
+    private static final String FIELD_ENTITY_IDS = "entityIds";
+    private static final String FIELD_RECORDED = "recorded";
+
+    private final MongoCollection<Document> collection;
+    private final ActorSystem actorSystem;
+
+    private MongoHotEntitiesStore(final MongoCollection<Document> collection, final ActorSystem actorSystem) {
+        this.collection = collection;
+        this.actorSystem = actorSystem;
+    }
+
+    /**
+     * Creates a store of hot entities.
+     *
+     * @param database the database containing the collection.
+     * @param collectionName the name of the collection.
+     * @param actorSystem the actor system to run the database operations in.
+     * @return the store.
+     */
+    public static MongoHotEntitiesStore of(final MongoDatabase database, final String collectionName,
+            final ActorSystem actorSystem) {
+
+        return new MongoHotEntitiesStore(database.getCollection(collectionName), actorSystem);
+    }
+
+    @Override
+    public CompletionStage<Done> save(final String shardId, final List<String> entityIds) {
+        final Document document = new Document()
+                .append(FIELD_ID, shardId)
+                .append(FIELD_ENTITY_IDS, entityIds)
+                .append(FIELD_RECORDED, Date.from(Instant.now()));
+        return Source.fromPublisher(collection.replaceOne(Filters.eq(FIELD_ID, shardId), document,
+                        new ReplaceOptions().upsert(true)))
+                .runWith(Sink.ignore(), actorSystem);
+    }
+
+    @Override
+    public CompletionStage<List<String>> load(final String shardId) {
+        return Source.fromPublisher(collection.find(Filters.eq(FIELD_ID, shardId)).limit(1))
+                .map(document -> document.getList(FIELD_ENTITY_IDS, String.class, List.of()))
+                .runWith(Sink.headOption(), actorSystem)
+                .thenApply(entityIds -> entityIds.orElse(List.of()));
+    }
+
+}
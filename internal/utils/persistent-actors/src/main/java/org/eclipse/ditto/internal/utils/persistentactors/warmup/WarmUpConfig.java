@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.persistentactors.warmup;
+
+import java.time.Duration;
+
+import org.eclipse.ditto.internal.utils.config.ConfigWithFallback;
+import org.eclipse.ditto.internal.utils.config.KnownConfigValue;
+
+import com.typesafe.config.Config;
+
+/**
+ * Config for warming up the hot entities of shards after they were allocated to a cluster node.
+ */
+public interface WarmUpConfig {
+
+    /**
+     * Create a warm-up config from a config which may contain a "warm-up" section.
+     *
+     * @param config the config.
+     * @return the warm-up config.
+     */
+    static WarmUpConfig of(final Config config) {
+        return new DefaultWarmUpConfig(ConfigWithFallback.newInstance(config, DefaultWarmUpConfig.CONFIG_PATH,
+                ConfigValue.values()));
+    }
+
+    /**
+     * Returns whether the hot entities of shards are recorded and warmed up.
+     *
+     * @return whether warm-up is enabled.
+     */
+    boolean isEnabled();
+
+    /**
+     * Returns how often the local shards are checked for newly allocated shards whose entities are warmed up.
+     *
+     * @return the poll interval.
+     */
+    Duration getPollInterval();
+
+    /**
+     * Returns how often the hot entities of the local shards are recorded.
+     *
+     * @return the record interval.
+     */
+    Duration getRecordInterval();
+
+    /**
+     * Returns the maximum number of hot entities recorded per shard.
+     *
+     * @return the maximum number of entities per shard.
+     */
+    int getMaxEntitiesPerShard();
+
+    /**
+     * Returns how many entities are started per second at most when warming up.
+     *
+     * @return the maximum number of started entities per second.
+     */
+    int getEntitiesPerSecond();
+
+    /**
+     * Enumeration of known config keys and default values for {@code WarmUpConfig}.
+     */
+    enum ConfigValue implements KnownConfigValue {
+
+        /**
+         * Whether warm-up is enabled.
+         */
+        ENABLED("enabled", false),
+
+        /**
+         * How often the local shards are checked for newly allocated shards.
+         */
+        POLL_INTERVAL("poll-interval", Duration.ofSeconds(10L)),
+
+        /**
+         * How often the hot entities of the local shards are recorded.
+         */
+        RECORD_INTERVAL("record-interval", Duration.ofMinutes(1L)),
+
+        /**
+         * The maximum number of hot entities recorded per shard.
+         */
+        MAX_ENTITIES_PER_SHARD("max-entities-per-shard", 100),
+
+        /**
+         * The maximum number of entities started per second when warming up.
+         */
+        ENTITIES_PER_SECOND("entities-per-second", 20);
+
+        private final String path;
+        private final Object defaultValue;
+
+        ConfigValue(final String path, final Object defaultValue) {
+            this.path = path;
+            this.defaultValue = defaultValue;
+        }
+
+        @Override
+        public Object getDefaultValue() {
+            return defaultValue;
+        }
+
+        @Override
+        public String getConfigPath() {
+            return path;
+        }
+    }
+}
@@ -161,6 +161,25 @@ public final class CreditsTest {
         assertThat(opsCounter.get()).isEqualTo(4); // 4 credit given out in total
     }
 
+    @Test
+    public void noCreditAfterRecordedDatabaseLatencyAboveThreshold() {
+        final Credits underTest = Credits.of(getFastCreditConfig(1));
+        underTest.recordDatabaseLatency(Duration.ofMillis(1));
+        final var probePair = materializeProbePair(underTest);
+        final var sourceProbe = probePair.first();
+        final var sinkProbe = probePair.second();
+        sinkProbe.ensureSubscription();
+        sinkProbe.request(5);
+        assertThat(sourceProbe.expectRequest()).isEqualTo(1L); // initial input buffer
+
+        // first credit decision sees the recorded latency
+        sourceProbe.sendNext(0);
+        sourceProbe.expectNoMessage(Duration.ofMillis(50));
+
+        // next credit decision has no latency recorded
+        assertThat(sourceProbe.expectRequest()).isEqualTo(1L);
+    }
+
     private Pair<TestPublisher.Probe<Object>, TestSubscriber.Probe<Object>> materializeProbePair(
             final Credits credits) {
         return credits.regulate(TestSource.probe(actorSystem), Logging.getLogger(actorSystem, this))
@@ -171,6 +190,6 @@ public final class CreditsTest {
 
     private static CleanupConfig getFastCreditConfig(final int creditPerBatch) {
         return new DefaultCleanupConfig(true, Duration.ZERO, Duration.ZERO, Duration.ofMillis(100), Duration.ofNanos(1000),
-                creditPerBatch, 100, 100, false);
+                creditPerBatch, 100, 100, false, 1, Duration.ofSeconds(30));
     }
 }
@@ -70,5 +70,13 @@ public final class DefaultCleanupConfigTest {
         assertThat(underTest.shouldDeleteFinalDeletedSnapshot())
                 .describedAs(CleanupConfig.ConfigValue.DELETE_FINAL_DELETED_SNAPSHOT.getConfigPath())
                 .isEqualTo(true);
+
+        assertThat(underTest.getParallelism())
+                .describedAs(CleanupConfig.ConfigValue.PARALLELISM.getConfigPath())
+                .isEqualTo(7);
+
+        assertThat(underTest.getProgressSaveInterval())
+                .describedAs(CleanupConfig.ConfigValue.PROGRESS_SAVE_INTERVAL.getConfigPath())
+                .isEqualTo(Duration.ofSeconds(8));
     }
 }
@@ -24,7 +24,10 @@ import static org.mockito.Mockito.when;
 import java.time.Duration;
 import java.time.temporal.ChronoUnit;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicReference;
 
 import org.apache.pekko.Done;
@@ -71,6 +74,8 @@ public final class PersistenceCleanupActorTest {
     private final AtomicReference<Source<Source<CleanupResult, NotUsed>, NotUsed>> sourceBox =
             new AtomicReference<>(Source.empty());
 
+    private final Map<String, String> persistedProgress = new ConcurrentHashMap<>();
+
     private MongoReadJournal mongoReadJournal;
     private Cleanup cleanup;
     private Credits credits;
@@ -190,6 +195,65 @@ public final class PersistenceCleanupActorTest {
         }};
     }
 
+    @Test
+    public void resumeFromPersistedProgress() {
+        new TestKit(actorSystem) {{
+            // GIVEN a previous instance persisted its progress
+            persistedProgress.put("0/1", "thing:persisted:pid");
+            final ActorRef underTest = childActorOf(testProps());
+            waitForResponse(this, underTest, retrieveHealthResponse("IN_QUIET_PERIOD", "thing:persisted:pid"),
+                    () -> {});
+            final var killSwitchPair = Source.<Source<CleanupResult, NotUsed>>never()
+                    .viaMat(KillSwitches.single(), Keep.right())
+                    .preMaterialize(actorSystem);
+            sourceBox.set(killSwitchPair.second());
+
+            // WHEN the quiet period expires
+            underTest.tell(FSM.StateTimeout$.MODULE$, ActorRef.noSender());
+
+            // THEN the stream resumes from the persisted progress
+            verify(cleanup, timeout(5000L)).getCleanupStream(eq("thing:persisted:pid"));
+            underTest.tell(RetrieveHealth.newInstance(), getRef());
+            expectMsg(retrieveHealthResponse("RUNNING", "thing:persisted:pid"));
+            killSwitchPair.first().shutdown();
+        }};
+    }
+
+    @Test
+    public void persistProgress() {
+        new TestKit(actorSystem) {{
+            final ActorRef underTest = childActorOf(testProps());
+            final var probeSource =
+                    TestSource.<Source<CleanupResult, NotUsed>>probe(actorSystem);
+            final var probeSourcePair = probeSource.preMaterialize(actorSystem);
+            final var probe = probeSourcePair.first();
+            sourceBox.set(probeSourcePair.second());
+            underTest.tell(FSM.StateTimeout$.MODULE$, ActorRef.noSender());
+            probe.expectRequest();
+
+            // WHEN the cleanup proceeds to the next PID
+            probe.sendNext(Source.single(new CleanupResult(
+                    CleanupResult.Type.SNAPSHOTS,
+                    new SnapshotRevision("thing:p:id1", 1234, true),
+                    DeleteResult.acknowledged(4)
+            )));
+            probe.sendNext(Source.single(new CleanupResult(
+                    CleanupResult.Type.EVENTS,
+                    new SnapshotRevision("thing:p:id2", 1234, true),
+                    DeleteResult.acknowledged(4)
+            )));
+
+            // THEN the completed PID is persisted
+            awaitAssert(() -> assertThat(persistedProgress).containsEntry("0/1", "thing:p:id1"));
+
+            // WHEN the stream completes
+            probe.sendComplete();
+
+            // THEN the progress is reset
+            awaitAssert(() -> assertThat(persistedProgress).containsEntry("0/1", ""));
+        }};
+    }
+
     @Test
     public void retrieveConfig() {
         new TestKit(actorSystem) {{
@@ -340,7 +404,23 @@ public final class PersistenceCleanupActorTest {
     private Props testProps() {
         return Props.create(PersistenceCleanupActor.class,
                 () -> new PersistenceCleanupActor(cleanup, credits, mongoReadJournal,
-                        () -> Pair.create(0, 1)));
+                        () -> Pair.create(0, 1), new InMemoryCleanupProgressStore()));
+    }
+
+    private final class InMemoryCleanupProgressStore implements CleanupProgressStore {
+
+        @Override
+        public CompletionStage<Done> save(final String responsibility, final String lastPid) {
+            persistedProgress.put(responsibility, lastPid);
+            return CompletableFuture.completedFuture(Done.getInstance());
+        }
+
+        @Override
+        public CompletionStage<Optional<String>> load(final String responsibility) {
+            return CompletableFuture.completedFuture(Optional.ofNullable(persistedProgress.get(responsibility))
+                    .filter(lastPid -> !lastPid.isEmpty()));
+        }
+
     }
 
     private static RetrieveHealthResponse retrieveHealthResponse(final String stateName, final String lastPid) {
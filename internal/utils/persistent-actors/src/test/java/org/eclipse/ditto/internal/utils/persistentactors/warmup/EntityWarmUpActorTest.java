@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.persistentactors.warmup;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import org.apache.pekko.Done;
+import org.apache.pekko.actor.ActorRef;
+import org.apache.pekko.actor.ActorSystem;
+import org.apache.pekko.cluster.sharding.ShardRegion;
+import org.apache.pekko.testkit.TestActor;
+import org.apache.pekko.testkit.javadsl.TestKit;
+import org.junit.After;
+import org.junit.Test;
+
+import com.typesafe.config.ConfigFactory;
+
+import scala.jdk.javaapi.CollectionConverters;
+
+/**
+ * Tests {@link EntityWarmUpActor}.
+ */
+public final class EntityWarmUpActorTest {
+
+    private final ActorSystem actorSystem = ActorSystem.create("test", ConfigFactory.load("test.conf"));
+    private final InMemoryHotEntitiesStore store = new InMemoryHotEntitiesStore();
+
+    @After
+    public void shutdown() {
+        TestKit.shutdownActorSystem(actorSystem);
+    }
+
+    @Test
+    public void warmUpRecordedEntitiesOfNewlyAllocatedShard() {
+        new TestKit(actorSystem) {{
+            store.save("1", List.of("thing:a", "shard-relay-1", "thing:b", "thing:c"));
+            final TestKit shardRegion = new TestKit(actorSystem);
+            actorSystem.actorOf(EntityWarmUpActor.props(warmUpConfig("100ms", "1h", 100), shardRegion.getRef(),
+                    store, "test"));
+
+            shardRegion.expectMsg(ShardRegion.getShardRegionStateInstance());
+            shardRegion.reply(regionState(Map.of("1", Set.of("thing:b"))));
+
+            shardRegion.expectMsg(new ShardRegion.StartEntity("thing:a"));
+            shardRegion.expectMsg(new ShardRegion.StartEntity("thing:c"));
+
+            // the shard is not warmed up again as long as it stays allocated
+            shardRegion.expectMsg(ShardRegion.getShardRegionStateInstance());
+            shardRegion.reply(regionState(Map.of("1", Set.of("thing:a", "thing:b", "thing:c"))));
+            shardRegion.expectMsg(ShardRegion.getShardRegionStateInstance());
+        }};
+    }
+
+    @Test
+    public void recordMostRecentlyActiveEntitiesOfLocalShards() {
+        new TestKit(actorSystem) {{
+            recordActivity("thing:y");
+            recordActivity("thing:x");
+            final TestKit shardRegion = shardRegionWithState(Map.of(
+                    "1", Set.of("thing:x", "thing:y", "thing:started-by-warm-up", "shard-relay-1"),
+                    "2", Set.of()));
+            actorSystem.actorOf(EntityWarmUpActor.props(warmUpConfig("100ms", "100ms", 100), shardRegion.getRef(),
+                    store, "test"));
+
+            awaitAssert(() -> assertThat(store.entityIdsPerShard)
+                    .isEqualTo(Map.of("1", List.of("thing:x", "thing:y"), "2", List.of())));
+        }};
+    }
+
+    @Test
+    public void replaceRecordOfShardWithoutActiveEntities() {
+        new TestKit(actorSystem) {{
+            store.save("1", List.of("thing:passivated"));
+            final TestKit shardRegion = shardRegionWithState(Map.of("1", Set.of()));
+            actorSystem.actorOf(EntityWarmUpActor.props(warmUpConfig("100ms", "100ms", 100), shardRegion.getRef(),
+                    store, "test"));
+
+            awaitAssert(() -> assertThat(store.entityIdsPerShard).isEqualTo(Map.of("1", List.of())));
+        }};
+    }
+
+    @Test
+    public void recordShardOnlyAfterItsWarmUpCompleted() {
+        new TestKit(actorSystem) {{
+            store.save("1", List.of("thing:a", "thing:b", "thing:c"));
+            recordActivity("thing:x");
+            final TestKit shardRegion = shardRegionWithState(Map.of("1", Set.of("thing:x")));
+            actorSystem.actorOf(EntityWarmUpActor.props(warmUpConfig("100ms", "100ms", 1), shardRegion.getRef(),
+                    store, "test"));
+
+            // warming up 3 entities with 1 entity per second takes longer than many record intervals
+            shardRegion.fishForMessage(Duration.ofSeconds(5L), "start of second warmed up entity",
+                    message -> new ShardRegion.StartEntity("thing:b").equals(message));
+            assertThat(store.entityIdsPerShard).isEqualTo(Map.of("1", List.of("thing:a", "thing:b", "thing:c")));
+
+            awaitAssert(Duration.ofSeconds(10L), () -> assertThat(store.entityIdsPerShard)
+                    .isEqualTo(Map.of("1", List.of("thing:x"))));
+        }};
+    }
+
+    private void recordActivity(final String entityId) {
+        EntityActivity.get(actorSystem).getRecorder("test", entityId).recordActivity();
+    }
+
+    private TestKit shardRegionWithState(final Map<String, Set<String>> entityIdsPerShard) {
+        final TestKit shardRegion = new TestKit(actorSystem);
+        shardRegion.setAutoPilot(new TestActor.AutoPilot() {
+            @Override
+            public TestActor.AutoPilot run(final ActorRef sender, final Object message) {
+                if (ShardRegion.getShardRegionStateInstance().equals(message)) {
+                    sender.tell(regionState(entityIdsPerShard), ActorRef.noSender());
+                }
+                return keepRunning();
+            }
+        });
+        return shardRegion;
+    }
+
+    private static WarmUpConfig warmUpConfig(final String pollInterval, final String recordInterval,
+            final int entitiesPerSecond) {
+
+        return WarmUpConfig.of(ConfigFactory.parseString("warm-up {\n" +
+                "  enabled = true\n" +
+                "  poll-interval = " + pollInterval + "\n" +
+                "  record-interval = " + recordInterval + "\n" +
+                "  entities-per-second = " + entitiesPerSecond + "\n" +
+                "}"));
+    }
+
+    private static ShardRegion.CurrentShardRegionState regionState(final Map<String, Set<String>> entityIdsPerShard) {
+        final Set<ShardRegion.ShardState> shardStates = entityIdsPerShard.entrySet()
+                .stream()
+                .map(entry -> new ShardRegion.ShardState(entry.getKey(),
+                        CollectionConverters.asScala(entry.getValue()).toSet()))
+                .collect(Collectors.toSet());
+        return new ShardRegion.CurrentShardRegionState(CollectionConverters.asScala(shardStates).toSet());
+    }
+
+    private static final class InMemoryHotEntitiesStore implements HotEntitiesStore {
+
+        private final Map<String, List<String>> entityIdsPerShard = new ConcurrentHashMap<>();
+
+        @Override
+        public CompletionStage<Done> save(final String shardId, final List<String> entityIds) {
+            entityIdsPerShard.put(shardId, entityIds);
+            return CompletableFuture.completedFuture(Done.done());
+        }
+
+        @Override
+        public CompletionStage<List<String>> load(final String shardId) {
+            return CompletableFuture.completedFuture(entityIdsPerShard.getOrDefault(shardId, List.of()));
+        }
+
+    }
+
+}
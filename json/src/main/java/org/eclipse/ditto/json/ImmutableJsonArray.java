@@ -277,6 +277,16 @@ final class ImmutableJsonArray extends AbstractJsonValue implements JsonArray {
         valueList.writeValue(serializationContext);
     }
 
+    /**
+     * Returns the string representation of this array if it was already created.
+     *
+     * @return the string representation or {@code null}.
+     */
+    @Nullable
+    String getCachedStringRepresentation() {
+        return valueList.jsonArrayStringRepresentation;
+    }
+
     @Override
     public long getUpperBoundForStringSize() {
         return valueList.upperBoundForStringSize();
@@ -589,6 +589,16 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
         fieldMap.writeValue(serializationContext);
     }
 
+    /**
+     * Returns the string representation of this object if it was already created.
+     *
+     * @return the string representation or {@code null}.
+     */
+    @Nullable
+    String getCachedStringRepresentation() {
+        return fieldMap.jsonObjectStringRepresentation;
+    }
+
     @Override
     public long getUpperBoundForStringSize() {
         return fieldMap.upperBoundForStringSize();
@@ -13,6 +13,7 @@
 package org.eclipse.ditto.json;
 
 import java.io.IOException;
+import java.io.OutputStream;
 
 import javax.annotation.Nullable;
 
@@ -289,6 +290,22 @@ public interface JsonValue {
      */
     void writeValue(SerializationContext serializationContext) throws IOException;
 
+    /**
+     * Writes the JSON string representation of this value UTF-8 encoded to the given output stream.
+     * The written bytes are the same as those of {@code toString()}, but they are written in chunks without building
+     * the string representation of this value or of its nested values in memory. This is preferable for large values
+     * which are only serialized once, e.g. as body of a response.
+     * The output stream is neither flushed nor closed.
+     *
+     * @param outputStream the output stream to write to.
+     * @throws IOException if writing to {@code outputStream} failed.
+     * @throws NullPointerException if {@code outputStream} is {@code null}.
+     * @since 3.8.0
+     */
+    default void writeJsonTo(final OutputStream outputStream) throws IOException {
+        Utf8JsonWriter.write(this, outputStream);
+    }
+
 
     /**
      * Returns an upper bound for the size (in chars), that the serialized version of this value might have.
@@ -0,0 +1,208 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Writes the JSON string representation of a {@link JsonValue} UTF-8 encoded to an {@link OutputStream} in chunks of
+ * a fixed size.
+ * The written bytes are the same as the UTF-8 encoded result of {@code toString()} of the value, i.e. strings are
+ * escaped with the help of {@link JsonCharEscaper} and unpaired surrogates are replaced by {@code ?}.
+ * Cached string representations of objects and arrays are written as they are, all other values are traversed
+ * without creating their string representation.
+ *
+ * @since 3.8.0
+ */
+@NotThreadSafe
+final class Utf8JsonWriter {
+
+    private static final int CHUNK_SIZE = 8192;
+
+    /**
+     * Space for the longest byte sequence written for a single char, i.e. an escape sequence like {@code \u001F}.
+     */
+    private static final int MAX_BYTES_PER_CHAR = 6;
+
+    private static final byte[][] ESCAPE_TABLE = createEscapeTable();
+    private static final byte[] NULL = "null".getBytes(StandardCharsets.US_ASCII);
+
+    private final OutputStream outputStream;
+    private final byte[] chunk;
+    private int position;
+
+    private Utf8JsonWriter(final OutputStream outputStream) {
+        this.outputStream = outputStream;
+        chunk = new byte[CHUNK_SIZE];
+        position = 0;
+    }
+
+    /**
+     * Writes the JSON string representation of the given value to the given output stream.
+     *
+     * @param jsonValue the value to write.
+     * @param outputStream the output stream to write to. It is neither flushed nor closed.
+     * @throws IOException if writing to {@code outputStream} failed.
+     * @throws NullPointerException if any argument is {@code null}.
+     */
+    static void write(final JsonValue jsonValue, final OutputStream outputStream) throws IOException {
+        requireNonNull(jsonValue, "The JSON value to be written must not be null!");
+        requireNonNull(outputStream, "The output stream to write to must not be null!");
+        final Utf8JsonWriter writer = new Utf8JsonWriter(outputStream);
+        writer.writeValue(jsonValue);
+        writer.writeChunk();
+    }
+
+    private static byte[][] createEscapeTable() {
+        final JsonCharEscaper jsonCharEscaper = JsonCharEscaper.getInstance();
+        final byte[][] result = new byte[0x80][];
+        for (int i = 0; i < result.length; i++) {
+            @Nullable final String replacement = jsonCharEscaper.apply(i);
+            result[i] = null != replacement ? replacement.getBytes(StandardCharsets.US_ASCII) : null;
+        }
+        return result;
+    }
+
+    private void writeValue(final JsonValue jsonValue) throws IOException {
+        if (jsonValue.isNull()) {
+            writeBytes(NULL);
+        } else if (jsonValue.isObject()) {
+            writeObject(jsonValue.asObject());
+        } else if (jsonValue.isArray()) {
+            writeArray(jsonValue.asArray());
+        } else if (jsonValue.isString()) {
+            writeEscapedString(jsonValue.asString());
+        } else {
+            // numbers and booleans have short string representations
+            writeUnescapedString(jsonValue.toString());
+        }
+    }
+
+    private void writeObject(final JsonObject jsonObject) throws IOException {
+        @Nullable final String cachedStringRepresentation = jsonObject instanceof ImmutableJsonObject
+                ? ((ImmutableJsonObject) jsonObject).getCachedStringRepresentation()
+                : null;
+        if (null != cachedStringRepresentation) {
+            writeUnescapedString(cachedStringRepresentation);
+        } else {
+            writeByte('{');
+            boolean first = true;
+            for (final JsonField jsonField : jsonObject) {
+                if (!first) {
+                    writeByte(',');
+                }
+                writeEscapedString(jsonField.getKeyName());
+                writeByte(':');
+                writeValue(jsonField.getValue());
+                first = false;
+            }
+            writeByte('}');
+        }
+    }
+
+    private void writeArray(final JsonArray jsonArray) throws IOException {
+        @Nullable final String cachedStringRepresentation = jsonArray instanceof ImmutableJsonArray
+                ? ((ImmutableJsonArray) jsonArray).getCachedStringRepresentation()
+                : null;
+        if (null != cachedStringRepresentation) {
+            writeUnescapedString(cachedStringRepresentation);
+        } else {
+            writeByte('[');
+            boolean first = true;
+            for (final JsonValue jsonValue : jsonArray) {
+                if (!first) {
+                    writeByte(',');
+                }
+                writeValue(jsonValue);
+                first = false;
+            }
+            writeByte(']');
+        }
+    }
+
+    private void writeEscapedString(final String string) throws IOException {
+        writeByte('"');
+        writeChars(string, true);
+        writeByte('"');
+    }
+
+    private void writeUnescapedString(final String string) throws IOException {
+        writeChars(string, false);
+    }
+
+    private void writeChars(final String string, final boolean escape) throws IOException {
+        final int length = string.length();
+        for (int i = 0; i < length; i++) {
+            if (position > CHUNK_SIZE - MAX_BYTES_PER_CHAR) {
+                writeChunk();
+            }
+            final char c = string.charAt(i);
+            if (c < 0x80) {
+                @Nullable final byte[] replacement = escape ? ESCAPE_TABLE[c] : null;
+                if (null != replacement) {
+                    System.arraycopy(replacement, 0, chunk, position, replacement.length);
+                    position += replacement.length;
+                } else {
+                    chunk[position++] = (byte) c;
+                }
+            } else if (c < 0x800) {
+                chunk[position++] = (byte) (0xC0 | (c >> 6));
+                chunk[position++] = (byte) (0x80 | (c & 0x3F));
+            } else if (Character.isHighSurrogate(c) && i + 1 < length &&
+                    Character.isLowSurrogate(string.charAt(i + 1))) {
+                final int codePoint = Character.toCodePoint(c, string.charAt(++i));
+                chunk[position++] = (byte) (0xF0 | (codePoint >> 18));
+                chunk[position++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                chunk[position++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                chunk[position++] = (byte) (0x80 | (codePoint & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                // same replacement as String.getBytes for unpaired surrogates
+                chunk[position++] = (byte) '?';
+            } else {
+                chunk[position++] = (byte) (0xE0 | (c >> 12));
+                chunk[position++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                chunk[position++] = (byte) (0x80 | (c & 0x3F));
+            }
+        }
+    }
+
+    private void writeByte(final char c) throws IOException {
+        if (position == CHUNK_SIZE) {
+            writeChunk();
+        }
+        chunk[position++] = (byte) c;
+    }
+
+    private void writeBytes(final byte[] bytes) throws IOException {
+        if (position > CHUNK_SIZE - bytes.length) {
+            writeChunk();
+        }
+        System.arraycopy(bytes, 0, chunk, position, bytes.length);
+        position += bytes.length;
+    }
+
+    private void writeChunk() throws IOException {
+        if (0 < position) {
+            outputStream.write(chunk, 0, position);
+            position = 0;
+        }
+    }
+
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link Utf8JsonWriter}.
+ */
+public final class Utf8JsonWriterTest {
+
+    @Test
+    public void writeNullValue() throws IOException {
+        final OutputStream outputStream = new ByteArrayOutputStream();
+
+        assertThatNullPointerException().isThrownBy(() -> Utf8JsonWriter.write(null, outputStream));
+    }
+
+    @Test
+    public void writeToNullOutputStream() {
+        assertThatNullPointerException().isThrownBy(() -> Utf8JsonWriter.write(JsonValue.of(1), null));
+    }
+
+    @Test
+    public void writeScalarValues() throws IOException {
+        assertWrittenBytesEqualStringRepresentation(JsonValue.nullLiteral());
+        assertWrittenBytesEqualStringRepresentation(JsonFactory.nullObject());
+        assertWrittenBytesEqualStringRepresentation(JsonFactory.nullArray());
+        assertWrittenBytesEqualStringRepresentation(JsonValue.of(true));
+        assertWrittenBytesEqualStringRepresentation(JsonValue.of(42));
+        assertWrittenBytesEqualStringRepresentation(JsonValue.of(Long.MIN_VALUE));
+        assertWrittenBytesEqualStringRepresentation(JsonValue.of(23.0));
+        assertWrittenBytesEqualStringRepresentation(JsonValue.of(-1.5e-300));
+    }
+
+    @Test
+    public void writeStringsWithCharsToEscapeAndMultiByteChars() throws IOException {
+        assertWrittenBytesEqualStringRepresentation(JsonValue.of("Auf der Wiese\n blüht ein kleines \"Blümelein\"."));
+        assertWrittenBytesEqualStringRepresentation(JsonValue.of("\u0000\u001f\\/\b\f\r\t\u007f"));
+        assertWrittenBytesEqualStringRepresentation(JsonValue.of("\u00e9\u20ac\u2028\ud83d\ude00"));
+        assertWrittenBytesEqualStringRepresentation(JsonValue.of("unpaired \ud83d and \ude00 surrogates\ud83d"));
+    }
+
+    @Test
+    public void writeNestedObjectsAndArrays() throws IOException {
+        final JsonObject jsonObject = JsonObject.newBuilder()
+                .set("thingId", "org.eclipse.ditto:thing")
+                .set("attri\"butes", JsonObject.newBuilder()
+                        .set("empty", JsonObject.empty())
+                        .set("nothing", JsonFactory.nullObject())
+                        .set("list", JsonArray.of(1, "two", 3.0, JsonArray.empty(), JsonObject.empty()))
+                        .build())
+                .set("ünicode", "\u2603")
+                .build();
+
+        assertWrittenBytesEqualStringRepresentation(jsonObject);
+    }
+
+    @Test
+    public void writeValuesWithCachedStringRepresentation() throws IOException {
+        final JsonObject jsonObject = JsonObject.of("{\"a\":[1,\"\\u00e9\u00e9\"],\"b\":{\"c\":null}}");
+        final JsonArray jsonArray = JsonArray.of("[{\"a\":\"\\n\"},2]");
+
+        assertWrittenBytesEqualStringRepresentation(jsonObject);
+        assertWrittenBytesEqualStringRepresentation(jsonArray);
+        assertWrittenBytesEqualStringRepresentation(JsonObject.newBuilder()
+                .set("object", jsonObject)
+                .set("array", jsonArray)
+                .build());
+    }
+
+    @Test
+    public void writeValueLargerThanOneChunk() throws IOException {
+        final StringBuilder longString = new StringBuilder();
+        for (int i = 0; i < 5000; i++) {
+            longString.append("\u00e4\"\ud83d\ude00x");
+        }
+        final JsonObjectBuilder jsonObjectBuilder = JsonObject.newBuilder();
+        for (int i = 0; i < 1000; i++) {
+            jsonObjectBuilder.set("key-" + i, "value of key " + i);
+        }
+        jsonObjectBuilder.set("long", longString.toString());
+
+        assertWrittenBytesEqualStringRepresentation(jsonObjectBuilder.build());
+    }
+
+    @Test
+    public void writeJsonToUsesWriter() throws IOException {
+        final JsonObject jsonObject = JsonObject.newBuilder().set("foo", "bär").build();
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        jsonObject.writeJsonTo(outputStream);
+
+        assertThat(outputStream.toByteArray()).isEqualTo("{\"foo\":\"bär\"}".getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void assertWrittenBytesEqualStringRepresentation(final JsonValue jsonValue) throws IOException {
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        Utf8JsonWriter.write(jsonValue, outputStream);
+
+        assertThat(outputStream.toByteArray()).isEqualTo(jsonValue.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+}
@@ -15,14 +15,17 @@ package org.eclipse.ditto.policies.model.enforcers.trie;
 import static org.eclipse.ditto.base.model.common.ConditionChecker.checkNotNull;
 
 import java.util.Collection;
-import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
 
 import javax.annotation.Nullable;
 import javax.annotation.concurrent.NotThreadSafe;
@@ -55,6 +58,16 @@ import org.eclipse.ditto.policies.model.Subjects;
 @NotThreadSafe
 final class PolicyTrie {
 
+    /**
+     * Minimum number of fields of a JSON object for building its view in parallel.
+     */
+    static final int PARALLEL_THRESHOLD = 256;
+
+    /**
+     * Number of fields whose views are built sequentially by one parallel task.
+     */
+    private static final int PARALLEL_BATCH_SIZE = 64;
+
     private final GrantRevokeIndex grantRevokeIndex;
     private final Map<JsonKey, PolicyTrie> children;
 
@@ -228,81 +241,256 @@ final class PolicyTrie {
         return children.containsKey(childKey);
     }
 
+    /**
+     * Builds the view of the given JSON fields which contains only the values on which the subjects have the given
+     * permissions.
+     * <p>
+     * The decisions are first summarized for the subtree of this trie node: JSON subtrees whose trie nodes decide
+     * uniformly are copied or dropped as a whole instead of checking each of their values. Objects with at least
+     * {@value #PARALLEL_THRESHOLD} fields, e.g. the features of large things, are processed in parallel in the common
+     * {@link ForkJoinPool}.
+     * </p>
+     *
+     * @param jsonFields the JSON fields to build the view of.
+     * @param subjectIds the IDs of the subjects.
+     * @param permissions the permissions the subjects need to have for a value to be part of the view.
+     * @return the view.
+     */
     JsonObject buildJsonView(final Iterable<JsonField> jsonFields, final Collection<String> subjectIds,
             final Permissions permissions) {
 
-        final PolicyTrie defaultPolicyTrie = new PolicyTrie(grantRevokeIndex, Collections.emptyMap());
-
         if (jsonFields instanceof JsonObject && ((JsonObject) jsonFields).isNull()) {
             return (JsonObject) jsonFields;
         }
 
-        final JsonObjectBuilder outputObjectBuilder = JsonFactory.newObjectBuilder();
-        for (final JsonField field : jsonFields) {
-            final JsonValue jsonView = getViewForJsonFieldOrNull(field, defaultPolicyTrie, subjectIds, permissions);
-            if (null != jsonView) {
-                outputObjectBuilder.set(field.getKey(), jsonView);
+        final JsonView jsonView = new JsonView(this, subjectIds, permissions);
+        final Summary summary = jsonView.getSummary(this);
+        if (!summary.isUniform()) {
+            return jsonView.buildObject(this, jsonFields);
+        } else if (summary.isGranted()) {
+            return jsonFields instanceof JsonObject ? (JsonObject) jsonFields : JsonFactory.newObject(jsonFields);
+        } else {
+            return JsonFactory.newObject();
+        }
+    }
+
+    /**
+     * Summary of the decisions of a trie node and its subtree for one combination of subjects and permissions.
+     */
+    private enum Summary {
+
+        /**
+         * The permissions are granted at the trie node and all its descendants.
+         */
+        ALL_GRANTED(true, true),
+
+        /**
+         * The permissions are not granted at the trie node and all its descendants.
+         */
+        ALL_REVOKED(false, true),
+
+        /**
+         * The permissions are granted at the trie node but not at some of its descendants.
+         */
+        GRANTED(true, false),
+
+        /**
+         * The permissions are not granted at the trie node but at some of its descendants.
+         */
+        REVOKED(false, false);
+
+        private final boolean granted;
+        private final boolean uniform;
+
+        Summary(final boolean granted, final boolean uniform) {
+            this.granted = granted;
+            this.uniform = uniform;
+        }
+
+        private boolean isGranted() {
+            return granted;
+        }
+
+        private boolean isUniform() {
+            return uniform;
+        }
+
+        private static Summary of(final boolean granted, final boolean uniform) {
+            if (granted) {
+                return uniform ? ALL_GRANTED : GRANTED;
             }
+            return uniform ? ALL_REVOKED : REVOKED;
         }
 
-        return outputObjectBuilder.build();
     }
 
-    @Nullable
-    private JsonValue getViewForJsonFieldOrNull(final JsonField jsonField,
-            final PolicyTrie defaultPolicyTrie,
-            final Collection<String> subjectIds,
-            final Permissions permissions) {
+    /**
+     * Builds the view of JSON values for one combination of subjects and permissions.
+     * After construction it is only read and thus may be used by multiple threads.
+     */
+    private static final class JsonView {
 
-        final PolicyTrie relevantTrie = children.getOrDefault(jsonField.getKey(), defaultPolicyTrie);
-        return relevantTrie.getViewForJsonValueOrNull(jsonField.getValue(), subjectIds, permissions);
-    }
+        private final Collection<String> subjectIds;
+        private final Permissions permissions;
 
-    @Nullable
-    private JsonValue getViewForJsonValueOrNull(final JsonValue jsonValue, final Collection<String> subjectIds,
-            final Permissions permissions) {
+        /**
+         * The summary of each trie node below the root of the view, computed once as the trie is much smaller than
+         * the JSON values whose view is built.
+         */
+        private final Map<PolicyTrie, Summary> summaries;
 
-        final JsonValue result;
-        if (jsonValue.isObject()) {
-            result = getViewForJsonObjectOrNull(jsonValue.asObject(), subjectIds, permissions);
-        } else if (jsonValue.isArray()) {
-            result = getViewForJsonArrayOrNull(jsonValue.asArray(), subjectIds, permissions);
-        } else if (grantRevokeIndex.hasPermissions(subjectIds, permissions)) {
-            result = jsonValue;
-        } else {
-            result = null;
+        private JsonView(final PolicyTrie root, final Collection<String> subjectIds,
+                final Permissions permissions) {
+
+            this.subjectIds = subjectIds;
+            this.permissions = permissions;
+            summaries = new IdentityHashMap<>();
+            summarize(root);
         }
 
-        return result;
-    }
+        private Summary summarize(final PolicyTrie trie) {
+            final boolean granted = trie.grantRevokeIndex.hasPermissions(subjectIds, permissions);
+            boolean uniform = true;
+            for (final PolicyTrie child : trie.children.values()) {
+                final Summary childSummary = summarize(child);
+                uniform &= childSummary.isUniform() && childSummary.isGranted() == granted;
+            }
+            final Summary summary = Summary.of(granted, uniform);
+            summaries.put(trie, summary);
+            return summary;
+        }
 
-    @Nullable
-    private JsonValue getViewForJsonObjectOrNull(final Iterable<JsonField> jsonObject,
-            final Collection<String> subjectIds, final Permissions permissions) {
+        private Summary getSummary(final PolicyTrie trie) {
+            return summaries.get(trie);
+        }
 
-        return filterCandidate(buildJsonView(jsonObject, subjectIds, permissions), subjectIds, permissions);
-    }
+        private boolean hasPermissions(final PolicyTrie trie) {
+            return getSummary(trie).isGranted();
+        }
 
-    @Nullable
-    private <T extends JsonValue & JsonValueContainer> T filterCandidate(final T candidate,
-            final Collection<String> subjectIds, final Collection<String> permissions) {
+        private JsonObject buildObject(final PolicyTrie trie, final Iterable<JsonField> jsonFields) {
+            if (jsonFields instanceof JsonObject && ((JsonObject) jsonFields).isNull()) {
+                return (JsonObject) jsonFields;
+            }
 
-        if (!candidate.isEmpty() || grantRevokeIndex.hasPermissions(subjectIds, permissions)) {
-            return candidate;
+            // values without trie node of their own inherit the decision of this trie node
+            final boolean decision = hasPermissions(trie);
+            final JsonObjectBuilder outputObjectBuilder = JsonFactory.newObjectBuilder();
+            if (jsonFields instanceof JsonObject && ((JsonObject) jsonFields).getSize() >= PARALLEL_THRESHOLD &&
+                    ForkJoinPool.getCommonPoolParallelism() > 1) {
+
+                final JsonField[] fields = StreamSupport.stream(jsonFields.spliterator(), false)
+                        .toArray(JsonField[]::new);
+                final JsonValue[] views = new JsonValue[fields.length];
+                ForkJoinPool.commonPool().invoke(new ViewTask(trie, decision, fields, views, 0, fields.length));
+                for (int i = 0; i < fields.length; i++) {
+                    if (null != views[i]) {
+                        outputObjectBuilder.set(fields[i].getKey(), views[i]);
+                    }
+                }
+            } else {
+                for (final JsonField field : jsonFields) {
+                    final JsonValue view = getViewForJsonFieldOrNull(trie, decision, field);
+                    if (null != view) {
+                        outputObjectBuilder.set(field.getKey(), view);
+                    }
+                }
+            }
+            return outputObjectBuilder.build();
         }
-        return null;
-    }
 
-    @Nullable
-    private JsonValue getViewForJsonArrayOrNull(final JsonValueContainer<JsonValue> jsonArray,
-            final Collection<String> subjectIds, final Permissions permissions) {
+        @Nullable
+        private JsonValue getViewForJsonFieldOrNull(final PolicyTrie trie, final boolean decision,
+                final JsonField jsonField) {
+
+            @Nullable final PolicyTrie child = trie.children.get(jsonField.getKey());
+            if (null == child) {
+                return decision ? jsonField.getValue() : null;
+            }
+            return getViewForJsonValueOrNull(child, jsonField.getValue());
+        }
+
+        @Nullable
+        private JsonValue getViewForJsonValueOrNull(final PolicyTrie trie, final JsonValue jsonValue) {
+            final Summary summary = getSummary(trie);
+            final JsonValue result;
+            if (summary.isUniform()) {
+                result = summary.isGranted() ? jsonValue : null;
+            } else if (jsonValue.isObject()) {
+                result = filterCandidate(trie, buildObject(trie, jsonValue.asObject()));
+            } else if (jsonValue.isArray()) {
+                result = getViewForJsonArrayOrNull(trie, jsonValue.asArray());
+            } else if (summary.isGranted()) {
+                result = jsonValue;
+            } else {
+                result = null;
+            }
+
+            return result;
+        }
+
+        @Nullable
+        private <T extends JsonValue & JsonValueContainer> T filterCandidate(final PolicyTrie trie,
+                final T candidate) {
+
+            if (!candidate.isEmpty() || hasPermissions(trie)) {
+                return candidate;
+            }
+            return null;
+        }
+
+        @Nullable
+        private JsonValue getViewForJsonArrayOrNull(final PolicyTrie trie,
+                final JsonValueContainer<JsonValue> jsonArray) {
+
+            final JsonArray candidate = jsonArray.stream()
+                    .map(value -> getViewForJsonValueOrNull(trie, value))
+                    .filter(Objects::nonNull)
+                    .collect(JsonCollectors.valuesToArray());
 
-        final JsonArray candidate = jsonArray.stream()
-                .map(value -> getViewForJsonValueOrNull(value, subjectIds, permissions))
-                .filter(Objects::nonNull)
-                .collect(JsonCollectors.valuesToArray());
+            return filterCandidate(trie, candidate);
+        }
+
+        /**
+         * Computes the views of a range of fields of an object, splitting the range until it is small enough.
+         */
+        private final class ViewTask extends RecursiveAction {
+
+            private static final long serialVersionUID = 1L;
+
+            private final PolicyTrie trie;
+            private final boolean decision;
+            private final JsonField[] fields;
+            private final JsonValue[] views;
+            private final int from;
+            private final int to;
+
+            private ViewTask(final PolicyTrie trie, final boolean decision, final JsonField[] fields,
+                    final JsonValue[] views, final int from, final int to) {
+
+                this.trie = trie;
+                this.decision = decision;
+                this.fields = fields;
+                this.views = views;
+                this.from = from;
+                this.to = to;
+            }
+
+            @Override
+            protected void compute() {
+                if (to - from <= PARALLEL_BATCH_SIZE) {
+                    for (int i = from; i < to; i++) {
+                        views[i] = getViewForJsonFieldOrNull(trie, decision, fields[i]);
+                    }
+                } else {
+                    final int middle = (from + to) >>> 1;
+                    invokeAll(new ViewTask(trie, decision, fields, views, from, middle),
+                            new ViewTask(trie, decision, fields, views, middle, to));
+                }
+            }
+
+        }
 
-        return filterCandidate(candidate, subjectIds, permissions);
     }
 
     /**
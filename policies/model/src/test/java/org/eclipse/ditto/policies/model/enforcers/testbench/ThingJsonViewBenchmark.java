@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.policies.model.enforcers.testbench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ditto.base.model.auth.AuthorizationContext;
+import org.eclipse.ditto.base.model.auth.AuthorizationSubject;
+import org.eclipse.ditto.base.model.auth.DittoAuthorizationContextType;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.policies.model.Permissions;
+import org.eclipse.ditto.policies.model.PoliciesResourceType;
+import org.eclipse.ditto.policies.model.Policy;
+import org.eclipse.ditto.policies.model.PolicyBuilder;
+import org.eclipse.ditto.policies.model.PolicyId;
+import org.eclipse.ditto.policies.model.ResourceKey;
+import org.eclipse.ditto.policies.model.SubjectType;
+import org.eclipse.ditto.policies.model.enforcers.Enforcer;
+import org.eclipse.ditto.policies.model.enforcers.trie.TrieBasedPolicyEnforcer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures building the JSON view of a thing with 1,000 features, as done when filtering the response of a
+ * {@code RetrieveThing} command, under a policy which revokes single properties of some of the features.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ThingJsonViewBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 5;
+    private static final int MEASUREMENT_ITERATIONS = 10;
+    private static final int WARMUP_TIME = 1000;
+    private static final int MEASUREMENT_TIME = 1000;
+    private static final int FEATURES = 1000;
+    private static final int PROPERTIES_PER_FEATURE = 20;
+    private static final ResourceKey THING_ROOT = ResourceKey.newInstance("thing", "/");
+    private static final Permissions READ = Permissions.newInstance("READ");
+
+    /**
+     * Every how many features a property is revoked, {@code 0} for not revoking any property.
+     */
+    @Param({"0", "10", "1"})
+    public int revokeEveryNthFeature;
+
+    private Enforcer enforcer;
+    private AuthorizationContext authorizationContext;
+    private JsonObject thing;
+
+    @Setup
+    public void setUp() {
+        final AuthorizationSubject subject = AuthorizationSubject.newInstance("benchmark:reader");
+        authorizationContext = AuthorizationContext.newInstance(DittoAuthorizationContextType.UNSPECIFIED, subject);
+
+        final PolicyBuilder.LabelScoped policyBuilder = Policy.newBuilder(PolicyId.of("org.eclipse.ditto", "policy"))
+                .forLabel("reader")
+                .setSubject(subject.getId(), SubjectType.GENERATED)
+                .setGrantedPermissions(PoliciesResourceType.thingResource("/"), READ)
+                .forLabel("restricted")
+                .setSubject(subject.getId(), SubjectType.GENERATED);
+        final JsonObjectBuilder featuresBuilder = JsonObject.newBuilder();
+        for (int i = 0; i < FEATURES; i++) {
+            final JsonObjectBuilder propertiesBuilder = JsonObject.newBuilder();
+            for (int j = 0; j < PROPERTIES_PER_FEATURE; j++) {
+                propertiesBuilder.set("property-" + j, "value of property " + j + " of feature " + i);
+            }
+            featuresBuilder.set("feature-" + i, JsonObject.newBuilder()
+                    .set("properties", propertiesBuilder.build())
+                    .build());
+            if (revokeEveryNthFeature > 0 && i % revokeEveryNthFeature == 0) {
+                policyBuilder.setRevokedPermissions(
+                        PoliciesResourceType.thingResource("/features/feature-" + i + "/properties/property-0"),
+                        READ);
+            }
+        }
+        enforcer = TrieBasedPolicyEnforcer.newInstance(policyBuilder.build());
+        thing = JsonObject.newBuilder()
+                .set("thingId", "org.eclipse.ditto:thing")
+                .set("policyId", "org.eclipse.ditto:policy")
+                .set("features", featuresBuilder.build())
+                .build();
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public JsonObject buildJsonView() {
+        return enforcer.buildJsonView(THING_ROOT, thing, authorizationContext, READ);
+    }
+
+}
@@ -18,7 +18,9 @@ import java.util.Set;
 
 import org.eclipse.ditto.json.JsonFactory;
 import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
 import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
 import org.eclipse.ditto.base.model.auth.AuthorizationContext;
 import org.eclipse.ditto.base.model.auth.AuthorizationSubject;
 import org.eclipse.ditto.base.model.auth.DittoAuthorizationContextType;
@@ -26,6 +28,7 @@ import org.eclipse.ditto.policies.model.Permissions;
 import org.eclipse.ditto.policies.model.PoliciesModelFactory;
 import org.eclipse.ditto.policies.model.PoliciesResourceType;
 import org.eclipse.ditto.policies.model.Policy;
+import org.eclipse.ditto.policies.model.PolicyBuilder;
 import org.eclipse.ditto.policies.model.PolicyId;
 import org.eclipse.ditto.policies.model.ResourceKey;
 import org.eclipse.ditto.policies.model.SubjectType;
@@ -81,6 +84,79 @@ public class TrieBasedPolicyEnforcerTest {
                 .doesNotContain(someRevokedSubject);
     }
 
+    @Test
+    public void buildJsonViewOfLargeThingWithRevokedProperties() {
+        final int featureCount = PolicyTrie.PARALLEL_THRESHOLD + 44;
+        final AuthorizationSubject subject = AuthorizationSubject.newInstance("dummy:reader");
+        final PolicyBuilder.LabelScoped policyBuilder = Policy.newBuilder(PolicyId.of("namespace", "id"))
+                .forLabel("grant")
+                .setSubject(subject.getId(), SubjectType.GENERATED)
+                .setGrantedPermissions(PoliciesResourceType.thingResource("/"), "READ")
+                .forLabel("revoke")
+                .setSubject(subject.getId(), SubjectType.GENERATED)
+                .setRevokedPermissions(PoliciesResourceType.thingResource("/attributes"), "READ");
+        final JsonObjectBuilder features = JsonObject.newBuilder();
+        final JsonObjectBuilder expectedFeatures = JsonObject.newBuilder();
+        for (int i = 0; i < featureCount; i++) {
+            final JsonObject properties = JsonObject.newBuilder()
+                    .set("public", i)
+                    .set("secret", JsonObject.newBuilder().set("nested", i).build())
+                    .build();
+            features.set("feature-" + i, JsonObject.newBuilder().set("properties", properties).build());
+            if (i % 2 == 0) {
+                policyBuilder.setRevokedPermissions(
+                        PoliciesResourceType.thingResource("/features/feature-" + i + "/properties/secret"), "READ");
+                expectedFeatures.set("feature-" + i, JsonObject.newBuilder()
+                        .set("properties", JsonObject.newBuilder().set("public", i).build())
+                        .build());
+            } else {
+                expectedFeatures.set("feature-" + i, JsonObject.newBuilder().set("properties", properties).build());
+            }
+        }
+        final JsonObject thing = JsonObject.newBuilder()
+                .set("thingId", "namespace:id")
+                .set("attributes", JsonObject.newBuilder().set("location", "kitchen").build())
+                .set("features", features.build())
+                .build();
+        final TrieBasedPolicyEnforcer underTest = TrieBasedPolicyEnforcer.newInstance(policyBuilder.build());
+
+        final JsonObject jsonView = underTest.buildJsonView(ResourceKey.newInstance("thing", "/"), thing,
+                AuthorizationContext.newInstance(DittoAuthorizationContextType.UNSPECIFIED, subject),
+                Permissions.newInstance("READ"));
+
+        assertThat(jsonView).isEqualTo(JsonObject.newBuilder()
+                .set("thingId", "namespace:id")
+                .set("features", expectedFeatures.build())
+                .build());
+        assertThat(jsonView.getValue("features").map(JsonValue::asObject).map(JsonObject::getKeys))
+                .contains(thing.getValue("features").map(JsonValue::asObject).map(JsonObject::getKeys).get());
+    }
+
+    @Test
+    public void buildJsonViewOfFullyGrantedAndFullyRevokedThing() {
+        final AuthorizationSubject reader = AuthorizationSubject.newInstance("dummy:reader");
+        final AuthorizationSubject stranger = AuthorizationSubject.newInstance("dummy:stranger");
+        final Policy policy = Policy.newBuilder(PolicyId.of("namespace", "id"))
+                .forLabel("grant")
+                .setSubject(reader.getId(), SubjectType.GENERATED)
+                .setGrantedPermissions(PoliciesResourceType.thingResource("/"), "READ")
+                .build();
+        final JsonObject thing = JsonObject.newBuilder()
+                .set("thingId", "namespace:id")
+                .set("attributes", JsonObject.newBuilder().set("empty", JsonObject.empty()).build())
+                .build();
+        final TrieBasedPolicyEnforcer underTest = TrieBasedPolicyEnforcer.newInstance(policy);
+
+        assertThat(underTest.buildJsonView(ResourceKey.newInstance("thing", "/"), thing,
+                AuthorizationContext.newInstance(DittoAuthorizationContextType.UNSPECIFIED, reader),
+                Permissions.newInstance("READ")))
+                .isEqualTo(thing);
+        assertThat(underTest.buildJsonView(ResourceKey.newInstance("thing", "/"), thing,
+                AuthorizationContext.newInstance(DittoAuthorizationContextType.UNSPECIFIED, stranger),
+                Permissions.newInstance("READ")))
+                .isEqualTo(JsonObject.empty());
+    }
+
     private static Policy defaultPolicy(final PolicyId policyId) {
         final Permissions permissions = Permissions.newInstance("READ", "WRITE");
         return PoliciesModelFactory.newPolicyBuilder(policyId)
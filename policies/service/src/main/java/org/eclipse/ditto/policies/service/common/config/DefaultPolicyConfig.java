@@ -47,6 +47,7 @@ public final class DefaultPolicyConfig implements PolicyConfig {
     private final Duration policySubjectDeletionAnnouncementGranularity;
     private final String subjectIdResolver;
     private final PolicyAnnouncementConfig policyAnnouncementConfig;
+    private final SubjectExpiryWakeUpConfig subjectExpiryWakeUpConfig;
     private final CleanupConfig cleanupConfig;
 
     private DefaultPolicyConfig(final ScopedConfig scopedConfig) {
@@ -61,6 +62,7 @@ public final class DefaultPolicyConfig implements PolicyConfig {
                         PolicyConfigValue.SUBJECT_DELETION_ANNOUNCEMENT_GRANULARITY);
         subjectIdResolver = scopedConfig.getString(PolicyConfigValue.SUBJECT_ID_RESOLVER.getConfigPath());
         policyAnnouncementConfig = PolicyAnnouncementConfig.of(scopedConfig);
+        subjectExpiryWakeUpConfig = SubjectExpiryWakeUpConfig.of(scopedConfig);
         cleanupConfig = CleanupConfig.of(scopedConfig);
     }
 
@@ -118,6 +120,11 @@ public final class DefaultPolicyConfig implements PolicyConfig {
         return policyAnnouncementConfig;
     }
 
+    @Override
+    public SubjectExpiryWakeUpConfig getSubjectExpiryWakeUpConfig() {
+        return subjectExpiryWakeUpConfig;
+    }
+
     @Override
     public CleanupConfig getCleanupConfig() {
         return cleanupConfig;
@@ -141,6 +148,7 @@ public final class DefaultPolicyConfig implements PolicyConfig {
                         that.policySubjectDeletionAnnouncementGranularity) &&
                 Objects.equals(subjectIdResolver, that.subjectIdResolver) &&
                 Objects.equals(policyAnnouncementConfig, that.policyAnnouncementConfig) &&
+                Objects.equals(subjectExpiryWakeUpConfig, that.subjectExpiryWakeUpConfig) &&
                 Objects.equals(cleanupConfig, that.cleanupConfig);
     }
 
@@ -148,7 +156,7 @@ public final class DefaultPolicyConfig implements PolicyConfig {
     public int hashCode() {
         return Objects.hash(supervisorConfig, activityCheckConfig, snapshotConfig, eventConfig,
                 policySubjectExpiryGranularity, policySubjectDeletionAnnouncementGranularity, subjectIdResolver,
-                policyAnnouncementConfig, cleanupConfig);
+                policyAnnouncementConfig, subjectExpiryWakeUpConfig, cleanupConfig);
     }
 
     @Override
@@ -162,6 +170,7 @@ public final class DefaultPolicyConfig implements PolicyConfig {
                 ", policySubjectDeletionAnnouncementGranularity=" + policySubjectDeletionAnnouncementGranularity +
                 ", subjectIdResolver=" + subjectIdResolver +
                 ", policyAnnouncementConfig=" + policyAnnouncementConfig +
+                ", subjectExpiryWakeUpConfig=" + subjectExpiryWakeUpConfig +
                 ", cleanUpConfig=" + cleanupConfig +
                 "]";
     }
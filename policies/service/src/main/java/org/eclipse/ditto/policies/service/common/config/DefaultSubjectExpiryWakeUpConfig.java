@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.policies.service.common.config;
+
+import java.time.Duration;
+import java.util.Objects;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.internal.utils.config.ConfigWithFallback;
+import org.eclipse.ditto.internal.utils.config.ScopedConfig;
+import org.eclipse.ditto.internal.utils.persistentactors.config.DefaultRateConfig;
+import org.eclipse.ditto.internal.utils.persistentactors.config.RateConfig;
+
+import com.typesafe.config.Config;
+
+/**
+ * This class is the default implementation of the subject expiry wake-up config.
+ */
+@Immutable
+final class DefaultSubjectExpiryWakeUpConfig implements SubjectExpiryWakeUpConfig {
+
+    static final String CONFIG_PATH = "subject-expiry-wake-up";
+
+    private final boolean enabled;
+    private final Duration bucketDuration;
+    private final int readJournalBatchSize;
+    private final RateConfig rateConfig;
+
+    private DefaultSubjectExpiryWakeUpConfig(final ScopedConfig scopedConfig) {
+        enabled = scopedConfig.getBoolean(ConfigValue.ENABLED.getConfigPath());
+        bucketDuration = scopedConfig.getNonNegativeAndNonZeroDurationOrThrow(ConfigValue.BUCKET_DURATION);
+        readJournalBatchSize = scopedConfig.getPositiveIntOrThrow(ConfigValue.READ_JOURNAL_BATCH_SIZE);
+        rateConfig = DefaultRateConfig.of(scopedConfig);
+    }
+
+    static DefaultSubjectExpiryWakeUpConfig of(final Config config) {
+        final ConfigWithFallback mappingScopedConfig =
+                ConfigWithFallback.newInstance(config, CONFIG_PATH, ConfigValue.values());
+        return new DefaultSubjectExpiryWakeUpConfig(mappingScopedConfig);
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public Duration getBucketDuration() {
+        return bucketDuration;
+    }
+
+    @Override
+    public int getReadJournalBatchSize() {
+        return readJournalBatchSize;
+    }
+
+    @Override
+    public RateConfig getRateConfig() {
+        return rateConfig;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final DefaultSubjectExpiryWakeUpConfig that = (DefaultSubjectExpiryWakeUpConfig) o;
+        return enabled == that.enabled &&
+                readJournalBatchSize == that.readJournalBatchSize &&
+                Objects.equals(bucketDuration, that.bucketDuration) &&
+                Objects.equals(rateConfig, that.rateConfig);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(enabled, bucketDuration, readJournalBatchSize, rateConfig);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "enabled=" + enabled +
+                ", bucketDuration=" + bucketDuration +
+                ", readJournalBatchSize=" + readJournalBatchSize +
+                ", rateConfig=" + rateConfig +
+                "]";
+    }
+
+}
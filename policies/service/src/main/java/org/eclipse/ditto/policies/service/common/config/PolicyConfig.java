@@ -75,6 +75,13 @@ public interface PolicyConfig extends WithSupervisorConfig, WithActivityCheckCon
      */
     PolicyAnnouncementConfig getPolicyAnnouncementConfig();
 
+    /**
+     * Return the config of waking up passivated policies before their subjects expire.
+     *
+     * @return the subject expiry wake-up config.
+     */
+    SubjectExpiryWakeUpConfig getSubjectExpiryWakeUpConfig();
+
     /**
      * An enumeration of the known config path expressions and their associated default values for {@code PolicyConfig}.
      */
@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.policies.service.common.config;
+
+import java.time.Duration;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.internal.utils.config.KnownConfigValue;
+import org.eclipse.ditto.internal.utils.persistentactors.config.RateConfig;
+
+import com.typesafe.config.Config;
+
+/**
+ * Provides configuration settings for waking up passivated policies shortly before one of their subjects expires or
+ * has to be announced.
+ */
+@Immutable
+public interface SubjectExpiryWakeUpConfig {
+
+    /**
+     * Indicates whether policies with expiring subjects may be passivated and are woken up by a central scheduler
+     * instead of being kept alive until all their subjects expired.
+     *
+     * @return whether the subject expiry wake-up is enabled.
+     */
+    boolean isEnabled();
+
+    /**
+     * Returns the duration of the time buckets the wake-up instants of subjects are grouped into.
+     * It is also the interval in which due buckets are scanned; policies with a subject due within two buckets are
+     * kept alive.
+     *
+     * @return the bucket duration.
+     */
+    Duration getBucketDuration();
+
+    /**
+     * Returns the batch size of persistence IDs read from the journal tag index at once.
+     *
+     * @return the read journal batch size.
+     */
+    int getReadJournalBatchSize();
+
+    /**
+     * Returns the rate in which due policies are woken up.
+     *
+     * @return the rate config.
+     */
+    RateConfig getRateConfig();
+
+    /**
+     * Returns an instance of the subject expiry wake-up config based on the settings of the specified Config.
+     *
+     * @param config is supposed to provide the settings of the policy config at "subject-expiry-wake-up".
+     * @return the instance.
+     * @throws org.eclipse.ditto.internal.utils.config.DittoConfigError if {@code config} is invalid.
+     */
+    static SubjectExpiryWakeUpConfig of(final Config config) {
+        return DefaultSubjectExpiryWakeUpConfig.of(config);
+    }
+
+    /**
+     * An enumeration of the known config path expressions and their associated default values.
+     */
+    enum ConfigValue implements KnownConfigValue {
+
+        /**
+         * Whether the subject expiry wake-up is enabled.
+         */
+        ENABLED("enabled", false),
+
+        /**
+         * The duration of the time buckets.
+         */
+        BUCKET_DURATION("bucket-duration", Duration.ofMinutes(10L)),
+
+        /**
+         * The batch size of persistence IDs read from the journal.
+         */
+        READ_JOURNAL_BATCH_SIZE("read-journal-batch-size", 500);
+
+        private final String path;
+        private final Object defaultValue;
+
+        ConfigValue(final String thePath, final Object theDefaultValue) {
+            path = thePath;
+            defaultValue = theDefaultValue;
+        }
+
+        @Override
+        public Object getDefaultValue() {
+            return defaultValue;
+        }
+
+        @Override
+        public String getConfigPath() {
+            return path;
+        }
+
+    }
+
+}
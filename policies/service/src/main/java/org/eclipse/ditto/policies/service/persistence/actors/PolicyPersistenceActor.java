@@ -32,6 +32,8 @@ import org.eclipse.ditto.base.model.json.JsonSchemaVersion;
 import org.eclipse.ditto.base.model.signals.commands.Command;
 import org.eclipse.ditto.internal.utils.cluster.DistPubSubAccess;
 import org.eclipse.ditto.internal.utils.config.DefaultScopedConfig;
+import org.eclipse.ditto.internal.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.internal.utils.metrics.instruments.counter.Counter;
 import org.eclipse.ditto.internal.utils.persistence.mongo.config.ActivityCheckConfig;
 import org.eclipse.ditto.internal.utils.persistence.mongo.config.SnapshotConfig;
 import org.eclipse.ditto.internal.utils.persistence.mongo.streaming.MongoReadJournal;
@@ -51,6 +53,8 @@ import org.eclipse.ditto.policies.model.signals.commands.exceptions.PolicyNotAcc
 import org.eclipse.ditto.policies.model.signals.events.PolicyEvent;
 import org.eclipse.ditto.policies.service.common.config.DittoPoliciesConfig;
 import org.eclipse.ditto.policies.service.common.config.PolicyConfig;
+import org.eclipse.ditto.policies.service.common.config.SubjectExpiryWakeUpConfig;
+import org.eclipse.ditto.policies.service.persistence.actors.announcements.SubjectExpiryWakeUps;
 import org.eclipse.ditto.policies.service.persistence.actors.strategies.commands.PolicyCommandStrategies;
 import org.eclipse.ditto.policies.service.persistence.actors.strategies.events.PolicyEventStrategies;
 
@@ -75,10 +79,14 @@ public final class PolicyPersistenceActor
      */
     static final String SNAPSHOT_PLUGIN_ID = "pekko-contrib-mongodb-persistence-policies-snapshots";
 
+    private static final String SCHEDULED_WAKE_UPS_COUNTER_NAME = "policies_subject_expiry_scheduled_wake_ups";
+
     private final ActorRef pubSubMediator;
     private final PolicyConfig policyConfig;
     private final ActorRef announcementManager;
     private final ActorRef supervisor;
+    @Nullable private final SubjectExpiryWakeUps subjectExpiryWakeUps;
+    private final Counter scheduledWakeUpsCounter;
 
     @SuppressWarnings("unused")
     private PolicyPersistenceActor(final PolicyId policyId,
@@ -92,6 +100,8 @@ public final class PolicyPersistenceActor
         this.announcementManager = announcementManager;
         this.policyConfig = policyConfig;
         this.supervisor = getContext().getParent();
+        subjectExpiryWakeUps = createSubjectExpiryWakeUps(policyConfig);
+        scheduledWakeUpsCounter = DittoMetrics.counter(SCHEDULED_WAKE_UPS_COUNTER_NAME);
     }
 
     private PolicyPersistenceActor(final PolicyId policyId,
@@ -109,6 +119,8 @@ public final class PolicyPersistenceActor
                 DefaultScopedConfig.dittoScoped(getContext().getSystem().settings().config())
         );
         this.policyConfig = policiesConfig.getPolicyConfig();
+        subjectExpiryWakeUps = createSubjectExpiryWakeUps(policyConfig);
+        scheduledWakeUpsCounter = DittoMetrics.counter(SCHEDULED_WAKE_UPS_COUNTER_NAME);
     }
 
     /**
@@ -312,6 +324,10 @@ public final class PolicyPersistenceActor
 
     @Override
     protected boolean isEntityAlwaysAlive() {
+        if (null != subjectExpiryWakeUps) {
+            // passivation is fine as long as the subject expiry wake-up actor wakes this policy up in time
+            return subjectExpiryWakeUps.isDue(entity, Instant.now());
+        }
         return isAlwaysAlive(entity);
     }
 
@@ -327,7 +343,19 @@ public final class PolicyPersistenceActor
     protected PolicyEvent<?> modifyEventBeforePersist(final PolicyEvent<?> event) {
         final PolicyEvent<?> superEvent = super.modifyEventBeforePersist(event);
 
-        if (willEntityBeAlwaysAlive(event)) {
+        if (null != subjectExpiryWakeUps) {
+            final Set<String> wakeUpJournalTags =
+                    subjectExpiryWakeUps.getJournalTags(getEventStrategy().handle(event, entity, getRevisionNumber()));
+            if (!wakeUpJournalTags.isEmpty()) {
+                // all tags but the generic one are buckets of due subjects
+                scheduledWakeUpsCounter.increment(wakeUpJournalTags.size() - 1L);
+                final DittoHeaders headersWithJournalTags = superEvent.getDittoHeaders()
+                        .toBuilder()
+                        .journalTags(wakeUpJournalTags)
+                        .build();
+                return superEvent.setDittoHeaders(headersWithJournalTags);
+            }
+        } else if (willEntityBeAlwaysAlive(event)) {
             final DittoHeaders headersWithJournalTags = superEvent.getDittoHeaders()
                     .toBuilder()
                     .journalTags(Set.of(JOURNAL_TAG_ALWAYS_ALIVE))
@@ -350,6 +378,16 @@ public final class PolicyPersistenceActor
         return supervisor;
     }
 
+    @Nullable
+    private static SubjectExpiryWakeUps createSubjectExpiryWakeUps(final PolicyConfig policyConfig) {
+        final SubjectExpiryWakeUpConfig wakeUpConfig = policyConfig.getSubjectExpiryWakeUpConfig();
+        if (wakeUpConfig.isEnabled()) {
+            return SubjectExpiryWakeUps.of(wakeUpConfig.getBucketDuration(),
+                    policyConfig.getPolicyAnnouncementConfig().getDefaultRandomizationInterval());
+        }
+        return null;
+    }
+
     private boolean willEntityBeAlwaysAlive(final PolicyEvent<?> policyEvent) {
         return isAlwaysAlive(getEventStrategy().handle(policyEvent, entity, getRevisionNumber()));
     }
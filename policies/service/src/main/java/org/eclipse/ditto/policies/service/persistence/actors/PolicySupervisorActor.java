@@ -158,6 +158,9 @@ public final class PolicySupervisorActor extends AbstractPersistenceSupervisor<P
     @Nullable
     private Props getAnnouncementManagerProps(final DistributedPub<PolicyAnnouncement<?>> pub,
             final PolicyAnnouncementConfig policyAnnouncementConfig) {
+        if (isShardRelay()) {
+            return null;
+        }
         try {
             final PolicyId policyId = getEntityId();
             return PolicyAnnouncementManager.props(policyId, pub, getSelf(), policyAnnouncementConfig);
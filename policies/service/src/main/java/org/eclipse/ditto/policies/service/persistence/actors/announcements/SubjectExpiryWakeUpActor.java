@@ -0,0 +1,280 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.policies.service.persistence.actors.announcements;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiFunction;
+
+import javax.annotation.Nullable;
+
+import org.apache.pekko.NotUsed;
+import org.apache.pekko.actor.AbstractActor;
+import org.apache.pekko.actor.ActorRef;
+import org.apache.pekko.actor.Cancellable;
+import org.apache.pekko.actor.Props;
+import org.apache.pekko.japi.pf.ReceiveBuilder;
+import org.apache.pekko.stream.Materializer;
+import org.apache.pekko.stream.javadsl.Sink;
+import org.apache.pekko.stream.javadsl.Source;
+import org.eclipse.ditto.base.model.exceptions.DittoRuntimeException;
+import org.eclipse.ditto.internal.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.internal.utils.metrics.instruments.counter.Counter;
+import org.eclipse.ditto.internal.utils.pekko.PingCommand;
+import org.eclipse.ditto.internal.utils.pekko.PingCommandResponse;
+import org.eclipse.ditto.internal.utils.pekko.logging.DittoLoggerFactory;
+import org.eclipse.ditto.internal.utils.pekko.logging.ThreadSafeDittoLoggingAdapter;
+import org.eclipse.ditto.internal.utils.pekko.streaming.TimestampPersistence;
+import org.eclipse.ditto.internal.utils.persistence.mongo.streaming.MongoReadJournal;
+import org.eclipse.ditto.internal.utils.persistentactors.config.RateConfig;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.policies.model.PolicyId;
+import org.eclipse.ditto.policies.service.common.config.SubjectExpiryWakeUpConfig;
+
+/**
+ * Cluster singleton which wakes up passivated policies shortly before one of their subjects has to be announced or
+ * deleted.
+ * <p>
+ * Policies tag their events with the time buckets containing the wake-up instants of their subjects, see
+ * {@link SubjectExpiryWakeUps}. In the interval of the bucket duration, this actor looks up the persistence IDs of all
+ * policies due in the buckets not yet scanned up to the next bucket in the tag index of the journal and pings them at
+ * the configured rate. Woken up policies schedule announcements and deletions of their subjects precisely and stay
+ * alive until no subject is due any more.
+ * The instant up to which buckets were scanned is persisted, so that a new instance of this actor, e.g. after a
+ * rolling update, continues with the buckets not yet scanned and catches up on wake-ups missed while no instance was
+ * running. Only if no scan progress was persisted yet, all policies with expiring subjects are pinged once.
+ */
+public final class SubjectExpiryWakeUpActor extends AbstractActor {
+
+    /**
+     * The name of this Actor.
+     */
+    public static final String ACTOR_NAME = "subjectExpiryWakeUp";
+
+    /**
+     * The name of the collection storing the instant up to which buckets were scanned.
+     */
+    public static final String SCAN_PROGRESS_COLLECTION_NAME = "policiesSubjectExpiryWakeUp";
+
+    private static final String CORRELATION_ID_PREFIX = "subject-expiry-wake-up:";
+    private static final String POLICY_PERSISTENCE_ID_PREFIX = "policy:";
+    private static final String WAKE_UPS_COUNTER_NAME = "policies_subject_expiry_wake_ups";
+
+    private final ThreadSafeDittoLoggingAdapter log = DittoLoggerFactory.getThreadSafeDittoLoggingAdapter(this);
+
+    private final ActorRef policiesShardRegion;
+    private final SubjectExpiryWakeUpConfig config;
+    private final SubjectExpiryWakeUps subjectExpiryWakeUps;
+    private final BiFunction<String, Materializer, Source<String, NotUsed>> persistenceIdsWithTag;
+    private final TimestampPersistence scanProgress;
+    private final Materializer materializer;
+    private final Counter wakeUpsCounter;
+
+    @Nullable private Cancellable wakeUpTick = null;
+    @Nullable private Instant scannedUntil = null;
+    private boolean wakeUpInProgress = false;
+
+    @SuppressWarnings("unused")
+    private SubjectExpiryWakeUpActor(final ActorRef policiesShardRegion,
+            final SubjectExpiryWakeUpConfig config,
+            final SubjectExpiryWakeUps subjectExpiryWakeUps,
+            final MongoReadJournal readJournal,
+            final TimestampPersistence scanProgress) {
+
+        this(policiesShardRegion, config, subjectExpiryWakeUps,
+                (tag, mat) -> readJournal.getJournalPidsWithTag(tag, config.getReadJournalBatchSize(),
+                        config.getBucketDuration(), mat, true), scanProgress);
+        readJournal.ensureTagPidIndex().exceptionally(e -> {
+            log.error(e, "Failed to create TagPidIndex");
+            return null;
+        });
+    }
+
+    private SubjectExpiryWakeUpActor(final ActorRef policiesShardRegion,
+            final SubjectExpiryWakeUpConfig config,
+            final SubjectExpiryWakeUps subjectExpiryWakeUps,
+            final BiFunction<String, Materializer, Source<String, NotUsed>> persistenceIdsWithTag,
+            final TimestampPersistence scanProgress) {
+
+        this.policiesShardRegion = policiesShardRegion;
+        this.config = config;
+        this.subjectExpiryWakeUps = subjectExpiryWakeUps;
+        this.persistenceIdsWithTag = persistenceIdsWithTag;
+        this.scanProgress = scanProgress;
+        materializer = Materializer.createMaterializer(this::getContext);
+        wakeUpsCounter = DittoMetrics.counter(WAKE_UPS_COUNTER_NAME);
+    }
+
+    /**
+     * Creates Pekko configuration object Props for this Actor.
+     *
+     * @param policiesShardRegion the shard region of the policies.
+     * @param config the subject expiry wake-up config.
+     * @param subjectExpiryWakeUps the computation of wake-up buckets.
+     * @param readJournal readJournal to look up the persistence IDs of due policies.
+     * @param scanProgress persistence of the instant up to which buckets were scanned.
+     * @return the Pekko configuration Props object.
+     */
+    public static Props props(final ActorRef policiesShardRegion,
+            final SubjectExpiryWakeUpConfig config,
+            final SubjectExpiryWakeUps subjectExpiryWakeUps,
+            final MongoReadJournal readJournal,
+            final TimestampPersistence scanProgress) {
+
+        return Props.create(SubjectExpiryWakeUpActor.class, policiesShardRegion, config, subjectExpiryWakeUps,
+                readJournal, scanProgress);
+    }
+
+    /**
+     * Creates Pekko configuration object Props for this Actor.
+     *
+     * @param policiesShardRegion the shard region of the policies.
+     * @param config the subject expiry wake-up config.
+     * @param subjectExpiryWakeUps the computation of wake-up buckets.
+     * @param persistenceIdsWithTag function from journal tag to the persistence IDs tagged with it.
+     * @param scanProgress persistence of the instant up to which buckets were scanned.
+     * @return the Pekko configuration Props object.
+     */
+    static Props propsForTests(final ActorRef policiesShardRegion,
+            final SubjectExpiryWakeUpConfig config,
+            final SubjectExpiryWakeUps subjectExpiryWakeUps,
+            final BiFunction<String, Materializer, Source<String, NotUsed>> persistenceIdsWithTag,
+            final TimestampPersistence scanProgress) {
+
+        return Props.create(SubjectExpiryWakeUpActor.class, policiesShardRegion, config, subjectExpiryWakeUps,
+                persistenceIdsWithTag, scanProgress);
+    }
+
+    @Override
+    public void preStart() throws Exception {
+        super.preStart();
+        final ActorRef self = getSelf();
+        scanProgress.getTimestampAsync()
+                .runWith(Sink.head(), materializer)
+                .whenComplete((timestamp, error) -> {
+                    if (null != error) {
+                        log.error(error, "Failed to load the scan progress of subject expiry wake-ups.");
+                    }
+                    self.tell(new ScanProgressLoaded(null == error ? timestamp.orElse(null) : null),
+                            ActorRef.noSender());
+                });
+    }
+
+    @Override
+    public void postStop() throws Exception {
+        if (null != wakeUpTick) {
+            wakeUpTick.cancel();
+        }
+        super.postStop();
+    }
+
+    @Override
+    public Receive createReceive() {
+        return ReceiveBuilder.create()
+                .match(ScanProgressLoaded.class, this::scanProgressLoaded)
+                .matchEquals(Control.WAKE_UP_DUE, msg -> wakeUpDue())
+                .match(WakeUpFinished.class, this::wakeUpFinished)
+                .match(PingCommandResponse.class, response -> log.debug("Woke up policy: <{}>", response))
+                .match(DittoRuntimeException.class,
+                        exception -> log.debug("Received <{}> for correlation-id <{}>: {}",
+                                exception.getClass().getSimpleName(),
+                                exception.getDittoHeaders().getCorrelationId().orElse("unknown"),
+                                exception.getMessage()))
+                .matchAny(m -> {
+                    log.warning("Unknown message: {}", m);
+                    unhandled(m);
+                })
+                .build();
+    }
+
+    private void scanProgressLoaded(final ScanProgressLoaded scanProgressLoaded) {
+        scannedUntil = scanProgressLoaded.scannedUntil();
+        log.info("Scheduling subject expiry wake-ups in buckets of <{}>, scanned until <{}>.",
+                config.getBucketDuration(), scannedUntil);
+        wakeUpTick = getContext().getSystem().scheduler()
+                .scheduleAtFixedRate(Duration.ZERO, config.getBucketDuration(), getSelf(),
+                        Control.WAKE_UP_DUE, getContext().dispatcher(), ActorRef.noSender());
+    }
+
+    private void wakeUpDue() {
+        if (wakeUpInProgress) {
+            log.info("Previous wake-up of policies with due subjects is still in progress.");
+            return;
+        }
+        final Instant scanUntil = subjectExpiryWakeUps.getBucketStart(Instant.now())
+                .plus(subjectExpiryWakeUps.getBucketDuration().multipliedBy(2L));
+        final List<String> journalTags = getJournalTagsToScan(scanUntil);
+        log.info("Waking up policies with subjects due before <{}> via journal tags <{}>.", scanUntil, journalTags);
+        wakeUpInProgress = true;
+        final RateConfig rateConfig = config.getRateConfig();
+        Source.from(journalTags)
+                .flatMapConcat(tag -> persistenceIdsWithTag.apply(tag, materializer))
+                .throttle(rateConfig.getEntityAmount(), rateConfig.getFrequency())
+                .runForeach(this::wakeUp, materializer)
+                .whenComplete((done, error) -> {
+                    if (null != error) {
+                        log.error(error, "Failed to wake up policies with subjects due before <{}>.", scanUntil);
+                    }
+                    getSelf().tell(new WakeUpFinished(null == error ? scanUntil : null), ActorRef.noSender());
+                });
+    }
+
+    private List<String> getJournalTagsToScan(final Instant scanUntil) {
+        if (null == scannedUntil) {
+            return List.of(SubjectExpiryWakeUps.JOURNAL_TAG);
+        }
+        final List<String> journalTags = new ArrayList<>();
+        for (Instant bucketStart = scannedUntil;
+                bucketStart.isBefore(scanUntil);
+                bucketStart = bucketStart.plus(subjectExpiryWakeUps.getBucketDuration())) {
+            journalTags.add(SubjectExpiryWakeUps.getBucketJournalTag(bucketStart));
+        }
+        return journalTags;
+    }
+
+    private void wakeUpFinished(final WakeUpFinished wakeUpFinished) {
+        wakeUpInProgress = false;
+        if (null != wakeUpFinished.scannedUntil()) {
+            scannedUntil = wakeUpFinished.scannedUntil();
+            final Instant persistedScannedUntil = scannedUntil;
+            scanProgress.setTimestamp(persistedScannedUntil)
+                    .runWith(Sink.ignore(), materializer)
+                    .exceptionally(error -> {
+                        log.error(error, "Failed to persist the scan progress <{}>.", persistedScannedUntil);
+                        return null;
+                    });
+        }
+    }
+
+    private void wakeUp(final String persistenceId) {
+        if (!persistenceId.startsWith(POLICY_PERSISTENCE_ID_PREFIX)) {
+            log.warning("Persistence ID <{}> is no policy persistence ID.", persistenceId);
+            return;
+        }
+        final PolicyId policyId = PolicyId.of(persistenceId.substring(POLICY_PERSISTENCE_ID_PREFIX.length()));
+        wakeUpsCounter.increment();
+        policiesShardRegion.tell(PingCommand.of(policyId, CORRELATION_ID_PREFIX + policyId,
+                JsonValue.of(SubjectExpiryWakeUps.JOURNAL_TAG)), getSelf());
+    }
+
+    private enum Control {
+        WAKE_UP_DUE
+    }
+
+    private record ScanProgressLoaded(@Nullable Instant scannedUntil) {}
+
+    private record WakeUpFinished(@Nullable Instant scannedUntil) {}
+
+}
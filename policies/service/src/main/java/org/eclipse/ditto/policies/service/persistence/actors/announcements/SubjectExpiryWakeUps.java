@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.policies.service.persistence.actors.announcements;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.StreamSupport;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.base.model.common.DittoDuration;
+import org.eclipse.ditto.policies.model.Policy;
+import org.eclipse.ditto.policies.model.PolicyEntry;
+import org.eclipse.ditto.policies.model.Subject;
+import org.eclipse.ditto.policies.model.SubjectAnnouncement;
+import org.eclipse.ditto.policies.model.Subjects;
+
+/**
+ * Computes when a policy has to be awake in order to announce or delete its expiring subjects.
+ * <p>
+ * The wake-up instant of a subject is the earliest possible instant of its announcement if an announcement before
+ * expiry is configured, or its expiry otherwise. Wake-up instants are grouped into buckets of a fixed duration; each
+ * bucket is represented by a journal tag so that the persistence IDs of all policies due in a bucket can be looked up
+ * in the tag index of the journal. Subjects with an announcement are tagged with the bucket of their expiry as well,
+ * so that policies restarted after the announcement are woken up again to delete the subject.
+ */
+@Immutable
+public final class SubjectExpiryWakeUps {
+
+    /**
+     * Journal tag of all events after which the policy contains subjects with an expiry.
+     */
+    public static final String JOURNAL_TAG = "subject-expiry";
+
+    private static final String BUCKET_JOURNAL_TAG_PREFIX = JOURNAL_TAG + "-due:";
+
+    private final Duration bucketDuration;
+    private final Duration defaultRandomizationInterval;
+
+    private SubjectExpiryWakeUps(final Duration bucketDuration, final Duration defaultRandomizationInterval) {
+        this.bucketDuration = bucketDuration;
+        this.defaultRandomizationInterval = defaultRandomizationInterval;
+    }
+
+    /**
+     * Returns a new instance of {@code SubjectExpiryWakeUps}.
+     *
+     * @param bucketDuration the duration of the buckets wake-up instants are grouped into.
+     * @param defaultRandomizationInterval the randomization interval of announcements which do not define one.
+     * @return the instance.
+     */
+    public static SubjectExpiryWakeUps of(final Duration bucketDuration, final Duration defaultRandomizationInterval) {
+        return new SubjectExpiryWakeUps(bucketDuration, defaultRandomizationInterval);
+    }
+
+    /**
+     * Returns the earliest wake-up instant of all subjects of the passed policy.
+     *
+     * @param policy the policy.
+     * @return the earliest wake-up instant or an empty Optional if no subject of the policy expires.
+     */
+    public Optional<Instant> getNextWakeUp(@Nullable final Policy policy) {
+        return getSubjects(policy).stream()
+                .map(this::getWakeUp)
+                .flatMap(Optional::stream)
+                .min(Instant::compareTo);
+    }
+
+    /**
+     * Indicates whether the passed policy has to be kept alive at the passed instant, which is the case if one of its
+     * subjects is due before the next bucket scan after the passed instant completed.
+     *
+     * @param policy the policy.
+     * @param now the current instant.
+     * @return whether the policy has to be kept alive.
+     */
+    public boolean isDue(@Nullable final Policy policy, final Instant now) {
+        final Instant horizon = now.plus(bucketDuration.multipliedBy(2L));
+        return getNextWakeUp(policy).filter(wakeUp -> !wakeUp.isAfter(horizon)).isPresent();
+    }
+
+    /**
+     * Returns the journal tags to persist with an event resulting in the passed policy: the generic
+     * {@value #JOURNAL_TAG} tag and one tag per bucket containing the wake-up instant or the expiry of a subject.
+     *
+     * @param policy the policy after applying the event.
+     * @return the journal tags, empty if no subject of the policy expires.
+     */
+    public Set<String> getJournalTags(@Nullable final Policy policy) {
+        final Set<String> journalTags = new LinkedHashSet<>();
+        getSubjects(policy).forEach(subject -> getWakeUp(subject).ifPresent(wakeUp -> {
+            journalTags.add(JOURNAL_TAG);
+            journalTags.add(getBucketJournalTag(getBucketStart(wakeUp)));
+            subject.getExpiry()
+                    .map(expiry -> getBucketJournalTag(getBucketStart(expiry.getTimestamp())))
+                    .ifPresent(journalTags::add);
+        }));
+        return journalTags;
+    }
+
+    /**
+     * Returns the start of the bucket containing the passed instant.
+     *
+     * @param instant the instant.
+     * @return the start of its bucket.
+     */
+    public Instant getBucketStart(final Instant instant) {
+        final long bucketMillis = bucketDuration.toMillis();
+        return Instant.ofEpochMilli(Math.floorDiv(instant.toEpochMilli(), bucketMillis) * bucketMillis);
+    }
+
+    /**
+     * Returns the duration of the buckets.
+     *
+     * @return the bucket duration.
+     */
+    public Duration getBucketDuration() {
+        return bucketDuration;
+    }
+
+    /**
+     * Returns the journal tag of the bucket starting at the passed instant.
+     *
+     * @param bucketStart the start of the bucket.
+     * @return the journal tag.
+     */
+    public static String getBucketJournalTag(final Instant bucketStart) {
+        return BUCKET_JOURNAL_TAG_PREFIX + bucketStart.getEpochSecond();
+    }
+
+    private Optional<Instant> getWakeUp(final Subject subject) {
+        return subject.getExpiry().map(expiry -> {
+            final Instant expiryInstant = expiry.getTimestamp();
+            return subject.getAnnouncement()
+                    .flatMap(announcement -> announcement.getBeforeExpiry()
+                            .map(beforeExpiry -> expiryInstant.minus(beforeExpiry.getDuration())
+                                    .minus(getRandomizationInterval(announcement))))
+                    .orElse(expiryInstant);
+        });
+    }
+
+    private Duration getRandomizationInterval(final SubjectAnnouncement announcement) {
+        return announcement.getRandomizationInterval()
+                .map(DittoDuration::getDuration)
+                .orElse(defaultRandomizationInterval);
+    }
+
+    private static List<Subject> getSubjects(@Nullable final Policy policy) {
+        if (policy == null) {
+            return List.of();
+        }
+        return StreamSupport.stream(policy.spliterator(), false)
+                .map(PolicyEntry::getSubjects)
+                .flatMap(Subjects::stream)
+                .toList();
+    }
+
+}
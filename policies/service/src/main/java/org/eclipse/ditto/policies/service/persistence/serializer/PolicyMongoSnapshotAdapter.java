@@ -17,6 +17,7 @@ import java.util.Optional;
 import javax.annotation.concurrent.ThreadSafe;
 
 import org.eclipse.ditto.internal.utils.persistence.mongo.AbstractMongoSnapshotAdapter;
+import org.eclipse.ditto.internal.utils.persistence.mongo.config.DefaultSnapshotCompressionConfig;
 import org.eclipse.ditto.json.JsonField;
 import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.json.JsonValue;
@@ -42,7 +43,7 @@ public final class PolicyMongoSnapshotAdapter extends AbstractMongoSnapshotAdapt
      */
     @SuppressWarnings("unused")
     public PolicyMongoSnapshotAdapter(final ActorSystem actorSystem, final Config config) {
-        this();
+        super(LoggerFactory.getLogger(PolicyMongoSnapshotAdapter.class), DefaultSnapshotCompressionConfig.of(config));
     }
 
     /**
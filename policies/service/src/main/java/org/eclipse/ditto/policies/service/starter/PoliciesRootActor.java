@@ -29,7 +29,9 @@ import org.eclipse.ditto.internal.utils.namespaces.BlockedNamespaces;
 import org.eclipse.ditto.internal.utils.namespaces.BlockedNamespacesUpdater;
 import org.eclipse.ditto.internal.utils.persistence.mongo.MongoHealthChecker;
 import org.eclipse.ditto.internal.utils.persistence.mongo.streaming.MongoReadJournal;
+import org.eclipse.ditto.internal.utils.persistence.mongo.streaming.MongoTimestampPersistence;
 import org.eclipse.ditto.internal.utils.persistentactors.PersistencePingActor;
+import org.eclipse.ditto.internal.utils.persistentactors.cleanup.MongoCleanupProgressStore;
 import org.eclipse.ditto.internal.utils.persistentactors.cleanup.PersistenceCleanupActor;
 import org.eclipse.ditto.internal.utils.pubsub.DistributedPub;
 import org.eclipse.ditto.internal.utils.pubsubpolicies.PolicyAnnouncementPubSubFactory;
@@ -41,6 +43,8 @@ import org.eclipse.ditto.policies.service.common.config.PoliciesConfig;
 import org.eclipse.ditto.policies.service.persistence.actors.PoliciesPersistenceStreamingActorCreator;
 import org.eclipse.ditto.policies.service.persistence.actors.PolicyPersistenceOperationsActor;
 import org.eclipse.ditto.policies.service.persistence.actors.PolicySupervisorActor;
+import org.eclipse.ditto.policies.service.persistence.actors.announcements.SubjectExpiryWakeUpActor;
+import org.eclipse.ditto.policies.service.persistence.actors.announcements.SubjectExpiryWakeUps;
 
 import org.apache.pekko.actor.ActorRef;
 import org.apache.pekko.actor.Props;
@@ -48,6 +52,7 @@ import org.apache.pekko.cluster.sharding.ClusterShardingSettings;
 import org.apache.pekko.event.DiagnosticLoggingAdapter;
 import org.apache.pekko.japi.pf.ReceiveBuilder;
 import org.apache.pekko.pattern.Patterns;
+import org.apache.pekko.stream.SystemMaterializer;
 
 /**
  * Parent Actor which takes care of supervision of all other Actors in our system.
@@ -59,6 +64,8 @@ public final class PoliciesRootActor extends DittoRootActor {
      */
     public static final String ACTOR_NAME = "policiesRoot";
 
+    private static final String CLEANUP_PROGRESS_COLLECTION = "policies_cleanup_progress";
+
     private final DiagnosticLoggingAdapter log = DittoLoggerFactory.getDiagnosticLoggingAdapter(this);
 
     private final RetrieveStatisticsDetailsResponseSupplier retrieveStatisticsDetailsResponseSupplier;
@@ -102,6 +109,18 @@ public final class PoliciesRootActor extends DittoRootActor {
                 PersistencePingActor.props(policiesShardRegion, policiesConfig.getPingConfig(), mongoReadJournal),
                 PersistencePingActor.ACTOR_NAME);
 
+        final var policyConfig = policiesConfig.getPolicyConfig();
+        final var subjectExpiryWakeUpConfig = policyConfig.getSubjectExpiryWakeUpConfig();
+        if (subjectExpiryWakeUpConfig.isEnabled()) {
+            final var subjectExpiryWakeUps = SubjectExpiryWakeUps.of(subjectExpiryWakeUpConfig.getBucketDuration(),
+                    policyConfig.getPolicyAnnouncementConfig().getDefaultRandomizationInterval());
+            final var scanProgress = MongoTimestampPersistence.initializedInstance(
+                    SubjectExpiryWakeUpActor.SCAN_PROGRESS_COLLECTION_NAME, mongoReadJournal.getDatabase(),
+                    SystemMaterializer.get(actorSystem).materializer());
+            startClusterSingletonActor(SubjectExpiryWakeUpActor.props(policiesShardRegion, subjectExpiryWakeUpConfig,
+                    subjectExpiryWakeUps, mongoReadJournal, scanProgress), SubjectExpiryWakeUpActor.ACTOR_NAME);
+        }
+
         startChildActor(PolicyPersistenceOperationsActor.ACTOR_NAME,
                 PolicyPersistenceOperationsActor.props(pubSubMediator, policiesConfig.getMongoDbConfig(),
                         actorSystem.settings().config(), policiesConfig.getPersistenceOperationsConfig()));
@@ -109,8 +128,11 @@ public final class PoliciesRootActor extends DittoRootActor {
         retrieveStatisticsDetailsResponseSupplier = RetrieveStatisticsDetailsResponseSupplier.of(policiesShardRegion,
                 PoliciesMessagingConstants.SHARD_REGION, log);
 
-        final var cleanupConfig = policiesConfig.getPolicyConfig().getCleanupConfig();
-        final var cleanupActorProps = PersistenceCleanupActor.props(cleanupConfig, mongoReadJournal, CLUSTER_ROLE);
+        final var cleanupConfig = policyConfig.getCleanupConfig();
+        final var cleanupProgressStore =
+                MongoCleanupProgressStore.of(mongoReadJournal.getDatabase(), CLEANUP_PROGRESS_COLLECTION, actorSystem);
+        final var cleanupActorProps = PersistenceCleanupActor.props(cleanupConfig, mongoReadJournal, CLUSTER_ROLE,
+                cleanupProgressStore);
         startChildActor(PersistenceCleanupActor.ACTOR_NAME, cleanupActorProps);
 
         final var healthCheckConfig = policiesConfig.getHealthCheckConfig();
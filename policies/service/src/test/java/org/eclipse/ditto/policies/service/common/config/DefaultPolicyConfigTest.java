@@ -61,6 +61,18 @@ public final class DefaultPolicyConfigTest {
         softly.assertThat(underTest.getSubjectIdResolver())
                 .as(PolicyConfig.PolicyConfigValue.SUBJECT_ID_RESOLVER.getConfigPath())
                 .isEqualTo(PolicyConfig.PolicyConfigValue.SUBJECT_ID_RESOLVER.getDefaultValue());
+
+        softly.assertThat(underTest.getSubjectExpiryWakeUpConfig().isEnabled())
+                .as(SubjectExpiryWakeUpConfig.ConfigValue.ENABLED.getConfigPath())
+                .isFalse();
+
+        softly.assertThat(underTest.getSubjectExpiryWakeUpConfig().getBucketDuration())
+                .as(SubjectExpiryWakeUpConfig.ConfigValue.BUCKET_DURATION.getConfigPath())
+                .isEqualTo(Duration.ofMinutes(10L));
+
+        softly.assertThat(underTest.getSubjectExpiryWakeUpConfig().getReadJournalBatchSize())
+                .as(SubjectExpiryWakeUpConfig.ConfigValue.READ_JOURNAL_BATCH_SIZE.getConfigPath())
+                .isEqualTo(500);
     }
 
     @Test
@@ -82,6 +94,26 @@ public final class DefaultPolicyConfigTest {
         softly.assertThat(underTest.getPolicyAnnouncementConfig())
                 .as(DefaultPolicyAnnouncementConfig.CONFIG_PATH)
                 .isEqualTo(PolicyAnnouncementConfig.of(ConfigFactory.load("policy-announcement-config-test.conf")));
+
+        softly.assertThat(underTest.getSubjectExpiryWakeUpConfig().isEnabled())
+                .as(SubjectExpiryWakeUpConfig.ConfigValue.ENABLED.getConfigPath())
+                .isTrue();
+
+        softly.assertThat(underTest.getSubjectExpiryWakeUpConfig().getBucketDuration())
+                .as(SubjectExpiryWakeUpConfig.ConfigValue.BUCKET_DURATION.getConfigPath())
+                .isEqualTo(Duration.ofMinutes(5L));
+
+        softly.assertThat(underTest.getSubjectExpiryWakeUpConfig().getReadJournalBatchSize())
+                .as(SubjectExpiryWakeUpConfig.ConfigValue.READ_JOURNAL_BATCH_SIZE.getConfigPath())
+                .isEqualTo(42);
+
+        softly.assertThat(underTest.getSubjectExpiryWakeUpConfig().getRateConfig().getFrequency())
+                .as("subject-expiry-wake-up.rate.frequency")
+                .isEqualTo(Duration.ofSeconds(2L));
+
+        softly.assertThat(underTest.getSubjectExpiryWakeUpConfig().getRateConfig().getEntityAmount())
+                .as("subject-expiry-wake-up.rate.entities")
+                .isEqualTo(7);
     }
 
 }
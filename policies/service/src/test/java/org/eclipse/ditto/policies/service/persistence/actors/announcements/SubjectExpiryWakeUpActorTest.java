@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.policies.service.persistence.actors.announcements;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+import org.apache.pekko.NotUsed;
+import org.apache.pekko.actor.ActorSystem;
+import org.apache.pekko.stream.Materializer;
+import org.apache.pekko.stream.javadsl.Source;
+import org.apache.pekko.testkit.javadsl.TestKit;
+import org.eclipse.ditto.internal.utils.pekko.PingCommand;
+import org.eclipse.ditto.internal.utils.pekko.streaming.TimestampPersistence;
+import org.eclipse.ditto.internal.utils.persistentactors.config.RateConfig;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.policies.model.PolicyId;
+import org.eclipse.ditto.policies.service.common.config.SubjectExpiryWakeUpConfig;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.typesafe.config.ConfigFactory;
+
+/**
+ * Tests {@link SubjectExpiryWakeUpActor}.
+ */
+public final class SubjectExpiryWakeUpActorTest {
+
+    private static final Duration BUCKET_DURATION = Duration.ofHours(1L);
+    private static final PolicyId POLICY_ID = PolicyId.of("policy:id");
+
+    private final SubjectExpiryWakeUps subjectExpiryWakeUps = SubjectExpiryWakeUps.of(BUCKET_DURATION, Duration.ZERO);
+    private final BlockingQueue<String> scannedJournalTags = new LinkedBlockingQueue<>();
+
+    private ActorSystem system;
+    private SubjectExpiryWakeUpConfig config;
+    private TimestampPersistence scanProgress;
+
+    @Before
+    public void setUp() {
+        system = ActorSystem.create(getClass().getSimpleName(), ConfigFactory.load("test"));
+        final RateConfig rateConfig = mock(RateConfig.class);
+        when(rateConfig.getEntityAmount()).thenReturn(10);
+        when(rateConfig.getFrequency()).thenReturn(Duration.ofSeconds(1L));
+        config = mock(SubjectExpiryWakeUpConfig.class);
+        when(config.getBucketDuration()).thenReturn(BUCKET_DURATION);
+        when(config.getRateConfig()).thenReturn(rateConfig);
+        scanProgress = mock(TimestampPersistence.class);
+        when(scanProgress.setTimestamp(any())).thenReturn(Source.single(NotUsed.getInstance()));
+    }
+
+    @After
+    public void shutdown() {
+        TestKit.shutdownActorSystem(system);
+    }
+
+    @Test
+    public void wakeUpAllPoliciesWithExpiringSubjectsIfNoScanProgressWasPersisted() {
+        when(scanProgress.getTimestampAsync()).thenReturn(Source.single(Optional.empty()));
+        final Instant scanUntil =
+                subjectExpiryWakeUps.getBucketStart(Instant.now()).plus(BUCKET_DURATION.multipliedBy(2L));
+
+        new TestKit(system) {{
+            system.actorOf(SubjectExpiryWakeUpActor.propsForTests(getRef(), config, subjectExpiryWakeUps,
+                    SubjectExpiryWakeUpActorTest.this::getPersistenceIdsWithTag, scanProgress));
+
+            expectMsg(PingCommand.of(POLICY_ID, "subject-expiry-wake-up:" + POLICY_ID,
+                    JsonValue.of(SubjectExpiryWakeUps.JOURNAL_TAG)));
+            verify(scanProgress, timeout(5000L)).setTimestamp(scanUntil);
+            assertThat(scannedJournalTags).containsExactly(SubjectExpiryWakeUps.JOURNAL_TAG);
+        }};
+    }
+
+    @Test
+    public void continueWithTheBucketsNotScannedYetIfScanProgressWasPersisted() {
+        final Instant bucketStart = subjectExpiryWakeUps.getBucketStart(Instant.now());
+        final Instant scannedUntil = bucketStart.minus(BUCKET_DURATION);
+        final Instant scanUntil = bucketStart.plus(BUCKET_DURATION.multipliedBy(2L));
+        when(scanProgress.getTimestampAsync()).thenReturn(Source.single(Optional.of(scannedUntil)));
+
+        new TestKit(system) {{
+            system.actorOf(SubjectExpiryWakeUpActor.propsForTests(getRef(), config, subjectExpiryWakeUps,
+                    SubjectExpiryWakeUpActorTest.this::getPersistenceIdsWithTag, scanProgress));
+
+            verify(scanProgress, timeout(5000L)).setTimestamp(scanUntil);
+            assertThat(scannedJournalTags).containsExactlyElementsOf(List.of(
+                    SubjectExpiryWakeUps.getBucketJournalTag(scannedUntil),
+                    SubjectExpiryWakeUps.getBucketJournalTag(bucketStart),
+                    SubjectExpiryWakeUps.getBucketJournalTag(bucketStart.plus(BUCKET_DURATION))));
+            expectNoMessage();
+        }};
+    }
+
+    private Source<String, NotUsed> getPersistenceIdsWithTag(final String journalTag,
+            final Materializer materializer) {
+
+        scannedJournalTags.add(journalTag);
+        if (SubjectExpiryWakeUps.JOURNAL_TAG.equals(journalTag)) {
+            return Source.single("policy:" + POLICY_ID);
+        }
+        return Source.empty();
+    }
+
+}
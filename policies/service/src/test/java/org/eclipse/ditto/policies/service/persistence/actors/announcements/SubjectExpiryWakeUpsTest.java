@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.policies.service.persistence.actors.announcements;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import javax.annotation.Nullable;
+
+import org.assertj.core.api.JUnitSoftAssertions;
+import org.eclipse.ditto.base.model.common.DittoDuration;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.policies.model.PoliciesModelFactory;
+import org.eclipse.ditto.policies.model.Policy;
+import org.eclipse.ditto.policies.model.PolicyId;
+import org.eclipse.ditto.policies.model.Subject;
+import org.eclipse.ditto.policies.model.SubjectAnnouncement;
+import org.eclipse.ditto.policies.model.SubjectId;
+import org.eclipse.ditto.policies.model.SubjectType;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link SubjectExpiryWakeUps}.
+ */
+public final class SubjectExpiryWakeUpsTest {
+
+    private static final Duration BUCKET_DURATION = Duration.ofMinutes(10L);
+    private static final Duration DEFAULT_RANDOMIZATION_INTERVAL = Duration.ofMinutes(5L);
+    private static final Instant EXPIRY = Instant.parse("2026-01-01T12:34:00Z");
+
+    @Rule
+    public final JUnitSoftAssertions softly = new JUnitSoftAssertions();
+
+    private final SubjectExpiryWakeUps underTest = SubjectExpiryWakeUps.of(BUCKET_DURATION,
+            DEFAULT_RANDOMIZATION_INTERVAL);
+
+    @Test
+    public void policyWithoutExpiringSubjectsHasNoWakeUp() {
+        final Policy policy = createPolicy(Subject.newInstance("issuer:subject", SubjectType.UNKNOWN));
+
+        softly.assertThat(underTest.getNextWakeUp(policy)).isEmpty();
+        softly.assertThat(underTest.getJournalTags(policy)).isEmpty();
+        softly.assertThat(underTest.isDue(policy, EXPIRY)).isFalse();
+        softly.assertThat(underTest.getNextWakeUp(null)).isEmpty();
+    }
+
+    @Test
+    public void subjectWithoutAnnouncementIsDueAtExpiry() {
+        final Policy policy = createPolicy(createSubject("a", EXPIRY, null, null));
+
+        softly.assertThat(underTest.getNextWakeUp(policy)).contains(EXPIRY);
+        softly.assertThat(underTest.getJournalTags(policy)).containsExactlyInAnyOrder(SubjectExpiryWakeUps.JOURNAL_TAG,
+                SubjectExpiryWakeUps.getBucketJournalTag(Instant.parse("2026-01-01T12:30:00Z")));
+    }
+
+    @Test
+    public void subjectWithAnnouncementIsDueAtEarliestAnnouncement() {
+        final Policy policy = createPolicy(
+                createSubject("a", EXPIRY, Duration.ofHours(1L), null),
+                createSubject("b", EXPIRY, Duration.ofHours(2L), Duration.ofMinutes(1L)));
+
+        softly.assertThat(underTest.getNextWakeUp(policy)).contains(Instant.parse("2026-01-01T10:33:00Z"));
+        softly.assertThat(underTest.getJournalTags(policy)).containsExactlyInAnyOrder(SubjectExpiryWakeUps.JOURNAL_TAG,
+                SubjectExpiryWakeUps.getBucketJournalTag(Instant.parse("2026-01-01T11:20:00Z")),
+                SubjectExpiryWakeUps.getBucketJournalTag(Instant.parse("2026-01-01T10:30:00Z")),
+                SubjectExpiryWakeUps.getBucketJournalTag(Instant.parse("2026-01-01T12:30:00Z")));
+    }
+
+    @Test
+    public void subjectWithAnnouncementIsTaggedWithBucketOfItsExpiry() {
+        final Policy policy = createPolicy(createSubject("a", EXPIRY, Duration.ofDays(1L), null));
+
+        softly.assertThat(underTest.getNextWakeUp(policy)).contains(Instant.parse("2025-12-31T12:29:00Z"));
+        softly.assertThat(underTest.getJournalTags(policy)).containsExactly(SubjectExpiryWakeUps.JOURNAL_TAG,
+                SubjectExpiryWakeUps.getBucketJournalTag(Instant.parse("2025-12-31T12:20:00Z")),
+                SubjectExpiryWakeUps.getBucketJournalTag(Instant.parse("2026-01-01T12:30:00Z")));
+    }
+
+    @Test
+    public void policyIsDueWithinTwoBuckets() {
+        final Policy policy = createPolicy(createSubject("a", EXPIRY, null, null));
+
+        softly.assertThat(underTest.isDue(policy, EXPIRY.minus(Duration.ofMinutes(21L)))).isFalse();
+        softly.assertThat(underTest.isDue(policy, EXPIRY.minus(Duration.ofMinutes(20L)))).isTrue();
+        softly.assertThat(underTest.isDue(policy, EXPIRY.plus(Duration.ofMinutes(1L)))).isTrue();
+    }
+
+    @Test
+    public void bucketStartIsAlignedToBucketDuration() {
+        softly.assertThat(underTest.getBucketStart(Instant.parse("2026-01-01T12:39:59.999Z")))
+                .isEqualTo(Instant.parse("2026-01-01T12:30:00Z"));
+        softly.assertThat(underTest.getBucketStart(Instant.parse("2026-01-01T12:40:00Z")))
+                .isEqualTo(Instant.parse("2026-01-01T12:40:00Z"));
+    }
+
+    private static Policy createPolicy(final Subject... subjects) {
+        final var builder = PoliciesModelFactory.newPolicyBuilder(PolicyId.of("policy:id")).forLabel("label");
+        for (final Subject subject : subjects) {
+            builder.setSubject(subject);
+        }
+        return builder.setGrantedPermissions("policy", JsonPointer.empty(), "READ").build();
+    }
+
+    private static Subject createSubject(final String name,
+            final Instant expiry,
+            @Nullable final Duration beforeExpiry,
+            @Nullable final Duration randomizationInterval) {
+
+        return Subject.newInstance(SubjectId.newInstance("issuer:" + name),
+                SubjectType.UNKNOWN,
+                PoliciesModelFactory.newSubjectExpiry(expiry),
+                SubjectAnnouncement.of(beforeExpiry != null ? DittoDuration.of(beforeExpiry) : null, false, List.of(),
+                        null, randomizationInterval != null ? DittoDuration.of(randomizationInterval) : null));
+    }
+
+}
@@ -0,0 +1,302 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.things.model;
+
+import static org.eclipse.ditto.base.model.common.ConditionChecker.checkNotNull;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.base.model.json.FieldType;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonKey;
+import org.eclipse.ditto.json.JsonMergePatch;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+
+/**
+ * A JSON merge patch according to <a href="https://datatracker.ietf.org/doc/html/rfc7386">RFC 7386</a> which is
+ * applied on a {@link Thing}.
+ * <p>
+ * The result is the same as applying a {@link JsonMergePatch} on the JSON representation of the thing and parsing the
+ * merged JSON again. However, patches of the attributes and of the features are applied structurally: only the
+ * attributes, the affected features or their (desired) properties are merged as JSON, all other parts of the thing are
+ * reused as they are. Patches which can't be applied structurally, e.g. patches of other top level fields or patches
+ * containing regex keys on feature level, are applied on the JSON representation of the whole thing.
+ * </p>
+ *
+ * @since 3.8.0
+ */
+@Immutable
+public final class ThingMergePatch {
+
+    private static final JsonKey ATTRIBUTES = getKey(Thing.JsonFields.ATTRIBUTES.getPointer());
+    private static final JsonKey FEATURES = getKey(Thing.JsonFields.FEATURES.getPointer());
+    private static final JsonKey PROPERTIES = getKey(Feature.JsonFields.PROPERTIES.getPointer());
+    private static final JsonKey DESIRED_PROPERTIES = getKey(Feature.JsonFields.DESIRED_PROPERTIES.getPointer());
+    private static final String REGEX_KEY_PREFIX = "{{";
+
+    private final JsonObject mergePatch;
+
+    private ThingMergePatch(final JsonObject mergePatch) {
+        this.mergePatch = mergePatch;
+    }
+
+    /**
+     * Creates a {@code ThingMergePatch} containing the given {@code value} at the given {@code path} of the thing.
+     *
+     * @param path the path on which the given {@code value} should be merged.
+     * @param value the actual patch.
+     * @return the merge patch.
+     * @throws NullPointerException if any argument is {@code null}.
+     * @throws IllegalArgumentException if {@code path} is empty and {@code value} is no JSON object.
+     */
+    public static ThingMergePatch of(final JsonPointer path, final JsonValue value) {
+        checkNotNull(path, "path");
+        checkNotNull(value, "value");
+        return new ThingMergePatch(JsonFactory.newObject(path, value));
+    }
+
+    /**
+     * Applies this merge patch on the given thing.
+     *
+     * @param thing the thing that should be patched.
+     * @return a builder initialised with the patched thing.
+     * @throws NullPointerException if {@code thing} is {@code null}.
+     * @throws org.eclipse.ditto.base.model.exceptions.DittoRuntimeException if the patched thing is invalid.
+     */
+    public ThingBuilder.FromCopy applyOn(final Thing thing) {
+        checkNotNull(thing, "thing");
+        @Nullable Thing mergedThing;
+        try {
+            mergedThing = mergeStructurally(thing);
+        } catch (final RuntimeException e) {
+            // let the JSON merge of the whole thing determine the error
+            mergedThing = null;
+        }
+        if (null != mergedThing) {
+            return mergedThing.toBuilder();
+        } else {
+            final JsonObject mergedJson = JsonMergePatch.of(mergePatch)
+                    .applyOn(thing.toJson(FieldType.all()))
+                    .asObject();
+            return ThingsModelFactory.newThingBuilder(mergedJson);
+        }
+    }
+
+    /**
+     * @return the merge patch as JSON object starting at the root of the thing.
+     */
+    public JsonObject asJsonObject() {
+        return mergePatch;
+    }
+
+    @Nullable
+    private Thing mergeStructurally(final Thing thing) {
+        if (mergePatch.isNull()) {
+            return null;
+        }
+        @Nullable Thing result = thing;
+        for (final JsonField field : mergePatch) {
+            final JsonKey key = field.getKey();
+            if (ATTRIBUTES.equals(key)) {
+                result = mergeAttributes(result, field.getValue());
+            } else if (FEATURES.equals(key)) {
+                result = mergeFeatures(result, field.getValue());
+            } else {
+                result = null;
+            }
+            if (null == result) {
+                return null;
+            }
+        }
+        return result;
+    }
+
+    @Nullable
+    private static Thing mergeAttributes(final Thing thing, final JsonValue patch) {
+        @Nullable final Attributes attributes = thing.getAttributes().orElse(null);
+        if (null != attributes && attributes.isNull()) {
+            return null;
+        }
+        final Optional<JsonValue> merged = mergeJsonValue(attributes, patch);
+        if (!merged.isPresent()) {
+            return thing.removeAttributes();
+        } else if (isNonNullObject(merged.get())) {
+            return thing.setAttributes(ThingsModelFactory.newAttributes(merged.get().asObject()));
+        } else {
+            return null;
+        }
+    }
+
+    @Nullable
+    private static Thing mergeFeatures(final Thing thing, final JsonValue patch) {
+        if (patch.isNull()) {
+            return thing.removeFeatures();
+        } else if (!patch.isObject()) {
+            return null;
+        }
+        @Nullable final Features features = thing.getFeatures().orElse(null);
+        if (null == features) {
+            return thing.setFeatures(ThingsModelFactory.newFeatures(withoutNullFields(patch.asObject())));
+        } else if (features.isNull()) {
+            return null;
+        }
+        Thing result = thing;
+        for (final JsonField featurePatch : patch.asObject()) {
+            final String featureId = featurePatch.getKeyName();
+            final JsonValue featurePatchValue = featurePatch.getValue();
+            if (featureId.startsWith(REGEX_KEY_PREFIX)) {
+                return null;
+            } else if (featurePatchValue.isNull()) {
+                result = result.removeFeature(featureId);
+            } else if (featurePatchValue.isObject()) {
+                @Nullable final Feature mergedFeature = result.getFeatures()
+                        .flatMap(existingFeatures -> existingFeatures.getFeature(featureId))
+                        .map(feature -> mergeFeature(feature, featurePatchValue.asObject()))
+                        .orElseGet(() -> ThingsModelFactory.newFeatureBuilder(
+                                        withoutNullFields(featurePatchValue.asObject()))
+                                .useId(featureId)
+                                .build());
+                if (null == mergedFeature) {
+                    return null;
+                }
+                result = result.setFeature(mergedFeature);
+            } else {
+                return null;
+            }
+        }
+        return result;
+    }
+
+    @Nullable
+    private static Feature mergeFeature(final Feature feature, final JsonObject patch) {
+        if (feature instanceof NullFeature) {
+            return null;
+        }
+        final boolean onlyPropertiesPatched = patch.getKeys()
+                .stream()
+                .allMatch(key -> PROPERTIES.equals(key) || DESIRED_PROPERTIES.equals(key));
+        if (!onlyPropertiesPatched) {
+            return mergeFeatureJson(feature, patch);
+        }
+        @Nullable Feature result = feature;
+        for (final JsonField field : patch) {
+            if (PROPERTIES.equals(field.getKey())) {
+                result = mergeProperties(result, field.getValue(), Feature::getProperties, Feature::setProperties,
+                        Feature::removeProperties);
+            } else {
+                result = mergeProperties(result, field.getValue(), Feature::getDesiredProperties,
+                        Feature::setDesiredProperties, Feature::removeDesiredProperties);
+            }
+            if (null == result) {
+                return mergeFeatureJson(feature, patch);
+            }
+        }
+        return result;
+    }
+
+    @Nullable
+    private static Feature mergeProperties(final Feature feature, final JsonValue patch,
+            final Function<Feature, Optional<FeatureProperties>> getter,
+            final BiFunction<Feature, FeatureProperties, Feature> setter,
+            final Function<Feature, Feature> remover) {
+
+        @Nullable final FeatureProperties properties = getter.apply(feature).orElse(null);
+        if (null != properties && properties.isNull()) {
+            return null;
+        }
+        final Optional<JsonValue> merged = mergeJsonValue(properties, patch);
+        if (!merged.isPresent()) {
+            return remover.apply(feature);
+        } else if (isNonNullObject(merged.get())) {
+            return setter.apply(feature, ThingsModelFactory.newFeatureProperties(merged.get().asObject()));
+        } else {
+            return null;
+        }
+    }
+
+    @Nullable
+    private static Feature mergeFeatureJson(final Feature feature, final JsonObject patch) {
+        final JsonValue merged = JsonMergePatch.of(patch).applyOn(feature.toJson(FieldType.all()));
+        if (isNonNullObject(merged)) {
+            return ThingsModelFactory.newFeatureBuilder(merged.asObject()).useId(feature.getId()).build();
+        } else {
+            return null;
+        }
+    }
+
+    /**
+     * Merges the patch into an optional JSON value in the same way {@link JsonMergePatch} merges the value of a
+     * field of a JSON object.
+     *
+     * @return the merged value or an empty Optional if the field is to be removed.
+     */
+    private static Optional<JsonValue> mergeJsonValue(@Nullable final JsonValue existingValue,
+            final JsonValue patch) {
+
+        @Nullable final JsonValue result;
+        if (patch.isNull()) {
+            result = null;
+        } else if (null == existingValue) {
+            result = patch.isObject() ? withoutNullFields(patch.asObject()) : patch;
+        } else {
+            result = JsonMergePatch.of(patch).applyOn(existingValue);
+        }
+        return Optional.ofNullable(result);
+    }
+
+    private static JsonObject withoutNullFields(final JsonObject jsonObject) {
+        return jsonObject.filter(field -> !field.getValue().isNull());
+    }
+
+    private static boolean isNonNullObject(final JsonValue jsonValue) {
+        return jsonValue.isObject() && !jsonValue.isNull();
+    }
+
+    private static JsonKey getKey(final JsonPointer pointer) {
+        return pointer.getRoot().orElseThrow(IllegalStateException::new);
+    }
+
+    @Override
+    public boolean equals(@Nullable final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final ThingMergePatch that = (ThingMergePatch) o;
+        return Objects.equals(mergePatch, that.mergePatch);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(mergePatch);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "mergePatch=" + mergePatch +
+                "]";
+    }
+
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.things.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import java.util.stream.Stream;
+
+import org.eclipse.ditto.base.model.json.FieldType;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonMergePatch;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+
+/**
+ * Unit test for {@link ThingMergePatch} which ensures that the structural merge yields the same thing as the JSON
+ * merge of the whole thing.
+ */
+public final class ThingMergePatchTest {
+
+    private static final Thing THING = ThingsModelFactory.newThing("{" +
+            "\"thingId\": \"org.eclipse.ditto:merge\"," +
+            "\"policyId\": \"org.eclipse.ditto:merge\"," +
+            "\"definition\": \"org.eclipse.ditto:model:1.0.0\"," +
+            "\"attributes\": {\"manufacturer\": \"ACME\", \"location\": {\"lat\": 1.0, \"lon\": 2.0}}," +
+            "\"features\": {" +
+            "\"lamp\": {" +
+            "\"definition\": [\"org.eclipse.ditto:lamp:1.0.0\"]," +
+            "\"properties\": {\"on\": false, \"color\": {\"r\": 0, \"g\": 0, \"b\": 0}}," +
+            "\"desiredProperties\": {\"on\": true}" +
+            "}," +
+            "\"sensor\": {\"properties\": {\"temperature\": 21.5, \"humidity\": 40}}," +
+            "\"empty\": {}" +
+            "}," +
+            "\"_revision\": 42," +
+            "\"_modified\": \"2026-01-01T00:00:00Z\"" +
+            "}");
+
+    private static final Thing THING_WITHOUT_ATTRIBUTES_AND_FEATURES = THING.toBuilder()
+            .removeAllAttributes()
+            .removeAllFeatures()
+            .build();
+
+    static Stream<Arguments> patches() {
+        return Stream.of(
+                Arguments.of("/", "{\"attributes\": {\"manufacturer\": \"Foo\"}}"),
+                Arguments.of("/",
+                        "{\"attributes\": {\"manufacturer\": null, \"serial\": 1}, \"features\": {\"lamp\": null}}"),
+                Arguments.of("/", "{\"policyId\": \"org.eclipse.ditto:other\", \"attributes\": {\"x\": 1}}"),
+                Arguments.of("/", "{\"definition\": null}"),
+                Arguments.of("/", "{\"{{ ~.*~ }}\": null}"),
+                Arguments.of("/attributes", "{\"location\": {\"lat\": null, \"alt\": 3}}"),
+                Arguments.of("/attributes", "{\"location\": null}"),
+                Arguments.of("/attributes", "null"),
+                Arguments.of("/attributes", "{}"),
+                Arguments.of("/attributes", "{\"new\": {\"a\": null, \"b\": {\"c\": null}}}"),
+                Arguments.of("/attributes", "{\"{{ ~loc.*~ }}\": null}"),
+                Arguments.of("/attributes/location/lat", "5"),
+                Arguments.of("/attributes/location/lat", "null"),
+                Arguments.of("/attributes/location", "\"nowhere\""),
+                Arguments.of("/attributes/unknown/deep", "{\"x\": null, \"y\": 1}"),
+                Arguments.of("/features", "{\"sensor\": {\"properties\": {\"temperature\": 22}}}"),
+                Arguments.of("/features", "{\"sensor\": null, \"new\": {\"properties\": {\"a\": 1, \"b\": null}}}"),
+                Arguments.of("/features", "{\"{{ ~s.*~ }}\": null}"),
+                Arguments.of("/features", "null"),
+                Arguments.of("/features", "{}"),
+                Arguments.of("/features/lamp", "{\"definition\": null}"),
+                Arguments.of("/features/lamp",
+                        "{\"definition\": [\"org.eclipse.ditto:lamp:2.0.0\"], \"properties\": {}}"),
+                Arguments.of("/features/lamp",
+                        "{\"properties\": {\"color\": {\"r\": 255}}, \"desiredProperties\": null}"),
+                Arguments.of("/features/lamp", "{\"properties\": {\"{{ ~col.*~ }}\": null}}"),
+                Arguments.of("/features/lamp", "{\"{{ ~prop.*~ }}\": null}"),
+                Arguments.of("/features/lamp", "null"),
+                Arguments.of("/features/lamp/properties", "{\"on\": true, \"color\": null}"),
+                Arguments.of("/features/lamp/properties", "null"),
+                Arguments.of("/features/lamp/properties/color/g", "128"),
+                Arguments.of("/features/lamp/desiredProperties/on", "null"),
+                Arguments.of("/features/empty/properties", "{\"a\": {\"b\": null}}"),
+                Arguments.of("/features/empty/desiredProperties/a", "1"),
+                Arguments.of("/features/missing", "{\"properties\": {\"a\": null, \"b\": 2}}"),
+                Arguments.of("/features/missing/properties/a", "1"),
+                Arguments.of("/features/missing", "null")
+        );
+    }
+
+    @ParameterizedTest(name = "{0} <- {1}")
+    @MethodSource("patches")
+    public void mergeYieldsSameThingAsJsonMergeOfWholeThing(final String path, final String value) {
+        assertMergeYieldsSameThingAsJsonMerge(THING, path, value);
+    }
+
+    @ParameterizedTest(name = "{0} <- {1}")
+    @MethodSource("patches")
+    public void mergeIntoThingWithoutAttributesAndFeaturesYieldsSameThingAsJsonMergeOfWholeThing(final String path,
+            final String value) {
+
+        assertMergeYieldsSameThingAsJsonMerge(THING_WITHOUT_ATTRIBUTES_AND_FEATURES, path, value);
+    }
+
+    @Test
+    public void unaffectedFeaturesAreReused() {
+        final Thing merged = ThingMergePatch.of(JsonPointer.of("/features/lamp/properties/on"), JsonValue.of(true))
+                .applyOn(THING)
+                .build();
+
+        assertThat(merged.getFeatures().flatMap(features -> features.getFeature("sensor")))
+                .containsSame(THING.getFeatures().flatMap(features -> features.getFeature("sensor")).get());
+    }
+
+    @Test
+    public void invalidMergeFailsLikeJsonMergeOfWholeThing() {
+        final JsonPointer path = JsonPointer.of("/features/lamp");
+        final JsonValue value = JsonValue.of(5);
+        final Throwable expected = catchThrowable(() -> mergeJson(THING, path, value));
+
+        assertThat(expected).isNotNull();
+        assertThatExceptionOfType(expected.getClass())
+                .isThrownBy(() -> ThingMergePatch.of(path, value).applyOn(THING).build());
+    }
+
+    @Test
+    public void testHashCodeAndEquals() {
+        EqualsVerifier.forClass(ThingMergePatch.class)
+                .usingGetClass()
+                .verify();
+    }
+
+    private static void assertMergeYieldsSameThingAsJsonMerge(final Thing thing, final String path,
+            final String value) {
+
+        final JsonPointer jsonPointer = JsonPointer.of(path);
+        final JsonValue jsonValue = JsonFactory.readFrom(value);
+
+        final Thing expected = mergeJson(thing, jsonPointer, jsonValue);
+        final Thing actual = ThingMergePatch.of(jsonPointer, jsonValue).applyOn(thing).build();
+
+        assertThat(actual).isEqualTo(expected);
+        assertThat(actual.toJson(FieldType.all())).isEqualTo(expected.toJson(FieldType.all()));
+    }
+
+    private static Thing mergeJson(final Thing thing, final JsonPointer path, final JsonValue value) {
+        final JsonObject mergedJson =
+                JsonMergePatch.of(path, value).applyOn(thing.toJson(FieldType.all())).asObject();
+        return ThingsModelFactory.newThingBuilder(mergedJson).build();
+    }
+
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.things.model.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ditto.base.model.json.FieldType;
+import org.eclipse.ditto.json.JsonMergePatch;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.things.model.FeaturePropertiesBuilder;
+import org.eclipse.ditto.things.model.Thing;
+import org.eclipse.ditto.things.model.ThingBuilder;
+import org.eclipse.ditto.things.model.ThingId;
+import org.eclipse.ditto.things.model.ThingMergePatch;
+import org.eclipse.ditto.things.model.ThingsModelFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares merging a patch into a thing via the JSON representation of the whole thing with the structural merge of
+ * {@link ThingMergePatch} for different thing and patch sizes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ThingMergePatchBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 5;
+    private static final int MEASUREMENT_ITERATIONS = 10;
+    private static final int WARMUP_TIME = 1000;
+    private static final int MEASUREMENT_TIME = 1000;
+    private static final int PROPERTIES_PER_FEATURE = 20;
+    private static final JsonPointer PATCH_PATH = JsonPointer.of("/features/feature-0/properties");
+
+    /**
+     * The number of features of the thing, each containing {@value #PROPERTIES_PER_FEATURE} properties.
+     */
+    @Param({"10", "100", "1000"})
+    public int features;
+
+    /**
+     * The number of properties contained in the patch.
+     */
+    @Param({"1", "10", "100"})
+    public int patchedProperties;
+
+    private Thing thing;
+    private JsonObject patch;
+
+    @Setup
+    public void setUp() {
+        final ThingBuilder.FromScratch thingBuilder = ThingsModelFactory.newThingBuilder()
+                .setId(ThingId.of("org.eclipse.ditto", "benchmark"));
+        for (int i = 0; i < features; i++) {
+            final FeaturePropertiesBuilder propertiesBuilder = ThingsModelFactory.newFeaturePropertiesBuilder();
+            for (int j = 0; j < PROPERTIES_PER_FEATURE; j++) {
+                propertiesBuilder.set("property-" + j, "value of property " + j + " of feature " + i);
+            }
+            thingBuilder.setFeature("feature-" + i, propertiesBuilder.build());
+        }
+        thing = thingBuilder.setRevision(1L).build();
+
+        final JsonObjectBuilder patchBuilder = JsonObject.newBuilder();
+        for (int j = 0; j < patchedProperties; j++) {
+            patchBuilder.set("property-" + j, j);
+        }
+        patch = patchBuilder.build();
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public Thing mergeJsonOfWholeThing() {
+        final JsonObject mergedJson = JsonMergePatch.of(PATCH_PATH, patch)
+                .applyOn(thing.toJson(FieldType.all()))
+                .asObject();
+        return ThingsModelFactory.newThingBuilder(mergedJson).setRevision(2L).build();
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public Thing mergeStructurally() {
+        return ThingMergePatch.of(PATCH_PATH, patch).applyOn(thing).setRevision(2L).build();
+    }
+
+}
@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.things.service.aggregation;
+
+import static org.eclipse.ditto.base.model.common.ConditionChecker.checkNotNull;
+
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.eclipse.ditto.base.model.auth.AuthorizationContext;
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.base.model.json.JsonSchemaVersion;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonFieldSelector;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.policies.api.Permission;
+import org.eclipse.ditto.policies.enforcement.PolicyEnforcer;
+import org.eclipse.ditto.policies.enforcement.PolicyEnforcerProvider;
+import org.eclipse.ditto.policies.model.Permissions;
+import org.eclipse.ditto.policies.model.PoliciesResourceType;
+import org.eclipse.ditto.policies.model.PolicyId;
+import org.eclipse.ditto.policies.model.ResourceKey;
+import org.eclipse.ditto.policies.model.enforcers.Enforcer;
+import org.eclipse.ditto.things.api.commands.sudo.SudoRetrieveThingResponse;
+import org.eclipse.ditto.things.model.Thing;
+import org.eclipse.ditto.things.model.ThingId;
+import org.eclipse.ditto.things.model.ThingsModelFactory;
+import org.eclipse.ditto.things.model.signals.commands.query.RetrieveThingResponse;
+
+/**
+ * Enforces the things of one batched {@code RetrieveThings} request which were retrieved via
+ * {@code SudoRetrieveThing} without enforcement.
+ * The {@link PolicyEnforcer} of each distinct policy is looked up only once per batch, regardless of how many of the
+ * requested things share that policy.
+ */
+@ThreadSafe
+final class BatchedThingsEnforcement {
+
+    /**
+     * Json fields that are always shown regardless of authorization.
+     */
+    private static final JsonFieldSelector ALLOWLIST = JsonFactory.newFieldSelector(Thing.JsonFields.ID);
+
+    private static final ResourceKey THING_ROOT_RESOURCE = PoliciesResourceType.thingResource(JsonPointer.empty());
+
+    private final PolicyEnforcerProvider policyEnforcerProvider;
+    @Nullable private final JsonFieldSelector selectedFields;
+    private final DittoHeaders dittoHeaders;
+    private final AuthorizationContext authorizationContext;
+    private final JsonSchemaVersion schemaVersion;
+    private final Map<PolicyId, CompletionStage<Optional<PolicyEnforcer>>> policyEnforcers;
+
+    private BatchedThingsEnforcement(final PolicyEnforcerProvider policyEnforcerProvider,
+            @Nullable final JsonFieldSelector selectedFields,
+            final DittoHeaders dittoHeaders) {
+
+        this.policyEnforcerProvider = policyEnforcerProvider;
+        this.selectedFields = selectedFields;
+        this.dittoHeaders = dittoHeaders;
+        authorizationContext = dittoHeaders.getAuthorizationContext();
+        schemaVersion = dittoHeaders.getSchemaVersion().orElse(JsonSchemaVersion.LATEST);
+        policyEnforcers = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Returns a new instance for enforcing the things of one batched retrieve.
+     *
+     * @param policyEnforcerProvider provides the policy enforcers of the retrieved things.
+     * @param selectedFields the fields selected by the original {@code RetrieveThings} command or {@code null}.
+     * @param dittoHeaders the headers of the original {@code RetrieveThings} command.
+     * @return the instance.
+     * @throws NullPointerException if {@code policyEnforcerProvider} or {@code dittoHeaders} is {@code null}.
+     */
+    static BatchedThingsEnforcement of(final PolicyEnforcerProvider policyEnforcerProvider,
+            @Nullable final JsonFieldSelector selectedFields,
+            final DittoHeaders dittoHeaders) {
+
+        return new BatchedThingsEnforcement(checkNotNull(policyEnforcerProvider, "policyEnforcerProvider"),
+                selectedFields, checkNotNull(dittoHeaders, "dittoHeaders"));
+    }
+
+    /**
+     * Returns the field selector to use for retrieving the things without enforcement.
+     * It additionally contains the fields required for enforcing the retrieved things.
+     *
+     * @return the field selector or an empty Optional if all fields are to be retrieved.
+     */
+    Optional<JsonFieldSelector> getSudoSelectedFields() {
+        if (null == selectedFields) {
+            return Optional.empty();
+        }
+        final Set<JsonPointer> pointers = new LinkedHashSet<>(selectedFields.getPointers());
+        pointers.add(Thing.JsonFields.ID.getPointer());
+        pointers.add(Thing.JsonFields.POLICY_ID.getPointer());
+        return Optional.of(JsonFactory.newFieldSelector(pointers));
+    }
+
+    /**
+     * Enforces the thing contained in the passed sudo response on behalf of the requester.
+     *
+     * @param sudoResponse the response containing the unfiltered thing.
+     * @return a CompletionStage of the filtered response or of an empty Optional if the thing is not visible to the
+     * requester.
+     */
+    CompletionStage<Optional<RetrieveThingResponse>> enforce(final SudoRetrieveThingResponse sudoResponse) {
+        final Thing thing = sudoResponse.getThing();
+        final Optional<ThingId> thingId = thing.getEntityId();
+        final Optional<PolicyId> policyId = thing.getPolicyId();
+        if (thingId.isEmpty() || policyId.isEmpty()) {
+            return CompletableFuture.completedFuture(Optional.empty());
+        }
+        return getPolicyEnforcer(policyId.get())
+                .thenApply(policyEnforcer -> policyEnforcer.map(PolicyEnforcer::getEnforcer)
+                        .flatMap(enforcer -> buildResponse(thingId.get(), thing, sudoResponse.getEntity().asObject(),
+                                enforcer)));
+    }
+
+    /**
+     * Returns the number of distinct policies for which a policy enforcer was looked up.
+     *
+     * @return the number of policy enforcer lookups.
+     */
+    int getPolicyEnforcerLookups() {
+        return policyEnforcers.size();
+    }
+
+    private CompletionStage<Optional<PolicyEnforcer>> getPolicyEnforcer(final PolicyId policyId) {
+        return policyEnforcers.computeIfAbsent(policyId, policyEnforcerProvider::getPolicyEnforcer);
+    }
+
+    private Optional<RetrieveThingResponse> buildResponse(final ThingId thingId,
+            final Thing thing,
+            final JsonObject sudoThingJson,
+            final Enforcer enforcer) {
+
+        if (!enforcer.hasPartialPermissions(THING_ROOT_RESOURCE, authorizationContext, Permission.READ)) {
+            return Optional.empty();
+        }
+        final JsonObject thingJson;
+        final JsonFieldSelector expandedSelectedFields;
+        if (null != selectedFields) {
+            thingJson = sudoThingJson;
+            expandedSelectedFields = ThingsModelFactory.expandFeatureIdWildcards(
+                    thing.getFeatures().orElse(ThingsModelFactory.emptyFeatures()), selectedFields);
+        } else {
+            thingJson = thing.toJson(schemaVersion);
+            expandedSelectedFields = null;
+        }
+        final JsonObject view = enforcer.buildJsonView(THING_ROOT_RESOURCE, thingJson, authorizationContext,
+                ALLOWLIST, Permissions.newInstance(Permission.READ));
+        final JsonObject projectedView = null != expandedSelectedFields ? view.get(expandedSelectedFields) : view;
+        return Optional.of(RetrieveThingResponse.of(thingId, projectedView, dittoHeaders));
+    }
+
+}
@@ -32,11 +32,16 @@ public final class DefaultThingsAggregatorConfig implements ThingsAggregatorConf
 
     private final Duration singleRetrieveThingTimeout;
     private final int maxParallelism;
+    private final boolean batchRetrieveEnabled;
+    private final Duration batchRetrieveShardLocationsMaxAge;
 
     private DefaultThingsAggregatorConfig(final ScopedConfig config) {
         singleRetrieveThingTimeout =
                 config.getNonNegativeAndNonZeroDurationOrThrow(ThingsAggregatorConfigValue.SINGLE_RETRIEVE_THING_TIMEOUT);
         maxParallelism = config.getPositiveIntOrThrow(ThingsAggregatorConfigValue.MAX_PARALLELISM);
+        batchRetrieveEnabled = config.getBoolean(ThingsAggregatorConfigValue.BATCH_RETRIEVE_ENABLED.getConfigPath());
+        batchRetrieveShardLocationsMaxAge = config.getNonNegativeDurationOrThrow(
+                ThingsAggregatorConfigValue.BATCH_RETRIEVE_SHARD_LOCATIONS_MAX_AGE);
     }
 
     /**
@@ -61,6 +66,16 @@ public final class DefaultThingsAggregatorConfig implements ThingsAggregatorConf
         return maxParallelism;
     }
 
+    @Override
+    public boolean isBatchRetrieveEnabled() {
+        return batchRetrieveEnabled;
+    }
+
+    @Override
+    public Duration getBatchRetrieveShardLocationsMaxAge() {
+        return batchRetrieveShardLocationsMaxAge;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
@@ -71,12 +86,15 @@ public final class DefaultThingsAggregatorConfig implements ThingsAggregatorConf
         }
         final DefaultThingsAggregatorConfig that = (DefaultThingsAggregatorConfig) o;
         return maxParallelism == that.maxParallelism &&
-                Objects.equals(singleRetrieveThingTimeout, that.singleRetrieveThingTimeout);
+                batchRetrieveEnabled == that.batchRetrieveEnabled &&
+                Objects.equals(singleRetrieveThingTimeout, that.singleRetrieveThingTimeout) &&
+                Objects.equals(batchRetrieveShardLocationsMaxAge, that.batchRetrieveShardLocationsMaxAge);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(singleRetrieveThingTimeout, maxParallelism);
+        return Objects.hash(singleRetrieveThingTimeout, maxParallelism, batchRetrieveEnabled,
+                batchRetrieveShardLocationsMaxAge);
     }
 
     @Override
@@ -84,6 +102,8 @@ public final class DefaultThingsAggregatorConfig implements ThingsAggregatorConf
         return getClass().getSimpleName() + " [" +
                 "singleRetrieveThingTimeout=" + singleRetrieveThingTimeout +
                 ", maxParallelism=" + maxParallelism +
+                ", batchRetrieveEnabled=" + batchRetrieveEnabled +
+                ", batchRetrieveShardLocationsMaxAge=" + batchRetrieveShardLocationsMaxAge +
                 "]";
     }
 
@@ -13,45 +13,73 @@
 package org.eclipse.ditto.things.service.aggregation;
 
 import static org.eclipse.ditto.things.api.ThingsMessagingConstants.THINGS_AGGREGATOR_ACTOR_NAME;
+import static org.eclipse.ditto.things.api.ThingsMessagingConstants.THINGS_AGGREGATOR_ACTOR_PATH;
 
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.TimeUnit;
 
 import javax.annotation.Nullable;
 
 import org.eclipse.ditto.base.model.headers.DittoHeaders;
 import org.eclipse.ditto.base.model.json.Jsonifiable;
+import org.eclipse.ditto.base.model.signals.Signal;
 import org.eclipse.ditto.base.model.signals.SignalWithEntityId;
 import org.eclipse.ditto.base.model.signals.commands.Command;
 import org.eclipse.ditto.internal.utils.pekko.actors.AbstractActorWithShutdownBehavior;
 import org.eclipse.ditto.internal.utils.pekko.logging.DittoLoggerFactory;
 import org.eclipse.ditto.internal.utils.pekko.logging.ThreadSafeDittoLoggingAdapter;
 import org.eclipse.ditto.internal.utils.cluster.DistPubSubAccess;
+import org.eclipse.ditto.internal.utils.cluster.ShardNumberCalculator;
+import org.eclipse.ditto.internal.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.internal.utils.metrics.instruments.timer.StartedTimer;
 import org.eclipse.ditto.json.JsonFieldSelector;
+import org.eclipse.ditto.policies.enforcement.PolicyEnforcerProvider;
+import org.eclipse.ditto.policies.model.Policy;
 import org.eclipse.ditto.things.api.commands.sudo.SudoRetrieveThing;
+import org.eclipse.ditto.things.api.commands.sudo.SudoRetrieveThingResponse;
 import org.eclipse.ditto.things.api.commands.sudo.SudoRetrieveThings;
 import org.eclipse.ditto.things.model.ThingId;
 import org.eclipse.ditto.things.model.signals.commands.query.RetrieveThing;
 import org.eclipse.ditto.things.model.signals.commands.query.RetrieveThings;
 
 import org.apache.pekko.Done;
+import org.apache.pekko.NotUsed;
 import org.apache.pekko.actor.ActorRef;
+import org.apache.pekko.actor.Address;
 import org.apache.pekko.actor.CoordinatedShutdown;
 import org.apache.pekko.actor.Props;
+import org.apache.pekko.cluster.Cluster;
 import org.apache.pekko.cluster.pubsub.DistributedPubSub;
+import org.apache.pekko.cluster.sharding.ShardRegion;
 import org.apache.pekko.japi.pf.ReceiveBuilder;
 import org.apache.pekko.pattern.Patterns;
+import org.apache.pekko.stream.Materializer;
 import org.apache.pekko.stream.SourceRef;
 import org.apache.pekko.stream.SystemMaterializer;
 import org.apache.pekko.stream.javadsl.Source;
 import org.apache.pekko.stream.javadsl.StreamRefs;
 import org.apache.pekko.util.Timeout;
 
+import scala.concurrent.duration.FiniteDuration;
+
 /**
  * Actor to aggregate the retrieved Things from persistence.
+ * <p>
+ * If the batched retrieve is enabled, {@link RetrieveThings} commands are served by grouping the requested things by
+ * the cluster member hosting their shard and sending one {@link SudoRetrieveThings} per member to the aggregator actor
+ * running on that member, so that each member retrieves its things from its local persistence actors.
+ * The retrieved things are then enforced with one policy enforcer lookup per distinct policy.
+ * </p>
  */
 public final class ThingsAggregatorActor extends AbstractActorWithShutdownBehavior {
 
@@ -60,30 +88,56 @@ public final class ThingsAggregatorActor extends AbstractActorWithShutdownBehavi
      */
     public static final String ACTOR_NAME = THINGS_AGGREGATOR_ACTOR_NAME;
 
+    private static final String BATCH_RETRIEVE_TIMER = "things_aggregator_batch_retrieve";
+
     private final ThreadSafeDittoLoggingAdapter log = DittoLoggerFactory.getThreadSafeDittoLoggingAdapter(this);
     private final ActorRef targetActor;
     private final java.time.Duration retrieveSingleThingTimeout;
     private final int maxParallelism;
     private final ActorRef pubSubMediator;
+    private final PolicyEnforcerProvider policyEnforcerProvider;
+    private final ShardNumberCalculator shardNumberCalculator;
+    private final boolean batchRetrieveEnabled;
+    private final java.time.Duration shardLocationsMaxAge;
+    private final Address selfAddress;
+    private final Materializer materializer;
+
+    @Nullable private CompletionStage<Map<String, Address>> shardLocations;
+    private Instant shardLocationsRetrievedAt;
 
     @SuppressWarnings("unused")
     private ThingsAggregatorActor(final ActorRef targetActor, final ThingsAggregatorConfig aggregatorConfig,
-            final ActorRef pubSubMediator) {
+            final ActorRef pubSubMediator, final PolicyEnforcerProvider policyEnforcerProvider,
+            final int numberOfShards) {
         this.targetActor = targetActor;
         this.pubSubMediator = pubSubMediator;
+        this.policyEnforcerProvider = policyEnforcerProvider;
         retrieveSingleThingTimeout = aggregatorConfig.getSingleRetrieveThingTimeout();
         maxParallelism = aggregatorConfig.getMaxParallelism();
+        batchRetrieveEnabled = aggregatorConfig.isBatchRetrieveEnabled();
+        shardLocationsMaxAge = aggregatorConfig.getBatchRetrieveShardLocationsMaxAge();
+        shardNumberCalculator = ShardNumberCalculator.newInstance(numberOfShards);
+        selfAddress = Cluster.get(getContext().getSystem()).selfAddress();
+        materializer = SystemMaterializer.get(getContext().getSystem()).materializer();
+        shardLocations = null;
+        shardLocationsRetrievedAt = Instant.EPOCH;
     }
 
     /**
      * Creates Pekko configuration object Props for this ThingsAggregatorActor.
      *
      * @param targetActor the Actor selection to delegate "asks" for the aggregation to.
+     * @param aggregatorConfig the configuration of the things aggregation.
+     * @param pubSubMediator the pub/sub mediator.
+     * @param policyEnforcerProvider provides the policy enforcers used for enforcing batch retrieved things.
+     * @param numberOfShards the number of shards of the things shard region.
      * @return the Pekko configuration Props object
      */
     public static Props props(final ActorRef targetActor, final ThingsAggregatorConfig aggregatorConfig,
-            final ActorRef pubSubMediator) {
-        return Props.create(ThingsAggregatorActor.class, targetActor, aggregatorConfig, pubSubMediator);
+            final ActorRef pubSubMediator, final PolicyEnforcerProvider policyEnforcerProvider,
+            final int numberOfShards) {
+        return Props.create(ThingsAggregatorActor.class, targetActor, aggregatorConfig, pubSubMediator,
+                policyEnforcerProvider, numberOfShards);
     }
 
     @Override
@@ -161,8 +215,12 @@ public final class ThingsAggregatorActor extends AbstractActorWithShutdownBehavi
     }
 
     private void retrieveThings(final RetrieveThings retrieveThings, final ActorRef resultReceiver) {
-        final JsonFieldSelector selectedFields = retrieveThings.getSelectedFields().orElse(null);
-        retrieveThingsAndSendResult(retrieveThings.getEntityIds(), selectedFields, retrieveThings, resultReceiver);
+        if (isBatchRetrievable(retrieveThings)) {
+            batchRetrieveThingsAndSendResult(retrieveThings, resultReceiver);
+        } else {
+            final JsonFieldSelector selectedFields = retrieveThings.getSelectedFields().orElse(null);
+            retrieveThingsAndSendResult(retrieveThings.getEntityIds(), selectedFields, retrieveThings, resultReceiver);
+        }
     }
 
     private void retrieveThings(final SudoRetrieveThings sudoRetrieveThings, final ActorRef resultReceiver) {
@@ -175,9 +233,19 @@ public final class ThingsAggregatorActor extends AbstractActorWithShutdownBehavi
             @Nullable final JsonFieldSelector selectedFields,
             final Command<?> command, final ActorRef resultReceiver) {
 
+        final SourceRef<Jsonifiable> commandResponseSource = retrieveThingsSource(thingIds, selectedFields, command)
+                .runWith(StreamRefs.sourceRef(), materializer);
+
+        resultReceiver.tell(commandResponseSource, getSelf());
+    }
+
+    private Source<Jsonifiable, NotUsed> retrieveThingsSource(final Collection<ThingId> thingIds,
+            @Nullable final JsonFieldSelector selectedFields,
+            final Command<?> command) {
+
         final DittoHeaders dittoHeaders = command.getDittoHeaders();
 
-        final SourceRef<Jsonifiable> commandResponseSource = Source.from(thingIds)
+        return Source.from(thingIds)
                 .filter(Objects::nonNull)
                 .map(thingId -> {
                     final SignalWithEntityId<?> retrieveThing;
@@ -198,12 +266,157 @@ public final class ThingsAggregatorActor extends AbstractActorWithShutdownBehavi
                 })
                 .ask(calculateParallelism(thingIds), targetActor, Jsonifiable.class,
                         Timeout.apply(retrieveSingleThingTimeout.toMillis(), TimeUnit.MILLISECONDS))
-                .log("command-response", log)
-                .runWith(StreamRefs.sourceRef(), SystemMaterializer.get(getContext().getSystem()).materializer());
+                .log("command-response", log);
+    }
+
+    private boolean isBatchRetrievable(final RetrieveThings retrieveThings) {
+        final DittoHeaders dittoHeaders = retrieveThings.getDittoHeaders();
+        // conditional and live channel requests as well as requests for the inlined policy rely on the per-thing
+        // enforcement and enrichment of the things supervisor:
+        return batchRetrieveEnabled &&
+                !Signal.isChannelLive(retrieveThings) &&
+                dittoHeaders.getCondition().isEmpty() &&
+                dittoHeaders.getLiveChannelCondition().isEmpty() &&
+                !selectsInlinedPolicy(retrieveThings);
+    }
+
+    private static boolean selectsInlinedPolicy(final RetrieveThings retrieveThings) {
+        return retrieveThings.getSelectedFields()
+                .filter(selector -> selector.getPointers()
+                        .stream()
+                        .anyMatch(jsonPointer -> jsonPointer.getRoot()
+                                .filter(jsonKey -> Policy.INLINED_FIELD_NAME.equals(jsonKey.toString()))
+                                .isPresent()))
+                .isPresent();
+    }
+
+    private void batchRetrieveThingsAndSendResult(final RetrieveThings retrieveThings,
+            final ActorRef resultReceiver) {
+
+        final DittoHeaders dittoHeaders = retrieveThings.getDittoHeaders();
+        final List<ThingId> thingIds = retrieveThings.getEntityIds();
+        final BatchedThingsEnforcement enforcement = BatchedThingsEnforcement.of(policyEnforcerProvider,
+                retrieveThings.getSelectedFields().orElse(null), dittoHeaders);
+        final JsonFieldSelector sudoSelectedFields = enforcement.getSudoSelectedFields().orElse(null);
+        final StartedTimer timer = DittoMetrics.timer(BATCH_RETRIEVE_TIMER)
+                .tag("batch_size", getBatchSizeBucket(thingIds.size()))
+                .start();
+
+        final SourceRef<Jsonifiable> commandResponseSource = Source.completionStage(getShardLocations())
+                .mapConcat(locations -> groupByShardLocation(thingIds, locations).entrySet())
+                .flatMapMerge(maxParallelism, memberThingIds ->
+                        batchRetrieveFromMember(memberThingIds.getKey(), memberThingIds.getValue(),
+                                sudoSelectedFields, dittoHeaders))
+                .filter(SudoRetrieveThingResponse.class::isInstance)
+                .map(SudoRetrieveThingResponse.class::cast)
+                .mapAsyncUnordered(calculateParallelism(thingIds), enforcement::enforce)
+                .mapConcat(response -> response.<Jsonifiable>map(Jsonifiable.class::cast).stream().toList())
+                .watchTermination((notUsed, done) -> {
+                    done.whenComplete((d, error) -> {
+                        log.withCorrelationId(dittoHeaders)
+                                .debug("Batch retrieved <{}> things of <{}> distinct policies.",
+                                        thingIds.size(), enforcement.getPolicyEnforcerLookups());
+                        timer.tag("success", null == error).stop();
+                    });
+                    return notUsed;
+                })
+                .log("batch-command-response", log)
+                .runWith(StreamRefs.sourceRef(), materializer);
 
         resultReceiver.tell(commandResponseSource, getSelf());
     }
 
+    private Source<Jsonifiable, NotUsed> batchRetrieveFromMember(final Address member,
+            final List<ThingId> thingIds,
+            @Nullable final JsonFieldSelector sudoSelectedFields,
+            final DittoHeaders dittoHeaders) {
+
+        final SudoRetrieveThings sudoRetrieveThings =
+                SudoRetrieveThings.of(thingIds, sudoSelectedFields, dittoHeaders);
+        if (selfAddress.equals(member)) {
+            return retrieveThingsSource(thingIds, sudoSelectedFields, sudoRetrieveThings);
+        }
+
+        log.withCorrelationId(dittoHeaders)
+                .debug("Retrieving <{}> things from aggregator on member <{}>", thingIds.size(), member);
+        final CompletionStage<Source<Jsonifiable, NotUsed>> memberSource =
+                Patterns.ask(getContext().actorSelection(member + THINGS_AGGREGATOR_ACTOR_PATH), sudoRetrieveThings,
+                                retrieveSingleThingTimeout)
+                        .handle((response, error) -> {
+                            if (response instanceof SourceRef<?> sourceRef) {
+                                return sourceRef.getSource()
+                                        .<Jsonifiable>map(Jsonifiable.class::cast)
+                                        .mapMaterializedValue(any -> NotUsed.getInstance());
+                            } else {
+                                log.withCorrelationId(dittoHeaders)
+                                        .warning("Batch retrieve from member <{}> failed, retrieving its <{}> things " +
+                                                "via shard region instead: <{}>", member, thingIds.size(),
+                                                null != error ? error : response);
+                                return retrieveThingsSource(thingIds, sudoSelectedFields, sudoRetrieveThings);
+                            }
+                        });
+        return Source.completionStageSource(memberSource).mapMaterializedValue(any -> NotUsed.getInstance());
+    }
+
+    private Map<Address, List<ThingId>> groupByShardLocation(final Collection<ThingId> thingIds,
+            final Map<String, Address> locations) {
+
+        final Map<Address, List<ThingId>> thingIdsByMember = new LinkedHashMap<>();
+        thingIds.stream()
+                .filter(Objects::nonNull)
+                .forEach(thingId -> {
+                    final String shardId =
+                            String.valueOf(shardNumberCalculator.calculateShardNumber(thingId.toString()));
+                    // things of not yet allocated shards are retrieved via the local shard region:
+                    final Address member = locations.getOrDefault(shardId, selfAddress);
+                    thingIdsByMember.computeIfAbsent(member, m -> new ArrayList<>()).add(thingId);
+                });
+        return thingIdsByMember;
+    }
+
+    private CompletionStage<Map<String, Address>> getShardLocations() {
+        final Instant now = Instant.now();
+        if (null == shardLocations || shardLocationsRetrievedAt.plus(shardLocationsMaxAge).isBefore(now)) {
+            shardLocationsRetrievedAt = now;
+            final FiniteDuration statsTimeout =
+                    FiniteDuration.apply(retrieveSingleThingTimeout.toMillis(), TimeUnit.MILLISECONDS);
+            shardLocations = Patterns.ask(targetActor, new ShardRegion.GetClusterShardingStats(statsTimeout),
+                            retrieveSingleThingTimeout)
+                    .thenApply(ThingsAggregatorActor::toShardLocations)
+                    .exceptionally(error -> {
+                        log.warning("Could not retrieve shard locations, retrieving all things via shard region: " +
+                                "<{}>", error.toString());
+                        return Map.of();
+                    });
+        }
+        return shardLocations;
+    }
+
+    private static Map<String, Address> toShardLocations(final Object response) {
+        final Map<String, Address> locations = new HashMap<>();
+        if (response instanceof ShardRegion.ClusterShardingStats clusterShardingStats) {
+            clusterShardingStats.getRegions().forEach((address, regionStats) ->
+                    regionStats.getStats().keySet().forEach(shardId -> locations.put(shardId, address)));
+        }
+        return locations;
+    }
+
+    private static String getBatchSizeBucket(final int batchSize) {
+        final String result;
+        if (batchSize <= 10) {
+            result = "1-10";
+        } else if (batchSize <= 50) {
+            result = "11-50";
+        } else if (batchSize <= 100) {
+            result = "51-100";
+        } else if (batchSize <= 200) {
+            result = "101-200";
+        } else {
+            result = ">200";
+        }
+        return result;
+    }
+
     private int calculateParallelism(final Collection<ThingId> thingIds) {
         final int size = thingIds.size();
         if (size < maxParallelism / 2) {
@@ -39,6 +39,23 @@ public interface ThingsAggregatorConfig {
      */
     int getMaxParallelism();
 
+    /**
+     * Indicates whether {@code RetrieveThings} commands should be served by the batched retrieve which groups the
+     * requested things by the cluster member hosting their shard and enforces them with one policy enforcer lookup per
+     * distinct policy.
+     *
+     * @return {@code true} if the batched retrieve is enabled, {@code false} else.
+     */
+    boolean isBatchRetrieveEnabled();
+
+    /**
+     * Returns how long the locations of the things shards retrieved for the batched retrieve may be reused before
+     * they are retrieved again from the shard region.
+     *
+     * @return the maximum age of the cached shard locations.
+     */
+    Duration getBatchRetrieveShardLocationsMaxAge();
+
     /**
      * An enumeration of the known config path expressions and their associated default values for
      * {@code ThingsAggregatorConfig}.
@@ -53,7 +70,17 @@ public interface ThingsAggregatorConfig {
         /**
          * The maximum parallelism.
          */
-        MAX_PARALLELISM("max-parallelism", 20);
+        MAX_PARALLELISM("max-parallelism", 20),
+
+        /**
+         * Whether the batched retrieve of things is enabled.
+         */
+        BATCH_RETRIEVE_ENABLED("batch-retrieve-enabled", false),
+
+        /**
+         * The maximum age of the cached shard locations used by the batched retrieve.
+         */
+        BATCH_RETRIEVE_SHARD_LOCATIONS_MAX_AGE("batch-retrieve-shard-locations-max-age", Duration.ofSeconds(10L));
 
         private final String path;
         private final Object defaultValue;
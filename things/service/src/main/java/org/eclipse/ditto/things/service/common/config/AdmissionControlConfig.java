@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.things.service.common.config;
+
+import java.time.Duration;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.internal.utils.config.KnownConfigValue;
+
+/**
+ * Provides configuration settings for the node-level admission control of modifying thing commands.
+ * <p>
+ * The admission control limits the number of modifying commands which were accepted into the mailboxes of all thing
+ * persistence actors of a node, but whose processing did not start yet. The limit adapts to the latency of the
+ * journal writes: it is increased additively as long as the latency stays below the threshold and decreased
+ * multiplicatively when the latency exceeds it.
+ * </p>
+ *
+ * @since 3.8.0
+ */
+@Immutable
+public interface AdmissionControlConfig {
+
+    /**
+     * Returns whether the admission control of modifying commands is enabled.
+     *
+     * @return whether admission control is enabled.
+     */
+    boolean isEnabled();
+
+    /**
+     * Returns the journal write latency above which the limit of queued modifying commands is decreased.
+     *
+     * @return the latency threshold.
+     */
+    Duration getLatencyThreshold();
+
+    /**
+     * Returns the limit of queued modifying commands the admission control starts with.
+     *
+     * @return the initial limit.
+     */
+    int getInitialLimit();
+
+    /**
+     * Returns the limit of queued modifying commands the admission control never falls below.
+     *
+     * @return the minimum limit.
+     */
+    int getMinLimit();
+
+    /**
+     * Returns the limit of queued modifying commands the admission control never exceeds.
+     *
+     * @return the maximum limit.
+     */
+    int getMaxLimit();
+
+    /**
+     * Returns the factor the limit is multiplied with when the journal write latency exceeds the threshold.
+     *
+     * @return the backoff ratio between 0 and 1.
+     */
+    double getBackoffRatio();
+
+    /**
+     * Returns the duration clients are asked to wait before retrying a rejected command.
+     *
+     * @return the retry-after duration.
+     */
+    Duration getRetryAfter();
+
+    /**
+     * Returns whether each namespace gets its own limit instead of sharing a single limit for the whole node.
+     *
+     * @return whether the limits are per namespace.
+     */
+    boolean isPerNamespace();
+
+    /**
+     * An enumeration of the known config path expressions and their associated default values for
+     * {@code AdmissionControlConfig}.
+     */
+    enum ConfigValue implements KnownConfigValue {
+
+        /**
+         * Whether the admission control of modifying commands is enabled.
+         */
+        ENABLED("enabled", false),
+
+        /**
+         * The journal write latency above which the limit is decreased.
+         */
+        LATENCY_THRESHOLD("latency-threshold", Duration.ofMillis(500L)),
+
+        /**
+         * The limit of queued modifying commands the admission control starts with.
+         */
+        INITIAL_LIMIT("initial-limit", 10_000),
+
+        /**
+         * The limit of queued modifying commands the admission control never falls below.
+         */
+        MIN_LIMIT("min-limit", 100),
+
+        /**
+         * The limit of queued modifying commands the admission control never exceeds.
+         */
+        MAX_LIMIT("max-limit", 100_000),
+
+        /**
+         * The factor the limit is multiplied with when the journal write latency exceeds the threshold.
+         */
+        BACKOFF_RATIO("backoff-ratio", 0.9),
+
+        /**
+         * The duration clients are asked to wait before retrying a rejected command.
+         */
+        RETRY_AFTER("retry-after", Duration.ofSeconds(1L)),
+
+        /**
+         * Whether each namespace gets its own limit.
+         */
+        PER_NAMESPACE("per-namespace", false);
+
+        private final String path;
+        private final Object defaultValue;
+
+        ConfigValue(final String thePath, final Object theDefaultValue) {
+            path = thePath;
+            defaultValue = theDefaultValue;
+        }
+
+        @Override
+        public Object getDefaultValue() {
+            return defaultValue;
+        }
+
+        @Override
+        public String getConfigPath() {
+            return path;
+        }
+
+    }
+
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.things.service.common.config;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.regex.Pattern;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.base.model.common.LikeHelper;
+import org.eclipse.ditto.internal.utils.config.ConfigWithFallback;
+import org.eclipse.ditto.internal.utils.config.ScopedConfig;
+
+import com.typesafe.config.Config;
+
+/**
+ * This class is the default implementation of {@link EventCompactionConfig}.
+ *
+ * @since 3.8.0
+ */
+@Immutable
+public final class DefaultEventCompactionConfig implements EventCompactionConfig {
+
+    private static final String CONFIG_PATH = "event-compaction";
+
+    private final boolean enabled;
+    private final Duration window;
+    private final int maxEvents;
+    private final List<String> namespaces;
+    private final List<Pattern> namespacePatterns;
+
+    private DefaultEventCompactionConfig(final ScopedConfig scopedConfig) {
+        enabled = scopedConfig.getBoolean(ConfigValue.ENABLED.getConfigPath());
+        window = scopedConfig.getNonNegativeAndNonZeroDurationOrThrow(ConfigValue.WINDOW);
+        maxEvents = scopedConfig.getPositiveIntOrThrow(ConfigValue.MAX_EVENTS);
+        namespaces = List.copyOf(scopedConfig.getStringList(ConfigValue.NAMESPACES.getConfigPath()));
+        namespacePatterns = namespaces.stream()
+                .map(LikeHelper::convertToRegexSyntax)
+                .filter(Objects::nonNull)
+                .map(Pattern::compile)
+                .toList();
+    }
+
+    /**
+     * Returns an instance of {@code DefaultEventCompactionConfig} based on the settings of the specified Config.
+     *
+     * @param config is supposed to provide the settings of the event compaction config at {@value #CONFIG_PATH}.
+     * @return the instance.
+     * @throws org.eclipse.ditto.internal.utils.config.DittoConfigError if {@code config} is invalid.
+     */
+    public static DefaultEventCompactionConfig of(final Config config) {
+        return new DefaultEventCompactionConfig(
+                ConfigWithFallback.newInstance(config, CONFIG_PATH, ConfigValue.values()));
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public Duration getWindow() {
+        return window;
+    }
+
+    @Override
+    public int getMaxEvents() {
+        return maxEvents;
+    }
+
+    @Override
+    public List<String> getNamespaces() {
+        return namespaces;
+    }
+
+    @Override
+    public boolean isEnabledForNamespace(final String namespace) {
+        return enabled && namespacePatterns.stream().anyMatch(pattern -> pattern.matcher(namespace).matches());
+    }
+
+    @Override
+    public boolean equals(@Nullable final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final DefaultEventCompactionConfig that = (DefaultEventCompactionConfig) o;
+        return enabled == that.enabled &&
+                maxEvents == that.maxEvents &&
+                Objects.equals(window, that.window) &&
+                Objects.equals(namespaces, that.namespaces);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(enabled, window, maxEvents, namespaces);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "enabled=" + enabled +
+                ", window=" + window +
+                ", maxEvents=" + maxEvents +
+                ", namespaces=" + namespaces +
+                "]";
+    }
+
+}
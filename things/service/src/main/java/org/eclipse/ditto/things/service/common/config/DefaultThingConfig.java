@@ -28,6 +28,7 @@ import org.eclipse.ditto.internal.utils.persistence.mongo.config.DefaultSnapshot
 import org.eclipse.ditto.internal.utils.persistence.mongo.config.EventConfig;
 import org.eclipse.ditto.internal.utils.persistence.mongo.config.SnapshotConfig;
 import org.eclipse.ditto.internal.utils.persistentactors.cleanup.CleanupConfig;
+import org.eclipse.ditto.internal.utils.persistentactors.warmup.WarmUpConfig;
 
 import com.typesafe.config.Config;
 
@@ -44,7 +45,10 @@ public final class DefaultThingConfig implements ThingConfig {
     private final ActivityCheckConfig activityCheckConfig;
     private final SnapshotConfig snapshotConfig;
     private final EventConfig eventConfig;
+    private final EventCompactionConfig eventCompactionConfig;
+    private final AdmissionControlConfig admissionControlConfig;
     private final CleanupConfig cleanupConfig;
+    private final WarmUpConfig warmUpConfig;
 
     private DefaultThingConfig(final ScopedConfig scopedConfig) {
         shutdownTimeout = scopedConfig.getDuration(ConfigValue.SHUTDOWN_TIMEOUT.getConfigPath());
@@ -52,7 +56,10 @@ public final class DefaultThingConfig implements ThingConfig {
         activityCheckConfig = DefaultActivityCheckConfig.of(scopedConfig);
         snapshotConfig = DefaultSnapshotConfig.of(scopedConfig);
         eventConfig = DefaultEventConfig.of(scopedConfig);
+        eventCompactionConfig = DefaultEventCompactionConfig.of(scopedConfig);
+        admissionControlConfig = DefaultAdmissionControlConfig.of(scopedConfig);
         cleanupConfig = CleanupConfig.of(scopedConfig);
+        warmUpConfig = WarmUpConfig.of(scopedConfig);
     }
 
     /**
@@ -86,11 +93,26 @@ public final class DefaultThingConfig implements ThingConfig {
         return cleanupConfig;
     }
 
+    @Override
+    public WarmUpConfig getWarmUpConfig() {
+        return warmUpConfig;
+    }
+
     @Override
     public EventConfig getEventConfig() {
         return eventConfig;
     }
 
+    @Override
+    public EventCompactionConfig getEventCompactionConfig() {
+        return eventCompactionConfig;
+    }
+
+    @Override
+    public AdmissionControlConfig getAdmissionControlConfig() {
+        return admissionControlConfig;
+    }
+
     @Override
     public Duration getShutdownTimeout() {
         return shutdownTimeout;
@@ -109,14 +131,17 @@ public final class DefaultThingConfig implements ThingConfig {
                 Objects.equals(activityCheckConfig, that.activityCheckConfig) &&
                 Objects.equals(snapshotConfig, that.snapshotConfig) &&
                 Objects.equals(eventConfig, that.eventConfig) &&
+                Objects.equals(eventCompactionConfig, that.eventCompactionConfig) &&
+                Objects.equals(admissionControlConfig, that.admissionControlConfig) &&
                 Objects.equals(cleanupConfig, that.cleanupConfig) &&
+                Objects.equals(warmUpConfig, that.warmUpConfig) &&
                 Objects.equals(shutdownTimeout, that.shutdownTimeout);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(supervisorConfig, activityCheckConfig, snapshotConfig, eventConfig, cleanupConfig,
-                shutdownTimeout);
+        return Objects.hash(supervisorConfig, activityCheckConfig, snapshotConfig, eventConfig,
+                eventCompactionConfig, admissionControlConfig, cleanupConfig, warmUpConfig, shutdownTimeout);
     }
 
     @Override
@@ -126,7 +151,10 @@ public final class DefaultThingConfig implements ThingConfig {
                 ", activityCheckConfig=" + activityCheckConfig +
                 ", snapshotConfig=" + snapshotConfig +
                 ", eventConfig=" + eventConfig +
+                ", eventCompactionConfig=" + eventCompactionConfig +
+                ", admissionControlConfig=" + admissionControlConfig +
                 ", cleanupConfig=" + cleanupConfig +
+                ", warmUpConfig=" + warmUpConfig +
                 ", shutdownTimeout=" + shutdownTimeout +
                 "]";
     }
@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.things.service.common.config;
+
+import java.time.Duration;
+import java.util.List;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.internal.utils.config.KnownConfigValue;
+
+/**
+ * Provides configuration settings for the compaction of the thing event journal.
+ * <p>
+ * Consecutive property-level events of a thing (e.g. {@code FeaturePropertyModified} or {@code AttributeModified})
+ * are merged into a single {@code ThingMerged} event after they were persisted. The journal then no longer contains
+ * the intermediate revisions, therefore compaction may only apply to namespaces which don't require access to
+ * historical revisions of their things.
+ * </p>
+ *
+ * @since 3.8.0
+ */
+@Immutable
+public interface EventCompactionConfig {
+
+    /**
+     * Returns whether the compaction of consecutive property-level events is enabled.
+     *
+     * @return whether compaction is enabled.
+     */
+    boolean isEnabled();
+
+    /**
+     * Returns how long consecutive property-level events are collected before they are merged.
+     *
+     * @return the compaction window.
+     */
+    Duration getWindow();
+
+    /**
+     * Returns the maximum number of events merged into a single event.
+     *
+     * @return the maximum number of events.
+     */
+    int getMaxEvents();
+
+    /**
+     * Returns the namespace patterns of the things whose journal is compacted. The patterns may contain the wildcards
+     * {@code *} and {@code ?}.
+     *
+     * @return the namespace patterns.
+     */
+    List<String> getNamespaces();
+
+    /**
+     * Returns whether the journal of things in the given namespace is compacted.
+     *
+     * @param namespace the namespace of a thing.
+     * @return whether compaction is enabled and the namespace matches one of the namespace patterns.
+     */
+    boolean isEnabledForNamespace(String namespace);
+
+    /**
+     * An enumeration of the known config path expressions and their associated default values for
+     * {@code EventCompactionConfig}.
+     */
+    enum ConfigValue implements KnownConfigValue {
+
+        /**
+         * Whether the compaction of consecutive property-level events is enabled.
+         */
+        ENABLED("enabled", false),
+
+        /**
+         * How long consecutive property-level events are collected before they are merged.
+         */
+        WINDOW("window", Duration.ofMinutes(1L)),
+
+        /**
+         * The maximum number of events merged into a single event.
+         */
+        MAX_EVENTS("max-events", 100),
+
+        /**
+         * The namespace patterns of the things whose journal is compacted.
+         */
+        NAMESPACES("namespaces", List.of("*"));
+
+        private final String path;
+        private final Object defaultValue;
+
+        ConfigValue(final String thePath, final Object theDefaultValue) {
+            path = thePath;
+            defaultValue = theDefaultValue;
+        }
+
+        @Override
+        public Object getDefaultValue() {
+            return defaultValue;
+        }
+
+        @Override
+        public String getConfigPath() {
+            return path;
+        }
+
+    }
+
+}
@@ -22,13 +22,14 @@ import org.eclipse.ditto.internal.utils.persistence.mongo.config.EventConfig;
 import org.eclipse.ditto.internal.utils.persistence.mongo.config.WithActivityCheckConfig;
 import org.eclipse.ditto.internal.utils.persistence.mongo.config.WithSnapshotConfig;
 import org.eclipse.ditto.internal.utils.persistentactors.cleanup.WithCleanupConfig;
+import org.eclipse.ditto.internal.utils.persistentactors.warmup.WithWarmUpConfig;
 
 /**
  * Provides configuration settings for thing entities.
  */
 @Immutable
 public interface ThingConfig extends WithSupervisorConfig, WithActivityCheckConfig, WithSnapshotConfig,
-        WithCleanupConfig {
+        WithCleanupConfig, WithWarmUpConfig {
 
     /**
      * Returns the config of the thing event journal behaviour.
@@ -37,6 +38,22 @@ public interface ThingConfig extends WithSupervisorConfig, WithActivityCheckConf
      */
     EventConfig getEventConfig();
 
+    /**
+     * Returns the config of the compaction of the thing event journal.
+     *
+     * @return the config.
+     * @since 3.8.0
+     */
+    EventCompactionConfig getEventCompactionConfig();
+
+    /**
+     * Returns the config of the node-level admission control of modifying thing commands.
+     *
+     * @return the config.
+     * @since 3.8.0
+     */
+    AdmissionControlConfig getAdmissionControlConfig();
+
     /**
      * Get the timeout waiting for responses and acknowledgements during coordinated shutdown.
      *
@@ -17,6 +17,9 @@ import java.time.Duration;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+
+import javax.annotation.Nullable;
 
 import org.eclipse.ditto.base.model.exceptions.DittoRuntimeException;
 import org.eclipse.ditto.base.model.headers.DittoHeaders;
@@ -52,6 +55,11 @@ import org.apache.pekko.stream.javadsl.Source;
  */
 final class SupervisorInlinePolicyEnrichment {
 
+    /**
+     * The dispatcher which inlines retrieved policies into the JSON of things.
+     */
+    static final String POLICY_ENRICHMENT_DISPATCHER = "thing-policy-enrichment-dispatcher";
+
     private static final Duration DEFAULT_LOCAL_ASK_TIMEOUT = Duration.ofSeconds(5);
 
     private final ActorSystem actorSystem;
@@ -60,6 +68,7 @@ final class SupervisorInlinePolicyEnrichment {
     private final ActorSelection thingPersistenceActor;
     private final ActorRef policiesShardRegion;
     private final EnforcementConfig enforcementConfig;
+    private final Executor policyEnrichmentExecutor;
 
     SupervisorInlinePolicyEnrichment(final ActorSystem actorSystem,
             final ThreadSafeDittoLoggingAdapter log,
@@ -74,6 +83,7 @@ final class SupervisorInlinePolicyEnrichment {
         this.thingPersistenceActor = thingPersistenceActor;
         this.policiesShardRegion = policiesShardRegion;
         this.enforcementConfig = enforcementConfig;
+        policyEnrichmentExecutor = actorSystem.dispatchers().lookup(POLICY_ENRICHMENT_DISPATCHER);
     }
 
     /**
@@ -124,25 +134,29 @@ final class SupervisorInlinePolicyEnrichment {
                             .build();
                     return RetrievePolicy.of(policyId, dittoHeadersWithoutPreconditionHeaders);
                 })
-                .map(this::retrieveInlinedPolicyForThing)
-                .flatMapConcat(Source::completionStage)
-                .map(policyResponse -> {
-                    if (policyResponse.isPresent()) {
-                        final JsonObject inlinedPolicy = policyResponse.get()
-                                .getPolicy()
-                                .toInlinedJson(retrieveThing.getImplementedSchemaVersion(),
-                                        FieldType.notHidden());
-
-                        final JsonObject thingWithInlinedPolicy = retrieveThingResponse.getEntity()
-                                .asObject()
-                                .toBuilder()
-                                .setAll(inlinedPolicy)
-                                .build();
-                        return retrieveThingResponse.setEntity(thingWithInlinedPolicy);
-                    } else {
-                        return retrieveThingResponse;
-                    }
-                });
+                .map(retrievePolicy -> retrieveInlinedPolicyForThing(retrievePolicy)
+                        .thenApplyAsync(policyResponse -> inlinePolicy(retrieveThing, retrieveThingResponse,
+                                policyResponse.orElse(null)), policyEnrichmentExecutor))
+                .flatMapConcat(Source::completionStage);
+    }
+
+    private static RetrieveThingResponse inlinePolicy(final RetrieveThing retrieveThing,
+            final RetrieveThingResponse retrieveThingResponse,
+            @Nullable final RetrievePolicyResponse policyResponse) {
+
+        if (null != policyResponse) {
+            final JsonObject inlinedPolicy = policyResponse.getPolicy()
+                    .toInlinedJson(retrieveThing.getImplementedSchemaVersion(), FieldType.notHidden());
+
+            final JsonObject thingWithInlinedPolicy = retrieveThingResponse.getEntity()
+                    .asObject()
+                    .toBuilder()
+                    .setAll(inlinedPolicy)
+                    .build();
+            return retrieveThingResponse.setEntity(thingWithInlinedPolicy);
+        } else {
+            return retrieveThingResponse;
+        }
     }
 
     private Source<SudoRetrieveThingResponse, NotUsed> retrievePolicyIdViaSudoRetrieveThing() {
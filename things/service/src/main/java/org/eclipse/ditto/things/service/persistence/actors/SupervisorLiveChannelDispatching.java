@@ -18,6 +18,7 @@ import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.UnaryOperator;
@@ -66,6 +67,12 @@ import org.eclipse.ditto.things.service.persistence.actors.strategies.commands.T
  */
 final class SupervisorLiveChannelDispatching {
 
+    /**
+     * The dispatcher which evaluates conditions of live signals, prepares them for publishing and runs the actors
+     * forwarding live responses, so that bursts of live traffic do not occupy the threads of twin commands.
+     */
+    static final String LIVE_CHANNEL_DISPATCHER = "thing-live-channel-dispatcher";
+
     private static final Duration DEFAULT_LIVE_TIMEOUT = Duration.ofSeconds(60L);
 
     private static final AckExtractor<ThingCommand<?>> THING_COMMAND_ACK_EXTRACTOR =
@@ -83,6 +90,7 @@ final class SupervisorLiveChannelDispatching {
     private final ActorRef thingsShardRegion;
     private final ActorSystem actorSystem;
     private final AskWithRetryConfig askWithRetryConfig;
+    private final Executor liveChannelExecutor;
 
     SupervisorLiveChannelDispatching(final ThreadSafeDittoLoggingAdapter log,
             final EnforcementConfig enforcementConfig,
@@ -100,6 +108,7 @@ final class SupervisorLiveChannelDispatching {
         this.thingsShardRegion = thingsShardRegion;
         this.actorSystem = actorSystem;
         this.askWithRetryConfig = getAskWithRetryConfig(actorSystem);
+        liveChannelExecutor = actorSystem.dispatchers().lookup(LIVE_CHANNEL_DISPATCHER);
     }
 
     private static AskWithRetryConfig getAskWithRetryConfig(final ActorSystem actorSystem) {
@@ -189,7 +198,7 @@ final class SupervisorLiveChannelDispatching {
      */
     CompletionStage<TargetActorWithMessage> dispatchLiveSignal(final Signal<?> signal, final ActorRef sender) {
 
-        return evaluateCondition(signal).thenCompose(s -> {
+        return evaluateCondition(signal).thenComposeAsync(s -> {
             final UnaryOperator<Object> errorHandler =
                     response -> handleEncounteredAskTimeoutsAsCommandTimeoutException(signal.getDittoHeaders(),
                             response);
@@ -222,7 +231,7 @@ final class SupervisorLiveChannelDispatching {
                         errorHandler
                 ));
             }
-        });
+        }, liveChannelExecutor);
     }
 
     private CompletionStage<Signal<?>> evaluateCondition(final Signal<?> signal) {
@@ -235,7 +244,7 @@ final class SupervisorLiveChannelDispatching {
                         actorSystem,
                         response -> handleRetrieveThingResponse(response, signal.getDittoHeaders())
                 );
-                return thing.thenApply(t -> {
+                return thing.thenApplyAsync(t -> {
                     final var optionalException = ThingConditionValidator.validate(signal, condition.get(), t);
                     if (optionalException.isPresent()) {
                         log.withCorrelationId(signal).info("Live-message was filtered due to not matching condition.");
@@ -243,7 +252,7 @@ final class SupervisorLiveChannelDispatching {
                     } else {
                         return signal;
                     }
-                });
+                }, liveChannelExecutor);
             }
         }
         return CompletableFuture.completedFuture(signal);
@@ -389,7 +398,8 @@ final class SupervisorLiveChannelDispatching {
     private ActorRef createLiveResponseReceiverActor(final ThingQueryCommand<?> thingQueryCommand) {
 
         final var pub = liveSignalPub.command();
-        final var props = LiveResponseAndAcknowledgementForwarder.props(thingQueryCommand, pub.getPublisher());
+        final var props = LiveResponseAndAcknowledgementForwarder.props(thingQueryCommand, pub.getPublisher())
+                .withDispatcher(LIVE_CHANNEL_DISPATCHER);
         // and start the actor using the provided actorRefFactory
         return actorRefFactory.actorOf(props);
     }
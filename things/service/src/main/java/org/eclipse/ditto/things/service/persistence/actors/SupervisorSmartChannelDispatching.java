@@ -17,10 +17,12 @@ import java.time.Duration;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
 
 import org.apache.pekko.actor.ActorRef;
 import org.apache.pekko.actor.ActorSelection;
+import org.apache.pekko.actor.ActorSystem;
 import org.apache.pekko.pattern.AskTimeoutException;
 import org.apache.pekko.pattern.Patterns;
 import org.eclipse.ditto.base.model.exceptions.AskException;
@@ -47,19 +49,28 @@ import org.eclipse.ditto.things.model.signals.commands.query.ThingQueryCommandRe
  */
 final class SupervisorSmartChannelDispatching {
 
+    /**
+     * The dispatcher which decides based on the twin response whether a query command is forwarded to the "live"
+     * channel.
+     */
+    static final String SMART_CHANNEL_DISPATCHER = "thing-smart-channel-dispatcher";
+
     private static final Duration DEFAULT_LIVE_TIMEOUT = Duration.ofSeconds(60L);
     private static final Duration DEFAULT_LOCAL_ASK_TIMEOUT = Duration.ofSeconds(5);
 
     private final ThreadSafeDittoLoggingAdapter log;
     private final ActorSelection thingsPersistenceActor;
     private final SupervisorLiveChannelDispatching liveChannelDispatching;
+    private final Executor smartChannelExecutor;
 
     SupervisorSmartChannelDispatching(final ThreadSafeDittoLoggingAdapter log,
             final ActorSelection thingsPersistenceActor,
-            final SupervisorLiveChannelDispatching liveChannelDispatching) {
+            final SupervisorLiveChannelDispatching liveChannelDispatching,
+            final ActorSystem actorSystem) {
         this.log = log;
         this.thingsPersistenceActor = thingsPersistenceActor;
         this.liveChannelDispatching = liveChannelDispatching;
+        smartChannelExecutor = actorSystem.dispatchers().lookup(SMART_CHANNEL_DISPATCHER);
     }
 
     /**
@@ -83,7 +94,7 @@ final class SupervisorSmartChannelDispatching {
             final ActorRef sender) {
 
         return initSmartChannelSelection(thingQueryCommand)
-                .thenCompose(twinQueryCommandResponse -> {
+                .thenComposeAsync(twinQueryCommandResponse -> {
                     if (shouldAttemptLiveChannel(thingQueryCommand, twinQueryCommandResponse)) {
                         // perform conversion + publishing of live command
                         final ThingQueryCommand<?> liveCommand = toLiveCommand(thingQueryCommand);
@@ -104,7 +115,7 @@ final class SupervisorSmartChannelDispatching {
                                 Function.identity()
                         ));
                     }
-                });
+                }, smartChannelExecutor);
     }
 
     private CompletionStage<ThingQueryCommandResponse<?>> initSmartChannelSelection(
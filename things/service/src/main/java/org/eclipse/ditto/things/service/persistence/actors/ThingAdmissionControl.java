@@ -0,0 +1,339 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.things.service.persistence.actors;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.apache.pekko.actor.AbstractExtensionId;
+import org.apache.pekko.actor.ActorRef;
+import org.apache.pekko.actor.ActorSystem;
+import org.apache.pekko.actor.ExtendedActorSystem;
+import org.apache.pekko.actor.Extension;
+import org.eclipse.ditto.internal.utils.config.DefaultScopedConfig;
+import org.eclipse.ditto.internal.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.internal.utils.metrics.instruments.counter.Counter;
+import org.eclipse.ditto.internal.utils.metrics.instruments.gauge.Gauge;
+import org.eclipse.ditto.things.model.ThingId;
+import org.eclipse.ditto.things.service.common.config.AdmissionControlConfig;
+import org.eclipse.ditto.things.service.common.config.DittoThingsConfig;
+
+/**
+ * Node-level admission control of modifying thing commands.
+ * <p>
+ * The {@link ThingPersistenceActorMailbox} admits a modifying command only if the number of modifying commands queued
+ * in front of all thing persistence actors of the node is below the current limit. A command counts as queued from
+ * its admission until the persistence actor starts handling it, which includes the time it spends stashed while the
+ * actor waits for the journal. When the actor stops, its remaining commands are released and its mailbox admits no
+ * further commands against the limit.
+ * </p>
+ * <p>
+ * The limit follows the journal write latency reported by the persistence actors (AIMD): it is increased by one for
+ * each write below the latency threshold while at least half of the limit is in use, and multiplied by the backoff
+ * ratio for writes above the threshold, at most once per threshold duration.
+ * </p>
+ *
+ * @since 3.8.0
+ */
+@ThreadSafe
+public final class ThingAdmissionControl implements Extension {
+
+    private static final ExtensionId EXTENSION_ID = new ExtensionId();
+
+    private static final String NODE_LIMIT_KEY = "";
+
+    private final AdmissionControlConfig config;
+    private final LongSupplier nanoClock;
+    private final Map<String, Limit> limits;
+    private final Map<ActorRef, Admissions> admissionsPerActor;
+
+    private ThingAdmissionControl(final AdmissionControlConfig config, final LongSupplier nanoClock) {
+        this.config = config;
+        this.nanoClock = nanoClock;
+        limits = new ConcurrentHashMap<>();
+        admissionsPerActor = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Returns the admission control of the node of an actor system.
+     *
+     * @param actorSystem the actor system.
+     * @return the admission control.
+     */
+    public static ThingAdmissionControl get(final ActorSystem actorSystem) {
+        return EXTENSION_ID.get(actorSystem);
+    }
+
+    /**
+     * Returns a new admission control.
+     *
+     * @param config the config of the admission control.
+     * @param nanoClock the source of the current time in nanoseconds.
+     * @return the admission control.
+     */
+    static ThingAdmissionControl newInstance(final AdmissionControlConfig config, final LongSupplier nanoClock) {
+        return new ThingAdmissionControl(config, nanoClock);
+    }
+
+    /**
+     * Returns whether the admission control is enabled. If it is disabled, all commands are admitted.
+     *
+     * @return whether the admission control is enabled.
+     */
+    public boolean isEnabled() {
+        return config.isEnabled();
+    }
+
+    /**
+     * Returns the duration clients are asked to wait before retrying a rejected command.
+     *
+     * @return the retry-after duration.
+     */
+    public Duration getRetryAfter() {
+        return config.getRetryAfter();
+    }
+
+    /**
+     * Returns the admissions of the mailbox of a thing persistence actor. They are closed when the mailbox is cleaned
+     * up, i.e. when the actor stopped.
+     *
+     * @param persistenceActor the persistence actor owning the mailbox.
+     * @return the admissions of the persistence actor.
+     */
+    Admissions newAdmissions(final ActorRef persistenceActor) {
+        final Admissions admissions = new Admissions(persistenceActor);
+        if (config.isEnabled()) {
+            admissionsPerActor.put(persistenceActor, admissions);
+        }
+        return admissions;
+    }
+
+    /**
+     * Releases one admitted command of a thing persistence actor because the actor started handling it.
+     *
+     * @param persistenceActor the persistence actor.
+     */
+    void release(final ActorRef persistenceActor) {
+        final Admissions admissions = admissionsPerActor.get(persistenceActor);
+        if (null != admissions) {
+            admissions.release();
+        }
+    }
+
+    /**
+     * Adapts the limit of a thing to the latency of a journal write.
+     *
+     * @param thingId the ID of the thing whose event was written.
+     * @param latency the time between persisting the event and the acknowledgement of the journal.
+     */
+    void recordJournalWriteLatency(final ThingId thingId, final Duration latency) {
+        if (config.isEnabled()) {
+            getLimit(thingId).onJournalWriteLatency(latency.toNanos(), nanoClock.getAsLong());
+        }
+    }
+
+    /**
+     * Returns the current limit of queued modifying commands for a thing.
+     *
+     * @param thingId the ID of the thing.
+     * @return the limit.
+     */
+    int getCurrentLimit(final ThingId thingId) {
+        return getLimit(thingId).getCurrentLimit();
+    }
+
+    /**
+     * Returns the number of queued modifying commands counting against the limit of a thing.
+     *
+     * @param thingId the ID of the thing.
+     * @return the number of queued commands.
+     */
+    long getQueued(final ThingId thingId) {
+        return getLimit(thingId).queued.get();
+    }
+
+    private Limit getLimit(final ThingId thingId) {
+        final String key = config.isPerNamespace() ? thingId.getNamespace() : NODE_LIMIT_KEY;
+        return limits.computeIfAbsent(key, this::newLimit);
+    }
+
+    private Limit newLimit(final String key) {
+        return new Limit(config, key, nanoClock.getAsLong());
+    }
+
+    /**
+     * The modifying commands admitted to the mailbox of one thing persistence actor which were not yet released.
+     */
+    final class Admissions {
+
+        private final ActorRef persistenceActor;
+
+        @GuardedBy("this")
+        @Nullable private Limit limit;
+
+        @GuardedBy("this")
+        private int count;
+
+        @GuardedBy("this")
+        private boolean closed;
+
+        private Admissions(final ActorRef persistenceActor) {
+            this.persistenceActor = persistenceActor;
+            limit = null;
+            count = 0;
+            closed = false;
+        }
+
+        /**
+         * Admits a modifying command to the mailbox if the limit permits it. After the admissions were closed, commands
+         * are admitted without counting against the limit, as the stopped actor will never release them.
+         *
+         * @param thingId the ID of the thing the command modifies.
+         * @return whether the command was admitted.
+         */
+        synchronized boolean tryAdmit(final ThingId thingId) {
+            if (!config.isEnabled() || closed) {
+                return true;
+            }
+            final Limit thingLimit = getLimit(thingId);
+            if (thingLimit.tryAcquire()) {
+                limit = thingLimit;
+                count++;
+                return true;
+            } else {
+                return false;
+            }
+        }
+
+        /**
+         * Releases one admitted command, e.g. because the persistence actor started handling it.
+         */
+        synchronized void release() {
+            if (count > 0 && null != limit) {
+                count--;
+                limit.release(1);
+            }
+        }
+
+        /**
+         * Releases all admitted commands because the persistence actor stopped and closes the admissions.
+         */
+        synchronized void releaseAll() {
+            closed = true;
+            admissionsPerActor.remove(persistenceActor, this);
+            if (null != limit) {
+                limit.release(count);
+            }
+            count = 0;
+        }
+
+    }
+
+    private static final class Limit {
+
+        private final double minLimit;
+        private final double maxLimit;
+        private final double backoffRatio;
+        private final long latencyThresholdNanos;
+        private final AtomicLong queued;
+        private final Counter admitted;
+        private final Counter shed;
+        private final Gauge queuedGauge;
+        private final Gauge limitGauge;
+
+        private volatile double limit;
+
+        @GuardedBy("this")
+        private long lastDecreaseNanos;
+
+        private Limit(final AdmissionControlConfig config, final String key, final long nowNanos) {
+            minLimit = config.getMinLimit();
+            maxLimit = config.getMaxLimit();
+            backoffRatio = config.getBackoffRatio();
+            latencyThresholdNanos = config.getLatencyThreshold().toNanos();
+            queued = new AtomicLong();
+            admitted = tagged(DittoMetrics.counter("thing_admission_admitted"), key);
+            shed = tagged(DittoMetrics.counter("thing_admission_shed"), key);
+            queuedGauge = tagged(DittoMetrics.gauge("thing_admission_queued"), key);
+            limitGauge = tagged(DittoMetrics.gauge("thing_admission_limit"), key);
+            limit = config.getInitialLimit();
+            lastDecreaseNanos = nowNanos - latencyThresholdNanos;
+            limitGauge.set((long) limit);
+        }
+
+        private static Counter tagged(final Counter counter, final String key) {
+            return NODE_LIMIT_KEY.equals(key) ? counter : counter.tag("namespace", key);
+        }
+
+        private static Gauge tagged(final Gauge gauge, final String key) {
+            return NODE_LIMIT_KEY.equals(key) ? gauge : gauge.tag("namespace", key);
+        }
+
+        private boolean tryAcquire() {
+            final long newQueued = queued.incrementAndGet();
+            if (newQueued > (long) limit) {
+                queued.decrementAndGet();
+                shed.increment();
+                return false;
+            } else {
+                admitted.increment();
+                queuedGauge.set(newQueued);
+                return true;
+            }
+        }
+
+        private void release(final int count) {
+            if (count > 0) {
+                queuedGauge.set(queued.addAndGet(-count));
+            }
+        }
+
+        private synchronized void onJournalWriteLatency(final long latencyNanos, final long nowNanos) {
+            if (latencyNanos > latencyThresholdNanos) {
+                // a single slow batch of writes reports many slow latencies at once, decrease only once for them
+                if (nowNanos - lastDecreaseNanos >= latencyThresholdNanos) {
+                    limit = Math.max(minLimit, Math.floor(limit * backoffRatio));
+                    lastDecreaseNanos = nowNanos;
+                    limitGauge.set((long) limit);
+                }
+            } else if (queued.get() * 2 >= limit && limit < maxLimit) {
+                limit = Math.min(maxLimit, limit + 1);
+                limitGauge.set((long) limit);
+            }
+        }
+
+        private int getCurrentLimit() {
+            return (int) limit;
+        }
+
+    }
+
+    static final class ExtensionId extends AbstractExtensionId<ThingAdmissionControl> {
+
+        @Override
+        public ThingAdmissionControl createExtension(final ExtendedActorSystem system) {
+            final var thingsConfig =
+                    DittoThingsConfig.of(DefaultScopedConfig.dittoScoped(system.settings().config()));
+            return newInstance(thingsConfig.getThingConfig().getAdmissionControlConfig(), System::nanoTime);
+        }
+
+    }
+
+}
@@ -0,0 +1,267 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.things.service.persistence.actors;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.apache.pekko.actor.ActorSystem;
+import org.apache.pekko.stream.javadsl.Sink;
+import org.apache.pekko.stream.javadsl.Source;
+import org.bson.BsonDocument;
+import org.eclipse.ditto.internal.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.internal.utils.metrics.instruments.counter.Counter;
+import org.eclipse.ditto.internal.utils.metrics.instruments.histogram.Histogram;
+import org.eclipse.ditto.internal.utils.pekko.logging.DittoLoggerFactory;
+import org.eclipse.ditto.internal.utils.pekko.logging.ThreadSafeDittoLogger;
+import org.eclipse.ditto.internal.utils.persistence.mongo.streaming.MongoReadJournal;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonKey;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.things.model.signals.events.AttributeCreated;
+import org.eclipse.ditto.things.model.signals.events.AttributeDeleted;
+import org.eclipse.ditto.things.model.signals.events.AttributeModified;
+import org.eclipse.ditto.things.model.signals.events.FeatureDesiredPropertyCreated;
+import org.eclipse.ditto.things.model.signals.events.FeatureDesiredPropertyDeleted;
+import org.eclipse.ditto.things.model.signals.events.FeatureDesiredPropertyModified;
+import org.eclipse.ditto.things.model.signals.events.FeaturePropertyCreated;
+import org.eclipse.ditto.things.model.signals.events.FeaturePropertyDeleted;
+import org.eclipse.ditto.things.model.signals.events.FeaturePropertyModified;
+import org.eclipse.ditto.things.model.signals.events.ThingEvent;
+import org.eclipse.ditto.things.model.signals.events.ThingMerged;
+
+/**
+ * Compacts the journal of a thing by merging consecutive property-level events into a single {@link ThingMerged}
+ * event after they were persisted.
+ * <p>
+ * The merged event replaces the payload of the last event of a run and keeps its sequence number, so that the revision
+ * of the thing does not change. It is tagged with the journal tags of all events of the run, so that the thing is
+ * still found by the tags of the events which are removed. Afterwards the preceding events of the run are deleted.
+ * If the deletion does not happen, e.g. because the service is stopped in between, replaying the remaining events
+ * still results in the same thing because the merged event sets all properties to their final values.
+ * </p>
+ * <p>
+ * Only events whose effect is expressible as JSON merge patch are compacted: events setting non-object values and
+ * events deleting values, which don't carry metadata. A run ends at the first event which is not compactable, at a
+ * gap in the sequence numbers, when a path of the run is a prefix of another path of the run or after the configured
+ * maximum number of events.
+ * </p>
+ */
+final class ThingEventCompactor {
+
+    static final String COMPACTED_EVENTS_COUNTER_NAME = "thing_journal_compacted_events";
+    static final String COMPACTION_RATIO_HISTOGRAM_NAME = "thing_journal_compaction_ratio";
+
+    private static final ThreadSafeDittoLogger LOGGER =
+            DittoLoggerFactory.getThreadSafeLogger(ThingEventCompactor.class);
+
+    private final String persistenceId;
+    private final int maxEvents;
+    private final MongoReadJournal journal;
+    private final Function<ThingEvent<?>, BsonDocument> toJournal;
+    private final ActorSystem actorSystem;
+    private final List<ThingEvent<?>> pendingEvents;
+    private final Counter compactedEvents;
+    private final Histogram compactionRatio;
+    private long firstRevision;
+    private long lastRevision;
+
+    ThingEventCompactor(final String persistenceId,
+            final int maxEvents,
+            final MongoReadJournal journal,
+            final Function<ThingEvent<?>, BsonDocument> toJournal,
+            final ActorSystem actorSystem) {
+
+        this.persistenceId = persistenceId;
+        this.maxEvents = maxEvents;
+        this.journal = journal;
+        this.toJournal = toJournal;
+        this.actorSystem = actorSystem;
+        pendingEvents = new ArrayList<>();
+        compactedEvents = DittoMetrics.counter(COMPACTED_EVENTS_COUNTER_NAME);
+        compactionRatio = DittoMetrics.histogram(COMPACTION_RATIO_HISTOGRAM_NAME);
+    }
+
+    /**
+     * Adds a persisted event to the current run of compactable events. Compacts the current run if the event does
+     * not belong to it.
+     *
+     * @param event the persisted event.
+     * @param revision the sequence number of the persisted event.
+     * @return whether the event started a new run.
+     */
+    boolean add(final ThingEvent<?> event, final long revision) {
+        final Optional<JsonValue> value = getCompactableValue(event);
+        if (value.isEmpty()) {
+            flush();
+            return false;
+        }
+        if (!pendingEvents.isEmpty() &&
+                (revision != lastRevision + 1 || conflictsWithPendingEvents(event.getResourcePath()))) {
+            flush();
+        }
+        if (pendingEvents.isEmpty()) {
+            firstRevision = revision;
+        }
+        pendingEvents.add(event);
+        lastRevision = revision;
+        final boolean runStarted = pendingEvents.size() == 1;
+        if (pendingEvents.size() >= maxEvents) {
+            flush();
+        }
+        return runStarted;
+    }
+
+    /**
+     * Compacts the current run if it consists of more than one event and starts a new run.
+     *
+     * @return a future of the number of events removed from the journal.
+     */
+    CompletionStage<Long> flush() {
+        final CompletionStage<Long> result;
+        if (pendingEvents.size() > 1) {
+            result = compact(merge(pendingEvents, lastRevision), getJournalTags(pendingEvents), firstRevision,
+                    lastRevision, pendingEvents.size());
+        } else {
+            result = CompletableFuture.completedFuture(0L);
+        }
+        pendingEvents.clear();
+        return result;
+    }
+
+    /**
+     * Merges consecutive compactable events into a single event.
+     *
+     * @param events the events in the order of their revisions.
+     * @param revision the revision of the last event.
+     * @return the merged event.
+     */
+    static ThingMerged merge(final List<ThingEvent<?>> events, final long revision) {
+        JsonObject mergePatch = JsonFactory.newObject();
+        for (final ThingEvent<?> event : events) {
+            mergePatch = mergePatch.setValue(event.getResourcePath(), getCompactableValue(event).orElseThrow());
+        }
+        final ThingEvent<?> lastEvent = events.get(events.size() - 1);
+        return ThingMerged.of(lastEvent.getEntityId(), JsonPointer.empty(), mergePatch, revision,
+                lastEvent.getTimestamp().orElse(null), lastEvent.getDittoHeaders(), null);
+    }
+
+    /**
+     * Returns the value of an event in a JSON merge patch, if the event is compactable.
+     *
+     * @param event the event.
+     * @return the value to set at the resource path of the event, a JSON null literal for deletions or an empty
+     * optional if the event is not compactable.
+     */
+    static Optional<JsonValue> getCompactableValue(final ThingEvent<?> event) {
+        if (event.getMetadata().isPresent() || containsKeyRegex(event.getResourcePath())) {
+            return Optional.empty();
+        } else if (event instanceof AttributeDeleted ||
+                event instanceof FeaturePropertyDeleted ||
+                event instanceof FeatureDesiredPropertyDeleted) {
+            return Optional.of(JsonFactory.nullLiteral());
+        } else if (event instanceof AttributeModified ||
+                event instanceof AttributeCreated ||
+                event instanceof FeaturePropertyModified ||
+                event instanceof FeaturePropertyCreated ||
+                event instanceof FeatureDesiredPropertyModified ||
+                event instanceof FeatureDesiredPropertyCreated) {
+            // objects and null would be merged into the existing value instead of replacing it
+            return event.getEntity(event.getImplementedSchemaVersion())
+                    .filter(value -> !value.isObject() && !value.isNull());
+        } else {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Returns the journal tags of a run of events.
+     *
+     * @param events the events.
+     * @return the union of the journal tags of the events.
+     */
+    static Set<String> getJournalTags(final List<ThingEvent<?>> events) {
+        return events.stream()
+                .flatMap(event -> event.getDittoHeaders().getJournalTags().stream())
+                .collect(Collectors.toSet());
+    }
+
+    private CompletionStage<Long> compact(final ThingMerged mergedEvent, final Set<String> journalTags,
+            final long fromRevision, final long toRevision, final int eventCount) {
+
+        return Source.lazySource(() -> journal.replaceEvent(persistenceId, toRevision, mergedEvent.getType(),
+                        toJournal.apply(mergedEvent), journalTags))
+                .flatMapConcat(updateResult -> {
+                    if (updateResult.getMatchedCount() == 1) {
+                        return journal.deleteEvents(persistenceId, fromRevision, toRevision - 1)
+                                .map(deleteResult -> deleteResult.getDeletedCount());
+                    } else {
+                        // the journal entry was not found, e.g. because it was deleted by the cleanup meanwhile
+                        return Source.single(0L);
+                    }
+                })
+                .runWith(Sink.head(), actorSystem)
+                .handle((deletedEvents, error) -> {
+                    if (error != null) {
+                        LOGGER.warn("Failed to compact events <{}> to <{}> of <{}>: <{}>", fromRevision,
+                                toRevision, persistenceId, error.getMessage());
+                        return 0L;
+                    }
+                    if (deletedEvents > 0) {
+                        compactedEvents.increment(deletedEvents);
+                        compactionRatio.record((long) eventCount);
+                        LOGGER.debug("Compacted events <{}> to <{}> of <{}>.", fromRevision, toRevision,
+                                persistenceId);
+                    }
+                    return deletedEvents;
+                });
+    }
+
+    private boolean conflictsWithPendingEvents(final JsonPointer path) {
+        return pendingEvents.stream()
+                .map(ThingEvent::getResourcePath)
+                .anyMatch(pendingPath -> !pendingPath.equals(path) &&
+                        (isPrefix(pendingPath, path) || isPrefix(path, pendingPath)));
+    }
+
+    private static boolean isPrefix(final JsonPointer prefix, final JsonPointer path) {
+        if (prefix.getLevelCount() > path.getLevelCount()) {
+            return false;
+        }
+        for (int level = 0; level < prefix.getLevelCount(); level++) {
+            if (!prefix.get(level).equals(path.get(level))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean containsKeyRegex(final JsonPointer path) {
+        // keys enclosed by curly braces are interpreted as regular expressions in JSON merge patches
+        for (final JsonKey key : path) {
+            if (key.toString().startsWith("{{")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+}
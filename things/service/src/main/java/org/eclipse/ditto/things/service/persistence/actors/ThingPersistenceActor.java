@@ -12,15 +12,21 @@
  */
 package org.eclipse.ditto.things.service.persistence.actors;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.util.concurrent.CompletionStage;
 
 import javax.annotation.Nullable;
 
 import org.apache.pekko.actor.ActorRef;
+import org.apache.pekko.actor.ExtendedActorSystem;
 import org.apache.pekko.actor.Props;
 import org.apache.pekko.japi.pf.ReceiveBuilder;
 import org.apache.pekko.persistence.RecoveryCompleted;
+import org.apache.pekko.persistence.journal.Tagged;
+import org.apache.pekko.stream.ActorAttributes;
+import org.apache.pekko.stream.Attributes;
+import org.bson.BsonDocument;
 import org.eclipse.ditto.base.model.acks.DittoAcknowledgementLabel;
 import org.eclipse.ditto.base.model.exceptions.DittoRuntimeExceptionBuilder;
 import org.eclipse.ditto.base.model.headers.DittoHeaders;
@@ -50,13 +56,16 @@ import org.eclipse.ditto.things.model.ThingsModelFactory;
 import org.eclipse.ditto.things.model.signals.commands.exceptions.ThingHistoryNotAccessibleException;
 import org.eclipse.ditto.things.model.signals.commands.exceptions.ThingNotAccessibleException;
 import org.eclipse.ditto.things.model.signals.commands.modify.CreateThing;
+import org.eclipse.ditto.things.model.signals.commands.modify.ThingModifyCommand;
 import org.eclipse.ditto.things.model.signals.commands.query.RetrieveThing;
 import org.eclipse.ditto.things.model.signals.commands.query.ThingQueryCommandResponse;
 import org.eclipse.ditto.things.model.signals.events.ThingEvent;
 import org.eclipse.ditto.things.service.common.config.DittoThingsConfig;
+import org.eclipse.ditto.things.service.common.config.EventCompactionConfig;
 import org.eclipse.ditto.things.service.common.config.ThingConfig;
 import org.eclipse.ditto.things.service.persistence.actors.strategies.commands.ThingCommandStrategies;
 import org.eclipse.ditto.things.service.persistence.actors.strategies.events.ThingEventStrategies;
+import org.eclipse.ditto.things.service.persistence.serializer.ThingMongoEventAdapter;
 
 /**
  * PersistentActor which "knows" the state of a single {@link Thing}.
@@ -79,12 +88,27 @@ public final class ThingPersistenceActor
      */
     static final String SNAPSHOT_PLUGIN_ID = "pekko-contrib-mongodb-persistence-things-snapshots";
 
+    /**
+     * The dispatcher the persistence actors of things run on, isolated from live, enforcement and enrichment
+     * workloads.
+     */
+    public static final String PERSISTENCE_ACTOR_DISPATCHER = "thing-persistence-actor-dispatcher";
+
+    /**
+     * The dispatcher replaying the events of a thing for retrieve commands at a historical revision or timestamp.
+     */
+    static final String HISTORICAL_RETRIEVE_DISPATCHER = "thing-historical-retrieve-dispatcher";
+
     private static final AckExtractor<ThingEvent<?>> ACK_EXTRACTOR =
             AckExtractor.of(ThingEvent::getEntityId, ThingEvent::getDittoHeaders);
 
+    private static final String EVENT_COMPACTION_TIMER = "eventCompaction";
+
     private final ThingConfig thingConfig;
     private final DistributedPub<ThingEvent<?>> distributedPub;
     @Nullable private final ActorRef searchShardRegionProxy;
+    @Nullable private final ThingEventCompactor eventCompactor;
+    private final ThingAdmissionControl admissionControl;
 
     @SuppressWarnings("unused")
     private ThingPersistenceActor(final ThingId thingId,
@@ -99,6 +123,8 @@ public final class ThingPersistenceActor
         thingConfig = thingsConfig.getThingConfig();
         this.distributedPub = distributedPub;
         this.searchShardRegionProxy = searchShardRegionProxy;
+        eventCompactor = createEventCompactor(thingConfig.getEventCompactionConfig(), mongoReadJournal);
+        admissionControl = ThingAdmissionControl.get(getContext().getSystem());
     }
 
     /**
@@ -154,6 +180,14 @@ public final class ThingPersistenceActor
         }
     }
 
+    @Override
+    public void postStop() throws Exception {
+        if (eventCompactor != null) {
+            eventCompactor.flush();
+        }
+        super.postStop();
+    }
+
     @Override
     public String persistenceId() {
         return entityId.getEntityType() + ":" + entityId;
@@ -169,6 +203,11 @@ public final class ThingPersistenceActor
         return SNAPSHOT_PLUGIN_ID;
     }
 
+    @Override
+    protected Attributes getHistoricalRetrieveStreamAttributes() {
+        return ActorAttributes.dispatcher(HISTORICAL_RETRIEVE_DISPATCHER);
+    }
+
     @Override
     protected Class<?> getEventClass() {
         return ThingEvent.class;
@@ -209,15 +248,44 @@ public final class ThingPersistenceActor
         return null != entity && entity.hasLifecycle(ThingLifecycle.DELETED);
     }
 
+    @Override
+    protected Receive matchAnyAfterInitialization() {
+        return ReceiveBuilder.create()
+                .matchEquals(Control.COMPACT_EVENTS, this::compactEvents)
+                .build()
+                .orElse(super.matchAnyAfterInitialization());
+    }
+
     @Override
     protected Receive matchAnyWhenDeleted() {
         return ReceiveBuilder.create()
                 .match(RetrieveThing.class, this::handleByCommandStrategy)
                 .match(SudoRetrieveThing.class, this::handleByCommandStrategy)
+                .matchEquals(Control.COMPACT_EVENTS, this::compactEvents)
                 .build()
                 .orElse(super.matchAnyWhenDeleted());
     }
 
+    @Override
+    protected void onEventPersisted(final ThingEvent<?> persistedEvent, final long revision) {
+        if (eventCompactor != null && eventCompactor.add(persistedEvent, revision)) {
+            timers().startSingleTimer(EVENT_COMPACTION_TIMER, Control.COMPACT_EVENTS,
+                    thingConfig.getEventCompactionConfig().getWindow());
+        }
+    }
+
+    @Override
+    protected void onCommandHandlingStarted(final Command<?> command) {
+        if (command instanceof ThingModifyCommand) {
+            admissionControl.release(getSelf());
+        }
+    }
+
+    @Override
+    protected void onJournalWriteCompleted(final ThingEvent<?> persistedEvent, final Duration writeDuration) {
+        admissionControl.recordJournalWriteLatency(entityId, writeDuration);
+    }
+
     @Override
     protected DittoRuntimeExceptionBuilder<?> newNotAccessibleExceptionBuilder() {
         return ThingNotAccessibleException.newBuilder(entityId);
@@ -268,6 +336,26 @@ public final class ThingPersistenceActor
         return entity.getImplementedSchemaVersion();
     }
 
+    private void compactEvents(final Control compactEvents) {
+        if (eventCompactor != null) {
+            eventCompactor.flush();
+        }
+    }
+
+    @Nullable
+    private ThingEventCompactor createEventCompactor(final EventCompactionConfig eventCompactionConfig,
+            final MongoReadJournal mongoReadJournal) {
+
+        if (eventCompactionConfig.isEnabledForNamespace(entityId.getNamespace())) {
+            final var eventAdapter = new ThingMongoEventAdapter((ExtendedActorSystem) getContext().getSystem());
+            return new ThingEventCompactor(persistenceId(), eventCompactionConfig.getMaxEvents(), mongoReadJournal,
+                    event -> (BsonDocument) ((Tagged) eventAdapter.toJournal(event)).payload(),
+                    getContext().getSystem());
+        } else {
+            return null;
+        }
+    }
+
     private static Thing enhanceThingWithLifecycle(final Thing thing) {
         final ThingBuilder.FromCopy thingBuilder = ThingsModelFactory.newThingBuilder(thing);
         if (thing.getLifecycle().isEmpty()) {
@@ -277,4 +365,8 @@ public final class ThingPersistenceActor
         return thingBuilder.build();
     }
 
+    private enum Control {
+        COMPACT_EVENTS
+    }
+
 }
@@ -15,8 +15,11 @@ package org.eclipse.ditto.things.service.persistence.actors;
 import java.util.Deque;
 import java.util.concurrent.LinkedBlockingDeque;
 
+import javax.annotation.Nullable;
+
 import org.eclipse.ditto.things.model.signals.commands.ThingErrorResponse;
 import org.eclipse.ditto.things.model.signals.commands.exceptions.ThingTooManyModifyingRequestsException;
+import org.eclipse.ditto.things.model.signals.commands.exceptions.ThingUnavailableException;
 import org.eclipse.ditto.things.model.signals.commands.modify.ThingModifyCommand;
 
 import com.typesafe.config.Config;
@@ -36,7 +39,11 @@ import org.apache.pekko.event.LoggingAdapter;
  * Mailbox which handles {@link ThingModifyCommand}s which should be passed to the {@link ThingPersistenceActor} in a
  * special way: those are not enqueued into the mailbox if the mailbox size gets bigger than the configured {@link
  * #capacity}. <p> In that case the {@link ThingPersistenceActor} cannot write the modifications fast enough to the
- * persistence and it makes no sense to enqueue further modifications. </p> <p> {@link org.eclipse.ditto.things.model.signals.commands.query.ThingQueryCommand}s and other
+ * persistence and it makes no sense to enqueue further modifications. </p> <p> Additionally, modifying commands are
+ * only enqueued if the node-level {@link ThingAdmissionControl} admits them, otherwise they are rejected with a
+ * {@link ThingUnavailableException} asking the client to retry later. </p> <p> Both limits only apply if the admission
+ * control is enabled. Otherwise, modifying commands are enqueued without limit like by the default mailbox. </p> <p>
+ * {@link org.eclipse.ditto.things.model.signals.commands.query.ThingQueryCommand}s and other
  * messages (e.g. Recovery-Messages) are always enqueued and not treated in a special way. </p>
  */
 public class ThingPersistenceActorMailbox implements MailboxType,
@@ -61,7 +68,14 @@ public class ThingPersistenceActorMailbox implements MailboxType,
     @Override
     public MessageQueue create(final scala.Option<ActorRef> owner, final scala.Option<ActorSystem> system) {
         // The create method is called to create the MessageQueue
-        return new ThingPersistenceActorMessageQueue(capacity, system.get());
+        final ActorSystem actorSystem = system.get();
+        final ThingAdmissionControl admissionControl = ThingAdmissionControl.get(actorSystem);
+        if (admissionControl.isEnabled()) {
+            return new ThingPersistenceActorMessageQueue(capacity, actorSystem,
+                    owner.isDefined() ? owner.get() : null, admissionControl);
+        } else {
+            return new ThingPersistenceActorMessageQueue(Integer.MAX_VALUE, actorSystem);
+        }
     }
 
     /**
@@ -72,13 +86,44 @@ public class ThingPersistenceActorMailbox implements MailboxType,
 
         private static final long serialVersionUID = -3799029649510677683L;
 
+        /**
+         * Retry-After header specified by RFC-6585 SS.4.
+         */
+        private static final String RETRY_AFTER = "retry-after";
+
         private final transient LoggingAdapter log;
 
         private final int capacity;
 
+        @Nullable private final transient ThingAdmissionControl admissionControl;
+
+        @Nullable private final transient ThingAdmissionControl.Admissions admissions;
+
         public ThingPersistenceActorMessageQueue(final int capacity, final ActorSystem actorSystem) {
+            this(capacity, actorSystem, null, null);
+        }
+
+        /**
+         * Creates the message queue of a thing persistence actor which applies the node-level admission control to
+         * modifying commands.
+         *
+         * @param capacity the number of messages above which modifying commands are rejected.
+         * @param actorSystem the actor system.
+         * @param owner the persistence actor owning the message queue.
+         * @param admissionControl the admission control of the node, or {@code null} to apply none.
+         * @since 3.8.0
+         */
+        public ThingPersistenceActorMessageQueue(final int capacity, final ActorSystem actorSystem,
+                @Nullable final ActorRef owner, @Nullable final ThingAdmissionControl admissionControl) {
             log = Logging.getLogger(actorSystem, ThingPersistenceActorMessageQueue.class);
             this.capacity = capacity;
+            if (null != owner && null != admissionControl && admissionControl.isEnabled()) {
+                this.admissionControl = admissionControl;
+                admissions = admissionControl.newAdmissions(owner);
+            } else {
+                this.admissionControl = null;
+                admissions = null;
+            }
         }
 
         @Override
@@ -90,7 +135,9 @@ public class ThingPersistenceActorMailbox implements MailboxType,
         public void enqueue(final ActorRef receiver, final Envelope handle) {
             final Object message = handle.message();
             if (message instanceof ThingModifyCommand) {
-                queueSizeBasedAction(handle.sender(), (ThingModifyCommand<?>) message, () -> queue().add(handle));
+                queueSizeBasedAction(handle.sender(), (ThingModifyCommand<?>) message,
+                        () -> admissionBasedAction(handle.sender(), (ThingModifyCommand<?>) message,
+                                () -> queue().add(handle)));
             } else {
                 // all other messages are enqueued right away and with no "limit":
                 queue().add(handle);
@@ -101,14 +148,19 @@ public class ThingPersistenceActorMailbox implements MailboxType,
         public void enqueueFirst(final ActorRef receiver, final Envelope handle) {
             final Object message = handle.message();
             if (message instanceof ThingModifyCommand) {
-                queueSizeBasedAction(handle.sender(), (ThingModifyCommand<?>) message, () -> queue().addFirst(handle));
+                // commands are enqueued first when they are unstashed, they were admitted when first enqueued
+                if (!queueSizeBasedAction(handle.sender(), (ThingModifyCommand<?>) message,
+                        () -> queue().addFirst(handle)) && null != admissions) {
+                    admissions.release();
+                }
             } else {
                 // all other messages are enqueued right away and with no "limit":
                 queue().addFirst(handle);
             }
         }
 
-        private void queueSizeBasedAction(final ActorRef sender, final ThingModifyCommand<?> command, final Runnable r) {
+        private boolean queueSizeBasedAction(final ActorRef sender, final ThingModifyCommand<?> command,
+                final Runnable r) {
             // instead of blocking return "too many requests" response if numberOfMessages > capacity
             if (numberOfMessages() > capacity) {
                 log.warning("Number of messages ({}) in the Mailbox of thing with ID '{}' exceeded the max capacity of "
@@ -121,8 +173,32 @@ public class ThingPersistenceActorMailbox implements MailboxType,
                                 .dittoHeaders(command.getDittoHeaders()) //
                                 .build());
                 sender.tell(errorResponse, null);
+                return false;
             } else {
                 r.run();
+                return true;
+            }
+        }
+
+        private void admissionBasedAction(final ActorRef sender, final ThingModifyCommand<?> command,
+                final Runnable r) {
+            if (null == admissions || admissions.tryAdmit(command.getEntityId())) {
+                r.run();
+            } else {
+                final long retryAfterSeconds =
+                        Math.max(1L, (admissionControl.getRetryAfter().toMillis() + 999L) / 1000L);
+                log.debug("Admission control of the node rejected ThingModifyCommand '{}' for thing with ID '{}'",
+                        command.getType(), command.getEntityId());
+                final ThingErrorResponse errorResponse = ThingErrorResponse.of(command.getEntityId(),
+                        ThingUnavailableException.newBuilder(command.getEntityId())
+                                .description("The Things service is overloaded, please retry the modification " +
+                                        "after the time given in the 'retry-after' header.")
+                                .dittoHeaders(command.getDittoHeaders()
+                                        .toBuilder()
+                                        .putHeader(RETRY_AFTER, String.valueOf(retryAfterSeconds))
+                                        .build())
+                                .build());
+                sender.tell(errorResponse, null);
             }
         }
 
@@ -150,6 +226,9 @@ public class ThingPersistenceActorMailbox implements MailboxType,
                     envelope = dequeue();
                 }
             }
+            if (null != admissions) {
+                admissions.releaseAll();
+            }
         }
     }
 }
@@ -106,7 +106,7 @@ public final class ThingSupervisorActor extends AbstractPersistenceSupervisor<Th
     private final Materializer materializer;
     private final ResponseReceiverCache responseReceiverCache;
 
-    private final SupervisorInlinePolicyEnrichment inlinePolicyEnrichment;
+    @Nullable private final SupervisorInlinePolicyEnrichment inlinePolicyEnrichment;
     private final SupervisorLiveChannelDispatching liveChannelDispatching;
     private final SupervisorSmartChannelDispatching smartChannelDispatching;
 
@@ -173,16 +173,20 @@ public final class ThingSupervisorActor extends AbstractPersistenceSupervisor<Th
                 shardRegionProxyActorFactory.getShardRegionProxyActor(ThingsSearchConstants.CLUSTER_ROLE,
                         ThingsSearchConstants.SHARD_REGION);
 
-        try {
-            inlinePolicyEnrichment = new SupervisorInlinePolicyEnrichment(system, log, getEntityId(),
-                    thingPersistenceActorSelection, this.policiesShardRegion, enforcementConfig);
-        } catch (final Exception e) {
-            throw new IllegalStateException("Entity Id could not be retrieved", e);
+        if (isShardRelay()) {
+            inlinePolicyEnrichment = null;
+        } else {
+            try {
+                inlinePolicyEnrichment = new SupervisorInlinePolicyEnrichment(system, log, getEntityId(),
+                        thingPersistenceActorSelection, this.policiesShardRegion, enforcementConfig);
+            } catch (final Exception e) {
+                throw new IllegalStateException("Entity Id could not be retrieved", e);
+            }
         }
         liveChannelDispatching = new SupervisorLiveChannelDispatching(log, enforcementConfig, responseReceiverCache,
                 liveSignalPub, getContext(), thingsShardRegion, system);
         smartChannelDispatching = new SupervisorSmartChannelDispatching(log, thingPersistenceActorSelection,
-                liveChannelDispatching);
+                liveChannelDispatching, system);
     }
 
     /**
@@ -330,6 +334,7 @@ public final class ThingSupervisorActor extends AbstractPersistenceSupervisor<Th
                     if (pair.command() instanceof RetrieveThing retrieveThing &&
                             SupervisorInlinePolicyEnrichment.shouldRetrievePolicyWithThing(retrieveThing) &&
                             pair.response() instanceof RetrieveThingResponse retrieveThingResponse) {
+                        assert inlinePolicyEnrichment != null;
                         return inlinePolicyEnrichment.enrichPolicy(retrieveThing, retrieveThingResponse)
                                 .map(Object.class::cast);
                     } else if (RollbackCreatedPolicy.shouldRollbackBasedOnTargetActorResponse(pair.command(),
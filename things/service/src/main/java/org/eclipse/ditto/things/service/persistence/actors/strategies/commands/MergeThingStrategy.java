@@ -28,14 +28,12 @@ import org.eclipse.ditto.base.model.headers.entitytag.EntityTag;
 import org.eclipse.ditto.base.model.json.FieldType;
 import org.eclipse.ditto.internal.utils.persistentactors.results.Result;
 import org.eclipse.ditto.internal.utils.persistentactors.results.ResultFactory;
-import org.eclipse.ditto.json.JsonMergePatch;
-import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.json.JsonPointer;
 import org.eclipse.ditto.json.JsonRuntimeException;
 import org.eclipse.ditto.json.JsonValue;
 import org.eclipse.ditto.things.model.Thing;
 import org.eclipse.ditto.things.model.ThingId;
-import org.eclipse.ditto.things.model.ThingsModelFactory;
+import org.eclipse.ditto.things.model.ThingMergePatch;
 import org.eclipse.ditto.things.model.signals.commands.ThingCommandSizeValidator;
 import org.eclipse.ditto.things.model.signals.commands.ThingResourceMapper;
 import org.eclipse.ditto.things.model.signals.commands.exceptions.ThingMergeInvalidException;
@@ -145,21 +143,18 @@ final class MergeThingStrategy extends AbstractThingModifyCommandStrategy<MergeT
             final Instant eventTs,
             final long nextRevision
     ) {
-        final JsonObject existingThingJson = thing.toJson(FieldType.all());
-        final JsonMergePatch jsonMergePatch = JsonMergePatch.of(command.getPath(),
+        final ThingMergePatch thingMergePatch = ThingMergePatch.of(command.getPath(),
                 command.getEntity().orElseGet(command::getValue));
-        final JsonObject mergedJson = jsonMergePatch.applyOn(existingThingJson).asObject();
+        final Thing mergedThing = thingMergePatch.applyOn(thing)
+                .setRevision(nextRevision)
+                .setModified(eventTs).build();
 
         ThingCommandSizeValidator.getInstance().ensureValidSize(
-                mergedJson::getUpperBoundForStringSize,
-                () -> mergedJson.toString().length(),
+                () -> mergedThing.toJson(FieldType.all()).getUpperBoundForStringSize(),
+                () -> mergedThing.toJson(FieldType.all()).toString().length(),
                 command::getDittoHeaders);
 
-        context.getLog().debug("Result of JSON merge: {}", mergedJson);
-        final Thing mergedThing = ThingsModelFactory.newThingBuilder(mergedJson)
-                .setRevision(nextRevision)
-                .setModified(eventTs).build();
-        context.getLog().debug("Thing created from merged JSON: {}", mergedThing);
+        context.getLog().debug("Result of merge: {}", mergedThing);
         return mergedThing;
     }
 
@@ -15,12 +15,9 @@ package org.eclipse.ditto.things.service.persistence.actors.strategies.events;
 import javax.annotation.Nullable;
 import javax.annotation.concurrent.Immutable;
 
-import org.eclipse.ditto.base.model.json.FieldType;
-import org.eclipse.ditto.json.JsonFactory;
-import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.things.model.Thing;
 import org.eclipse.ditto.things.model.ThingLifecycle;
-import org.eclipse.ditto.things.model.ThingsModelFactory;
+import org.eclipse.ditto.things.model.ThingMergePatch;
 import org.eclipse.ditto.things.model.signals.events.ThingMerged;
 
 /**
@@ -37,10 +34,8 @@ final class ThingMergedStrategy extends AbstractThingEventStrategy<ThingMerged>
     @Override
     public Thing handle(final ThingMerged event, @Nullable final Thing thing, final long revision) {
         if (null != thing) {
-            final JsonObject jsonObject = thing.toJson(FieldType.all());
-            final JsonObject mergePatch = JsonFactory.newObject(event.getResourcePath(), event.getValue());
-            final JsonObject mergedJson = JsonFactory.mergeJsonValues(mergePatch, jsonObject).asObject();
-            return ThingsModelFactory.newThingBuilder(mergedJson)
+            return ThingMergePatch.of(event.getResourcePath(), event.getValue())
+                    .applyOn(thing)
                     .setRevision(revision)
                     .setModified(event.getTimestamp().orElse(null))
                     .setLifecycle(ThingLifecycle.ACTIVE)
@@ -25,6 +25,7 @@ import org.eclipse.ditto.base.api.persistence.SnapshotTaken;
 import org.eclipse.ditto.base.model.entity.Revision;
 import org.eclipse.ditto.internal.utils.cluster.DistPubSubAccess;
 import org.eclipse.ditto.internal.utils.persistence.mongo.AbstractMongoSnapshotAdapter;
+import org.eclipse.ditto.internal.utils.persistence.mongo.config.DefaultSnapshotCompressionConfig;
 import org.eclipse.ditto.json.JsonField;
 import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.json.JsonValue;
@@ -67,9 +68,10 @@ public final class ThingMongoSnapshotAdapter extends AbstractMongoSnapshotAdapte
      * Constructs a new {@code ThingMongoSnapshotAdapter}.
      *
      * @param pubSubMediator Pekko pubsub mediator with which to publish snapshot events.
+     * @param config the config of the extension.
      */
     public ThingMongoSnapshotAdapter(final ActorRef pubSubMediator, final Config config) {
-        super(LOGGER);
+        super(LOGGER, DefaultSnapshotCompressionConfig.of(config));
         this.pubSubMediator = pubSubMediator;
         snapshotTakenEventPublishingEnabled = config.getBoolean(THING_SNAPSHOT_TAKEN_EVENT_PUBLISHING_ENABLED);
     }
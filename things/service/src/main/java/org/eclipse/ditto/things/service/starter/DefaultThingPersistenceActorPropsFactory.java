@@ -25,7 +25,6 @@ import org.eclipse.ditto.things.service.persistence.actors.ThingPersistenceActor
 import org.eclipse.ditto.things.service.persistence.actors.ThingPersistenceActorPropsFactory;
 
 import org.apache.pekko.actor.ActorRef;
-import org.apache.pekko.actor.ActorSystem;
 import org.apache.pekko.actor.Props;
 
 /**
@@ -34,21 +33,21 @@ import org.apache.pekko.actor.Props;
 @Immutable
 final class DefaultThingPersistenceActorPropsFactory implements ThingPersistenceActorPropsFactory {
 
-    private final ActorSystem actorSystem;
+    private static final DefaultThingPersistenceActorPropsFactory INSTANCE =
+            new DefaultThingPersistenceActorPropsFactory();
 
-    private DefaultThingPersistenceActorPropsFactory(final ActorSystem actorSystem) {
-        this.actorSystem = actorSystem;
+    private DefaultThingPersistenceActorPropsFactory() {
+        super();
     }
 
     /**
-     * Returns an instance of {@code ThingPersistenceActorPropsFactory}.
+     * Returns the instance of {@code ThingPersistenceActorPropsFactory} which creates the Props of thing persistence
+     * actors running on their dedicated dispatcher.
      *
-     * @param actorSystem the actor-system.
      * @return the instance.
-     * @throws NullPointerException if any argument is {@code null}.
      */
-    static DefaultThingPersistenceActorPropsFactory of(final ActorSystem actorSystem) {
-        return new DefaultThingPersistenceActorPropsFactory(actorSystem);
+    static DefaultThingPersistenceActorPropsFactory getInstance() {
+        return INSTANCE;
     }
 
     @Override
@@ -56,6 +55,7 @@ final class DefaultThingPersistenceActorPropsFactory implements ThingPersistence
             final DistributedPub<ThingEvent<?>> distributedPub,
             @Nullable final ActorRef searchShardRegionProxy) {
         argumentNotEmpty(thingId);
-        return ThingPersistenceActor.props(thingId, mongoReadJournal, distributedPub, searchShardRegionProxy);
+        return ThingPersistenceActor.props(thingId, mongoReadJournal, distributedPub, searchShardRegionProxy)
+                .withDispatcher(ThingPersistenceActor.PERSISTENCE_ACTOR_DISPATCHER);
     }
 }
@@ -33,11 +33,15 @@ import org.eclipse.ditto.internal.utils.health.DefaultHealthCheckingActorFactory
 import org.eclipse.ditto.internal.utils.health.HealthCheckingActorOptions;
 import org.eclipse.ditto.internal.utils.namespaces.BlockedNamespaces;
 import org.eclipse.ditto.internal.utils.pekko.logging.DittoLoggerFactory;
+import org.eclipse.ditto.internal.utils.persistence.mongo.DittoMongoClient;
 import org.eclipse.ditto.internal.utils.persistence.mongo.MongoClientWrapper;
 import org.eclipse.ditto.internal.utils.persistence.mongo.MongoHealthChecker;
 import org.eclipse.ditto.internal.utils.persistence.mongo.config.MongoDbConfig;
 import org.eclipse.ditto.internal.utils.persistence.mongo.streaming.MongoReadJournal;
+import org.eclipse.ditto.internal.utils.persistentactors.cleanup.MongoCleanupProgressStore;
 import org.eclipse.ditto.internal.utils.persistentactors.cleanup.PersistenceCleanupActor;
+import org.eclipse.ditto.internal.utils.persistentactors.warmup.EntityWarmUpActor;
+import org.eclipse.ditto.internal.utils.persistentactors.warmup.MongoHotEntitiesStore;
 import org.eclipse.ditto.internal.utils.pubsub.DistributedAcks;
 import org.eclipse.ditto.internal.utils.pubsub.DistributedPub;
 import org.eclipse.ditto.internal.utils.pubsubthings.LiveSignalPub;
@@ -65,6 +69,9 @@ public final class ThingsRootActor extends DittoRootActor {
      */
     public static final String ACTOR_NAME = "thingsRoot";
 
+    private static final String HOT_THINGS_COLLECTION = "things_hot_entities";
+    private static final String CLEANUP_PROGRESS_COLLECTION = "things_cleanup_progress";
+
     private final DiagnosticLoggingAdapter log = DittoLoggerFactory.getDiagnosticLoggingAdapter(this);
 
     private final RetrieveStatisticsDetailsResponseSupplier retrieveStatisticsDetailsResponseSupplier;
@@ -87,7 +94,8 @@ public final class ThingsRootActor extends DittoRootActor {
 
         final BlockedNamespaces blockedNamespaces = BlockedNamespaces.of(actorSystem);
         final PolicyEnforcerProvider policyEnforcerProvider = PolicyEnforcerProviderExtension.get(actorSystem).getPolicyEnforcerProvider();
-        final var mongoReadJournal = newMongoReadJournal(thingsConfig.getMongoDbConfig(), actorSystem);
+        final var mongoClient = MongoClientWrapper.newInstance(thingsConfig.getMongoDbConfig());
+        final var mongoReadJournal = newMongoReadJournal(mongoClient, thingsConfig.getMongoDbConfig(), actorSystem);
         final Props thingSupervisorActorProps = getThingSupervisorActorProps(pubSubMediator,
                 distributedPubThingEventsForTwin,
                 liveSignalPub,
@@ -109,7 +117,8 @@ public final class ThingsRootActor extends DittoRootActor {
                 DefaultScopedConfig.dittoScoped(getContext().getSystem().settings().config())
         );
 
-        final Props props = ThingsAggregatorActor.props(thingsShardRegion, thingsAggregatorConfig, pubSubMediator);
+        final Props props = ThingsAggregatorActor.props(thingsShardRegion, thingsAggregatorConfig, pubSubMediator,
+                policyEnforcerProvider, numberOfShards);
         startChildActor(ThingsAggregatorActor.ACTOR_NAME, props);
 
         retrieveStatisticsDetailsResponseSupplier = RetrieveStatisticsDetailsResponseSupplier.of(thingsShardRegion,
@@ -132,9 +141,20 @@ public final class ThingsRootActor extends DittoRootActor {
                 ThingsPersistenceStreamingActorCreator.startPersistenceStreamingActor(this::startChildActor);
 
         final var cleanupConfig = thingsConfig.getThingConfig().getCleanupConfig();
-        final Props cleanupActorProps = PersistenceCleanupActor.props(cleanupConfig, mongoReadJournal, CLUSTER_ROLE);
+        final var cleanupProgressStore =
+                MongoCleanupProgressStore.of(mongoClient.getDefaultDatabase(), CLEANUP_PROGRESS_COLLECTION, actorSystem);
+        final Props cleanupActorProps = PersistenceCleanupActor.props(cleanupConfig, mongoReadJournal, CLUSTER_ROLE,
+                cleanupProgressStore);
         startChildActor(PersistenceCleanupActor.ACTOR_NAME, cleanupActorProps);
 
+        final var warmUpConfig = thingsConfig.getThingConfig().getWarmUpConfig();
+        if (warmUpConfig.isEnabled()) {
+            final var hotEntitiesStore =
+                    MongoHotEntitiesStore.of(mongoClient.getDefaultDatabase(), HOT_THINGS_COLLECTION, actorSystem);
+            startChildActor(EntityWarmUpActor.ACTOR_NAME, EntityWarmUpActor.props(warmUpConfig, thingsShardRegion,
+                    hotEntitiesStore, ThingsMessagingConstants.SHARD_REGION));
+        }
+
         pubSubMediator.tell(DistPubSubAccess.put(getSelf()), getSelf());
 
         bindHttpStatusRoute(thingsConfig.getHttpConfig(), healthCheckingActor);
@@ -180,10 +200,10 @@ public final class ThingsRootActor extends DittoRootActor {
                 liveSignalPub, propsFactory, blockedNamespaces, policyEnforcerProvider, mongoReadJournal);
     }
 
-    private static MongoReadJournal newMongoReadJournal(final MongoDbConfig mongoDbConfig,
+    private static MongoReadJournal newMongoReadJournal(final DittoMongoClient mongoClient,
+            final MongoDbConfig mongoDbConfig,
             final ActorSystem actorSystem) {
         final var config = actorSystem.settings().config();
-        final var mongoClient = MongoClientWrapper.newInstance(mongoDbConfig);
 
         return MongoReadJournal.newInstance(config, mongoClient, mongoDbConfig.getReadJournalConfig(), actorSystem);
     }
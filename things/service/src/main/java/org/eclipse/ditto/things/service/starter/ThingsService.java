@@ -16,7 +16,6 @@ import org.eclipse.ditto.base.service.DittoService;
 import org.eclipse.ditto.internal.utils.config.ScopedConfig;
 import org.eclipse.ditto.things.service.common.config.DittoThingsConfig;
 import org.eclipse.ditto.things.service.common.config.ThingsConfig;
-import org.eclipse.ditto.things.service.persistence.actors.ThingPersistenceActor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -64,7 +63,8 @@ public final class ThingsService extends DittoService<ThingsConfig> {
 
     @Override
     protected Props getMainRootActorProps(final ThingsConfig thingsConfig, final ActorRef pubSubMediator) {
-        return ThingsRootActor.props(thingsConfig, pubSubMediator, ThingPersistenceActor::props);
+        return ThingsRootActor.props(thingsConfig, pubSubMediator,
+                DefaultThingPersistenceActorPropsFactory.getInstance());
     }
 
     @Override
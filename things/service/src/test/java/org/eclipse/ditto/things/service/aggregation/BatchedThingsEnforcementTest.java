@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.things.service.aggregation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.ditto.policies.model.SubjectIssuer.GOOGLE;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.ditto.base.model.auth.AuthorizationContext;
+import org.eclipse.ditto.base.model.auth.AuthorizationSubject;
+import org.eclipse.ditto.base.model.auth.DittoAuthorizationContextType;
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.base.model.json.FieldType;
+import org.eclipse.ditto.base.model.json.JsonSchemaVersion;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonFieldSelector;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.policies.api.Permission;
+import org.eclipse.ditto.policies.enforcement.PolicyEnforcer;
+import org.eclipse.ditto.policies.enforcement.PolicyEnforcerProvider;
+import org.eclipse.ditto.policies.model.Permissions;
+import org.eclipse.ditto.policies.model.PoliciesModelFactory;
+import org.eclipse.ditto.policies.model.PoliciesResourceType;
+import org.eclipse.ditto.policies.model.Policy;
+import org.eclipse.ditto.policies.model.PolicyId;
+import org.eclipse.ditto.things.api.commands.sudo.SudoRetrieveThingResponse;
+import org.eclipse.ditto.things.model.Feature;
+import org.eclipse.ditto.things.model.FeatureProperties;
+import org.eclipse.ditto.things.model.Thing;
+import org.eclipse.ditto.things.model.ThingId;
+import org.eclipse.ditto.things.model.ThingsModelFactory;
+import org.eclipse.ditto.things.model.signals.commands.query.RetrieveThingResponse;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link BatchedThingsEnforcement}.
+ */
+public final class BatchedThingsEnforcementTest {
+
+    private static final String SUBJECT_ID = "subject";
+    private static final PolicyId SHARED_POLICY_ID = PolicyId.of("policy", "shared");
+    private static final PolicyId FOREIGN_POLICY_ID = PolicyId.of("policy", "foreign");
+
+    private static final DittoHeaders DITTO_HEADERS = DittoHeaders.newBuilder()
+            .authorizationContext(AuthorizationContext.newInstance(DittoAuthorizationContextType.UNSPECIFIED,
+                    AuthorizationSubject.newInstance(GOOGLE + ":" + SUBJECT_ID)))
+            .build();
+
+    private AtomicInteger policyEnforcerLookups;
+    private PolicyEnforcerProvider policyEnforcerProvider;
+
+    @Before
+    public void setUp() {
+        policyEnforcerLookups = new AtomicInteger();
+        final Map<PolicyId, Policy> policies = Map.of(
+                SHARED_POLICY_ID, PoliciesModelFactory.newPolicyBuilder(SHARED_POLICY_ID)
+                        .forLabel("reader")
+                        .setSubject(GOOGLE, SUBJECT_ID)
+                        .setGrantedPermissions(PoliciesResourceType.thingResource(JsonPointer.empty()),
+                                Permissions.newInstance(Permission.READ))
+                        .setRevokedPermissions(PoliciesResourceType.thingResource("/features/x/properties/secret"),
+                                Permissions.newInstance(Permission.READ))
+                        .build(),
+                FOREIGN_POLICY_ID, PoliciesModelFactory.newPolicyBuilder(FOREIGN_POLICY_ID)
+                        .forLabel("other")
+                        .setSubject(GOOGLE, "other-subject")
+                        .setGrantedPermissions(PoliciesResourceType.thingResource(JsonPointer.empty()),
+                                Permissions.newInstance(Permission.READ))
+                        .build()
+        );
+        policyEnforcerProvider = policyId -> {
+            policyEnforcerLookups.incrementAndGet();
+            return CompletableFuture.completedFuture(Optional.ofNullable(policies.get(policyId))
+                    .map(PolicyEnforcer::of));
+        };
+    }
+
+    @Test
+    public void looksUpPolicyEnforcerOncePerDistinctPolicy() {
+        final BatchedThingsEnforcement underTest =
+                BatchedThingsEnforcement.of(policyEnforcerProvider, null, DITTO_HEADERS);
+
+        enforce(underTest, newThing("a", SHARED_POLICY_ID));
+        enforce(underTest, newThing("b", SHARED_POLICY_ID));
+        enforce(underTest, newThing("c", SHARED_POLICY_ID));
+        enforce(underTest, newThing("d", FOREIGN_POLICY_ID));
+
+        assertThat(policyEnforcerLookups).hasValue(2);
+        assertThat(underTest.getPolicyEnforcerLookups()).isEqualTo(2);
+    }
+
+    @Test
+    public void filtersRevokedFieldsAndSpecialFields() {
+        final BatchedThingsEnforcement underTest =
+                BatchedThingsEnforcement.of(policyEnforcerProvider, null, DITTO_HEADERS);
+        final Thing thing = newThing("a", SHARED_POLICY_ID);
+
+        final Optional<RetrieveThingResponse> response = enforce(underTest, thing);
+
+        assertThat(response).isPresent();
+        final JsonObject entity = response.get().getEntity().asObject();
+        assertThat(entity.getValue("features/x/properties/visible")).contains(JsonFactory.newValue(1));
+        assertThat(entity.getValue("features/x/properties/secret")).isEmpty();
+        assertThat(entity.getValue(Thing.JsonFields.REVISION.getPointer())).isEmpty();
+        assertThat(response.map(RetrieveThingResponse::getEntityId)).contains(thing.getEntityId().orElseThrow());
+    }
+
+    @Test
+    public void omitsThingsNotReadableByRequester() {
+        final BatchedThingsEnforcement underTest =
+                BatchedThingsEnforcement.of(policyEnforcerProvider, null, DITTO_HEADERS);
+
+        assertThat(enforce(underTest, newThing("d", FOREIGN_POLICY_ID))).isEmpty();
+    }
+
+    @Test
+    public void appliesSelectedFieldsAfterEnforcement() {
+        final JsonFieldSelector selectedFields = JsonFactory.newFieldSelector("features/*/properties");
+        final BatchedThingsEnforcement underTest =
+                BatchedThingsEnforcement.of(policyEnforcerProvider, selectedFields, DITTO_HEADERS);
+
+        assertThat(underTest.getSudoSelectedFields()).hasValueSatisfying(sudoSelectedFields ->
+                assertThat(sudoSelectedFields.getPointers()).contains(
+                        Thing.JsonFields.ID.getPointer(),
+                        Thing.JsonFields.POLICY_ID.getPointer()));
+
+        final Thing thing = newThing("a", SHARED_POLICY_ID);
+        // the thing persistence actor expands the feature ID wildcards before selecting the fields
+        final JsonFieldSelector expandedSudoSelectedFields = ThingsModelFactory.expandFeatureIdWildcards(
+                thing.getFeatures().orElseThrow(), underTest.getSudoSelectedFields().orElseThrow());
+        final JsonObject sudoThingJson = thing.toJson(JsonSchemaVersion.LATEST, expandedSudoSelectedFields,
+                FieldType.regularOrSpecial());
+        final Optional<RetrieveThingResponse> response = underTest.enforce(
+                SudoRetrieveThingResponse.of(sudoThingJson, DITTO_HEADERS)).toCompletableFuture().join();
+
+        assertThat(response).isPresent();
+        assertThat(response.get().getEntity().asObject()).isEqualTo(JsonFactory.newObjectBuilder()
+                .set(JsonPointer.of("features/x/properties/visible"), 1)
+                .build());
+    }
+
+    private static Optional<RetrieveThingResponse> enforce(final BatchedThingsEnforcement underTest,
+            final Thing thing) {
+
+        final CompletionStage<Optional<RetrieveThingResponse>> response = underTest.enforce(
+                SudoRetrieveThingResponse.of(thing.toJson(JsonSchemaVersion.LATEST, FieldType.regularOrSpecial()),
+                        DITTO_HEADERS));
+        return response.toCompletableFuture().join();
+    }
+
+    private static Thing newThing(final String name, final PolicyId policyId) {
+        return Thing.newBuilder()
+                .setId(ThingId.of("thing", name))
+                .setPolicyId(policyId)
+                .setRevision(42L)
+                .setFeature(Feature.newBuilder()
+                        .properties(FeatureProperties.newBuilder()
+                                .set("visible", 1)
+                                .set("secret", "s3cr3t")
+                                .build())
+                        .withId("x")
+                        .build())
+                .build();
+    }
+
+}
@@ -57,6 +57,14 @@ public final class DefaultThingsAggregatorConfigTest {
         softly.assertThat(underTest.getMaxParallelism())
                 .as(ThingsAggregatorConfig.ThingsAggregatorConfigValue.MAX_PARALLELISM.getConfigPath())
                 .isEqualTo(ThingsAggregatorConfig.ThingsAggregatorConfigValue.MAX_PARALLELISM.getDefaultValue());
+
+        softly.assertThat(underTest.isBatchRetrieveEnabled())
+                .as(ThingsAggregatorConfig.ThingsAggregatorConfigValue.BATCH_RETRIEVE_ENABLED.getConfigPath())
+                .isEqualTo(ThingsAggregatorConfig.ThingsAggregatorConfigValue.BATCH_RETRIEVE_ENABLED.getDefaultValue());
+
+        softly.assertThat(underTest.getBatchRetrieveShardLocationsMaxAge())
+                .as(ThingsAggregatorConfig.ThingsAggregatorConfigValue.BATCH_RETRIEVE_SHARD_LOCATIONS_MAX_AGE.getConfigPath())
+                .isEqualTo(ThingsAggregatorConfig.ThingsAggregatorConfigValue.BATCH_RETRIEVE_SHARD_LOCATIONS_MAX_AGE.getDefaultValue());
     }
 
     @Test
@@ -70,6 +78,14 @@ public final class DefaultThingsAggregatorConfigTest {
         softly.assertThat(underTest.getMaxParallelism())
                 .as(ThingsAggregatorConfig.ThingsAggregatorConfigValue.MAX_PARALLELISM.getConfigPath())
                 .isEqualTo(10);
+
+        softly.assertThat(underTest.isBatchRetrieveEnabled())
+                .as(ThingsAggregatorConfig.ThingsAggregatorConfigValue.BATCH_RETRIEVE_ENABLED.getConfigPath())
+                .isTrue();
+
+        softly.assertThat(underTest.getBatchRetrieveShardLocationsMaxAge())
+                .as(ThingsAggregatorConfig.ThingsAggregatorConfigValue.BATCH_RETRIEVE_SHARD_LOCATIONS_MAX_AGE.getConfigPath())
+                .isEqualTo(Duration.ofSeconds(30L));
     }
 
 }
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.things.service.aggregation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import org.apache.pekko.actor.ActorRef;
+import org.apache.pekko.actor.ActorSystem;
+import org.apache.pekko.cluster.pubsub.DistributedPubSub;
+import org.apache.pekko.cluster.sharding.ShardRegion;
+import org.apache.pekko.stream.SourceRef;
+import org.apache.pekko.stream.javadsl.Sink;
+import org.apache.pekko.testkit.javadsl.TestKit;
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.policies.enforcement.PolicyEnforcerProvider;
+import org.eclipse.ditto.things.model.ThingId;
+import org.eclipse.ditto.things.model.signals.commands.query.RetrieveThing;
+import org.eclipse.ditto.things.model.signals.commands.query.RetrieveThings;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.typesafe.config.ConfigFactory;
+
+/**
+ * Unit test for {@link ThingsAggregatorActor}.
+ */
+public final class ThingsAggregatorActorTest {
+
+    private static final ThingId THING_ID = ThingId.of("org.eclipse.ditto", "aggregated");
+
+    private ActorSystem actorSystem;
+
+    @Before
+    public void setUp() {
+        actorSystem = ActorSystem.create("ThingsAggregatorActorTest",
+                ConfigFactory.parseString("pekko.actor.provider = cluster\n" +
+                        "pekko.remote.artery.canonical.port = 0"));
+    }
+
+    @After
+    public void tearDown() {
+        if (null != actorSystem) {
+            TestKit.shutdownActorSystem(actorSystem);
+        }
+    }
+
+    @Test
+    public void retrieveThingsWithoutInlinedPolicyIsBatched() {
+        new TestKit(actorSystem) {{
+            final TestKit targetActor = new TestKit(actorSystem);
+            final ActorRef underTest = createAggregator(targetActor.getRef());
+
+            underTest.tell(retrieveThings("thingId,attributes"), getRef());
+
+            targetActor.expectMsgClass(ShardRegion.GetClusterShardingStats.class);
+        }};
+    }
+
+    @Test
+    public void retrieveThingsWithInlinedPolicyIsRetrievedPerThing() {
+        new TestKit(actorSystem) {{
+            final TestKit targetActor = new TestKit(actorSystem);
+            final ActorRef underTest = createAggregator(targetActor.getRef());
+
+            underTest.tell(retrieveThings("thingId,_policy"), getRef());
+            expectMsgClass(SourceRef.class).getSource().runWith(Sink.ignore(), actorSystem);
+
+            // the per-thing RetrieveThing is enriched with the inlined policy by the things supervisor
+            final RetrieveThing retrieveThing = targetActor.expectMsgClass(RetrieveThing.class);
+            assertThat((CharSequence) retrieveThing.getEntityId()).isEqualTo(THING_ID);
+            assertThat(retrieveThing.getSelectedFields())
+                    .contains(JsonFactory.newFieldSelector("thingId,_policy", JsonFactory.newParseOptionsBuilder()
+                            .withoutUrlDecoding()
+                            .build()));
+        }};
+    }
+
+    private ActorRef createAggregator(final ActorRef targetActor) {
+        final ThingsAggregatorConfig config =
+                DefaultThingsAggregatorConfig.of(ConfigFactory.load("things-aggregator-test"));
+        return actorSystem.actorOf(ThingsAggregatorActor.props(targetActor, config,
+                DistributedPubSub.get(actorSystem).mediator(), mock(PolicyEnforcerProvider.class), 30));
+    }
+
+    private static RetrieveThings retrieveThings(final String fields) {
+        return RetrieveThings.getBuilder(THING_ID)
+                .selectedFields(JsonFactory.newFieldSelector(fields, JsonFactory.newParseOptionsBuilder()
+                        .withoutUrlDecoding()
+                        .build()))
+                .dittoHeaders(DittoHeaders.newBuilder().randomCorrelationId().build())
+                .build();
+    }
+
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.things.service.common.config;
+
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.time.Duration;
+
+import org.assertj.core.api.JUnitSoftAssertions;
+import org.eclipse.ditto.internal.utils.config.DittoConfigError;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+
+/**
+ * Unit test for {@link DefaultAdmissionControlConfig}.
+ */
+public final class DefaultAdmissionControlConfigTest {
+
+    private static Config admissionControlTestConf;
+
+    @Rule
+    public final JUnitSoftAssertions softly = new JUnitSoftAssertions();
+
+    @BeforeClass
+    public static void initTestFixture() {
+        admissionControlTestConf = ConfigFactory.load("admission-control-test");
+    }
+
+    @Test
+    public void testHashCodeAndEquals() {
+        EqualsVerifier.forClass(DefaultAdmissionControlConfig.class)
+                .usingGetClass()
+                .verify();
+    }
+
+    @Test
+    public void underTestReturnsDefaultValuesIfBaseConfigWasEmpty() {
+        final DefaultAdmissionControlConfig underTest = DefaultAdmissionControlConfig.of(ConfigFactory.empty());
+
+        softly.assertThat(underTest.isEnabled())
+                .as(AdmissionControlConfig.ConfigValue.ENABLED.getConfigPath())
+                .isEqualTo(AdmissionControlConfig.ConfigValue.ENABLED.getDefaultValue());
+        softly.assertThat(underTest.getLatencyThreshold())
+                .as(AdmissionControlConfig.ConfigValue.LATENCY_THRESHOLD.getConfigPath())
+                .isEqualTo(AdmissionControlConfig.ConfigValue.LATENCY_THRESHOLD.getDefaultValue());
+        softly.assertThat(underTest.getInitialLimit())
+                .as(AdmissionControlConfig.ConfigValue.INITIAL_LIMIT.getConfigPath())
+                .isEqualTo(AdmissionControlConfig.ConfigValue.INITIAL_LIMIT.getDefaultValue());
+        softly.assertThat(underTest.getMinLimit())
+                .as(AdmissionControlConfig.ConfigValue.MIN_LIMIT.getConfigPath())
+                .isEqualTo(AdmissionControlConfig.ConfigValue.MIN_LIMIT.getDefaultValue());
+        softly.assertThat(underTest.getMaxLimit())
+                .as(AdmissionControlConfig.ConfigValue.MAX_LIMIT.getConfigPath())
+                .isEqualTo(AdmissionControlConfig.ConfigValue.MAX_LIMIT.getDefaultValue());
+        softly.assertThat(underTest.getBackoffRatio())
+                .as(AdmissionControlConfig.ConfigValue.BACKOFF_RATIO.getConfigPath())
+                .isEqualTo(AdmissionControlConfig.ConfigValue.BACKOFF_RATIO.getDefaultValue());
+        softly.assertThat(underTest.getRetryAfter())
+                .as(AdmissionControlConfig.ConfigValue.RETRY_AFTER.getConfigPath())
+                .isEqualTo(AdmissionControlConfig.ConfigValue.RETRY_AFTER.getDefaultValue());
+        softly.assertThat(underTest.isPerNamespace())
+                .as(AdmissionControlConfig.ConfigValue.PER_NAMESPACE.getConfigPath())
+                .isEqualTo(AdmissionControlConfig.ConfigValue.PER_NAMESPACE.getDefaultValue());
+    }
+
+    @Test
+    public void underTestReturnsValuesOfConfigFile() {
+        final DefaultAdmissionControlConfig underTest = DefaultAdmissionControlConfig.of(admissionControlTestConf);
+
+        softly.assertThat(underTest.isEnabled())
+                .as(AdmissionControlConfig.ConfigValue.ENABLED.getConfigPath())
+                .isTrue();
+        softly.assertThat(underTest.getLatencyThreshold())
+                .as(AdmissionControlConfig.ConfigValue.LATENCY_THRESHOLD.getConfigPath())
+                .isEqualTo(Duration.ofMillis(200L));
+        softly.assertThat(underTest.getInitialLimit())
+                .as(AdmissionControlConfig.ConfigValue.INITIAL_LIMIT.getConfigPath())
+                .isEqualTo(500);
+        softly.assertThat(underTest.getMinLimit())
+                .as(AdmissionControlConfig.ConfigValue.MIN_LIMIT.getConfigPath())
+                .isEqualTo(50);
+        softly.assertThat(underTest.getMaxLimit())
+                .as(AdmissionControlConfig.ConfigValue.MAX_LIMIT.getConfigPath())
+                .isEqualTo(5000);
+        softly.assertThat(underTest.getBackoffRatio())
+                .as(AdmissionControlConfig.ConfigValue.BACKOFF_RATIO.getConfigPath())
+                .isEqualTo(0.5);
+        softly.assertThat(underTest.getRetryAfter())
+                .as(AdmissionControlConfig.ConfigValue.RETRY_AFTER.getConfigPath())
+                .isEqualTo(Duration.ofSeconds(3L));
+        softly.assertThat(underTest.isPerNamespace())
+                .as(AdmissionControlConfig.ConfigValue.PER_NAMESPACE.getConfigPath())
+                .isTrue();
+    }
+
+    @Test
+    public void initialLimitOutsideOfBoundsIsRejected() {
+        final Config config = ConfigFactory.parseString("admission-control { min-limit = 100, initial-limit = 10 }");
+
+        assertThatExceptionOfType(DittoConfigError.class)
+                .isThrownBy(() -> DefaultAdmissionControlConfig.of(config));
+    }
+
+}
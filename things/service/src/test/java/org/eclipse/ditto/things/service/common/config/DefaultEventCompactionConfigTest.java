@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.things.service.common.config;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.assertj.core.api.JUnitSoftAssertions;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+
+/**
+ * Unit test for {@link DefaultEventCompactionConfig}.
+ */
+public final class DefaultEventCompactionConfigTest {
+
+    private static Config eventCompactionTestConf;
+
+    @Rule
+    public final JUnitSoftAssertions softly = new JUnitSoftAssertions();
+
+    @BeforeClass
+    public static void initTestFixture() {
+        eventCompactionTestConf = ConfigFactory.load("event-compaction-test");
+    }
+
+    @Test
+    public void testHashCodeAndEquals() {
+        EqualsVerifier.forClass(DefaultEventCompactionConfig.class)
+                .usingGetClass()
+                .withIgnoredFields("namespacePatterns")
+                .verify();
+    }
+
+    @Test
+    public void underTestReturnsDefaultValuesIfBaseConfigWasEmpty() {
+        final DefaultEventCompactionConfig underTest = DefaultEventCompactionConfig.of(ConfigFactory.empty());
+
+        softly.assertThat(underTest.isEnabled())
+                .as(EventCompactionConfig.ConfigValue.ENABLED.getConfigPath())
+                .isEqualTo(EventCompactionConfig.ConfigValue.ENABLED.getDefaultValue());
+        softly.assertThat(underTest.getWindow())
+                .as(EventCompactionConfig.ConfigValue.WINDOW.getConfigPath())
+                .isEqualTo(EventCompactionConfig.ConfigValue.WINDOW.getDefaultValue());
+        softly.assertThat(underTest.getMaxEvents())
+                .as(EventCompactionConfig.ConfigValue.MAX_EVENTS.getConfigPath())
+                .isEqualTo(EventCompactionConfig.ConfigValue.MAX_EVENTS.getDefaultValue());
+        softly.assertThat(underTest.getNamespaces())
+                .as(EventCompactionConfig.ConfigValue.NAMESPACES.getConfigPath())
+                .isEqualTo(EventCompactionConfig.ConfigValue.NAMESPACES.getDefaultValue());
+        softly.assertThat(underTest.isEnabledForNamespace("org.eclipse.ditto")).isFalse();
+    }
+
+    @Test
+    public void underTestReturnsValuesOfConfigFile() {
+        final DefaultEventCompactionConfig underTest = DefaultEventCompactionConfig.of(eventCompactionTestConf);
+
+        softly.assertThat(underTest.isEnabled())
+                .as(EventCompactionConfig.ConfigValue.ENABLED.getConfigPath())
+                .isTrue();
+        softly.assertThat(underTest.getWindow())
+                .as(EventCompactionConfig.ConfigValue.WINDOW.getConfigPath())
+                .isEqualTo(Duration.ofSeconds(10L));
+        softly.assertThat(underTest.getMaxEvents())
+                .as(EventCompactionConfig.ConfigValue.MAX_EVENTS.getConfigPath())
+                .isEqualTo(42);
+        softly.assertThat(underTest.getNamespaces())
+                .as(EventCompactionConfig.ConfigValue.NAMESPACES.getConfigPath())
+                .isEqualTo(List.of("org.eclipse.*", "com.acme"));
+    }
+
+    @Test
+    public void compactionIsEnabledForMatchingNamespacesOnly() {
+        final DefaultEventCompactionConfig underTest = DefaultEventCompactionConfig.of(eventCompactionTestConf);
+
+        softly.assertThat(underTest.isEnabledForNamespace("org.eclipse.ditto")).isTrue();
+        softly.assertThat(underTest.isEnabledForNamespace("com.acme")).isTrue();
+        softly.assertThat(underTest.isEnabledForNamespace("com.acme.history")).isFalse();
+        softly.assertThat(underTest.isEnabledForNamespace("org.example")).isFalse();
+    }
+
+}
@@ -0,0 +1,211 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.things.service.persistence.actors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.pekko.actor.ActorRef;
+import org.apache.pekko.actor.ActorSystem;
+import org.apache.pekko.testkit.javadsl.TestKit;
+import org.eclipse.ditto.things.model.ThingId;
+import org.eclipse.ditto.things.service.common.config.AdmissionControlConfig;
+import org.eclipse.ditto.things.service.common.config.DefaultAdmissionControlConfig;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.typesafe.config.ConfigFactory;
+
+/**
+ * Unit test for {@link ThingAdmissionControl}.
+ */
+public final class ThingAdmissionControlTest {
+
+    private static final ThingId THING_ID = ThingId.of("org.eclipse.ditto", "admitted");
+    private static final ThingId OTHER_NAMESPACE_THING_ID = ThingId.of("com.acme", "admitted");
+
+    private ActorSystem actorSystem;
+    private ActorRef persistenceActor;
+    private ActorRef otherPersistenceActor;
+    private AtomicLong nanoTime;
+
+    @Before
+    public void setUp() {
+        actorSystem = ActorSystem.create("ThingAdmissionControlTest");
+        persistenceActor = new TestKit(actorSystem).getRef();
+        otherPersistenceActor = new TestKit(actorSystem).getRef();
+        nanoTime = new AtomicLong();
+    }
+
+    @After
+    public void tearDown() {
+        TestKit.shutdownActorSystem(actorSystem);
+    }
+
+    @Test
+    public void disabledAdmissionControlAdmitsAllCommands() {
+        final ThingAdmissionControl underTest = newAdmissionControl("enabled = false, initial-limit = 1, min-limit = 1");
+        final ThingAdmissionControl.Admissions admissions = underTest.newAdmissions(persistenceActor);
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(admissions.tryAdmit(THING_ID)).isTrue();
+        }
+        assertThat(underTest.getQueued(THING_ID)).isZero();
+    }
+
+    @Test
+    public void shedsCommandsAboveTheLimitUntilTheyAreReleased() {
+        final ThingAdmissionControl underTest = newAdmissionControl("initial-limit = 3, min-limit = 1");
+        final ThingAdmissionControl.Admissions admissions = underTest.newAdmissions(persistenceActor);
+        final ThingAdmissionControl.Admissions otherAdmissions = underTest.newAdmissions(otherPersistenceActor);
+
+        assertThat(admissions.tryAdmit(THING_ID)).isTrue();
+        assertThat(admissions.tryAdmit(THING_ID)).isTrue();
+        assertThat(otherAdmissions.tryAdmit(THING_ID)).isTrue();
+        assertThat(otherAdmissions.tryAdmit(THING_ID)).isFalse();
+        assertThat(underTest.getQueued(THING_ID)).isEqualTo(3L);
+
+        admissions.release();
+
+        assertThat(underTest.getQueued(THING_ID)).isEqualTo(2L);
+        assertThat(otherAdmissions.tryAdmit(THING_ID)).isTrue();
+    }
+
+    @Test
+    public void releaseDoesNotReleaseMoreCommandsThanWereAdmitted() {
+        final ThingAdmissionControl underTest = newAdmissionControl("initial-limit = 3, min-limit = 1");
+        final ThingAdmissionControl.Admissions admissions = underTest.newAdmissions(persistenceActor);
+        final ThingAdmissionControl.Admissions otherAdmissions = underTest.newAdmissions(otherPersistenceActor);
+        admissions.tryAdmit(THING_ID);
+        otherAdmissions.tryAdmit(THING_ID);
+
+        admissions.release();
+        admissions.release();
+
+        assertThat(underTest.getQueued(THING_ID)).isEqualTo(1L);
+    }
+
+    @Test
+    public void releaseAllReleasesTheRemainingCommandsOfAStoppedActor() {
+        final ThingAdmissionControl underTest = newAdmissionControl("initial-limit = 3, min-limit = 1");
+        final ThingAdmissionControl.Admissions admissions = underTest.newAdmissions(persistenceActor);
+        final ThingAdmissionControl.Admissions otherAdmissions = underTest.newAdmissions(otherPersistenceActor);
+        admissions.tryAdmit(THING_ID);
+        admissions.tryAdmit(THING_ID);
+        otherAdmissions.tryAdmit(THING_ID);
+
+        admissions.releaseAll();
+
+        assertThat(underTest.getQueued(THING_ID)).isEqualTo(1L);
+        assertThat(otherAdmissions.tryAdmit(THING_ID)).isTrue();
+        assertThat(otherAdmissions.tryAdmit(THING_ID)).isTrue();
+        assertThat(otherAdmissions.tryAdmit(THING_ID)).isFalse();
+    }
+
+    @Test
+    public void closedAdmissionsOfAStoppedActorDoNotCountAgainstTheLimit() {
+        final ThingAdmissionControl underTest = newAdmissionControl("initial-limit = 1, min-limit = 1");
+        final ThingAdmissionControl.Admissions admissions = underTest.newAdmissions(persistenceActor);
+        final ThingAdmissionControl.Admissions otherAdmissions = underTest.newAdmissions(otherPersistenceActor);
+
+        admissions.releaseAll();
+
+        // a command enqueued concurrently to the clean-up of the stopped actor's mailbox
+        assertThat(admissions.tryAdmit(THING_ID)).isTrue();
+        assertThat(underTest.getQueued(THING_ID)).isZero();
+        assertThat(otherAdmissions.tryAdmit(THING_ID)).isTrue();
+    }
+
+    @Test
+    public void persistenceActorReleasesTheCommandsAdmittedToItsMailbox() {
+        final ThingAdmissionControl underTest = newAdmissionControl("initial-limit = 3, min-limit = 1");
+        final ThingAdmissionControl.Admissions admissions = underTest.newAdmissions(persistenceActor);
+        admissions.tryAdmit(THING_ID);
+        admissions.tryAdmit(THING_ID);
+
+        underTest.release(persistenceActor);
+        underTest.release(otherPersistenceActor);
+
+        assertThat(underTest.getQueued(THING_ID)).isEqualTo(1L);
+
+        admissions.releaseAll();
+        underTest.release(persistenceActor);
+
+        assertThat(underTest.getQueued(THING_ID)).isZero();
+    }
+
+    @Test
+    public void slowJournalWritesDecreaseTheLimitMultiplicativelyOncePerThreshold() {
+        final ThingAdmissionControl underTest = newAdmissionControl(
+                "latency-threshold = 200ms, initial-limit = 100, min-limit = 20, backoff-ratio = 0.5");
+        final Duration slowWrite = Duration.ofMillis(300L);
+
+        underTest.recordJournalWriteLatency(THING_ID, slowWrite);
+        assertThat(underTest.getCurrentLimit(THING_ID)).isEqualTo(50);
+
+        underTest.recordJournalWriteLatency(THING_ID, slowWrite);
+        assertThat(underTest.getCurrentLimit(THING_ID)).isEqualTo(50);
+
+        nanoTime.addAndGet(Duration.ofMillis(200L).toNanos());
+        underTest.recordJournalWriteLatency(THING_ID, slowWrite);
+        assertThat(underTest.getCurrentLimit(THING_ID)).isEqualTo(25);
+
+        nanoTime.addAndGet(Duration.ofMillis(200L).toNanos());
+        underTest.recordJournalWriteLatency(THING_ID, slowWrite);
+        assertThat(underTest.getCurrentLimit(THING_ID)).isEqualTo(20);
+    }
+
+    @Test
+    public void fastJournalWritesIncreaseTheLimitAdditivelyWhileItIsInUse() {
+        final ThingAdmissionControl underTest = newAdmissionControl(
+                "latency-threshold = 200ms, initial-limit = 10, min-limit = 1, max-limit = 11");
+        final ThingAdmissionControl.Admissions admissions = underTest.newAdmissions(persistenceActor);
+        final Duration fastWrite = Duration.ofMillis(10L);
+
+        underTest.recordJournalWriteLatency(THING_ID, fastWrite);
+        assertThat(underTest.getCurrentLimit(THING_ID)).isEqualTo(10);
+
+        for (int i = 0; i < 5; i++) {
+            admissions.tryAdmit(THING_ID);
+        }
+        underTest.recordJournalWriteLatency(THING_ID, fastWrite);
+        assertThat(underTest.getCurrentLimit(THING_ID)).isEqualTo(11);
+
+        underTest.recordJournalWriteLatency(THING_ID, fastWrite);
+        assertThat(underTest.getCurrentLimit(THING_ID)).isEqualTo(11);
+    }
+
+    @Test
+    public void perNamespaceLimitsAreIndependent() {
+        final ThingAdmissionControl underTest = newAdmissionControl(
+                "initial-limit = 1, min-limit = 1, per-namespace = true");
+        final ThingAdmissionControl.Admissions admissions = underTest.newAdmissions(persistenceActor);
+        final ThingAdmissionControl.Admissions otherAdmissions = underTest.newAdmissions(otherPersistenceActor);
+
+        assertThat(admissions.tryAdmit(THING_ID)).isTrue();
+        assertThat(admissions.tryAdmit(THING_ID)).isFalse();
+        assertThat(otherAdmissions.tryAdmit(OTHER_NAMESPACE_THING_ID)).isTrue();
+        assertThat(underTest.getQueued(THING_ID)).isEqualTo(1L);
+        assertThat(underTest.getQueued(OTHER_NAMESPACE_THING_ID)).isEqualTo(1L);
+    }
+
+    private ThingAdmissionControl newAdmissionControl(final String admissionControlConfig) {
+        final AdmissionControlConfig config = DefaultAdmissionControlConfig.of(ConfigFactory.parseString(
+                "admission-control { enabled = true, " + admissionControlConfig + " }"));
+        return ThingAdmissionControl.newInstance(config, nanoTime::get);
+    }
+
+}
@@ -0,0 +1,242 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.things.service.persistence.actors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.pekko.actor.ActorSystem;
+import org.apache.pekko.stream.javadsl.Source;
+import org.apache.pekko.testkit.javadsl.TestKit;
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.eclipse.ditto.base.model.entity.metadata.Metadata;
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.internal.utils.persistence.mongo.streaming.MongoReadJournal;
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.things.model.Thing;
+import org.eclipse.ditto.things.model.ThingId;
+import org.eclipse.ditto.things.model.ThingLifecycle;
+import org.eclipse.ditto.things.model.signals.events.AttributeDeleted;
+import org.eclipse.ditto.things.model.signals.events.AttributeModified;
+import org.eclipse.ditto.things.model.signals.events.FeatureDesiredPropertyModified;
+import org.eclipse.ditto.things.model.signals.events.FeaturePropertyDeleted;
+import org.eclipse.ditto.things.model.signals.events.FeaturePropertyModified;
+import org.eclipse.ditto.things.model.signals.events.ThingDeleted;
+import org.eclipse.ditto.things.model.signals.events.ThingEvent;
+import org.eclipse.ditto.things.model.signals.events.ThingMerged;
+import org.eclipse.ditto.things.service.persistence.actors.strategies.events.ThingEventStrategies;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.mongodb.client.result.DeleteResult;
+import com.mongodb.client.result.UpdateResult;
+
+/**
+ * Unit test for {@link ThingEventCompactor}.
+ */
+public final class ThingEventCompactorTest {
+
+    private static final ThingId THING_ID = ThingId.of("org.eclipse.ditto", "compacted");
+    private static final String PERSISTENCE_ID = "thing:" + THING_ID;
+    private static final String FEATURE_ID = "sensor";
+    private static final Instant TIMESTAMP = Instant.now();
+
+    private ActorSystem actorSystem;
+    private MongoReadJournal journal;
+
+    @Before
+    public void setUp() {
+        actorSystem = ActorSystem.create("ThingEventCompactorTest");
+        journal = mock(MongoReadJournal.class);
+        when(journal.replaceEvent(anyString(), anyLong(), anyString(), any(), any()))
+                .thenReturn(Source.single(UpdateResult.acknowledged(1L, 1L, null)));
+        when(journal.deleteEvents(anyString(), anyLong(), anyLong()))
+                .thenAnswer(invocation -> Source.single(DeleteResult.acknowledged(
+                        (long) invocation.getArgument(2) - (long) invocation.getArgument(1) + 1)));
+    }
+
+    @After
+    public void tearDown() {
+        TestKit.shutdownActorSystem(actorSystem);
+    }
+
+    @Test
+    public void mergedEventResultsInSameThingAsSingleEvents() {
+        final Thing thing = Thing.newBuilder()
+                .setId(THING_ID)
+                .setRevision(1L)
+                .setLifecycle(ThingLifecycle.ACTIVE)
+                .setAttribute(JsonPointer.of("location/room"), JsonValue.of("kitchen"))
+                .setAttribute(JsonPointer.of("serial"), JsonValue.of(1234))
+                .setFeatureProperty(FEATURE_ID, JsonPointer.of("temperature"), JsonValue.of(20.5))
+                .setFeatureProperty(FEATURE_ID, JsonPointer.of("humidity"), JsonValue.of(40))
+                .setFeatureDesiredProperty(FEATURE_ID, JsonPointer.of("target"), JsonValue.of(21))
+                .build();
+        final List<ThingEvent<?>> events = List.of(
+                propertyModified("temperature", JsonValue.of(21.0), 2L),
+                AttributeModified.of(THING_ID, JsonPointer.of("location/room"), JsonValue.of("hall"), 3L, TIMESTAMP,
+                        DittoHeaders.empty(), null),
+                FeaturePropertyDeleted.of(THING_ID, FEATURE_ID, JsonPointer.of("humidity"), 4L, TIMESTAMP,
+                        DittoHeaders.empty(), null),
+                propertyModified("temperature", JsonValue.of(21.5), 5L),
+                FeatureDesiredPropertyModified.of(THING_ID, FEATURE_ID, JsonPointer.of("target"),
+                        JsonArray.of("[22, 23]"), 6L, TIMESTAMP, DittoHeaders.empty(), null),
+                AttributeDeleted.of(THING_ID, JsonPointer.of("serial"), 7L, TIMESTAMP, DittoHeaders.empty(), null),
+                propertyModified("pressure", JsonValue.of(1013), 8L)
+        );
+
+        Thing expectedThing = thing;
+        long revision = 1L;
+        for (final ThingEvent<?> event : events) {
+            expectedThing = ThingEventStrategies.getInstance().handle(event, expectedThing, ++revision);
+        }
+        final ThingMerged mergedEvent = ThingEventCompactor.merge(events, revision);
+        final Thing mergedThing = ThingEventStrategies.getInstance().handle(mergedEvent, thing, revision);
+
+        assertThat(mergedEvent.getResourcePath().isEmpty()).isTrue();
+        assertThat(mergedEvent.getRevision()).isEqualTo(8L);
+        assertThat(mergedThing).isEqualTo(expectedThing);
+    }
+
+    @Test
+    public void onlyPropertyLevelEventsWithoutObjectValuesAreCompactable() {
+        assertThat(ThingEventCompactor.getCompactableValue(propertyModified("temperature", JsonValue.of(1), 1L)))
+                .contains(JsonValue.of(1));
+        assertThat(ThingEventCompactor.getCompactableValue(
+                FeaturePropertyDeleted.of(THING_ID, FEATURE_ID, JsonPointer.of("temperature"), 1L, TIMESTAMP,
+                        DittoHeaders.empty(), null)))
+                .contains(JsonValue.nullLiteral());
+        assertThat(ThingEventCompactor.getCompactableValue(
+                propertyModified("temperature", JsonObject.newBuilder().set("value", 1).build(), 1L)))
+                .isEmpty();
+        assertThat(ThingEventCompactor.getCompactableValue(propertyModified("temperature", JsonValue.nullLiteral(),
+                1L)))
+                .isEmpty();
+        assertThat(ThingEventCompactor.getCompactableValue(
+                FeaturePropertyModified.of(THING_ID, FEATURE_ID, JsonPointer.of("temperature"), JsonValue.of(1), 1L,
+                        TIMESTAMP, DittoHeaders.empty(), Metadata.newBuilder().set("unit", "C").build())))
+                .isEmpty();
+        assertThat(ThingEventCompactor.getCompactableValue(
+                ThingDeleted.of(THING_ID, 1L, TIMESTAMP, DittoHeaders.empty(), null)))
+                .isEmpty();
+    }
+
+    @Test
+    public void compactRunOfConsecutiveEvents() throws Exception {
+        final ThingEventCompactor underTest = newCompactor(100);
+
+        assertThat(underTest.add(propertyModified("temperature", JsonValue.of(1), 5L), 5L)).isTrue();
+        assertThat(underTest.add(propertyModified("humidity", JsonValue.of(2), 6L), 6L)).isFalse();
+        assertThat(underTest.add(propertyModified("temperature", JsonValue.of(3), 7L), 7L)).isFalse();
+
+        assertThat(underTest.flush().toCompletableFuture().get(10L, TimeUnit.SECONDS)).isEqualTo(2L);
+        verify(journal).replaceEvent(eq(PERSISTENCE_ID), eq(7L), eq(ThingMerged.TYPE), any(), any());
+        verify(journal).deleteEvents(PERSISTENCE_ID, 5L, 6L);
+    }
+
+    @Test
+    public void tagMergedEventWithJournalTagsOfAllEvents() throws Exception {
+        final ThingEventCompactor underTest = newCompactor(100);
+
+        underTest.add(FeaturePropertyModified.of(THING_ID, FEATURE_ID, JsonPointer.of("temperature"),
+                JsonValue.of(1), 1L, TIMESTAMP, DittoHeaders.newBuilder().journalTags(Set.of("a", "b")).build(),
+                null), 1L);
+        underTest.add(FeaturePropertyModified.of(THING_ID, FEATURE_ID, JsonPointer.of("temperature"),
+                JsonValue.of(2), 2L, TIMESTAMP, DittoHeaders.newBuilder().journalTags(Set.of("c")).build(),
+                null), 2L);
+
+        assertThat(underTest.flush().toCompletableFuture().get(10L, TimeUnit.SECONDS)).isOne();
+        verify(journal).replaceEvent(eq(PERSISTENCE_ID), eq(2L), eq(ThingMerged.TYPE), any(),
+                eq(Set.of("a", "b", "c")));
+    }
+
+    @Test
+    public void runEndsAtConflictingPath() throws Exception {
+        final ThingEventCompactor underTest = newCompactor(100);
+
+        underTest.add(propertyModified("location/lat", JsonValue.of(1), 1L), 1L);
+        underTest.add(propertyModified("location/lon", JsonValue.of(2), 2L), 2L);
+        assertThat(underTest.add(propertyModified("location", JsonValue.of(3), 3L), 3L)).isTrue();
+
+        verify(journal, timeout(5000L)).replaceEvent(eq(PERSISTENCE_ID), eq(2L), eq(ThingMerged.TYPE), any(), any());
+        assertThat(underTest.flush().toCompletableFuture().get(10L, TimeUnit.SECONDS)).isZero();
+    }
+
+    @Test
+    public void runEndsAtGapInRevisionsAndAtNonCompactableEvent() throws Exception {
+        final ThingEventCompactor underTest = newCompactor(100);
+
+        underTest.add(propertyModified("temperature", JsonValue.of(1), 1L), 1L);
+        assertThat(underTest.add(propertyModified("temperature", JsonValue.of(2), 3L), 3L)).isTrue();
+        underTest.add(ThingDeleted.of(THING_ID, 4L, TIMESTAMP, DittoHeaders.empty(), null), 4L);
+
+        assertThat(underTest.flush().toCompletableFuture().get(10L, TimeUnit.SECONDS)).isZero();
+        verify(journal, never()).replaceEvent(anyString(), anyLong(), anyString(), any(), any());
+    }
+
+    @Test
+    public void compactAfterMaxEvents() {
+        final ThingEventCompactor underTest = newCompactor(3);
+
+        for (long revision = 1L; revision <= 4L; revision++) {
+            underTest.add(propertyModified("temperature", JsonValue.of(revision), revision), revision);
+        }
+
+        verify(journal, timeout(5000L)).replaceEvent(eq(PERSISTENCE_ID), eq(3L), eq(ThingMerged.TYPE), any(), any());
+        verify(journal, never()).replaceEvent(eq(PERSISTENCE_ID), eq(4L), anyString(), any(), any());
+    }
+
+    @Test
+    public void keepEventsIfMergedEventWasNotWritten() throws Exception {
+        when(journal.replaceEvent(anyString(), anyLong(), anyString(), any(), any()))
+                .thenReturn(Source.single(UpdateResult.acknowledged(0L, 0L, null)));
+        final ThingEventCompactor underTest = newCompactor(100);
+
+        underTest.add(propertyModified("temperature", JsonValue.of(1), 1L), 1L);
+        underTest.add(propertyModified("temperature", JsonValue.of(2), 2L), 2L);
+
+        assertThat(underTest.flush().toCompletableFuture().get(10L, TimeUnit.SECONDS)).isZero();
+        verify(journal, never()).deleteEvents(anyString(), anyLong(), anyLong());
+    }
+
+    private ThingEventCompactor newCompactor(final int maxEvents) {
+        return new ThingEventCompactor(PERSISTENCE_ID, maxEvents, journal,
+                event -> new BsonDocument("type", new BsonString(event.getType())), actorSystem);
+    }
+
+    private static FeaturePropertyModified propertyModified(final String property, final JsonValue value,
+            final long revision) {
+
+        return FeaturePropertyModified.of(THING_ID, FEATURE_ID, JsonPointer.of(property), value, revision, TIMESTAMP,
+                DittoHeaders.empty(), null);
+    }
+
+}
@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.things.service.persistence.actors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.pekko.actor.ActorSystem;
+import org.apache.pekko.dispatch.Envelope;
+import org.apache.pekko.testkit.javadsl.TestKit;
+import org.eclipse.ditto.base.model.common.HttpStatus;
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.things.model.ThingId;
+import org.eclipse.ditto.things.model.signals.commands.ThingErrorResponse;
+import org.eclipse.ditto.things.model.signals.commands.exceptions.ThingTooManyModifyingRequestsException;
+import org.eclipse.ditto.things.model.signals.commands.exceptions.ThingUnavailableException;
+import org.eclipse.ditto.things.model.signals.commands.modify.DeleteThing;
+import org.eclipse.ditto.things.model.signals.commands.query.RetrieveThing;
+import org.eclipse.ditto.things.service.common.config.DefaultAdmissionControlConfig;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.typesafe.config.ConfigFactory;
+
+import scala.Option;
+
+/**
+ * Unit test for the admission control of {@link ThingPersistenceActorMailbox.ThingPersistenceActorMessageQueue}.
+ */
+public final class ThingPersistenceActorMailboxTest {
+
+    private static final ThingId THING_ID = ThingId.of("org.eclipse.ditto", "mailbox");
+    private static final int CAPACITY = 100;
+
+    private final List<ActorSystem> systemsToShutdown = new ArrayList<>();
+
+    private ActorSystem actorSystem;
+    private TestKit owner;
+    private TestKit otherOwner;
+    private TestKit sender;
+    private ThingAdmissionControl admissionControl;
+
+    @Before
+    public void setUp() {
+        actorSystem = ActorSystem.create("ThingPersistenceActorMailboxTest");
+        owner = new TestKit(actorSystem);
+        otherOwner = new TestKit(actorSystem);
+        sender = new TestKit(actorSystem);
+        admissionControl = ThingAdmissionControl.newInstance(DefaultAdmissionControlConfig.of(
+                ConfigFactory.parseString("admission-control { enabled = true, initial-limit = 1, min-limit = 1, " +
+                        "retry-after = 1500ms }")), System::nanoTime);
+    }
+
+    @After
+    public void tearDown() {
+        TestKit.shutdownActorSystem(actorSystem);
+        systemsToShutdown.forEach(TestKit::shutdownActorSystem);
+    }
+
+    @Test
+    public void rejectsModifyingCommandsAboveTheLimitWithServiceUnavailableAndRetryAfter() {
+        final ThingPersistenceActorMailbox.ThingPersistenceActorMessageQueue underTest = newMessageQueue(owner);
+
+        underTest.enqueue(owner.getRef(), envelope(deleteThing("admitted")));
+        underTest.enqueue(owner.getRef(), envelope(deleteThing("shed")));
+        underTest.enqueue(owner.getRef(), envelope(RetrieveThing.of(THING_ID, DittoHeaders.empty())));
+
+        assertThat(underTest.numberOfMessages()).isEqualTo(2);
+        final ThingErrorResponse errorResponse = sender.expectMsgClass(ThingErrorResponse.class);
+        assertThat(errorResponse.getHttpStatus()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        assertThat(errorResponse.getDittoRuntimeException()).isInstanceOf(ThingUnavailableException.class);
+        assertThat(errorResponse.getDittoHeaders().getCorrelationId()).contains("shed");
+        assertThat(errorResponse.getDittoRuntimeException().getDittoHeaders()).containsEntry("retry-after", "2");
+        sender.expectNoMessage();
+    }
+
+    @Test
+    public void admitsModifyingCommandsAgainAfterTheyWereReleased() {
+        final ThingPersistenceActorMailbox.ThingPersistenceActorMessageQueue underTest = newMessageQueue(owner);
+        underTest.enqueue(owner.getRef(), envelope(deleteThing("first")));
+
+        admissionControl.release(owner.getRef());
+        underTest.enqueue(owner.getRef(), envelope(deleteThing("second")));
+
+        assertThat(underTest.numberOfMessages()).isEqualTo(2);
+        sender.expectNoMessage();
+    }
+
+    @Test
+    public void doesNotAdmitUnstashedModifyingCommandsAgain() {
+        final ThingPersistenceActorMailbox.ThingPersistenceActorMessageQueue underTest = newMessageQueue(owner);
+        underTest.enqueue(owner.getRef(), envelope(deleteThing("stashed")));
+
+        underTest.enqueueFirst(owner.getRef(), underTest.dequeue());
+
+        assertThat(underTest.numberOfMessages()).isEqualTo(1);
+        assertThat(admissionControl.getQueued(THING_ID)).isEqualTo(1L);
+        sender.expectNoMessage();
+    }
+
+    @Test
+    public void releasesTheModifyingCommandsOfAStoppedActor() {
+        final ThingPersistenceActorMailbox.ThingPersistenceActorMessageQueue underTest = newMessageQueue(owner);
+        final ThingPersistenceActorMailbox.ThingPersistenceActorMessageQueue deadLetters =
+                new ThingPersistenceActorMailbox.ThingPersistenceActorMessageQueue(CAPACITY, actorSystem);
+        underTest.enqueue(owner.getRef(), envelope(deleteThing("dead")));
+
+        underTest.cleanUp(owner.getRef(), deadLetters);
+
+        assertThat(deadLetters.numberOfMessages()).isEqualTo(1);
+        assertThat(admissionControl.getQueued(THING_ID)).isZero();
+        final ThingPersistenceActorMailbox.ThingPersistenceActorMessageQueue otherQueue = newMessageQueue(otherOwner);
+        otherQueue.enqueue(otherOwner.getRef(), envelope(deleteThing("admitted")));
+        assertThat(otherQueue.numberOfMessages()).isEqualTo(1);
+        sender.expectNoMessage();
+    }
+
+    @Test
+    public void enqueuesModifyingCommandsWithoutLimitIfAdmissionControlIsDisabled() {
+        final ThingPersistenceActorMailbox.ThingPersistenceActorMessageQueue underTest =
+                createMessageQueue("ditto.things.thing.admission-control.enabled = false");
+
+        for (int i = 0; i <= CAPACITY + 1; i++) {
+            underTest.enqueue(owner.getRef(), envelope(deleteThing(String.valueOf(i))));
+        }
+
+        assertThat(underTest.numberOfMessages()).isEqualTo(CAPACITY + 2);
+        sender.expectNoMessage();
+    }
+
+    @Test
+    public void rejectsModifyingCommandsAboveTheCapacityIfAdmissionControlIsEnabled() {
+        final ThingPersistenceActorMailbox.ThingPersistenceActorMessageQueue underTest =
+                createMessageQueue("ditto.things.thing.admission-control.enabled = true");
+
+        for (int i = 0; i <= CAPACITY + 1; i++) {
+            underTest.enqueue(owner.getRef(), envelope(deleteThing(String.valueOf(i))));
+        }
+
+        assertThat(underTest.numberOfMessages()).isEqualTo(CAPACITY + 1);
+        assertThat(sender.expectMsgClass(ThingErrorResponse.class).getDittoRuntimeException())
+                .isInstanceOf(ThingTooManyModifyingRequestsException.class);
+    }
+
+    private ThingPersistenceActorMailbox.ThingPersistenceActorMessageQueue createMessageQueue(
+            final String admissionControlConfig) {
+
+        final ActorSystem system = ActorSystem.create("ThingPersistenceActorMailboxTest",
+                ConfigFactory.parseString(admissionControlConfig).withFallback(ConfigFactory.load("test")));
+        systemsToShutdown.add(system);
+        final ThingPersistenceActorMailbox mailbox = new ThingPersistenceActorMailbox(system.settings(),
+                ConfigFactory.parseString("mailbox-capacity = " + CAPACITY));
+        return (ThingPersistenceActorMailbox.ThingPersistenceActorMessageQueue)
+                mailbox.create(Option.apply(owner.getRef()), Option.apply(system));
+    }
+
+    private ThingPersistenceActorMailbox.ThingPersistenceActorMessageQueue newMessageQueue(final TestKit queueOwner) {
+        return new ThingPersistenceActorMailbox.ThingPersistenceActorMessageQueue(CAPACITY, actorSystem,
+                queueOwner.getRef(), admissionControl);
+    }
+
+    private Envelope envelope(final Object message) {
+        return Envelope.apply(message, sender.getRef(), actorSystem);
+    }
+
+    private static DeleteThing deleteThing(final String correlationId) {
+        return DeleteThing.of(THING_ID, DittoHeaders.newBuilder().correlationId(correlationId).build());
+    }
+
+}
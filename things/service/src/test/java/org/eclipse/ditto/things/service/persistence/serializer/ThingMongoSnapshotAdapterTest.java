@@ -77,6 +77,26 @@ public final class ThingMongoSnapshotAdapterTest {
         expectSnapshotPublished(thingV2);
     }
 
+    @Test
+    public void compressedSnapshotRoundTripReturnsExpected() {
+        final var compressingAdapter = new ThingMongoSnapshotAdapter(pubSubProbe.ref(), ConfigFactory.parseMap(Map.of(
+                ThingMongoSnapshotAdapter.THING_SNAPSHOT_TAKEN_EVENT_PUBLISHING_ENABLED, false,
+                "snapshot-compression.enabled", true,
+                "snapshot-compression.threshold", 0
+        )));
+        final var thingV2 = TestConstants.Thing.THING_V2;
+
+        final var rawSnapshotEntity = (BsonDocument) compressingAdapter.toSnapshotStore(thingV2);
+
+        softly.assertThat(rawSnapshotEntity.isBinary("__compressed")).as("snapshot is compressed").isTrue();
+        softly.assertThat(rawSnapshotEntity.getString("thingId").getValue())
+                .as("thing ID")
+                .isEqualTo(TestConstants.Thing.THING_ID.toString());
+        softly.assertThat(underTest.fromSnapshotStore(new SnapshotOffer(SNAPSHOT_METADATA, rawSnapshotEntity)))
+                .as("restored Thing")
+                .isEqualTo(thingV2);
+    }
+
     private void toSnapshotStoreFromSnapshotStoreRoundTripReturnsExpected(final Thing thing) {
         final Object rawSnapshotEntity = underTest.toSnapshotStore(thing);
 
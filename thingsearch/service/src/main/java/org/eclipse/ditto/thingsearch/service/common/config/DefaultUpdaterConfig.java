@@ -39,6 +39,7 @@ public final class DefaultUpdaterConfig implements UpdaterConfig {
     private final boolean forceUpdateAfterStartEnabled;
     private final Duration forceUpdateAfterStartTimeout;
     private final double forceUpdateAfterStartRandomFactor;
+    private final int policyReindexThroughput;
     private final BackgroundSyncConfig backgroundSyncConfig;
     private final StreamConfig streamConfig;
     private final SearchPersistenceConfig updaterPersistenceConfig;
@@ -57,6 +58,8 @@ public final class DefaultUpdaterConfig implements UpdaterConfig {
                 UpdaterConfigValue.FORCE_UPDATE_AFTER_START_TIMEOUT);
         forceUpdateAfterStartRandomFactor = updaterScopedConfig.getDouble(
                 UpdaterConfigValue.FORCE_UPDATE_AFTER_START_RANDOM_FACTOR.getConfigPath());
+        policyReindexThroughput =
+                updaterScopedConfig.getNonNegativeIntOrThrow(UpdaterConfigValue.POLICY_REINDEX_THROUGHPUT);
         backgroundSyncConfig = DefaultBackgroundSyncConfig.fromUpdaterConfig(updaterScopedConfig);
         streamConfig = DefaultStreamConfig.of(updaterScopedConfig);
         updaterPersistenceConfig = DefaultSearchPersistenceConfig.of(updaterScopedConfig);
@@ -109,6 +112,11 @@ public final class DefaultUpdaterConfig implements UpdaterConfig {
         return forceUpdateAfterStartRandomFactor;
     }
 
+    @Override
+    public int getPolicyReindexThroughput() {
+        return policyReindexThroughput;
+    }
+
     @Override
     public BackgroundSyncConfig getBackgroundSyncConfig() {
         return backgroundSyncConfig;
@@ -140,6 +148,7 @@ public final class DefaultUpdaterConfig implements UpdaterConfig {
                 forceUpdateAfterStartEnabled == that.forceUpdateAfterStartEnabled &&
                 Objects.equals(forceUpdateAfterStartTimeout, that.forceUpdateAfterStartTimeout) &&
                 Double.compare(forceUpdateAfterStartRandomFactor, that.forceUpdateAfterStartRandomFactor) == 0 &&
+                policyReindexThroughput == that.policyReindexThroughput &&
                 Objects.equals(backgroundSyncConfig, that.backgroundSyncConfig) &&
                 Objects.equals(streamConfig, that.streamConfig) &&
                 Objects.equals(updaterPersistenceConfig, that.updaterPersistenceConfig);
@@ -149,7 +158,7 @@ public final class DefaultUpdaterConfig implements UpdaterConfig {
     public int hashCode() {
         return Objects.hash(maxIdleTime, shardingStatePollInterval, eventProcessingActive, forceUpdateProbability,
                 forceUpdateAfterStartEnabled, forceUpdateAfterStartTimeout, forceUpdateAfterStartRandomFactor,
-                backgroundSyncConfig, streamConfig, updaterPersistenceConfig);
+                policyReindexThroughput, backgroundSyncConfig, streamConfig, updaterPersistenceConfig);
     }
 
     @Override
@@ -162,6 +171,7 @@ public final class DefaultUpdaterConfig implements UpdaterConfig {
                 ", forceUpdateAfterStartEnabled=" + forceUpdateAfterStartEnabled +
                 ", forceUpdateAfterStartTimeout=" + forceUpdateAfterStartTimeout +
                 ", forceUpdateAfterStartRandomFactor=" + forceUpdateAfterStartRandomFactor +
+                ", policyReindexThroughput=" + policyReindexThroughput +
                 ", backgroundSyncConfig=" + backgroundSyncConfig +
                 ", streamConfig=" + streamConfig +
                 ", updaterPersistenceConfig=" + updaterPersistenceConfig +
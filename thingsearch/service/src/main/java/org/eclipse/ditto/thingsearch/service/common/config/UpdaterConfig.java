@@ -81,6 +81,15 @@ public interface UpdaterConfig {
      */
     double getForceUpdateAfterStartRandomFactor();
 
+    /**
+     * Returns the maximum number of things per second to which policy modifications are forwarded for reindexing.
+     * Bounds the update load on the search index caused by modifications of policies used by many things.
+     * A value of {@code 0} disables the rate limit.
+     *
+     * @return the maximum number of reindexed things per second.
+     */
+    int getPolicyReindexThroughput();
+
     /**
      * Returns configuration for the background sync actor.
      *
@@ -142,7 +151,12 @@ public interface UpdaterConfig {
         /**
          * Random factor added to "force-update-after-start-timeout" to avoid database load spikes.
          */
-        FORCE_UPDATE_AFTER_START_RANDOM_FACTOR("force-update-after-start-random-factor", 1.0);
+        FORCE_UPDATE_AFTER_START_RANDOM_FACTOR("force-update-after-start-random-factor", 1.0),
+
+        /**
+         * Maximum number of things per second to forward policy modifications to, 0 for unlimited.
+         */
+        POLICY_REINDEX_THROUGHPUT("policy-reindex-throughput", 0);
 
         private final String path;
         private final Object defaultValue;
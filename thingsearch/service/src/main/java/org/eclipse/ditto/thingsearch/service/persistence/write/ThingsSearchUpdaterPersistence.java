@@ -17,6 +17,7 @@ import java.util.Map;
 import org.eclipse.ditto.internal.utils.persistence.operations.NamespacePersistenceOperations;
 import org.eclipse.ditto.policies.model.PolicyId;
 import org.eclipse.ditto.thingsearch.api.PolicyReferenceTag;
+import org.eclipse.ditto.thingsearch.service.persistence.write.mapping.PolicyPermissionsPatch;
 
 import org.apache.pekko.NotUsed;
 import org.apache.pekko.stream.javadsl.Source;
@@ -28,10 +29,20 @@ public interface ThingsSearchUpdaterPersistence extends NamespacePersistenceOper
 
     /**
      * Retrieves modifiable unsorted list of policy reference tags that match the given policy IDs.
+     * Search index entries already indexed with the given revisions of the policies are skipped.
      *
      * @param policyRevisions map from relevant policy IDs to their revisions.
      * @return a {@link Source} holding the publisher to execute the operation.
      */
     Source<PolicyReferenceTag, NotUsed> getPolicyReferenceTags(Map<PolicyId, Long> policyRevisions);
 
+    /**
+     * Patches the permissions of all search index entries indexed with the revision of the policy the patch starts
+     * from, instead of reindexing them one by one.
+     *
+     * @param patch the patch of the indexed permissions.
+     * @return a {@link Source} holding the number of patched search index entries.
+     */
+    Source<Long, NotUsed> patchPolicyPermissions(PolicyPermissionsPatch patch);
+
 }
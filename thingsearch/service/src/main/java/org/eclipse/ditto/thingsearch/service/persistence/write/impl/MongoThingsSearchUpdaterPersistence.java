@@ -15,9 +15,8 @@ package org.eclipse.ditto.thingsearch.service.persistence.write.impl;
 import static com.mongodb.client.model.Filters.in;
 import static com.mongodb.client.model.Filters.or;
 
-import java.util.Collection;
 import java.util.Collections;
-import java.util.HashSet;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -29,8 +28,11 @@ import org.bson.BsonDateTime;
 import org.bson.BsonDocument;
 import org.bson.BsonInt32;
 import org.bson.BsonString;
+import org.bson.BsonValue;
 import org.bson.Document;
 import org.bson.conversions.Bson;
+import org.eclipse.ditto.internal.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.internal.utils.metrics.instruments.counter.Counter;
 import org.eclipse.ditto.policies.api.PolicyTag;
 import org.eclipse.ditto.policies.model.PolicyId;
 import org.eclipse.ditto.things.model.ThingId;
@@ -38,15 +40,18 @@ import org.eclipse.ditto.thingsearch.api.PolicyReferenceTag;
 import org.eclipse.ditto.thingsearch.service.common.config.SearchPersistenceConfig;
 import org.eclipse.ditto.thingsearch.service.persistence.PersistenceConstants;
 import org.eclipse.ditto.thingsearch.service.persistence.write.ThingsSearchUpdaterPersistence;
+import org.eclipse.ditto.thingsearch.service.persistence.write.mapping.PolicyPermissionsPatch;
 import org.eclipse.ditto.thingsearch.service.persistence.write.model.AbstractWriteModel;
 import org.reactivestreams.Publisher;
 
 import com.mongodb.client.model.UpdateManyModel;
 import com.mongodb.client.model.UpdateOptions;
 import com.mongodb.client.model.WriteModel;
+import com.mongodb.client.result.UpdateResult;
 import com.mongodb.reactivestreams.client.MongoCollection;
 import com.mongodb.reactivestreams.client.MongoDatabase;
 
+import org.apache.pekko.Done;
 import org.apache.pekko.NotUsed;
 import org.apache.pekko.japi.pf.PFBuilder;
 import org.apache.pekko.stream.javadsl.Source;
@@ -56,6 +61,14 @@ import org.apache.pekko.stream.javadsl.Source;
  */
 public final class MongoThingsSearchUpdaterPersistence implements ThingsSearchUpdaterPersistence {
 
+    private static final String POLICY_REINDEX_COUNTER_NAME = "wildcard_search_policy_reindex_things";
+    private static final Counter POLICY_REINDEX_SCHEDULED =
+            DittoMetrics.counter(POLICY_REINDEX_COUNTER_NAME).tag("result", "scheduled");
+    private static final Counter POLICY_REINDEX_SKIPPED =
+            DittoMetrics.counter(POLICY_REINDEX_COUNTER_NAME).tag("result", "skipped");
+    private static final Counter POLICY_REINDEX_PATCHED =
+            DittoMetrics.counter(POLICY_REINDEX_COUNTER_NAME).tag("result", "patched");
+
     private final MongoCollection<Document> collection;
 
     private MongoThingsSearchUpdaterPersistence(final MongoDatabase database,
@@ -104,41 +117,78 @@ public final class MongoThingsSearchUpdaterPersistence implements ThingsSearchUp
                 collection.find(filter).projection(new Document()
                         .append(PersistenceConstants.FIELD_ID, new BsonInt32(1))
                         .append(PersistenceConstants.FIELD_POLICY_ID, new BsonInt32(1))
+                        .append(PersistenceConstants.FIELD_POLICY_REVISION, new BsonInt32(1))
                         .append(PersistenceConstants.FIELD_REFERENCED_POLICIES, new BsonInt32(1)));
 
         return Source.fromPublisher(publisher)
                 .mapConcat(doc -> {
                     final ThingId thingId = ThingId.of(doc.getString(PersistenceConstants.FIELD_ID));
-                    final Collection<PolicyId> referencedPolicyIds = referencedPolicyIds(doc);
-                    return referencedPolicyIds.stream()
-                            .map(referencedPolicyId -> Optional.ofNullable(policyRevisions.get(referencedPolicyId))
-                                    .map(revision -> PolicyTag.of(referencedPolicyId, revision))
+                    final Map<PolicyId, Long> indexedPolicyRevisions = indexedPolicyRevisions(doc);
+                    final List<PolicyReferenceTag> policyReferenceTags = indexedPolicyRevisions.entrySet()
+                            .stream()
+                            .map(indexed -> Optional.ofNullable(policyRevisions.get(indexed.getKey()))
+                                    .filter(revision -> revision > indexed.getValue())
+                                    .map(revision -> PolicyTag.of(indexed.getKey(), revision))
                                     .map(policyTag -> PolicyReferenceTag.of(thingId, policyTag))
                                     .orElse(null))
                             .filter(Objects::nonNull)
                             .toList();
+                    if (policyReferenceTags.isEmpty()) {
+                        POLICY_REINDEX_SKIPPED.increment();
+                    } else {
+                        POLICY_REINDEX_SCHEDULED.increment();
+                    }
+                    return policyReferenceTags;
                 });
     }
 
-    private Collection<PolicyId> referencedPolicyIds(final Document doc) {
-        final Set<PolicyId> referencedPolicyIds = new HashSet<>();
+    @Override
+    public Source<Long, NotUsed> patchPolicyPermissions(final PolicyPermissionsPatch patch) {
+        final List<WriteModel<Document>> permissionUpdates = patch.getPermissionUpdates();
+        final Source<?, NotUsed> updatePermissions;
+        if (permissionUpdates.isEmpty()) {
+            updatePermissions = Source.single(Done.getInstance());
+        } else {
+            updatePermissions = Source.fromPublisher(collection.bulkWrite(permissionUpdates));
+        }
+
+        // entries are patched only once their revision is updated; until then they are reindexed one by one
+        return updatePermissions.flatMapConcat(permissionsUpdated ->
+                        Source.fromPublisher(collection.updateMany(patch.getFilter(), patch.getRevisionUpdate())))
+                .map(UpdateResult::getModifiedCount)
+                .wireTap(POLICY_REINDEX_PATCHED::increment);
+    }
+
+    /**
+     * Reads the revisions of all policies referenced by a search index entry as of the time it was indexed.
+     * Policy modifications with revisions not greater than the indexed revisions are already reflected in the entry
+     * and do not require reindexing it.
+     *
+     * @param doc the projected search index entry.
+     * @return the indexed revisions of the referenced policies, {@code -1} for unknown revisions.
+     */
+    private static Map<PolicyId, Long> indexedPolicyRevisions(final Document doc) {
+        final Map<PolicyId, Long> indexedPolicyRevisions = new HashMap<>();
 
-        final String policyIdString = doc.getString(PersistenceConstants.FIELD_POLICY_ID);
-        final PolicyId policyId = PolicyId.of(policyIdString);
-        referencedPolicyIds.add(policyId);
+        final BsonDocument bsonDoc = doc.toBsonDocument();
+        final PolicyId policyId = PolicyId.of(bsonDoc.getString(PersistenceConstants.FIELD_POLICY_ID).getValue());
+        indexedPolicyRevisions.put(policyId, getRevision(bsonDoc, PersistenceConstants.FIELD_POLICY_REVISION));
 
         Optional.ofNullable(doc.getList(PersistenceConstants.FIELD_REFERENCED_POLICIES, Document.class))
                 .orElseGet(List::of)
                 .stream()
                 .map(Bson::toBsonDocument)
-                .map(bsonDocument -> bsonDocument.getString(PersistenceConstants.FIELD_REFERENCED_POLICY_ID))
-                .map(BsonString::getValue)
-                .map(PolicyId::of)
-                .forEach(referencedPolicyIds::add);
+                .forEach(bsonDocument -> indexedPolicyRevisions.put(
+                        PolicyId.of(bsonDocument.getString(PersistenceConstants.FIELD_REFERENCED_POLICY_ID).getValue()),
+                        getRevision(bsonDocument, PersistenceConstants.FIELD_REFERENCED_POLICY_REVISION)));
 
-        return Set.copyOf(referencedPolicyIds);
+        return indexedPolicyRevisions;
     }
 
+    private static long getRevision(final BsonDocument bsonDocument, final String key) {
+        final BsonValue revision = bsonDocument.get(key);
+        return null != revision && revision.isNumber() ? revision.asNumber().longValue() : -1L;
+    }
 
     @Override
     public Source<List<Throwable>, NotUsed> purge(final CharSequence namespace) {
@@ -13,6 +13,7 @@
 package org.eclipse.ditto.thingsearch.service.persistence.write.mapping;
 
 import static org.eclipse.ditto.thingsearch.service.persistence.PersistenceConstants.FIELD_F_ARRAY;
+import static org.eclipse.ditto.thingsearch.service.persistence.PersistenceConstants.FIELD_THING;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -108,6 +109,33 @@ public final class BsonDiff {
         return diffWithoutInternal.concat(diffFeatures);
     }
 
+    /**
+     * Compute the difference between 2 Thing index documents of the same thing revision, e.g. after a change of the
+     * thing's policy.
+     * As the thing payload of both documents is the same, it is not compared but only accounted for in the replacement
+     * size, so that policy-only changes are written as updates of the policy-derived fields and arrays.
+     * Falls back to {@link #minusThingDocs(BsonDocument, BsonDocument, int)} if either document has no thing payload,
+     * e.g. because it was emptied out.
+     *
+     * @param minuend the minuend document.
+     * @param subtrahend the subtrahend document.
+     * @return the difference.
+     */
+    public static BsonDiff minusThingDocsOfSameRevision(final BsonDocument minuend, final BsonDocument subtrahend,
+            final int maxWireVersion) {
+
+        final var minuendThing = minuend.get(FIELD_THING);
+        final var subtrahendThing = subtrahend.get(FIELD_THING);
+        if (!isNonEmptyDocument(minuendThing) || !isNonEmptyDocument(subtrahendThing)) {
+            return minusThingDocs(minuend, subtrahend, maxWireVersion);
+        }
+        final var diffWithoutThing =
+                minusThingDocs(withoutThing(minuend), withoutThing(subtrahend), maxWireVersion);
+        final int thingReplacementSize = new BsonSizeVisitor().eval(minuendThing) + FIELD_THING.length();
+        return new BsonDiff(diffWithoutThing.replacementSize + thingReplacementSize, diffWithoutThing.diffSize,
+                diffWithoutThing.setPointers, diffWithoutThing.unsetPointers);
+    }
+
     /**
      * Concatenate 2 diffs.
      *
@@ -150,6 +178,39 @@ public final class BsonDiff {
         return diffSize < replacementSize;
     }
 
+    /**
+     * Returns the estimated size in bytes of the update operations of this diff.
+     *
+     * @return the estimated diff size.
+     */
+    public int getDiffSize() {
+        return diffSize;
+    }
+
+    /**
+     * Returns the estimated size in bytes of replacing the whole document instead of applying this diff.
+     *
+     * @return the estimated replacement size.
+     */
+    public int getReplacementSize() {
+        return replacementSize;
+    }
+
+    private static boolean isNonEmptyDocument(final BsonValue value) {
+        return value instanceof BsonDocument document && !document.isEmpty();
+    }
+
+    private static BsonDocument withoutThing(final BsonDocument thingDoc) {
+        // shallow copy: the values are not modified by the diff computation
+        final BsonDocument result = new BsonDocument();
+        thingDoc.forEach((key, value) -> {
+            if (!FIELD_THING.equals(key)) {
+                result.append(key, value);
+            }
+        });
+        return result;
+    }
+
     private BsonDocument consumeAndExportSet() {
         final BsonDocument setDocument = new BsonDocument();
         setPointers.forEach(pair -> setDocument.append(getPathString(pair.first()), pair.second()));
@@ -12,6 +12,7 @@
  */
 package org.eclipse.ditto.thingsearch.service.persistence.write.mapping;
 
+import static org.eclipse.ditto.thingsearch.service.persistence.PersistenceConstants.DOT;
 import static org.eclipse.ditto.thingsearch.service.persistence.PersistenceConstants.FIELD_FEATURES;
 import static org.eclipse.ditto.thingsearch.service.persistence.PersistenceConstants.FIELD_FEATURE_ID;
 import static org.eclipse.ditto.thingsearch.service.persistence.PersistenceConstants.FIELD_GRANTED;
@@ -21,6 +22,7 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 
@@ -59,13 +61,27 @@ final class EvaluatedPolicy {
     }
 
     static EvaluatedPolicy of(final Policy policy, final JsonObject thing) {
+        return evaluate(policy, path -> thing.contains(path) || path.isEmpty());
+    }
+
+    /**
+     * Evaluate a policy for all thing resources it grants or revokes READ on, as if a thing contained all of them.
+     *
+     * @param policy the policy.
+     * @return the evaluated policy.
+     */
+    static EvaluatedPolicy of(final Policy policy) {
+        return evaluate(policy, path -> true);
+    }
+
+    private static EvaluatedPolicy evaluate(final Policy policy, final Predicate<JsonPointer> isIndexed) {
         final Map<JsonPointer, Pair<Set<String>, Set<String>>> thingPermissions = new HashMap<>();
         final Map<String, Map<JsonPointer, Pair<Set<String>, Set<String>>>> featurePermissions = new HashMap<>();
         for (final var entry : policy) {
             final Set<String> subjects = getSubjects(entry);
             final Map<JsonPointer, Boolean> paths = getPaths(entry.getResources());
             paths.forEach((path, isGrant) -> {
-                if (thing.contains(path) || path.isEmpty()) {
+                if (isIndexed.test(path)) {
                     addPathToPermissions(thingPermissions, path, isGrant, subjects);
                     addPathToFeaturePermissions(featurePermissions, path, isGrant, subjects);
                 }
@@ -74,6 +90,14 @@ final class EvaluatedPolicy {
         return new EvaluatedPolicy(thingPermissions, featurePermissions);
     }
 
+    Map<JsonPointer, Pair<Set<String>, Set<String>>> getThingPermissions() {
+        return thingPermissions;
+    }
+
+    Map<String, Map<JsonPointer, Pair<Set<String>, Set<String>>>> getFeaturePermissions() {
+        return featurePermissions;
+    }
+
     BsonDocument forThing() {
         final var doc = new BsonDocument();
         thingPermissions.forEach((path, permissions) -> addPermissions(doc, path, permissions));
@@ -148,7 +172,19 @@ final class EvaluatedPolicy {
         return KEY_NAME_REVISER.apply(key.toString());
     }
 
-    private static BsonArray toSubjectsBson(final Set<String> subjects) {
+    /**
+     * Convert a path into the dot-separated BSON field names under which its permissions are indexed.
+     *
+     * @param path the path.
+     * @return the BSON field names of the path, empty for the root path.
+     */
+    static String toBsonPath(final JsonPointer path) {
+        return StreamSupport.stream(path.spliterator(), false)
+                .map(EvaluatedPolicy::toBsonKey)
+                .collect(Collectors.joining(DOT));
+    }
+
+    static BsonArray toSubjectsBson(final Set<String> subjects) {
         final var array = new BsonArray();
         subjects.forEach(subject -> array.add(new BsonString(subject)));
         return array;
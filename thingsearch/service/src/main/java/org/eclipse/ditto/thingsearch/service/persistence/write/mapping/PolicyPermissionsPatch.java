@@ -0,0 +1,319 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.thingsearch.service.persistence.write.mapping;
+
+import static com.mongodb.client.model.Filters.and;
+import static com.mongodb.client.model.Filters.eq;
+import static com.mongodb.client.model.Filters.exists;
+import static org.eclipse.ditto.thingsearch.service.persistence.PersistenceConstants.DOT;
+import static org.eclipse.ditto.thingsearch.service.persistence.PersistenceConstants.FIELD_FEATURES;
+import static org.eclipse.ditto.thingsearch.service.persistence.PersistenceConstants.FIELD_FEATURE_ID;
+import static org.eclipse.ditto.thingsearch.service.persistence.PersistenceConstants.FIELD_F_ARRAY;
+import static org.eclipse.ditto.thingsearch.service.persistence.PersistenceConstants.FIELD_GLOBAL_READ;
+import static org.eclipse.ditto.thingsearch.service.persistence.PersistenceConstants.FIELD_GRANTED;
+import static org.eclipse.ditto.thingsearch.service.persistence.PersistenceConstants.FIELD_POLICY;
+import static org.eclipse.ditto.thingsearch.service.persistence.PersistenceConstants.FIELD_POLICY_ID;
+import static org.eclipse.ditto.thingsearch.service.persistence.PersistenceConstants.FIELD_POLICY_REVISION;
+import static org.eclipse.ditto.thingsearch.service.persistence.PersistenceConstants.FIELD_REVOKED;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+import javax.annotation.Nullable;
+
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.eclipse.ditto.json.JsonKey;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.policies.model.Policy;
+import org.eclipse.ditto.policies.model.PolicyId;
+import org.eclipse.ditto.policies.model.PolicyRevision;
+
+import com.mongodb.client.model.UpdateManyModel;
+import com.mongodb.client.model.UpdateOptions;
+import com.mongodb.client.model.Updates;
+import com.mongodb.client.model.WriteModel;
+
+import org.apache.pekko.japi.Pair;
+
+/**
+ * Patch of the permissions indexed for the things of a policy ({@code p}, {@code f.p} and {@code gr}) from one
+ * revision of the policy to a later one.
+ * Which resources of a policy are indexed depends on the content of each thing. Therefore, a patch exists only if
+ * both revisions grant or revoke READ on the same thing resources and import no other policies. It then only
+ * replaces the subjects of the changed resources in the search index entries which contain them.
+ */
+public final class PolicyPermissionsPatch {
+
+    private static final String FEATURE_IDENTIFIER = "feature";
+    private static final String ALL_FEATURES = FIELD_F_ARRAY + DOT + "$[]" + DOT + FIELD_POLICY;
+    private static final String MATCHING_FEATURE =
+            FIELD_F_ARRAY + DOT + "$[" + FEATURE_IDENTIFIER + "]" + DOT + FIELD_POLICY;
+    private static final String FIRST_FEATURE = FIELD_F_ARRAY + DOT + "0";
+    private static final JsonPointer FEATURES_POINTER = JsonPointer.of(FIELD_FEATURES);
+    private static final JsonPointer FEATURE_ID_POINTER = JsonPointer.of(FIELD_FEATURE_ID);
+
+    private final PolicyId policyId;
+    private final long fromRevision;
+    private final long toRevision;
+    private final EvaluatedPolicy evaluatedPolicy;
+    private final Map<JsonPointer, Pair<Set<String>, Set<String>>> changedThingPermissions;
+    private final Map<String, Map<JsonPointer, Pair<Set<String>, Set<String>>>> changedFeaturePermissions;
+
+    private PolicyPermissionsPatch(final PolicyId policyId,
+            final long fromRevision,
+            final long toRevision,
+            final EvaluatedPolicy evaluatedPolicy,
+            final Map<JsonPointer, Pair<Set<String>, Set<String>>> changedThingPermissions,
+            final Map<String, Map<JsonPointer, Pair<Set<String>, Set<String>>>> changedFeaturePermissions) {
+
+        this.policyId = policyId;
+        this.fromRevision = fromRevision;
+        this.toRevision = toRevision;
+        this.evaluatedPolicy = evaluatedPolicy;
+        this.changedThingPermissions = changedThingPermissions;
+        this.changedFeaturePermissions = changedFeaturePermissions;
+    }
+
+    /**
+     * Compute the patch of the indexed permissions between two revisions of a policy.
+     *
+     * @param fromPolicy the revision of the policy the search index entries were indexed with.
+     * @param toPolicy a later revision of the same policy.
+     * @return the patch, or an empty optional if the search index entries of the policy have to be reindexed
+     * one by one.
+     */
+    public static Optional<PolicyPermissionsPatch> of(final Policy fromPolicy, final Policy toPolicy) {
+        final Optional<PolicyId> policyId = fromPolicy.getEntityId().filter(id -> toPolicy.getEntityId()
+                .filter(id::equals)
+                .isPresent());
+        final long fromRevision = fromPolicy.getRevision().map(PolicyRevision::toLong).orElse(-1L);
+        final long toRevision = toPolicy.getRevision().map(PolicyRevision::toLong).orElse(-1L);
+        if (policyId.isEmpty() || fromRevision < 0L || toRevision <= fromRevision ||
+                !fromPolicy.getPolicyImports().isEmpty() || !toPolicy.getPolicyImports().isEmpty()) {
+            return Optional.empty();
+        }
+
+        final EvaluatedPolicy from = EvaluatedPolicy.of(fromPolicy);
+        final EvaluatedPolicy to = EvaluatedPolicy.of(toPolicy);
+        final Set<JsonPointer> paths = to.getThingPermissions().keySet();
+        if (!paths.equals(from.getThingPermissions().keySet()) ||
+                !paths.stream().allMatch(PolicyPermissionsPatch::isPatchable)) {
+            return Optional.empty();
+        }
+
+        return Optional.of(new PolicyPermissionsPatch(policyId.get(), fromRevision, toRevision, to,
+                getChanged(from.getThingPermissions(), to.getThingPermissions()),
+                getChangedFeaturePermissions(from.getFeaturePermissions(), to.getFeaturePermissions())));
+    }
+
+    /**
+     * @return the ID of the patched policy.
+     */
+    public PolicyId getPolicyId() {
+        return policyId;
+    }
+
+    /**
+     * @return the revision of the policy the patched search index entries were indexed with.
+     */
+    public long getFromRevision() {
+        return fromRevision;
+    }
+
+    /**
+     * @return the revision of the policy the patched search index entries are indexed with after the patch.
+     */
+    public long getToRevision() {
+        return toRevision;
+    }
+
+    /**
+     * @return the number of thing resources whose subjects changed between both revisions.
+     */
+    public int getNumberOfChangedResources() {
+        return changedThingPermissions.size();
+    }
+
+    /**
+     * @return filter for the search index entries to patch: those of things using the policy as their own policy,
+     * indexed with the revision to patch from.
+     */
+    public Bson getFilter() {
+        return filter();
+    }
+
+    private Bson filter(final Bson... furtherConditions) {
+        final List<Bson> conditions = new ArrayList<>();
+        conditions.add(eq(FIELD_POLICY_ID, policyId.toString()));
+        conditions.add(eq(FIELD_POLICY_REVISION, fromRevision));
+        conditions.addAll(List.of(furtherConditions));
+        return and(conditions);
+    }
+
+    /**
+     * Create the updates of the permission fields, each restricted to the entries containing the changed resource.
+     * They have to be applied in order and before {@link #getRevisionUpdate()}.
+     *
+     * @return the updates of the permission fields.
+     */
+    public List<WriteModel<Document>> getPermissionUpdates() {
+        final Bson filter = getFilter();
+        final List<WriteModel<Document>> updates = new ArrayList<>();
+        changedThingPermissions.forEach((path, permissions) -> {
+            final Bson containsPath = path.isEmpty() ? filter : filter(exists(toIndexedField(path)));
+            updates.add(new UpdateManyModel<>(containsPath, setPermissions(toIndexedField(path), permissions)));
+            if (path.isEmpty() || path.equals(FEATURES_POINTER)) {
+                // the root and features permissions are repeated for each feature
+                final Bson containsFeatures = path.isEmpty()
+                        ? filter(exists(FIRST_FEATURE))
+                        : filter(exists(toIndexedField(path)), exists(FIRST_FEATURE));
+                updates.add(new UpdateManyModel<>(containsFeatures,
+                        setPermissions(appendPath(ALL_FEATURES, path), permissions)));
+            }
+        });
+        changedFeaturePermissions.forEach((featureId, featurePermissions) ->
+                featurePermissions.forEach((featurePath, permissions) -> {
+                    final JsonPointer path = FEATURE_ID_POINTER.equals(featurePath)
+                            ? FEATURES_POINTER.addLeaf(JsonKey.of(featureId))
+                            : FEATURES_POINTER.addLeaf(JsonKey.of(featureId)).append(featurePath);
+                    final UpdateOptions matchingFeature = new UpdateOptions()
+                            .arrayFilters(List.of(eq(FEATURE_IDENTIFIER + DOT + FIELD_FEATURE_ID, featureId)));
+                    updates.add(new UpdateManyModel<>(filter(exists(toIndexedField(path))),
+                            setPermissions(appendPath(MATCHING_FEATURE, featurePath), permissions),
+                            matchingFeature));
+                }));
+        if (!changedThingPermissions.isEmpty()) {
+            updates.add(new UpdateManyModel<>(filter, List.of(recomputeGlobalRead())));
+        }
+        return updates;
+    }
+
+    /**
+     * @return the update of the policy revision of the patched search index entries.
+     */
+    public Bson getRevisionUpdate() {
+        return Updates.set(FIELD_POLICY_REVISION, toRevision);
+    }
+
+    @Override
+    public boolean equals(@Nullable final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final PolicyPermissionsPatch that = (PolicyPermissionsPatch) o;
+        return fromRevision == that.fromRevision &&
+                toRevision == that.toRevision &&
+                policyId.equals(that.policyId) &&
+                changedThingPermissions.equals(that.changedThingPermissions) &&
+                changedFeaturePermissions.equals(that.changedFeaturePermissions);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(policyId, fromRevision, toRevision, changedThingPermissions, changedFeaturePermissions);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "policyId=" + policyId +
+                ", fromRevision=" + fromRevision +
+                ", toRevision=" + toRevision +
+                ", changedThingPermissions=" + changedThingPermissions +
+                ", changedFeaturePermissions=" + changedFeaturePermissions +
+                "]";
+    }
+
+    /**
+     * The global read subjects are those granted READ on any resource the entry contains.
+     */
+    private Bson recomputeGlobalRead() {
+        final BsonArray grantedSubjects = new BsonArray();
+        evaluatedPolicy.getThingPermissions().keySet().stream().sorted(Comparator.comparing(JsonPointer::toString))
+                .forEach(path -> grantedSubjects.add(new BsonDocument()
+                .append("$ifNull", new BsonArray(List.of(
+                        new BsonString("$" + appendPath(FIELD_POLICY, path) + DOT + FIELD_GRANTED),
+                        new BsonArray())))));
+        return new BsonDocument().append("$set", new BsonDocument()
+                .append(FIELD_GLOBAL_READ, new BsonDocument().append("$setUnion", grantedSubjects)));
+    }
+
+    /**
+     * Paths of features whose indexed feature permissions can't be told apart from the permissions of other paths
+     * are not patchable: {@code /features/<featureId>/id} and {@code /features/<featureId>/features}.
+     */
+    private static boolean isPatchable(final JsonPointer path) {
+        final boolean isFeaturesPath = path.getRoot().filter(key -> FIELD_FEATURES.equals(key.toString())).isPresent();
+        return !isFeaturesPath || path.get(2)
+                .filter(key -> FIELD_FEATURE_ID.equals(key.toString()) || FIELD_FEATURES.equals(key.toString()))
+                .isEmpty();
+    }
+
+    private static Map<JsonPointer, Pair<Set<String>, Set<String>>> getChanged(
+            final Map<JsonPointer, Pair<Set<String>, Set<String>>> from,
+            final Map<JsonPointer, Pair<Set<String>, Set<String>>> to) {
+
+        final Map<JsonPointer, Pair<Set<String>, Set<String>>> changed = new HashMap<>();
+        to.forEach((path, permissions) -> {
+            if (!permissions.equals(from.get(path))) {
+                changed.put(path, permissions);
+            }
+        });
+        return changed;
+    }
+
+    private static Map<String, Map<JsonPointer, Pair<Set<String>, Set<String>>>> getChangedFeaturePermissions(
+            final Map<String, Map<JsonPointer, Pair<Set<String>, Set<String>>>> from,
+            final Map<String, Map<JsonPointer, Pair<Set<String>, Set<String>>>> to) {
+
+        final Map<String, Map<JsonPointer, Pair<Set<String>, Set<String>>>> changed = new HashMap<>();
+        to.forEach((featureId, permissions) -> {
+            final var changedOfFeature = getChanged(from.getOrDefault(featureId, Map.of()), permissions);
+            if (!changedOfFeature.isEmpty()) {
+                changed.put(featureId, changedOfFeature);
+            }
+        });
+        return changed;
+    }
+
+    private static String toIndexedField(final JsonPointer path) {
+        return appendPath(FIELD_POLICY, path);
+    }
+
+    private static String appendPath(final String field, final JsonPointer path) {
+        return path.isEmpty() ? field : field + DOT + EvaluatedPolicy.toBsonPath(path);
+    }
+
+    private static Bson setPermissions(final String field, final Pair<Set<String>, Set<String>> permissions) {
+        return Updates.combine(setSubjects(field + DOT + FIELD_GRANTED, permissions.first()),
+                setSubjects(field + DOT + FIELD_REVOKED, permissions.second()));
+    }
+
+    private static Bson setSubjects(final String field, final Set<String> subjects) {
+        return subjects.isEmpty() ? Updates.unset(field) : Updates.set(field, EvaluatedPolicy.toSubjectsBson(subjects));
+    }
+
+}
@@ -37,6 +37,7 @@ import org.bson.conversions.Bson;
 import org.eclipse.ditto.internal.models.streaming.AbstractEntityIdWithRevision;
 import org.eclipse.ditto.internal.utils.metrics.DittoMetrics;
 import org.eclipse.ditto.internal.utils.metrics.instruments.counter.Counter;
+import org.eclipse.ditto.internal.utils.metrics.instruments.histogram.Histogram;
 import org.eclipse.ditto.internal.utils.pekko.logging.DittoLoggerFactory;
 import org.eclipse.ditto.internal.utils.pekko.logging.ThreadSafeDittoLogger;
 import org.eclipse.ditto.thingsearch.service.persistence.PersistenceConstants;
@@ -62,6 +63,10 @@ public final class ThingWriteModel extends AbstractWriteModel {
     private static final Counter PATCH_UPDATE_COUNT = DittoMetrics.counter("wildcard_search_patch_updates");
     private static final Counter PATCH_SKIP_COUNT = DittoMetrics.counter("wildcard_search_patch_skips");
     private static final Counter FULL_UPDATE_COUNT = DittoMetrics.counter("wildcard_search_full_updates");
+    private static final Histogram PATCH_UPDATE_BYTES =
+            DittoMetrics.histogram("wildcard_search_update_bytes").tag("type", "patch");
+    private static final Histogram FULL_UPDATE_BYTES =
+            DittoMetrics.histogram("wildcard_search_update_bytes").tag("type", "full");
 
     private final BsonDocument thingDocument;
     private final boolean isPatchUpdate;
@@ -228,7 +233,11 @@ public final class ThingWriteModel extends AbstractWriteModel {
             PATCH_SKIP_COUNT.increment();
             return Optional.empty();
         } else {
-            final var diff = tryComputeDiff(currentWriteModel, lastWriteModel.getThingDocument(), maxWireVersion);
+            // the thing payload is unchanged if only the policy of the thing changed:
+            final boolean isPolicyOnlyChange =
+                    getMetadata().getThingRevision() == lastWriteModel.getMetadata().getThingRevision();
+            final var diff = tryComputeDiff(currentWriteModel, lastWriteModel.getThingDocument(), maxWireVersion,
+                    isPolicyOnlyChange);
             if (diff.isPresent() && diff.get().isDiffSmaller()) {
                 final var aggregationPipeline = diff.get().consumeAndExport();
                 if (aggregationPipeline.isEmpty()) {
@@ -244,6 +253,7 @@ public final class ThingWriteModel extends AbstractWriteModel {
                 LOGGER.debug("Using incremental update <{}>", mongoWriteModel.getClass().getSimpleName());
                 LOGGER.trace("Using incremental update <{}>", mongoWriteModel);
                 PATCH_UPDATE_COUNT.increment();
+                PATCH_UPDATE_BYTES.record((long) diff.get().getDiffSize());
                 isPatchUpdate1 = true;
             } else {
                 thingWriteModel = this;
@@ -255,6 +265,7 @@ public final class ThingWriteModel extends AbstractWriteModel {
                             diff.map(BsonDiff::consumeAndExport));
                 }
                 FULL_UPDATE_COUNT.increment();
+                diff.ifPresent(d -> FULL_UPDATE_BYTES.record((long) d.getReplacementSize()));
                 isPatchUpdate1 = false;
             }
         }
@@ -262,9 +273,11 @@ public final class ThingWriteModel extends AbstractWriteModel {
     }
 
     private Optional<BsonDiff> tryComputeDiff(final BsonDocument minuend, final BsonDocument subtrahend,
-            final int maxWireVersion) {
+            final int maxWireVersion, final boolean isPolicyOnlyChange) {
         try {
-            return Optional.of(BsonDiff.minusThingDocs(minuend, subtrahend, maxWireVersion));
+            return Optional.of(isPolicyOnlyChange
+                    ? BsonDiff.minusThingDocsOfSameRevision(minuend, subtrahend, maxWireVersion)
+                    : BsonDiff.minusThingDocs(minuend, subtrahend, maxWireVersion));
         } catch (final BsonInvalidOperationException e) {
             LOGGER.error("Failed to compute BSON diff between <{}> and <{}>", minuend, subtrahend, e);
             return Optional.empty();
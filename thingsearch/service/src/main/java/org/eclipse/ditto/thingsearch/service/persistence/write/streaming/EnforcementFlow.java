@@ -17,6 +17,7 @@ import java.time.Instant;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
@@ -195,6 +196,17 @@ final class EnforcementFlow {
                 .filterNot(List::isEmpty);
     }
 
+    /**
+     * Get the policy things are currently enforced with by this flow, without loading it.
+     *
+     * @param policyId the ID of the policy.
+     * @return the cached policy, or an empty optional if it is not cached or does not exist.
+     */
+    public CompletionStage<Optional<Policy>> getCachedPolicy(final PolicyId policyId) {
+        return policyEnforcerCache.getIfPresent(new PolicyIdResolvingImports(policyId, true))
+                .thenApply(optionalEntry -> optionalEntry.flatMap(Entry::get).map(Pair::first));
+    }
+
     /**
      * Create an enforcement flow for a thing-updater.
      *
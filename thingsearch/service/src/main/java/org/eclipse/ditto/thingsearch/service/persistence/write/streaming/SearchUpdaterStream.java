@@ -18,6 +18,8 @@ import java.util.function.Function;
 
 import org.eclipse.ditto.base.model.namespaces.NamespaceBlockedException;
 import org.eclipse.ditto.internal.utils.namespaces.BlockedNamespaces;
+import org.eclipse.ditto.policies.model.Policy;
+import org.eclipse.ditto.policies.model.PolicyId;
 import org.eclipse.ditto.thingsearch.service.common.config.UpdaterConfig;
 import org.eclipse.ditto.thingsearch.service.updater.actors.ThingUpdater;
 
@@ -104,6 +106,16 @@ public final class SearchUpdaterStream {
                 }));
     }
 
+    /**
+     * Get the policy things are currently indexed with on this node, without loading it.
+     *
+     * @param policyId the ID of the policy.
+     * @return the cached policy, or an empty optional if it is not cached.
+     */
+    public CompletionStage<Optional<Policy>> getCachedPolicy(final PolicyId policyId) {
+        return enforcementFlow.getCachedPolicy(policyId);
+    }
+
     private <T> Flow<T, T, NotUsed> blockNamespaceFlow(final Function<T, String> namespaceExtractor) {
         return Flow.<T>create()
                 .flatMapConcat(element -> {
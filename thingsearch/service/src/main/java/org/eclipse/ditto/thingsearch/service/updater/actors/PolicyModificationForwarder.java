@@ -16,7 +16,11 @@ import static org.apache.pekko.cluster.pubsub.DistributedPubSubMediator.Subscrib
 
 import java.time.Duration;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.function.Function;
 
 import javax.annotation.Nullable;
@@ -27,10 +31,13 @@ import org.eclipse.ditto.internal.utils.config.DefaultScopedConfig;
 import org.eclipse.ditto.internal.utils.namespaces.BlockNamespaceBehavior;
 import org.eclipse.ditto.internal.utils.namespaces.BlockedNamespaces;
 import org.eclipse.ditto.policies.api.PolicyTag;
+import org.eclipse.ditto.policies.model.Policy;
 import org.eclipse.ditto.policies.model.PolicyId;
 import org.eclipse.ditto.thingsearch.api.PolicyReferenceTag;
 import org.eclipse.ditto.thingsearch.service.common.config.DittoSearchConfig;
+import org.eclipse.ditto.thingsearch.service.common.config.UpdaterConfig;
 import org.eclipse.ditto.thingsearch.service.persistence.write.ThingsSearchUpdaterPersistence;
+import org.eclipse.ditto.thingsearch.service.persistence.write.mapping.PolicyPermissionsPatch;
 
 import org.apache.pekko.Done;
 import org.apache.pekko.NotUsed;
@@ -40,10 +47,12 @@ import org.apache.pekko.actor.CoordinatedShutdown;
 import org.apache.pekko.actor.Props;
 import org.apache.pekko.actor.Status;
 import org.apache.pekko.event.DiagnosticLoggingAdapter;
+import org.apache.pekko.japi.pf.PFBuilder;
 import org.apache.pekko.japi.pf.ReceiveBuilder;
 import org.apache.pekko.pattern.Patterns;
 import org.apache.pekko.stream.KillSwitch;
 import org.apache.pekko.stream.KillSwitches;
+import org.apache.pekko.stream.UniqueKillSwitch;
 import org.apache.pekko.stream.javadsl.Keep;
 import org.apache.pekko.stream.javadsl.Sink;
 import org.apache.pekko.stream.javadsl.Source;
@@ -51,6 +60,9 @@ import org.apache.pekko.stream.javadsl.Source;
 /**
  * Actor that forwards policy tags (emitted by PolicyPersistence after each policy modification) to updater
  * shard region with buffering.
+ * The permissions of things indexed with the revision of the policy cached on this node are patched in the search
+ * index directly, if possible. Only things whose search index entries do not yet reflect the modified policy revision
+ * after that are reindexed, at a rate limited by the configured policy reindex throughput.
  */
 final class PolicyModificationForwarder extends AbstractActor {
 
@@ -63,8 +75,11 @@ final class PolicyModificationForwarder extends AbstractActor {
     private final ActorRef pubSubMediator;
     private final ActorRef thingsUpdater;
     private final ThingsSearchUpdaterPersistence persistence;
+    private final Function<PolicyId, CompletionStage<Optional<Policy>>> indexedPolicies;
+    private final Function<PolicyId, CompletionStage<Optional<Policy>>> policyLoader;
     private final BlockNamespaceBehavior blockNamespaceBehavior;
     private final Duration interval;
+    private final int reindexThroughput;
 
     private Map<PolicyId, Long> policyRevisions = new HashMap<>();
     @Nullable private KillSwitch killSwitch;
@@ -73,14 +88,21 @@ final class PolicyModificationForwarder extends AbstractActor {
     private PolicyModificationForwarder(final ActorRef pubSubMediator,
             final ActorRef thingsUpdater,
             final BlockedNamespaces blockedNamespaces,
-            final ThingsSearchUpdaterPersistence persistence) {
+            final ThingsSearchUpdaterPersistence persistence,
+            final Function<PolicyId, CompletionStage<Optional<Policy>>> indexedPolicies,
+            final Function<PolicyId, CompletionStage<Optional<Policy>>> policyLoader) {
 
         this.pubSubMediator = pubSubMediator;
         this.thingsUpdater = thingsUpdater;
         this.persistence = persistence;
+        this.indexedPolicies = indexedPolicies;
+        this.policyLoader = policyLoader;
         blockNamespaceBehavior = BlockNamespaceBehavior.of(blockedNamespaces);
-        interval = DittoSearchConfig.of(DefaultScopedConfig.dittoScoped(getContext().getSystem().settings().config()))
-                .getUpdaterConfig().getStreamConfig().getWriteInterval();
+        final UpdaterConfig updaterConfig =
+                DittoSearchConfig.of(DefaultScopedConfig.dittoScoped(getContext().getSystem().settings().config()))
+                        .getUpdaterConfig();
+        interval = updaterConfig.getStreamConfig().getWriteInterval();
+        reindexThroughput = updaterConfig.getPolicyReindexThroughput();
 
         pubSubMediator.tell(DistPubSubAccess.subscribeViaGroup(PolicyTag.PUB_SUB_TOPIC_MODIFIED, ACTOR_NAME, getSelf()),
                 getSelf());
@@ -94,15 +116,20 @@ final class PolicyModificationForwarder extends AbstractActor {
      * @param pubSubMediator Pekko pub-sub-mediator
      * @param thingsUpdater thingsUpdater
      * @param blockedNamespaces blocked namespaces.
+     * @param persistence the search updater persistence.
+     * @param indexedPolicies lookup of the policies things are currently indexed with on this node.
+     * @param policyLoader loader of the current revisions of policies.
      * @return the Props object.
      */
     public static Props props(final ActorRef pubSubMediator,
             final ActorRef thingsUpdater,
             final BlockedNamespaces blockedNamespaces,
-            final ThingsSearchUpdaterPersistence persistence) {
+            final ThingsSearchUpdaterPersistence persistence,
+            final Function<PolicyId, CompletionStage<Optional<Policy>>> indexedPolicies,
+            final Function<PolicyId, CompletionStage<Optional<Policy>>> policyLoader) {
 
         return Props.create(PolicyModificationForwarder.class, pubSubMediator, thingsUpdater, blockedNamespaces,
-                persistence);
+                persistence, indexedPolicies, policyLoader);
     }
 
     @Override
@@ -203,11 +230,18 @@ final class PolicyModificationForwarder extends AbstractActor {
         } else {
             repeat = Source.repeat(Control.DUMP_POLICY_REVISIONS);
         }
-        killSwitch = repeat.viaMat(KillSwitches.single(), Keep.right())
-                .mapAsync(1, message ->
-                        Patterns.ask(self, message, ASK_SELF_TIMEOUT).exceptionally(Function.identity()))
-                .flatMapConcat(this::mapDumpResult)
-                .to(Sink.actorRef(self, Control.STREAM_COMPLETED))
+        final Source<PolicyReferenceTag, UniqueKillSwitch> policyReferenceTags =
+                repeat.viaMat(KillSwitches.single(), Keep.right())
+                        .mapAsync(1, message ->
+                                Patterns.ask(self, message, ASK_SELF_TIMEOUT).exceptionally(Function.identity()))
+                        .flatMapConcat(this::mapDumpResult);
+        final Source<PolicyReferenceTag, UniqueKillSwitch> throttledPolicyReferenceTags;
+        if (reindexThroughput > 0) {
+            throttledPolicyReferenceTags = policyReferenceTags.throttle(reindexThroughput, Duration.ofSeconds(1L));
+        } else {
+            throttledPolicyReferenceTags = policyReferenceTags;
+        }
+        killSwitch = throttledPolicyReferenceTags.to(Sink.actorRef(self, Control.STREAM_COMPLETED))
                 .run(getContext().getSystem());
     }
 
@@ -225,7 +259,10 @@ final class PolicyModificationForwarder extends AbstractActor {
             if (map.isEmpty()) {
                 return Source.empty();
             } else {
-                return persistence.getPolicyReferenceTags(map);
+                return Source.from(List.copyOf(map.keySet()))
+                        .flatMapConcat(this::patchPolicyPermissions)
+                        .fold(0L, Long::sum)
+                        .flatMapConcat(patched -> persistence.getPolicyReferenceTags(map));
             }
         } else {
             if (dumpResult instanceof Throwable throwable) {
@@ -237,6 +274,42 @@ final class PolicyModificationForwarder extends AbstractActor {
         }
     }
 
+    /**
+     * Patch the permissions of the things indexed with the revision of the policy cached on this node. Things indexed
+     * with other revisions of the policy, or importing it, are reindexed one by one afterward.
+     *
+     * @param policyId the ID of the modified policy.
+     * @return source of the number of patched things.
+     */
+    private Source<Long, NotUsed> patchPolicyPermissions(final PolicyId policyId) {
+        final CompletionStage<Optional<PolicyPermissionsPatch>> patch = indexedPolicies.apply(policyId)
+                .thenCompose(indexedPolicy -> {
+                    if (indexedPolicy.isPresent()) {
+                        return policyLoader.apply(policyId).thenApply(policy -> policy.flatMap(modifiedPolicy ->
+                                PolicyPermissionsPatch.of(indexedPolicy.get(), modifiedPolicy)));
+                    } else {
+                        return CompletableFuture.completedFuture(Optional.empty());
+                    }
+                });
+
+        return Source.completionStage(patch)
+                .flatMapConcat(optionalPatch -> optionalPatch.map(this::patchPolicyPermissions)
+                        .orElseGet(Source::empty))
+                .recoverWithRetries(1, new PFBuilder<Throwable, Source<Long, NotUsed>>()
+                        .matchAny(error -> {
+                            log.warning("Failed to patch permissions of things of policy <{}>, reindexing them: {}",
+                                    policyId, error);
+                            return Source.empty();
+                        })
+                        .build());
+    }
+
+    private Source<Long, NotUsed> patchPolicyPermissions(final PolicyPermissionsPatch patch) {
+        return persistence.patchPolicyPermissions(patch)
+                .wireTap(patched -> log.info("Patched <{}> things from <{}> at <{}> to revision <{}>", patched,
+                        patch.getPolicyId(), patch.getFromRevision(), patch.getToRevision()));
+    }
+
     private enum Control {
         DUMP_POLICY_REVISIONS,
         STREAM_COMPLETED
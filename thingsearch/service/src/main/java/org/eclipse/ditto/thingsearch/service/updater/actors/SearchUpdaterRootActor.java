@@ -23,6 +23,7 @@ import org.apache.pekko.event.LoggingAdapter;
 import org.apache.pekko.japi.pf.ReceiveBuilder;
 import org.eclipse.ditto.base.api.devops.signals.commands.RetrieveStatisticsDetails;
 import org.eclipse.ditto.base.service.actors.StartChildActor;
+import org.eclipse.ditto.internal.utils.cache.entry.Entry;
 import org.eclipse.ditto.internal.utils.cluster.ClusterUtil;
 import org.eclipse.ditto.internal.utils.cluster.DistPubSubAccess;
 import org.eclipse.ditto.internal.utils.config.ScopedConfig;
@@ -30,6 +31,7 @@ import org.eclipse.ditto.internal.utils.health.RetrieveHealth;
 import org.eclipse.ditto.internal.utils.namespaces.BlockedNamespaces;
 import org.eclipse.ditto.internal.utils.pekko.streaming.TimestampPersistence;
 import org.eclipse.ditto.internal.utils.persistence.mongo.DittoMongoClient;
+import org.eclipse.ditto.policies.enforcement.PolicyCacheLoader;
 import org.eclipse.ditto.thingsearch.api.ThingsSearchConstants;
 import org.eclipse.ditto.thingsearch.service.common.config.SearchConfig;
 import org.eclipse.ditto.thingsearch.service.common.util.RootSupervisorStrategyFactory;
@@ -114,8 +116,12 @@ public final class SearchUpdaterRootActor extends AbstractActor {
         thingsUpdaterActor = startChildActor(ThingsUpdater.ACTOR_NAME, thingsUpdaterProps);
 
         // start policy modification forwarder
+        final var policyCacheLoader = PolicyCacheLoader.getNewInstance(
+                updaterConfig.getStreamConfig().getAskWithRetryConfig(), actorSystem.getScheduler(), policiesShard);
         startChildActor(PolicyModificationForwarder.ACTOR_NAME, PolicyModificationForwarder.props(
-                pubSubMediator, thingsUpdaterActor, blockedNamespaces, searchUpdaterPersistence));
+                pubSubMediator, thingsUpdaterActor, blockedNamespaces, searchUpdaterPersistence,
+                searchUpdaterStream::getCachedPolicy,
+                policyId -> policyCacheLoader.asyncLoad(policyId, actorSystem.dispatcher()).thenApply(Entry::get)));
 
         // start background sync actor as cluster singleton
         final var backgroundSyncActorProps = BackgroundSyncActor.props(
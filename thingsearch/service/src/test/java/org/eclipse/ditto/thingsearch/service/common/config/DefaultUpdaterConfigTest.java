@@ -64,6 +64,10 @@ public final class DefaultUpdaterConfigTest {
         softly.assertThat(underTest.isForceUpdateAfterStartEnabled())
                 .as(UpdaterConfigValue.FORCE_UPDATE_AFTER_START_ENABLED.getConfigPath())
                 .isEqualTo(UpdaterConfigValue.FORCE_UPDATE_AFTER_START_ENABLED.getDefaultValue());
+
+        softly.assertThat(underTest.getPolicyReindexThroughput())
+                .as(UpdaterConfigValue.POLICY_REINDEX_THROUGHPUT.getConfigPath())
+                .isEqualTo(UpdaterConfigValue.POLICY_REINDEX_THROUGHPUT.getDefaultValue());
     }
 
     @Test
@@ -91,6 +95,10 @@ public final class DefaultUpdaterConfigTest {
         softly.assertThat(underTest.isForceUpdateAfterStartEnabled())
                 .as(UpdaterConfigValue.FORCE_UPDATE_AFTER_START_ENABLED.getConfigPath())
                 .isEqualTo(false);
+
+        softly.assertThat(underTest.getPolicyReindexThroughput())
+                .as(UpdaterConfigValue.POLICY_REINDEX_THROUGHPUT.getConfigPath())
+                .isEqualTo(250);
     }
 
 }
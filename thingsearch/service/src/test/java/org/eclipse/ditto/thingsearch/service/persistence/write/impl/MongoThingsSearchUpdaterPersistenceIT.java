@@ -0,0 +1,212 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.thingsearch.service.persistence.write.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.pekko.stream.javadsl.Source;
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+import org.bson.Document;
+import org.eclipse.ditto.base.model.json.FieldType;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.policies.api.PolicyTag;
+import org.eclipse.ditto.policies.model.PoliciesModelFactory;
+import org.eclipse.ditto.policies.model.Policy;
+import org.eclipse.ditto.policies.model.PolicyId;
+import org.eclipse.ditto.things.model.Thing;
+import org.eclipse.ditto.things.model.ThingBuilder;
+import org.eclipse.ditto.things.model.ThingId;
+import org.eclipse.ditto.things.model.ThingsModelFactory;
+import org.eclipse.ditto.thingsearch.api.PolicyReferenceTag;
+import org.eclipse.ditto.thingsearch.service.common.config.DefaultSearchPersistenceConfig;
+import org.eclipse.ditto.thingsearch.service.persistence.AbstractThingSearchPersistenceITBase;
+import org.eclipse.ditto.thingsearch.service.persistence.PersistenceConstants;
+import org.eclipse.ditto.thingsearch.service.persistence.write.ThingsSearchUpdaterPersistence;
+import org.eclipse.ditto.thingsearch.service.persistence.write.mapping.EnforcedThingMapper;
+import org.eclipse.ditto.thingsearch.service.persistence.write.mapping.PolicyPermissionsPatch;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.typesafe.config.ConfigFactory;
+
+/**
+ * Tests the policy reindexing of {@link MongoThingsSearchUpdaterPersistence} against MongoDB.
+ */
+public final class MongoThingsSearchUpdaterPersistenceIT extends AbstractThingSearchPersistenceITBase {
+
+    private static final PolicyId POLICY_ID = PolicyId.of("ditto", "policy");
+    private static final String POLICY = """
+            {
+              "policyId": "ditto:policy",
+              "entries": {
+                "OWNER": {
+                  "subjects": { "nginx:admin": { "type": "admin" } },
+                  "resources": { "thing:/": { "grant": ["READ", "WRITE"], "revoke": [] } }
+                },
+                "READER": {
+                  "subjects": { "%s": { "type": "user" } },
+                  "resources": {
+                    "thing:/attributes": { "grant": ["READ"], "revoke": [] },
+                    "thing:/features": { "grant": ["READ"], "revoke": [] }
+                  }
+                },
+                "FEATURE": {
+                  "subjects": { "%s": { "type": "user" } },
+                  "resources": {
+                    "thing:/features/f1": { "grant": ["READ"], "revoke": [] },
+                    "thing:/features/f1/properties/secret": { "grant": [], "revoke": ["READ"] }
+                  }
+                }
+              }
+            }
+            """;
+
+    private ThingsSearchUpdaterPersistence underTest;
+
+    @Before
+    public void setUpPersistence() {
+        underTest = MongoThingsSearchUpdaterPersistence.of(mongoClient.getDefaultDatabase(),
+                DefaultSearchPersistenceConfig.of(ConfigFactory.empty()));
+    }
+
+    @Test
+    public void reindexOnlyThingsIndexedWithOlderPolicyRevisions() {
+        final Policy policy = policy(2L, "nginx:reader", "nginx:feature");
+        write(thing("outdated", true, true), policy, 1L);
+        write(thing("uptodate", true, true), policy, 2L);
+
+        final List<PolicyReferenceTag> policyReferenceTags =
+                waitFor(underTest.getPolicyReferenceTags(Map.of(POLICY_ID, 2L)));
+
+        assertThat(policyReferenceTags).containsExactly(
+                PolicyReferenceTag.of(ThingId.of("ditto", "outdated"), PolicyTag.of(POLICY_ID, 2L)));
+    }
+
+    @Test
+    public void patchedPermissionsEqualReindexedPermissions() {
+        final Policy fromPolicy = policy(1L, "nginx:reader", "nginx:feature");
+        final Policy toPolicy = policy(2L, "nginx:other", "nginx:reader");
+        final List<Thing> things = List.of(
+                thing("full", true, true),
+                thing("attributes", true, false),
+                thing("features", false, true),
+                thing("empty", false, false));
+        things.forEach(thing -> write(thing, fromPolicy, 1L));
+
+        final long patched = runBlockingWithReturn(
+                underTest.patchPolicyPermissions(PolicyPermissionsPatch.of(fromPolicy, toPolicy).orElseThrow()));
+
+        assertThat(patched).isEqualTo(things.size());
+        things.forEach(thing -> assertThat(readPermissions(thing)).isEqualTo(expectedPermissions(thing, toPolicy)));
+        assertThat(waitFor(underTest.getPolicyReferenceTags(Map.of(POLICY_ID, 2L)))).isEmpty();
+    }
+
+    @Test
+    public void patchOnlyThingsIndexedWithThePatchedRevision() {
+        final Policy fromPolicy = policy(2L, "nginx:reader", "nginx:feature");
+        final Policy toPolicy = policy(3L, "nginx:other", "nginx:feature");
+        final Policy outdatedPolicy = policy(1L, "nginx:reader", "nginx:feature");
+        final Thing outdatedThing = thing("outdated", true, true);
+        write(thing("patched", true, true), fromPolicy, 2L);
+        write(outdatedThing, outdatedPolicy, 1L);
+
+        final long patched = runBlockingWithReturn(
+                underTest.patchPolicyPermissions(PolicyPermissionsPatch.of(fromPolicy, toPolicy).orElseThrow()));
+
+        assertThat(patched).isOne();
+        assertThat(readPermissions(outdatedThing)).isEqualTo(expectedPermissions(outdatedThing, outdatedPolicy));
+        assertThat(waitFor(underTest.getPolicyReferenceTags(Map.of(POLICY_ID, 3L)))).containsExactly(
+                PolicyReferenceTag.of(outdatedThing.getEntityId().orElseThrow(), PolicyTag.of(POLICY_ID, 3L)));
+    }
+
+    private void write(final Thing thing, final Policy policy, final long policyRevision) {
+        runBlockingWithReturn(writePersistence.write(thing, policy, policyRevision));
+    }
+
+    private BsonDocument readPermissions(final Thing thing) {
+        final Document document = runBlockingWithReturn(Source.fromPublisher(thingsCollection
+                .find(new Document(PersistenceConstants.FIELD_ID, thing.getEntityId().orElseThrow().toString()))));
+        return permissions(document.toBsonDocument());
+    }
+
+    private static BsonDocument expectedPermissions(final Thing thing, final Policy policy) {
+        final long policyRevision = policy.getRevision().orElseThrow().toLong();
+        return permissions(EnforcedThingMapper.toWriteModel(thing.toJson(FieldType.all()), policy, Set.of(),
+                policyRevision, null, -1).getThingDocument());
+    }
+
+    /**
+     * Select the fields computed from the policy, with subjects in a stable order.
+     */
+    private static BsonDocument permissions(final BsonDocument searchIndexEntry) {
+        final BsonDocument permissions = new BsonDocument();
+        List.of(PersistenceConstants.FIELD_GLOBAL_READ, PersistenceConstants.FIELD_POLICY,
+                        PersistenceConstants.FIELD_F_ARRAY, PersistenceConstants.FIELD_POLICY_REVISION)
+                .forEach(field -> permissions.append(field, sortSubjects(searchIndexEntry.get(field))));
+        return permissions;
+    }
+
+    private static BsonValue sortSubjects(final BsonValue value) {
+        if (value.isDocument()) {
+            final BsonDocument sorted = new BsonDocument();
+            value.asDocument().forEach((key, child) -> sorted.append(key, sortSubjects(child)));
+            return sorted;
+        } else if (value.isArray() && value.asArray().stream().allMatch(BsonValue::isString)) {
+            return new BsonArray(value.asArray()
+                    .stream()
+                    .sorted(Comparator.comparing(subject -> subject.asString().getValue()))
+                    .toList());
+        } else if (value.isArray()) {
+            return new BsonArray(value.asArray()
+                    .stream()
+                    .map(MongoThingsSearchUpdaterPersistenceIT::sortSubjects)
+                    .toList());
+        } else {
+            return value;
+        }
+    }
+
+    private static Policy policy(final long revision, final String reader, final String featureReader) {
+        return PoliciesModelFactory.newPolicy(POLICY.formatted(reader, featureReader))
+                .toBuilder()
+                .setRevision(revision)
+                .build();
+    }
+
+    private static Thing thing(final String name, final boolean withAttributes, final boolean withFeatures) {
+        final ThingBuilder.FromScratch builder = ThingsModelFactory.newThingBuilder()
+                .setId(ThingId.of("ditto", name))
+                .setPolicyId(POLICY_ID)
+                .setRevision(1L);
+        if (withAttributes) {
+            builder.setAttribute(JsonPointer.of("location"),
+                    JsonValue.of("Berlin"));
+        }
+        if (withFeatures) {
+            builder.setFeatureProperty("f1", JsonPointer.of("secret"),
+                            JsonValue.of(42))
+                    .setFeatureProperty("f2", JsonPointer.of("public"),
+                            JsonValue.of(true));
+        }
+        return builder.build();
+    }
+
+}
@@ -168,6 +168,40 @@ abstract class BsonDiffVisitorIT {
                 .isEqualTo(nextThingDoc);
     }
 
+    @Test
+    public void testEnforcerChangeOfSameRevision() {
+        final var collection = client.getCollection("test");
+
+        final Metadata metadata =
+                Metadata.of(ThingId.of("solar.system:pluto"), 23L,
+                        PolicyTag.of(PolicyId.of("solar.system:pluto"), 45L), null, Set.of(), null, null);
+
+        final BsonDocument prevThingDoc =
+                EnforcedThingMapper.toBsonDocument(getThing1(), policy, metadata);
+
+        final BsonDocument nextThingDoc =
+                EnforcedThingMapper.toBsonDocument(getThing1(), policy2, metadata);
+
+        final BsonDiff diff = BsonDiff.minusThingDocsOfSameRevision(nextThingDoc, prevThingDoc, 13);
+
+        assertThat(diff.isDiffSmaller()).describedAs("Policy-only change should be a patch update").isTrue();
+
+        final List<BsonDocument> updateDoc = diff.consumeAndExport();
+
+        assertThat(updateDoc.toString())
+                .describedAs("Policy-only change should not rewrite the thing payload")
+                .doesNotContain("\"t\"");
+
+        run(collection.insertOne(toDocument(prevThingDoc)));
+        run(collection.updateOne(new Document(), updateDoc));
+
+        final BsonDocument incrementalUpdateResult = toBsonDocument(run(collection.find()).get(0));
+
+        assertThat(incrementalUpdateResult)
+                .describedAs("Incremental update result")
+                .isEqualTo(nextThingDoc);
+    }
+
     @Test
     public void testEnforcerAndThingChange() {
         final var collection = client.getCollection("test");
@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.thingsearch.service.persistence.write.mapping;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.bson.BsonDocument;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.eclipse.ditto.policies.model.PoliciesModelFactory;
+import org.eclipse.ditto.policies.model.Policy;
+import org.eclipse.ditto.policies.model.PolicyId;
+import org.junit.Test;
+
+import com.mongodb.client.model.UpdateManyModel;
+import com.mongodb.client.model.WriteModel;
+
+/**
+ * Unit test for {@link PolicyPermissionsPatch}.
+ */
+public final class PolicyPermissionsPatchTest {
+
+    private static final String READ = "[\"READ\"]";
+    private static final String READ_WRITE = "[\"READ\", \"WRITE\"]";
+    private static final String WRITE = "[\"WRITE\"]";
+    private static final String INDEXED_WITH_REVISION_1 =
+            "{\"policyId\": \"ditto:policy\"}, {\"__policyRev\": {\"$numberLong\": \"1\"}}";
+    private static final String POLICY = """
+            {
+              "policyId": "ditto:policy",
+              "entries": {
+                "OWNER": {
+                  "subjects": { "nginx:admin": { "type": "admin" } },
+                  "resources": {
+                    "thing:/": { "grant": ["READ", "WRITE"], "revoke": [] },
+                    "policy:/": { "grant": ["READ", "WRITE"], "revoke": [] }
+                  }
+                },
+                "READER": {
+                  "subjects": { "%s": { "type": "user" } },
+                  "resources": { "thing:/attributes": { "grant": %s, "revoke": [] } }
+                },
+                "FEATURE": {
+                  "subjects": { "%s": { "type": "user" } },
+                  "resources": {
+                    "thing:/features": { "grant": [], "revoke": [] },
+                    "thing:/features/featureX": { "grant": ["READ"], "revoke": [] },
+                    "thing:/features/featureX/properties/location": { "grant": [], "revoke": ["READ"] }
+                  }
+                }
+              }
+            }
+            """;
+
+    @Test
+    public void patchOnlyRevisionIfNoReadPermissionChanged() {
+        final PolicyPermissionsPatch underTest = PolicyPermissionsPatch.of(
+                policy(1L, "nginx:reader", READ, "nginx:feature"),
+                policy(2L, "nginx:reader", READ_WRITE, "nginx:feature")
+        ).orElseThrow();
+
+        assertThat(underTest.getNumberOfChangedResources()).isZero();
+        assertThat(underTest.getPermissionUpdates()).isEmpty();
+        assertThat(toBson(underTest.getFilter()))
+                .isEqualTo(BsonDocument.parse("{\"$and\": [" + INDEXED_WITH_REVISION_1 + "]}"));
+        assertThat(toBson(underTest.getRevisionUpdate()))
+                .isEqualTo(BsonDocument.parse("{\"$set\": {\"__policyRev\": {\"$numberLong\": \"2\"}}}"));
+    }
+
+    @Test
+    public void patchSubjectsOfChangedResourceInEntriesContainingIt() {
+        final PolicyPermissionsPatch underTest = PolicyPermissionsPatch.of(
+                policy(1L, "nginx:reader", READ, "nginx:feature"),
+                policy(2L, "nginx:other", READ, "nginx:feature")
+        ).orElseThrow();
+
+        final List<WriteModel<Document>> updates = underTest.getPermissionUpdates();
+
+        assertThat(underTest.getNumberOfChangedResources()).isOne();
+        assertThat(updates).hasSize(2);
+        assertUpdate(updates.get(0),
+                "{\"$and\": [" + INDEXED_WITH_REVISION_1 + ", {\"p.attributes\": {\"$exists\": true}}]}",
+                "{\"$set\": {\"p.attributes.·g\": [\"nginx:other\"]}, \"$unset\": {\"p.attributes.·r\": \"\"}}");
+        assertThat(toBson(((UpdateManyModel<Document>) updates.get(1)).getUpdatePipeline().get(0)))
+                .isEqualTo(BsonDocument.parse("{\"$set\": {\"gr\": {\"$setUnion\": [" +
+                        "{\"$ifNull\": [\"$p.·g\", []]}, " +
+                        "{\"$ifNull\": [\"$p.attributes.·g\", []]}, " +
+                        "{\"$ifNull\": [\"$p.features.featureX.·g\", []]}, " +
+                        "{\"$ifNull\": [\"$p.features.featureX.properties.location.·g\", []]}" +
+                        "]}}}"));
+    }
+
+    @Test
+    public void patchFeaturePermissionsInMatchingFeatures() {
+        final PolicyPermissionsPatch underTest = PolicyPermissionsPatch.of(
+                policy(1L, "nginx:reader", READ, "nginx:feature"),
+                policy(2L, "nginx:reader", READ, "nginx:other")
+        ).orElseThrow();
+
+        final List<WriteModel<Document>> updates = underTest.getPermissionUpdates();
+
+        assertThat(updates).anySatisfy(update -> assertUpdate(update,
+                "{\"$and\": [" + INDEXED_WITH_REVISION_1 + ", " +
+                        "{\"p.features.featureX\": {\"$exists\": true}}]}",
+                "{\"$set\": {\"f.$[feature].p.id.·g\": [\"nginx:other\"]}, " +
+                        "\"$unset\": {\"f.$[feature].p.id.·r\": \"\"}}"));
+        assertThat(updates).anySatisfy(update -> {
+            assertUpdate(update,
+                    "{\"$and\": [" + INDEXED_WITH_REVISION_1 + ", " +
+                            "{\"p.features.featureX.properties.location\": {\"$exists\": true}}]}",
+                    "{\"$unset\": {\"f.$[feature].p.properties.location.·g\": \"\"}, " +
+                            "\"$set\": {\"f.$[feature].p.properties.location.·r\": [\"nginx:other\"]}}");
+            assertThat(((UpdateManyModel<Document>) update).getOptions().getArrayFilters())
+                    .map(PolicyPermissionsPatchTest::toBson)
+                    .containsExactly(BsonDocument.parse("{\"feature.id\": \"featureX\"}"));
+        });
+        assertThat(updates).noneSatisfy(update -> assertThat(toBson(((UpdateManyModel<Document>) update).getFilter())
+                .getArray("$and"))
+                .anySatisfy(condition -> assertThat(condition.asDocument()).containsKey("p.features")));
+    }
+
+    @Test
+    public void noPatchIfReadPermissionsOfOtherResourcesAreChanged() {
+        assertThat(PolicyPermissionsPatch.of(
+                policy(1L, "nginx:reader", READ, "nginx:feature"),
+                policy(2L, "nginx:reader", WRITE, "nginx:feature")
+        )).isEmpty();
+    }
+
+    @Test
+    public void noPatchIfPolicyImportsOtherPolicies() {
+        final Policy importingPolicy = policy(2L, "nginx:other", READ, "nginx:feature").toBuilder()
+                .setPolicyImports(PoliciesModelFactory.newPolicyImports(
+                        List.of(PoliciesModelFactory.newPolicyImport(PolicyId.of("ditto:imported")))))
+                .build();
+
+        assertThat(PolicyPermissionsPatch.of(policy(1L, "nginx:reader", READ, "nginx:feature"), importingPolicy))
+                .isEmpty();
+    }
+
+    @Test
+    public void noPatchToOlderOrOtherPolicies() {
+        final Policy policy = policy(2L, "nginx:reader", READ, "nginx:feature");
+
+        assertThat(PolicyPermissionsPatch.of(policy, policy(1L, "nginx:other", READ, "nginx:feature"))).isEmpty();
+        assertThat(PolicyPermissionsPatch.of(policy, policy)).isEmpty();
+        assertThat(PolicyPermissionsPatch.of(policy, policy.toBuilder()
+                .setId(PolicyId.of("ditto:other"))
+                .setRevision(3L)
+                .build())).isEmpty();
+    }
+
+    private static Policy policy(final long revision, final String reader, final String readerPermissions,
+            final String featureReader) {
+
+        return PoliciesModelFactory.newPolicy(POLICY.formatted(reader, readerPermissions, featureReader))
+                .toBuilder()
+                .setRevision(revision)
+                .build();
+    }
+
+    private static void assertUpdate(final WriteModel<Document> update, final String filter, final String updates) {
+        assertThat(update).isInstanceOf(UpdateManyModel.class);
+        final UpdateManyModel<Document> updateMany = (UpdateManyModel<Document>) update;
+        assertThat(toBson(updateMany.getFilter())).isEqualTo(BsonDocument.parse(filter));
+        assertThat(toBson(updateMany.getUpdate())).isEqualTo(BsonDocument.parse(updates));
+    }
+
+    private static BsonDocument toBson(final Bson bson) {
+        return bson.toBsonDocument();
+    }
+
+}
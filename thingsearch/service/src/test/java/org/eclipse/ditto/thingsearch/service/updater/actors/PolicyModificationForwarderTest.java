@@ -0,0 +1,199 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.thingsearch.service.updater.actors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+import org.apache.pekko.actor.ActorRef;
+import org.apache.pekko.actor.ActorSystem;
+import org.apache.pekko.stream.javadsl.Source;
+import org.apache.pekko.testkit.javadsl.TestKit;
+import org.eclipse.ditto.internal.utils.ddata.DistributedData;
+import org.eclipse.ditto.internal.utils.namespaces.BlockedNamespaces;
+import org.eclipse.ditto.policies.api.PolicyTag;
+import org.eclipse.ditto.policies.model.PoliciesModelFactory;
+import org.eclipse.ditto.policies.model.Policy;
+import org.eclipse.ditto.policies.model.PolicyId;
+import org.eclipse.ditto.things.model.ThingId;
+import org.eclipse.ditto.thingsearch.api.PolicyReferenceTag;
+import org.eclipse.ditto.thingsearch.service.persistence.write.ThingsSearchUpdaterPersistence;
+import org.eclipse.ditto.thingsearch.service.persistence.write.mapping.PolicyPermissionsPatch;
+import org.junit.After;
+import org.junit.Test;
+import org.mockito.InOrder;
+
+import com.typesafe.config.ConfigFactory;
+
+/**
+ * Tests {@link PolicyModificationForwarder}.
+ */
+public final class PolicyModificationForwarderTest {
+
+    private static final PolicyId POLICY_ID = PolicyId.of("namespace", "aPolicy");
+    private static final String POLICY = """
+            {
+              "policyId": "namespace:aPolicy",
+              "entries": {
+                "READER": {
+                  "subjects": { "%s": { "type": "user" } },
+                  "resources": { "thing:/": { "grant": ["READ"], "revoke": [] } }
+                }
+              }
+            }
+            """;
+
+    private ActorSystem actorSystem;
+    private ThingsSearchUpdaterPersistence persistence;
+
+    @After
+    public void tearDown() {
+        if (Objects.nonNull(actorSystem)) {
+            TestKit.shutdownActorSystem(actorSystem);
+        }
+    }
+
+    @Test
+    public void patchPermissionsBeforeReindexingThingsIndexedWithOtherRevisions() {
+        setUp(0);
+        final Policy indexedPolicy = policy(1L, "nginx:reader");
+        final Policy modifiedPolicy = policy(2L, "nginx:other");
+        final PolicyReferenceTag policyReferenceTag = policyReferenceTag(0);
+        when(persistence.patchPolicyPermissions(any())).thenReturn(Source.single(3L));
+        when(persistence.getPolicyReferenceTags(any())).thenReturn(Source.single(policyReferenceTag));
+
+        new TestKit(actorSystem) {{
+            final ActorRef underTest = createForwarder(getRef(), policies(indexedPolicy), policies(modifiedPolicy));
+            underTest.tell(PolicyTag.of(POLICY_ID, 2L), ActorRef.noSender());
+
+            expectMsg(policyReferenceTag);
+            final InOrder inOrder = inOrder(persistence);
+            inOrder.verify(persistence)
+                    .patchPolicyPermissions(PolicyPermissionsPatch.of(indexedPolicy, modifiedPolicy).orElseThrow());
+            inOrder.verify(persistence).getPolicyReferenceTags(Map.of(POLICY_ID, 2L));
+        }};
+    }
+
+    @Test
+    public void reindexThingsIfPolicyIsNotCached() {
+        setUp(0);
+        final PolicyReferenceTag policyReferenceTag = policyReferenceTag(0);
+        final Function<PolicyId, CompletionStage<Optional<Policy>>> policyLoader = policies(policy(2L, "nginx:other"));
+        when(persistence.getPolicyReferenceTags(any())).thenReturn(Source.single(policyReferenceTag));
+
+        new TestKit(actorSystem) {{
+            final ActorRef underTest = createForwarder(getRef(), policyId -> CompletableFuture.completedFuture(
+                    Optional.empty()), policyLoader);
+            underTest.tell(PolicyTag.of(POLICY_ID, 2L), ActorRef.noSender());
+
+            expectMsg(policyReferenceTag);
+            verify(persistence).getPolicyReferenceTags(Map.of(POLICY_ID, 2L));
+            verify(persistence, never()).patchPolicyPermissions(any());
+        }};
+    }
+
+    @Test
+    public void reindexThingsIfPatchFails() {
+        setUp(0);
+        final PolicyReferenceTag policyReferenceTag = policyReferenceTag(0);
+        when(persistence.patchPolicyPermissions(any()))
+                .thenReturn(Source.failed(new IllegalStateException("expected")));
+        when(persistence.getPolicyReferenceTags(any())).thenReturn(Source.single(policyReferenceTag));
+
+        new TestKit(actorSystem) {{
+            final ActorRef underTest = createForwarder(getRef(), policies(policy(1L, "nginx:reader")),
+                    policies(policy(2L, "nginx:other")));
+            underTest.tell(PolicyTag.of(POLICY_ID, 2L), ActorRef.noSender());
+
+            expectMsg(policyReferenceTag);
+            verify(persistence).getPolicyReferenceTags(Map.of(POLICY_ID, 2L));
+        }};
+    }
+
+    @Test
+    public void throttleReindexingOfThings() {
+        setUp(2);
+        final List<PolicyReferenceTag> policyReferenceTags =
+                IntStream.range(0, 6).mapToObj(PolicyModificationForwarderTest::policyReferenceTag).toList();
+        when(persistence.getPolicyReferenceTags(any())).thenReturn(Source.from(policyReferenceTags));
+
+        new TestKit(actorSystem) {{
+            final ActorRef underTest = createForwarder(getRef(), policyId -> CompletableFuture.completedFuture(
+                    Optional.empty()), policies(policy(2L, "nginx:other")));
+            underTest.tell(PolicyTag.of(POLICY_ID, 2L), ActorRef.noSender());
+
+            expectMsg(policyReferenceTags.get(0));
+            final long start = System.nanoTime();
+            final List<Object> rest = receiveN(policyReferenceTags.size() - 1, Duration.ofSeconds(10L));
+
+            // at 2 things per second, the remaining 5 things are forwarded over at least 2 seconds
+            assertThat(Duration.ofNanos(System.nanoTime() - start)).isGreaterThanOrEqualTo(Duration.ofMillis(1500L));
+            assertThat(rest).containsExactlyElementsOf(policyReferenceTags.subList(1, policyReferenceTags.size()));
+        }};
+    }
+
+    private void setUp(final int policyReindexThroughput) {
+        // the pub-sub mediator does not acknowledge the unsubscription on shutdown
+        actorSystem = ActorSystem.create("PekkoTestSystem", ConfigFactory.parseString(
+                "pekko.coordinated-shutdown.phases.service-unbind.timeout = 100ms\n" +
+                        "ditto.search.updater {\n" +
+                        "  policy-reindex-throughput = " + policyReindexThroughput + "\n" +
+                        "  stream.write-interval = 100ms\n" +
+                        "}").withFallback(ConfigFactory.load("test")));
+        persistence = mock(ThingsSearchUpdaterPersistence.class);
+    }
+
+    private ActorRef createForwarder(final ActorRef thingsUpdater,
+            final Function<PolicyId, CompletionStage<Optional<Policy>>> indexedPolicies,
+            final Function<PolicyId, CompletionStage<Optional<Policy>>> policyLoader) {
+
+        // create blocked namespaces cache without role and with the default replicator name
+        final BlockedNamespaces blockedNamespaces =
+                BlockedNamespaces.create(DistributedData.createConfig(actorSystem, "replicator", ""), actorSystem);
+        final TestKit pubSubMediator = new TestKit(actorSystem);
+
+        return actorSystem.actorOf(PolicyModificationForwarder.props(pubSubMediator.getRef(), thingsUpdater,
+                blockedNamespaces, persistence, indexedPolicies, policyLoader));
+    }
+
+    private static Function<PolicyId, CompletionStage<Optional<Policy>>> policies(final Policy policy) {
+        return policyId -> CompletableFuture.completedFuture(Optional.of(policy));
+    }
+
+    private static Policy policy(final long revision, final String subject) {
+        return PoliciesModelFactory.newPolicy(POLICY.formatted(subject))
+                .toBuilder()
+                .setRevision(revision)
+                .build();
+    }
+
+    private static PolicyReferenceTag policyReferenceTag(final int index) {
+        return PolicyReferenceTag.of(ThingId.of("namespace", "thing" + index), PolicyTag.of(POLICY_ID, 2L));
+    }
+
+}